@@ -13,7 +13,6 @@ import com.adcolony.sdk.AdColonyAppOptions;
 import com.adcolony.sdk.AdColonyInterstitial;
 import com.ironsource.environment.ContextProvider;
 import com.ironsource.mediationsdk.AbstractAdapter;
-import com.ironsource.mediationsdk.AdapterUtils;
 import com.ironsource.mediationsdk.ISBannerSize;
 import com.ironsource.mediationsdk.IntegrationData;
 import com.ironsource.mediationsdk.IronSource;
@@ -35,7 +34,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 
 class AdColonyAdapter extends AbstractAdapter {
@@ -47,16 +45,53 @@ class AdColonyAdapter extends AbstractAdapter {
     private static final String VERSION = BuildConfig.VERSION_NAME;
 
     private static final String GitHash = BuildConfig.GitHash;
-    private final String APP_ID = "appID";
-    private final String ZONE_ID = "zoneId";
+    static final String APP_ID = "appID";
+    static final String ZONE_ID = "zoneId";
     private final String ADM = "adm";
 
-    //init flag
-    private static AtomicBoolean mAlreadyInitiated = new AtomicBoolean(false);
+    // Init state of all adapter instances, the network has no init callbacks so there are no init listeners
+    private static final NetworkInitCoordinator mInitCoordinator = new NetworkInitCoordinator();
+
+    // Init, load and show latencies of all adapter instances
+    private static final LatencyTracker mLatencyTracker = new LatencyTracker();
+
+    // Network banner sizes and pixel dimensions of all adapter instances, resolved once per device configuration
+    private static final BannerLayoutCache<AdColonyAdSize> mBannerLayoutCache = new BannerLayoutCache<>();
+
+    // AdColony banner size and dimensions of every supported mediation banner size
+    private static final BannerLayoutCache.SizeResolver<AdColonyAdSize> mBannerSizeResolver = new BannerLayoutCache.SizeResolver<AdColonyAdSize>() {
+        @Override
+        public BannerLayoutCache.BannerLayout<AdColonyAdSize> resolve(ISBannerSize size, boolean isLargeScreen) {
+            switch (size.getDescription()) {
+                case "BANNER":
+                case "LARGE":
+                    return new BannerLayoutCache.BannerLayout<>(AdColonyAdSize.BANNER, 320, 50);
+                case "RECTANGLE":
+                    return new BannerLayoutCache.BannerLayout<>(AdColonyAdSize.MEDIUM_RECTANGLE, 300, 250);
+                case "SMART":
+                    return isLargeScreen
+                            ? new BannerLayoutCache.BannerLayout<>(AdColonyAdSize.LEADERBOARD, 728, 90)
+                            : new BannerLayoutCache.BannerLayout<>(AdColonyAdSize.BANNER, 320, 50);
+                case "CUSTOM":
+                    return new BannerLayoutCache.BannerLayout<>(new AdColonyAdSize(size.getWidth(), size.getHeight()), size.getWidth(), size.getHeight());
+            }
+
+            return null;
+        }
+    };
+
+    // Last bidding token of the network, refreshed in the background for all the adapter instances
+    private static final BiddingTokenCache mBiddingTokenCache = new BiddingTokenCache(new BiddingTokenCache.TokenFetcher() {
+        @Override
+        public String fetchToken() {
+            return AdColony.collectSignals();
+        }
+    });
 
     // Meta data flags
     private static final String META_DATA_ADCOLONY_COPPA = "AdColony_COPPA";
     private static final String META_DATA_ADCOLONY_CHILD_DIRECTED = "AdColony_App_Child_Directed";
+    private static final String META_DATA_ADCOLONY_BIDDING_TOKEN_TTL = "AdColony_BiddingTokenTTL";
 
     // AdColony options
     private static AdColonyAppOptions mAdColonyOptions = new AdColonyAppOptions();
@@ -83,7 +118,7 @@ class AdColonyAdapter extends AbstractAdapter {
 
     private AdColonyAdapter(String providerName) {
         super(providerName);
-        IronLog.INTERNAL.verbose("");
+        AdapterLog.verbose(IronLog.INTERNAL, "");
 
         // rewarded video
         mZoneIdToRewardedVideoListener = new ConcurrentHashMap<>();
@@ -121,23 +156,37 @@ class AdColonyAdapter extends AbstractAdapter {
     public static String getAdapterSDKVersion() {
         return AdColony.getSDKVersion();
     }
+
+    // Get the init, load and show latency histograms recorded so far for this network
+    public static JSONObject getLatencySnapshot() {
+        return mLatencyTracker.getSnapshot();
+    }
+
+    static LatencyTracker getLatencyTracker() {
+        return mLatencyTracker;
+    }
     //endregion
 
     //region Initializations methods and callbacks
 
     private void initSDK(String userId, String appId) {
-        if (mAlreadyInitiated.compareAndSet(false, true)) {
-            IronLog.ADAPTER_API.verbose("appId = " + appId);
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "appId = {}", appId);
 
             if (!TextUtils.isEmpty(userId)) {
-                IronLog.ADAPTER_API.verbose("setUserID to " + userId);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "setUserID to {}", userId);
                 mAdColonyOptions.setUserID(userId);
             }
 
             mAdColonyOptions.setMediationNetwork(MEDIATION_NAME, VERSION);
 
             //no need for init callbacks because AdColony doesn't have an init failed callback
+            // the init duration is the time the configure call takes
+            mLatencyTracker.onInitStarted();
             AdColony.configure(ContextProvider.getInstance().getCurrentActiveActivity().getApplication(), mAdColonyOptions, appId);
+            mInitCoordinator.setInitSucceeded();
+            mLatencyTracker.onInitFinished();
+            mBiddingTokenCache.refresh();
         }
     }
 
@@ -145,24 +194,25 @@ class AdColonyAdapter extends AbstractAdapter {
     // used for flows when the mediation needs to get a callback for init
     @Override
     public void initRewardedVideoWithCallback(String appKey, String userId, JSONObject config, final RewardedVideoSmashListener listener) {
-        final String appId = config.optString(APP_ID);
-        final String zoneId = config.optString(ZONE_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String appId = adapterConfig.getAppId();
+        final String zoneId = adapterConfig.getZoneId();
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("error - missing param = " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "error - missing param = {}", APP_ID);
             IronSourceError error = ErrorBuilder.buildInitFailedError("Missing params - " + APP_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT);
             listener.onRewardedVideoInitFailed(error);
             return;
         }
 
         if (TextUtils.isEmpty(zoneId)) {
-            IronLog.INTERNAL.error("error - missing param = " + ZONE_ID);
+            AdapterLog.error(IronLog.INTERNAL, "error - missing param = {}", ZONE_ID);
             IronSourceError error = ErrorBuilder.buildInitFailedError("Missing params - " + ZONE_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT);
             listener.onRewardedVideoInitFailed(error);
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("appId = " + appId + " zoneId = " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "appId = {} zoneId = {}", appId, zoneId);
 
         AdColonyRewardedVideoAdListener rewardedVideoListener = new AdColonyRewardedVideoAdListener(AdColonyAdapter.this, listener, zoneId);
         //add to rewarded video listener map
@@ -177,22 +227,23 @@ class AdColonyAdapter extends AbstractAdapter {
     @Override
     public void initAndLoadRewardedVideo(String appKey, String userId, final JSONObject config, final RewardedVideoSmashListener listener) {
 
-        final String appId = config.optString(APP_ID);
-        final String zoneId = config.optString(ZONE_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String appId = adapterConfig.getAppId();
+        final String zoneId = adapterConfig.getZoneId();
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("error - missing param = " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "error - missing param = {}", APP_ID);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
         if (TextUtils.isEmpty(zoneId)) {
-            IronLog.INTERNAL.error("error - missing param = " + ZONE_ID);
+            AdapterLog.error(IronLog.INTERNAL, "error - missing param = {}", ZONE_ID);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("appId = " + appId + " zoneId = " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "appId = {} zoneId = {}", appId, zoneId);
 
         AdColonyRewardedVideoAdListener rewardedVideoListener = new AdColonyRewardedVideoAdListener(AdColonyAdapter.this, listener, zoneId);
         //add to rewarded video listener map
@@ -207,50 +258,53 @@ class AdColonyAdapter extends AbstractAdapter {
 
     @Override
     public void loadRewardedVideoForBidding(JSONObject config, final RewardedVideoSmashListener listener, final String serverData) {
-        final String zoneId = config.optString(ZONE_ID);
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
         AdColonyAdOptions adOptions = new AdColonyAdOptions().setOption(ADM, serverData);
         AdColonyRewardedVideoAdListener rewardedVideoListener = mZoneIdToRewardedVideoListener.get(zoneId);
+        mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, zoneId);
         AdColony.requestInterstitial(zoneId, rewardedVideoListener, adOptions);
     }
 
     @Override
     public void fetchRewardedVideoForAutomaticLoad(JSONObject config, RewardedVideoSmashListener listener) {
-        final String zoneId = config.optString(ZONE_ID);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
         loadRewardedVideoInternal(zoneId);
     }
 
     private void loadRewardedVideoInternal(final String zoneId) {
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
         AdColonyRewardedVideoAdListener rewardedVideoListener = mZoneIdToRewardedVideoListener.get(zoneId);
+        mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, zoneId);
         AdColony.requestInterstitial(zoneId, rewardedVideoListener);
     }
 
     @Override
     public void showRewardedVideo(JSONObject config, RewardedVideoSmashListener listener) {
-        final String zoneId = config.optString(ZONE_ID);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
         AdColonyInterstitial rewardedVideoAd = mZoneIdToRewardedVideoAdObject.get(zoneId);
 
         //change rewarded video availability to false
         listener.onRewardedVideoAvailabilityChanged(false);
 
         if (isRewardedVideoAvailable(config)) {
-            IronLog.ADAPTER_API.verbose("show zoneId =" + zoneId);
+            AdapterLog.verbose(IronLog.ADAPTER_API, "show zoneId ={}", zoneId);
             AdColonyRewardedVideoAdListener rewardedVideoListener = mZoneIdToRewardedVideoListener.get(zoneId);
             AdColony.setRewardListener(rewardedVideoListener);
+            mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, zoneId);
             rewardedVideoAd.show();
         } else {
-            IronLog.INTERNAL.error("ad is expired");
+            AdapterLog.error(IronLog.INTERNAL, "ad is expired");
             listener.onRewardedVideoAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
         }
     }
 
     @Override
     public boolean isRewardedVideoAvailable(JSONObject config) {
-        final String zoneId = config.optString(ZONE_ID);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
         AdColonyInterstitial rewardedVideoAd = mZoneIdToRewardedVideoAdObject.get(zoneId);
         boolean isRewardedVideoAvailable = (rewardedVideoAd != null) && !rewardedVideoAd.isExpired();
-        IronLog.ADAPTER_API.verbose("isRewardedVideoAvailable=" + isRewardedVideoAvailable);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "isRewardedVideoAvailable={}", isRewardedVideoAvailable);
         return isRewardedVideoAvailable;
     }
 
@@ -263,35 +317,36 @@ class AdColonyAdapter extends AbstractAdapter {
     //region Interstitial API
     @Override
     public void initInterstitialForBidding(String appKey, String userId, JSONObject config, InterstitialSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         initInterstitialInternal(appKey, userId, config, listener);
     }
 
     @Override
     public void initInterstitial(String appKey, final String userId, final JSONObject config, final InterstitialSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         initInterstitialInternal(appKey, userId, config, listener);
     }
 
     private void initInterstitialInternal(String appKey, final String userId, final JSONObject config, final InterstitialSmashListener listener) {
-        final String appId = config.optString(APP_ID);
-        final String zoneId = config.optString(ZONE_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String appId = adapterConfig.getAppId();
+        final String zoneId = adapterConfig.getZoneId();
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("error - missing param = " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "error - missing param = {}", APP_ID);
             IronSourceError error = ErrorBuilder.buildInitFailedError("Missing params - " + APP_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT);
             listener.onInterstitialInitFailed(error);
             return;
         }
 
         if (TextUtils.isEmpty(zoneId)) {
-            IronLog.INTERNAL.error("error - missing param = " + ZONE_ID);
+            AdapterLog.error(IronLog.INTERNAL, "error - missing param = {}", ZONE_ID);
             IronSourceError error = ErrorBuilder.buildInitFailedError("Missing params - " + ZONE_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT);
             listener.onInterstitialInitFailed(error);
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("appId = " + appId + " zoneId = " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "appId = {} zoneId = {}", appId, zoneId);
 
         AdColonyInterstitialAdListener interstitialListener = new AdColonyInterstitialAdListener(AdColonyAdapter.this, listener, zoneId);
         mZoneIdToInterstitialListener.put(zoneId, interstitialListener);
@@ -306,31 +361,34 @@ class AdColonyAdapter extends AbstractAdapter {
 
     @Override
     public void loadInterstitialForBidding(final JSONObject config, final InterstitialSmashListener listener, final String serverData) {
-        final String zoneId = config.optString(ZONE_ID);
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
         AdColonyAdOptions adOptions = new AdColonyAdOptions().setOption(ADM, serverData);
         AdColonyInterstitialAdListener interstitialListener = mZoneIdToInterstitialListener.get(zoneId);
+        mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, zoneId);
         AdColony.requestInterstitial(zoneId, interstitialListener, adOptions);
     }
 
     @Override
     public void loadInterstitial(JSONObject config, InterstitialSmashListener listener) {
-        final String zoneId = config.optString(ZONE_ID);
-        IronLog.ADAPTER_API.verbose("zoneid " + zoneId);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneid {}", zoneId);
         AdColonyInterstitialAdListener interstitialListener = mZoneIdToInterstitialListener.get(zoneId);
+        mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, zoneId);
         AdColony.requestInterstitial(zoneId, interstitialListener);
     }
 
     @Override
     public void showInterstitial(JSONObject config, InterstitialSmashListener listener) {
-        final String zoneId = config.optString(ZONE_ID);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
         AdColonyInterstitial interstitialAd = mZoneIdToInterstitialAdObject.get(zoneId);
 
         if (isInterstitialReady(config)) {
-            IronLog.ADAPTER_API.verbose("show zoneId =" + zoneId);
+            AdapterLog.verbose(IronLog.ADAPTER_API, "show zoneId ={}", zoneId);
+            mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, zoneId);
             interstitialAd.show();
         } else {
-            IronLog.INTERNAL.error("ad is expired");
+            AdapterLog.error(IronLog.INTERNAL, "ad is expired");
             listener.onInterstitialAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.INTERSTITIAL_AD_UNIT));
         }
 
@@ -338,10 +396,10 @@ class AdColonyAdapter extends AbstractAdapter {
 
     @Override
     public boolean isInterstitialReady(JSONObject config) {
-        final String zoneId = config.optString(ZONE_ID);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
         AdColonyInterstitial interstitialAd = mZoneIdToInterstitialAdObject.get(zoneId);
         boolean isInterstitialAvailable = (interstitialAd != null) && !interstitialAd.isExpired();
-        IronLog.ADAPTER_API.verbose("isInterstitialAvailable=" + isInterstitialAvailable);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "isInterstitialAvailable={}", isInterstitialAvailable);
         return isInterstitialAvailable;
     }
 
@@ -359,23 +417,24 @@ class AdColonyAdapter extends AbstractAdapter {
 
     @Override
     public void initBannerForBidding(String appKey, String userId, JSONObject config, BannerSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         initBannersInternal(userId, config, listener);
     }
 
     private void initBannersInternal(final String userId, final JSONObject config, final BannerSmashListener listener) {
-        final String appId = config.optString(APP_ID);
-        final String zoneId = config.optString(ZONE_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String appId = adapterConfig.getAppId();
+        final String zoneId = adapterConfig.getZoneId();
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("error - missing param = " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "error - missing param = {}", APP_ID);
             IronSourceError error = ErrorBuilder.buildInitFailedError("Missing params - " + APP_ID, IronSourceConstants.BANNER_AD_UNIT);
             listener.onBannerInitFailed(error);
             return;
         }
 
         if (TextUtils.isEmpty(zoneId)) {
-            IronLog.INTERNAL.error("error - missing param = " + ZONE_ID);
+            AdapterLog.error(IronLog.INTERNAL, "error - missing param = {}", ZONE_ID);
             IronSourceError error = ErrorBuilder.buildInitFailedError("Missing params - " + ZONE_ID, IronSourceConstants.BANNER_AD_UNIT);
             return;
         }
@@ -389,21 +448,21 @@ class AdColonyAdapter extends AbstractAdapter {
 
     @Override
     public void loadBannerForBidding(IronSourceBannerLayout banner, JSONObject config, BannerSmashListener listener, String serverData) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         AdColonyAdOptions adOptions = new AdColonyAdOptions().setOption(ADM, serverData);
         loadBannerInternal(banner, config, listener, adOptions);
     }
 
     @Override
     public void loadBanner(final IronSourceBannerLayout banner, final JSONObject config, final BannerSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         loadBannerInternal(banner, config, listener, null);
     }
 
     private void loadBannerInternal(IronSourceBannerLayout banner, JSONObject config, BannerSmashListener listener, AdColonyAdOptions adOptions) {
         // validate banner layout
         if (banner == null) {
-            IronLog.ADAPTER_API.error("banner layout is null");
+            AdapterLog.error(IronLog.ADAPTER_API, "banner layout is null");
             listener.onBannerAdLoadFailed(ErrorBuilder.buildNoConfigurationAvailableError("banner layout is null"));
             return;
         }
@@ -411,12 +470,12 @@ class AdColonyAdapter extends AbstractAdapter {
         // verify size
         ISBannerSize ironSourceBannerSize = banner.getSize();
         if (!isBannerSizeSupported(ironSourceBannerSize)) {
-            IronLog.INTERNAL.error("loadBanner - size not supported, size = " + ironSourceBannerSize.getDescription());
+            AdapterLog.error(IronLog.INTERNAL, "loadBanner - size not supported, size = {}", ironSourceBannerSize.getDescription());
             listener.onBannerAdLoadFailed(ErrorBuilder.unsupportedBannerSize(getProviderName()));
             return;
         }
 
-        final String zoneId = config.optString(ZONE_ID);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
 
         // add banner layout
         mZoneIdToBannerLayout.put(zoneId, banner);
@@ -429,20 +488,21 @@ class AdColonyAdapter extends AbstractAdapter {
         AdColonyBannerAdListener bannerListener = new AdColonyBannerAdListener(AdColonyAdapter.this, listener, zoneId, layoutParams);
 
         // request banner from AdColony
-        IronLog.ADAPTER_API.verbose("zone id " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zone id {}", zoneId);
+        mLatencyTracker.onLoadStarted(IronSourceConstants.BANNER_AD_UNIT, zoneId);
         AdColony.requestAdView(zoneId, bannerListener, bannerSize, adOptions);
     }
 
     @Override
     public void reloadBanner(IronSourceBannerLayout banner, JSONObject config, BannerSmashListener listener) {
-        IronLog.INTERNAL.warning("Unsupported method");
+        AdapterLog.warning(IronLog.INTERNAL, "Unsupported method");
     }
 
     // destroy banner ad and clear banner ad map
     @Override
     public void destroyBanner(final JSONObject config) {
-        final String zoneId = config.optString(ZONE_ID);
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
         // remove from layout map
         mZoneIdToBannerLayout.remove(zoneId);
@@ -470,7 +530,7 @@ class AdColonyAdapter extends AbstractAdapter {
     // region memory handling
     @Override
     public void releaseMemory(IronSource.AD_UNIT adUnit, JSONObject config) {
-        IronLog.INTERNAL.verbose("adUnit = " + adUnit);
+        AdapterLog.verbose(IronLog.INTERNAL, "adUnit = {}", adUnit);
         if (adUnit == IronSource.AD_UNIT.BANNER) {
             // release banner ads
             destroyBanner(config);
@@ -483,10 +543,13 @@ class AdColonyAdapter extends AbstractAdapter {
         mAdColonyOptions.setPrivacyConsentString(AdColonyAppOptions.GDPR, consent ? "1" : "0");
         mAdColonyOptions.setPrivacyFrameworkRequired(AdColonyAppOptions.GDPR, true);
 
-        if (mAlreadyInitiated.get()) {
-            IronLog.ADAPTER_API.verbose("consent = " + consent);
+        if (mInitCoordinator.isInitStarted()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "consent = {}", consent);
             AdColony.setAppOptions(mAdColonyOptions);
         }
+
+        // the token carries the privacy settings, don't serve one built with the previous value
+        mBiddingTokenCache.invalidate();
     }
 
     @Override
@@ -497,10 +560,12 @@ class AdColonyAdapter extends AbstractAdapter {
 
         // this is a list of 1 value.
         String value = values.get(0);
-        IronLog.ADAPTER_API.verbose("key = " + key + ", value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, value = {}", key, value);
 
         if (MetaDataUtils.isValidCCPAMetaData(key, value)) {
             setCCPAValue(value);
+        } else if (key.equalsIgnoreCase(META_DATA_ADCOLONY_BIDDING_TOKEN_TTL)) {
+            mBiddingTokenCache.setTtlFromMetaData(value);
         } else {
             String formattedValue = MetaDataUtils.formatValueForType(value, MetaData.MetaDataValueTypes.META_DATA_VALUE_BOOLEAN);
 
@@ -526,47 +591,52 @@ class AdColonyAdapter extends AbstractAdapter {
         //When "do_not_sell" is false --> report Consent= true
         boolean isCCPAOptedIn = !MetaDataUtils.getMetaDataBooleanValue(value);
         String consentString = isCCPAOptedIn ? "1" : "0";
-        IronLog.ADAPTER_API.verbose("value = " + value + " consentString = " + consentString);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {} consentString = {}", value, consentString);
         mAdColonyOptions.setPrivacyFrameworkRequired(AdColonyAppOptions.CCPA, true)
                 .setPrivacyConsentString(AdColonyAppOptions.CCPA, consentString);
 
-        if (mAlreadyInitiated.get()) {
-            IronLog.ADAPTER_API.verbose("consent = " + consentString);
+        if (mInitCoordinator.isInitStarted()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "consent = {}", consentString);
             AdColony.setAppOptions(mAdColonyOptions);
         }
+
+        mBiddingTokenCache.invalidate();
     }
 
     private void setCOPPAValue(final String value) {
-        IronLog.ADAPTER_API.verbose("value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", value);
         boolean isCOPPAOptedIn = MetaDataUtils.getMetaDataBooleanValue(value);
         mAdColonyOptions.setPrivacyFrameworkRequired(AdColonyAppOptions.COPPA, isCOPPAOptedIn);
 
-        if (mAlreadyInitiated.get()) {
-            IronLog.ADAPTER_API.verbose("coppa = " + isCOPPAOptedIn);
+        if (mInitCoordinator.isInitStarted()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "coppa = {}", isCOPPAOptedIn);
             AdColony.setAppOptions(mAdColonyOptions);
         }
+
+        mBiddingTokenCache.invalidate();
     }
 
     private void setChildDirectedValue(final String value) {
-        IronLog.ADAPTER_API.verbose("value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", value);
         boolean isChildDirected = MetaDataUtils.getMetaDataBooleanValue(value);
         mAdColonyOptions.setIsChildDirectedApp(isChildDirected);
 
-        if (mAlreadyInitiated.get()) {
-            IronLog.ADAPTER_API.verbose("isChildDirected = " + isChildDirected);
+        if (mInitCoordinator.isInitStarted()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "isChildDirected = {}", isChildDirected);
             AdColony.setAppOptions(mAdColonyOptions);
         }
+
+        mBiddingTokenCache.invalidate();
     }
 
     // region Helpers
 
     private Map<String, Object> getBiddingData() {
-        String bidderToken = AdColony.collectSignals();
-        String returnedToken = (!TextUtils.isEmpty(bidderToken)) ? bidderToken : "";
+        String returnedToken = mBiddingTokenCache.getToken();
         String sdkVersion = getCoreSDKVersion();
 
-        IronLog.ADAPTER_API.verbose("token = " + returnedToken);
-        IronLog.ADAPTER_API.verbose("sdkVersion = " + sdkVersion);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "token = {}", returnedToken);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "sdkVersion = {}", sdkVersion);
 
         Map<String, Object> ret = new HashMap<>();
         ret.put("sdkVersion", sdkVersion);
@@ -589,50 +659,13 @@ class AdColonyAdapter extends AbstractAdapter {
     }
 
     private AdColonyAdSize getBannerSize(ISBannerSize size) {
-        switch (size.getDescription()) {
-            case "BANNER":
-            case "LARGE":
-                return AdColonyAdSize.BANNER;
-            case "RECTANGLE":
-                return AdColonyAdSize.MEDIUM_RECTANGLE;
-            case "SMART":
-                return AdapterUtils.isLargeScreen(ContextProvider.getInstance().getCurrentActiveActivity()) ? AdColonyAdSize.LEADERBOARD : AdColonyAdSize.BANNER;
-            case "CUSTOM":
-                return new AdColonyAdSize(size.getWidth(), size.getHeight());
-        }
-
-        return null;
+        BannerLayoutCache.BannerLayout<AdColonyAdSize> layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver);
+        return layout != null ? layout.getNetworkSize() : null;
     }
 
     private FrameLayout.LayoutParams getBannerLayoutParams(ISBannerSize size) {
-        FrameLayout.LayoutParams layoutParams = new FrameLayout.LayoutParams(0, 0);
-
-        Activity activity = ContextProvider.getInstance().getCurrentActiveActivity();
-
-        switch (size.getDescription()) {
-            case "BANNER":
-            case "LARGE":
-                layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                break;
-            case "RECTANGLE":
-                layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 300), AdapterUtils.dpToPixels(activity, 250));
-                break;
-            case "SMART":
-                if (AdapterUtils.isLargeScreen(activity)) {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 728), AdapterUtils.dpToPixels(activity, 90));
-                } else {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                }
-                break;
-            case "CUSTOM":
-                layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, size.getWidth()), AdapterUtils.dpToPixels(activity, size.getHeight()));
-                break;
-        }
-
-        // set gravity
-        layoutParams.gravity = Gravity.CENTER;
-
-        return layoutParams;
+        BannerLayoutCache.BannerLayout<AdColonyAdSize> layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver);
+        return layout != null ? layout.createLayoutParams() : new FrameLayout.LayoutParams(0, 0, Gravity.CENTER);
     }
 
     //endregion
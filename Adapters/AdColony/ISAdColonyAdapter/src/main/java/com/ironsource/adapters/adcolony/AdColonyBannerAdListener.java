@@ -8,6 +8,7 @@ import com.adcolony.sdk.AdColonyZone;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 
@@ -28,15 +29,16 @@ final class AdColonyBannerAdListener extends AdColonyAdViewListener {
 
     @Override
     public void onRequestFilled(AdColonyAdView bannerView) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AdColonyAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.BANNER_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -46,10 +48,11 @@ final class AdColonyBannerAdListener extends AdColonyAdViewListener {
 
     @Override
     public void onRequestNotFilled(AdColonyZone zone) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AdColonyAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.BANNER_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -58,10 +61,10 @@ final class AdColonyBannerAdListener extends AdColonyAdViewListener {
 
     @Override
     public void onShow(AdColonyAdView ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -71,15 +74,15 @@ final class AdColonyBannerAdListener extends AdColonyAdViewListener {
     // This callback is not called when showing all banner types and therefore cannot be used for the show callback
     @Override
     public void onOpened(AdColonyAdView bannerView) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
     }
 
     @Override
     public void onClicked(AdColonyAdView bannerView) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -88,10 +91,10 @@ final class AdColonyBannerAdListener extends AdColonyAdViewListener {
 
     @Override
     public void onLeftApplication(AdColonyAdView bannerView) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
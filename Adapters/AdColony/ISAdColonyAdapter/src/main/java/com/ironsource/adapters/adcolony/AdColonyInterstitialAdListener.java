@@ -6,6 +6,7 @@ import com.adcolony.sdk.AdColonyZone;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 
@@ -24,15 +25,16 @@ final class AdColonyInterstitialAdListener extends AdColonyInterstitialListener
 
     @Override
     public void onRequestFilled(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AdColonyAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -41,10 +43,11 @@ final class AdColonyInterstitialAdListener extends AdColonyInterstitialListener
     }
 
     public void onRequestNotFilled(AdColonyZone zone) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AdColonyAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -52,10 +55,11 @@ final class AdColonyInterstitialAdListener extends AdColonyInterstitialListener
     }
 
     public void onOpened(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AdColonyAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -64,10 +68,10 @@ final class AdColonyInterstitialAdListener extends AdColonyInterstitialListener
     }
 
     public void onClicked(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -76,14 +80,14 @@ final class AdColonyInterstitialAdListener extends AdColonyInterstitialListener
 
     @Override
     public void onExpiring(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
     }
 
     public void onClosed(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
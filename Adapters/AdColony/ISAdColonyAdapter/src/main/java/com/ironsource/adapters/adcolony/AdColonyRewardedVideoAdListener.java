@@ -8,6 +8,7 @@ import com.adcolony.sdk.AdColonyZone;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference; 
 
@@ -28,15 +29,16 @@ final class AdColonyRewardedVideoAdListener extends AdColonyInterstitialListener
 
     @Override
     public void onRequestFilled(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AdColonyAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -45,10 +47,11 @@ final class AdColonyRewardedVideoAdListener extends AdColonyInterstitialListener
     }
 
     public void onRequestNotFilled(AdColonyZone zone) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AdColonyAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -56,10 +59,11 @@ final class AdColonyRewardedVideoAdListener extends AdColonyInterstitialListener
     }
 
     public void onOpened(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AdColonyAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -68,10 +72,10 @@ final class AdColonyRewardedVideoAdListener extends AdColonyInterstitialListener
     }
 
     public void onClicked(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -79,10 +83,10 @@ final class AdColonyRewardedVideoAdListener extends AdColonyInterstitialListener
     }
 
     public void onReward(AdColonyReward adColonyReward) {
-        IronLog.ADAPTER_CALLBACK.verbose("adColonyReward.success() = " + adColonyReward.success());
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adColonyReward.success() = {}", adColonyReward.success());
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -93,10 +97,10 @@ final class AdColonyRewardedVideoAdListener extends AdColonyInterstitialListener
 
     @Override
     public void onExpiring(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -104,10 +108,10 @@ final class AdColonyRewardedVideoAdListener extends AdColonyInterstitialListener
     }
 
     public void onClosed(AdColonyInterstitial adColonyInterstitial) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -0,0 +1,64 @@
+package com.ironsource.adapters.adcolony;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency distribution kept in fixed millisecond buckets.
+ * All the counters are allocated up front, so recording a value never allocates and never blocks.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+final class LatencyHistogram {
+
+    // Upper bound (inclusive) of each bucket in milliseconds, the last bucket holds everything above
+    static final long[] BUCKET_BOUNDS_MILLIS = {50, 100, 200, 300, 500, 750, 1000, 1500, 2000, 3000, 5000, 7500, 10000, 15000, 20000, 30000, 60000};
+
+    private final AtomicLongArray mBucketCounts = new AtomicLongArray(BUCKET_BOUNDS_MILLIS.length + 1);
+    private final AtomicLong mCount = new AtomicLong();
+    private final AtomicLong mTotalMillis = new AtomicLong();
+    private final AtomicLong mMaxMillis = new AtomicLong();
+
+    void record(long durationMillis) {
+        if (durationMillis < 0) {
+            durationMillis = 0;
+        }
+
+        mBucketCounts.incrementAndGet(bucketIndex(durationMillis));
+        mCount.incrementAndGet();
+        mTotalMillis.addAndGet(durationMillis);
+
+        long max = mMaxMillis.get();
+        while (durationMillis > max && !mMaxMillis.compareAndSet(max, durationMillis)) {
+            max = mMaxMillis.get();
+        }
+    }
+
+    // The counters are read one by one, a value recorded while the snapshot is taken may be missing from some of them
+    JSONObject getSnapshot() throws JSONException {
+        JSONArray bucketCounts = new JSONArray();
+        for (int i = 0; i < mBucketCounts.length(); i++) {
+            bucketCounts.put(mBucketCounts.get(i));
+        }
+
+        JSONObject snapshot = new JSONObject();
+        snapshot.put("count", mCount.get());
+        snapshot.put("totalMillis", mTotalMillis.get());
+        snapshot.put("maxMillis", mMaxMillis.get());
+        snapshot.put("bucketCounts", bucketCounts);
+        return snapshot;
+    }
+
+    private static int bucketIndex(long durationMillis) {
+        int index = 0;
+        while (index < BUCKET_BOUNDS_MILLIS.length && durationMillis > BUCKET_BOUNDS_MILLIS[index]) {
+            index++;
+        }
+        return index;
+    }
+}
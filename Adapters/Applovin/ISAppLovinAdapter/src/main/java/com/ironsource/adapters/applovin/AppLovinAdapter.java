@@ -31,17 +31,15 @@ import com.ironsource.mediationsdk.metadata.MetaDataUtils;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
-import com.ironsource.mediationsdk.AdapterUtils;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
 import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import org.json.JSONObject;
 
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 
 class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackListener {
@@ -51,9 +49,10 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
     private static final String GitHash = BuildConfig.GitHash;
 
     // AppLovin keys
-    private static final String ZONE_ID = "zoneId";
-    private static final String DEFAULT_ZONE_ID = "defaultZoneId";
-    private static final String SDK_KEY = "sdkKey";
+    static final String ZONE_ID = "zoneId";
+    static final String DEFAULT_ZONE_ID = "defaultZoneId";
+    static final String SDK_KEY = "sdkKey";
+    static final String RELOAD_ON_SHOW = "reloadOnShow"; // optional, loads the next ad of a zone as soon as its current ad is displayed
 
     // Meta data flags
     private static final String META_DATA_APPLOVIN_AGE_RESTRICTION_KEY = "AppLovin_AgeRestrictedUser";
@@ -61,36 +60,56 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
     private static Boolean mCCPACollectingUserData = null;
     private static Boolean mAgeRestrictionData = null;
 
-    // Rewarded video collections
-    protected final ConcurrentHashMap<String, AppLovinIncentivizedInterstitial> mZoneIdToRewardedVideoAd;
-    protected final ConcurrentHashMap<String, RewardedVideoSmashListener> mZoneIdToRewardedVideoSmashListener;
-    protected final ConcurrentHashMap<String, AppLovinRewardedVideoListener> mZoneIdToAppLovinRewardedVideoListener;
-    protected final CopyOnWriteArraySet<String> mRewardedVideoZoneIdsForInitCallbacks;
+    // Rewarded video slots - listeners and ads per zone id
+    protected final ConcurrentHashMap<String, PlacementSlot<RewardedVideoSmashListener, AppLovinIncentivizedInterstitial, AppLovinRewardedVideoListener>> mRewardedVideoSlots;
+    private final CopyOnWriteArraySet<String> mRewardedVideoZoneIdsToReloadOnShow; // set by show, cleared once the ad is displayed
 
-    // Interstitial maps
-    protected final ConcurrentHashMap<String, AppLovinAd> mZoneIdToInterstitialAd;
-    protected final ConcurrentHashMap<String, InterstitialSmashListener> mZoneIdToInterstitialSmashListener;
-    protected final ConcurrentHashMap<String, AppLovinInterstitialListener> mZoneIdToAppLovinInterstitialListener;
-    protected final ConcurrentHashMap<String, Boolean> mZoneIdToInterstitialAdReadyStatus;
+    // Interstitial slots - listeners, ads and ready status per zone id
+    protected final ConcurrentHashMap<String, PlacementSlot<InterstitialSmashListener, AppLovinAd, AppLovinInterstitialListener>> mInterstitialSlots;
+    private final CopyOnWriteArraySet<String> mInterstitialZoneIdsToReloadOnShow; // set by show, cleared once the ad is displayed
 
-    // Banner maps
-    protected final ConcurrentHashMap<String, AppLovinAdView> mZoneIdToBannerAd;
-    protected final ConcurrentHashMap<String, BannerSmashListener> mZoneIdToBannerSmashListener;
-    protected final ConcurrentHashMap<String, AppLovinBannerListener> mZoneIdToAppLovinBannerListener;
-    protected final ConcurrentHashMap<String, FrameLayout.LayoutParams> mZoneIdToBannerLayout;
-    protected final ConcurrentHashMap<String, AppLovinAdSize> mZoneIdToBannerSize;
-
-    // init state possible values
-    private enum InitState {
-        INIT_STATE_NONE,
-        INIT_STATE_IN_PROGRESS,
-        INIT_STATE_SUCCESS
-    }
+    // Banner slots - listeners and ad views per zone id
+    protected final ConcurrentHashMap<String, PlacementSlot<BannerSmashListener, AppLovinAdView, AppLovinBannerListener>> mBannerSlots;
 
     // Handle init callback for all adapter instances
-    private static final AtomicBoolean mWasInitCalled = new AtomicBoolean(false);
-    private static InitState mInitState = InitState.INIT_STATE_NONE;
-    private static final HashSet<INetworkInitCallbackListener> initCallbackListeners = new HashSet<>();
+    private static final NetworkInitCoordinator mInitCoordinator = new NetworkInitCoordinator();
+
+    // Init, load and show latencies of all adapter instances
+    private static final LatencyTracker mLatencyTracker = new LatencyTracker();
+
+    // Network banner sizes and pixel dimensions of all adapter instances, resolved once per device configuration
+    private static final BannerLayoutCache<AppLovinAdSize> mBannerLayoutCache = new BannerLayoutCache<>();
+
+    // AppLovin banner size and dimensions of every supported mediation banner size
+    private static final BannerLayoutCache.SizeResolver<AppLovinAdSize> mBannerSizeResolver = new BannerLayoutCache.SizeResolver<AppLovinAdSize>() {
+        @Override
+        public BannerLayoutCache.BannerLayout<AppLovinAdSize> resolve(ISBannerSize size, boolean isLargeScreen) {
+            switch (size.getDescription()) {
+                case "BANNER":
+                case "LARGE":
+                    return new BannerLayoutCache.BannerLayout<>(AppLovinAdSize.BANNER, 320, 50);
+                case "RECTANGLE":
+                    return new BannerLayoutCache.BannerLayout<>(AppLovinAdSize.MREC, 300, 250);
+                case "SMART":
+                    return isLargeScreen
+                            ? new BannerLayoutCache.BannerLayout<>(AppLovinAdSize.LEADER, 728, 90)
+                            : new BannerLayoutCache.BannerLayout<>(AppLovinAdSize.BANNER, 320, 50);
+                case "CUSTOM":
+                    if (size.getHeight() >= 40 && size.getHeight() <= 60) {
+                        return new BannerLayoutCache.BannerLayout<>(AppLovinAdSize.BANNER, 320, 50);
+                    }
+                    break;
+            }
+
+            return null;
+        }
+    };
+
+    // Frees the ads of all adapter instances when the system runs low on memory
+    private static final MemoryTrimPolicy mMemoryTrimPolicy = new MemoryTrimPolicy();
+
+    // Main thread work of all adapter instances, coalesced into as few main thread messages as possible
+    private static final MainThreadDispatcher mMainThreadDispatcher = new MainThreadDispatcher();
 
     // AppLovin sdk instance
     private static AppLovinSdk mAppLovinSdk;
@@ -103,29 +122,24 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     private AppLovinAdapter(String providerName) {
         super(providerName);
-        IronLog.INTERNAL.verbose("");
+        AdapterLog.verbose(IronLog.INTERNAL, "");
 
         // Rewarded video
-        mZoneIdToAppLovinRewardedVideoListener = new ConcurrentHashMap<>();
-        mZoneIdToRewardedVideoAd = new ConcurrentHashMap<>();
-        mZoneIdToRewardedVideoSmashListener = new ConcurrentHashMap<>();
-        mRewardedVideoZoneIdsForInitCallbacks = new CopyOnWriteArraySet<>();
+        mRewardedVideoSlots = new ConcurrentHashMap<>();
+        mRewardedVideoZoneIdsToReloadOnShow = new CopyOnWriteArraySet<>();
 
         // Interstitial
-        mZoneIdToAppLovinInterstitialListener = new ConcurrentHashMap<>();
-        mZoneIdToInterstitialAd = new ConcurrentHashMap<>();
-        mZoneIdToInterstitialSmashListener = new ConcurrentHashMap<>();
-        mZoneIdToInterstitialAdReadyStatus = new ConcurrentHashMap<>();
+        mInterstitialSlots = new ConcurrentHashMap<>();
+        mInterstitialZoneIdsToReloadOnShow = new CopyOnWriteArraySet<>();
 
         // Banner
-        mZoneIdToAppLovinBannerListener = new ConcurrentHashMap<>();
-        mZoneIdToBannerSmashListener = new ConcurrentHashMap<>();
-        mZoneIdToBannerLayout = new ConcurrentHashMap<>();
-        mZoneIdToBannerAd = new ConcurrentHashMap<>();
-        mZoneIdToBannerSize = new ConcurrentHashMap<>();
+        mBannerSlots = new ConcurrentHashMap<>();
 
         // The network's capability to load a Rewarded Video ad while another Rewarded Video ad of that network is showing
         mLWSSupportState = LoadWhileShowSupportState.LOAD_WHILE_SHOW_BY_INSTANCE;
+
+        // free cached ads on memory pressure, not only when the mediation releases the memory
+        mMemoryTrimPolicy.register(mMemoryTrimEvictor);
     }
 
     // Get the network and adapter integration data
@@ -149,20 +163,30 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
         return AppLovinSdk.VERSION;
     }
 
+    // Get the init, load and show latency histograms recorded so far for this network
+    public static JSONObject getLatencySnapshot() {
+        return mLatencyTracker.getSnapshot();
+    }
+
+    static LatencyTracker getLatencyTracker() {
+        return mLatencyTracker;
+    }
+
+    static MainThreadDispatcher getMainThreadDispatcher() {
+        return mMainThreadDispatcher;
+    }
+
     //endregion
 
     //region Initializations Methods And Callbacks
 
     private void initSdk(final String sdkKey, String userId) {
-        // add self to the init listeners only in case the initialization has not finished yet
-        if (mInitState == InitState.INIT_STATE_NONE || mInitState == InitState.INIT_STATE_IN_PROGRESS) {
-            initCallbackListeners.add(this);
-        }
+        // add self to the init listeners, in case the initialization has already finished the result is delivered right away
+        mInitCoordinator.addListener(this);
 
-        if (mWasInitCalled.compareAndSet(false, true)) {
-            IronLog.ADAPTER_API.verbose("sdkKey = " + sdkKey);
-
-            mInitState = InitState.INIT_STATE_IN_PROGRESS;
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "sdkKey = {}", sdkKey);
+            mLatencyTracker.onInitStarted();
 
             // get sdk setting
             AppLovinSdkSettings appLovinSdkSettings = getAppLovinSDKSetting();
@@ -172,7 +196,7 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
             // set user ID
             if (!TextUtils.isEmpty(userId)) {
-                IronLog.ADAPTER_API.verbose("setUserIdentifier to " + userId);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "setUserIdentifier to {}", userId);
                 mAppLovinSdk.setUserIdentifier(userId);
             }
 
@@ -189,9 +213,13 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
     }
 
     private void initializationSuccess() {
-        IronLog.ADAPTER_CALLBACK.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "");
 
-        mInitState = InitState.INIT_STATE_SUCCESS;
+        if (!mInitCoordinator.setInitSucceeded()) {
+            return;
+        }
+
+        mLatencyTracker.onInitFinished();
 
         // set consent
         if (mConsentCollectingUserData != null) {
@@ -208,34 +236,38 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
             setAgeRestrictionValue(mAgeRestrictionData);
         }
 
-        //iterate over all the adapter instances and report init success
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackSuccess();
-        }
-
-        initCallbackListeners.clear();
+        //report init success to all the adapter instances
+        mInitCoordinator.notifyListeners();
     }
 
     @Override
     public void onNetworkInitCallbackSuccess() {
         // Rewarded Video
-        for (String zoneId : mZoneIdToRewardedVideoSmashListener.keySet()) {
-            RewardedVideoSmashListener listener = mZoneIdToRewardedVideoSmashListener.get(zoneId);
-            if (mRewardedVideoZoneIdsForInitCallbacks.contains(zoneId)) {
+        for (Map.Entry<String, PlacementSlot<RewardedVideoSmashListener, AppLovinIncentivizedInterstitial, AppLovinRewardedVideoListener>> entry : mRewardedVideoSlots.entrySet()) {
+            RewardedVideoSmashListener listener = entry.getValue().getSmashListener();
+            if (listener == null) {
+                continue;
+            }
+
+            if (entry.getValue().isInitCallbackRequired()) {
                 listener.onRewardedVideoInitSuccess();
             } else {
-                loadRewardedVideoInternal(zoneId, listener);
+                loadRewardedVideoInternal(entry.getKey(), listener);
             }
         }
 
         // Interstitial
-        for (InterstitialSmashListener listener : mZoneIdToInterstitialSmashListener.values()) {
-            listener.onInterstitialInitSuccess();
+        for (PlacementSlot<InterstitialSmashListener, AppLovinAd, AppLovinInterstitialListener> slot : mInterstitialSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onInterstitialInitSuccess();
+            }
         }
 
         // Banner
-        for (BannerSmashListener listener : mZoneIdToBannerSmashListener.values()) {
-            listener.onBannerInitSuccess();
+        for (PlacementSlot<BannerSmashListener, AppLovinAdView, AppLovinBannerListener> slot : mBannerSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onBannerInitSuccess();
+            }
         }
     }
 
@@ -252,32 +284,33 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
     // Used for flows when the mediation needs to get a callback for init
     @Override
     public void initRewardedVideoWithCallback(String appKey, final String userId, JSONObject config, final RewardedVideoSmashListener listener) {
-        final String zoneId = getZoneId(config);
-        final String sdkKey = config.optString(SDK_KEY);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String zoneId = adapterConfig.getZoneId();
+        final String sdkKey = adapterConfig.getSdkKey();
 
         if (TextUtils.isEmpty(sdkKey)) {
-            IronLog.INTERNAL.error("error - missing param - " + SDK_KEY);
+            AdapterLog.error(IronLog.INTERNAL, "error - missing param - {}", SDK_KEY);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + SDK_KEY, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(zoneId)) {
-            IronLog.INTERNAL.error("Missing param - " + ZONE_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", ZONE_ID);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + ZONE_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
-        // add to rewarded video listener map
-        mZoneIdToRewardedVideoSmashListener.put(zoneId, listener);
-        // add to rewarded video init callback ArraySet
-        mRewardedVideoZoneIdsForInitCallbacks.add(zoneId);
+        // add to rewarded video slots and mark the zone for init callbacks
+        PlacementSlot<RewardedVideoSmashListener, AppLovinIncentivizedInterstitial, AppLovinRewardedVideoListener> slot = getRewardedVideoSlot(zoneId);
+        slot.setSmashListener(listener);
+        slot.setInitCallbackRequired(true);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS: {
-                postOnUIThread(new Runnable() {
+                mMainThreadDispatcher.dispatch(new Runnable() {
                     @Override
                     public void run() {
                         initSdk(sdkKey, userId);
@@ -294,30 +327,31 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
     // Used for flows when the mediation doesn't need to get a callback for init
     @Override
     public void initAndLoadRewardedVideo(String appKey, final String userId, JSONObject config, final RewardedVideoSmashListener listener) {
-        final String zoneId = getZoneId(config);
-        final String sdkKey = config.optString(SDK_KEY);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String zoneId = adapterConfig.getZoneId();
+        final String sdkKey = adapterConfig.getSdkKey();
 
         if (TextUtils.isEmpty(sdkKey)) {
-            IronLog.INTERNAL.error("Missing param - " + SDK_KEY);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", SDK_KEY);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
         if (TextUtils.isEmpty(zoneId)) {
-            IronLog.INTERNAL.error("Missing param - " + ZONE_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", ZONE_ID);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
-        // add to rewarded video listener map
-        mZoneIdToRewardedVideoSmashListener.put(zoneId, listener);
+        // add to rewarded video slots
+        getRewardedVideoSlot(zoneId).setSmashListener(listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS: {
-                postOnUIThread(new Runnable() {
+                mMainThreadDispatcher.dispatch(new Runnable() {
                     @Override
                     public void run() {
                         initSdk(sdkKey, userId);
@@ -333,51 +367,62 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     @Override
     public void fetchRewardedVideoForAutomaticLoad(final JSONObject config, final RewardedVideoSmashListener listener) {
-        final String zoneId = getZoneId(config);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
         loadRewardedVideoInternal(zoneId, listener);
     }
 
     private void loadRewardedVideoInternal(String zoneId, RewardedVideoSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
-        AppLovinIncentivizedInterstitial rewardedVideoAd;
+        PlacementSlot<RewardedVideoSmashListener, AppLovinIncentivizedInterstitial, AppLovinRewardedVideoListener> slot = getRewardedVideoSlot(zoneId);
+        AppLovinIncentivizedInterstitial rewardedVideoAd = slot.getAd();
 
-        if (mZoneIdToRewardedVideoAd.containsKey(zoneId)) {
-            rewardedVideoAd = mZoneIdToRewardedVideoAd.get(zoneId);
-        } else {
+        if (rewardedVideoAd == null) {
             if (!zoneId.equals(DEFAULT_ZONE_ID)) {
                 rewardedVideoAd = AppLovinIncentivizedInterstitial.create(zoneId, mAppLovinSdk);
             } else {
                 rewardedVideoAd = AppLovinIncentivizedInterstitial.create(mAppLovinSdk);
             }
-            mZoneIdToRewardedVideoAd.put(zoneId, rewardedVideoAd);
+            slot.setAd(rewardedVideoAd);
         }
 
         // create AppLovin rewarded video listener
         AppLovinRewardedVideoListener rewardedVideoListener = new AppLovinRewardedVideoListener(AppLovinAdapter.this, listener, zoneId);
-        mZoneIdToAppLovinRewardedVideoListener.put(zoneId, rewardedVideoListener);
+        slot.setAdListener(rewardedVideoListener);
 
         // load rewarded video
+        mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, zoneId);
         rewardedVideoAd.preload(rewardedVideoListener);
     }
 
     @Override
     public void showRewardedVideo(JSONObject config, RewardedVideoSmashListener listener) {
-        String zoneId = getZoneId(config);
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String zoneId = adapterConfig.getZoneId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
         listener.onRewardedVideoAvailabilityChanged(false);
 
+        PlacementSlot<RewardedVideoSmashListener, AppLovinIncentivizedInterstitial, AppLovinRewardedVideoListener> slot = mRewardedVideoSlots.get(zoneId);
+        AppLovinIncentivizedInterstitial rewardedVideoAd = slot != null ? slot.getAd() : null;
+
         // check ad availability
-        if (isRewardedVideoAvailable(config)) {
+        if (rewardedVideoAd != null && rewardedVideoAd.isAdReadyToDisplay()) {
 
             if (!TextUtils.isEmpty(getDynamicUserId())) {
                 mAppLovinSdk.setUserIdentifier(getDynamicUserId());
             }
 
-            AppLovinIncentivizedInterstitial rewardedVideoAd = mZoneIdToRewardedVideoAd.get(zoneId);
-            AppLovinRewardedVideoListener rewardedVideoListener = mZoneIdToAppLovinRewardedVideoListener.get(zoneId);
+            AppLovinRewardedVideoListener rewardedVideoListener = slot.getAdListener();
+
+            // load the next ad of the zone while this one is displayed
+            if (adapterConfig.isReloadOnShowEnabled()) {
+                mRewardedVideoZoneIdsToReloadOnShow.add(zoneId);
+            } else {
+                mRewardedVideoZoneIdsToReloadOnShow.remove(zoneId);
+            }
 
+            mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, zoneId);
             rewardedVideoAd.show(ContextProvider.getInstance().getCurrentActiveActivity(), rewardedVideoListener, rewardedVideoListener, rewardedVideoListener, rewardedVideoListener);
 
         } else {
@@ -387,8 +432,8 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     @Override
     public boolean isRewardedVideoAvailable(JSONObject config) {
-        String zoneId = getZoneId(config);
-        AppLovinIncentivizedInterstitial rewardedVideoAd = mZoneIdToRewardedVideoAd.get(zoneId);
+        PlacementSlot<RewardedVideoSmashListener, AppLovinIncentivizedInterstitial, AppLovinRewardedVideoListener> slot = mRewardedVideoSlots.get(AdapterConfig.from(config).getZoneId());
+        AppLovinIncentivizedInterstitial rewardedVideoAd = slot != null ? slot.getAd() : null;
         return rewardedVideoAd != null && rewardedVideoAd.isAdReadyToDisplay();
     }
 
@@ -398,30 +443,31 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     @Override
     public void initInterstitial(final String appKey, final String userId, final JSONObject config, final InterstitialSmashListener listener) {
-        final String zoneId = getZoneId(config);
-        final String sdkKey = config.optString(SDK_KEY);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String zoneId = adapterConfig.getZoneId();
+        final String sdkKey = adapterConfig.getSdkKey();
 
         if (TextUtils.isEmpty(sdkKey)) {
-            IronLog.INTERNAL.error("Missing param - " + SDK_KEY);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", SDK_KEY);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + SDK_KEY, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(zoneId)) {
-            IronLog.INTERNAL.error("Missing param - " + ZONE_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", ZONE_ID);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + ZONE_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
-        // add to interstitial listener map
-        mZoneIdToInterstitialSmashListener.put(zoneId, listener);
+        // add to interstitial slots
+        getInterstitialSlot(zoneId).setSmashListener(listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS: {
-                postOnUIThread(new Runnable() {
+                mMainThreadDispatcher.dispatch(new Runnable() {
                     @Override
                     public void run() {
                         initSdk(sdkKey, userId);
@@ -437,38 +483,55 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     @Override
     public void loadInterstitial(JSONObject config, final InterstitialSmashListener listener) {
-        final String zoneId = getZoneId(config);
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
+        loadInterstitialInternal(zoneId, listener);
+    }
+
+    private void loadInterstitialInternal(String zoneId, InterstitialSmashListener listener) {
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
         AppLovinInterstitialListener interstitialListener = new AppLovinInterstitialListener(AppLovinAdapter.this, listener, zoneId);
 
-        mZoneIdToAppLovinInterstitialListener.put(zoneId, interstitialListener);
+        getInterstitialSlot(zoneId).setAdListener(interstitialListener);
 
         // load interstitial
+        mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, zoneId);
         if (!zoneId.equals(DEFAULT_ZONE_ID)) {
             mAppLovinSdk.getAdService().loadNextAdForZoneId(zoneId, interstitialListener);
-        } else { 
+        } else {
             mAppLovinSdk.getAdService().loadNextAd(AppLovinAdSize.INTERSTITIAL, interstitialListener);
         }
     }
 
     @Override
     public void showInterstitial(JSONObject config, InterstitialSmashListener listener) {
-        String zoneId = getZoneId(config);
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String zoneId = adapterConfig.getZoneId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
-        if (isInterstitialReady(config)) {
-            AppLovinAd interstitialAd = mZoneIdToInterstitialAd.get(zoneId);
-            AppLovinInterstitialListener interstitialListener = mZoneIdToAppLovinInterstitialListener.get(zoneId);
+        PlacementSlot<InterstitialSmashListener, AppLovinAd, AppLovinInterstitialListener> slot = mInterstitialSlots.get(zoneId);
+        AppLovinAd interstitialAd = slot != null ? slot.getAd() : null;
+
+        if (interstitialAd != null && slot.isAvailable()) {
+            AppLovinInterstitialListener interstitialListener = slot.getAdListener();
+
+            // load the next ad of the zone while this one is displayed
+            if (adapterConfig.isReloadOnShowEnabled()) {
+                mInterstitialZoneIdsToReloadOnShow.add(zoneId);
+            } else {
+                mInterstitialZoneIdsToReloadOnShow.remove(zoneId);
+            }
 
             AppLovinInterstitialAdDialog interstitialAdDialog = AppLovinInterstitialAd.create(mAppLovinSdk, ContextProvider.getInstance().getCurrentActiveActivity());
 
             interstitialAdDialog.setAdClickListener(interstitialListener);
             interstitialAdDialog.setAdDisplayListener(interstitialListener);
             interstitialAdDialog.setAdVideoPlaybackListener(interstitialListener);
-            interstitialAdDialog.showAndRender(interstitialAd);
+            // marked before the show, a reload that started once the ad is displayed may make the zone available again
+            slot.markUnavailable();
 
-            mZoneIdToInterstitialAdReadyStatus.put(zoneId, false);
+            mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, zoneId);
+            interstitialAdDialog.showAndRender(interstitialAd);
         } else {
             listener.onInterstitialAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.INTERSTITIAL_AD_UNIT));
         }
@@ -476,8 +539,8 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     @Override
     public boolean isInterstitialReady(JSONObject config) {
-        String zoneId = getZoneId(config);
-        return mZoneIdToInterstitialAd.containsKey(zoneId) && mZoneIdToInterstitialAdReadyStatus.containsKey(zoneId) && mZoneIdToInterstitialAdReadyStatus.get(zoneId);
+        PlacementSlot<InterstitialSmashListener, AppLovinAd, AppLovinInterstitialListener> slot = mInterstitialSlots.get(AdapterConfig.from(config).getZoneId());
+        return slot != null && slot.getAd() != null && slot.isAvailable();
     }
 
     //endregion
@@ -486,31 +549,32 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     @Override
     public void initBanners(final String appKey, final String userId, JSONObject config, final BannerSmashListener listener) {
-        final String zoneId = getZoneId(config);
-        final String sdkKey = config.optString(SDK_KEY);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String zoneId = adapterConfig.getZoneId();
+        final String sdkKey = adapterConfig.getSdkKey();
 
         if (TextUtils.isEmpty(sdkKey)) {
-            IronLog.INTERNAL.error("Missing param - " + SDK_KEY);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", SDK_KEY);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + SDK_KEY, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(zoneId)) {
-            IronLog.INTERNAL.error("Missing param - " + ZONE_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", ZONE_ID);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + ZONE_ID, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
-        //add banner to listener map
-        mZoneIdToBannerSmashListener.put(zoneId, listener);
+        //add banner to slots
+        getBannerSlot(zoneId).setSmashListener(listener);
 
         //check AppLovin sdk init state
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS: {
-                postOnUIThread(new Runnable() {
+                mMainThreadDispatcher.dispatch(new Runnable() {
                     @Override
                     public void run() {
                         initSdk(sdkKey, userId);
@@ -526,26 +590,26 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     @Override
     public void loadBanner(final IronSourceBannerLayout banner, final JSONObject config, final BannerSmashListener listener) {
-        final String zoneId = getZoneId(config);
-        IronLog.ADAPTER_API.verbose("zoneId = " + zoneId);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "zoneId = {}", zoneId);
 
         if (banner == null) {
-            IronLog.INTERNAL.error("banner layout is null");
+            AdapterLog.error(IronLog.INTERNAL, "banner layout is null");
             listener.onBannerAdLoadFailed(ErrorBuilder.buildNoConfigurationAvailableError("banner layout is null"));
             return;
         }
 
         // get size
-        final AppLovinAdSize bannerSize = calculateBannerSize(banner.getSize(), AdapterUtils.isLargeScreen(banner.getActivity()));
+        final AppLovinAdSize bannerSize = calculateBannerSize(banner.getSize());
 
         // verify if size is null
         if (bannerSize == null) {
-            IronLog.INTERNAL.error("size not supported, size is null");
+            AdapterLog.error(IronLog.INTERNAL, "size not supported, size is null");
             listener.onBannerAdLoadFailed(ErrorBuilder.unsupportedBannerSize(getProviderName()));
             return;
         }
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -556,13 +620,13 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
                     // create banner listener
                     AppLovinBannerListener applovinListener = new AppLovinBannerListener(AppLovinAdapter.this, listener, zoneId, layoutParams);
 
-                    // add to maps
-                    mZoneIdToBannerAd.put(zoneId, adView);
-                    mZoneIdToBannerLayout.put(zoneId, layoutParams);
-                    mZoneIdToAppLovinBannerListener.put(zoneId, applovinListener);
-                    mZoneIdToBannerSize.put(zoneId, bannerSize);
+                    // add to slot
+                    PlacementSlot<BannerSmashListener, AppLovinAdView, AppLovinBannerListener> slot = getBannerSlot(zoneId);
+                    slot.setAd(adView);
+                    slot.setAdListener(applovinListener);
 
                     // load ad
+                    mLatencyTracker.onLoadStarted(IronSourceConstants.BANNER_AD_UNIT, zoneId);
                     if (!zoneId.equals(DEFAULT_ZONE_ID)) {
                         mAppLovinSdk.getAdService().loadNextAdForZoneId(zoneId, applovinListener);
                     } else {
@@ -579,25 +643,27 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     @Override
     public void reloadBanner(final IronSourceBannerLayout banner, final JSONObject config, final BannerSmashListener listener) {
-        IronLog.INTERNAL.warning("Unsupported method");
+        AdapterLog.warning(IronLog.INTERNAL, "Unsupported method");
     }
 
     @Override
     public void destroyBanner(JSONObject config) {
-        final String zoneId = getZoneId(config);
-        final AppLovinAdView adView = mZoneIdToBannerAd.get(zoneId);
+        final String zoneId = AdapterConfig.from(config).getZoneId();
+        final PlacementSlot<BannerSmashListener, AppLovinAdView, AppLovinBannerListener> slot = mBannerSlots.get(zoneId);
+
+        if (slot == null) {
+            return;
+        }
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
+                AppLovinAdView adView = slot.takeAd();
                 if (adView != null) {
                     adView.destroy();
                 }
 
-                mZoneIdToBannerAd.remove(zoneId);
-                mZoneIdToBannerLayout.remove(zoneId);
-                mZoneIdToAppLovinBannerListener.remove(zoneId);
-                mZoneIdToBannerSize.remove(zoneId);
+                slot.setAdListener(null);
             }
         });
     }
@@ -606,34 +672,62 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     //region Memory Handling
 
+    // Rewarded video readiness is kept by the network SDK, so only interstitial ads are dropped
+    private final MemoryTrimPolicy.Evictor mMemoryTrimEvictor = new MemoryTrimPolicy.Evictor() {
+        @Override
+        public int evictDetachedBanners() {
+            int evicted = 0;
+
+            for (PlacementSlot<BannerSmashListener, AppLovinAdView, AppLovinBannerListener> slot : mBannerSlots.values()) {
+                AppLovinAdView adView = slot.getAd();
+
+                if (adView != null && adView.getParent() == null && (adView = slot.takeAd()) != null) {
+                    adView.destroy();
+                    evicted++;
+                }
+            }
+
+            return evicted;
+        }
+
+        @Override
+        public int evictAvailableAds(long maxAgeMillis) {
+            int evicted = 0;
+
+            for (PlacementSlot<InterstitialSmashListener, AppLovinAd, AppLovinInterstitialListener> slot : mInterstitialSlots.values()) {
+                if (slot.evictAvailableAd(maxAgeMillis) != null) {
+                    evicted++;
+                }
+            }
+
+            return evicted;
+        }
+    };
+
     @Override
     public void releaseMemory(IronSource.AD_UNIT adUnit, JSONObject config) {
-        IronLog.INTERNAL.verbose("adUnit = " + adUnit);
+        AdapterLog.verbose(IronLog.INTERNAL, "adUnit = {}", adUnit);
 
         if (adUnit == IronSource.AD_UNIT.REWARDED_VIDEO) {
-            mZoneIdToAppLovinRewardedVideoListener.clear();
-            mZoneIdToRewardedVideoAd.clear();
-            mZoneIdToRewardedVideoSmashListener.clear();
-            mRewardedVideoZoneIdsForInitCallbacks.clear();
+            mRewardedVideoSlots.clear();
+            mRewardedVideoZoneIdsToReloadOnShow.clear();
 
         } else if (adUnit == IronSource.AD_UNIT.INTERSTITIAL) {
-            mZoneIdToAppLovinInterstitialListener.clear();
-            mZoneIdToInterstitialAdReadyStatus.clear();
-            mZoneIdToInterstitialAd.clear();
-            mZoneIdToInterstitialSmashListener.clear();
+            mInterstitialSlots.clear();
+            mInterstitialZoneIdsToReloadOnShow.clear();
 
         } else if (adUnit == IronSource.AD_UNIT.BANNER) {
-            postOnUIThread(new Runnable() {
+            mMainThreadDispatcher.dispatch(new Runnable() {
                 @Override
                 public void run() {
-                    for (AppLovinAdView adView : mZoneIdToBannerAd.values()) {
-                        adView.destroy();
+                    for (PlacementSlot<BannerSmashListener, AppLovinAdView, AppLovinBannerListener> slot : mBannerSlots.values()) {
+                        AppLovinAdView adView = slot.takeAd();
+                        if (adView != null) {
+                            adView.destroy();
+                        }
                     }
 
-                    mZoneIdToAppLovinBannerListener.clear();
-                    mZoneIdToBannerSmashListener.clear();
-                    mZoneIdToBannerLayout.clear();
-                    mZoneIdToBannerAd.clear();
+                    mBannerSlots.clear();
                 }
             });
 
@@ -645,8 +739,8 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
     //region Legal
 
     protected void setConsent(boolean consent) {
-        if (mWasInitCalled.get()) {
-            IronLog.ADAPTER_API.verbose("consent = " + consent);
+        if (mInitCoordinator.isInitStarted()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "consent = {}", consent);
             AppLovinPrivacySettings.setHasUserConsent(consent, ContextProvider.getInstance().getCurrentActiveActivity());
         } else {
             mConsentCollectingUserData = consent;
@@ -661,7 +755,7 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
         // this is a list of 1 value
         String value = values.get(0);
-        IronLog.ADAPTER_API.verbose("key = " + key + ", value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, value = {}", key, value);
 
         if (MetaDataUtils.isValidCCPAMetaData(key, value)) {
             mCCPACollectingUserData = MetaDataUtils.getMetaDataBooleanValue(value);
@@ -675,8 +769,8 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
     }
 
     private void setAgeRestrictionValue(final boolean value) {
-        if (mWasInitCalled.get()) {
-            IronLog.ADAPTER_API.verbose("value = " + value);
+        if (mInitCoordinator.isInitStarted()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", value);
             AppLovinPrivacySettings.setIsAgeRestrictedUser(value, ContextProvider.getInstance().getApplicationContext());
         }
     }
@@ -687,8 +781,8 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
     }
 
     private void setCCPAValue(final boolean value) {
-        if (mWasInitCalled.get()) {
-            IronLog.ADAPTER_API.verbose("value = " + value);
+        if (mInitCoordinator.isInitStarted()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", value);
             AppLovinPrivacySettings.setDoNotSell(value, ContextProvider.getInstance().getApplicationContext());
         }
     }
@@ -697,59 +791,55 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
 
     //region Helpers
 
-    private AppLovinAdSize calculateBannerSize(ISBannerSize bannerSize, boolean isLargeScreen) {
-        if (bannerSize == null) {
-            IronLog.ADAPTER_API.error(getProviderName() + " calculateLayoutParams - bannerSize is null");
-            return null;
+    // Called once the current ad of the zone is displayed, loads its next ad if its show opted in
+    void reloadRewardedVideoWhileShowing(String zoneId) {
+        PlacementSlot<RewardedVideoSmashListener, AppLovinIncentivizedInterstitial, AppLovinRewardedVideoListener> slot = mRewardedVideoSlots.get(zoneId);
+
+        if (!mRewardedVideoZoneIdsToReloadOnShow.remove(zoneId) || slot == null || slot.getSmashListener() == null) {
+            return;
         }
 
-        switch (bannerSize.getDescription()) {
-            case "BANNER":
-            case "LARGE":
-                return AppLovinAdSize.BANNER;
-            case "RECTANGLE":
-                return AppLovinAdSize.MREC;
-            case "SMART":
-                return isLargeScreen ? AppLovinAdSize.LEADER : AppLovinAdSize.BANNER;
-            case "CUSTOM":
-                if (bannerSize.getHeight() >= 40 && bannerSize.getHeight() <= 60) {
-                    return AppLovinAdSize.BANNER;
-                }
-                break;
+        // the displayed ad keeps its listeners, the next ad is preloaded by a new incentivized interstitial
+        slot.takeAd();
+        loadRewardedVideoInternal(zoneId, slot.getSmashListener());
+    }
+
+    // Called once the current ad of the zone is displayed, loads its next ad if its show opted in
+    void reloadInterstitialWhileShowing(String zoneId) {
+        PlacementSlot<InterstitialSmashListener, AppLovinAd, AppLovinInterstitialListener> slot = mInterstitialSlots.get(zoneId);
+
+        if (!mInterstitialZoneIdsToReloadOnShow.remove(zoneId) || slot == null || slot.getSmashListener() == null) {
+            return;
         }
-        return null;
+
+        loadInterstitialInternal(zoneId, slot.getSmashListener());
     }
 
-    private FrameLayout.LayoutParams getBannerLayoutParams(ISBannerSize size) {
-        FrameLayout.LayoutParams layoutParams = new FrameLayout.LayoutParams(0, 0);
-        Activity activity = ContextProvider.getInstance().getCurrentActiveActivity();
+    PlacementSlot<RewardedVideoSmashListener, AppLovinIncentivizedInterstitial, AppLovinRewardedVideoListener> getRewardedVideoSlot(String zoneId) {
+        return PlacementSlot.obtain(mRewardedVideoSlots, zoneId);
+    }
 
-        switch (size.getDescription()) {
-            case "BANNER":
-            case "LARGE":
-                layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                break;
-            case "RECTANGLE":
-                layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 300), AdapterUtils.dpToPixels(activity, 250));
-                break;
-            case "SMART":
-                if (AdapterUtils.isLargeScreen(activity)) {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 728), AdapterUtils.dpToPixels(activity, 90));
-                } else {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                }
-                break;
-            case "CUSTOM":
-                if (size.getHeight() >= 40 && size.getHeight() <= 60) {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                }
-                break;
+    PlacementSlot<InterstitialSmashListener, AppLovinAd, AppLovinInterstitialListener> getInterstitialSlot(String zoneId) {
+        return PlacementSlot.obtain(mInterstitialSlots, zoneId);
+    }
+
+    PlacementSlot<BannerSmashListener, AppLovinAdView, AppLovinBannerListener> getBannerSlot(String zoneId) {
+        return PlacementSlot.obtain(mBannerSlots, zoneId);
+    }
+
+    private AppLovinAdSize calculateBannerSize(ISBannerSize bannerSize) {
+        if (bannerSize == null) {
+            AdapterLog.error(IronLog.ADAPTER_API, "{} calculateLayoutParams - bannerSize is null", getProviderName());
+            return null;
         }
 
-        // set gravity
-        layoutParams.gravity = Gravity.CENTER;
+        BannerLayoutCache.BannerLayout<AppLovinAdSize> layout = mBannerLayoutCache.getLayout(bannerSize, mBannerSizeResolver);
+        return layout != null ? layout.getNetworkSize() : null;
+    }
 
-        return layoutParams;
+    private FrameLayout.LayoutParams getBannerLayoutParams(ISBannerSize size) {
+        BannerLayoutCache.BannerLayout<AppLovinAdSize> layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver);
+        return layout != null ? layout.createLayoutParams() : new FrameLayout.LayoutParams(0, 0, Gravity.CENTER);
     }
 
     private AppLovinSdkSettings getAppLovinSDKSetting() {
@@ -758,10 +848,6 @@ class AppLovinAdapter extends AbstractAdapter implements INetworkInitCallbackLis
         return appLovinSdkSettings;
     }
 
-    private String getZoneId(JSONObject config) {
-        return !TextUtils.isEmpty(config.optString(ZONE_ID)) ? config.optString(ZONE_ID) : DEFAULT_ZONE_ID;
-    }
-
     protected String getErrorString(int errorCode) {
         switch (errorCode) {
             case AppLovinErrorCodes.SDK_DISABLED:
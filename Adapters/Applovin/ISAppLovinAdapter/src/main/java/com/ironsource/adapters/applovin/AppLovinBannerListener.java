@@ -1,7 +1,5 @@
 package com.ironsource.adapters.applovin;
 
-import android.os.Handler;
-import android.os.Looper;
 import android.widget.FrameLayout;
 
 import com.applovin.adview.AppLovinAdView;
@@ -15,6 +13,7 @@ import com.applovin.sdk.AppLovinErrorCodes;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 
@@ -41,30 +40,31 @@ public class AppLovinBannerListener implements AppLovinAdLoadListener, AppLovinA
      */
     @Override
     public void adReceived(final AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AppLovinAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.BANNER_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         if (mBannerLayout == null) {
-            IronLog.INTERNAL.verbose("banner layout is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "banner layout is null");
             return;
         }
 
-        final AppLovinAdView adView = mAdapter.get().mZoneIdToBannerAd.get(mZoneId);
+        final AppLovinAdView adView = mAdapter.get().getBannerSlot(mZoneId).getAd();
         if (adView == null) {
-            IronLog.INTERNAL.verbose("adView is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adView is null");
             return;
         }
 
-        new Handler(Looper.getMainLooper()).post(new Runnable() {
+        AppLovinAdapter.getMainThreadDispatcher().dispatch(new Runnable() {
             @Override
             public void run() {
                 adView.renderAd(appLovinAd);
@@ -83,15 +83,16 @@ public class AppLovinBannerListener implements AppLovinAdLoadListener, AppLovinA
      */
     @Override
     public void failedToReceiveAd(int errorCode) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId + ", errorCode = " + errorCode);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}, errorCode = {}", mZoneId, errorCode);
+        AppLovinAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.BANNER_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -109,7 +110,7 @@ public class AppLovinBannerListener implements AppLovinAdLoadListener, AppLovinA
      **/
     @Override
     public void adDisplayed(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
     }
 
     /**
@@ -122,7 +123,7 @@ public class AppLovinBannerListener implements AppLovinAdLoadListener, AppLovinA
      */
     @Override
     public void adFailedToDisplay(AppLovinAd appLovinAd, AppLovinAdView appLovinAdView, AppLovinAdViewDisplayErrorCode appLovinAdViewDisplayErrorCode) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
     }
 
     /**
@@ -133,10 +134,10 @@ public class AppLovinBannerListener implements AppLovinAdLoadListener, AppLovinA
      */
     @Override
     public void adClicked(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -152,10 +153,10 @@ public class AppLovinBannerListener implements AppLovinAdLoadListener, AppLovinA
      */
     @Override
     public void adOpenedFullscreen(AppLovinAd appLovinAd, AppLovinAdView appLovinAdView) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -172,10 +173,10 @@ public class AppLovinBannerListener implements AppLovinAdLoadListener, AppLovinA
      **/
     @Override
     public void adClosedFullscreen(AppLovinAd appLovinAd, AppLovinAdView appLovinAdView) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -190,7 +191,7 @@ public class AppLovinBannerListener implements AppLovinAdLoadListener, AppLovinA
      **/
     @Override
     public void adHidden(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
     }
 
     /**
@@ -202,10 +203,10 @@ public class AppLovinBannerListener implements AppLovinAdLoadListener, AppLovinA
      **/
     @Override
     public void adLeftApplication(AppLovinAd appLovinAd, AppLovinAdView appLovinAdView) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
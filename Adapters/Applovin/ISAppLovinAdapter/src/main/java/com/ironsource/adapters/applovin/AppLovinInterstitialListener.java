@@ -9,6 +9,7 @@ import com.applovin.sdk.AppLovinErrorCodes;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 
@@ -33,20 +34,22 @@ public class AppLovinInterstitialListener implements AppLovinAdLoadListener, App
      */
     @Override
     public void adReceived(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AppLovinAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, mZoneId);
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
-        mAdapter.get().mZoneIdToInterstitialAd.put(mZoneId, appLovinAd);
-        mAdapter.get().mZoneIdToInterstitialAdReadyStatus.put(mZoneId, true);
+        PlacementSlot<?, AppLovinAd, ?> slot = mAdapter.get().getInterstitialSlot(mZoneId);
+        slot.setAd(appLovinAd);
+        slot.markAvailable();
         mListener.onInterstitialAdReady();
     }
 
@@ -59,22 +62,23 @@ public class AppLovinInterstitialListener implements AppLovinAdLoadListener, App
      */
     @Override
     public void failedToReceiveAd(int errorCode) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId + ", errorCode = " + errorCode);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}, errorCode = {}", mZoneId, errorCode);
+        AppLovinAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         int adapterErrorCode = errorCode == AppLovinErrorCodes.NO_FILL ? IronSourceError.ERROR_IS_LOAD_NO_FILL : errorCode;
         IronSourceError ironSourceError = new IronSourceError(adapterErrorCode, mAdapter.get().getErrorString(errorCode));
 
-        mAdapter.get().mZoneIdToInterstitialAdReadyStatus.put(mZoneId, false);
+        mAdapter.get().getInterstitialSlot(mZoneId).markUnavailable();
         mListener.onInterstitialAdLoadFailed(ironSourceError);
     }
 
@@ -86,14 +90,20 @@ public class AppLovinInterstitialListener implements AppLovinAdLoadListener, App
      **/
     @Override
     public void adDisplayed(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AppLovinAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         mListener.onInterstitialAdOpened();
+
+        // the next ad loads while this one is displayed, if the show opted in
+        if (mAdapter != null && mAdapter.get() != null) {
+            mAdapter.get().reloadInterstitialWhileShowing(mZoneId);
+        }
     }
 
     /**
@@ -104,10 +114,10 @@ public class AppLovinInterstitialListener implements AppLovinAdLoadListener, App
      **/
     @Override
     public void videoPlaybackBegan(AppLovinAd ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -122,10 +132,10 @@ public class AppLovinInterstitialListener implements AppLovinAdLoadListener, App
      **/
     @Override
     public void adClicked(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -143,7 +153,7 @@ public class AppLovinInterstitialListener implements AppLovinAdLoadListener, App
      **/
     @Override
     public void videoPlaybackEnded(AppLovinAd ad, double percentViewed, boolean fullyWatched) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
     }
 
     /**
@@ -154,10 +164,10 @@ public class AppLovinInterstitialListener implements AppLovinAdLoadListener, App
      **/
     @Override
     public void adHidden(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -10,6 +10,7 @@ import com.applovin.sdk.AppLovinErrorCodes;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 import java.util.Map;
@@ -35,10 +36,11 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void adReceived(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AppLovinAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -54,15 +56,16 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void failedToReceiveAd(int errorCode) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId + ", errorCode = " + errorCode);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}, errorCode = {}", mZoneId, errorCode);
+        AppLovinAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -81,14 +84,20 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void adDisplayed(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
+        AppLovinAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         mListener.onRewardedVideoAdOpened();
+
+        // the next ad loads while this one is displayed, if the show opted in
+        if (mAdapter != null && mAdapter.get() != null) {
+            mAdapter.get().reloadRewardedVideoWhileShowing(mZoneId);
+        }
     }
 
     /**
@@ -99,10 +108,10 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void videoPlaybackBegan(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -117,10 +126,10 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void adClicked(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -137,10 +146,10 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void videoPlaybackEnded(AppLovinAd appLovinAd, double percentViewed, boolean isFullyWatched) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId + ", isFullyWatched = " + isFullyWatched);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}, isFullyWatched = {}", mZoneId, isFullyWatched);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -158,10 +167,10 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void adHidden(AppLovinAd appLovinAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -176,7 +185,7 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void userRewardVerified(AppLovinAd appLovinAd, Map<String, String> map) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
     }
 
     /**
@@ -187,7 +196,7 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void userOverQuota(AppLovinAd appLovinAd, Map<String, String> map) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
     }
 
     /**
@@ -198,7 +207,7 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void userRewardRejected(AppLovinAd appLovinAd, Map<String, String> map) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}", mZoneId);
     }
 
     /**
@@ -209,6 +218,6 @@ public class AppLovinRewardedVideoListener implements AppLovinAdLoadListener, Ap
      **/
     @Override
     public void validationRequestFailed(AppLovinAd appLovinAd, int errorCode) {
-        IronLog.ADAPTER_CALLBACK.verbose("zoneId = " + mZoneId + ", errorCode = " + errorCode);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "zoneId = {}, errorCode = {}", mZoneId, errorCode);
     }
 }
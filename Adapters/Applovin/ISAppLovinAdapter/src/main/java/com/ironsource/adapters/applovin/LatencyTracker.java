@@ -0,0 +1,172 @@
+package com.ironsource.adapters.applovin;
+
+import android.os.SystemClock;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures how long the network takes to answer the adapter - the network SDK init, every ad load from the
+ * load call until the load callback and every show from the show call until the ad opened callback.
+ * Durations are kept per ad unit and placement in {@link LatencyHistogram}s. A placement allocates its
+ * histograms on its first load, after that measuring is allocation free.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+final class LatencyTracker {
+
+    private static final long NOT_STARTED = -1;
+
+    private static final class PlacementLatency {
+        private final AtomicLong mLoadStartTime = new AtomicLong(NOT_STARTED);
+        private final AtomicLong mShowStartTime = new AtomicLong(NOT_STARTED);
+        private final LatencyHistogram mLoadSuccess = new LatencyHistogram();
+        private final LatencyHistogram mLoadFailure = new LatencyHistogram();
+        private final LatencyHistogram mShowToOpen = new LatencyHistogram();
+    }
+
+    private final AtomicLong mInitStartTime = new AtomicLong(NOT_STARTED);
+    private final LatencyHistogram mInit = new LatencyHistogram();
+    private final ConcurrentHashMap<String, PlacementLatency> mRewardedVideoPlacements = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PlacementLatency> mInterstitialPlacements = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PlacementLatency> mBannerPlacements = new ConcurrentHashMap<>();
+
+    //region Init
+    void onInitStarted() {
+        mInitStartTime.set(SystemClock.elapsedRealtime());
+    }
+
+    // Called once the init succeeded or failed
+    void onInitFinished() {
+        record(mInitStartTime, mInit);
+    }
+    //endregion
+
+    //region Load and show
+    void onLoadStarted(String adUnit, String placementId) {
+        getPlacementLatency(adUnit, placementId).mLoadStartTime.set(SystemClock.elapsedRealtime());
+    }
+
+    void onLoadSucceeded(String adUnit, String placementId) {
+        PlacementLatency latency = findPlacementLatency(adUnit, placementId);
+
+        if (latency != null) {
+            record(latency.mLoadStartTime, latency.mLoadSuccess);
+        }
+    }
+
+    void onLoadFailed(String adUnit, String placementId) {
+        PlacementLatency latency = findPlacementLatency(adUnit, placementId);
+
+        if (latency != null) {
+            record(latency.mLoadStartTime, latency.mLoadFailure);
+        }
+    }
+
+    void onShowStarted(String adUnit, String placementId) {
+        getPlacementLatency(adUnit, placementId).mShowStartTime.set(SystemClock.elapsedRealtime());
+    }
+
+    void onShowOpened(String adUnit, String placementId) {
+        PlacementLatency latency = findPlacementLatency(adUnit, placementId);
+
+        if (latency != null) {
+            record(latency.mShowStartTime, latency.mShowToOpen);
+        }
+    }
+    //endregion
+
+    //region Snapshot
+
+    /**
+     * Returns the histograms recorded so far:
+     * {"init": histogram, "bucketBoundsMillis": [...], "Rewarded Video": {"placementId": {"loadSuccess": histogram,
+     * "loadFailure": histogram, "showToOpen": histogram}}, "Interstitial": {...}, "Banner": {...}}
+     */
+    JSONObject getSnapshot() {
+        JSONObject snapshot = new JSONObject();
+
+        try {
+            JSONArray bucketBounds = new JSONArray();
+            for (long bound : LatencyHistogram.BUCKET_BOUNDS_MILLIS) {
+                bucketBounds.put(bound);
+            }
+
+            snapshot.put("bucketBoundsMillis", bucketBounds);
+            snapshot.put("init", mInit.getSnapshot());
+            snapshot.put(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, getPlacementsSnapshot(mRewardedVideoPlacements));
+            snapshot.put(IronSourceConstants.INTERSTITIAL_AD_UNIT, getPlacementsSnapshot(mInterstitialPlacements));
+            snapshot.put(IronSourceConstants.BANNER_AD_UNIT, getPlacementsSnapshot(mBannerPlacements));
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build latency snapshot - {}", e.getMessage());
+        }
+
+        return snapshot;
+    }
+
+    private static JSONObject getPlacementsSnapshot(ConcurrentHashMap<String, PlacementLatency> placements) throws JSONException {
+        JSONObject snapshot = new JSONObject();
+
+        for (Map.Entry<String, PlacementLatency> entry : placements.entrySet()) {
+            PlacementLatency latency = entry.getValue();
+            JSONObject placementSnapshot = new JSONObject();
+            placementSnapshot.put("loadSuccess", latency.mLoadSuccess.getSnapshot());
+            placementSnapshot.put("loadFailure", latency.mLoadFailure.getSnapshot());
+            placementSnapshot.put("showToOpen", latency.mShowToOpen.getSnapshot());
+            snapshot.put(entry.getKey(), placementSnapshot);
+        }
+
+        return snapshot;
+    }
+    //endregion
+
+    // Records the time passed since the start time, only the first callback after a start is recorded
+    private static void record(AtomicLong startTime, LatencyHistogram histogram) {
+        long start = startTime.getAndSet(NOT_STARTED);
+
+        if (start != NOT_STARTED) {
+            histogram.record(SystemClock.elapsedRealtime() - start);
+        }
+    }
+
+    private ConcurrentHashMap<String, PlacementLatency> getPlacements(String adUnit) {
+        if (IronSourceConstants.REWARDED_VIDEO_AD_UNIT.equals(adUnit)) {
+            return mRewardedVideoPlacements;
+        } else if (IronSourceConstants.INTERSTITIAL_AD_UNIT.equals(adUnit)) {
+            return mInterstitialPlacements;
+        }
+
+        return mBannerPlacements;
+    }
+
+    private PlacementLatency findPlacementLatency(String adUnit, String placementId) {
+        return getPlacements(adUnit).get(placementId == null ? "" : placementId);
+    }
+
+    // Returns the placement entry, creating it on first use
+    private PlacementLatency getPlacementLatency(String adUnit, String placementId) {
+        ConcurrentHashMap<String, PlacementLatency> placements = getPlacements(adUnit);
+        String key = placementId == null ? "" : placementId;
+        PlacementLatency latency = placements.get(key);
+
+        if (latency == null) {
+            PlacementLatency newLatency = new PlacementLatency();
+            latency = placements.putIfAbsent(key, newLatency);
+
+            if (latency == null) {
+                latency = newLatency;
+            }
+        }
+
+        return latency;
+    }
+}
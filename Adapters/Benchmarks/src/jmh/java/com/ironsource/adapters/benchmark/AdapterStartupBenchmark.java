@@ -0,0 +1,56 @@
+package com.ironsource.adapters.benchmark;
+
+import com.ironsource.mediationsdk.AbstractAdapter;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating an adapter instance and initializing an ad unit on it once the network SDK is already initialized,
+ * which is what the mediation pays for every additional instance of a network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdapterStartupBenchmark {
+
+    @Param({"ADCOLONY", "APPLOVIN", "CHARTBOOST", "FACEBOOK", "ADMOB", "PANGLE", "TAPJOY", "UNITYADS", "VUNGLE", "YAHOO"})
+    public Network network;
+
+    private JSONObject mConfig;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mConfig = network.config();
+        // the first instance initializes the network SDK
+        startAndInitInterstitial();
+    }
+
+    @Benchmark
+    public int startAndInitInterstitial() {
+        AbstractAdapter adapter = network.startAdapter();
+        CountingSmashListener listener = new CountingSmashListener();
+        if (network.isBidding()) {
+            adapter.initInterstitialForBidding("", "bench-user", mConfig, listener);
+        } else {
+            adapter.initInterstitial("", "bench-user", mConfig, listener);
+        }
+        return listener.callbackCount();
+    }
+}
@@ -0,0 +1,78 @@
+package com.ironsource.adapters.benchmark;
+
+import com.ironsource.environment.ContextProvider;
+import com.ironsource.mediationsdk.AbstractAdapter;
+import com.ironsource.mediationsdk.ISBannerSize;
+import com.ironsource.mediationsdk.IronSourceBannerLayout;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Banner hot paths of every adapter that supports banners: a load and destroy cycle, which includes the banner size
+ * and layout calculations, and the bidding data collected for every auction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BannerBenchmark {
+
+    @Param({"ADCOLONY", "APPLOVIN", "CHARTBOOST", "FACEBOOK", "ADMOB", "PANGLE", "UNITYADS", "VUNGLE", "YAHOO"})
+    public Network network;
+
+    @Param({"BANNER", "RECTANGLE"})
+    public String bannerSize;
+
+    private AbstractAdapter mAdapter;
+    private JSONObject mConfig;
+    private CountingSmashListener mListener;
+    private IronSourceBannerLayout mBannerLayout;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mAdapter = network.startAdapter();
+        mConfig = network.config();
+        mListener = new CountingSmashListener();
+        ISBannerSize size = "RECTANGLE".equals(bannerSize) ? ISBannerSize.RECTANGLE : ISBannerSize.BANNER;
+        mBannerLayout = new IronSourceBannerLayout(ContextProvider.getInstance().getCurrentActiveActivity(), size);
+
+        if (network.isBannerBidding()) {
+            mAdapter.initBannerForBidding("", "bench-user", mConfig, mListener);
+        } else {
+            mAdapter.initBanners("", "bench-user", mConfig, mListener);
+        }
+    }
+
+    @Benchmark
+    public int loadAndDestroy() {
+        if (network.isBannerBidding()) {
+            mAdapter.loadBannerForBidding(mBannerLayout, mConfig, mListener, network.biddingPayload());
+        } else {
+            mAdapter.loadBanner(mBannerLayout, mConfig, mListener);
+        }
+        mAdapter.destroyBanner(mConfig);
+        return mListener.callbackCount();
+    }
+
+    @Benchmark
+    public Map<String, Object> getBannerBiddingData() {
+        return mAdapter.getBannerBiddingData(mConfig);
+    }
+}
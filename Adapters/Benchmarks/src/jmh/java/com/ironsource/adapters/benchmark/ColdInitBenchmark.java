@@ -0,0 +1,56 @@
+package com.ironsource.adapters.benchmark;
+
+import com.ironsource.mediationsdk.AbstractAdapter;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time the calling thread spends in the first init of a network during the app start, the mediation usually makes
+ * that call on the main thread. Every fork is a new JVM, so the adapter classes and the network SDK are cold and the
+ * single measured call is the one that initializes the network. Work an adapter moves to a background thread is
+ * not part of the measured time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdInitBenchmark {
+
+    @Param({"ADCOLONY", "APPLOVIN", "CHARTBOOST", "FACEBOOK", "ADMOB", "PANGLE", "TAPJOY", "UNITYADS", "VUNGLE", "YAHOO"})
+    public Network network;
+
+    private JSONObject mConfig;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mConfig = network.config();
+    }
+
+    @Benchmark
+    public int startAndInitRewardedVideo() {
+        AbstractAdapter adapter = network.startAdapter();
+        CountingSmashListener listener = new CountingSmashListener();
+        if (network.isBidding()) {
+            adapter.initRewardedVideoWithCallback("", "bench-user", mConfig, listener);
+        } else {
+            adapter.initAndLoadRewardedVideo("", "bench-user", mConfig, listener);
+        }
+        return listener.callbackCount();
+    }
+}
@@ -0,0 +1,193 @@
+package com.ironsource.adapters.benchmark;
+
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.ironsource.mediationsdk.logger.IronSourceError;
+import com.ironsource.mediationsdk.sdk.BannerSmashListener;
+import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
+import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
+
+/**
+ * Smash listener for all ad units that only counts the callbacks, so the adapters' callback paths stay observable
+ * without adding work of their own to the measurement.
+ */
+public class CountingSmashListener implements RewardedVideoSmashListener, InterstitialSmashListener, BannerSmashListener {
+    public int initSuccess;
+    public int initFailed;
+    public int adReady;
+    public int loadFailed;
+    public int adOpened;
+    public int adClosed;
+    public int adRewarded;
+    public int showFailed;
+    public boolean available;
+    public IronSourceError lastError;
+
+    //region Rewarded Video
+    @Override
+    public void onRewardedVideoInitSuccess() {
+        initSuccess++;
+    }
+
+    @Override
+    public void onRewardedVideoInitFailed(IronSourceError error) {
+        initFailed++;
+        lastError = error;
+    }
+
+    @Override
+    public void onRewardedVideoAvailabilityChanged(boolean available) {
+        this.available = available;
+        if (available) {
+            adReady++;
+        }
+    }
+
+    @Override
+    public void onRewardedVideoLoadFailed(IronSourceError error) {
+        loadFailed++;
+        lastError = error;
+    }
+
+    @Override
+    public void onRewardedVideoAdOpened() {
+        adOpened++;
+    }
+
+    @Override
+    public void onRewardedVideoAdClosed() {
+        adClosed++;
+    }
+
+    @Override
+    public void onRewardedVideoAdStarted() {
+    }
+
+    @Override
+    public void onRewardedVideoAdEnded() {
+    }
+
+    @Override
+    public void onRewardedVideoAdRewarded() {
+        adRewarded++;
+    }
+
+    @Override
+    public void onRewardedVideoAdShowFailed(IronSourceError error) {
+        showFailed++;
+        lastError = error;
+    }
+
+    @Override
+    public void onRewardedVideoAdClicked() {
+    }
+
+    @Override
+    public void onRewardedVideoAdVisible() {
+    }
+    //endregion
+
+    //region Interstitial
+    @Override
+    public void onInterstitialInitSuccess() {
+        initSuccess++;
+    }
+
+    @Override
+    public void onInterstitialInitFailed(IronSourceError error) {
+        initFailed++;
+        lastError = error;
+    }
+
+    @Override
+    public void onInterstitialAdReady() {
+        available = true;
+        adReady++;
+    }
+
+    @Override
+    public void onInterstitialAdLoadFailed(IronSourceError error) {
+        available = false;
+        loadFailed++;
+        lastError = error;
+    }
+
+    @Override
+    public void onInterstitialAdOpened() {
+        adOpened++;
+    }
+
+    @Override
+    public void onInterstitialAdClosed() {
+        adClosed++;
+    }
+
+    @Override
+    public void onInterstitialAdShowSucceeded() {
+        available = false;
+    }
+
+    @Override
+    public void onInterstitialAdShowFailed(IronSourceError error) {
+        showFailed++;
+        lastError = error;
+    }
+
+    @Override
+    public void onInterstitialAdClicked() {
+    }
+
+    @Override
+    public void onInterstitialAdVisible() {
+    }
+    //endregion
+
+    //region Banner
+    @Override
+    public void onBannerInitSuccess() {
+        initSuccess++;
+    }
+
+    @Override
+    public void onBannerInitFailed(IronSourceError error) {
+        initFailed++;
+        lastError = error;
+    }
+
+    @Override
+    public void onBannerAdLoaded(View adView, FrameLayout.LayoutParams layoutParams) {
+        adReady++;
+    }
+
+    @Override
+    public void onBannerAdLoadFailed(IronSourceError error) {
+        loadFailed++;
+        lastError = error;
+    }
+
+    @Override
+    public void onBannerAdClicked() {
+    }
+
+    @Override
+    public void onBannerAdScreenPresented() {
+    }
+
+    @Override
+    public void onBannerAdScreenDismissed() {
+    }
+
+    @Override
+    public void onBannerAdLeftApplication() {
+    }
+
+    @Override
+    public void onBannerAdShown() {
+    }
+    //endregion
+
+    public int callbackCount() {
+        return initSuccess + initFailed + adReady + loadFailed + adOpened + adClosed + adRewarded + showFailed;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ironsource.adapters.benchmark;
+
+import com.ironsource.mediationsdk.AbstractAdapter;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interstitial hot paths of every adapter: a full load and show cycle and the readiness check.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterstitialBenchmark {
+
+    @Param({"ADCOLONY", "APPLOVIN", "CHARTBOOST", "FACEBOOK", "ADMOB", "PANGLE", "TAPJOY", "UNITYADS", "VUNGLE", "YAHOO"})
+    public Network network;
+
+    private AbstractAdapter mAdapter;
+    private JSONObject mConfig;
+    private CountingSmashListener mListener;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mAdapter = network.startAdapter();
+        mConfig = network.config();
+        mListener = new CountingSmashListener();
+
+        if (network.isBidding()) {
+            mAdapter.initInterstitialForBidding("", "bench-user", mConfig, mListener);
+        } else {
+            mAdapter.initInterstitial("", "bench-user", mConfig, mListener);
+        }
+        load();
+    }
+
+    private void load() {
+        if (network.isBidding()) {
+            mAdapter.loadInterstitialForBidding(mConfig, mListener, network.biddingPayload());
+        } else {
+            mAdapter.loadInterstitial(mConfig, mListener);
+        }
+    }
+
+    @Benchmark
+    public int loadAndShow() {
+        load();
+        mAdapter.showInterstitial(mConfig, mListener);
+        return mListener.callbackCount();
+    }
+
+    @Benchmark
+    public boolean isInterstitialReady() {
+        return mAdapter.isInterstitialReady(mConfig);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ironsource.adapters.benchmark;
+
+import com.ironsource.mediationsdk.AbstractAdapter;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.lang.reflect.Method;
+
+/**
+ * The adapters under benchmark, with the instance configuration the mediation would send to each of them.
+ * A null bidding payload means the network is loaded through the non bidding flow.
+ */
+public enum Network {
+    ADCOLONY("com.ironsource.adapters.adcolony.AdColonyAdapter", "AdColony", "zoneId",
+            "{\"appID\":\"bench-app\",\"zoneId\":\"bench-zone\"}", "adcolony-adm", true),
+    APPLOVIN("com.ironsource.adapters.applovin.AppLovinAdapter", "AppLovin", "zoneId",
+            "{\"sdkKey\":\"bench-sdk-key\",\"zoneId\":\"bench-zone\"}", null, false),
+    CHARTBOOST("com.ironsource.adapters.chartboost.ChartboostAdapter", "Chartboost", "adLocation",
+            "{\"appID\":\"bench-app\",\"appSignature\":\"bench-signature\",\"adLocation\":\"bench-location\"}", null, false),
+    FACEBOOK("com.ironsource.adapters.facebook.FacebookAdapter", "Facebook", "placementId",
+            "{\"placementId\":\"bench-placement\",\"placementIds\":\"bench-placement\"}", "meta-bid-payload", true),
+    ADMOB("com.ironsource.adapters.admob.AdMobAdapter", "AdMob", "adUnitId",
+            "{\"adUnitId\":\"bench-ad-unit\"}", null, false),
+    PANGLE("com.ironsource.adapters.pangle.PangleAdapter", "Pangle", "slotID",
+            "{\"appID\":\"bench-app\",\"slotID\":\"bench-slot\"}", "pangle-ad-string", true),
+    TAPJOY("com.ironsource.adapters.tapjoy.TapjoyAdapter", "Tapjoy", "placementName",
+            "{\"sdkKey\":\"bench-sdk-key\",\"placementName\":\"bench-placement\"}", "{\"id\":\"bench-auction\",\"ext_data\":\"bench-ext-data\"}", false),
+    UNITYADS("com.ironsource.adapters.unityads.UnityAdsAdapter", "UnityAds", "zoneId",
+            "{\"sourceId\":\"bench-game\",\"zoneId\":\"bench-placement\"}", "unity-ad-markup", false),
+    VUNGLE("com.ironsource.adapters.vungle.VungleAdapter", "Vungle", "PlacementId",
+            "{\"AppID\":\"bench-app\",\"PlacementId\":\"bench-placement\"}", "vungle-ad-markup", true),
+    YAHOO("com.ironsource.adapters.yahoo.YahooAdapter", "Yahoo", "placementId",
+            "{\"siteId\":\"bench-site\",\"placementId\":\"bench-placement\"}", "yahoo-ad-content", true);
+
+    private final String mAdapterClassName;
+    private final String mProviderName;
+    private final String mPlacementKey;
+    private final String mConfig;
+    private final String mBiddingPayload;
+    private final boolean mBannerBidding;
+
+    Network(String adapterClassName, String providerName, String placementKey, String config, String biddingPayload, boolean bannerBidding) {
+        mAdapterClassName = adapterClassName;
+        mProviderName = providerName;
+        mPlacementKey = placementKey;
+        mConfig = config;
+        mBiddingPayload = biddingPayload;
+        mBannerBidding = bannerBidding;
+    }
+
+    // Adapters are created the same way the mediation creates them, through their static startAdapter method
+    public AbstractAdapter startAdapter() {
+        try {
+            Method startAdapter = Class.forName(mAdapterClassName).getMethod("startAdapter", String.class);
+            // some adapters are package private
+            startAdapter.setAccessible(true);
+            return (AbstractAdapter) startAdapter.invoke(null, mProviderName);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to start " + mProviderName + " adapter", e);
+        }
+    }
+
+    public JSONObject config() {
+        try {
+            return new JSONObject(mConfig);
+        } catch (JSONException e) {
+            throw new IllegalStateException("invalid " + mProviderName + " config", e);
+        }
+    }
+
+    // The instance configuration with its placement replaced, used to drive many placements of the same network
+    public JSONObject config(String placementId) {
+        try {
+            return config().put(mPlacementKey, placementId);
+        } catch (JSONException e) {
+            throw new IllegalStateException("invalid " + mProviderName + " placement " + placementId, e);
+        }
+    }
+
+    public String providerName() {
+        return mProviderName;
+    }
+
+    public String biddingPayload() {
+        return mBiddingPayload;
+    }
+
+    public boolean isBidding() {
+        return mBiddingPayload != null;
+    }
+
+    public boolean isBannerBidding() {
+        return mBannerBidding;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ironsource.adapters.benchmark;
+
+import com.ironsource.mediationsdk.AbstractAdapter;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rewarded video hot paths of every adapter: a full load and show cycle, the availability check the mediation
+ * polls before showing and the bidding data collected for every auction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RewardedVideoBenchmark {
+
+    @Param({"ADCOLONY", "APPLOVIN", "CHARTBOOST", "FACEBOOK", "ADMOB", "PANGLE", "TAPJOY", "UNITYADS", "VUNGLE", "YAHOO"})
+    public Network network;
+
+    private AbstractAdapter mAdapter;
+    private JSONObject mConfig;
+    private CountingSmashListener mListener;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mAdapter = network.startAdapter();
+        mConfig = network.config();
+        mListener = new CountingSmashListener();
+
+        if (network.isBidding()) {
+            mAdapter.initRewardedVideoWithCallback("", "bench-user", mConfig, mListener);
+        } else {
+            mAdapter.initAndLoadRewardedVideo("", "bench-user", mConfig, mListener);
+        }
+        load();
+    }
+
+    private void load() {
+        if (network.isBidding()) {
+            mAdapter.loadRewardedVideoForBidding(mConfig, mListener, network.biddingPayload());
+        } else {
+            mAdapter.fetchRewardedVideoForAutomaticLoad(mConfig, mListener);
+        }
+    }
+
+    @Benchmark
+    public int loadAndShow() {
+        load();
+        mAdapter.showRewardedVideo(mConfig, mListener);
+        return mListener.callbackCount();
+    }
+
+    @Benchmark
+    public boolean isRewardedVideoAvailable() {
+        return mAdapter.isRewardedVideoAvailable(mConfig);
+    }
+
+    @Benchmark
+    public Map<String, Object> getRewardedVideoBiddingData() {
+        return mAdapter.getRewardedVideoBiddingData(mConfig);
+    }
+}
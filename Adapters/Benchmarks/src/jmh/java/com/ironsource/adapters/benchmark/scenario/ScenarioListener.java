@@ -0,0 +1,174 @@
+package com.ironsource.adapters.benchmark.scenario;
+
+import com.ironsource.mediationsdk.logger.IronSourceError;
+import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
+import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Smash listener of a single scenario placement. Callbacks may arrive on any thread, the ones that end an init,
+ * a load or a show are handed to the worker driving the placement together with the time they arrived at.
+ */
+final class ScenarioListener implements RewardedVideoSmashListener, InterstitialSmashListener {
+
+    enum Result {
+        INIT_SUCCESS,
+        INIT_FAILED,
+        LOADED,
+        LOAD_FAILED,
+        CLOSED,
+        SHOW_FAILED
+    }
+
+    private final LinkedBlockingQueue<Result> mResults = new LinkedBlockingQueue<>();
+    private final AtomicBoolean mLoadPending = new AtomicBoolean(false);
+    private final AtomicBoolean mShowPending = new AtomicBoolean(false);
+    private volatile long mLastResultNanos;
+
+    // Called right before the load call, only the first load result after it is reported.
+    // A result that arrived after its wait timed out is dropped.
+    void beginLoad() {
+        mResults.clear();
+        mLoadPending.set(true);
+    }
+
+    // Called right before the show call, only the first show result after it is reported
+    void beginShow() {
+        mResults.clear();
+        mShowPending.set(true);
+    }
+
+    // Returns null if no result arrived in time
+    Result awaitResult(long timeoutMillis) throws InterruptedException {
+        return mResults.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    long getLastResultNanos() {
+        return mLastResultNanos;
+    }
+
+    private void onResult(Result result) {
+        mLastResultNanos = System.nanoTime();
+        mResults.offer(result);
+    }
+
+    private void onLoadResult(boolean loaded) {
+        if (mLoadPending.compareAndSet(true, false)) {
+            onResult(loaded ? Result.LOADED : Result.LOAD_FAILED);
+        }
+    }
+
+    private void onShowResult(boolean closed) {
+        if (mShowPending.compareAndSet(true, false)) {
+            onResult(closed ? Result.CLOSED : Result.SHOW_FAILED);
+        }
+    }
+
+    //region Rewarded Video
+    @Override
+    public void onRewardedVideoInitSuccess() {
+        onResult(Result.INIT_SUCCESS);
+    }
+
+    @Override
+    public void onRewardedVideoInitFailed(IronSourceError error) {
+        onResult(Result.INIT_FAILED);
+    }
+
+    // Some adapters report a failed load only through the availability
+    @Override
+    public void onRewardedVideoAvailabilityChanged(boolean available) {
+        onLoadResult(available);
+    }
+
+    @Override
+    public void onRewardedVideoLoadFailed(IronSourceError error) {
+        onLoadResult(false);
+    }
+
+    @Override
+    public void onRewardedVideoAdOpened() {
+    }
+
+    @Override
+    public void onRewardedVideoAdClosed() {
+        onShowResult(true);
+    }
+
+    @Override
+    public void onRewardedVideoAdStarted() {
+    }
+
+    @Override
+    public void onRewardedVideoAdEnded() {
+    }
+
+    @Override
+    public void onRewardedVideoAdRewarded() {
+    }
+
+    @Override
+    public void onRewardedVideoAdShowFailed(IronSourceError error) {
+        onShowResult(false);
+    }
+
+    @Override
+    public void onRewardedVideoAdClicked() {
+    }
+
+    @Override
+    public void onRewardedVideoAdVisible() {
+    }
+    //endregion
+
+    //region Interstitial
+    @Override
+    public void onInterstitialInitSuccess() {
+        onResult(Result.INIT_SUCCESS);
+    }
+
+    @Override
+    public void onInterstitialInitFailed(IronSourceError error) {
+        onResult(Result.INIT_FAILED);
+    }
+
+    @Override
+    public void onInterstitialAdReady() {
+        onLoadResult(true);
+    }
+
+    @Override
+    public void onInterstitialAdLoadFailed(IronSourceError error) {
+        onLoadResult(false);
+    }
+
+    @Override
+    public void onInterstitialAdOpened() {
+    }
+
+    @Override
+    public void onInterstitialAdClosed() {
+        onShowResult(true);
+    }
+
+    @Override
+    public void onInterstitialAdShowSucceeded() {
+    }
+
+    @Override
+    public void onInterstitialAdShowFailed(IronSourceError error) {
+        onShowResult(false);
+    }
+
+    @Override
+    public void onInterstitialAdClicked() {
+    }
+
+    @Override
+    public void onInterstitialAdVisible() {
+    }
+    //endregion
+}
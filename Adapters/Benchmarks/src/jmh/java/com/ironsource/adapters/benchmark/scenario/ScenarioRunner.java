@@ -0,0 +1,359 @@
+package com.ironsource.adapters.benchmark.scenario;
+
+import com.ironsource.adapters.benchmark.Network;
+import com.ironsource.adapters.simulator.CallbackThread;
+import com.ironsource.adapters.simulator.FakeNetwork;
+import com.ironsource.adapters.simulator.FakeNetworkBehavior;
+import com.ironsource.adapters.simulator.LatencyDistribution;
+import com.ironsource.mediationsdk.AbstractAdapter;
+
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test of one adapter against its fake network: many placements go through load and show cycles from several
+ * worker threads, while the network answers with the configured latency, fill rate, error code and callback thread.
+ * Reports the cycle throughput, the load and show callback latencies and the heap growth over the run.
+ *
+ * <p>The Vungle, UnityAds, AdMob and Chartboost stand-ins go through {@link FakeNetwork}, the other networks always
+ * fill inline. Options are passed as {@code --name=value}:
+ * <pre>
+ *   --network=VUNGLE                    a {@link Network} name
+ *   --adUnit=rewarded                   rewarded or interstitial
+ *   --placements=100                    placements driven in parallel, each with its own smash listener
+ *   --cycles=5000                       load and show cycles over all the placements
+ *   --threads=4                         worker threads, each placement is driven by a single worker
+ *   --loadLatency=lognormal:300,0.6     see {@link LatencyDistribution#parse(String)}
+ *   --showLatency=fixed:0
+ *   --fillRate=0.9
+ *   --errorCode=-1                      network error code of unfilled loads, -1 for the network's no fill
+ *   --callbackThread=BACKGROUND         see {@link CallbackThread}
+ *   --timeoutMillis=10000               a load or show without a result in time is counted as a timeout
+ * </pre>
+ */
+public final class ScenarioRunner {
+
+    private static final class Placement {
+        private final JSONObject mConfig;
+        private final ScenarioListener mListener = new ScenarioListener();
+
+        private Placement(JSONObject config) {
+            mConfig = config;
+        }
+    }
+
+    private static final class WorkerResult {
+        private final long[] mLoadLatencyNanos;
+        private final long[] mShowLatencyNanos;
+        private int mLoads;
+        private int mShows;
+        private int mFills;
+        private int mLoadFailures;
+        private int mShowFailures;
+        private int mTimeouts;
+
+        private WorkerResult(int cycles) {
+            mLoadLatencyNanos = new long[cycles];
+            mShowLatencyNanos = new long[cycles];
+        }
+    }
+
+    private final Network mNetwork;
+    private final boolean mRewardedVideo;
+    private final int mPlacementCount;
+    private final int mCycles;
+    private final int mThreads;
+    private final long mTimeoutMillis;
+    private final FakeNetworkBehavior mBehavior;
+
+    private AbstractAdapter mAdapter;
+    private final List<Placement> mPlacements = new ArrayList<>();
+
+    private ScenarioRunner(Map<String, String> options) {
+        mNetwork = Network.valueOf(option(options, "network", "VUNGLE").toUpperCase(Locale.ENGLISH));
+        mRewardedVideo = !option(options, "adUnit", "rewarded").equalsIgnoreCase("interstitial");
+        mPlacementCount = Integer.parseInt(option(options, "placements", "100"));
+        mCycles = Integer.parseInt(option(options, "cycles", "5000"));
+        mThreads = Integer.parseInt(option(options, "threads", "4"));
+        mTimeoutMillis = Long.parseLong(option(options, "timeoutMillis", "10000"));
+        mBehavior = new FakeNetworkBehavior.Builder()
+                .setLoadLatency(LatencyDistribution.parse(option(options, "loadLatency", "lognormal:300,0.6")))
+                .setShowLatency(LatencyDistribution.parse(option(options, "showLatency", "none")))
+                .setFillRate(Double.parseDouble(option(options, "fillRate", "0.9")))
+                .setErrorCode(Integer.parseInt(option(options, "errorCode", String.valueOf(FakeNetworkBehavior.DEFAULT_ERROR_CODE))))
+                .setCallbackThread(CallbackThread.valueOf(option(options, "callbackThread", "BACKGROUND").toUpperCase(Locale.ENGLISH)))
+                .build();
+
+        if (mPlacementCount < mThreads) {
+            throw new IllegalArgumentException("at least one placement per thread is needed");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("expected --name=value, got " + arg);
+            }
+
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        new ScenarioRunner(options).run();
+    }
+
+    private static String option(Map<String, String> options, String name, String defaultValue) {
+        String value = options.get(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private void run() throws Exception {
+        FakeNetwork fakeNetwork = FakeNetwork.get(mNetwork.providerName());
+        fakeNetwork.setBehavior(mBehavior);
+
+        System.out.println("network = " + mNetwork + ", ad unit = " + (mRewardedVideo ? "rewarded video" : "interstitial")
+                + ", placements = " + mPlacementCount + ", cycles = " + mCycles + ", threads = " + mThreads);
+        System.out.println(mBehavior);
+
+        setUpPlacements();
+        fakeNetwork.resetCounters();
+        long heapBefore = usedHeapAfterGc();
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicLong peakHeap = new AtomicLong(heapBefore);
+        Thread heapSampler = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (running.get()) {
+                    Runtime runtime = Runtime.getRuntime();
+                    long used = runtime.totalMemory() - runtime.freeMemory();
+                    if (used > peakHeap.get()) {
+                        peakHeap.set(used);
+                    }
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        }, "ScenarioHeapSampler");
+        heapSampler.setDaemon(true);
+        heapSampler.start();
+
+        ExecutorService workers = Executors.newFixedThreadPool(mThreads);
+        List<Future<WorkerResult>> futures = new ArrayList<>();
+        long startNanos = System.nanoTime();
+
+        for (int i = 0; i < mThreads; i++) {
+            final int worker = i;
+            futures.add(workers.submit(new Callable<WorkerResult>() {
+                @Override
+                public WorkerResult call() throws Exception {
+                    return runWorker(worker);
+                }
+            }));
+        }
+
+        List<WorkerResult> results = new ArrayList<>();
+        for (Future<WorkerResult> future : futures) {
+            results.add(future.get());
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        workers.shutdown();
+        running.set(false);
+        heapSampler.join();
+        long heapAfter = usedHeapAfterGc();
+
+        report(results, elapsedNanos, heapBefore, heapAfter, peakHeap.get(), fakeNetwork);
+    }
+
+    private void setUpPlacements() throws InterruptedException {
+        mAdapter = mNetwork.startAdapter();
+
+        for (int i = 0; i < mPlacementCount; i++) {
+            Placement placement = new Placement(mNetwork.config("scenario-placement-" + i));
+            mPlacements.add(placement);
+
+            if (mRewardedVideo && !mNetwork.isBidding()) {
+                // the non bidding rewarded video init loads right away
+                placement.mListener.beginLoad();
+                mAdapter.initAndLoadRewardedVideo("", "scenario-user", placement.mConfig, placement.mListener);
+            } else if (mRewardedVideo) {
+                mAdapter.initRewardedVideoWithCallback("", "scenario-user", placement.mConfig, placement.mListener);
+            } else if (mNetwork.isBidding()) {
+                mAdapter.initInterstitialForBidding("", "scenario-user", placement.mConfig, placement.mListener);
+            } else {
+                mAdapter.initInterstitial("", "scenario-user", placement.mConfig, placement.mListener);
+            }
+
+            ScenarioListener.Result result = placement.mListener.awaitResult(mTimeoutMillis);
+            if (result == null || result == ScenarioListener.Result.INIT_FAILED) {
+                throw new IllegalStateException("placement " + i + " init failed: " + result);
+            }
+        }
+    }
+
+    // Worker i drives the placements i, i + threads, i + 2 * threads... in turns
+    private WorkerResult runWorker(int worker) throws InterruptedException {
+        List<Placement> placements = new ArrayList<>();
+        for (int i = worker; i < mPlacements.size(); i += mThreads) {
+            placements.add(mPlacements.get(i));
+        }
+
+        int cycles = mCycles / mThreads + (worker < mCycles % mThreads ? 1 : 0);
+        WorkerResult result = new WorkerResult(cycles);
+
+        for (int cycle = 0; cycle < cycles; cycle++) {
+            Placement placement = placements.get(cycle % placements.size());
+            ScenarioListener listener = placement.mListener;
+
+            listener.beginLoad();
+            long loadStart = System.nanoTime();
+            load(placement);
+            ScenarioListener.Result loadResult = listener.awaitResult(mTimeoutMillis);
+
+            if (loadResult == null) {
+                result.mTimeouts++;
+                continue;
+            }
+
+            result.mLoadLatencyNanos[result.mLoads++] = listener.getLastResultNanos() - loadStart;
+
+            if (loadResult != ScenarioListener.Result.LOADED) {
+                result.mLoadFailures++;
+                continue;
+            }
+
+            result.mFills++;
+            listener.beginShow();
+            long showStart = System.nanoTime();
+            show(placement);
+            ScenarioListener.Result showResult = listener.awaitResult(mTimeoutMillis);
+
+            if (showResult == null) {
+                result.mTimeouts++;
+                continue;
+            }
+
+            result.mShowLatencyNanos[result.mShows++] = listener.getLastResultNanos() - showStart;
+
+            if (showResult != ScenarioListener.Result.CLOSED) {
+                result.mShowFailures++;
+            }
+        }
+
+        return result;
+    }
+
+    private void load(Placement placement) {
+        if (mRewardedVideo && mNetwork.isBidding()) {
+            mAdapter.loadRewardedVideoForBidding(placement.mConfig, placement.mListener, mNetwork.biddingPayload());
+        } else if (mRewardedVideo) {
+            mAdapter.fetchRewardedVideoForAutomaticLoad(placement.mConfig, placement.mListener);
+        } else if (mNetwork.isBidding()) {
+            mAdapter.loadInterstitialForBidding(placement.mConfig, placement.mListener, mNetwork.biddingPayload());
+        } else {
+            mAdapter.loadInterstitial(placement.mConfig, placement.mListener);
+        }
+    }
+
+    private void show(Placement placement) {
+        if (mRewardedVideo) {
+            mAdapter.showRewardedVideo(placement.mConfig, placement.mListener);
+        } else {
+            mAdapter.showInterstitial(placement.mConfig, placement.mListener);
+        }
+    }
+
+    private void report(List<WorkerResult> results, long elapsedNanos, long heapBefore, long heapAfter, long peakHeap,
+                        FakeNetwork fakeNetwork) {
+        int loads = 0;
+        int shows = 0;
+        int fills = 0;
+        int loadFailures = 0;
+        int showFailures = 0;
+        int timeouts = 0;
+
+        for (WorkerResult result : results) {
+            loads += result.mLoads;
+            shows += result.mShows;
+            fills += result.mFills;
+            loadFailures += result.mLoadFailures;
+            showFailures += result.mShowFailures;
+            timeouts += result.mTimeouts;
+        }
+
+        long[] loadLatencies = new long[loads];
+        long[] showLatencies = new long[shows];
+        int loadIndex = 0;
+        int showIndex = 0;
+
+        for (WorkerResult result : results) {
+            System.arraycopy(result.mLoadLatencyNanos, 0, loadLatencies, loadIndex, result.mLoads);
+            System.arraycopy(result.mShowLatencyNanos, 0, showLatencies, showIndex, result.mShows);
+            loadIndex += result.mLoads;
+            showIndex += result.mShows;
+        }
+
+        double seconds = elapsedNanos / 1e9;
+        System.out.println();
+        System.out.printf(Locale.ENGLISH, "elapsed            %.2f s%n", seconds);
+        System.out.printf(Locale.ENGLISH, "throughput         %.1f cycles/s, %.1f loads/s%n", mCycles / seconds, loads / seconds);
+        System.out.printf(Locale.ENGLISH, "loads              %d (filled %d, failed %d), shows %d (failed %d), timeouts %d%n",
+                loads, fills, loadFailures, shows, showFailures, timeouts);
+        System.out.printf(Locale.ENGLISH, "network            loads %d, fills %d, failures %d, shows %d%n",
+                fakeNetwork.getLoads(), fakeNetwork.getFills(), fakeNetwork.getFailures(), fakeNetwork.getShows());
+        if (fakeNetwork.getLoads() == 0) {
+            System.out.println("                   the " + fakeNetwork.getName() + " stand-in doesn't go through FakeNetwork, the behavior was not applied");
+        }
+        System.out.println("load callback      " + percentiles(loadLatencies));
+        System.out.println("show callback      " + percentiles(showLatencies));
+        System.out.printf(Locale.ENGLISH, "heap               before %.1f MB, after %.1f MB, peak %.1f MB%n",
+                heapBefore / 1e6, heapAfter / 1e6, peakHeap / 1e6);
+        System.out.printf(Locale.ENGLISH, "heap growth        %.1f KB, %.1f bytes/cycle%n",
+                (heapAfter - heapBefore) / 1e3, (double) (heapAfter - heapBefore) / Math.max(mCycles, 1));
+    }
+
+    private static String percentiles(long[] latenciesNanos) {
+        if (latenciesNanos.length == 0) {
+            return "no samples";
+        }
+
+        Arrays.sort(latenciesNanos);
+        return String.format(Locale.ENGLISH, "p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms",
+                percentile(latenciesNanos, 0.5), percentile(latenciesNanos, 0.9), percentile(latenciesNanos, 0.99),
+                latenciesNanos[latenciesNanos.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sortedNanos, double fraction) {
+        int index = (int) Math.min(sortedNanos.length - 1, Math.round(fraction * (sortedNanos.length - 1)));
+        return sortedNanos[index] / 1e6;
+    }
+
+    // Several collections in a row so what is left is what the adapters actually retain
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
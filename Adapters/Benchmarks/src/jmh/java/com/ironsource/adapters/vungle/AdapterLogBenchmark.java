@@ -0,0 +1,74 @@
+package com.ironsource.adapters.vungle;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+import com.ironsource.mediationsdk.logger.IronSourceLogger.IronSourceLogLevel;
+import com.ironsource.mediationsdk.logger.IronSourceLoggerManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The logging calls made on every adapter load, show and callback path, with the mediation log level at verbose and info.
+ * Every adapter keeps the same package-private AdapterLog, the Vungle one is measured here since the benchmark has to
+ * live in its package. Run with "-prof gc": with verbose disabled gc.alloc.rate.norm is expected to be ~0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdapterLogBenchmark {
+
+    @Param({"false", "true"})
+    public boolean verbose;
+
+    private String mPlacementId;
+    private String mAppId;
+    private Integer mErrorCode;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        IronSourceLoggerManager.getLogger().setDebugLevel(verbose ? IronSourceLogLevel.VERBOSE : IronSourceLogLevel.INFO);
+        mPlacementId = "bench-placement";
+        mAppId = "bench-app";
+        mErrorCode = 1001;
+    }
+
+    @Benchmark
+    public void noArguments() {
+        AdapterLog.verbose(IronLog.ADAPTER_API);
+    }
+
+    @Benchmark
+    public void message() {
+        AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
+    }
+
+    @Benchmark
+    public void oneArgument() {
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+    }
+
+    @Benchmark
+    public void twoArguments() {
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}, appId = {}", mPlacementId, mAppId);
+    }
+
+    @Benchmark
+    public void threeArguments() {
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}, appId = {}, errorCode = {}", mPlacementId, mAppId, mErrorCode);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ironsource.adapters.simulator;
+
+/**
+ * Thread a fake network delivers its load and show callbacks on.
+ */
+public enum CallbackThread {
+    // The SDK call blocks for the sampled latency and calls back before returning, like a synchronous SDK API
+    CALLING_THREAD,
+    // A single thread shared by all the fake networks, standing in for the Android main thread
+    MAIN,
+    // A pool of threads shared by all the fake networks, standing in for the SDKs' own worker threads
+    BACKGROUND
+}
@@ -0,0 +1,191 @@
+package com.ironsource.adapters.simulator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Programmable behavior of a network SDK stand-in. The stand-ins pass their load and show results through here,
+ * so a scenario can give a network latency, partial fill, error codes and callbacks on other threads.
+ * A network without a behavior keeps the stand-in default: every load fills and callbacks run inline.
+ */
+public final class FakeNetwork {
+
+    public interface LoadResult {
+        void onFilled();
+
+        void onFailed(int errorCode);
+    }
+
+    private static final ConcurrentHashMap<String, FakeNetwork> sNetworks = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService sTimer = Executors.newSingleThreadScheduledExecutor(daemonThreads("FakeNetworkTimer"));
+    private static final ExecutorService sMainThread = Executors.newSingleThreadExecutor(daemonThreads("FakeNetworkMain"));
+    private static final ExecutorService sBackgroundThreads = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), daemonThreads("FakeNetworkWorker"));
+
+    private final String mName;
+    private volatile FakeNetworkBehavior mBehavior;
+    private final AtomicLong mLoads = new AtomicLong();
+    private final AtomicLong mFills = new AtomicLong();
+    private final AtomicLong mFailures = new AtomicLong();
+    private final AtomicLong mShows = new AtomicLong();
+
+    private FakeNetwork(String name) {
+        mName = name;
+    }
+
+    // Names match the provider names of the benchmarked adapters, e.g. "Vungle" or "UnityAds"
+    public static FakeNetwork get(String name) {
+        FakeNetwork network = sNetworks.get(name);
+
+        if (network == null) {
+            FakeNetwork newNetwork = new FakeNetwork(name);
+            network = sNetworks.putIfAbsent(name, newNetwork);
+
+            if (network == null) {
+                network = newNetwork;
+            }
+        }
+
+        return network;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    // A null behavior restores the stand-in default
+    public void setBehavior(FakeNetworkBehavior behavior) {
+        mBehavior = behavior;
+    }
+
+    public FakeNetworkBehavior getBehavior() {
+        return mBehavior;
+    }
+
+    public void resetCounters() {
+        mLoads.set(0);
+        mFills.set(0);
+        mFailures.set(0);
+        mShows.set(0);
+    }
+
+    public long getLoads() {
+        return mLoads.get();
+    }
+
+    public long getFills() {
+        return mFills.get();
+    }
+
+    public long getFailures() {
+        return mFailures.get();
+    }
+
+    public long getShows() {
+        return mShows.get();
+    }
+
+    // Called by the stand-in for every ad load, noFillCode is the network's own code used unless the behavior sets one
+    public void load(final int noFillCode, final LoadResult result) {
+        mLoads.incrementAndGet();
+        FakeNetworkBehavior behavior = mBehavior;
+
+        if (behavior == null) {
+            mFills.incrementAndGet();
+            result.onFilled();
+            return;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        final boolean filled = random.nextDouble() < behavior.getFillRate();
+        final int errorCode = behavior.getErrorCode() == FakeNetworkBehavior.DEFAULT_ERROR_CODE ? noFillCode : behavior.getErrorCode();
+
+        deliver(behavior.getCallbackThread(), behavior.getLoadLatency().sampleMillis(random), new Runnable() {
+            @Override
+            public void run() {
+                if (filled) {
+                    mFills.incrementAndGet();
+                    result.onFilled();
+                } else {
+                    mFailures.incrementAndGet();
+                    result.onFailed(errorCode);
+                }
+            }
+        });
+    }
+
+    // Called by the stand-in once an ad is ready to be shown, callbacks runs the show callbacks of the ad
+    public void show(Runnable callbacks) {
+        mShows.incrementAndGet();
+        FakeNetworkBehavior behavior = mBehavior;
+
+        if (behavior == null) {
+            callbacks.run();
+            return;
+        }
+
+        deliver(behavior.getCallbackThread(), behavior.getShowLatency().sampleMillis(ThreadLocalRandom.current()), callbacks);
+    }
+
+    private static void deliver(CallbackThread callbackThread, long latencyMillis, final Runnable callback) {
+        switch (callbackThread) {
+            case MAIN:
+                deliverOn(sMainThread, latencyMillis, callback);
+                break;
+            case BACKGROUND:
+                deliverOn(sBackgroundThreads, latencyMillis, callback);
+                break;
+            default:
+                sleep(latencyMillis);
+                callback.run();
+                break;
+        }
+    }
+
+    private static void deliverOn(final ExecutorService executor, long latencyMillis, final Runnable callback) {
+        if (latencyMillis <= 0) {
+            executor.execute(callback);
+            return;
+        }
+
+        sTimer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                executor.execute(callback);
+            }
+        }, latencyMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(final String name) {
+        final AtomicInteger count = new AtomicInteger();
+
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
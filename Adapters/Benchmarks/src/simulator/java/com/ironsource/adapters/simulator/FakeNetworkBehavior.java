@@ -0,0 +1,94 @@
+package com.ironsource.adapters.simulator;
+
+/**
+ * How a fake network answers the adapters: the latency of loads and shows, the share of loads that fill,
+ * the error code of the loads that don't and the thread the callbacks are delivered on.
+ */
+public final class FakeNetworkBehavior {
+
+    // The network stand-in reports its own no fill code
+    public static final int DEFAULT_ERROR_CODE = -1;
+
+    private final LatencyDistribution mLoadLatency;
+    private final LatencyDistribution mShowLatency;
+    private final double mFillRate;
+    private final int mErrorCode;
+    private final CallbackThread mCallbackThread;
+
+    private FakeNetworkBehavior(Builder builder) {
+        mLoadLatency = builder.mLoadLatency;
+        mShowLatency = builder.mShowLatency;
+        mFillRate = builder.mFillRate;
+        mErrorCode = builder.mErrorCode;
+        mCallbackThread = builder.mCallbackThread;
+    }
+
+    public LatencyDistribution getLoadLatency() {
+        return mLoadLatency;
+    }
+
+    public LatencyDistribution getShowLatency() {
+        return mShowLatency;
+    }
+
+    public double getFillRate() {
+        return mFillRate;
+    }
+
+    public int getErrorCode() {
+        return mErrorCode;
+    }
+
+    public CallbackThread getCallbackThread() {
+        return mCallbackThread;
+    }
+
+    @Override
+    public String toString() {
+        return "load latency = " + mLoadLatency + ", show latency = " + mShowLatency + ", fill rate = " + mFillRate
+                + ", error code = " + (mErrorCode == DEFAULT_ERROR_CODE ? "no fill" : String.valueOf(mErrorCode))
+                + ", callback thread = " + mCallbackThread;
+    }
+
+    public static final class Builder {
+        private LatencyDistribution mLoadLatency = LatencyDistribution.none();
+        private LatencyDistribution mShowLatency = LatencyDistribution.none();
+        private double mFillRate = 1.0;
+        private int mErrorCode = DEFAULT_ERROR_CODE;
+        private CallbackThread mCallbackThread = CallbackThread.CALLING_THREAD;
+
+        public Builder setLoadLatency(LatencyDistribution loadLatency) {
+            mLoadLatency = loadLatency;
+            return this;
+        }
+
+        public Builder setShowLatency(LatencyDistribution showLatency) {
+            mShowLatency = showLatency;
+            return this;
+        }
+
+        public Builder setFillRate(double fillRate) {
+            if (fillRate < 0 || fillRate > 1) {
+                throw new IllegalArgumentException("fill rate must be between 0 and 1, got " + fillRate);
+            }
+
+            mFillRate = fillRate;
+            return this;
+        }
+
+        // Network specific code reported for the loads that don't fill, see the network stand-in for its meaning
+        public Builder setErrorCode(int errorCode) {
+            mErrorCode = errorCode;
+            return this;
+        }
+
+        public Builder setCallbackThread(CallbackThread callbackThread) {
+            mCallbackThread = callbackThread;
+            return this;
+        }
+
+        public FakeNetworkBehavior build() {
+            return new FakeNetworkBehavior(this);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ironsource.adapters.simulator;
+
+import java.util.Random;
+
+/**
+ * Distribution the fake networks draw their load and show latencies from, in milliseconds.
+ * Can be parsed from the scenario arguments: {@code none}, {@code fixed:50}, {@code uniform:20-400}
+ * or {@code lognormal:300,0.6} (median and sigma).
+ */
+public abstract class LatencyDistribution {
+
+    public abstract long sampleMillis(Random random);
+
+    public static LatencyDistribution none() {
+        return fixed(0);
+    }
+
+    public static LatencyDistribution fixed(final long millis) {
+        return new LatencyDistribution() {
+            @Override
+            public long sampleMillis(Random random) {
+                return millis;
+            }
+
+            @Override
+            public String toString() {
+                return "fixed:" + millis;
+            }
+        };
+    }
+
+    public static LatencyDistribution uniform(final long minMillis, final long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("uniform max " + maxMillis + " is smaller than min " + minMillis);
+        }
+
+        return new LatencyDistribution() {
+            @Override
+            public long sampleMillis(Random random) {
+                return minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+            }
+
+            @Override
+            public String toString() {
+                return "uniform:" + minMillis + "-" + maxMillis;
+            }
+        };
+    }
+
+    // Ad server latencies have a long right tail, a log-normal around the median fits them well
+    public static LatencyDistribution logNormal(final long medianMillis, final double sigma) {
+        final double mu = Math.log(Math.max(medianMillis, 1));
+
+        return new LatencyDistribution() {
+            @Override
+            public long sampleMillis(Random random) {
+                return Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+            }
+
+            @Override
+            public String toString() {
+                return "lognormal:" + medianMillis + "," + sigma;
+            }
+        };
+    }
+
+    public static LatencyDistribution parse(String value) {
+        String[] parts = value.trim().split(":", 2);
+        String type = parts[0].toLowerCase();
+
+        try {
+            switch (type) {
+                case "none":
+                    return none();
+                case "fixed":
+                    return fixed(Long.parseLong(parts[1].trim()));
+                case "uniform": {
+                    String[] range = parts[1].split("-");
+                    return uniform(Long.parseLong(range[0].trim()), Long.parseLong(range[1].trim()));
+                }
+                case "lognormal": {
+                    String[] params = parts[1].split(",");
+                    return logNormal(Long.parseLong(params[0].trim()), Double.parseDouble(params[1].trim()));
+                }
+                default:
+                    break;
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid latency distribution: " + value, e);
+        }
+
+        throw new IllegalArgumentException("unknown latency distribution: " + value);
+    }
+}
@@ -0,0 +1,35 @@
+package android.app;
+
+import android.content.Context;
+
+// JVM stand-in for android.app.Activity
+public class Activity extends Context {
+    private final Application mApplication;
+    private boolean mFinishing;
+
+    public Activity(Application application) {
+        mApplication = application;
+    }
+
+    public boolean isFinishing() {
+        return mFinishing;
+    }
+
+    // Finishes the activity and reports it destroyed to the application callbacks
+    public void finish() {
+        mFinishing = true;
+
+        if (mApplication != null) {
+            mApplication.dispatchActivityDestroyed(this);
+        }
+    }
+
+    public Application getApplication() {
+        return mApplication;
+    }
+
+    @Override
+    public Context getApplicationContext() {
+        return mApplication;
+    }
+}
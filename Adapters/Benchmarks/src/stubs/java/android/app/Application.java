@@ -0,0 +1,41 @@
+package android.app;
+
+import android.content.Context;
+import android.os.Bundle;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// JVM stand-in for android.app.Application, registered activity callbacks can be driven with dispatchActivityDestroyed
+public class Application extends Context {
+    private final CopyOnWriteArrayList<ActivityLifecycleCallbacks> mActivityLifecycleCallbacks = new CopyOnWriteArrayList<>();
+
+    public interface ActivityLifecycleCallbacks {
+        void onActivityCreated(Activity activity, Bundle savedInstanceState);
+
+        void onActivityStarted(Activity activity);
+
+        void onActivityResumed(Activity activity);
+
+        void onActivityPaused(Activity activity);
+
+        void onActivityStopped(Activity activity);
+
+        void onActivitySaveInstanceState(Activity activity, Bundle outState);
+
+        void onActivityDestroyed(Activity activity);
+    }
+
+    public void registerActivityLifecycleCallbacks(ActivityLifecycleCallbacks callback) {
+        mActivityLifecycleCallbacks.add(callback);
+    }
+
+    public void unregisterActivityLifecycleCallbacks(ActivityLifecycleCallbacks callback) {
+        mActivityLifecycleCallbacks.remove(callback);
+    }
+
+    public void dispatchActivityDestroyed(Activity activity) {
+        for (ActivityLifecycleCallbacks callback : mActivityLifecycleCallbacks) {
+            callback.onActivityDestroyed(activity);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package android.content;
+
+import android.content.res.Configuration;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// JVM stand-in for android.content.Context, registered callbacks can be driven with dispatchTrimMemory
+// and dispatchConfigurationChanged
+public class Context {
+    private final CopyOnWriteArrayList<ComponentCallbacks> mComponentCallbacks = new CopyOnWriteArrayList<>();
+
+    public Context getApplicationContext() {
+        return this;
+    }
+
+    public void registerComponentCallbacks(ComponentCallbacks callback) {
+        mComponentCallbacks.add(callback);
+    }
+
+    public void unregisterComponentCallbacks(ComponentCallbacks callback) {
+        mComponentCallbacks.remove(callback);
+    }
+
+    public void dispatchTrimMemory(int level) {
+        for (ComponentCallbacks callback : mComponentCallbacks) {
+            if (callback instanceof ComponentCallbacks2) {
+                ((ComponentCallbacks2) callback).onTrimMemory(level);
+            }
+        }
+    }
+
+    public void dispatchConfigurationChanged(Configuration newConfig) {
+        for (ComponentCallbacks callback : mComponentCallbacks) {
+            callback.onConfigurationChanged(newConfig);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package android.os;
+
+import java.util.HashMap;
+
+// JVM stand-in for android.os.Bundle
+public class Bundle {
+    private final HashMap<String, Object> mValues = new HashMap<>();
+
+    public void putString(String key, String value) {
+        mValues.put(key, value);
+    }
+
+    public void putInt(String key, int value) {
+        mValues.put(key, value);
+    }
+
+    public Object get(String key) {
+        return mValues.get(key);
+    }
+}
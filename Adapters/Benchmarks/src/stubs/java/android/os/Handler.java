@@ -0,0 +1,39 @@
+package android.os;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+// JVM stand-in for android.os.Handler, posted work runs inline on the calling thread,
+// delayed work runs on a shared timer thread once the delay passed
+public class Handler {
+    private static final ScheduledExecutorService sTimer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "HandlerTimer");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    public Handler() {
+    }
+
+    public Handler(Looper looper) {
+    }
+
+    public boolean post(Runnable runnable) {
+        runnable.run();
+        return true;
+    }
+
+    public boolean postDelayed(Runnable runnable, long delayMillis) {
+        if (delayMillis <= 0) {
+            return post(runnable);
+        }
+
+        sTimer.schedule(runnable, delayMillis, TimeUnit.MILLISECONDS);
+        return true;
+    }
+}
@@ -0,0 +1,32 @@
+package android.os;
+
+// JVM stand-in for android.os.Looper, the benchmark thread acts as the main thread. A thread that calls prepare gets
+// a looper of its own and stops acting as the main thread
+public final class Looper {
+    private static final Looper sMainLooper = new Looper();
+    private static final ThreadLocal<Looper> sThreadLooper = new ThreadLocal<Looper>() {
+        @Override
+        protected Looper initialValue() {
+            return sMainLooper;
+        }
+    };
+
+    private Looper() {
+    }
+
+    public static void prepare() {
+        if (sThreadLooper.get() != sMainLooper) {
+            throw new RuntimeException("Only one Looper may be created per thread");
+        }
+
+        sThreadLooper.set(new Looper());
+    }
+
+    public static Looper getMainLooper() {
+        return sMainLooper;
+    }
+
+    public static Looper myLooper() {
+        return sThreadLooper.get();
+    }
+}
@@ -0,0 +1,24 @@
+package android.os;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// JVM stand-in for android.os.SystemClock, backed by the JVM monotonic clock. Tests can move the clock forward with
+// advance instead of sleeping through a TTL
+public final class SystemClock {
+    private static final AtomicLong sOffsetMillis = new AtomicLong();
+
+    private SystemClock() {
+    }
+
+    public static long elapsedRealtime() {
+        return System.nanoTime() / 1000000L + sOffsetMillis.get();
+    }
+
+    public static long uptimeMillis() {
+        return System.nanoTime() / 1000000L + sOffsetMillis.get();
+    }
+
+    public static void advance(long millis) {
+        sOffsetMillis.addAndGet(millis);
+    }
+}
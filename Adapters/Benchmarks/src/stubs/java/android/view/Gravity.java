@@ -0,0 +1,6 @@
+package android.view;
+
+// JVM stand-in for android.view.Gravity
+public class Gravity {
+    public static final int CENTER = 17;
+}
@@ -0,0 +1,47 @@
+package android.view;
+
+import android.content.Context;
+
+// JVM stand-in for android.view.View, a view counts as shown while it's visible
+public class View {
+    public static final int VISIBLE = 0;
+    public static final int INVISIBLE = 4;
+    public static final int GONE = 8;
+
+    private final Context mContext;
+    private ViewGroup.LayoutParams mLayoutParams;
+    private int mVisibility = VISIBLE;
+    ViewParent mParent;
+
+    public View(Context context) {
+        mContext = context;
+    }
+
+    public Context getContext() {
+        return mContext;
+    }
+
+    public ViewParent getParent() {
+        return mParent;
+    }
+
+    public ViewGroup.LayoutParams getLayoutParams() {
+        return mLayoutParams;
+    }
+
+    public void setLayoutParams(ViewGroup.LayoutParams params) {
+        mLayoutParams = params;
+    }
+
+    public int getVisibility() {
+        return mVisibility;
+    }
+
+    public void setVisibility(int visibility) {
+        mVisibility = visibility;
+    }
+
+    public boolean isShown() {
+        return mVisibility == VISIBLE;
+    }
+}
@@ -0,0 +1,54 @@
+package android.view;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+
+// JVM stand-in for android.view.ViewGroup
+public class ViewGroup extends View implements ViewParent {
+    private final ArrayList<View> mChildren = new ArrayList<>();
+
+    public ViewGroup(Context context) {
+        super(context);
+    }
+
+    public void addView(View child) {
+        if (child.mParent != null) {
+            throw new IllegalStateException("The specified child already has a parent");
+        }
+
+        child.mParent = this;
+        mChildren.add(child);
+    }
+
+    public void removeView(View view) {
+        if (mChildren.remove(view)) {
+            view.mParent = null;
+        }
+    }
+
+    public void removeAllViews() {
+        for (View child : mChildren) {
+            child.mParent = null;
+        }
+
+        mChildren.clear();
+    }
+
+    public int getChildCount() {
+        return mChildren.size();
+    }
+
+    public static class LayoutParams {
+        public static final int MATCH_PARENT = -1;
+        public static final int WRAP_CONTENT = -2;
+
+        public int width;
+        public int height;
+
+        public LayoutParams(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.adcolony.sdk;
+
+import android.app.Application;
+import android.content.Context;
+
+// In-memory stand-in for the AdColony SDK, every request fills and callbacks run inline
+public class AdColony {
+    private static volatile Context sContext;
+    private static volatile AdColonyAppOptions sAppOptions;
+    private static volatile AdColonyRewardListener sRewardListener;
+
+    public static boolean configure(Application application, AdColonyAppOptions options, String appID) {
+        sContext = application;
+        sAppOptions = options;
+        return true;
+    }
+
+    public static boolean setAppOptions(AdColonyAppOptions options) {
+        sAppOptions = options;
+        return true;
+    }
+
+    public static AdColonyAppOptions getAppOptions() {
+        return sAppOptions;
+    }
+
+    public static String getSDKVersion() {
+        return "4.8.0";
+    }
+
+    public static String collectSignals() {
+        return "adcolony-signals";
+    }
+
+    public static boolean setRewardListener(AdColonyRewardListener listener) {
+        sRewardListener = listener;
+        return true;
+    }
+
+    public static AdColonyRewardListener getRewardListener() {
+        return sRewardListener;
+    }
+
+    public static boolean requestInterstitial(String zoneID, AdColonyInterstitialListener listener) {
+        return requestInterstitial(zoneID, listener, null);
+    }
+
+    public static boolean requestInterstitial(String zoneID, AdColonyInterstitialListener listener, AdColonyAdOptions options) {
+        if (sContext == null) {
+            listener.onRequestNotFilled(new AdColonyZone(zoneID));
+            return false;
+        }
+
+        listener.onRequestFilled(new AdColonyInterstitial(zoneID, listener));
+        return true;
+    }
+
+    public static boolean requestAdView(String zoneID, AdColonyAdViewListener listener, AdColonyAdSize adSize) {
+        return requestAdView(zoneID, listener, adSize, null);
+    }
+
+    public static boolean requestAdView(String zoneID, AdColonyAdViewListener listener, AdColonyAdSize adSize, AdColonyAdOptions options) {
+        if (sContext == null) {
+            listener.onRequestNotFilled(new AdColonyZone(zoneID));
+            return false;
+        }
+
+        AdColonyAdView adView = new AdColonyAdView(sContext, zoneID, adSize);
+        listener.onRequestFilled(adView);
+        listener.onShow(adView);
+        return true;
+    }
+}
@@ -0,0 +1,16 @@
+package com.adcolony.sdk;
+
+import java.util.HashMap;
+
+public class AdColonyAdOptions {
+    private final HashMap<String, String> mOptions = new HashMap<>();
+
+    public AdColonyAdOptions setOption(String key, String value) {
+        mOptions.put(key, value);
+        return this;
+    }
+
+    public String getOption(String key) {
+        return mOptions.get(key);
+    }
+}
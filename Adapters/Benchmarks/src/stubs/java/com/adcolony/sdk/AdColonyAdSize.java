@@ -0,0 +1,24 @@
+package com.adcolony.sdk;
+
+public class AdColonyAdSize {
+    public static final AdColonyAdSize BANNER = new AdColonyAdSize(320, 50);
+    public static final AdColonyAdSize MEDIUM_RECTANGLE = new AdColonyAdSize(300, 250);
+    public static final AdColonyAdSize LEADERBOARD = new AdColonyAdSize(728, 90);
+    public static final AdColonyAdSize SKYSCRAPER = new AdColonyAdSize(160, 600);
+
+    private final int mWidth;
+    private final int mHeight;
+
+    public AdColonyAdSize(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+}
@@ -0,0 +1,33 @@
+package com.adcolony.sdk;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+public class AdColonyAdView extends FrameLayout {
+    private final String mZoneID;
+    private final AdColonyAdSize mAdSize;
+    private boolean mDestroyed;
+
+    AdColonyAdView(Context context, String zoneID, AdColonyAdSize adSize) {
+        super(context);
+        mZoneID = zoneID;
+        mAdSize = adSize;
+    }
+
+    public String getZoneID() {
+        return mZoneID;
+    }
+
+    public AdColonyAdSize getAdSize() {
+        return mAdSize;
+    }
+
+    public boolean destroy() {
+        mDestroyed = true;
+        return true;
+    }
+
+    public boolean isDestroyed() {
+        return mDestroyed;
+    }
+}
@@ -0,0 +1,23 @@
+package com.adcolony.sdk;
+
+public abstract class AdColonyAdViewListener {
+    public abstract void onRequestFilled(AdColonyAdView ad);
+
+    public void onRequestNotFilled(AdColonyZone zone) {
+    }
+
+    public void onShow(AdColonyAdView ad) {
+    }
+
+    public void onOpened(AdColonyAdView ad) {
+    }
+
+    public void onClosed(AdColonyAdView ad) {
+    }
+
+    public void onLeftApplication(AdColonyAdView ad) {
+    }
+
+    public void onClicked(AdColonyAdView ad) {
+    }
+}
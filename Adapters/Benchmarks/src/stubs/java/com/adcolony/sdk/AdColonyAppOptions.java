@@ -0,0 +1,41 @@
+package com.adcolony.sdk;
+
+import java.util.HashMap;
+
+public class AdColonyAppOptions {
+    public static final String GDPR = "GDPR";
+    public static final String CCPA = "CCPA";
+    public static final String COPPA = "COPPA";
+
+    private final HashMap<String, Object> mOptions = new HashMap<>();
+
+    public AdColonyAppOptions setUserID(String userID) {
+        mOptions.put("user_id", userID);
+        return this;
+    }
+
+    public AdColonyAppOptions setMediationNetwork(String name, String version) {
+        mOptions.put("mediation_network", name);
+        mOptions.put("mediation_network_version", version);
+        return this;
+    }
+
+    public AdColonyAppOptions setPrivacyConsentString(String framework, String consentString) {
+        mOptions.put(framework.toLowerCase() + "_consent_string", consentString);
+        return this;
+    }
+
+    public AdColonyAppOptions setPrivacyFrameworkRequired(String framework, boolean required) {
+        mOptions.put(framework.toLowerCase() + "_required", required);
+        return this;
+    }
+
+    public AdColonyAppOptions setIsChildDirectedApp(boolean isChildDirectedApp) {
+        mOptions.put("is_child_directed", isChildDirectedApp);
+        return this;
+    }
+
+    public Object getOption(String key) {
+        return mOptions.get(key);
+    }
+}
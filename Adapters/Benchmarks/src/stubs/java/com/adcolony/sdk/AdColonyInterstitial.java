@@ -0,0 +1,41 @@
+package com.adcolony.sdk;
+
+public class AdColonyInterstitial {
+    private final String mZoneID;
+    private AdColonyInterstitialListener mListener;
+    private boolean mShown;
+
+    AdColonyInterstitial(String zoneID, AdColonyInterstitialListener listener) {
+        mZoneID = zoneID;
+        mListener = listener;
+    }
+
+    public String getZoneID() {
+        return mZoneID;
+    }
+
+    public boolean isExpired() {
+        return mShown;
+    }
+
+    public boolean show() {
+        AdColonyInterstitialListener listener = mListener;
+        if (mShown || listener == null) {
+            return false;
+        }
+
+        mShown = true;
+        listener.onOpened(this);
+        AdColonyRewardListener rewardListener = AdColony.getRewardListener();
+        if (rewardListener != null) {
+            rewardListener.onReward(new AdColonyReward(mZoneID, true));
+        }
+        listener.onClosed(this);
+        return true;
+    }
+
+    public boolean destroy() {
+        mListener = null;
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package com.adcolony.sdk;
+
+public class AdColonyReward {
+    private final String mZoneID;
+    private final boolean mSuccess;
+
+    AdColonyReward(String zoneID, boolean success) {
+        mZoneID = zoneID;
+        mSuccess = success;
+    }
+
+    public String getZoneID() {
+        return mZoneID;
+    }
+
+    public String getRewardName() {
+        return "coins";
+    }
+
+    public int getRewardAmount() {
+        return 1;
+    }
+
+    public boolean success() {
+        return mSuccess;
+    }
+}
@@ -0,0 +1,5 @@
+package com.adcolony.sdk;
+
+public interface AdColonyRewardListener {
+    void onReward(AdColonyReward reward);
+}
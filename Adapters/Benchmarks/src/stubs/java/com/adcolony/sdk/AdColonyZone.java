@@ -0,0 +1,17 @@
+package com.adcolony.sdk;
+
+public class AdColonyZone {
+    private final String mZoneID;
+
+    AdColonyZone(String zoneID) {
+        mZoneID = zoneID;
+    }
+
+    public String getZoneID() {
+        return mZoneID;
+    }
+
+    public boolean isValid() {
+        return true;
+    }
+}
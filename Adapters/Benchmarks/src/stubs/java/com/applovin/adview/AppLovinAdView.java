@@ -0,0 +1,53 @@
+package com.applovin.adview;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdClickListener;
+import com.applovin.sdk.AppLovinAdDisplayListener;
+import com.applovin.sdk.AppLovinAdSize;
+import com.applovin.sdk.AppLovinSdk;
+
+public class AppLovinAdView extends FrameLayout {
+    private final AppLovinAdSize mAdSize;
+    private AppLovinAdDisplayListener mAdDisplayListener;
+    private AppLovinAdClickListener mAdClickListener;
+    private AppLovinAdViewEventListener mAdViewEventListener;
+    private AppLovinAd mRenderedAd;
+
+    public AppLovinAdView(AppLovinSdk sdk, AppLovinAdSize adSize, Context context) {
+        super(context);
+        mAdSize = adSize;
+    }
+
+    public AppLovinAdSize getSize() {
+        return mAdSize;
+    }
+
+    public void setAdDisplayListener(AppLovinAdDisplayListener adDisplayListener) {
+        mAdDisplayListener = adDisplayListener;
+    }
+
+    public void setAdClickListener(AppLovinAdClickListener adClickListener) {
+        mAdClickListener = adClickListener;
+    }
+
+    public void setAdViewEventListener(AppLovinAdViewEventListener adViewEventListener) {
+        mAdViewEventListener = adViewEventListener;
+    }
+
+    public void renderAd(AppLovinAd ad) {
+        mRenderedAd = ad;
+        if (mAdDisplayListener != null) {
+            mAdDisplayListener.adDisplayed(ad);
+        }
+    }
+
+    public void destroy() {
+        mRenderedAd = null;
+        mAdDisplayListener = null;
+        mAdClickListener = null;
+        mAdViewEventListener = null;
+    }
+}
@@ -0,0 +1,5 @@
+package com.applovin.adview;
+
+public enum AppLovinAdViewDisplayErrorCode {
+    UNSPECIFIED
+}
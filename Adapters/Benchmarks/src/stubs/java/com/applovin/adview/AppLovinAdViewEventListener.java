@@ -0,0 +1,13 @@
+package com.applovin.adview;
+
+import com.applovin.sdk.AppLovinAd;
+
+public interface AppLovinAdViewEventListener {
+    void adOpenedFullscreen(AppLovinAd ad, AppLovinAdView adView);
+
+    void adClosedFullscreen(AppLovinAd ad, AppLovinAdView adView);
+
+    void adLeftApplication(AppLovinAd ad, AppLovinAdView adView);
+
+    void adFailedToDisplay(AppLovinAd ad, AppLovinAdView adView, AppLovinAdViewDisplayErrorCode code);
+}
@@ -0,0 +1,73 @@
+package com.applovin.adview;
+
+import android.content.Context;
+
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdClickListener;
+import com.applovin.sdk.AppLovinAdDisplayListener;
+import com.applovin.sdk.AppLovinAdLoadListener;
+import com.applovin.sdk.AppLovinAdRewardListener;
+import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
+import com.applovin.sdk.AppLovinSdk;
+
+import java.util.Collections;
+
+public class AppLovinIncentivizedInterstitial {
+    private final String mZoneId;
+    private final AppLovinSdk mSdk;
+    private volatile AppLovinAd mPreloadedAd;
+
+    private AppLovinIncentivizedInterstitial(String zoneId, AppLovinSdk sdk) {
+        mZoneId = zoneId;
+        mSdk = sdk;
+    }
+
+    public static AppLovinIncentivizedInterstitial create(AppLovinSdk sdk) {
+        return new AppLovinIncentivizedInterstitial(null, sdk);
+    }
+
+    public static AppLovinIncentivizedInterstitial create(String zoneId, AppLovinSdk sdk) {
+        return new AppLovinIncentivizedInterstitial(zoneId, sdk);
+    }
+
+    public String getZoneId() {
+        return mZoneId;
+    }
+
+    public void preload(final AppLovinAdLoadListener callback) {
+        mSdk.getAdService().loadNextAdForZoneId(mZoneId, new AppLovinAdLoadListener() {
+            @Override
+            public void adReceived(AppLovinAd ad) {
+                mPreloadedAd = ad;
+                if (callback != null) {
+                    callback.adReceived(ad);
+                }
+            }
+
+            @Override
+            public void failedToReceiveAd(int errorCode) {
+                if (callback != null) {
+                    callback.failedToReceiveAd(errorCode);
+                }
+            }
+        });
+    }
+
+    public boolean isAdReadyToDisplay() {
+        return mPreloadedAd != null;
+    }
+
+    public void show(Context context, AppLovinAdRewardListener adRewardListener, AppLovinAdVideoPlaybackListener videoPlaybackListener, AppLovinAdDisplayListener adDisplayListener, AppLovinAdClickListener adClickListener) {
+        AppLovinAd ad = mPreloadedAd;
+        mPreloadedAd = null;
+        if (ad == null) {
+            return;
+        }
+
+        adDisplayListener.adDisplayed(ad);
+        videoPlaybackListener.videoPlaybackBegan(ad);
+        videoPlaybackListener.videoPlaybackEnded(ad, 100, true);
+        adRewardListener.userRewardVerified(ad, Collections.<String, String>emptyMap());
+        adDisplayListener.adHidden(ad);
+    }
+}
@@ -0,0 +1,46 @@
+package com.applovin.adview;
+
+import android.content.Context;
+
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdClickListener;
+import com.applovin.sdk.AppLovinAdDisplayListener;
+import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
+import com.applovin.sdk.AppLovinSdk;
+
+public class AppLovinInterstitialAd {
+    public static AppLovinInterstitialAdDialog create(AppLovinSdk sdk, Context context) {
+        return new AppLovinInterstitialAdDialog() {
+            private AppLovinAdDisplayListener mAdDisplayListener;
+            private AppLovinAdVideoPlaybackListener mAdVideoPlaybackListener;
+
+            @Override
+            public void setAdDisplayListener(AppLovinAdDisplayListener adDisplayListener) {
+                mAdDisplayListener = adDisplayListener;
+            }
+
+            @Override
+            public void setAdClickListener(AppLovinAdClickListener adClickListener) {
+            }
+
+            @Override
+            public void setAdVideoPlaybackListener(AppLovinAdVideoPlaybackListener adVideoPlaybackListener) {
+                mAdVideoPlaybackListener = adVideoPlaybackListener;
+            }
+
+            @Override
+            public void showAndRender(AppLovinAd ad) {
+                if (mAdDisplayListener != null) {
+                    mAdDisplayListener.adDisplayed(ad);
+                }
+                if (mAdVideoPlaybackListener != null) {
+                    mAdVideoPlaybackListener.videoPlaybackBegan(ad);
+                    mAdVideoPlaybackListener.videoPlaybackEnded(ad, 100, true);
+                }
+                if (mAdDisplayListener != null) {
+                    mAdDisplayListener.adHidden(ad);
+                }
+            }
+        };
+    }
+}
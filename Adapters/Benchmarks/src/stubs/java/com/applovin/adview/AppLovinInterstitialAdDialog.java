@@ -0,0 +1,16 @@
+package com.applovin.adview;
+
+import com.applovin.sdk.AppLovinAd;
+import com.applovin.sdk.AppLovinAdClickListener;
+import com.applovin.sdk.AppLovinAdDisplayListener;
+import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
+
+public interface AppLovinInterstitialAdDialog {
+    void setAdDisplayListener(AppLovinAdDisplayListener adDisplayListener);
+
+    void setAdClickListener(AppLovinAdClickListener adClickListener);
+
+    void setAdVideoPlaybackListener(AppLovinAdVideoPlaybackListener adVideoPlaybackListener);
+
+    void showAndRender(AppLovinAd ad);
+}
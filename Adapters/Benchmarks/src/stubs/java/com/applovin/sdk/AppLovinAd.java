@@ -0,0 +1,9 @@
+package com.applovin.sdk;
+
+public interface AppLovinAd {
+    long getAdIdNumber();
+
+    String getZoneId();
+
+    AppLovinAdSize getSize();
+}
@@ -0,0 +1,7 @@
+package com.applovin.sdk;
+
+public interface AppLovinAdLoadListener {
+    void adReceived(AppLovinAd ad);
+
+    void failedToReceiveAd(int errorCode);
+}
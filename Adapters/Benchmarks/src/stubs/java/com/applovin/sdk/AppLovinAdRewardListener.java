@@ -0,0 +1,13 @@
+package com.applovin.sdk;
+
+import java.util.Map;
+
+public interface AppLovinAdRewardListener {
+    void userRewardVerified(AppLovinAd ad, Map<String, String> response);
+
+    void userOverQuota(AppLovinAd ad, Map<String, String> response);
+
+    void userRewardRejected(AppLovinAd ad, Map<String, String> response);
+
+    void validationRequestFailed(AppLovinAd ad, int errorCode);
+}
@@ -0,0 +1,48 @@
+package com.applovin.sdk;
+
+// In-memory stand-in for the AppLovin ad service, every request fills and callbacks run inline
+public class AppLovinAdService {
+    private final AppLovinSdk mSdk;
+    private long mNextAdId;
+
+    AppLovinAdService(AppLovinSdk sdk) {
+        mSdk = sdk;
+    }
+
+    public void loadNextAd(AppLovinAdSize adSize, AppLovinAdLoadListener callback) {
+        deliver(null, adSize, callback);
+    }
+
+    public void loadNextAdForZoneId(String zoneId, AppLovinAdLoadListener callback) {
+        deliver(zoneId, AppLovinAdSize.INTERSTITIAL, callback);
+    }
+
+    private void deliver(final String zoneId, final AppLovinAdSize adSize, AppLovinAdLoadListener callback) {
+        if (!mSdk.isInitialized()) {
+            callback.failedToReceiveAd(AppLovinErrorCodes.SDK_DISABLED);
+            return;
+        }
+
+        final long adId;
+        synchronized (this) {
+            adId = ++mNextAdId;
+        }
+
+        callback.adReceived(new AppLovinAd() {
+            @Override
+            public long getAdIdNumber() {
+                return adId;
+            }
+
+            @Override
+            public String getZoneId() {
+                return zoneId;
+            }
+
+            @Override
+            public AppLovinAdSize getSize() {
+                return adSize;
+            }
+        });
+    }
+}
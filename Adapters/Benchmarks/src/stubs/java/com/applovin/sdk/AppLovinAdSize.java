@@ -0,0 +1,35 @@
+package com.applovin.sdk;
+
+public class AppLovinAdSize {
+    public static final AppLovinAdSize BANNER = new AppLovinAdSize(-1, 50, "BANNER");
+    public static final AppLovinAdSize LEADER = new AppLovinAdSize(-1, 90, "LEADER");
+    public static final AppLovinAdSize MREC = new AppLovinAdSize(300, 250, "MREC");
+    public static final AppLovinAdSize INTERSTITIAL = new AppLovinAdSize(-1, -1, "INTER");
+
+    private final int mWidth;
+    private final int mHeight;
+    private final String mLabel;
+
+    private AppLovinAdSize(int width, int height, String label) {
+        mWidth = width;
+        mHeight = height;
+        mLabel = label;
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+
+    public String getLabel() {
+        return mLabel;
+    }
+
+    @Override
+    public String toString() {
+        return mLabel;
+    }
+}
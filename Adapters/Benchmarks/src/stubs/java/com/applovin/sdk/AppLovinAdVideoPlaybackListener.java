@@ -0,0 +1,7 @@
+package com.applovin.sdk;
+
+public interface AppLovinAdVideoPlaybackListener {
+    void videoPlaybackBegan(AppLovinAd ad);
+
+    void videoPlaybackEnded(AppLovinAd ad, double percentViewed, boolean fullyWatched);
+}
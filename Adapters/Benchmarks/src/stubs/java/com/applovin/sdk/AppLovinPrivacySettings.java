@@ -0,0 +1,14 @@
+package com.applovin.sdk;
+
+import android.content.Context;
+
+public class AppLovinPrivacySettings {
+    public static void setHasUserConsent(boolean hasUserConsent, Context context) {
+    }
+
+    public static void setIsAgeRestrictedUser(boolean isAgeRestrictedUser, Context context) {
+    }
+
+    public static void setDoNotSell(boolean doNotSell, Context context) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.applovin.sdk;
+
+import android.content.Context;
+
+import java.util.HashMap;
+
+// In-memory stand-in for the AppLovin SDK, initialization completes synchronously
+public class AppLovinSdk {
+    public static final String VERSION = "11.10.1";
+
+    public interface SdkInitializationListener {
+        void onSdkInitialized(AppLovinSdkConfiguration config);
+    }
+
+    private static final HashMap<String, AppLovinSdk> sInstances = new HashMap<>();
+
+    private final AppLovinAdService mAdService = new AppLovinAdService(this);
+    private volatile boolean mInitialized;
+    private volatile String mUserIdentifier;
+
+    private AppLovinSdk() {
+    }
+
+    public static AppLovinSdk getInstance(String sdkKey, AppLovinSdkSettings settings, Context context) {
+        synchronized (sInstances) {
+            AppLovinSdk sdk = sInstances.get(sdkKey);
+            if (sdk == null) {
+                sdk = new AppLovinSdk();
+                sInstances.put(sdkKey, sdk);
+            }
+            return sdk;
+        }
+    }
+
+    public void initializeSdk(SdkInitializationListener listener) {
+        mInitialized = true;
+        if (listener != null) {
+            listener.onSdkInitialized(new AppLovinSdkConfiguration() {
+            });
+        }
+    }
+
+    public boolean isInitialized() {
+        return mInitialized;
+    }
+
+    public void setUserIdentifier(String userIdentifier) {
+        mUserIdentifier = userIdentifier;
+    }
+
+    public String getUserIdentifier() {
+        return mUserIdentifier;
+    }
+
+    public AppLovinAdService getAdService() {
+        return mAdService;
+    }
+}
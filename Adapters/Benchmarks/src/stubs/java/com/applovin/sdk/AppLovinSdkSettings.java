@@ -0,0 +1,18 @@
+package com.applovin.sdk;
+
+import android.content.Context;
+
+public class AppLovinSdkSettings {
+    private boolean mVerboseLogging;
+
+    public AppLovinSdkSettings(Context context) {
+    }
+
+    public void setVerboseLogging(boolean isVerboseLoggingEnabled) {
+        mVerboseLogging = isVerboseLoggingEnabled;
+    }
+
+    public boolean isVerboseLoggingEnabled() {
+        return mVerboseLogging;
+    }
+}
@@ -0,0 +1,9 @@
+package com.bytedance.sdk.openadsdk.api;
+
+public interface PAGAdInteractionListener {
+    void onAdShowed();
+
+    void onAdClicked();
+
+    void onAdDismissed();
+}
@@ -0,0 +1,21 @@
+package com.bytedance.sdk.openadsdk.api;
+
+public class PAGConstant {
+    public interface PAGGDPRConsentType {
+        int PAG_GDPR_CONSENT_TYPE_DEFAULT = -1;
+        int PAG_GDPR_CONSENT_TYPE_NO_CONSENT = 0;
+        int PAG_GDPR_CONSENT_TYPE_CONSENT = 1;
+    }
+
+    public interface PAGDoNotSellType {
+        int PAG_DO_NOT_SELL_TYPE_DEFAULT = -1;
+        int PAG_DO_NOT_SELL_TYPE_SELL = 0;
+        int PAG_DO_NOT_SELL_TYPE_NOT_SELL = 1;
+    }
+
+    public interface PAGChildDirectedType {
+        int PAG_CHILD_DIRECTED_TYPE_DEFAULT = -1;
+        int PAG_CHILD_DIRECTED_TYPE_NON_CHILD = 0;
+        int PAG_CHILD_DIRECTED_TYPE_CHILD = 1;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bytedance.sdk.openadsdk.api;
+
+public interface PAGLoadListener<Ad> {
+    void onAdLoaded(Ad ad);
+
+    void onError(int code, String message);
+}
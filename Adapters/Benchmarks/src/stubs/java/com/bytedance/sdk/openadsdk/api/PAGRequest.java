@@ -0,0 +1,13 @@
+package com.bytedance.sdk.openadsdk.api;
+
+public class PAGRequest {
+    private String mAdString;
+
+    public String getAdString() {
+        return mAdString;
+    }
+
+    public void setAdString(String adString) {
+        mAdString = adString;
+    }
+}
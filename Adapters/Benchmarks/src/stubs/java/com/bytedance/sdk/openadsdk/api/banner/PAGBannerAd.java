@@ -0,0 +1,36 @@
+package com.bytedance.sdk.openadsdk.api.banner;
+
+import android.view.View;
+
+import com.bytedance.sdk.openadsdk.api.init.PAGSdk;
+import com.ironsource.environment.ContextProvider;
+
+public class PAGBannerAd {
+    private final View mBannerView;
+    private PAGBannerAdInteractionListener mInteractionListener;
+
+    private PAGBannerAd(View bannerView) {
+        mBannerView = bannerView;
+    }
+
+    public static void loadAd(String slotId, PAGBannerRequest request, PAGBannerAdLoadListener listener) {
+        if (!PAGSdk.isInitSuccess()) {
+            listener.onError(-1, "sdk not initialized");
+            return;
+        }
+
+        listener.onAdLoaded(new PAGBannerAd(new View(ContextProvider.getInstance().getApplicationContext())));
+    }
+
+    public View getBannerView() {
+        return mBannerView;
+    }
+
+    public void setAdInteractionListener(PAGBannerAdInteractionListener listener) {
+        mInteractionListener = listener;
+    }
+
+    public void destroy() {
+        mInteractionListener = null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.bytedance.sdk.openadsdk.api.banner;
+
+import com.bytedance.sdk.openadsdk.api.PAGAdInteractionListener;
+
+public interface PAGBannerAdInteractionListener extends PAGAdInteractionListener {
+}
@@ -0,0 +1,6 @@
+package com.bytedance.sdk.openadsdk.api.banner;
+
+import com.bytedance.sdk.openadsdk.api.PAGLoadListener;
+
+public interface PAGBannerAdLoadListener extends PAGLoadListener<PAGBannerAd> {
+}
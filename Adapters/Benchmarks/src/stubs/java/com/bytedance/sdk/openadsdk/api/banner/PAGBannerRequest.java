@@ -0,0 +1,15 @@
+package com.bytedance.sdk.openadsdk.api.banner;
+
+import com.bytedance.sdk.openadsdk.api.PAGRequest;
+
+public class PAGBannerRequest extends PAGRequest {
+    private final PAGBannerSize mAdSize;
+
+    public PAGBannerRequest(PAGBannerSize adSize) {
+        mAdSize = adSize;
+    }
+
+    public PAGBannerSize getAdSize() {
+        return mAdSize;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bytedance.sdk.openadsdk.api.banner;
+
+public class PAGBannerSize {
+    public static final PAGBannerSize BANNER_W_320_H_50 = new PAGBannerSize(320, 50);
+    public static final PAGBannerSize BANNER_W_300_H_250 = new PAGBannerSize(300, 250);
+    public static final PAGBannerSize BANNER_W_728_H_90 = new PAGBannerSize(728, 90);
+
+    private final int mWidth;
+    private final int mHeight;
+
+    public PAGBannerSize(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+}
@@ -0,0 +1,70 @@
+package com.bytedance.sdk.openadsdk.api.init;
+
+public class PAGConfig {
+    private final String mAppId;
+    private final String mUserData;
+    private final boolean mDebugLog;
+    private final int mDoNotSell;
+    private final int mChildDirected;
+    private final int mGDPRConsent;
+
+    private PAGConfig(Builder builder) {
+        mAppId = builder.mAppId;
+        mUserData = builder.mUserData;
+        mDebugLog = builder.mDebugLog;
+        mDoNotSell = builder.mDoNotSell;
+        mChildDirected = builder.mChildDirected;
+        mGDPRConsent = builder.mGDPRConsent;
+    }
+
+    public String getAppId() {
+        return mAppId;
+    }
+
+    public static class Builder {
+        private String mAppId;
+        private String mUserData;
+        private boolean mDebugLog;
+        private int mDoNotSell = -1;
+        private int mChildDirected = -1;
+        private int mGDPRConsent = -1;
+
+        public Builder appId(String appId) {
+            mAppId = appId;
+            return this;
+        }
+
+        public Builder setUserData(String userData) {
+            mUserData = userData;
+            return this;
+        }
+
+        public Builder debugLog(boolean debugLog) {
+            mDebugLog = debugLog;
+            return this;
+        }
+
+        public Builder supportMultiProcess(boolean supportMultiProcess) {
+            return this;
+        }
+
+        public Builder setDoNotSell(int doNotSell) {
+            mDoNotSell = doNotSell;
+            return this;
+        }
+
+        public Builder setChildDirected(int childDirected) {
+            mChildDirected = childDirected;
+            return this;
+        }
+
+        public Builder setGDPRConsent(int gdprConsent) {
+            mGDPRConsent = gdprConsent;
+            return this;
+        }
+
+        public PAGConfig build() {
+            return new PAGConfig(this);
+        }
+    }
+}
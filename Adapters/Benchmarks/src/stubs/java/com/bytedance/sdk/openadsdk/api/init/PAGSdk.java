@@ -0,0 +1,33 @@
+package com.bytedance.sdk.openadsdk.api.init;
+
+import android.content.Context;
+
+// In-memory stand-in for the Pangle SDK, initialization completes synchronously
+public class PAGSdk {
+    private static volatile boolean sInitSuccess;
+
+    public interface PAGInitCallback {
+        void success();
+
+        void fail(int code, String message);
+    }
+
+    public static void init(Context context, PAGConfig config, PAGInitCallback callback) {
+        sInitSuccess = true;
+        if (callback != null) {
+            callback.success();
+        }
+    }
+
+    public static boolean isInitSuccess() {
+        return sInitSuccess;
+    }
+
+    public static String getSDKVersion() {
+        return "5.3.0.4";
+    }
+
+    public static String getBiddingToken() {
+        return sInitSuccess ? "pangle-bidding-token" : null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bytedance.sdk.openadsdk.api.interstitial;
+
+import android.app.Activity;
+
+import com.bytedance.sdk.openadsdk.api.init.PAGSdk;
+
+public class PAGInterstitialAd {
+    private PAGInterstitialAdInteractionListener mInteractionListener;
+    private boolean mShown;
+
+    private PAGInterstitialAd() {
+    }
+
+    public static void loadAd(String slotId, PAGInterstitialRequest request, PAGInterstitialAdLoadListener listener) {
+        if (!PAGSdk.isInitSuccess()) {
+            listener.onError(-1, "sdk not initialized");
+            return;
+        }
+
+        listener.onAdLoaded(new PAGInterstitialAd());
+    }
+
+    public void setAdInteractionListener(PAGInterstitialAdInteractionListener listener) {
+        mInteractionListener = listener;
+    }
+
+    public void show(Activity activity) {
+        PAGInterstitialAdInteractionListener listener = mInteractionListener;
+        if (mShown || listener == null) {
+            return;
+        }
+
+        mShown = true;
+        listener.onAdShowed();
+        listener.onAdDismissed();
+    }
+}
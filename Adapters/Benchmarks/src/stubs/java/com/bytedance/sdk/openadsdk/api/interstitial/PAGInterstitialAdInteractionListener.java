@@ -0,0 +1,6 @@
+package com.bytedance.sdk.openadsdk.api.interstitial;
+
+import com.bytedance.sdk.openadsdk.api.PAGAdInteractionListener;
+
+public interface PAGInterstitialAdInteractionListener extends PAGAdInteractionListener {
+}
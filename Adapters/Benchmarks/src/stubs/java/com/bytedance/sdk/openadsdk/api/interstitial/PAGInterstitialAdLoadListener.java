@@ -0,0 +1,6 @@
+package com.bytedance.sdk.openadsdk.api.interstitial;
+
+import com.bytedance.sdk.openadsdk.api.PAGLoadListener;
+
+public interface PAGInterstitialAdLoadListener extends PAGLoadListener<PAGInterstitialAd> {
+}
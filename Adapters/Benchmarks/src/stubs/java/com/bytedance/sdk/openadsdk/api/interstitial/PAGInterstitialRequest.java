@@ -0,0 +1,6 @@
+package com.bytedance.sdk.openadsdk.api.interstitial;
+
+import com.bytedance.sdk.openadsdk.api.PAGRequest;
+
+public class PAGInterstitialRequest extends PAGRequest {
+}
@@ -0,0 +1,19 @@
+package com.bytedance.sdk.openadsdk.api.reward;
+
+public class PAGRewardItem {
+    private final int mRewardAmount;
+    private final String mRewardName;
+
+    public PAGRewardItem(int rewardAmount, String rewardName) {
+        mRewardAmount = rewardAmount;
+        mRewardName = rewardName;
+    }
+
+    public int getRewardAmount() {
+        return mRewardAmount;
+    }
+
+    public String getRewardName() {
+        return mRewardName;
+    }
+}
@@ -0,0 +1,38 @@
+package com.bytedance.sdk.openadsdk.api.reward;
+
+import android.app.Activity;
+
+import com.bytedance.sdk.openadsdk.api.init.PAGSdk;
+
+public class PAGRewardedAd {
+    private PAGRewardedAdInteractionListener mInteractionListener;
+    private boolean mShown;
+
+    private PAGRewardedAd() {
+    }
+
+    public static void loadAd(String slotId, PAGRewardedRequest request, PAGRewardedAdLoadListener listener) {
+        if (!PAGSdk.isInitSuccess()) {
+            listener.onError(-1, "sdk not initialized");
+            return;
+        }
+
+        listener.onAdLoaded(new PAGRewardedAd());
+    }
+
+    public void setAdInteractionListener(PAGRewardedAdInteractionListener listener) {
+        mInteractionListener = listener;
+    }
+
+    public void show(Activity activity) {
+        PAGRewardedAdInteractionListener listener = mInteractionListener;
+        if (mShown || listener == null) {
+            return;
+        }
+
+        mShown = true;
+        listener.onAdShowed();
+        listener.onUserEarnedReward(new PAGRewardItem(1, "coins"));
+        listener.onAdDismissed();
+    }
+}
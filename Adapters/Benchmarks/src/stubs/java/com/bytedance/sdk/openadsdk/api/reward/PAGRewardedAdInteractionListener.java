@@ -0,0 +1,9 @@
+package com.bytedance.sdk.openadsdk.api.reward;
+
+import com.bytedance.sdk.openadsdk.api.PAGAdInteractionListener;
+
+public interface PAGRewardedAdInteractionListener extends PAGAdInteractionListener {
+    void onUserEarnedReward(PAGRewardItem item);
+
+    void onUserEarnedRewardFail(int code, String message);
+}
@@ -0,0 +1,6 @@
+package com.bytedance.sdk.openadsdk.api.reward;
+
+import com.bytedance.sdk.openadsdk.api.PAGLoadListener;
+
+public interface PAGRewardedAdLoadListener extends PAGLoadListener<PAGRewardedAd> {
+}
@@ -0,0 +1,6 @@
+package com.bytedance.sdk.openadsdk.api.reward;
+
+import com.bytedance.sdk.openadsdk.api.PAGRequest;
+
+public class PAGRewardedRequest extends PAGRequest {
+}
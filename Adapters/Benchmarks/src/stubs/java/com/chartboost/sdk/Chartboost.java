@@ -0,0 +1,32 @@
+package com.chartboost.sdk;
+
+import android.content.Context;
+
+import com.chartboost.sdk.callbacks.StartCallback;
+import com.chartboost.sdk.privacy.model.DataUseConsent;
+
+// In-memory stand-in for the Chartboost SDK, start completes synchronously
+public class Chartboost {
+    private static volatile boolean sStarted;
+    private static volatile LoggingLevel sLoggingLevel = LoggingLevel.INTEGRATION;
+
+    public static void startWithAppId(Context context, String appId, String appSignature, StartCallback onStarted) {
+        sStarted = true;
+        onStarted.onStartCompleted(null);
+    }
+
+    public static boolean isSdkStarted() {
+        return sStarted;
+    }
+
+    public static void setLoggingLevel(LoggingLevel loggingLevel) {
+        sLoggingLevel = loggingLevel;
+    }
+
+    public static String getSDKVersion() {
+        return "9.3.0";
+    }
+
+    public static void addDataUseConsent(Context context, DataUseConsent dataUseConsent) {
+    }
+}
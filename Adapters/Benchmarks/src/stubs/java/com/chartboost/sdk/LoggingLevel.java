@@ -0,0 +1,7 @@
+package com.chartboost.sdk;
+
+public enum LoggingLevel {
+    NONE,
+    INTEGRATION,
+    ALL
+}
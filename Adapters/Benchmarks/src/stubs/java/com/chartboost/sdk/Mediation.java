@@ -0,0 +1,25 @@
+package com.chartboost.sdk;
+
+public class Mediation {
+    private final String mMediationType;
+    private final String mLibraryVersion;
+    private final String mAdapterVersion;
+
+    public Mediation(String mediationType, String libraryVersion, String adapterVersion) {
+        mMediationType = mediationType;
+        mLibraryVersion = libraryVersion;
+        mAdapterVersion = adapterVersion;
+    }
+
+    public String getMediationType() {
+        return mMediationType;
+    }
+
+    public String getLibraryVersion() {
+        return mLibraryVersion;
+    }
+
+    public String getAdapterVersion() {
+        return mAdapterVersion;
+    }
+}
@@ -0,0 +1,11 @@
+package com.chartboost.sdk.ads;
+
+public interface Ad {
+    String getLocation();
+
+    void cache();
+
+    void show();
+
+    boolean isCached();
+}
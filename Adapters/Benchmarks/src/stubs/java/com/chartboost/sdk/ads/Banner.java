@@ -0,0 +1,95 @@
+package com.chartboost.sdk.ads;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+import com.chartboost.sdk.Chartboost;
+import com.chartboost.sdk.Mediation;
+import com.chartboost.sdk.callbacks.BannerCallback;
+import com.chartboost.sdk.events.CacheError;
+import com.chartboost.sdk.events.CacheEvent;
+import com.chartboost.sdk.events.ImpressionEvent;
+import com.chartboost.sdk.events.ShowEvent;
+
+public class Banner extends FrameLayout implements Ad {
+    public enum BannerSize {
+        STANDARD(320, 50),
+        MEDIUM(300, 250),
+        LEADERBOARD(728, 90);
+
+        private final int mWidth;
+        private final int mHeight;
+
+        BannerSize(int width, int height) {
+            mWidth = width;
+            mHeight = height;
+        }
+
+        public int getWidth() {
+            return mWidth;
+        }
+
+        public int getHeight() {
+            return mHeight;
+        }
+    }
+
+    private final String mLocation;
+    private final BannerSize mSize;
+    private BannerCallback mCallback;
+    private volatile boolean mCached;
+
+    public Banner(Context context, String location, BannerSize size, BannerCallback callback, Mediation mediation) {
+        super(context);
+        mLocation = location;
+        mSize = size;
+        mCallback = callback;
+    }
+
+    public BannerSize getBannerSize() {
+        return mSize;
+    }
+
+    @Override
+    public String getLocation() {
+        return mLocation;
+    }
+
+    @Override
+    public void cache() {
+        if (mCallback == null) {
+            return;
+        }
+
+        if (!Chartboost.isSdkStarted()) {
+            mCallback.onAdLoaded(new CacheEvent(this), new CacheError(CacheError.Code.SESSION_NOT_STARTED));
+            return;
+        }
+
+        mCached = true;
+        mCallback.onAdLoaded(new CacheEvent(this), null);
+    }
+
+    @Override
+    public void show() {
+        if (mCallback == null || !mCached) {
+            return;
+        }
+
+        mCached = false;
+        ShowEvent showEvent = new ShowEvent(this);
+        mCallback.onAdRequestedToShow(showEvent);
+        mCallback.onAdShown(showEvent, null);
+        mCallback.onImpressionRecorded(new ImpressionEvent(this));
+    }
+
+    @Override
+    public boolean isCached() {
+        return mCached;
+    }
+
+    public void detach() {
+        mCached = false;
+        mCallback = null;
+    }
+}
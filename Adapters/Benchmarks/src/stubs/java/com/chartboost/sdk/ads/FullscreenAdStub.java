@@ -0,0 +1,80 @@
+package com.chartboost.sdk.ads;
+
+import com.chartboost.sdk.Chartboost;
+import com.chartboost.sdk.callbacks.DismissibleAdCallback;
+import com.chartboost.sdk.events.CacheError;
+import com.chartboost.sdk.events.CacheEvent;
+import com.chartboost.sdk.events.DismissEvent;
+import com.chartboost.sdk.events.ImpressionEvent;
+import com.chartboost.sdk.events.ShowError;
+import com.chartboost.sdk.events.ShowEvent;
+import com.ironsource.adapters.simulator.FakeNetwork;
+
+// Shared cache/show state for the full screen ad stand-ins, caches and shows go through the "Chartboost" FakeNetwork
+abstract class FullscreenAdStub implements Ad {
+    private final String mLocation;
+    private final DismissibleAdCallback mCallback;
+    private volatile boolean mCached;
+
+    FullscreenAdStub(String location, DismissibleAdCallback callback) {
+        mLocation = location;
+        mCallback = callback;
+    }
+
+    @Override
+    public String getLocation() {
+        return mLocation;
+    }
+
+    @Override
+    public void cache() {
+        if (!Chartboost.isSdkStarted()) {
+            mCallback.onAdLoaded(new CacheEvent(this), new CacheError(CacheError.Code.SESSION_NOT_STARTED));
+            return;
+        }
+
+        // the error code is the ordinal of the CacheError code
+        FakeNetwork.get("Chartboost").load(CacheError.Code.NO_AD_FOUND.ordinal(), new FakeNetwork.LoadResult() {
+            @Override
+            public void onFilled() {
+                mCached = true;
+                mCallback.onAdLoaded(new CacheEvent(FullscreenAdStub.this), null);
+            }
+
+            @Override
+            public void onFailed(int errorCode) {
+                CacheError.Code code = CacheError.Code.values()[Math.floorMod(errorCode, CacheError.Code.values().length)];
+                mCallback.onAdLoaded(new CacheEvent(FullscreenAdStub.this), new CacheError(code));
+            }
+        });
+    }
+
+    @Override
+    public void show() {
+        final ShowEvent showEvent = new ShowEvent(this);
+        mCallback.onAdRequestedToShow(showEvent);
+        if (!mCached) {
+            mCallback.onAdShown(showEvent, new ShowError(ShowError.Code.NO_CACHED_AD));
+            return;
+        }
+
+        mCached = false;
+        FakeNetwork.get("Chartboost").show(new Runnable() {
+            @Override
+            public void run() {
+                mCallback.onAdShown(showEvent, null);
+                mCallback.onImpressionRecorded(new ImpressionEvent(FullscreenAdStub.this));
+                onCompleted();
+                mCallback.onAdDismiss(new DismissEvent(FullscreenAdStub.this));
+            }
+        });
+    }
+
+    void onCompleted() {
+    }
+
+    @Override
+    public boolean isCached() {
+        return mCached;
+    }
+}
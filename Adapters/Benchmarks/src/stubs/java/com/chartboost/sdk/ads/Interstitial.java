@@ -0,0 +1,10 @@
+package com.chartboost.sdk.ads;
+
+import com.chartboost.sdk.Mediation;
+import com.chartboost.sdk.callbacks.InterstitialCallback;
+
+public class Interstitial extends FullscreenAdStub {
+    public Interstitial(String location, InterstitialCallback callback, Mediation mediation) {
+        super(location, callback);
+    }
+}
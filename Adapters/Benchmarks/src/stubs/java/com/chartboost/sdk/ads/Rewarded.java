@@ -0,0 +1,19 @@
+package com.chartboost.sdk.ads;
+
+import com.chartboost.sdk.Mediation;
+import com.chartboost.sdk.callbacks.RewardedCallback;
+import com.chartboost.sdk.events.RewardEvent;
+
+public class Rewarded extends FullscreenAdStub {
+    private final RewardedCallback mRewardedCallback;
+
+    public Rewarded(String location, RewardedCallback callback, Mediation mediation) {
+        super(location, callback);
+        mRewardedCallback = callback;
+    }
+
+    @Override
+    void onCompleted() {
+        mRewardedCallback.onRewardEarned(new RewardEvent(this, 1));
+    }
+}
@@ -0,0 +1,4 @@
+package com.chartboost.sdk.callbacks;
+
+public interface BannerCallback extends AdCallback {
+}
@@ -0,0 +1,33 @@
+package com.chartboost.sdk.events;
+
+public class CacheError {
+    public enum Code {
+        INTERNAL,
+        INTERNET_UNAVAILABLE,
+        NETWORK_FAILURE,
+        NO_AD_FOUND,
+        SESSION_NOT_STARTED,
+        ASSET_DOWNLOAD_FAILURE,
+        BANNER_DISABLED,
+        BANNER_VIEW_IS_DETACHED;
+
+        public int getErrorCode() {
+            return ordinal();
+        }
+    }
+
+    private final Code mCode;
+
+    public CacheError(Code code) {
+        mCode = code;
+    }
+
+    public Code getCode() {
+        return mCode;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheError: " + mCode.name();
+    }
+}
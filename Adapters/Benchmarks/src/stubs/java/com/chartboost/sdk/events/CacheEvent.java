@@ -0,0 +1,15 @@
+package com.chartboost.sdk.events;
+
+import com.chartboost.sdk.ads.Ad;
+
+public class CacheEvent {
+    private final Ad mAd;
+
+    public CacheEvent(Ad ad) {
+        mAd = ad;
+    }
+
+    public Ad getAd() {
+        return mAd;
+    }
+}
@@ -0,0 +1,28 @@
+package com.chartboost.sdk.events;
+
+public class ClickError {
+    public enum Code {
+        URI_INVALID,
+        URI_UNRECOGNIZED,
+        INTERNAL;
+
+        public int getErrorCode() {
+            return ordinal();
+        }
+    }
+
+    private final Code mCode;
+
+    public ClickError(Code code) {
+        mCode = code;
+    }
+
+    public Code getCode() {
+        return mCode;
+    }
+
+    @Override
+    public String toString() {
+        return "ClickError: " + mCode.name();
+    }
+}
@@ -0,0 +1,21 @@
+package com.chartboost.sdk.events;
+
+import com.chartboost.sdk.ads.Ad;
+
+public class RewardEvent {
+    private final Ad mAd;
+    private final int mReward;
+
+    public RewardEvent(Ad ad, int reward) {
+        mAd = ad;
+        mReward = reward;
+    }
+
+    public Ad getAd() {
+        return mAd;
+    }
+
+    public int getReward() {
+        return mReward;
+    }
+}
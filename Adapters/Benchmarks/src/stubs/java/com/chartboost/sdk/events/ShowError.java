@@ -0,0 +1,33 @@
+package com.chartboost.sdk.events;
+
+public class ShowError {
+    public enum Code {
+        INTERNAL,
+        SESSION_NOT_STARTED,
+        AD_ALREADY_VISIBLE,
+        INTERNET_UNAVAILABLE,
+        PRESENTATION_FAILURE,
+        NO_CACHED_AD,
+        BANNER_DISABLED,
+        BANNER_VIEW_IS_DETACHED;
+
+        public int getErrorCode() {
+            return ordinal();
+        }
+    }
+
+    private final Code mCode;
+
+    public ShowError(Code code) {
+        mCode = code;
+    }
+
+    public Code getCode() {
+        return mCode;
+    }
+
+    @Override
+    public String toString() {
+        return "ShowError: " + mCode.name();
+    }
+}
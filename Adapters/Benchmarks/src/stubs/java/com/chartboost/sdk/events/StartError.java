@@ -0,0 +1,29 @@
+package com.chartboost.sdk.events;
+
+public class StartError {
+    public enum Code {
+        INVALID_CREDENTIALS,
+        NETWORK_FAILURE,
+        SERVER_ERROR,
+        INTERNAL;
+
+        public int getErrorCode() {
+            return ordinal();
+        }
+    }
+
+    private final Code mCode;
+
+    public StartError(Code code) {
+        mCode = code;
+    }
+
+    public Code getCode() {
+        return mCode;
+    }
+
+    @Override
+    public String toString() {
+        return "StartError: " + mCode.name();
+    }
+}
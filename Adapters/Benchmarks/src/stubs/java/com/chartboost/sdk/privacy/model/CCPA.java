@@ -0,0 +1,12 @@
+package com.chartboost.sdk.privacy.model;
+
+public class CCPA extends DataUseConsent {
+    public enum CCPA_CONSENT {
+        OPT_OUT_SALE,
+        OPT_IN_SALE
+    }
+
+    public CCPA(CCPA_CONSENT consent) {
+        super("us_privacy", consent);
+    }
+}
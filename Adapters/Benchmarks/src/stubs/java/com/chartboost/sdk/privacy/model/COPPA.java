@@ -0,0 +1,7 @@
+package com.chartboost.sdk.privacy.model;
+
+public class COPPA extends DataUseConsent {
+    public COPPA(boolean isChildDirected) {
+        super("coppa", isChildDirected);
+    }
+}
@@ -0,0 +1,19 @@
+package com.chartboost.sdk.privacy.model;
+
+public abstract class DataUseConsent {
+    private final String mPrivacyStandard;
+    private final Object mConsent;
+
+    protected DataUseConsent(String privacyStandard, Object consent) {
+        mPrivacyStandard = privacyStandard;
+        mConsent = consent;
+    }
+
+    public String getPrivacyStandard() {
+        return mPrivacyStandard;
+    }
+
+    public Object getConsent() {
+        return mConsent;
+    }
+}
@@ -0,0 +1,12 @@
+package com.chartboost.sdk.privacy.model;
+
+public class GDPR extends DataUseConsent {
+    public enum GDPR_CONSENT {
+        NON_BEHAVIORAL,
+        BEHAVIORAL
+    }
+
+    public GDPR(GDPR_CONSENT consent) {
+        super("gdpr", consent);
+    }
+}
@@ -0,0 +1,9 @@
+package com.facebook.ads;
+
+public interface Ad {
+    String getPlacementId();
+
+    boolean isAdInvalidated();
+
+    void destroy();
+}
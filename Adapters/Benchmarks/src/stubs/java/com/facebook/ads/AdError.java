@@ -0,0 +1,25 @@
+package com.facebook.ads;
+
+public class AdError {
+    public static final int NO_FILL_ERROR_CODE = 1001;
+    public static final int INTERNAL_ERROR_CODE = 2001;
+
+    public static final AdError NO_FILL = new AdError(NO_FILL_ERROR_CODE, "No Fill");
+    public static final AdError INTERNAL_ERROR = new AdError(INTERNAL_ERROR_CODE, "Internal Error");
+
+    private final int mErrorCode;
+    private final String mErrorMessage;
+
+    public AdError(int errorCode, String errorMessage) {
+        mErrorCode = errorCode;
+        mErrorMessage = errorMessage;
+    }
+
+    public int getErrorCode() {
+        return mErrorCode;
+    }
+
+    public String getErrorMessage() {
+        return mErrorMessage;
+    }
+}
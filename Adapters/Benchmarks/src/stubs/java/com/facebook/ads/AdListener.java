@@ -0,0 +1,11 @@
+package com.facebook.ads;
+
+public interface AdListener {
+    void onError(Ad ad, AdError adError);
+
+    void onAdLoaded(Ad ad);
+
+    void onAdClicked(Ad ad);
+
+    void onLoggingImpression(Ad ad);
+}
@@ -0,0 +1,13 @@
+package com.facebook.ads;
+
+public class AdSettings {
+    private static volatile Boolean sMixedAudience;
+
+    public static void setMixedAudience(boolean isMixedAudience) {
+        sMixedAudience = isMixedAudience;
+    }
+
+    public static boolean isMixedAudience() {
+        return sMixedAudience != null && sMixedAudience;
+    }
+}
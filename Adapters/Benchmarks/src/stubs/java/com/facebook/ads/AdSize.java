@@ -0,0 +1,23 @@
+package com.facebook.ads;
+
+public class AdSize {
+    public static final AdSize BANNER_HEIGHT_50 = new AdSize(-1, 50);
+    public static final AdSize BANNER_HEIGHT_90 = new AdSize(-1, 90);
+    public static final AdSize RECTANGLE_HEIGHT_250 = new AdSize(-1, 250);
+
+    private final int mWidth;
+    private final int mHeight;
+
+    private AdSize(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+}
@@ -0,0 +1,82 @@
+package com.facebook.ads;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+public class AdView extends FrameLayout implements Ad {
+    public interface AdViewLoadConfigBuilder {
+        AdViewLoadConfigBuilder withAdListener(AdListener listener);
+
+        AdViewLoadConfigBuilder withBid(String bidPayload);
+
+        AdViewLoadConfig build();
+    }
+
+    public interface AdViewLoadConfig {
+    }
+
+    private final String mPlacementId;
+    private final AdSize mAdSize;
+    private AdListener mAdListener;
+    private boolean mDestroyed;
+
+    public AdView(Context context, String placementId, AdSize adSize) {
+        super(context);
+        mPlacementId = placementId;
+        mAdSize = adSize;
+    }
+
+    public AdViewLoadConfigBuilder buildLoadAdConfig() {
+        return new AdViewLoadConfigBuilder() {
+            @Override
+            public AdViewLoadConfigBuilder withAdListener(AdListener listener) {
+                mAdListener = listener;
+                return this;
+            }
+
+            @Override
+            public AdViewLoadConfigBuilder withBid(String bidPayload) {
+                return this;
+            }
+
+            @Override
+            public AdViewLoadConfig build() {
+                return new AdViewLoadConfig() {
+                };
+            }
+        };
+    }
+
+    public void loadAd(AdViewLoadConfig config) {
+        if (mAdListener == null) {
+            return;
+        }
+
+        if (mDestroyed) {
+            mAdListener.onError(this, AdError.INTERNAL_ERROR);
+            return;
+        }
+
+        mAdListener.onAdLoaded(this);
+    }
+
+    public AdSize getAdSize() {
+        return mAdSize;
+    }
+
+    @Override
+    public String getPlacementId() {
+        return mPlacementId;
+    }
+
+    @Override
+    public boolean isAdInvalidated() {
+        return mDestroyed;
+    }
+
+    @Override
+    public void destroy() {
+        mDestroyed = true;
+        mAdListener = null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.facebook.ads;
+
+import android.content.Context;
+
+import java.util.List;
+
+// In-memory stand-in for the Audience Network SDK initializer, initialization completes synchronously
+public class AudienceNetworkAds {
+    private static volatile boolean sInitialized;
+
+    public interface InitListener {
+        void onInitialized(InitResult result);
+    }
+
+    public interface InitResult {
+        boolean isSuccess();
+
+        String getMessage();
+    }
+
+    public static class InitSettingsBuilder {
+        private InitListener mInitListener;
+
+        InitSettingsBuilder() {
+        }
+
+        public InitSettingsBuilder withInitListener(InitListener initListener) {
+            mInitListener = initListener;
+            return this;
+        }
+
+        public InitSettingsBuilder withMediationService(String mediationService) {
+            return this;
+        }
+
+        public InitSettingsBuilder withPlacementIds(List<String> placementIds) {
+            return this;
+        }
+
+        public void initialize() {
+            sInitialized = true;
+            if (mInitListener != null) {
+                mInitListener.onInitialized(new InitResult() {
+                    @Override
+                    public boolean isSuccess() {
+                        return true;
+                    }
+
+                    @Override
+                    public String getMessage() {
+                        return "Initialized";
+                    }
+                });
+            }
+        }
+    }
+
+    public static InitSettingsBuilder buildInitSettings(Context context) {
+        return new InitSettingsBuilder();
+    }
+
+    public static boolean isInitialized(Context context) {
+        return sInitialized;
+    }
+}
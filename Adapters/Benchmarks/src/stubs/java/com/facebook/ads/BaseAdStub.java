@@ -0,0 +1,59 @@
+package com.facebook.ads;
+
+// Shared load/show state for the full screen ad stand-ins
+abstract class BaseAdStub implements Ad {
+    private final String mPlacementId;
+    private AdListener mAdListener;
+    private boolean mLoaded;
+    private boolean mDestroyed;
+
+    BaseAdStub(String placementId) {
+        mPlacementId = placementId;
+    }
+
+    void load(AdListener adListener) {
+        mAdListener = adListener;
+        if (mDestroyed) {
+            if (adListener != null) {
+                adListener.onError(this, AdError.INTERNAL_ERROR);
+            }
+            return;
+        }
+
+        mLoaded = true;
+        if (adListener != null) {
+            adListener.onAdLoaded(this);
+        }
+    }
+
+    boolean consume() {
+        boolean wasLoaded = mLoaded && !mDestroyed;
+        mLoaded = false;
+        return wasLoaded;
+    }
+
+    AdListener getAdListener() {
+        return mAdListener;
+    }
+
+    @Override
+    public String getPlacementId() {
+        return mPlacementId;
+    }
+
+    public boolean isAdLoaded() {
+        return mLoaded;
+    }
+
+    @Override
+    public boolean isAdInvalidated() {
+        return mDestroyed;
+    }
+
+    @Override
+    public void destroy() {
+        mDestroyed = true;
+        mLoaded = false;
+        mAdListener = null;
+    }
+}
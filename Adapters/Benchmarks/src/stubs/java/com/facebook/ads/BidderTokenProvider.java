@@ -0,0 +1,9 @@
+package com.facebook.ads;
+
+import android.content.Context;
+
+public class BidderTokenProvider {
+    public static String getBidderToken(Context context) {
+        return "meta-bidder-token";
+    }
+}
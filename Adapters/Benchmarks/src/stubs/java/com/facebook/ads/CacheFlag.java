@@ -0,0 +1,9 @@
+package com.facebook.ads;
+
+public enum CacheFlag {
+    NONE,
+    ICON,
+    IMAGE,
+    VIDEO,
+    ALL
+}
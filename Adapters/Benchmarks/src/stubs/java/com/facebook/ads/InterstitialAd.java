@@ -0,0 +1,68 @@
+package com.facebook.ads;
+
+import android.content.Context;
+
+import java.util.EnumSet;
+
+public class InterstitialAd extends BaseAdStub {
+    public interface InterstitialAdLoadConfigBuilder {
+        InterstitialAdLoadConfigBuilder withAdListener(InterstitialAdListener listener);
+
+        InterstitialAdLoadConfigBuilder withBid(String bidPayload);
+
+        InterstitialAdLoadConfigBuilder withCacheFlags(EnumSet<CacheFlag> cacheFlags);
+
+        InterstitialLoadAdConfig build();
+    }
+
+    public interface InterstitialLoadAdConfig {
+    }
+
+    private InterstitialAdListener mPendingListener;
+
+    public InterstitialAd(Context context, String placementId) {
+        super(placementId);
+    }
+
+    public InterstitialAdLoadConfigBuilder buildLoadAdConfig() {
+        return new InterstitialAdLoadConfigBuilder() {
+            @Override
+            public InterstitialAdLoadConfigBuilder withAdListener(InterstitialAdListener listener) {
+                mPendingListener = listener;
+                return this;
+            }
+
+            @Override
+            public InterstitialAdLoadConfigBuilder withBid(String bidPayload) {
+                return this;
+            }
+
+            @Override
+            public InterstitialAdLoadConfigBuilder withCacheFlags(EnumSet<CacheFlag> cacheFlags) {
+                return this;
+            }
+
+            @Override
+            public InterstitialLoadAdConfig build() {
+                return new InterstitialLoadAdConfig() {
+                };
+            }
+        };
+    }
+
+    public void loadAd(InterstitialLoadAdConfig config) {
+        load(mPendingListener);
+    }
+
+    public boolean show() {
+        InterstitialAdListener listener = (InterstitialAdListener) getAdListener();
+        if (!consume() || listener == null) {
+            return false;
+        }
+
+        listener.onInterstitialDisplayed(this);
+        listener.onLoggingImpression(this);
+        listener.onInterstitialDismissed(this);
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package com.facebook.ads;
+
+public interface InterstitialAdExtendedListener extends InterstitialAdListener {
+    void onInterstitialActivityDestroyed();
+
+    void onRewardedAdCompleted();
+
+    void onRewardedAdServerSucceeded();
+
+    void onRewardedAdServerFailed();
+}
@@ -0,0 +1,7 @@
+package com.facebook.ads;
+
+public interface InterstitialAdListener extends AdListener {
+    void onInterstitialDisplayed(Ad ad);
+
+    void onInterstitialDismissed(Ad ad);
+}
@@ -0,0 +1,19 @@
+package com.facebook.ads;
+
+public class RewardData {
+    private final String mUserID;
+    private final String mCurrency;
+
+    public RewardData(String userID, String currency) {
+        mUserID = userID;
+        mCurrency = currency;
+    }
+
+    public String getUserID() {
+        return mUserID;
+    }
+
+    public String getCurrency() {
+        return mCurrency;
+    }
+}
@@ -0,0 +1,66 @@
+package com.facebook.ads;
+
+import android.content.Context;
+
+public class RewardedVideoAd extends BaseAdStub {
+    public interface RewardedVideoAdLoadConfigBuilder {
+        RewardedVideoAdLoadConfigBuilder withAdListener(RewardedVideoAdListener listener);
+
+        RewardedVideoAdLoadConfigBuilder withBid(String bidPayload);
+
+        RewardedVideoAdLoadConfigBuilder withRewardData(RewardData rewardData);
+
+        RewardedVideoLoadAdConfig build();
+    }
+
+    public interface RewardedVideoLoadAdConfig {
+    }
+
+    private RewardedVideoAdListener mPendingListener;
+
+    public RewardedVideoAd(Context context, String placementId) {
+        super(placementId);
+    }
+
+    public RewardedVideoAdLoadConfigBuilder buildLoadAdConfig() {
+        return new RewardedVideoAdLoadConfigBuilder() {
+            @Override
+            public RewardedVideoAdLoadConfigBuilder withAdListener(RewardedVideoAdListener listener) {
+                mPendingListener = listener;
+                return this;
+            }
+
+            @Override
+            public RewardedVideoAdLoadConfigBuilder withBid(String bidPayload) {
+                return this;
+            }
+
+            @Override
+            public RewardedVideoAdLoadConfigBuilder withRewardData(RewardData rewardData) {
+                return this;
+            }
+
+            @Override
+            public RewardedVideoLoadAdConfig build() {
+                return new RewardedVideoLoadAdConfig() {
+                };
+            }
+        };
+    }
+
+    public void loadAd(RewardedVideoLoadAdConfig config) {
+        load(mPendingListener);
+    }
+
+    public boolean show() {
+        RewardedVideoAdListener listener = (RewardedVideoAdListener) getAdListener();
+        if (!consume() || listener == null) {
+            return false;
+        }
+
+        listener.onLoggingImpression(this);
+        listener.onRewardedVideoCompleted();
+        listener.onRewardedVideoClosed();
+        return true;
+    }
+}
@@ -0,0 +1,5 @@
+package com.facebook.ads;
+
+public interface RewardedVideoAdExtendedListener extends RewardedVideoAdListener {
+    void onRewardedVideoActivityDestroyed();
+}
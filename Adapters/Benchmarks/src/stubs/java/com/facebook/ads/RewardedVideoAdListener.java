@@ -0,0 +1,7 @@
+package com.facebook.ads;
+
+public interface RewardedVideoAdListener extends AdListener {
+    void onRewardedVideoCompleted();
+
+    void onRewardedVideoClosed();
+}
@@ -0,0 +1,5 @@
+package com.google.ads.mediation.admob;
+
+// Only referenced as the key of the AdMob network extras bundle
+public final class AdMobAdapter {
+}
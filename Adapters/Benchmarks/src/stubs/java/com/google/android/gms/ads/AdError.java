@@ -0,0 +1,40 @@
+package com.google.android.gms.ads;
+
+public class AdError {
+    private final int mCode;
+    private final String mMessage;
+    private final String mDomain;
+    private final AdError mCause;
+
+    public AdError(int code, String message, String domain) {
+        this(code, message, domain, null);
+    }
+
+    public AdError(int code, String message, String domain, AdError cause) {
+        mCode = code;
+        mMessage = message;
+        mDomain = domain;
+        mCause = cause;
+    }
+
+    public int getCode() {
+        return mCode;
+    }
+
+    public String getMessage() {
+        return mMessage;
+    }
+
+    public String getDomain() {
+        return mDomain;
+    }
+
+    public AdError getCause() {
+        return mCause;
+    }
+
+    @Override
+    public String toString() {
+        return "{ code: " + mCode + ", message: " + mMessage + ", domain: " + mDomain + " }";
+    }
+}
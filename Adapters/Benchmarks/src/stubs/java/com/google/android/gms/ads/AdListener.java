@@ -0,0 +1,21 @@
+package com.google.android.gms.ads;
+
+public abstract class AdListener {
+    public void onAdClicked() {
+    }
+
+    public void onAdClosed() {
+    }
+
+    public void onAdFailedToLoad(LoadAdError loadAdError) {
+    }
+
+    public void onAdImpression() {
+    }
+
+    public void onAdLoaded() {
+    }
+
+    public void onAdOpened() {
+    }
+}
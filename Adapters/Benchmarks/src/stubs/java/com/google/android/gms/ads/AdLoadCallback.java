@@ -0,0 +1,9 @@
+package com.google.android.gms.ads;
+
+public abstract class AdLoadCallback<AdT> {
+    public void onAdLoaded(AdT ad) {
+    }
+
+    public void onAdFailedToLoad(LoadAdError loadAdError) {
+    }
+}
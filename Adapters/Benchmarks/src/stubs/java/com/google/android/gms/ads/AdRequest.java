@@ -0,0 +1,49 @@
+package com.google.android.gms.ads;
+
+import android.os.Bundle;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class AdRequest {
+    public static final int ERROR_CODE_INTERNAL_ERROR = 0;
+    public static final int ERROR_CODE_INVALID_REQUEST = 1;
+    public static final int ERROR_CODE_NETWORK_ERROR = 2;
+    public static final int ERROR_CODE_NO_FILL = 3;
+    public static final int ERROR_CODE_MEDIATION_NO_FILL = 9;
+
+    private final String mRequestAgent;
+    private final Map<Class<?>, Bundle> mNetworkExtras;
+
+    private AdRequest(Builder builder) {
+        mRequestAgent = builder.mRequestAgent;
+        mNetworkExtras = builder.mNetworkExtras;
+    }
+
+    public String getRequestAgent() {
+        return mRequestAgent;
+    }
+
+    public Bundle getNetworkExtrasBundle(Class<?> adapterClass) {
+        return mNetworkExtras.get(adapterClass);
+    }
+
+    public static class Builder {
+        private String mRequestAgent;
+        private final Map<Class<?>, Bundle> mNetworkExtras = new HashMap<>();
+
+        public Builder setRequestAgent(String requestAgent) {
+            mRequestAgent = requestAgent;
+            return this;
+        }
+
+        public Builder addNetworkExtrasBundle(Class<?> adapterClass, Bundle networkExtras) {
+            mNetworkExtras.put(adapterClass, networkExtras);
+            return this;
+        }
+
+        public AdRequest build() {
+            return new AdRequest(this);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.google.android.gms.ads;
+
+import android.content.Context;
+
+public final class AdSize {
+    public static final AdSize BANNER = new AdSize(320, 50);
+    public static final AdSize LARGE_BANNER = new AdSize(320, 100);
+    public static final AdSize MEDIUM_RECTANGLE = new AdSize(300, 250);
+    public static final AdSize LEADERBOARD = new AdSize(728, 90);
+
+    private final int mWidth;
+    private final int mHeight;
+
+    public AdSize(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+
+    public static AdSize getCurrentOrientationAnchoredAdaptiveBannerAdSize(Context context, int width) {
+        return new AdSize(width, Math.max(50, Math.min(90, width / 8)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof AdSize)) {
+            return false;
+        }
+        AdSize size = (AdSize) other;
+        return mWidth == size.mWidth && mHeight == size.mHeight;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * mWidth + mHeight;
+    }
+
+    @Override
+    public String toString() {
+        return mWidth + "x" + mHeight;
+    }
+}
@@ -0,0 +1,52 @@
+package com.google.android.gms.ads;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+public final class AdView extends FrameLayout {
+    private AdSize mAdSize;
+    private String mAdUnitId;
+    private AdListener mAdListener;
+
+    public AdView(Context context) {
+        super(context);
+    }
+
+    public void setAdSize(AdSize adSize) {
+        mAdSize = adSize;
+    }
+
+    public AdSize getAdSize() {
+        return mAdSize;
+    }
+
+    public void setAdUnitId(String adUnitId) {
+        mAdUnitId = adUnitId;
+    }
+
+    public String getAdUnitId() {
+        return mAdUnitId;
+    }
+
+    public void setAdListener(AdListener adListener) {
+        mAdListener = adListener;
+    }
+
+    public void loadAd(AdRequest adRequest) {
+        if (mAdListener == null) {
+            return;
+        }
+
+        if (!MobileAds.isInitialized()) {
+            mAdListener.onAdFailedToLoad(new LoadAdError(AdRequest.ERROR_CODE_INTERNAL_ERROR, "not initialized", "com.google.android.gms.ads"));
+            return;
+        }
+
+        mAdListener.onAdLoaded();
+        mAdListener.onAdImpression();
+    }
+
+    public void destroy() {
+        mAdListener = null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.google.android.gms.ads;
+
+public final class LoadAdError extends AdError {
+    public LoadAdError(int code, String message, String domain) {
+        super(code, message, domain);
+    }
+}
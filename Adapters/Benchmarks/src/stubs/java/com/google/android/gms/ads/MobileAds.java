@@ -0,0 +1,66 @@
+package com.google.android.gms.ads;
+
+import android.content.Context;
+
+import com.google.android.gms.ads.initialization.AdapterStatus;
+import com.google.android.gms.ads.initialization.InitializationStatus;
+import com.google.android.gms.ads.initialization.OnInitializationCompleteListener;
+
+import java.util.Collections;
+import java.util.Map;
+
+// In-memory stand-in for the Google Mobile Ads SDK, initialization completes synchronously
+public class MobileAds {
+    private static volatile boolean sInitialized;
+    private static volatile RequestConfiguration sRequestConfiguration = new RequestConfiguration.Builder().build();
+
+    public static void initialize(Context context) {
+        sInitialized = true;
+    }
+
+    public static void initialize(Context context, OnInitializationCompleteListener listener) {
+        sInitialized = true;
+        final Map<String, AdapterStatus> statusMap = Collections.singletonMap("com.google.android.gms.ads.MobileAds", new AdapterStatus() {
+            @Override
+            public State getInitializationState() {
+                return State.READY;
+            }
+
+            @Override
+            public String getDescription() {
+                return "";
+            }
+
+            @Override
+            public int getLatency() {
+                return 0;
+            }
+        });
+
+        listener.onInitializationComplete(new InitializationStatus() {
+            @Override
+            public Map<String, AdapterStatus> getAdapterStatusMap() {
+                return statusMap;
+            }
+        });
+    }
+
+    static boolean isInitialized() {
+        return sInitialized;
+    }
+
+    public static void disableMediationAdapterInitialization(Context context) {
+    }
+
+    public static VersionInfo getVersion() {
+        return new VersionInfo(22, 1, 0);
+    }
+
+    public static RequestConfiguration getRequestConfiguration() {
+        return sRequestConfiguration;
+    }
+
+    public static void setRequestConfiguration(RequestConfiguration requestConfiguration) {
+        sRequestConfiguration = requestConfiguration;
+    }
+}
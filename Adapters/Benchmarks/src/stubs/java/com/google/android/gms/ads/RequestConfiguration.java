@@ -0,0 +1,69 @@
+package com.google.android.gms.ads;
+
+public class RequestConfiguration {
+    public static final int TAG_FOR_CHILD_DIRECTED_TREATMENT_UNSPECIFIED = -1;
+    public static final int TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE = 0;
+    public static final int TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE = 1;
+    public static final int TAG_FOR_UNDER_AGE_OF_CONSENT_UNSPECIFIED = -1;
+    public static final int TAG_FOR_UNDER_AGE_OF_CONSENT_FALSE = 0;
+    public static final int TAG_FOR_UNDER_AGE_OF_CONSENT_TRUE = 1;
+    public static final String MAX_AD_CONTENT_RATING_UNSPECIFIED = "";
+    public static final String MAX_AD_CONTENT_RATING_G = "G";
+    public static final String MAX_AD_CONTENT_RATING_PG = "PG";
+    public static final String MAX_AD_CONTENT_RATING_T = "T";
+    public static final String MAX_AD_CONTENT_RATING_MA = "MA";
+
+    private final int mTagForChildDirectedTreatment;
+    private final int mTagForUnderAgeOfConsent;
+    private final String mMaxAdContentRating;
+
+    private RequestConfiguration(int tagForChildDirectedTreatment, int tagForUnderAgeOfConsent, String maxAdContentRating) {
+        mTagForChildDirectedTreatment = tagForChildDirectedTreatment;
+        mTagForUnderAgeOfConsent = tagForUnderAgeOfConsent;
+        mMaxAdContentRating = maxAdContentRating;
+    }
+
+    public int getTagForChildDirectedTreatment() {
+        return mTagForChildDirectedTreatment;
+    }
+
+    public int getTagForUnderAgeOfConsent() {
+        return mTagForUnderAgeOfConsent;
+    }
+
+    public String getMaxAdContentRating() {
+        return mMaxAdContentRating;
+    }
+
+    public Builder toBuilder() {
+        return new Builder()
+                .setTagForChildDirectedTreatment(mTagForChildDirectedTreatment)
+                .setTagForUnderAgeOfConsent(mTagForUnderAgeOfConsent)
+                .setMaxAdContentRating(mMaxAdContentRating);
+    }
+
+    public static class Builder {
+        private int mTagForChildDirectedTreatment = TAG_FOR_CHILD_DIRECTED_TREATMENT_UNSPECIFIED;
+        private int mTagForUnderAgeOfConsent = TAG_FOR_UNDER_AGE_OF_CONSENT_UNSPECIFIED;
+        private String mMaxAdContentRating = MAX_AD_CONTENT_RATING_UNSPECIFIED;
+
+        public Builder setTagForChildDirectedTreatment(Integer tagForChildDirectedTreatment) {
+            mTagForChildDirectedTreatment = tagForChildDirectedTreatment;
+            return this;
+        }
+
+        public Builder setTagForUnderAgeOfConsent(Integer tagForUnderAgeOfConsent) {
+            mTagForUnderAgeOfConsent = tagForUnderAgeOfConsent;
+            return this;
+        }
+
+        public Builder setMaxAdContentRating(String maxAdContentRating) {
+            mMaxAdContentRating = maxAdContentRating;
+            return this;
+        }
+
+        public RequestConfiguration build() {
+            return new RequestConfiguration(mTagForChildDirectedTreatment, mTagForUnderAgeOfConsent, mMaxAdContentRating);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.google.android.gms.ads;
+
+public class VersionInfo {
+    private final int mMajorVersion;
+    private final int mMinorVersion;
+    private final int mMicroVersion;
+
+    public VersionInfo(int majorVersion, int minorVersion, int microVersion) {
+        mMajorVersion = majorVersion;
+        mMinorVersion = minorVersion;
+        mMicroVersion = microVersion;
+    }
+
+    @Override
+    public String toString() {
+        return mMajorVersion + "." + mMinorVersion + "." + mMicroVersion;
+    }
+}
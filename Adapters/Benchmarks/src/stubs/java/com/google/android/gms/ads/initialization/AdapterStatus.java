@@ -0,0 +1,14 @@
+package com.google.android.gms.ads.initialization;
+
+public interface AdapterStatus {
+    enum State {
+        NOT_READY,
+        READY
+    }
+
+    State getInitializationState();
+
+    String getDescription();
+
+    int getLatency();
+}
@@ -0,0 +1,64 @@
+package com.google.android.gms.ads.interstitial;
+
+import android.app.Activity;
+import android.content.Context;
+
+import com.google.android.gms.ads.AdRequest;
+import com.google.android.gms.ads.FullScreenContentCallback;
+import com.google.android.gms.ads.LoadAdError;
+import com.ironsource.adapters.simulator.FakeNetwork;
+
+public abstract class InterstitialAd {
+    public abstract String getAdUnitId();
+
+    public abstract void setFullScreenContentCallback(FullScreenContentCallback fullScreenContentCallback);
+
+    public abstract void show(Activity activity);
+
+    // Loads and shows go through the "AdMob" FakeNetwork
+    public static void load(Context context, final String adUnitId, AdRequest adRequest, final InterstitialAdLoadCallback loadCallback) {
+        FakeNetwork.get("AdMob").load(AdRequest.ERROR_CODE_NO_FILL, new FakeNetwork.LoadResult() {
+            @Override
+            public void onFilled() {
+                loadCallback.onAdLoaded(create(adUnitId));
+            }
+
+            @Override
+            public void onFailed(int errorCode) {
+                loadCallback.onAdFailedToLoad(new LoadAdError(errorCode, "load failed", "com.google.android.gms.ads"));
+            }
+        });
+    }
+
+    private static InterstitialAd create(final String adUnitId) {
+        return new InterstitialAd() {
+            private FullScreenContentCallback mFullScreenContentCallback;
+
+            @Override
+            public String getAdUnitId() {
+                return adUnitId;
+            }
+
+            @Override
+            public void setFullScreenContentCallback(FullScreenContentCallback fullScreenContentCallback) {
+                mFullScreenContentCallback = fullScreenContentCallback;
+            }
+
+            @Override
+            public void show(Activity activity) {
+                final FullScreenContentCallback callback = mFullScreenContentCallback;
+
+                FakeNetwork.get("AdMob").show(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (callback != null) {
+                            callback.onAdShowedFullScreenContent();
+                            callback.onAdImpression();
+                            callback.onAdDismissedFullScreenContent();
+                        }
+                    }
+                });
+            }
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.google.android.gms.ads.mediation;
+
+public class MediationAdConfiguration {
+    public static final int TAG_FOR_CHILD_DIRECTED_TREATMENT_UNSPECIFIED = -1;
+    public static final int TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE = 0;
+    public static final int TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE = 1;
+}
@@ -0,0 +1,78 @@
+package com.google.android.gms.ads.rewarded;
+
+import android.app.Activity;
+import android.content.Context;
+
+import com.google.android.gms.ads.AdRequest;
+import com.google.android.gms.ads.FullScreenContentCallback;
+import com.google.android.gms.ads.LoadAdError;
+import com.google.android.gms.ads.OnUserEarnedRewardListener;
+import com.ironsource.adapters.simulator.FakeNetwork;
+
+public abstract class RewardedAd {
+    public abstract String getAdUnitId();
+
+    public abstract void setFullScreenContentCallback(FullScreenContentCallback fullScreenContentCallback);
+
+    public abstract void show(Activity activity, OnUserEarnedRewardListener onUserEarnedRewardListener);
+
+    // Loads and shows go through the "AdMob" FakeNetwork
+    public static void load(Context context, final String adUnitId, AdRequest adRequest, final RewardedAdLoadCallback loadCallback) {
+        FakeNetwork.get("AdMob").load(AdRequest.ERROR_CODE_NO_FILL, new FakeNetwork.LoadResult() {
+            @Override
+            public void onFilled() {
+                loadCallback.onAdLoaded(create(adUnitId));
+            }
+
+            @Override
+            public void onFailed(int errorCode) {
+                loadCallback.onAdFailedToLoad(new LoadAdError(errorCode, "load failed", "com.google.android.gms.ads"));
+            }
+        });
+    }
+
+    private static RewardedAd create(final String adUnitId) {
+        return new RewardedAd() {
+            private FullScreenContentCallback mFullScreenContentCallback;
+
+            @Override
+            public String getAdUnitId() {
+                return adUnitId;
+            }
+
+            @Override
+            public void setFullScreenContentCallback(FullScreenContentCallback fullScreenContentCallback) {
+                mFullScreenContentCallback = fullScreenContentCallback;
+            }
+
+            @Override
+            public void show(Activity activity, final OnUserEarnedRewardListener onUserEarnedRewardListener) {
+                final FullScreenContentCallback callback = mFullScreenContentCallback;
+
+                FakeNetwork.get("AdMob").show(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (callback != null) {
+                            callback.onAdShowedFullScreenContent();
+                            callback.onAdImpression();
+                        }
+                        onUserEarnedRewardListener.onUserEarnedReward(new RewardItem() {
+                            @Override
+                            public int getAmount() {
+                                return 1;
+                            }
+
+                            @Override
+                            public String getType() {
+                                return "coins";
+                            }
+                        });
+                        if (callback != null) {
+                            callback.onAdDismissedFullScreenContent();
+                        }
+                    }
+                });
+            }
+        };
+    }
+}
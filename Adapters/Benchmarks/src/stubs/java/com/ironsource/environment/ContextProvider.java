@@ -0,0 +1,29 @@
+package com.ironsource.environment;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+
+// JVM stand-in for the mediation SDK's ContextProvider, backed by a single fake application and activity
+public class ContextProvider {
+    private static final ContextProvider sInstance = new ContextProvider();
+
+    private final Application mApplication = new Application();
+    private volatile Activity mActivity = new Activity(mApplication);
+
+    public static ContextProvider getInstance() {
+        return sInstance;
+    }
+
+    public Context getApplicationContext() {
+        return mApplication;
+    }
+
+    public Activity getCurrentActiveActivity() {
+        return mActivity;
+    }
+
+    public void updateActivity(Activity activity) {
+        mActivity = activity;
+    }
+}
@@ -0,0 +1,125 @@
+package com.ironsource.mediationsdk;
+
+import com.ironsource.mediationsdk.sdk.BannerSmashListener;
+import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
+import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
+
+import org.json.JSONObject;
+
+import java.util.List;
+import java.util.Map;
+
+// JVM stand-in for the mediation SDK's AbstractAdapter.
+// Every ad unit API has an empty default so adapters only override what they support, like the real base class.
+public abstract class AbstractAdapter {
+    private static volatile boolean sAdaptersDebug = false;
+    private static volatile String sDynamicUserId = null;
+
+    private final String mProviderName;
+    protected LoadWhileShowSupportState mLWSSupportState = LoadWhileShowSupportState.NONE;
+
+    public AbstractAdapter(String providerName) {
+        mProviderName = providerName;
+    }
+
+    public String getProviderName() {
+        return mProviderName;
+    }
+
+    public abstract String getVersion();
+
+    public abstract String getCoreSDKVersion();
+
+    // the benchmark thread plays the role of the UI thread, posted work runs inline
+    protected void postOnUIThread(Runnable runnable) {
+        runnable.run();
+    }
+
+    protected boolean isAdaptersDebugEnabled() {
+        return sAdaptersDebug;
+    }
+
+    public static void setAdaptersDebug(boolean enabled) {
+        sAdaptersDebug = enabled;
+    }
+
+    protected String getDynamicUserId() {
+        return sDynamicUserId;
+    }
+
+    public static void setDynamicUserId(String dynamicUserId) {
+        sDynamicUserId = dynamicUserId;
+    }
+
+    //region Rewarded Video
+    public void initRewardedVideoWithCallback(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) { }
+
+    public void initAndLoadRewardedVideo(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) { }
+
+    public void loadRewardedVideoForBidding(JSONObject config, RewardedVideoSmashListener listener, String serverData) { }
+
+    public void fetchRewardedVideoForAutomaticLoad(JSONObject config, RewardedVideoSmashListener listener) { }
+
+    public void showRewardedVideo(JSONObject config, RewardedVideoSmashListener listener) { }
+
+    public boolean isRewardedVideoAvailable(JSONObject config) {
+        return false;
+    }
+
+    public Map<String, Object> getRewardedVideoBiddingData(JSONObject config) {
+        return null;
+    }
+    //endregion
+
+    //region Interstitial
+    public void initInterstitial(String appKey, String userId, JSONObject config, InterstitialSmashListener listener) { }
+
+    public void initInterstitialForBidding(String appKey, String userId, JSONObject config, InterstitialSmashListener listener) { }
+
+    public void loadInterstitial(JSONObject config, InterstitialSmashListener listener) { }
+
+    public void loadInterstitialForBidding(JSONObject config, InterstitialSmashListener listener, String serverData) { }
+
+    public void showInterstitial(JSONObject config, InterstitialSmashListener listener) { }
+
+    public boolean isInterstitialReady(JSONObject config) {
+        return false;
+    }
+
+    public Map<String, Object> getInterstitialBiddingData(JSONObject config) {
+        return null;
+    }
+    //endregion
+
+    //region Banner
+    public void initBanners(String appKey, String userId, JSONObject config, BannerSmashListener listener) { }
+
+    public void initBannerForBidding(String appKey, String userId, JSONObject config, BannerSmashListener listener) { }
+
+    public void loadBanner(IronSourceBannerLayout banner, JSONObject config, BannerSmashListener listener) { }
+
+    public void loadBannerForBidding(IronSourceBannerLayout banner, JSONObject config, BannerSmashListener listener, String serverData) { }
+
+    public void reloadBanner(IronSourceBannerLayout banner, JSONObject config, BannerSmashListener listener) { }
+
+    public void destroyBanner(JSONObject config) { }
+
+    public boolean shouldBindBannerViewOnReload() {
+        return false;
+    }
+
+    public Map<String, Object> getBannerBiddingData(JSONObject config) {
+        return null;
+    }
+    //endregion
+
+    public void releaseMemory(IronSource.AD_UNIT adUnit, JSONObject config) { }
+
+    public LoadWhileShowSupportState getLoadWhileShowSupportState(JSONObject mAdUnitSettings) {
+        return mLWSSupportState;
+    }
+
+    protected void setConsent(boolean consent) { }
+
+    protected void setMetaData(String key, List<String> values) { }
+}
@@ -0,0 +1,16 @@
+package com.ironsource.mediationsdk;
+
+import android.content.Context;
+
+public class AdapterUtils {
+    // xxhdpi, the most common density bucket
+    private static final float DENSITY = 3.0f;
+
+    public static int dpToPixels(Context context, int dpValue) {
+        return (int) (dpValue * DENSITY + 0.5f);
+    }
+
+    public static boolean isLargeScreen(Context context) {
+        return false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ironsource.mediationsdk;
+
+public interface INetworkInitCallbackListener {
+    void onNetworkInitCallbackSuccess();
+
+    void onNetworkInitCallbackFailed(String error);
+
+    void onNetworkInitCallbackLoadSuccess(String placement);
+}
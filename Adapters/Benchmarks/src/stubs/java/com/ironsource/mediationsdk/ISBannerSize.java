@@ -0,0 +1,43 @@
+package com.ironsource.mediationsdk;
+
+public class ISBannerSize {
+    public static final ISBannerSize BANNER = new ISBannerSize("BANNER", 320, 50);
+    public static final ISBannerSize LARGE = new ISBannerSize("LARGE", 320, 90);
+    public static final ISBannerSize RECTANGLE = new ISBannerSize("RECTANGLE", 300, 250);
+    public static final ISBannerSize SMART = new ISBannerSize("SMART", 0, 0);
+
+    private final String mDescription;
+    private final int mWidth;
+    private final int mHeight;
+    private boolean mIsAdaptive;
+
+    public ISBannerSize(int width, int height) {
+        this("CUSTOM", width, height);
+    }
+
+    public ISBannerSize(String description, int width, int height) {
+        mDescription = description;
+        mWidth = width;
+        mHeight = height;
+    }
+
+    public String getDescription() {
+        return mDescription;
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+
+    public boolean isAdaptive() {
+        return mIsAdaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        mIsAdaptive = adaptive;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ironsource.mediationsdk;
+
+public class IntegrationData {
+    public String name;
+    public String version;
+    public String[] activities;
+    public String[] services;
+    public boolean validateWriteExternalStorage;
+
+    public IntegrationData(String name, String version) {
+        this.name = name;
+        this.version = version;
+    }
+}
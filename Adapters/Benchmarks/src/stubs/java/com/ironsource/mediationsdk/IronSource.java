@@ -0,0 +1,10 @@
+package com.ironsource.mediationsdk;
+
+public class IronSource {
+    public enum AD_UNIT {
+        REWARDED_VIDEO,
+        INTERSTITIAL,
+        OFFERWALL,
+        BANNER
+    }
+}
@@ -0,0 +1,23 @@
+package com.ironsource.mediationsdk;
+
+import android.app.Activity;
+import android.widget.FrameLayout;
+
+public class IronSourceBannerLayout extends FrameLayout {
+    private final Activity mActivity;
+    private final ISBannerSize mSize;
+
+    public IronSourceBannerLayout(Activity activity, ISBannerSize size) {
+        super(activity);
+        mActivity = activity;
+        mSize = size;
+    }
+
+    public Activity getActivity() {
+        return mActivity;
+    }
+
+    public ISBannerSize getSize() {
+        return mSize;
+    }
+}
@@ -0,0 +1,7 @@
+package com.ironsource.mediationsdk;
+
+public enum LoadWhileShowSupportState {
+    NONE,
+    LOAD_WHILE_SHOW_BY_NETWORK,
+    LOAD_WHILE_SHOW_BY_INSTANCE
+}
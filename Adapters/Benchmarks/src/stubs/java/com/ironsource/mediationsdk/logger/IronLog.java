@@ -0,0 +1,52 @@
+package com.ironsource.mediationsdk.logger;
+
+// JVM stand-in for the mediation SDK's IronLog.
+// Messages are dropped unless enabled and at least the logger manager's debug level, so benchmarks measure the adapters
+// and not the log sink.
+public enum IronLog {
+    API,
+    CALLBACK,
+    ADAPTER_API,
+    ADAPTER_CALLBACK,
+    NETWORK,
+    INTERNAL,
+    NATIVE,
+    EVENT;
+
+    private static volatile boolean sEnabled = false;
+    private static volatile String sLastMessage;
+
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+    public static String getLastMessage() {
+        return sLastMessage;
+    }
+
+    public void verbose(String message) {
+        log(IronSourceLogger.IronSourceLogLevel.VERBOSE, message);
+    }
+
+    public void info(String message) {
+        log(IronSourceLogger.IronSourceLogLevel.INFO, message);
+    }
+
+    public void warning(String message) {
+        log(IronSourceLogger.IronSourceLogLevel.WARNING, message);
+    }
+
+    public void error(String message) {
+        log(IronSourceLogger.IronSourceLogLevel.ERROR, message);
+    }
+
+    public void verbose() {
+        log(IronSourceLogger.IronSourceLogLevel.VERBOSE, "");
+    }
+
+    private void log(int level, String message) {
+        if (sEnabled && level >= IronSourceLoggerManager.getLogger().getDebugLevel()) {
+            sLastMessage = name() + " " + message;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ironsource.mediationsdk.logger;
+
+public class IronSourceError {
+    public static final int ERROR_CODE_NO_CONFIGURATIONS = 501;
+    public static final int ERROR_CODE_GENERIC = 510;
+    public static final int ERROR_CODE_INIT_FAILED = 508;
+    public static final int ERROR_CODE_NO_ADS_TO_SHOW = 509;
+    public static final int ERROR_BN_LOAD_NO_FILL = 606;
+    public static final int ERROR_BN_UNSUPPORTED_SIZE = 616;
+    public static final int ERROR_RV_LOAD_NO_FILL = 1058;
+    public static final int ERROR_RV_EXPIRED_ADS = 1059;
+    public static final int ERROR_IS_LOAD_NO_FILL = 1158;
+
+    private final int mErrorCode;
+    private final String mErrorMsg;
+
+    public IronSourceError(int errorCode, String errorMessage) {
+        mErrorCode = errorCode;
+        mErrorMsg = errorMessage;
+    }
+
+    public int getErrorCode() {
+        return mErrorCode;
+    }
+
+    public String getErrorMessage() {
+        return mErrorMsg;
+    }
+
+    @Override
+    public String toString() {
+        return "errorCode:" + mErrorCode + ", errorMessage:" + mErrorMsg;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ironsource.mediationsdk.logger;
+
+// JVM stand-in for the mediation SDK's IronSourceLogger.
+// Only the debug level is kept, a message is logged when its level is at least the debug level.
+public abstract class IronSourceLogger {
+
+    public class IronSourceLogLevel {
+        public static final int VERBOSE = 0;
+        public static final int INFO = 1;
+        public static final int WARNING = 2;
+        public static final int ERROR = 3;
+    }
+
+    private volatile int mDebugLevel = IronSourceLogLevel.INFO;
+
+    public void setDebugLevel(int debugLevel) {
+        mDebugLevel = debugLevel;
+    }
+
+    public int getDebugLevel() {
+        return mDebugLevel;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ironsource.mediationsdk.logger;
+
+// JVM stand-in for the mediation SDK's IronSourceLoggerManager, the logger whose debug level filters IronLog.
+public class IronSourceLoggerManager extends IronSourceLogger {
+
+    private static IronSourceLoggerManager sInstance;
+
+    private IronSourceLoggerManager() {
+    }
+
+    public static synchronized IronSourceLoggerManager getLogger() {
+        if (sInstance == null) {
+            sInstance = new IronSourceLoggerManager();
+        }
+
+        return sInstance;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ironsource.mediationsdk.metadata;
+
+public class MetaData {
+    public enum MetaDataValueTypes {
+        META_DATA_VALUE_STRING,
+        META_DATA_VALUE_BOOLEAN,
+        META_DATA_VALUE_INT,
+        META_DATA_VALUE_LONG,
+        META_DATA_VALUE_DOUBLE,
+        META_DATA_VALUE_FLOAT
+    }
+}
@@ -0,0 +1,26 @@
+package com.ironsource.mediationsdk.metadata;
+
+public class MetaDataUtils {
+    private static final String CCPA_KEY = "do_not_sell";
+
+    public static boolean isValidCCPAMetaData(String key, String value) {
+        return CCPA_KEY.equalsIgnoreCase(key) && value != null && value.length() > 0;
+    }
+
+    public static boolean getMetaDataBooleanValue(String value) {
+        return "true".equalsIgnoreCase(value) || "yes".equalsIgnoreCase(value);
+    }
+
+    public static String formatValueForType(String value, MetaData.MetaDataValueTypes valueType) {
+        if (valueType == MetaData.MetaDataValueTypes.META_DATA_VALUE_BOOLEAN) {
+            String lowerCase = value.toLowerCase();
+            if (lowerCase.equals("true") || lowerCase.equals("yes")) {
+                return "true";
+            } else if (lowerCase.equals("false") || lowerCase.equals("no")) {
+                return "false";
+            }
+            return "";
+        }
+        return value;
+    }
+}
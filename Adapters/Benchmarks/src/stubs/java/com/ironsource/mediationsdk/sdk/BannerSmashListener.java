@@ -0,0 +1,26 @@
+package com.ironsource.mediationsdk.sdk;
+
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.ironsource.mediationsdk.logger.IronSourceError;
+
+public interface BannerSmashListener {
+    void onBannerInitSuccess();
+
+    void onBannerInitFailed(IronSourceError error);
+
+    void onBannerAdLoaded(View adView, FrameLayout.LayoutParams layoutParams);
+
+    void onBannerAdLoadFailed(IronSourceError error);
+
+    void onBannerAdClicked();
+
+    void onBannerAdScreenPresented();
+
+    void onBannerAdScreenDismissed();
+
+    void onBannerAdLeftApplication();
+
+    void onBannerAdShown();
+}
@@ -0,0 +1,25 @@
+package com.ironsource.mediationsdk.sdk;
+
+import com.ironsource.mediationsdk.logger.IronSourceError;
+
+public interface InterstitialSmashListener {
+    void onInterstitialInitSuccess();
+
+    void onInterstitialInitFailed(IronSourceError error);
+
+    void onInterstitialAdReady();
+
+    void onInterstitialAdLoadFailed(IronSourceError error);
+
+    void onInterstitialAdOpened();
+
+    void onInterstitialAdClosed();
+
+    void onInterstitialAdShowSucceeded();
+
+    void onInterstitialAdShowFailed(IronSourceError error);
+
+    void onInterstitialAdClicked();
+
+    void onInterstitialAdVisible();
+}
@@ -0,0 +1,29 @@
+package com.ironsource.mediationsdk.sdk;
+
+import com.ironsource.mediationsdk.logger.IronSourceError;
+
+public interface RewardedVideoSmashListener {
+    void onRewardedVideoInitSuccess();
+
+    void onRewardedVideoInitFailed(IronSourceError error);
+
+    void onRewardedVideoAvailabilityChanged(boolean available);
+
+    void onRewardedVideoLoadFailed(IronSourceError error);
+
+    void onRewardedVideoAdOpened();
+
+    void onRewardedVideoAdClosed();
+
+    void onRewardedVideoAdStarted();
+
+    void onRewardedVideoAdEnded();
+
+    void onRewardedVideoAdRewarded();
+
+    void onRewardedVideoAdShowFailed(IronSourceError error);
+
+    void onRewardedVideoAdClicked();
+
+    void onRewardedVideoAdVisible();
+}
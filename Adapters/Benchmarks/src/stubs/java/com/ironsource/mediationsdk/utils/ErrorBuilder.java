@@ -0,0 +1,33 @@
+package com.ironsource.mediationsdk.utils;
+
+import com.ironsource.mediationsdk.logger.IronSourceError;
+
+public class ErrorBuilder {
+    public static IronSourceError buildInitFailedError(String errorMsg, String adUnit) {
+        return new IronSourceError(IronSourceError.ERROR_CODE_INIT_FAILED, adUnit + " init failed due to an unknown error" + (errorMsg == null ? "" : " - " + errorMsg));
+    }
+
+    public static IronSourceError buildLoadFailedError(String errorMsg) {
+        return new IronSourceError(IronSourceError.ERROR_CODE_GENERIC, errorMsg == null ? "load failed" : errorMsg);
+    }
+
+    public static IronSourceError buildLoadFailedError(String adUnit, String adapterName, String errorMsg) {
+        return new IronSourceError(IronSourceError.ERROR_CODE_GENERIC, adUnit + " Load Fail, " + adapterName + " - " + errorMsg);
+    }
+
+    public static IronSourceError buildNoAdsToShowError(String adUnit) {
+        return new IronSourceError(IronSourceError.ERROR_CODE_NO_ADS_TO_SHOW, adUnit + " Show Fail - No ads to show");
+    }
+
+    public static IronSourceError buildShowFailedError(String adUnit, String error) {
+        return new IronSourceError(IronSourceError.ERROR_CODE_NO_ADS_TO_SHOW, adUnit + " Show Fail - " + error);
+    }
+
+    public static IronSourceError buildNoConfigurationAvailableError(String adUnit) {
+        return new IronSourceError(IronSourceError.ERROR_CODE_NO_CONFIGURATIONS, adUnit);
+    }
+
+    public static IronSourceError unsupportedBannerSize(String network) {
+        return new IronSourceError(IronSourceError.ERROR_BN_UNSUPPORTED_SIZE, network + " unsupported banner size");
+    }
+}
@@ -0,0 +1,7 @@
+package com.ironsource.mediationsdk.utils;
+
+public class IronSourceConstants {
+    public static final String REWARDED_VIDEO_AD_UNIT = "Rewarded Video";
+    public static final String INTERSTITIAL_AD_UNIT = "Interstitial";
+    public static final String BANNER_AD_UNIT = "Banner";
+}
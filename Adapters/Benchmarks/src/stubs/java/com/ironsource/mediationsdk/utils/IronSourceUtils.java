@@ -0,0 +1,7 @@
+package com.ironsource.mediationsdk.utils;
+
+public class IronSourceUtils {
+    public static String getSDKVersion() {
+        return "7.2.4.1";
+    }
+}
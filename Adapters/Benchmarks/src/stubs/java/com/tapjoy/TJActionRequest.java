@@ -0,0 +1,11 @@
+package com.tapjoy;
+
+public interface TJActionRequest {
+    void completed();
+
+    void cancelled();
+
+    String getRequestId();
+
+    String getToken();
+}
@@ -0,0 +1,7 @@
+package com.tapjoy;
+
+public interface TJConnectListener {
+    void onConnectSuccess();
+
+    void onConnectFailure();
+}
@@ -0,0 +1,16 @@
+package com.tapjoy;
+
+public class TJError {
+    public final int code;
+    public final String message;
+
+    public TJError(int code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "code: " + code + ", message: " + message;
+    }
+}
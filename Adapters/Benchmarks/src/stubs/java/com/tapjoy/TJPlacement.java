@@ -0,0 +1,72 @@
+package com.tapjoy;
+
+import java.util.HashMap;
+
+// In-memory stand-in for a Tapjoy placement, every request fills and callbacks run inline
+public class TJPlacement {
+    private final String mName;
+    private final TJPlacementListener mListener;
+    private TJPlacementVideoListener mVideoListener;
+    private HashMap<String, String> mAuctionData;
+    private String mMediationName;
+    private String mAdapterVersion;
+    private volatile boolean mContentReady;
+
+    TJPlacement(String name, TJPlacementListener listener) {
+        mName = name;
+        mListener = listener;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public void setMediationName(String mediationName) {
+        mMediationName = mediationName;
+    }
+
+    public void setAdapterVersion(String adapterVersion) {
+        mAdapterVersion = adapterVersion;
+    }
+
+    public void setAuctionData(HashMap<String, String> auctionData) {
+        mAuctionData = auctionData;
+    }
+
+    public void setVideoListener(TJPlacementVideoListener videoListener) {
+        mVideoListener = videoListener;
+    }
+
+    public void requestContent() {
+        if (!Tapjoy.isConnected()) {
+            mListener.onRequestFailure(this, new TJError(0, "SDK not connected"));
+            return;
+        }
+
+        mContentReady = true;
+        mListener.onRequestSuccess(this);
+        mListener.onContentReady(this);
+    }
+
+    public boolean isContentAvailable() {
+        return mContentReady;
+    }
+
+    public boolean isContentReady() {
+        return mContentReady;
+    }
+
+    public void showContent() {
+        if (!mContentReady) {
+            return;
+        }
+
+        mContentReady = false;
+        mListener.onContentShow(this);
+        if (mVideoListener != null) {
+            mVideoListener.onVideoStart(this);
+            mVideoListener.onVideoComplete(this);
+        }
+        mListener.onContentDismiss(this);
+    }
+}
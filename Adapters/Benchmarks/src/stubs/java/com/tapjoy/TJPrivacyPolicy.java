@@ -0,0 +1,24 @@
+package com.tapjoy;
+
+public class TJPrivacyPolicy {
+    private String mUserConsent;
+    private String mUSPrivacy;
+    private boolean mSubjectToGDPR;
+    private boolean mBelowConsentAge;
+
+    public void setUserConsent(String userConsent) {
+        mUserConsent = userConsent;
+    }
+
+    public void setUSPrivacy(String usPrivacy) {
+        mUSPrivacy = usPrivacy;
+    }
+
+    public void setSubjectToGDPR(boolean subjectToGDPR) {
+        mSubjectToGDPR = subjectToGDPR;
+    }
+
+    public void setBelowConsentAge(boolean belowConsentAge) {
+        mBelowConsentAge = belowConsentAge;
+    }
+}
@@ -0,0 +1,7 @@
+package com.tapjoy;
+
+public interface TJSetUserIDListener {
+    void onSetUserIDSuccess();
+
+    void onSetUserIDFailure(String errorMessage);
+}
@@ -0,0 +1,59 @@
+package com.tapjoy;
+
+import android.app.Activity;
+import android.content.Context;
+
+import java.util.Hashtable;
+
+// In-memory stand-in for the Tapjoy SDK, connect completes synchronously
+public class Tapjoy {
+    private static final TJPrivacyPolicy sPrivacyPolicy = new TJPrivacyPolicy();
+    private static volatile boolean sConnected;
+    private static volatile boolean sDebugEnabled;
+    private static volatile String sUserId;
+
+    public static boolean connect(Context context, String sdkKey, Hashtable<String, ?> connectFlags, TJConnectListener listener) {
+        sConnected = true;
+        if (listener != null) {
+            listener.onConnectSuccess();
+        }
+        return true;
+    }
+
+    public static boolean isConnected() {
+        return sConnected;
+    }
+
+    public static void setDebugEnabled(boolean enabled) {
+        sDebugEnabled = enabled;
+    }
+
+    public static String getVersion() {
+        return "13.0.1";
+    }
+
+    public static TJPrivacyPolicy getPrivacyPolicy() {
+        return sPrivacyPolicy;
+    }
+
+    public static void setActivity(Activity activity) {
+    }
+
+    public static void setUserID(String userId, TJSetUserIDListener listener) {
+        sUserId = userId;
+        if (listener != null) {
+            listener.onSetUserIDSuccess();
+        }
+    }
+
+    public static void optOutAdvertisingID(Context context, boolean optOut) {
+    }
+
+    public static String getUserToken() {
+        return sConnected ? "tapjoy-user-token" : null;
+    }
+
+    public static TJPlacement getPlacement(String placementName, TJPlacementListener listener) {
+        return new TJPlacement(placementName, listener);
+    }
+}
@@ -0,0 +1,6 @@
+package com.tapjoy;
+
+public class TapjoyAuctionFlags {
+    public static final String AUCTION_ID = "id";
+    public static final String AUCTION_DATA = "ext_data";
+}
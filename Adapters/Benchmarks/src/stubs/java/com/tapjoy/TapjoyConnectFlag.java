@@ -0,0 +1,5 @@
+package com.tapjoy;
+
+public class TapjoyConnectFlag {
+    public static final String ENABLE_LOGGING = "TJC_OPTION_ENABLE_LOGGING";
+}
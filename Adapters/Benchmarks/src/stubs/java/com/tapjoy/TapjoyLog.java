@@ -0,0 +1,13 @@
+package com.tapjoy;
+
+public class TapjoyLog {
+    private static volatile boolean sDebugEnabled;
+
+    public static void setDebugEnabled(boolean enabled) {
+        sDebugEnabled = enabled;
+    }
+
+    public static boolean isLoggingEnabled() {
+        return sDebugEnabled;
+    }
+}
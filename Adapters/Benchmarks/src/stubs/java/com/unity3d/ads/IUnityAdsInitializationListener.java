@@ -0,0 +1,7 @@
+package com.unity3d.ads;
+
+public interface IUnityAdsInitializationListener {
+    void onInitializationComplete();
+
+    void onInitializationFailed(UnityAds.UnityAdsInitializationError error, String message);
+}
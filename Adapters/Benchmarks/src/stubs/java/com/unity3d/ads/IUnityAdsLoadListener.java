@@ -0,0 +1,7 @@
+package com.unity3d.ads;
+
+public interface IUnityAdsLoadListener {
+    void onUnityAdsAdLoaded(String placementId);
+
+    void onUnityAdsFailedToLoad(String placementId, UnityAds.UnityAdsLoadError error, String message);
+}
@@ -0,0 +1,11 @@
+package com.unity3d.ads;
+
+public interface IUnityAdsShowListener {
+    void onUnityAdsShowFailure(String placementId, UnityAds.UnityAdsShowError error, String message);
+
+    void onUnityAdsShowStart(String placementId);
+
+    void onUnityAdsShowClick(String placementId);
+
+    void onUnityAdsShowComplete(String placementId, UnityAds.UnityAdsShowCompletionState state);
+}
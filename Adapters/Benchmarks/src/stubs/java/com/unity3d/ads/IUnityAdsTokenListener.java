@@ -0,0 +1,5 @@
+package com.unity3d.ads;
+
+public interface IUnityAdsTokenListener {
+    void onUnityAdsTokenReady(String token);
+}
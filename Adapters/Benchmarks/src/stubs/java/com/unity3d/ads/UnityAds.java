@@ -0,0 +1,124 @@
+package com.unity3d.ads;
+
+import android.app.Activity;
+import android.content.Context;
+
+import com.ironsource.adapters.simulator.FakeNetwork;
+
+import java.util.HashSet;
+
+// In-memory stand-in for the Unity Ads SDK: init succeeds immediately, loads and shows go through the "UnityAds" FakeNetwork
+public class UnityAds {
+    public enum UnityAdsInitializationError {
+        INTERNAL_ERROR,
+        INVALID_ARGUMENT,
+        AD_BLOCKER_DETECTED
+    }
+
+    public enum UnityAdsLoadError {
+        INITIALIZE_FAILED,
+        INTERNAL_ERROR,
+        INVALID_ARGUMENT,
+        NO_FILL,
+        TIMEOUT
+    }
+
+    public enum UnityAdsShowError {
+        NOT_INITIALIZED,
+        NOT_READY,
+        VIDEO_PLAYER_ERROR,
+        INVALID_ARGUMENT,
+        NO_CONNECTION,
+        ALREADY_SHOWING,
+        INTERNAL_ERROR,
+        TIMEOUT
+    }
+
+    public enum UnityAdsShowCompletionState {
+        SKIPPED,
+        COMPLETED
+    }
+
+    private static volatile boolean sInitialized;
+    private static volatile boolean sDebugMode;
+    private static final HashSet<String> sLoadedPlacements = new HashSet<>();
+
+    public static void initialize(Context context, String gameId, boolean testMode, IUnityAdsInitializationListener initializationListener) {
+        sInitialized = true;
+        if (initializationListener != null) {
+            initializationListener.onInitializationComplete();
+        }
+    }
+
+    public static boolean isInitialized() {
+        return sInitialized;
+    }
+
+    public static void setDebugMode(boolean debugMode) {
+        sDebugMode = debugMode;
+    }
+
+    public static String getVersion() {
+        return "4.4.1";
+    }
+
+    public static String getToken() {
+        return sInitialized ? "unity-bid-token" : null;
+    }
+
+    public static void getToken(IUnityAdsTokenListener listener) {
+        listener.onUnityAdsTokenReady("unity-bid-token");
+    }
+
+    public static void load(String placementId, IUnityAdsLoadListener listener) {
+        load(placementId, new UnityAdsLoadOptions(), listener);
+    }
+
+    public static void load(final String placementId, UnityAdsLoadOptions loadOptions, final IUnityAdsLoadListener listener) {
+        if (!sInitialized) {
+            listener.onUnityAdsFailedToLoad(placementId, UnityAdsLoadError.INITIALIZE_FAILED, "not initialized");
+            return;
+        }
+
+        // the error code is the ordinal of the UnityAdsLoadError
+        FakeNetwork.get("UnityAds").load(UnityAdsLoadError.NO_FILL.ordinal(), new FakeNetwork.LoadResult() {
+            @Override
+            public void onFilled() {
+                synchronized (sLoadedPlacements) {
+                    sLoadedPlacements.add(placementId);
+                }
+                listener.onUnityAdsAdLoaded(placementId);
+            }
+
+            @Override
+            public void onFailed(int errorCode) {
+                UnityAdsLoadError error = UnityAdsLoadError.values()[Math.floorMod(errorCode, UnityAdsLoadError.values().length)];
+                listener.onUnityAdsFailedToLoad(placementId, error, "load failed");
+            }
+        });
+    }
+
+    public static void show(Activity activity, String placementId, IUnityAdsShowListener showListener) {
+        show(activity, placementId, new UnityAdsShowOptions(), showListener);
+    }
+
+    public static void show(Activity activity, final String placementId, UnityAdsShowOptions showOptions, final IUnityAdsShowListener showListener) {
+        boolean loaded;
+        synchronized (sLoadedPlacements) {
+            loaded = sLoadedPlacements.remove(placementId);
+        }
+
+        if (!loaded) {
+            showListener.onUnityAdsShowFailure(placementId, UnityAdsShowError.NOT_READY, "placement not ready");
+            return;
+        }
+
+        FakeNetwork.get("UnityAds").show(new Runnable() {
+            @Override
+            public void run() {
+                showListener.onUnityAdsShowStart(placementId);
+                showListener.onUnityAdsShowComplete(placementId, UnityAdsShowCompletionState.COMPLETED);
+            }
+        });
+    }
+}
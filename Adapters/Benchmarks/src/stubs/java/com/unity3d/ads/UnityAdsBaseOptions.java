@@ -0,0 +1,23 @@
+package com.unity3d.ads;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+public class UnityAdsBaseOptions {
+    private final JSONObject mData = new JSONObject();
+
+    public void setObjectId(String objectId) {
+        set("objectId", objectId);
+    }
+
+    public JSONObject getData() {
+        return mData;
+    }
+
+    protected void set(String key, String value) {
+        try {
+            mData.put(key, value);
+        } catch (JSONException ignored) {
+        }
+    }
+}
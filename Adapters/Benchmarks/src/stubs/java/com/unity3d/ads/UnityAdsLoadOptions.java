@@ -0,0 +1,7 @@
+package com.unity3d.ads;
+
+public class UnityAdsLoadOptions extends UnityAdsBaseOptions {
+    public void setAdMarkup(String adMarkup) {
+        set("adMarkup", adMarkup);
+    }
+}
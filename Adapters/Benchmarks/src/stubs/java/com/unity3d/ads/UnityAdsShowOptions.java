@@ -0,0 +1,4 @@
+package com.unity3d.ads;
+
+public class UnityAdsShowOptions extends UnityAdsBaseOptions {
+}
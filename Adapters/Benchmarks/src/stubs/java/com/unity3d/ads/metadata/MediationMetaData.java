@@ -0,0 +1,17 @@
+package com.unity3d.ads.metadata;
+
+import android.content.Context;
+
+public class MediationMetaData extends MetaData {
+    public MediationMetaData(Context context) {
+        super(context, "mediation");
+    }
+
+    public void setName(String mediationNetworkName) {
+        set("name", mediationNetworkName);
+    }
+
+    public void setVersion(String mediationSdkVersion) {
+        set("version", mediationSdkVersion);
+    }
+}
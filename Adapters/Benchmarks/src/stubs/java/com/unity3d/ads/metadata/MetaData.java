@@ -0,0 +1,62 @@
+package com.unity3d.ads.metadata;
+
+import android.content.Context;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// In-memory stand-in for Unity Ads metadata, commit publishes the pending values into a shared storage.
+// Tests can make the next commits throw with failNextCommits
+public class MetaData {
+    private static final HashMap<String, Object> sStorage = new HashMap<>();
+    private static int sFailingCommits;
+
+    private final String mCategory;
+    private final HashMap<String, Object> mMetaData = new HashMap<>();
+
+    public MetaData(Context context) {
+        this(context, null);
+    }
+
+    protected MetaData(Context context, String category) {
+        mCategory = category;
+    }
+
+    public boolean set(String key, Object value) {
+        mMetaData.put(mCategory == null ? key : mCategory + "." + key, value);
+        return true;
+    }
+
+    public Object get(String key) {
+        return mMetaData.get(key);
+    }
+
+    public String getCategory() {
+        return mCategory;
+    }
+
+    public void commit() {
+        synchronized (sStorage) {
+            if (sFailingCommits > 0) {
+                sFailingCommits--;
+                throw new IllegalStateException("commit failed");
+            }
+
+            for (Map.Entry<String, Object> entry : mMetaData.entrySet()) {
+                sStorage.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public static void failNextCommits(int count) {
+        synchronized (sStorage) {
+            sFailingCommits = count;
+        }
+    }
+
+    public static Object getStoredValue(String key) {
+        synchronized (sStorage) {
+            return sStorage.get(key);
+        }
+    }
+}
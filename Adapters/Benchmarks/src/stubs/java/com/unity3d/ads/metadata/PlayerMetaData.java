@@ -0,0 +1,13 @@
+package com.unity3d.ads.metadata;
+
+import android.content.Context;
+
+public class PlayerMetaData extends MetaData {
+    public PlayerMetaData(Context context) {
+        super(context, "player");
+    }
+
+    public void setServerId(String serverId) {
+        set("server_id", serverId);
+    }
+}
@@ -0,0 +1,64 @@
+package com.unity3d.services.banners;
+
+import android.app.Activity;
+import android.widget.FrameLayout;
+
+import com.unity3d.ads.UnityAds;
+
+// In-memory stand-in for the Unity Ads banner view
+public class BannerView extends FrameLayout {
+    private final String mPlacementId;
+    private final UnityBannerSize mSize;
+    private IListener mListener;
+    private boolean mDestroyed;
+
+    public interface IListener {
+        void onBannerLoaded(BannerView bannerAdView);
+
+        void onBannerClick(BannerView bannerAdView);
+
+        void onBannerFailedToLoad(BannerView bannerAdView, BannerErrorInfo errorInfo);
+
+        void onBannerLeftApplication(BannerView bannerView);
+    }
+
+    public BannerView(Activity activity, String placementId, UnityBannerSize size) {
+        super(activity);
+        mPlacementId = placementId;
+        mSize = size;
+    }
+
+    public String getPlacementId() {
+        return mPlacementId;
+    }
+
+    public UnityBannerSize getSize() {
+        return mSize;
+    }
+
+    public void setListener(IListener listener) {
+        mListener = listener;
+    }
+
+    public IListener getListener() {
+        return mListener;
+    }
+
+    public void load() {
+        if (mListener == null) {
+            return;
+        }
+
+        if (mDestroyed || !UnityAds.isInitialized()) {
+            mListener.onBannerFailedToLoad(this, new BannerErrorInfo("banner not loaded", BannerErrorCode.UNKNOWN));
+            return;
+        }
+
+        mListener.onBannerLoaded(this);
+    }
+
+    public void destroy() {
+        mDestroyed = true;
+        mListener = null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.unity3d.services.banners;
+
+public class UnityBannerSize {
+    private final int mWidth;
+    private final int mHeight;
+
+    public UnityBannerSize(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+}
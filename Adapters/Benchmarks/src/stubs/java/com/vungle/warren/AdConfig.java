@@ -0,0 +1,46 @@
+package com.vungle.warren;
+
+public class AdConfig {
+    public static final int PORTRAIT = 0;
+    public static final int LANDSCAPE = 1;
+    public static final int AUTO_ROTATE = 2;
+
+    private int mOrientation = AUTO_ROTATE;
+    private boolean mMuted;
+
+    public enum AdSize {
+        VUNGLE_MREC(300, 250),
+        VUNGLE_DEFAULT(-1, -1),
+        BANNER(320, 50),
+        BANNER_SHORT(300, 50),
+        BANNER_LEADERBOARD(728, 90);
+
+        private final int mWidth;
+        private final int mHeight;
+
+        AdSize(int width, int height) {
+            mWidth = width;
+            mHeight = height;
+        }
+
+        public int getWidth() {
+            return mWidth;
+        }
+
+        public int getHeight() {
+            return mHeight;
+        }
+    }
+
+    public void setAdOrientation(int orientation) {
+        mOrientation = orientation;
+    }
+
+    public int getAdOrientation() {
+        return mOrientation;
+    }
+
+    public void setMuted(boolean muted) {
+        mMuted = muted;
+    }
+}
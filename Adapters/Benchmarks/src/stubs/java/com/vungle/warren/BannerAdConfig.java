@@ -0,0 +1,21 @@
+package com.vungle.warren;
+
+public class BannerAdConfig extends AdConfig {
+    private AdSize mAdSize;
+
+    public BannerAdConfig() {
+        this(AdSize.BANNER);
+    }
+
+    public BannerAdConfig(AdSize adSize) {
+        mAdSize = adSize;
+    }
+
+    public AdSize getAdSize() {
+        return mAdSize;
+    }
+
+    public void setAdSize(AdSize adSize) {
+        mAdSize = adSize;
+    }
+}
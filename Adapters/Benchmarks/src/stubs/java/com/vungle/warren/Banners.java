@@ -0,0 +1,42 @@
+package com.vungle.warren;
+
+import com.vungle.warren.error.VungleException;
+
+// In-memory stand-in for the Vungle banner API
+public class Banners {
+    public static void loadBanner(String placementId, BannerAdConfig bannerAdConfig, LoadAdCallback callback) {
+        loadBanner(placementId, null, bannerAdConfig, callback);
+    }
+
+    public static void loadBanner(String placementId, String markup, BannerAdConfig bannerAdConfig, LoadAdCallback callback) {
+        if (!Vungle.isInitialized()) {
+            callback.onError(placementId, new VungleException(VungleException.VUNGLE_NOT_INTIALIZED));
+            return;
+        }
+
+        Vungle.cacheAd(placementId, markup);
+        callback.onAdLoad(placementId);
+    }
+
+    public static boolean canPlayAd(String placementId, AdConfig.AdSize adSize) {
+        return Vungle.isCached(placementId, null);
+    }
+
+    public static boolean canPlayAd(String placementId, String markup, AdConfig.AdSize adSize) {
+        return Vungle.isCached(placementId, markup);
+    }
+
+    public static VungleBanner getBanner(String placementId, BannerAdConfig bannerAdConfig, PlayAdCallback playAdCallback) {
+        return getBanner(placementId, null, bannerAdConfig, playAdCallback);
+    }
+
+    public static VungleBanner getBanner(String placementId, String markup, BannerAdConfig bannerAdConfig, PlayAdCallback playAdCallback) {
+        if (!Vungle.consumeAd(placementId, markup)) {
+            return null;
+        }
+
+        VungleBanner banner = new VungleBanner(Vungle.sContext, placementId, playAdCallback);
+        banner.renderAd();
+        return banner;
+    }
+}
@@ -0,0 +1,5 @@
+package com.vungle.warren;
+
+public final class BuildConfig {
+    public static final String VERSION_NAME = "6.12.0";
+}
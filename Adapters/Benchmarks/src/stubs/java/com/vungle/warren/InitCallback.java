@@ -0,0 +1,11 @@
+package com.vungle.warren;
+
+import com.vungle.warren.error.VungleException;
+
+public interface InitCallback {
+    void onSuccess();
+
+    void onError(VungleException exception);
+
+    void onAutoCacheAdAvailable(String placementId);
+}
@@ -0,0 +1,9 @@
+package com.vungle.warren;
+
+import com.vungle.warren.error.VungleException;
+
+public interface LoadAdCallback {
+    void onAdLoad(String placementId);
+
+    void onError(String placementId, VungleException exception);
+}
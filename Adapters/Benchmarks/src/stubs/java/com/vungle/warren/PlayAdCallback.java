@@ -0,0 +1,24 @@
+package com.vungle.warren;
+
+import com.vungle.warren.error.VungleException;
+
+public interface PlayAdCallback {
+    void creativeId(String creativeId);
+
+    void onAdStart(String placementId);
+
+    @Deprecated
+    void onAdEnd(String placementId, boolean completed, boolean isCTAClicked);
+
+    void onAdEnd(String placementId);
+
+    void onAdClick(String placementId);
+
+    void onAdRewarded(String placementId);
+
+    void onAdLeftApplication(String placementId);
+
+    void onError(String placementId, VungleException exception);
+
+    void onAdViewed(String placementId);
+}
@@ -0,0 +1,9 @@
+package com.vungle.warren;
+
+public class Plugin {
+    private static volatile String sWrapperInfo;
+
+    public static void addWrapperInfo(VungleApiClient.WrapperFramework wrapperFramework, String wrapperFrameworkVersion) {
+        sWrapperInfo = wrapperFramework + "/" + wrapperFrameworkVersion;
+    }
+}
@@ -0,0 +1,133 @@
+package com.vungle.warren;
+
+import android.content.Context;
+
+import com.ironsource.adapters.simulator.FakeNetwork;
+import com.vungle.warren.error.VungleException;
+
+import java.util.HashSet;
+
+// In-memory stand-in for the Vungle SDK: init succeeds immediately, loads and shows go through the "Vungle" FakeNetwork
+public class Vungle {
+    public enum Consent {
+        OPTED_IN,
+        OPTED_OUT
+    }
+
+    private static volatile boolean sInitialized;
+    static volatile Context sContext;
+
+    // the real SDK keeps its ad repository behind a lock as well
+    private static final HashSet<String> sCachedAds = new HashSet<>();
+
+    public static void init(String appId, Context context, InitCallback callback, VungleSettings settings) {
+        sContext = context;
+        sInitialized = true;
+        callback.onSuccess();
+    }
+
+    public static boolean isInitialized() {
+        return sInitialized;
+    }
+
+    public static void loadAd(String placementId, LoadAdCallback callback) {
+        loadAd(placementId, null, null, callback);
+    }
+
+    public static void loadAd(String placementId, AdConfig adConfig, LoadAdCallback callback) {
+        loadAd(placementId, null, adConfig, callback);
+    }
+
+    public static void loadAd(final String placementId, final String markup, AdConfig adConfig, final LoadAdCallback callback) {
+        if (!sInitialized) {
+            callback.onError(placementId, new VungleException(VungleException.VUNGLE_NOT_INTIALIZED));
+            return;
+        }
+
+        FakeNetwork.get("Vungle").load(VungleException.NO_SERVE, new FakeNetwork.LoadResult() {
+            @Override
+            public void onFilled() {
+                cacheAd(placementId, markup);
+                callback.onAdLoad(placementId);
+            }
+
+            @Override
+            public void onFailed(int errorCode) {
+                callback.onError(placementId, new VungleException(errorCode));
+            }
+        });
+    }
+
+    public static boolean canPlayAd(String placementId) {
+        return canPlayAd(placementId, null);
+    }
+
+    public static boolean canPlayAd(String placementId, String markup) {
+        synchronized (sCachedAds) {
+            return sCachedAds.contains(key(placementId, markup));
+        }
+    }
+
+    public static void playAd(String placementId, AdConfig adConfig, PlayAdCallback callback) {
+        playAd(placementId, null, adConfig, callback);
+    }
+
+    public static void playAd(final String placementId, String markup, AdConfig adConfig, final PlayAdCallback callback) {
+        boolean removed;
+        synchronized (sCachedAds) {
+            removed = sCachedAds.remove(key(placementId, markup));
+        }
+
+        if (!removed) {
+            callback.onError(placementId, new VungleException(VungleException.AD_UNABLE_TO_PLAY));
+            return;
+        }
+
+        FakeNetwork.get("Vungle").show(new Runnable() {
+            @Override
+            public void run() {
+                callback.creativeId("creative");
+                callback.onAdStart(placementId);
+                callback.onAdViewed(placementId);
+                callback.onAdRewarded(placementId);
+                callback.onAdEnd(placementId);
+            }
+        });
+    }
+
+    public static String getAvailableBidTokens(Context context) {
+        return "vungle-bid-token";
+    }
+
+    public static void setIncentivizedFields(String userID, String title, String body, String keepWatching, String close) {
+    }
+
+    public static void updateConsentStatus(Consent status, String consentMessageVersion) {
+    }
+
+    public static void updateCCPAStatus(Consent status) {
+    }
+
+    public static void updateUserCoppaStatus(boolean isUserCoppa) {
+    }
+
+    static void cacheAd(String placementId, String markup) {
+        synchronized (sCachedAds) {
+            sCachedAds.add(key(placementId, markup));
+        }
+    }
+
+    static boolean isCached(String placementId, String markup) {
+        return canPlayAd(placementId, markup);
+    }
+
+    static boolean consumeAd(String placementId, String markup) {
+        synchronized (sCachedAds) {
+            return sCachedAds.remove(key(placementId, markup));
+        }
+    }
+
+    private static String key(String placementId, String markup) {
+        return markup == null ? placementId : placementId + "#" + markup;
+    }
+}
@@ -0,0 +1,25 @@
+package com.vungle.warren;
+
+public class VungleApiClient {
+    public enum WrapperFramework {
+        admob,
+        air,
+        cocos2dx,
+        corona,
+        dfp,
+        heyzap,
+        marmalade,
+        mopub,
+        unity,
+        fyber,
+        ironsource,
+        upsight,
+        appodeal,
+        aerserv,
+        adtoapp,
+        tapdaq,
+        vunglehbs,
+        max,
+        none
+    }
+}
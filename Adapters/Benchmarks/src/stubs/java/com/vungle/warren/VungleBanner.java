@@ -0,0 +1,31 @@
+package com.vungle.warren;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+public class VungleBanner extends FrameLayout {
+    private final String mPlacementId;
+    private final PlayAdCallback mPlayAdCallback;
+    private boolean mDestroyed;
+
+    VungleBanner(Context context, String placementId, PlayAdCallback playAdCallback) {
+        super(context);
+        mPlacementId = placementId;
+        mPlayAdCallback = playAdCallback;
+    }
+
+    public void destroyAd() {
+        mDestroyed = true;
+    }
+
+    public boolean isDestroyed() {
+        return mDestroyed;
+    }
+
+    void renderAd() {
+        if (mPlayAdCallback != null) {
+            mPlayAdCallback.onAdStart(mPlacementId);
+            mPlayAdCallback.onAdViewed(mPlacementId);
+        }
+    }
+}
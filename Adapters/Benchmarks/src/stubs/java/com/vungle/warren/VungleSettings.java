@@ -0,0 +1,26 @@
+package com.vungle.warren;
+
+public class VungleSettings {
+    private final boolean mBannerRefreshDisabled;
+
+    private VungleSettings(Builder builder) {
+        mBannerRefreshDisabled = builder.mBannerRefreshDisabled;
+    }
+
+    public boolean getBannerRefreshDisabled() {
+        return mBannerRefreshDisabled;
+    }
+
+    public static class Builder {
+        private boolean mBannerRefreshDisabled;
+
+        public Builder disableBannerRefresh() {
+            mBannerRefreshDisabled = true;
+            return this;
+        }
+
+        public VungleSettings build() {
+            return new VungleSettings(this);
+        }
+    }
+}
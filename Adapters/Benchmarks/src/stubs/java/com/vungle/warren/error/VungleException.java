@@ -0,0 +1,18 @@
+package com.vungle.warren.error;
+
+public class VungleException extends Exception {
+    public static final int NO_SERVE = 1;
+    public static final int VUNGLE_NOT_INTIALIZED = 9;
+    public static final int AD_UNABLE_TO_PLAY = 10;
+
+    private final int mExceptionCode;
+
+    public VungleException(int code) {
+        super("Vungle error " + code);
+        mExceptionCode = code;
+    }
+
+    public int getExceptionCode() {
+        return mExceptionCode;
+    }
+}
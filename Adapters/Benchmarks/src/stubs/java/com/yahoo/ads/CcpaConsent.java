@@ -0,0 +1,7 @@
+package com.yahoo.ads;
+
+public class CcpaConsent extends Consent {
+    public CcpaConsent(String consentString) {
+        super(consentString);
+    }
+}
@@ -0,0 +1,13 @@
+package com.yahoo.ads;
+
+public abstract class Consent {
+    private final String mValue;
+
+    protected Consent(String value) {
+        mValue = value;
+    }
+
+    public String getValue() {
+        return mValue;
+    }
+}
@@ -0,0 +1,30 @@
+package com.yahoo.ads;
+
+public class ErrorInfo {
+    private final String mWho;
+    private final String mDescription;
+    private final int mErrorCode;
+
+    public ErrorInfo(String who, String description, int errorCode) {
+        mWho = who;
+        mDescription = description;
+        mErrorCode = errorCode;
+    }
+
+    public String getWho() {
+        return mWho;
+    }
+
+    public String getDescription() {
+        return mDescription;
+    }
+
+    public int getErrorCode() {
+        return mErrorCode;
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorInfo{who='" + mWho + "', description='" + mDescription + "', errorCode=" + mErrorCode + "}";
+    }
+}
@@ -0,0 +1,7 @@
+package com.yahoo.ads;
+
+public class GdprConsent extends Consent {
+    public GdprConsent(String consentString) {
+        super(consentString);
+    }
+}
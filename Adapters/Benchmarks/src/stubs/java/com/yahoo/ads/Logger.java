@@ -0,0 +1,9 @@
+package com.yahoo.ads;
+
+public class Logger {
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+}
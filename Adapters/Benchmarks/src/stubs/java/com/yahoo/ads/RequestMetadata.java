@@ -0,0 +1,54 @@
+package com.yahoo.ads;
+
+import java.util.Map;
+
+public class RequestMetadata {
+    private final String mMediator;
+    private final Map<String, Object> mPlacementData;
+
+    private RequestMetadata(String mediator, Map<String, Object> placementData) {
+        mMediator = mediator;
+        mPlacementData = placementData;
+    }
+
+    public String getMediator() {
+        return mMediator;
+    }
+
+    public Map<String, Object> getPlacementData() {
+        return mPlacementData;
+    }
+
+    public static class Builder {
+        private String mMediator;
+        private Map<String, Object> mPlacementData;
+
+        public Builder() {
+        }
+
+        public Builder(RequestMetadata requestMetadata) {
+            if (requestMetadata != null) {
+                mMediator = requestMetadata.mMediator;
+                mPlacementData = requestMetadata.mPlacementData;
+            }
+        }
+
+        public Builder setMediator(String mediator) {
+            mMediator = mediator;
+            return this;
+        }
+
+        public Map<String, Object> getPlacementData() {
+            return mPlacementData;
+        }
+
+        public Builder setPlacementData(Map<String, Object> placementData) {
+            mPlacementData = placementData;
+            return this;
+        }
+
+        public RequestMetadata build() {
+            return new RequestMetadata(mMediator, mPlacementData);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.yahoo.ads;
+
+public class SDKInfo {
+    private final String mVersion;
+
+    SDKInfo(String version) {
+        mVersion = version;
+    }
+
+    public String getVersion() {
+        return mVersion;
+    }
+}
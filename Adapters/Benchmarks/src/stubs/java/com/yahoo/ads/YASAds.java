@@ -0,0 +1,54 @@
+package com.yahoo.ads;
+
+import android.app.Application;
+import android.content.Context;
+
+// In-memory stand-in for the Yahoo Mobile SDK, initialization completes synchronously
+public class YASAds {
+    public static final int ERROR_NO_FILL = -1;
+
+    private static volatile boolean sInitialized;
+    private static volatile int sLogLevel = Logger.INFO;
+    private static volatile RequestMetadata sRequestMetadata;
+
+    public static boolean initialize(Application application, String siteId) {
+        sInitialized = true;
+        return true;
+    }
+
+    public static boolean isInitialized() {
+        return sInitialized;
+    }
+
+    public static void setLogLevel(int logLevel) {
+        sLogLevel = logLevel;
+    }
+
+    public static SDKInfo getSDKInfo() {
+        return new SDKInfo("1.4.0");
+    }
+
+    public static String getBiddingToken(Context context) {
+        return sInitialized ? "yahoo-bidding-token" : null;
+    }
+
+    public static RequestMetadata getRequestMetadata() {
+        return sRequestMetadata;
+    }
+
+    public static void setRequestMetadata(RequestMetadata requestMetadata) {
+        sRequestMetadata = requestMetadata;
+    }
+
+    public static void applyCcpa() {
+    }
+
+    public static void applyGdpr() {
+    }
+
+    public static void applyCoppa() {
+    }
+
+    public static void addConsent(Consent consent) {
+    }
+}
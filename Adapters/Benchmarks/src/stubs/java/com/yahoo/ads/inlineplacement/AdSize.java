@@ -0,0 +1,19 @@
+package com.yahoo.ads.inlineplacement;
+
+public class AdSize {
+    private final int mWidth;
+    private final int mHeight;
+
+    public AdSize(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+}
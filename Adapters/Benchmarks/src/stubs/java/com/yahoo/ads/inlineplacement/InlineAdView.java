@@ -0,0 +1,65 @@
+package com.yahoo.ads.inlineplacement;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+import com.yahoo.ads.ErrorInfo;
+import com.yahoo.ads.YASAds;
+
+import java.util.Map;
+
+// In-memory stand-in for the Yahoo inline placement view, every load fills and callbacks run inline
+public class InlineAdView extends FrameLayout {
+    public interface InlineAdListener {
+        void onError(InlineAdView inlineAdView, ErrorInfo errorInfo);
+
+        void onLoaded(InlineAdView inlineAdView);
+
+        void onLoadFailed(InlineAdView inlineAdView, ErrorInfo errorInfo);
+
+        void onResized(InlineAdView inlineAdView);
+
+        void onExpanded(InlineAdView inlineAdView);
+
+        void onCollapsed(InlineAdView inlineAdView);
+
+        void onClicked(InlineAdView inlineAdView);
+
+        void onAdLeftApplication(InlineAdView inlineAdView);
+
+        void onAdRefreshed(InlineAdView inlineAdView);
+
+        void onEvent(InlineAdView inlineAdView, String source, String eventId, Map<String, Object> arguments);
+    }
+
+    private final String mPlacementId;
+    private InlineAdListener mListener;
+
+    public InlineAdView(Context context, String placementId, InlineAdListener listener) {
+        super(context);
+        mPlacementId = placementId;
+        mListener = listener;
+    }
+
+    public String getPlacementId() {
+        return mPlacementId;
+    }
+
+    public void load(InlinePlacementConfig placementConfig) {
+        InlineAdListener listener = mListener;
+        if (listener == null) {
+            return;
+        }
+
+        if (!YASAds.isInitialized()) {
+            listener.onLoadFailed(this, new ErrorInfo(InlineAdView.class.getName(), "Yahoo Mobile SDK must be initialized", -3));
+            return;
+        }
+
+        listener.onLoaded(this);
+    }
+
+    public void destroy() {
+        mListener = null;
+    }
+}
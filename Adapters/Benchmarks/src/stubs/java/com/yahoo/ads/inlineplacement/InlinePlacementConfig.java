@@ -0,0 +1,17 @@
+package com.yahoo.ads.inlineplacement;
+
+import com.yahoo.ads.RequestMetadata;
+
+import java.util.List;
+
+public class InlinePlacementConfig {
+    public final String placementId;
+    public final RequestMetadata requestMetadata;
+    public final List<AdSize> adSizes;
+
+    public InlinePlacementConfig(String placementId, RequestMetadata requestMetadata, List<AdSize> adSizes) {
+        this.placementId = placementId;
+        this.requestMetadata = requestMetadata;
+        this.adSizes = adSizes;
+    }
+}
@@ -0,0 +1,76 @@
+package com.yahoo.ads.interstitialplacement;
+
+import android.content.Context;
+
+import com.yahoo.ads.ErrorInfo;
+import com.yahoo.ads.YASAds;
+
+import java.util.Map;
+
+// In-memory stand-in for the Yahoo interstitial placement, every load fills and callbacks run inline
+public class InterstitialAd {
+    public interface InterstitialAdListener {
+        void onError(InterstitialAd interstitialAd, ErrorInfo errorInfo);
+
+        void onLoaded(InterstitialAd interstitialAd);
+
+        void onLoadFailed(InterstitialAd interstitialAd, ErrorInfo errorInfo);
+
+        void onShown(InterstitialAd interstitialAd);
+
+        void onClosed(InterstitialAd interstitialAd);
+
+        void onClicked(InterstitialAd interstitialAd);
+
+        void onAdLeftApplication(InterstitialAd interstitialAd);
+
+        void onEvent(InterstitialAd interstitialAd, String source, String eventId, Map<String, Object> arguments);
+    }
+
+    private static final String VIDEO_COMPLETE_EVENT_ID = "onVideoComplete";
+
+    private final String mPlacementId;
+    private InterstitialAdListener mListener;
+    private boolean mLoaded;
+
+    public InterstitialAd(Context context, String placementId, InterstitialAdListener listener) {
+        mPlacementId = placementId;
+        mListener = listener;
+    }
+
+    public String getPlacementId() {
+        return mPlacementId;
+    }
+
+    public void load(InterstitialPlacementConfig placementConfig) {
+        InterstitialAdListener listener = mListener;
+        if (listener == null) {
+            return;
+        }
+
+        if (!YASAds.isInitialized()) {
+            listener.onLoadFailed(this, new ErrorInfo(InterstitialAd.class.getName(), "Yahoo Mobile SDK must be initialized", -3));
+            return;
+        }
+
+        mLoaded = true;
+        listener.onLoaded(this);
+    }
+
+    public void show(Context context) {
+        InterstitialAdListener listener = mListener;
+        if (!mLoaded || listener == null) {
+            return;
+        }
+
+        mLoaded = false;
+        listener.onShown(this);
+        listener.onEvent(this, InterstitialAd.class.getName(), VIDEO_COMPLETE_EVENT_ID, null);
+        listener.onClosed(this);
+    }
+
+    public void destroy() {
+        mLoaded = false;
+        mListener = null;
+    }
+}
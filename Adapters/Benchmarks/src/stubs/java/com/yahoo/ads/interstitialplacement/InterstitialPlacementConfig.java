@@ -0,0 +1,13 @@
+package com.yahoo.ads.interstitialplacement;
+
+import com.yahoo.ads.RequestMetadata;
+
+public class InterstitialPlacementConfig {
+    public final String placementId;
+    public final RequestMetadata requestMetadata;
+
+    public InterstitialPlacementConfig(String placementId, RequestMetadata requestMetadata) {
+        this.placementId = placementId;
+        this.requestMetadata = requestMetadata;
+    }
+}
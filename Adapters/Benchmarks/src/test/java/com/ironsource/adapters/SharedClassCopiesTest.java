@@ -0,0 +1,123 @@
+package com.ironsource.adapters;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Every adapter ships as its own artifact, so the helper classes several adapters need are copied into each of them.
+ * A source file found under the same name in several adapters has to be the same in all of them but for its package,
+ * so a fix made to one copy can't be left out of the others.
+ */
+public class SharedClassCopiesTest {
+
+    // Files that are the same class name on purpose but hold per network content
+    private static final List<String> PER_NETWORK_FILES = Arrays.asList(
+            "AdapterConfig.java",
+            "AdapterConfig.kt",
+            "unityads/BiddingTokenCache.java"
+    );
+
+    @Test
+    public void sharedClassesAreTheSameInEveryAdapter() throws IOException {
+        Map<String, List<File>> copies = findCopies();
+        List<String> mismatches = new ArrayList<>();
+
+        assertFalse("no shared class was found", copies.isEmpty());
+
+        for (Map.Entry<String, List<File>> entry : copies.entrySet()) {
+            List<File> files = entry.getValue();
+            String expected = readWithoutPackage(files.get(0));
+
+            for (int i = 1; i < files.size(); i++) {
+                if (!expected.equals(readWithoutPackage(files.get(i)))) {
+                    mismatches.add(files.get(i) + " differs from " + files.get(0));
+                }
+            }
+        }
+
+        if (!mismatches.isEmpty()) {
+            fail("copies of a shared class differ:\n" + String.join("\n", mismatches));
+        }
+    }
+
+    // Returns the adapter source files found in more than one adapter, by file name
+    private static Map<String, List<File>> findCopies() {
+        String sourceDirs = System.getProperty("adapterSourceDirs");
+        Map<String, List<File>> filesByName = new TreeMap<>();
+        Map<String, List<File>> copies = new TreeMap<>();
+
+        assertTrue("the adapterSourceDirs system property is not set", sourceDirs != null && !sourceDirs.isEmpty());
+
+        for (String sourceDir : sourceDirs.split(File.pathSeparator)) {
+            File adaptersDir = new File(sourceDir, "com/ironsource/adapters");
+            File[] packageDirs = adaptersDir.listFiles();
+            assertTrue("no adapter package in " + adaptersDir, packageDirs != null);
+
+            for (File packageDir : packageDirs) {
+                File[] files = packageDir.listFiles();
+
+                if (files == null) {
+                    continue;
+                }
+
+                for (File file : files) {
+                    if (file.isFile() && !isPerNetwork(file)) {
+                        List<File> named = filesByName.get(file.getName());
+
+                        if (named == null) {
+                            named = new ArrayList<>();
+                            filesByName.put(file.getName(), named);
+                        }
+
+                        named.add(file);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<String, List<File>> entry : filesByName.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                copies.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return copies;
+    }
+
+    private static boolean isPerNetwork(File file) {
+        String path = file.getPath().replace(File.separatorChar, '/');
+
+        for (String perNetworkFile : PER_NETWORK_FILES) {
+            if (path.endsWith("/" + perNetworkFile)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String readWithoutPackage(File file) throws IOException {
+        StringBuilder content = new StringBuilder();
+
+        for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+            if (!line.startsWith("package ")) {
+                content.append(line).append('\n');
+            }
+        }
+
+        return content.toString();
+    }
+}
@@ -0,0 +1,147 @@
+package com.ironsource.adapters.applovin;
+
+import android.os.SystemClock;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Java adapters keep their own PlacementSlot, the AppLovin one is tested here.
+ */
+public class PlacementSlotTest {
+
+    private static final int THREADS = 8;
+    private static final long MAX_AGE_MILLIS = 60 * 1000;
+
+    private final PlacementSlot<Object, Object, Object> mSlot = new PlacementSlot<>();
+
+    @Test
+    public void becomesAvailableOnlyIfShowWasNotCalledMeanwhile() {
+        mSlot.onLoadStarted();
+        assertTrue(mSlot.markAvailable());
+        assertTrue(mSlot.isAvailable());
+
+        mSlot.markShowCalled();
+        assertFalse(mSlot.markAvailable());
+        mSlot.markUnavailable();
+
+        // clearing the availability keeps the show indication
+        assertTrue(mSlot.isShowCalled());
+        assertFalse(mSlot.isAvailable());
+
+        mSlot.onLoadStarted();
+        assertFalse(mSlot.isShowCalled());
+    }
+
+    @Test
+    public void evictsTheAvailableAdOnlyOnceItReachedTheMaxAge() {
+        Object ad = new Object();
+        mSlot.setAd(ad);
+        mSlot.markAvailable();
+
+        assertNull(mSlot.evictAvailableAd(MAX_AGE_MILLIS));
+
+        SystemClock.advance(MAX_AGE_MILLIS);
+
+        assertSame(ad, mSlot.evictAvailableAd(MAX_AGE_MILLIS));
+        assertFalse(mSlot.isAvailable());
+        assertNull(mSlot.getAd());
+    }
+
+    @Test
+    public void doesNotEvictAnAdWhoseShowWasCalled() {
+        Object ad = new Object();
+        mSlot.setAd(ad);
+        mSlot.markAvailable();
+        mSlot.markShowCalled();
+
+        SystemClock.advance(MAX_AGE_MILLIS);
+
+        assertNull(mSlot.evictAvailableAd(MAX_AGE_MILLIS));
+        assertSame(ad, mSlot.getAd());
+    }
+
+    @Test
+    public void givesTheAdToASingleCallerWhenTakenConcurrently() throws Exception {
+        mSlot.setAd(new Object());
+
+        List<Object> taken = runConcurrently(new Callable<Object>() {
+            @Override
+            public Object call() {
+                return mSlot.takeAd();
+            }
+        });
+
+        int nonNull = 0;
+
+        for (Object ad : taken) {
+            if (ad != null) {
+                nonNull++;
+            }
+        }
+
+        assertEquals(1, nonNull);
+    }
+
+    @Test
+    public void createsASingleSlotPerPlacementWhenObtainedConcurrently() throws Exception {
+        final ConcurrentHashMap<String, PlacementSlot<Object, Object, Object>> slots = new ConcurrentHashMap<>();
+
+        List<PlacementSlot<Object, Object, Object>> obtained = runConcurrently(new Callable<PlacementSlot<Object, Object, Object>>() {
+            @Override
+            public PlacementSlot<Object, Object, Object> call() {
+                return PlacementSlot.obtain(slots, "placement");
+            }
+        });
+
+        for (PlacementSlot<Object, Object, Object> slot : obtained) {
+            assertSame(slots.get("placement"), slot);
+        }
+
+        assertEquals(1, slots.size());
+    }
+
+    private static <T> List<T> runConcurrently(final Callable<T> callable) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        List<T> results = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(new Callable<T>() {
+                    @Override
+                    public T call() throws Exception {
+                        start.await();
+                        return callable.call();
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ironsource.adapters.pangle
+
+import com.ironsource.mediationsdk.INetworkInitCallbackListener
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import java.lang.ref.WeakReference
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * The Kotlin adapters share the same NetworkInitCoordinator, the Pangle one is tested here.
+ */
+class NetworkInitCoordinatorTest {
+
+    private class CountingListener : INetworkInitCallbackListener {
+        val successes = AtomicInteger()
+        val failures = AtomicInteger()
+
+        override fun onNetworkInitCallbackSuccess() {
+            successes.incrementAndGet()
+        }
+
+        override fun onNetworkInitCallbackFailed(error: String?) {
+            failures.incrementAndGet()
+        }
+
+        override fun onNetworkInitCallbackLoadSuccess(placement: String?) {
+        }
+    }
+
+    @Test
+    fun deliversToListenersRegisteringConcurrentlyWithTheInitEnd() {
+        val executor = Executors.newFixedThreadPool(THREADS + 1)
+
+        try {
+            repeat(ROUNDS) { round ->
+                val coordinator = NetworkInitCoordinator()
+                val start = CountDownLatch(1)
+                val listeners = List(THREADS) { List(LISTENERS_PER_THREAD) { CountingListener() } }
+
+                assertTrue(coordinator.startInit())
+
+                // every thread registers its listeners several times, like adapter instances calling init again
+                val futures = listeners.map { threadListeners ->
+                    executor.submit {
+                        start.await()
+
+                        repeat(REGISTRATIONS_PER_LISTENER) {
+                            threadListeners.forEach { coordinator.addListener(it) }
+                        }
+                    }
+                }.toMutableList()
+
+                // the init ends and drains while the registrations are running
+                futures.add(executor.submit {
+                    start.await()
+                    coordinator.setInitFailed("failed")
+                    coordinator.notifyListeners()
+                    coordinator.notifyListeners()
+                })
+
+                start.countDown()
+                futures.forEach { it.get(10, TimeUnit.SECONDS) }
+
+                // once for the registrations before the drain, once more for each registration after it
+                listeners.flatten().forEach {
+                    assertTrue("round $round", it.failures.get() in 1..REGISTRATIONS_PER_LISTENER)
+                    assertEquals("round $round", 0, it.successes.get())
+                }
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun deliversOnceToAListenerRegisteredSeveralTimesBeforeTheDrain() {
+        val coordinator = NetworkInitCoordinator()
+        val listener = CountingListener()
+
+        coordinator.startInit()
+        repeat(REGISTRATIONS_PER_LISTENER) { coordinator.addListener(listener) }
+        coordinator.setInitSucceeded()
+        coordinator.notifyListeners()
+        coordinator.notifyListeners()
+
+        assertEquals(1, listener.successes.get())
+    }
+
+    @Test
+    fun doesNotReferenceTheListenersOnceDelivered() {
+        val coordinator = NetworkInitCoordinator()
+        val reference = registerAndDeliver(coordinator)
+
+        for (i in 0 until 20) {
+            if (reference.get() == null) {
+                break
+            }
+
+            System.gc()
+            Thread.sleep(10)
+        }
+
+        assertNull(reference.get())
+    }
+
+    // Kept out of the test so no local keeps the listener reachable
+    private fun registerAndDeliver(coordinator: NetworkInitCoordinator): WeakReference<CountingListener> {
+        val listener = CountingListener()
+
+        coordinator.startInit()
+        coordinator.addListener(listener)
+        coordinator.setInitSucceeded()
+        coordinator.notifyListeners()
+        coordinator.addListener(CountingListener())
+
+        assertEquals(1, listener.successes.get())
+        return WeakReference(listener)
+    }
+
+    private companion object {
+        const val THREADS = 8
+        const val LISTENERS_PER_THREAD = 16
+        const val REGISTRATIONS_PER_LISTENER = 4
+        const val ROUNDS = 200
+    }
+}
@@ -0,0 +1,115 @@
+package com.ironsource.adapters.unityads;
+
+import android.app.Activity;
+import android.app.Application;
+import android.widget.FrameLayout;
+
+import com.unity3d.services.banners.BannerView;
+import com.unity3d.services.banners.UnityBannerSize;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class BannerViewPoolTest {
+
+    private static final UnityBannerSize BANNER = new UnityBannerSize(320, 50);
+    private static final UnityBannerSize LEADERBOARD = new UnityBannerSize(728, 90);
+
+    private final Application mApplication = new Application();
+    private final Activity mActivity = new Activity(mApplication);
+    private final BannerViewPool mPool = new BannerViewPool();
+
+    @Test
+    public void reusesAReleasedViewForTheSamePlacementSizeAndActivity() {
+        BannerView view = new BannerView(mActivity, "placement", BANNER);
+        mPool.release(view);
+
+        assertNull(mPool.acquire(mActivity, "placement", LEADERBOARD));
+        assertNull(mPool.acquire(mActivity, "other", BANNER));
+        assertNull(mPool.acquire(new Activity(mApplication), "placement", BANNER));
+        assertSame(view, mPool.acquire(mActivity, "placement", BANNER));
+        assertNull(mPool.acquire(mActivity, "placement", BANNER));
+    }
+
+    @Test
+    public void doesNotMatchAnotherPlacementWhoseIdStartsTheSame() throws Exception {
+        BannerView view = new BannerView(mActivity, "placement:1", BANNER);
+        mPool.release(view);
+
+        mPool.evict("placement");
+
+        assertSame(view, mPool.acquire(mActivity, "placement:1", BANNER));
+        assertEquals(0, mPool.getStats().getLong("evictions"));
+    }
+
+    @Test
+    public void poolsAViewStillInTheLayoutOnlyOnceItWasRemoved() {
+        FrameLayout layout = new FrameLayout(mActivity);
+        BannerView view = new BannerView(mActivity, "placement", BANNER);
+        layout.addView(view);
+        mPool.release(view);
+
+        assertNull(mPool.acquire(mActivity, "placement", BANNER));
+
+        layout.removeView(view);
+
+        assertSame(view, mPool.acquire(mActivity, "placement", BANNER));
+    }
+
+    @Test
+    public void keepsAtMostTwoViewsPerPlacementAndSize() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mPool.release(new BannerView(mActivity, "placement", BANNER));
+        }
+
+        assertEquals(1, mPool.getStats().getLong("evictions"));
+    }
+
+    @Test
+    public void destroysTheViewsOfAFinishingActivity() throws Exception {
+        Activity finishing = new Activity(mApplication);
+        mPool.release(new BannerView(finishing, "placement", BANNER));
+        finishing.finish();
+
+        assertNull(mPool.acquire(mActivity, "placement", BANNER));
+        assertEquals(1, mPool.getStats().getLong("evictions"));
+
+        // a view of an activity that is already finishing is never kept
+        mPool.release(new BannerView(finishing, "placement", BANNER));
+        assertEquals(2, mPool.getStats().getLong("evictions"));
+    }
+
+    @Test
+    public void evictsOnlyTheDetachedViewsOnMemoryPressure() throws Exception {
+        FrameLayout layout = new FrameLayout(mActivity);
+        BannerView attached = new BannerView(mActivity, "placement", BANNER);
+        layout.addView(attached);
+        mPool.release(attached);
+        mPool.release(new BannerView(mActivity, "placement", LEADERBOARD));
+        mPool.release(new BannerView(mActivity, "other", BANNER));
+
+        assertEquals(2, mPool.evictDetached());
+
+        layout.removeView(attached);
+
+        assertSame(attached, mPool.acquire(mActivity, "placement", BANNER));
+    }
+
+    @Test
+    public void evictsTheAttachedViewsOfAReleasedPlacement() throws Exception {
+        FrameLayout layout = new FrameLayout(mActivity);
+        BannerView attached = new BannerView(mActivity, "placement", BANNER);
+        layout.addView(attached);
+        mPool.release(attached);
+        mPool.release(new BannerView(mActivity, "placement", LEADERBOARD));
+
+        mPool.evict("placement");
+        layout.removeView(attached);
+
+        assertNull(mPool.acquire(mActivity, "placement", BANNER));
+        assertEquals(2, mPool.getStats().getLong("evictions"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.ironsource.adapters.unityads;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InitReadinessGateTest {
+
+    private static final class RecordingLoad implements InitReadinessGate.PendingLoad {
+        private final String mName;
+        private final List<String> mEvents;
+        private final AtomicInteger mLoads = new AtomicInteger();
+        private final AtomicInteger mFailures = new AtomicInteger();
+
+        private RecordingLoad(String name, List<String> events) {
+            mName = name;
+            mEvents = events;
+        }
+
+        @Override
+        public void load() {
+            mLoads.incrementAndGet();
+            mEvents.add(mName + " loaded");
+        }
+
+        @Override
+        public void fail(String error) {
+            mFailures.incrementAndGet();
+            mEvents.add(mName + " failed - " + error);
+        }
+    }
+
+    private final InitReadinessGate mGate = new InitReadinessGate();
+    private final List<String> mEvents = Collections.synchronizedList(new ArrayList<String>());
+
+    @Test
+    public void runsTheLoadsRightAwayWhileNoInitIsInProgress() {
+        mGate.await(new RecordingLoad("first", mEvents));
+
+        assertEquals(Collections.singletonList("first loaded"), mEvents);
+    }
+
+    @Test
+    public void holdsTheLoadsWhileTheInitRunsAndRunsThemInOrderOnSuccess() throws Exception {
+        mGate.close();
+        mGate.await(new RecordingLoad("first", mEvents));
+        mGate.await(new RecordingLoad("second", mEvents));
+
+        assertTrue(mEvents.isEmpty());
+
+        mGate.open();
+        mGate.await(new RecordingLoad("third", mEvents));
+
+        assertEquals(Arrays.asList("first loaded", "second loaded", "third loaded"), mEvents);
+        assertEquals(2, mGate.getStats().getLong("held"));
+    }
+
+    @Test
+    public void failsTheHeldLoadsWhenTheInitFails() throws Exception {
+        mGate.close();
+        mGate.await(new RecordingLoad("first", mEvents));
+        mGate.fail("init failed");
+        mGate.await(new RecordingLoad("second", mEvents));
+
+        assertEquals(Arrays.asList("first failed - init failed", "second loaded"), mEvents);
+        assertEquals(1, mGate.getStats().getLong("failed"));
+    }
+
+    @Test
+    public void runsEveryLoadOnceWhenTheInitEndsWhileLoadsComeIn() throws Exception {
+        final int threads = 8;
+        final int loadsPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<RecordingLoad> loads = Collections.synchronizedList(new ArrayList<RecordingLoad>());
+        List<Future<?>> futures = new ArrayList<>();
+
+        mGate.close();
+
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        await(start);
+
+                        for (int i = 0; i < loadsPerThread; i++) {
+                            RecordingLoad load = new RecordingLoad("load", mEvents);
+                            loads.add(load);
+                            mGate.await(load);
+                        }
+                    }
+                }));
+            }
+
+            futures.add(executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    await(start);
+                    mGate.open();
+                }
+            }));
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * loadsPerThread, loads.size());
+
+        for (RecordingLoad load : loads) {
+            assertEquals(1, load.mLoads.get());
+            assertEquals(0, load.mFailures.get());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.ironsource.adapters.unityads;
+
+import com.unity3d.ads.metadata.MetaData;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * The writer's executor runs nothing by itself, its tasks are run by hand. The keys are unique per test since the
+ * network meta data storage is shared.
+ */
+public class MetaDataWriterTest {
+
+    private static final class ManualExecutor implements Executor {
+        private final List<Runnable> mTasks = new ArrayList<>();
+
+        @Override
+        public synchronized void execute(Runnable command) {
+            mTasks.add(command);
+        }
+
+        private synchronized int getTaskCount() {
+            return mTasks.size();
+        }
+
+        // Runs the tasks queued so far in order, the ones they queue are left for the next call
+        private void runTasks() {
+            List<Runnable> tasks;
+
+            synchronized (this) {
+                tasks = new ArrayList<>(mTasks);
+                mTasks.clear();
+            }
+
+            for (Runnable task : tasks) {
+                task.run();
+            }
+        }
+    }
+
+    private final ManualExecutor mExecutor = new ManualExecutor();
+    private final MetaDataWriter mWriter = new MetaDataWriter(mExecutor);
+
+    @After
+    public void tearDown() {
+        MetaData.failNextCommits(0);
+    }
+
+    @Test
+    public void commitsTheValuesSetInARowInOneBatch() throws Exception {
+        mWriter.set(MetaDataWriter.Category.DEFAULT, "batch.first", true);
+        mWriter.set(MetaDataWriter.Category.DEFAULT, "batch.second", false);
+        mWriter.set(MetaDataWriter.Category.PLAYER, "batch.third", "user");
+
+        assertEquals(1, mExecutor.getTaskCount());
+        assertNull(MetaData.getStoredValue("batch.first"));
+
+        mExecutor.runTasks();
+
+        assertEquals(true, MetaData.getStoredValue("batch.first"));
+        assertEquals(false, MetaData.getStoredValue("batch.second"));
+        assertEquals("user", MetaData.getStoredValue("player.batch.third"));
+        assertEquals(2, mWriter.getStats().getLong("commits"));
+    }
+
+    @Test
+    public void doesNotCommitAnUnchangedValueAgain() throws Exception {
+        mWriter.set(MetaDataWriter.Category.DEFAULT, "unchanged.value", true);
+        mExecutor.runTasks();
+        mWriter.set(MetaDataWriter.Category.DEFAULT, "unchanged.value", true);
+
+        assertEquals(0, mExecutor.getTaskCount());
+        assertEquals(1, mWriter.getStats().getLong("values"));
+    }
+
+    @Test
+    public void runsTheActionRightAwayWhenNothingIsPending() {
+        final List<String> ran = new ArrayList<>();
+
+        mWriter.runWhenCommitted(MetaDataWriter.Category.PLAYER, new Runnable() {
+            @Override
+            public void run() {
+                ran.add("action");
+            }
+        });
+
+        assertEquals(1, ran.size());
+        assertEquals(0, mExecutor.getTaskCount());
+    }
+
+    @Test
+    public void runsTheActionOnTheExecutorAfterTheCommit() {
+        final AtomicReference<Object> valueSeenByTheAction = new AtomicReference<>();
+
+        mWriter.set(MetaDataWriter.Category.PLAYER, "ordered.server_id", "user");
+        mWriter.runWhenCommitted(MetaDataWriter.Category.PLAYER, new Runnable() {
+            @Override
+            public void run() {
+                valueSeenByTheAction.set(MetaData.getStoredValue("player.ordered.server_id"));
+            }
+        });
+
+        // the caller doesn't wait on the commit
+        assertNull(valueSeenByTheAction.get());
+
+        mExecutor.runTasks();
+
+        assertEquals("user", valueSeenByTheAction.get());
+    }
+
+    @Test
+    public void commitsAFailedBatchAgainWithTheNextCommit() throws Exception {
+        MetaData.failNextCommits(1);
+        mWriter.set(MetaDataWriter.Category.DEFAULT, "retried.first", true);
+        mExecutor.runTasks();
+
+        assertNull(MetaData.getStoredValue("retried.first"));
+
+        // the failed value isn't taken as committed, setting it again is not skipped either
+        mWriter.set(MetaDataWriter.Category.DEFAULT, "retried.first", true);
+        mWriter.set(MetaDataWriter.Category.DEFAULT, "retried.second", true);
+        mExecutor.runTasks();
+
+        assertEquals(true, MetaData.getStoredValue("retried.first"));
+        assertEquals(true, MetaData.getStoredValue("retried.second"));
+        assertEquals(1, mWriter.getStats().getLong("commits"));
+    }
+}
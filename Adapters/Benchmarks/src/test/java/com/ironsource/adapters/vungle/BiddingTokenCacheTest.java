@@ -0,0 +1,152 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BiddingTokenCacheTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    // Returns token-1, token-2, ... and blocks the fetch number mBlockedFetch until released
+    private static final class CountingFetcher implements BiddingTokenCache.TokenFetcher {
+        private final AtomicInteger mFetches = new AtomicInteger();
+        private final CountDownLatch mBlockedFetchStarted = new CountDownLatch(1);
+        private final CountDownLatch mBlockedFetchReleased = new CountDownLatch(1);
+        private final int mBlockedFetch;
+
+        private CountingFetcher(int blockedFetch) {
+            mBlockedFetch = blockedFetch;
+        }
+
+        @Override
+        public String fetchToken() {
+            int fetch = mFetches.incrementAndGet();
+
+            if (fetch == mBlockedFetch) {
+                mBlockedFetchStarted.countDown();
+                await(mBlockedFetchReleased);
+            }
+
+            return "token-" + fetch;
+        }
+    }
+
+    @Test
+    public void fetchesOnTheCallerOnlyForAColdCache() {
+        CountingFetcher fetcher = new CountingFetcher(0);
+        BiddingTokenCache cache = new BiddingTokenCache(fetcher);
+
+        assertEquals("token-1", cache.getToken());
+        assertEquals("token-1", cache.getToken());
+        assertEquals(1, fetcher.mFetches.get());
+    }
+
+    @Test
+    public void refreshesInTheBackgroundOnceTheTtlPassed() throws Exception {
+        CountingFetcher fetcher = new CountingFetcher(0);
+        BiddingTokenCache cache = new BiddingTokenCache(fetcher);
+
+        assertEquals("token-1", cache.getToken());
+        SystemClock.advance(BiddingTokenCache.DEFAULT_TTL_MILLIS);
+
+        // the stale token is still served while the refresh runs
+        assertEquals("token-1", cache.getToken());
+        awaitRefreshes(cache, 1);
+        assertEquals("token-2", cache.getToken());
+    }
+
+    @Test
+    public void cachesNothingWhenAFetchFails() {
+        final AtomicInteger fetches = new AtomicInteger();
+        BiddingTokenCache cache = new BiddingTokenCache(new BiddingTokenCache.TokenFetcher() {
+            @Override
+            public String fetchToken() {
+                if (fetches.incrementAndGet() == 1) {
+                    throw new IllegalStateException("no token");
+                }
+
+                return "token-" + fetches.get();
+            }
+        });
+
+        assertEquals("", cache.getToken());
+        assertEquals("token-2", cache.getToken());
+        assertEquals("token-2", cache.getToken());
+    }
+
+    @Test
+    public void doesNotCacheATokenFetchedBeforeAnInvalidation() throws Exception {
+        final CountingFetcher fetcher = new CountingFetcher(1);
+        final BiddingTokenCache cache = new BiddingTokenCache(fetcher);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // the cold fetch is still running when a privacy setting changes
+            Future<String> auction = executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return cache.getToken();
+                }
+            });
+
+            assertTrue(fetcher.mBlockedFetchStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            cache.invalidate();
+            awaitRefreshes(cache, 1);
+            fetcher.mBlockedFetchReleased.countDown();
+
+            assertEquals("token-1", auction.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertNotEquals("token-1", cache.getToken());
+    }
+
+    @Test
+    public void fetchesAgainWhenInvalidatedDuringARefresh() throws Exception {
+        CountingFetcher fetcher = new CountingFetcher(2);
+        BiddingTokenCache cache = new BiddingTokenCache(fetcher);
+
+        assertEquals("token-1", cache.getToken());
+        cache.refresh();
+        assertTrue(fetcher.mBlockedFetchStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        cache.invalidate();
+        fetcher.mBlockedFetchReleased.countDown();
+        awaitRefreshes(cache, 1);
+
+        // token-2 was fetched with the previous settings
+        assertEquals("token-3", cache.getToken());
+        assertEquals(3, fetcher.mFetches.get());
+    }
+
+    private static void awaitRefreshes(BiddingTokenCache cache, long refreshes) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+        while (cache.getStats().getLong("refreshes") < refreshes) {
+            assertTrue("refresh timed out", System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * The Java adapters share the same MainThreadDispatcher, the Vungle one is tested here. The test thread acts as the
+ * main thread, the drains it posts are run by hand.
+ */
+public class MainThreadDispatcherTest {
+
+    private static final class QueueingHandler extends Handler {
+        private final List<Runnable> mPosted = new ArrayList<>();
+
+        @Override
+        public synchronized boolean post(Runnable runnable) {
+            mPosted.add(runnable);
+            return true;
+        }
+
+        private synchronized int getPostedCount() {
+            return mPosted.size();
+        }
+
+        // Runs the drains posted so far, the ones they post are left for the next call
+        private void runPosted() {
+            List<Runnable> posted;
+
+            synchronized (this) {
+                posted = new ArrayList<>(mPosted);
+                mPosted.clear();
+            }
+
+            for (Runnable runnable : posted) {
+                runnable.run();
+            }
+        }
+    }
+
+    private final QueueingHandler mHandler = new QueueingHandler();
+    private final MainThreadDispatcher mDispatcher = new MainThreadDispatcher(mHandler);
+    private final List<String> mRan = Collections.synchronizedList(new ArrayList<String>());
+
+    @Test
+    public void runsMainThreadWorkRightAwayWhenNothingIsQueued() {
+        mDispatcher.dispatch(record("first"));
+
+        assertEquals(Collections.singletonList("first"), mRan);
+        assertEquals(0, mHandler.getPostedCount());
+    }
+
+    @Test
+    public void drainsTheWorkOfOtherThreadsInASingleMessage() throws Exception {
+        dispatchOffMainThread(record("first"), record("second"), record("third"));
+
+        assertTrue(mRan.isEmpty());
+        assertEquals(1, mHandler.getPostedCount());
+
+        mHandler.runPosted();
+
+        assertEquals(Arrays.asList("first", "second", "third"), mRan);
+        assertEquals(0, mHandler.getPostedCount());
+    }
+
+    @Test
+    public void runsMainThreadWorkAfterTheQueuedWork() throws Exception {
+        dispatchOffMainThread(record("first"));
+        mDispatcher.dispatch(record("second"));
+
+        assertTrue(mRan.isEmpty());
+
+        mHandler.runPosted();
+
+        assertEquals(Arrays.asList("first", "second"), mRan);
+    }
+
+    @Test
+    public void postsTheRestOfTheQueueOnceTheDrainBudgetIsSpent() throws Exception {
+        Runnable slowTask = new Runnable() {
+            @Override
+            public void run() {
+                mRan.add("slow");
+                sleep(10);
+            }
+        };
+
+        dispatchOffMainThread(slowTask, record("first"), record("second"));
+        mHandler.runPosted();
+
+        assertEquals(Collections.singletonList("slow"), mRan);
+        assertEquals(1, mHandler.getPostedCount());
+
+        mHandler.runPosted();
+
+        assertEquals(Arrays.asList("slow", "first", "second"), mRan);
+    }
+
+    @Test
+    public void runsTheRestOfTheQueueAndRethrowsTheFirstFailure() throws Exception {
+        RuntimeException firstFailure = new IllegalStateException("first");
+
+        dispatchOffMainThread(record("first"), throwing(firstFailure), record("second"),
+                throwing(new IllegalStateException("second")), record("third"));
+
+        try {
+            mHandler.runPosted();
+            fail("the failure wasn't rethrown");
+        } catch (RuntimeException e) {
+            assertSame(firstFailure, e);
+        }
+
+        assertEquals(Arrays.asList("first", "second", "third"), mRan);
+        assertEquals(2, mDispatcher.getStats().getLong("failures"));
+
+        // the next dispatch still drains
+        dispatchOffMainThread(record("fourth"));
+        mHandler.runPosted();
+
+        assertEquals(Arrays.asList("first", "second", "third", "fourth"), mRan);
+    }
+
+    private Runnable record(final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                mRan.add(name);
+            }
+        };
+    }
+
+    private static Runnable throwing(final RuntimeException failure) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                throw failure;
+            }
+        };
+    }
+
+    // Dispatches from a thread with a looper of its own, which is not the main thread
+    private void dispatchOffMainThread(final Runnable... runnables) throws InterruptedException {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Looper.prepare();
+
+                for (Runnable runnable : runnables) {
+                    mDispatcher.dispatch(runnable);
+                }
+            }
+        });
+
+        thread.start();
+        thread.join();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.ironsource.adapters.vungle;
+
+import com.ironsource.mediationsdk.INetworkInitCallbackListener;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Java adapters share the same NetworkInitCoordinator, the Vungle one is tested here.
+ */
+public class NetworkInitCoordinatorTest {
+
+    private static final int THREADS = 8;
+    private static final int LISTENERS_PER_THREAD = 16;
+    private static final int REGISTRATIONS_PER_LISTENER = 4;
+    private static final int ROUNDS = 200;
+
+    private static final class CountingListener implements INetworkInitCallbackListener {
+        private final AtomicInteger mSuccesses = new AtomicInteger();
+        private final AtomicInteger mFailures = new AtomicInteger();
+        private final List<CountingListener> mOrder;
+
+        private CountingListener(List<CountingListener> order) {
+            mOrder = order;
+        }
+
+        @Override
+        public void onNetworkInitCallbackSuccess() {
+            mSuccesses.incrementAndGet();
+
+            if (mOrder != null) {
+                mOrder.add(this);
+            }
+        }
+
+        @Override
+        public void onNetworkInitCallbackFailed(String error) {
+            mFailures.incrementAndGet();
+        }
+
+        @Override
+        public void onNetworkInitCallbackLoadSuccess(String placement) {
+        }
+
+        private int deliveries() {
+            return mSuccesses.get() + mFailures.get();
+        }
+    }
+
+    @Test
+    public void deliversToListenersRegisteringConcurrentlyWithTheInitEnd() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                final NetworkInitCoordinator coordinator = new NetworkInitCoordinator();
+                final CountDownLatch start = new CountDownLatch(1);
+                final List<CountingListener> listeners = new ArrayList<>();
+                List<Future<?>> futures = new ArrayList<>();
+
+                assertTrue(coordinator.startInit());
+
+                for (int thread = 0; thread < THREADS; thread++) {
+                    final List<CountingListener> threadListeners = new ArrayList<>();
+
+                    for (int i = 0; i < LISTENERS_PER_THREAD; i++) {
+                        threadListeners.add(new CountingListener(null));
+                    }
+
+                    listeners.addAll(threadListeners);
+
+                    // every thread registers its listeners several times, like adapter instances calling init again
+                    futures.add(executor.submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            await(start);
+
+                            for (int registration = 0; registration < REGISTRATIONS_PER_LISTENER; registration++) {
+                                for (CountingListener listener : threadListeners) {
+                                    coordinator.addListener(listener);
+                                }
+                            }
+                        }
+                    }));
+                }
+
+                // the init ends and drains while the registrations are running
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        await(start);
+                        coordinator.setInitSucceeded();
+                        coordinator.notifyListeners();
+                        coordinator.notifyListeners();
+                    }
+                }));
+
+                start.countDown();
+
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+
+                // once for the registrations before the drain, once more for each registration after it
+                for (CountingListener listener : listeners) {
+                    assertTrue("round " + round, listener.mSuccesses.get() >= 1);
+                    assertTrue("round " + round, listener.mSuccesses.get() <= REGISTRATIONS_PER_LISTENER);
+                    assertEquals("round " + round, 0, listener.mFailures.get());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void deliversOnceToAListenerRegisteredSeveralTimesBeforeTheDrain() {
+        NetworkInitCoordinator coordinator = new NetworkInitCoordinator();
+        CountingListener listener = new CountingListener(null);
+
+        coordinator.startInit();
+
+        for (int i = 0; i < REGISTRATIONS_PER_LISTENER; i++) {
+            coordinator.addListener(listener);
+        }
+
+        coordinator.setInitSucceeded();
+        coordinator.notifyListeners();
+        coordinator.notifyListeners();
+
+        assertEquals(1, listener.deliveries());
+    }
+
+    @Test
+    public void doesNotReferenceTheListenersOnceDelivered() throws Exception {
+        NetworkInitCoordinator coordinator = new NetworkInitCoordinator();
+        CountingListener listener = new CountingListener(null);
+        WeakReference<CountingListener> reference = new WeakReference<>(listener);
+
+        coordinator.startInit();
+        coordinator.addListener(listener);
+        coordinator.setInitSucceeded();
+        coordinator.notifyListeners();
+        coordinator.addListener(new CountingListener(null));
+
+        assertEquals(1, listener.deliveries());
+        listener = null;
+
+        for (int i = 0; i < 20 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(reference.get());
+    }
+
+    @Test
+    public void deliversTheResultToANewListenerAfterTheDrain() {
+        NetworkInitCoordinator coordinator = new NetworkInitCoordinator();
+        CountingListener listener = new CountingListener(null);
+
+        coordinator.startInit();
+        coordinator.setInitFailed("failed");
+        coordinator.notifyListeners();
+        coordinator.addListener(listener);
+
+        assertEquals(1, listener.mFailures.get());
+        assertEquals(0, listener.mSuccesses.get());
+    }
+
+    @Test
+    public void deliversInRegistrationOrder() {
+        NetworkInitCoordinator coordinator = new NetworkInitCoordinator();
+        List<CountingListener> order = new ArrayList<>();
+        List<CountingListener> listeners = new ArrayList<>();
+
+        coordinator.startInit();
+
+        for (int i = 0; i < 5; i++) {
+            CountingListener listener = new CountingListener(order);
+            listeners.add(listener);
+            coordinator.addListener(listener);
+        }
+
+        coordinator.setInitSucceeded();
+        coordinator.notifyListeners();
+
+        assertEquals(listeners, order);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NoFillBackoffTest {
+
+    private static final String AD_UNIT = "rewarded";
+    private static final String PLACEMENT_ID = "placement";
+    private static final long BASE_DELAY_MILLIS = 5 * 1000;
+    private static final long MAX_DELAY_MILLIS = 5 * 60 * 1000;
+
+    private final NoFillBackoff mBackoff = new NoFillBackoff();
+
+    @Test
+    public void coolsDownBetweenHalfAndAllOfTheBaseDelay() {
+        assertFalse(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+
+        mBackoff.onNoFill(AD_UNIT, PLACEMENT_ID);
+        assertTrue(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+
+        SystemClock.advance(BASE_DELAY_MILLIS / 2 - 100);
+        assertTrue(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+
+        SystemClock.advance(BASE_DELAY_MILLIS / 2 + 100);
+        assertFalse(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+    }
+
+    @Test
+    public void doublesTheCooldownWithEveryConsecutiveNoFill() {
+        for (int i = 0; i < 3; i++) {
+            mBackoff.onNoFill(AD_UNIT, PLACEMENT_ID);
+        }
+
+        // four times the base delay, at least half of it
+        SystemClock.advance(2 * BASE_DELAY_MILLIS - 100);
+        assertTrue(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+
+        SystemClock.advance(2 * BASE_DELAY_MILLIS + 100);
+        assertFalse(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+    }
+
+    @Test
+    public void capsTheCooldown() {
+        for (int i = 0; i < 40; i++) {
+            mBackoff.onNoFill(AD_UNIT, PLACEMENT_ID);
+        }
+
+        SystemClock.advance(MAX_DELAY_MILLIS);
+        assertFalse(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+    }
+
+    @Test
+    public void aFillEndsTheBackoff() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mBackoff.onNoFill(AD_UNIT, PLACEMENT_ID);
+        }
+
+        mBackoff.onFill(AD_UNIT, PLACEMENT_ID);
+        assertFalse(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+
+        // the next no-fill starts from the base delay again
+        mBackoff.onNoFill(AD_UNIT, PLACEMENT_ID);
+        SystemClock.advance(BASE_DELAY_MILLIS);
+        assertFalse(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+        assertEquals(1, mBackoff.getStats().getLong("resets"));
+    }
+
+    @Test
+    public void keepsTheBackoffPerAdUnitAndPlacement() throws Exception {
+        mBackoff.onNoFill(AD_UNIT, PLACEMENT_ID);
+
+        assertFalse(mBackoff.isCoolingDown("interstitial", PLACEMENT_ID));
+        assertFalse(mBackoff.isCoolingDown(AD_UNIT, "other"));
+        assertTrue(mBackoff.isCoolingDown(AD_UNIT, PLACEMENT_ID));
+        assertEquals(1, mBackoff.getStats().getLong("shortCircuited"));
+    }
+}
@@ -0,0 +1,166 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The scheduler's timer runs nothing by itself, the delayed starts and the slot timeouts are run by hand.
+ */
+public class PostInitLoadSchedulerTest {
+
+    private static final long STAGGER_MILLIS = 100;
+    private static final long LOAD_SLOT_TIMEOUT_MILLIS = 30 * 1000;
+
+    private static final class ManualTimer extends ScheduledThreadPoolExecutor {
+        private final List<Runnable> mTasks = new ArrayList<>();
+        private final List<Long> mDelays = new ArrayList<>();
+
+        private ManualTimer() {
+            super(1);
+        }
+
+        @Override
+        public synchronized ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            mTasks.add(command);
+            mDelays.add(unit.toMillis(delay));
+            return null;
+        }
+
+        // Removes and returns the slot timeouts or the delayed starts scheduled so far
+        private synchronized List<Runnable> take(boolean slotTimeouts) {
+            List<Runnable> tasks = new ArrayList<>();
+
+            for (int i = 0; i < mTasks.size(); ) {
+                if ((mDelays.get(i) == LOAD_SLOT_TIMEOUT_MILLIS) == slotTimeouts) {
+                    tasks.add(mTasks.remove(i));
+                    mDelays.remove(i);
+                } else {
+                    i++;
+                }
+            }
+
+            return tasks;
+        }
+
+        // Runs the delayed starts once the stagger passed
+        private void runStarts() {
+            SystemClock.advance(STAGGER_MILLIS);
+            run(take(false));
+        }
+
+        private void runSlotTimeouts() {
+            run(take(true));
+        }
+
+        private static void run(List<Runnable> tasks) {
+            for (Runnable task : tasks) {
+                task.run();
+            }
+        }
+    }
+
+    private static final class RecordingLoader implements PostInitLoadScheduler.Loader {
+        private final List<String> mLoads = new ArrayList<>();
+        private final List<String> mSkipped;
+
+        private RecordingLoader(String... skipped) {
+            mSkipped = Arrays.asList(skipped);
+        }
+
+        @Override
+        public synchronized boolean load(String placementId) {
+            mLoads.add(placementId);
+            return !mSkipped.contains(placementId);
+        }
+    }
+
+    private final ManualTimer mTimer = new ManualTimer();
+    private final PostInitLoadScheduler mScheduler = new PostInitLoadScheduler(mTimer);
+
+    @Test
+    public void startsByPriorityAtMostTwoAtATimeAndStaggered() {
+        RecordingLoader loader = new RecordingLoader();
+
+        mScheduler.schedule(Arrays.asList("low", "high", "medium", "default"), Arrays.asList(3, 1, 2, PostInitLoadScheduler.DEFAULT_PRIORITY), loader);
+        assertEquals(Collections.singletonList("high"), loader.mLoads);
+
+        mTimer.runStarts();
+        assertEquals(Arrays.asList("high", "medium"), loader.mLoads);
+
+        // both slots are taken
+        mTimer.runStarts();
+        assertEquals(Arrays.asList("high", "medium"), loader.mLoads);
+
+        mScheduler.onLoadFinished("high", true);
+        assertEquals(Arrays.asList("high", "medium", "low"), loader.mLoads);
+
+        mScheduler.onLoadFinished("medium", false);
+        mTimer.runStarts();
+        assertEquals(Arrays.asList("high", "medium", "low", "default"), loader.mLoads);
+    }
+
+    @Test
+    public void keepsTheScheduleOrderOnAPriorityTie() {
+        RecordingLoader loader = new RecordingLoader();
+
+        mScheduler.schedule(Arrays.asList("first", "second"), Arrays.asList(1, 1), loader);
+        mTimer.runStarts();
+
+        assertEquals(Arrays.asList("first", "second"), loader.mLoads);
+    }
+
+    @Test
+    public void startsTheNextLoadRightAwayWhenALoadIsSkipped() throws Exception {
+        RecordingLoader loader = new RecordingLoader("first");
+
+        mScheduler.schedule(Arrays.asList("first", "second", "third"), Arrays.asList(1, 2, 3), loader);
+
+        assertEquals(Arrays.asList("first", "second"), loader.mLoads);
+        assertEquals(1, mScheduler.getStats().getLong("skipped"));
+        assertEquals(1, mScheduler.getStats().getLong("inFlight"));
+    }
+
+    @Test
+    public void freesTheSlotOfALoadThatNeverReportsBack() throws Exception {
+        RecordingLoader loader = new RecordingLoader();
+
+        mScheduler.schedule(Arrays.asList("first", "second", "third"), Arrays.asList(1, 2, 3), loader);
+        mTimer.runStarts();
+        assertEquals(Arrays.asList("first", "second"), loader.mLoads);
+
+        SystemClock.advance(LOAD_SLOT_TIMEOUT_MILLIS);
+        mTimer.runSlotTimeouts();
+
+        assertEquals(Arrays.asList("first", "second", "third"), loader.mLoads);
+        assertEquals(2, mScheduler.getStats().getLong("timedOut"));
+    }
+
+    @Test
+    public void doesNotFreeTheSlotOfALaterLoadOfTheSamePlacement() throws Exception {
+        RecordingLoader loader = new RecordingLoader();
+
+        mScheduler.schedule(Collections.singletonList("first"), Collections.singletonList(1), loader);
+        List<Runnable> firstTimeouts = mTimer.take(true);
+        mScheduler.onLoadFinished("first", false);
+        mTimer.runStarts();
+        mScheduler.schedule(Collections.singletonList("first"), Collections.singletonList(1), loader);
+        assertEquals(Arrays.asList("first", "first"), loader.mLoads);
+
+        // the timeout of the first load fires while the second one is in flight
+        ManualTimer.run(firstTimeouts);
+
+        assertEquals(0, mScheduler.getStats().getLong("timedOut"));
+        assertEquals(1, mScheduler.getStats().getLong("inFlight"));
+    }
+}
@@ -0,0 +1,157 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ServerDataStoreTest {
+
+    private static final long TTL_MILLIS = 60 * 60 * 1000;
+    private static final int MAX_ENTRIES = 32;
+
+    private final List<String> mDropped = Collections.synchronizedList(new ArrayList<String>());
+
+    private final ServerDataStore mStore = new ServerDataStore(new ServerDataStore.Listener() {
+        @Override
+        public void onPayloadDropped(String placementId) {
+            mDropped.add(placementId);
+        }
+    });
+
+    @Test
+    public void keepsThePayloadUntilItIsReleased() {
+        mStore.put("first", "bid");
+
+        assertEquals("bid", mStore.get("first"));
+        mStore.release("first");
+
+        assertNull(mStore.get("first"));
+        assertTrue(mStore.isBiddingPlacement("first"));
+        // a consumed payload is not reported as dropped
+        assertTrue(mDropped.isEmpty());
+    }
+
+    @Test
+    public void readsNoPayloadOnceExpiredAndDropsItOnExpire() {
+        mStore.put("first", "bid");
+        SystemClock.advance(TTL_MILLIS);
+
+        assertNull(mStore.get("first"));
+        // reading never drops a payload
+        assertTrue(mDropped.isEmpty());
+
+        mStore.expire();
+
+        assertEquals(Collections.singletonList("first"), mDropped);
+        assertTrue(mStore.isBiddingPlacement("first"));
+    }
+
+    @Test
+    public void dropsTheExpiredPayloadsWhenStoring() {
+        mStore.put("first", "bid");
+        SystemClock.advance(TTL_MILLIS);
+        mStore.put("second", "bid");
+
+        assertEquals(Collections.singletonList("first"), mDropped);
+        assertEquals("bid", mStore.get("second"));
+    }
+
+    @Test
+    public void evictsTheOldestPayloadsOverTheEntryCap() {
+        for (int i = 0; i <= MAX_ENTRIES; i++) {
+            mStore.put("placement" + i, "bid" + i);
+        }
+
+        assertEquals(Collections.singletonList("placement0"), mDropped);
+        assertNull(mStore.get("placement0"));
+        assertEquals("bid" + MAX_ENTRIES, mStore.get("placement" + MAX_ENTRIES));
+    }
+
+    @Test
+    public void evictsTheOldestPayloadsOverTheByteCap() {
+        // two bytes per char, two of these are over the 1MB cap
+        String bid = createPayload(300 * 1024);
+
+        mStore.put("first", bid);
+        mStore.put("second", bid);
+        mStore.put("first", bid);
+
+        assertEquals(Arrays.asList("first", "second"), mDropped);
+        assertEquals(bid, mStore.get("first"));
+        assertNull(mStore.get("second"));
+    }
+
+    @Test
+    public void keepsASinglePayloadOverTheByteCap() {
+        mStore.put("first", createPayload(600 * 1024));
+
+        assertNotNull(mStore.get("first"));
+        assertTrue(mDropped.isEmpty());
+    }
+
+    @Test
+    public void evictsThePayloadsOlderThanTheGivenAge() {
+        mStore.put("first", "bid");
+        SystemClock.advance(10 * 1000);
+        mStore.put("second", "bid");
+
+        assertEquals(1, mStore.evictOlderThan(5 * 1000));
+        assertEquals(Collections.singletonList("first"), mDropped);
+        assertEquals("bid", mStore.get("second"));
+    }
+
+    @Test
+    public void notifiesTheListenerWithoutTheStoreLock() throws Exception {
+        final AtomicBoolean readFromAnotherThread = new AtomicBoolean(false);
+
+        final ServerDataStore[] store = new ServerDataStore[1];
+        store[0] = new ServerDataStore(new ServerDataStore.Listener() {
+            @Override
+            public void onPayloadDropped(final String placementId) {
+                // blocks until the timeout if the store lock is still held
+                Thread reader = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        store[0].get(placementId);
+                        readFromAnotherThread.set(true);
+                    }
+                });
+
+                reader.start();
+
+                try {
+                    reader.join(5 * 1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        store[0].put("first", "bid");
+        SystemClock.advance(TTL_MILLIS);
+        store[0].expire();
+
+        assertTrue(readFromAnotherThread.get());
+    }
+
+    private static String createPayload(int length) {
+        StringBuilder builder = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            builder.append('x');
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,169 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SingleFlightLoadsTest {
+
+    private static final String PLACEMENT_ID = "placement";
+    // Longer than the flight timeout
+    private static final long EXPIRY_MILLIS = 61 * 1000;
+
+    private static final class RecordingExpiryListener implements SingleFlightLoads.ExpiryListener<String> {
+        private final List<String> mPlacementIds = Collections.synchronizedList(new ArrayList<String>());
+        private final List<String> mListeners = Collections.synchronizedList(new ArrayList<String>());
+
+        @Override
+        public void onFlightExpired(String placementId, List<String> listeners) {
+            mPlacementIds.add(placementId);
+            mListeners.addAll(listeners);
+        }
+    }
+
+    private final RecordingExpiryListener mExpiryListener = new RecordingExpiryListener();
+    private final SingleFlightLoads<String> mLoads = new SingleFlightLoads<>(mExpiryListener);
+
+    @Test
+    public void joinsTheLoadInFlightForTheSamePlacementAndPayload() {
+        assertTrue(mLoads.takeOff(PLACEMENT_ID, "bid", "first"));
+        assertFalse(mLoads.takeOff(PLACEMENT_ID, "bid", "second"));
+        assertFalse(mLoads.takeOff(PLACEMENT_ID, "bid", "second"));
+
+        assertEquals(Arrays.asList("first", "second"), mLoads.land(PLACEMENT_ID, "bid"));
+        assertTrue(mLoads.land(PLACEMENT_ID, "bid").isEmpty());
+        assertTrue(mLoads.takeOff(PLACEMENT_ID, "bid", "third"));
+    }
+
+    @Test
+    public void landsOnlyTheFlightOfItsPayload() {
+        assertTrue(mLoads.takeOff(PLACEMENT_ID, "first bid", "first"));
+        assertTrue(mLoads.takeOff(PLACEMENT_ID, "second bid", "second"));
+        assertTrue(mLoads.takeOff(PLACEMENT_ID, null, "third"));
+
+        assertEquals(Collections.singletonList("first"), mLoads.land(PLACEMENT_ID, "first bid"));
+        assertFalse(mLoads.takeOff(PLACEMENT_ID, "second bid", "fourth"));
+        assertEquals(Arrays.asList("second", "fourth"), mLoads.land(PLACEMENT_ID, "second bid"));
+        assertEquals(Collections.singletonList("third"), mLoads.land(PLACEMENT_ID, null));
+    }
+
+    @Test
+    public void failsTheJoinersOfAnExpiredFlight() {
+        assertTrue(mLoads.takeOff(PLACEMENT_ID, null, "first"));
+        assertFalse(mLoads.takeOff(PLACEMENT_ID, null, "second"));
+
+        SystemClock.advance(EXPIRY_MILLIS);
+
+        assertTrue(mLoads.takeOff(PLACEMENT_ID, null, "third"));
+        assertEquals(Collections.singletonList(PLACEMENT_ID), mExpiryListener.mPlacementIds);
+        assertEquals(Arrays.asList("first", "second"), mExpiryListener.mListeners);
+        assertEquals(Collections.singletonList("third"), mLoads.land(PLACEMENT_ID, null));
+    }
+
+    @Test
+    public void doesNotFailTheRequestThatReplacesAnExpiredFlight() {
+        assertTrue(mLoads.takeOff(PLACEMENT_ID, null, "first"));
+
+        SystemClock.advance(EXPIRY_MILLIS);
+
+        // the mediation retries with the same smash
+        assertTrue(mLoads.takeOff(PLACEMENT_ID, null, "first"));
+        assertTrue(mExpiryListener.mPlacementIds.isEmpty());
+        assertEquals(Collections.singletonList("first"), mLoads.land(PLACEMENT_ID, null));
+    }
+
+    @Test
+    public void deliversEveryRequestOnceWhileLandingConcurrently() throws Exception {
+        final int threads = 8;
+        final int requestsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean requesting = new AtomicBoolean(true);
+        final AtomicInteger takeOffs = new AtomicInteger();
+        final List<String> delivered = Collections.synchronizedList(new ArrayList<String>());
+        final AtomicInteger landedFlights = new AtomicInteger();
+        List<Future<?>> requesters = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                final int threadIndex = thread;
+
+                requesters.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        await(start);
+
+                        for (int i = 0; i < requestsPerThread; i++) {
+                            if (mLoads.takeOff(PLACEMENT_ID, null, threadIndex + ":" + i)) {
+                                takeOffs.incrementAndGet();
+                            }
+                        }
+                    }
+                }));
+            }
+
+            // the network calls back while requests keep joining
+            Future<?> lander = executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    await(start);
+
+                    while (requesting.get()) {
+                        land(delivered, landedFlights);
+                    }
+                }
+            });
+
+            start.countDown();
+
+            for (Future<?> requester : requesters) {
+                requester.get(10, TimeUnit.SECONDS);
+            }
+
+            requesting.set(false);
+            lander.get(10, TimeUnit.SECONDS);
+            land(delivered, landedFlights);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * requestsPerThread, delivered.size());
+        assertEquals(threads * requestsPerThread, new HashSet<>(delivered).size());
+        assertEquals(takeOffs.get(), landedFlights.get());
+        assertTrue(mExpiryListener.mListeners.isEmpty());
+    }
+
+    private void land(List<String> delivered, AtomicInteger landedFlights) {
+        List<String> listeners = mLoads.land(PLACEMENT_ID, null);
+
+        if (!listeners.isEmpty()) {
+            landedFlights.incrementAndGet();
+            delivered.addAll(listeners);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ironsource.adapters.chartboost;
+
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable view of the values the adapter reads from a smash config.
+ * The mediation layer passes the same config object on every call made for a smash, so each config
+ * is parsed once and cached by its identity. Availability and show checks then read a field
+ * instead of looking the keys up in the json again.
+ * Every adapter ships as its own artifact, so each adapter keeps its own copy of this class.
+ * Only the config values differ between the copies, the config cache is the same in each of them.
+ */
+final class AdapterConfig {
+
+    // Number of cached configs, must be a power of two
+    private static final int CACHE_SIZE = 32;
+    private static final AtomicReferenceArray<AdapterConfig> sCache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private final JSONObject mConfig;
+    private final String mAppId;
+    private final String mAppSignature;
+    private final String mLocationId;
+
+    private AdapterConfig(JSONObject config) {
+        mConfig = config;
+        mAppId = config.optString(ChartboostAdapter.APP_ID);
+        mAppSignature = config.optString(ChartboostAdapter.APP_SIGNATURE);
+        mLocationId = config.optString(ChartboostAdapter.AD_LOCATION);
+    }
+
+    // Returns the parsed values of the config, parsing it only if it isn't cached yet
+    static AdapterConfig from(JSONObject config) {
+        int index = System.identityHashCode(config) & (CACHE_SIZE - 1);
+        AdapterConfig cached = sCache.get(index);
+
+        if (cached != null && cached.mConfig == config) {
+            return cached;
+        }
+
+        AdapterConfig parsed = new AdapterConfig(config);
+        sCache.set(index, parsed);
+        return parsed;
+    }
+
+    String getAppId() {
+        return mAppId;
+    }
+
+    String getAppSignature() {
+        return mAppSignature;
+    }
+
+    String getLocationId() {
+        return mLocationId;
+    }
+}
@@ -20,7 +20,6 @@ import com.chartboost.sdk.privacy.model.DataUseConsent;
 import com.chartboost.sdk.privacy.model.GDPR;
 import com.ironsource.environment.ContextProvider;
 import com.ironsource.mediationsdk.AbstractAdapter;
-import com.ironsource.mediationsdk.AdapterUtils;
 import com.ironsource.mediationsdk.INetworkInitCallbackListener;
 import com.ironsource.mediationsdk.ISBannerSize;
 import com.ironsource.mediationsdk.IntegrationData;
@@ -37,11 +36,9 @@ import com.ironsource.mediationsdk.utils.IronSourceUtils;
 
 import org.json.JSONObject;
 
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.ironsource.mediationsdk.metadata.MetaData.MetaDataValueTypes.META_DATA_VALUE_BOOLEAN;
 
@@ -58,9 +55,9 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     private static final String GitHash = BuildConfig.GitHash;
 
     // Chartboost keys
-    private final String APP_ID = "appID";
-    private final String APP_SIGNATURE = "appSignature";
-    private final String AD_LOCATION = "adLocation";
+    static final String APP_ID = "appID";
+    static final String APP_SIGNATURE = "appSignature";
+    static final String AD_LOCATION = "adLocation";
 
     // Meta data flags
     private static final String CHARTBOOST_COPPA_FLAG = "chartboost_coppa";
@@ -68,35 +65,50 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     private static Boolean mDoNotSellCollectingUserData = null;
     private static Boolean mCoppaUserData = null;
 
-    // Rewarded video collections
-    private ConcurrentHashMap<String, RewardedVideoSmashListener> mLocationIdToRewardedVideoListener;
-    private ConcurrentHashMap<String, ChartboostRewardedVideoAdListener> mLocationIdToRewardedVideoAdListener;
-    private ConcurrentHashMap<String, Rewarded> mLocationIdToRewardedVideoAd;
-    private CopyOnWriteArraySet<String> mRewardedVideoLocationIdsForInitCallbacks;
+    // Rewarded video slots - listeners and ads per location id
+    private ConcurrentHashMap<String, PlacementSlot<RewardedVideoSmashListener, Rewarded, ChartboostRewardedVideoAdListener>> mRewardedVideoSlots;
 
-    // Interstitial maps
-    private ConcurrentHashMap<String, InterstitialSmashListener> mLocationIdToInterstitialListener;
-    private ConcurrentHashMap<String, ChartboostInterstitialAdListener> mLocationIdToInterstitialAdListener;
-    private ConcurrentHashMap<String, Interstitial> mLocationIdToInterstitialAd;
+    // Interstitial slots - listeners and ads per location id
+    private ConcurrentHashMap<String, PlacementSlot<InterstitialSmashListener, Interstitial, ChartboostInterstitialAdListener>> mInterstitialSlots;
 
-    // Banner maps
-    private ConcurrentHashMap<String, BannerSmashListener> mLocationIdToBannerListener;
-    private ConcurrentHashMap<String, ChartboostBannerAdListener> mLocationIdToBannerAdListener;
-    private ConcurrentHashMap<String, IronSourceBannerLayout> mLocationIdToBannerLayout;
-    protected ConcurrentHashMap<String, Banner> mLocationIdToBannerAd;
-
-    // init state possible values
-    public enum InitState {
-        INIT_STATE_NONE,
-        INIT_STATE_IN_PROGRESS,
-        INIT_STATE_SUCCESS,
-        INIT_STATE_FAILED
-    }
+    // Banner slots - listeners and banner views per location id
+    protected ConcurrentHashMap<String, PlacementSlot<BannerSmashListener, Banner, ChartboostBannerAdListener>> mBannerSlots;
 
     // Handle init callback for all adapter instances
-    private static AtomicBoolean mWasInitCalled = new AtomicBoolean(false);
-    protected static InitState mInitState = InitState.INIT_STATE_NONE;
-    protected static HashSet<INetworkInitCallbackListener> initCallbackListeners = new HashSet<>();
+    private static final NetworkInitCoordinator mInitCoordinator = new NetworkInitCoordinator();
+
+    // Init, load and show latencies of all adapter instances
+    private static final LatencyTracker mLatencyTracker = new LatencyTracker();
+
+    // Network banner sizes and pixel dimensions of all adapter instances, resolved once per device configuration
+    private static final BannerLayoutCache<Banner.BannerSize> mBannerLayoutCache = new BannerLayoutCache<>();
+
+    // Chartboost banner size and dimensions of every supported mediation banner size
+    private static final BannerLayoutCache.SizeResolver<Banner.BannerSize> mBannerSizeResolver = new BannerLayoutCache.SizeResolver<Banner.BannerSize>() {
+        @Override
+        public BannerLayoutCache.BannerLayout<Banner.BannerSize> resolve(ISBannerSize size, boolean isLargeScreen) {
+            switch (size.getDescription()) {
+                case "BANNER":
+                case "LARGE":
+                    return new BannerLayoutCache.BannerLayout<>(Banner.BannerSize.STANDARD, 320, 50);
+                case "RECTANGLE":
+                    return new BannerLayoutCache.BannerLayout<>(Banner.BannerSize.MEDIUM, 300, 250);
+                case "SMART":
+                    return isLargeScreen
+                            ? new BannerLayoutCache.BannerLayout<>(Banner.BannerSize.LEADERBOARD, 728, 90)
+                            : new BannerLayoutCache.BannerLayout<>(Banner.BannerSize.STANDARD, 320, 50);
+                case "CUSTOM":
+                    if (size.getHeight() >= 40 && size.getHeight() <= 60) {
+                        return new BannerLayoutCache.BannerLayout<>(Banner.BannerSize.STANDARD, 320, 50);
+                    }
+            }
+
+            return null;
+        }
+    };
+
+    // Frees the ads of all adapter instances when the system runs low on memory
+    private static final MemoryTrimPolicy mMemoryTrimPolicy = new MemoryTrimPolicy();
 
     //region Adapter Methods
 
@@ -106,27 +118,22 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
 
     private ChartboostAdapter(String providerName) {
         super(providerName);
-        IronLog.INTERNAL.verbose("");
+        AdapterLog.verbose(IronLog.INTERNAL, "");
 
         // rewarded video
-        mLocationIdToRewardedVideoListener = new ConcurrentHashMap<>();
-        mLocationIdToRewardedVideoAdListener = new ConcurrentHashMap<>();
-        mLocationIdToRewardedVideoAd = new ConcurrentHashMap<>();
-        mRewardedVideoLocationIdsForInitCallbacks = new CopyOnWriteArraySet<>();
+        mRewardedVideoSlots = new ConcurrentHashMap<>();
 
         // interstitial
-        mLocationIdToInterstitialListener = new ConcurrentHashMap<>();
-        mLocationIdToInterstitialAdListener = new ConcurrentHashMap<>();
-        mLocationIdToInterstitialAd = new ConcurrentHashMap<>();
+        mInterstitialSlots = new ConcurrentHashMap<>();
 
         // banner
-        mLocationIdToBannerListener = new ConcurrentHashMap<>();
-        mLocationIdToBannerAdListener = new ConcurrentHashMap<>();
-        mLocationIdToBannerAd = new ConcurrentHashMap<>();
-        mLocationIdToBannerLayout = new ConcurrentHashMap<>();
+        mBannerSlots = new ConcurrentHashMap<>();
 
         // The network's capability to load a Rewarded Video ad while another Rewarded Video ad of that network is showing
         mLWSSupportState = LoadWhileShowSupportState.LOAD_WHILE_SHOW_BY_NETWORK;
+
+        // free cached ads on memory pressure, not only when the mediation releases the memory
+        mMemoryTrimPolicy.register(mMemoryTrimEvictor);
     }
 
     // get the network and adapter integration data
@@ -151,19 +158,25 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
         return Chartboost.getSDKVersion();
     }
 
+    // Get the init, load and show latency histograms recorded so far for this network
+    public static JSONObject getLatencySnapshot() {
+        return mLatencyTracker.getSnapshot();
+    }
+
+    static LatencyTracker getLatencyTracker() {
+        return mLatencyTracker;
+    }
+
     //endregion
 
     //region Initializations methods and callbacks
     private void initSDK(final String appId, final String appSignature) {
-        // add self to the init listeners only in case the initialization has not finished yet
-        if (mInitState == InitState.INIT_STATE_NONE || mInitState == InitState.INIT_STATE_IN_PROGRESS) {
-            initCallbackListeners.add(this);
-        }
-
-        if (mWasInitCalled.compareAndSet(false, true)) {
-            IronLog.ADAPTER_API.verbose("appId = " + appId + ", appSignature = " + appSignature);
+        // add self to the init listeners, in case the initialization has already finished the result is delivered right away
+        mInitCoordinator.addListener(this);
 
-            mInitState = InitState.INIT_STATE_IN_PROGRESS;
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "appId = {}, appSignature = {}", appId, appSignature);
+            mLatencyTracker.onInitStarted();
 
             // set consent data
             if (mConsentCollectingUserData != null) {
@@ -198,60 +211,66 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     }
 
     private void initializationSuccess() {
-        IronLog.ADAPTER_CALLBACK.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "");
 
-        mInitState = InitState.INIT_STATE_SUCCESS;
-
-        //iterate over all the adapter instances and report init success
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackSuccess();
+        //report init success to all the adapter instances
+        if (mInitCoordinator.setInitSucceeded()) {
+            mLatencyTracker.onInitFinished();
+            mInitCoordinator.notifyListeners();
         }
-
-        initCallbackListeners.clear();
     }
 
     private void initializationFailure() {
-        IronLog.ADAPTER_CALLBACK.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "");
 
-        mInitState = InitState.INIT_STATE_FAILED;
-
-        //iterate over all the adapter instances and report init failed
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackFailed("Chartboost sdk init failed");
+        //report init failed to all the adapter instances
+        if (mInitCoordinator.setInitFailed("Chartboost sdk init failed")) {
+            mLatencyTracker.onInitFinished();
+            mInitCoordinator.notifyListeners();
         }
-
-        initCallbackListeners.clear();
     }
 
     @Override
     public void onNetworkInitCallbackSuccess() {
         // Rewarded Video
-        for (String locationId : mLocationIdToRewardedVideoListener.keySet()) {
-            RewardedVideoSmashListener listener = mLocationIdToRewardedVideoListener.get(locationId);
-            if (mRewardedVideoLocationIdsForInitCallbacks.contains(locationId)) {
+        for (Map.Entry<String, PlacementSlot<RewardedVideoSmashListener, Rewarded, ChartboostRewardedVideoAdListener>> entry : mRewardedVideoSlots.entrySet()) {
+            RewardedVideoSmashListener listener = entry.getValue().getSmashListener();
+            if (listener == null) {
+                continue;
+            }
+
+            if (entry.getValue().isInitCallbackRequired()) {
                 listener.onRewardedVideoInitSuccess();
             } else {
-                loadRewardedVideoInternal(locationId);
+                loadRewardedVideoInternal(entry.getKey());
             }
         }
 
         // Interstitial
-        for (InterstitialSmashListener listener : mLocationIdToInterstitialListener.values()) {
-            listener.onInterstitialInitSuccess();
+        for (PlacementSlot<InterstitialSmashListener, Interstitial, ChartboostInterstitialAdListener> slot : mInterstitialSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onInterstitialInitSuccess();
+            }
         }
 
         // Banner
-        for (BannerSmashListener listener : mLocationIdToBannerListener.values()) {
-            listener.onBannerInitSuccess();
+        for (PlacementSlot<BannerSmashListener, Banner, ChartboostBannerAdListener> slot : mBannerSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onBannerInitSuccess();
+            }
         }
     }
 
     @Override
     public void onNetworkInitCallbackFailed(String error) {
         // Rewarded Video
-        for (String locationId : mLocationIdToRewardedVideoListener.keySet()) {
-            RewardedVideoSmashListener listener = mLocationIdToRewardedVideoListener.get(locationId);
-            if (mRewardedVideoLocationIdsForInitCallbacks.contains(locationId)) {
+        for (PlacementSlot<RewardedVideoSmashListener, Rewarded, ChartboostRewardedVideoAdListener> slot : mRewardedVideoSlots.values()) {
+            RewardedVideoSmashListener listener = slot.getSmashListener();
+            if (listener == null) {
+                continue;
+            }
+
+            if (slot.isInitCallbackRequired()) {
                 listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             } else {
                 listener.onRewardedVideoAvailabilityChanged(false);
@@ -259,13 +278,17 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
         }
 
         // Interstitial
-        for (InterstitialSmashListener listener : mLocationIdToInterstitialListener.values()) {
-            listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.INTERSTITIAL_AD_UNIT));
+        for (PlacementSlot<InterstitialSmashListener, Interstitial, ChartboostInterstitialAdListener> slot : mInterstitialSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onInterstitialInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.INTERSTITIAL_AD_UNIT));
+            }
         }
 
         // Banner
-        for (BannerSmashListener listener : mLocationIdToBannerListener.values()) {
-            listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.BANNER_AD_UNIT));
+        for (PlacementSlot<BannerSmashListener, Banner, ChartboostBannerAdListener> slot : mBannerSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onBannerInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.BANNER_AD_UNIT));
+            }
         }
     }
 
@@ -279,40 +302,40 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     @Override
     // used for flows when the mediation needs to get a callback for init
     public void initRewardedVideoWithCallback(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        final String locationId = config.optString(AD_LOCATION);
-        final String appId = config.optString(APP_ID);
-        final String appSignature = config.optString(APP_SIGNATURE);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String locationId = adapterConfig.getLocationId();
+        final String appId = adapterConfig.getAppId();
+        final String appSignature = adapterConfig.getAppSignature();
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("Missing param - " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", APP_ID);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + APP_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(appSignature)) {
-            IronLog.INTERNAL.error("Missing param - " + APP_SIGNATURE);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", APP_SIGNATURE);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + APP_SIGNATURE, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(locationId)) {
-            IronLog.INTERNAL.error("Missing param - " + AD_LOCATION);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", AD_LOCATION);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + AD_LOCATION, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
 
         ChartboostRewardedVideoAdListener rewardedVideoAdListener = new ChartboostRewardedVideoAdListener(listener, locationId);
 
-        //add to rewarded video listener map
-        mLocationIdToRewardedVideoAdListener.put(locationId, rewardedVideoAdListener);
-        mLocationIdToRewardedVideoListener.put(locationId, listener);
-
-        //add to rewarded video init callback map
-        mRewardedVideoLocationIdsForInitCallbacks.add(locationId);
+        //add to rewarded video slots and mark the location for init callbacks
+        PlacementSlot<RewardedVideoSmashListener, Rewarded, ChartboostRewardedVideoAdListener> slot = getRewardedVideoSlot(locationId);
+        slot.setAdListener(rewardedVideoAdListener);
+        slot.setSmashListener(listener);
+        slot.setInitCallbackRequired(true);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(appId, appSignature);
@@ -321,7 +344,7 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
                 listener.onRewardedVideoInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - locationId = " + locationId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - locationId = {}", locationId);
                 listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Chartboost sdk init failed", IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
                 break;
         }
@@ -330,37 +353,39 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     @Override
     // used for flows when the mediation doesn't need to get a callback for init
     public void initAndLoadRewardedVideo(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        final String locationId = config.optString(AD_LOCATION);
-        final String appId = config.optString(APP_ID);
-        final String appSignature = config.optString(APP_SIGNATURE);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String locationId = adapterConfig.getLocationId();
+        final String appId = adapterConfig.getAppId();
+        final String appSignature = adapterConfig.getAppSignature();
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("Missing param - " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", APP_ID);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
         if (TextUtils.isEmpty(appSignature)) {
-            IronLog.INTERNAL.error("Missing param - " + APP_SIGNATURE);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", APP_SIGNATURE);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
         if (TextUtils.isEmpty(locationId)) {
-            IronLog.INTERNAL.error("Missing param - " + AD_LOCATION);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", AD_LOCATION);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
 
         ChartboostRewardedVideoAdListener rewardedVideoAdListener = new ChartboostRewardedVideoAdListener(listener, locationId);
 
-        //add to rewarded video listener map
-        mLocationIdToRewardedVideoAdListener.put(locationId, rewardedVideoAdListener);
-        mLocationIdToRewardedVideoListener.put(locationId, listener);
+        //add to rewarded video slots
+        PlacementSlot<RewardedVideoSmashListener, Rewarded, ChartboostRewardedVideoAdListener> slot = getRewardedVideoSlot(locationId);
+        slot.setAdListener(rewardedVideoAdListener);
+        slot.setSmashListener(listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(appId, appSignature);
@@ -369,7 +394,7 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
                 loadRewardedVideoInternal(locationId);
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - locationId = " + locationId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - locationId = {}", locationId);
                 listener.onRewardedVideoAvailabilityChanged(false);
                 break;
         }
@@ -377,31 +402,34 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
 
     @Override
     public void fetchRewardedVideoForAutomaticLoad(final JSONObject config, final RewardedVideoSmashListener listener) {
-        final String locationId = config.optString(AD_LOCATION);
+        final String locationId = AdapterConfig.from(config).getLocationId();
         loadRewardedVideoInternal(locationId);
     }
 
     private void loadRewardedVideoInternal(final String locationId) {
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
 
-        ChartboostRewardedVideoAdListener adListener = mLocationIdToRewardedVideoAdListener.get(locationId);
+        PlacementSlot<RewardedVideoSmashListener, Rewarded, ChartboostRewardedVideoAdListener> slot = getRewardedVideoSlot(locationId);
 
-        Rewarded rewardedVideoAd = new Rewarded(locationId, adListener, getMediation());
-        mLocationIdToRewardedVideoAd.put(locationId, rewardedVideoAd);
+        Rewarded rewardedVideoAd = new Rewarded(locationId, slot.getAdListener(), getMediation());
+        slot.setAd(rewardedVideoAd);
 
         // load rewarded video
+        mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, locationId);
         rewardedVideoAd.cache();
     }
 
     @Override
     public void showRewardedVideo(JSONObject config, RewardedVideoSmashListener listener) {
-        final String locationId = config.optString(AD_LOCATION);
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        final String locationId = AdapterConfig.from(config).getLocationId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
 
         listener.onRewardedVideoAvailabilityChanged(false);
 
-        if (isRewardedVideoAvailable(config)) {
-            Rewarded rewardedVideoAd = mLocationIdToRewardedVideoAd.get(locationId);
+        Rewarded rewardedVideoAd = getRewardedVideoAd(locationId);
+
+        if (rewardedVideoAd != null && rewardedVideoAd.isCached()) {
+            mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, locationId);
             rewardedVideoAd.show();
         } else {
             listener.onRewardedVideoAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
@@ -410,8 +438,8 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
 
     @Override
     public boolean isRewardedVideoAvailable(JSONObject config) {
-        final String locationId = config.optString(AD_LOCATION);
-        Rewarded rewardedVideoAd = mLocationIdToRewardedVideoAd.get(locationId);
+        final String locationId = AdapterConfig.from(config).getLocationId();
+        Rewarded rewardedVideoAd = getRewardedVideoAd(locationId);
         return rewardedVideoAd != null && rewardedVideoAd.isCached();
     }
 
@@ -420,37 +448,39 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     //region Interstitial API
     @Override
     public void initInterstitial(String appKey, String userId, JSONObject config, InterstitialSmashListener listener) {
-        final String locationId = config.optString(AD_LOCATION);
-        final String appId = config.optString(APP_ID);
-        final String appSignature = config.optString(APP_SIGNATURE);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String locationId = adapterConfig.getLocationId();
+        final String appId = adapterConfig.getAppId();
+        final String appSignature = adapterConfig.getAppSignature();
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("missing param - " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing param - {}", APP_ID);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + APP_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(appSignature)) {
-            IronLog.INTERNAL.error("missing param - " + APP_SIGNATURE);
+            AdapterLog.error(IronLog.INTERNAL, "missing param - {}", APP_SIGNATURE);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + APP_SIGNATURE, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(locationId)) {
-            IronLog.INTERNAL.error("missing param - " + AD_LOCATION);
+            AdapterLog.error(IronLog.INTERNAL, "missing param - {}", AD_LOCATION);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + AD_LOCATION, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
 
         ChartboostInterstitialAdListener interstitialAdListener = new ChartboostInterstitialAdListener(listener, locationId);
 
-        //add to interstitial listener map
-        mLocationIdToInterstitialAdListener.put(locationId, interstitialAdListener);
-        mLocationIdToInterstitialListener.put(locationId, listener);
+        //add to interstitial slots
+        PlacementSlot<InterstitialSmashListener, Interstitial, ChartboostInterstitialAdListener> slot = getInterstitialSlot(locationId);
+        slot.setAdListener(interstitialAdListener);
+        slot.setSmashListener(listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(appId, appSignature);
@@ -459,7 +489,7 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
                 listener.onInterstitialInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - locationId = " + locationId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - locationId = {}", locationId);
                 listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Chartboost sdk init failed", IronSourceConstants.INTERSTITIAL_AD_UNIT));
                 break;
         }
@@ -467,25 +497,28 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
 
     @Override
     public void loadInterstitial(JSONObject config, InterstitialSmashListener listener) {
-        final String locationId = config.optString(AD_LOCATION);
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        final String locationId = AdapterConfig.from(config).getLocationId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
 
-        ChartboostInterstitialAdListener adListener = mLocationIdToInterstitialAdListener.get(locationId);
+        PlacementSlot<InterstitialSmashListener, Interstitial, ChartboostInterstitialAdListener> slot = getInterstitialSlot(locationId);
 
-        Interstitial interstitialAd = new Interstitial(locationId, adListener, getMediation());
-        mLocationIdToInterstitialAd.put(locationId, interstitialAd);
+        Interstitial interstitialAd = new Interstitial(locationId, slot.getAdListener(), getMediation());
+        slot.setAd(interstitialAd);
 
         // load interstitial
+        mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, locationId);
         interstitialAd.cache();
     }
 
     @Override
     public void showInterstitial(JSONObject config, InterstitialSmashListener listener) {
-        final String locationId = config.optString(AD_LOCATION);
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        final String locationId = AdapterConfig.from(config).getLocationId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
+
+        Interstitial interstitialAd = getInterstitialAd(locationId);
 
-        if (isInterstitialReady(config)) {
-            Interstitial interstitialAd = mLocationIdToInterstitialAd.get(locationId);
+        if (interstitialAd != null && interstitialAd.isCached()) {
+            mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, locationId);
             interstitialAd.show();
         } else {
             listener.onInterstitialAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.INTERSTITIAL_AD_UNIT));
@@ -494,8 +527,8 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
 
     @Override
     public boolean isInterstitialReady(JSONObject config) {
-        final String locationId = config.optString(AD_LOCATION);
-        Interstitial interstitialAd = mLocationIdToInterstitialAd.get(locationId);
+        final String locationId = AdapterConfig.from(config).getLocationId();
+        Interstitial interstitialAd = getInterstitialAd(locationId);
         return interstitialAd != null && interstitialAd.isCached();
     }
     //endregion
@@ -503,34 +536,35 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     //region Banner API
     @Override
     public void initBanners(String appKey, String userId, JSONObject config, final BannerSmashListener listener) {
-        final String locationId = config.optString(AD_LOCATION);
-        final String appId = config.optString(APP_ID);
-        final String appSignature = config.optString(APP_SIGNATURE);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String locationId = adapterConfig.getLocationId();
+        final String appId = adapterConfig.getAppId();
+        final String appSignature = adapterConfig.getAppSignature();
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("missing param - " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing param - {}", APP_ID);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + APP_ID, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(appSignature)) {
-            IronLog.INTERNAL.error("missing param - " + APP_SIGNATURE);
+            AdapterLog.error(IronLog.INTERNAL, "missing param - {}", APP_SIGNATURE);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + APP_SIGNATURE, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(locationId)) {
-            IronLog.INTERNAL.error("missing param - " + AD_LOCATION);
+            AdapterLog.error(IronLog.INTERNAL, "missing param - {}", AD_LOCATION);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + AD_LOCATION, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
 
-        //add to banner listener map
-        mLocationIdToBannerListener.put(locationId, listener);
+        //add to banner slots
+        getBannerSlot(locationId).setSmashListener(listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(appId, appSignature);
@@ -539,7 +573,7 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
                 listener.onBannerInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - locationId = " + locationId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - locationId = {}", locationId);
                 listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Chartboost sdk init failed", IronSourceConstants.BANNER_AD_UNIT));
                 break;
         }
@@ -547,11 +581,11 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
 
     @Override
     public void loadBanner(final IronSourceBannerLayout banner, final JSONObject config, final BannerSmashListener listener) {
-        final String locationId = config.optString(AD_LOCATION);
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        final String locationId = AdapterConfig.from(config).getLocationId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
 
         if (banner == null) {
-            IronLog.ADAPTER_API.error("banner layout is null");
+            AdapterLog.error(IronLog.ADAPTER_API, "banner layout is null");
             listener.onBannerAdLoadFailed(ErrorBuilder.buildNoConfigurationAvailableError("banner layout is null"));
             return;
         }
@@ -561,45 +595,38 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
 
         // verify if size is null
         if (bannerSize == null) {
-            IronLog.INTERNAL.error("size not supported, size is null");
+            AdapterLog.error(IronLog.INTERNAL, "size not supported, size is null");
             listener.onBannerAdLoadFailed(ErrorBuilder.unsupportedBannerSize(getProviderName()));
             return;
         }
 
-        // add banner layout to map
-        mLocationIdToBannerLayout.put(locationId, banner);
-
         // get banner
         Banner chartboostBanner = getChartboostBanner(banner, locationId);
 
         // load banner
+        mLatencyTracker.onLoadStarted(IronSourceConstants.BANNER_AD_UNIT, locationId);
         chartboostBanner.cache();
     }
 
     @Override
     public void reloadBanner(final IronSourceBannerLayout banner, final JSONObject config, BannerSmashListener listener) {
-        IronLog.INTERNAL.warning("Unsupported method");
+        AdapterLog.warning(IronLog.INTERNAL, "Unsupported method");
     }
 
     @Override
     public void destroyBanner(final JSONObject config) {
-        final String locationId = config.optString(AD_LOCATION);
-        IronLog.ADAPTER_API.verbose("locationId = " + locationId);
+        final String locationId = AdapterConfig.from(config).getLocationId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "locationId = {}", locationId);
 
-        Banner banner = mLocationIdToBannerAd.get(locationId);
+        PlacementSlot<BannerSmashListener, Banner, ChartboostBannerAdListener> slot = mBannerSlots.get(locationId);
+        Banner banner = slot != null ? slot.takeAd() : null;
 
         if (banner != null) {
             // destroy banner
             banner.detach();
 
-            // remove banner view from map
-            mLocationIdToBannerAd.remove(locationId);
-
-            // remove banner layout from map
-            mLocationIdToBannerLayout.remove(locationId);
-
-            // remove banner ad listener from map
-            mLocationIdToBannerAdListener.remove(locationId);
+            // remove banner ad listener from slot
+            slot.setAdListener(null);
         }
     }
 
@@ -611,10 +638,39 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     }
     //endregion
 
+    //region Memory Handling
+
+    // Rewarded video and interstitial readiness is kept by the network SDK, so only banners are freed
+    private final MemoryTrimPolicy.Evictor mMemoryTrimEvictor = new MemoryTrimPolicy.Evictor() {
+        @Override
+        public int evictDetachedBanners() {
+            int evicted = 0;
+
+            for (PlacementSlot<BannerSmashListener, Banner, ChartboostBannerAdListener> slot : mBannerSlots.values()) {
+                Banner banner = slot.getAd();
+
+                if (banner != null && banner.getParent() == null && (banner = slot.takeAd()) != null) {
+                    banner.detach();
+                    slot.setAdListener(null);
+                    evicted++;
+                }
+            }
+
+            return evicted;
+        }
+
+        @Override
+        public int evictAvailableAds(long maxAgeMillis) {
+            return 0;
+        }
+    };
+
+    //endregion
+
     //region legal
     protected void setConsent(boolean consent) {
-        if (mWasInitCalled.get()) {
-            IronLog.ADAPTER_API.verbose("consent = " + (consent ? "BEHAVIORAL" : "NON_BEHAVIORAL"));
+        if (mInitCoordinator.isInitStarted()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "consent = {}", (consent ? "BEHAVIORAL" : "NON_BEHAVIORAL"));
             GDPR.GDPR_CONSENT chartboostConsent = consent ? GDPR.GDPR_CONSENT.BEHAVIORAL : GDPR.GDPR_CONSENT.NON_BEHAVIORAL;
             Chartboost.addDataUseConsent(ContextProvider.getInstance().getCurrentActiveActivity(), new GDPR(chartboostConsent));
         } else {
@@ -630,7 +686,7 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
 
         // this is a list of 1 value.
         String value = values.get(0);
-        IronLog.ADAPTER_API.verbose("key = " + key + ", value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, value = {}", key, value);
 
         if (MetaDataUtils.isValidCCPAMetaData(key, value)) {
             mDoNotSellCollectingUserData = MetaDataUtils.getMetaDataBooleanValue(value);
@@ -644,7 +700,7 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     }
 
     private void setCCPAValue(final boolean value) {
-        IronLog.ADAPTER_API.verbose("value = " + (value ? "OPT_OUT_SALE" : "OPT_IN_SALE"));
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", (value ? "OPT_OUT_SALE" : "OPT_IN_SALE"));
         DataUseConsent dataUseConsent = new CCPA(value? CCPA.CCPA_CONSENT.OPT_OUT_SALE : CCPA.CCPA_CONSENT.OPT_IN_SALE);
         Chartboost.addDataUseConsent(ContextProvider.getInstance().getApplicationContext(), dataUseConsent);
     }
@@ -654,7 +710,7 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     }
 
     private void setCOPPAValue(final boolean isUserCoppa) {
-        IronLog.ADAPTER_API.verbose("value = " + isUserCoppa);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", isUserCoppa);
         DataUseConsent dataUseConsent = new COPPA(isUserCoppa);
         Chartboost.addDataUseConsent(ContextProvider.getInstance().getApplicationContext(), dataUseConsent);
     }
@@ -662,72 +718,55 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
     //endregion
 
     // region Helpers
-    private Banner.BannerSize getBannerSize(ISBannerSize size) {
-        switch (size.getDescription()) {
-            case "BANNER":
-            case "LARGE":
-                return Banner.BannerSize.STANDARD;
-            case "RECTANGLE":
-                return Banner.BannerSize.MEDIUM;
-            case "SMART":
-                return AdapterUtils.isLargeScreen(ContextProvider.getInstance().getCurrentActiveActivity()) ?Banner.BannerSize.LEADERBOARD : Banner.BannerSize.STANDARD;
-            case "CUSTOM":
-                if (size.getHeight() >= 40 && size.getHeight() <= 60) {
-                    return Banner.BannerSize.STANDARD;
-                }
-        }
+    PlacementSlot<RewardedVideoSmashListener, Rewarded, ChartboostRewardedVideoAdListener> getRewardedVideoSlot(String locationId) {
+        return PlacementSlot.obtain(mRewardedVideoSlots, locationId);
+    }
 
-        return null;
+    PlacementSlot<InterstitialSmashListener, Interstitial, ChartboostInterstitialAdListener> getInterstitialSlot(String locationId) {
+        return PlacementSlot.obtain(mInterstitialSlots, locationId);
     }
 
-    private FrameLayout.LayoutParams getBannerLayoutParams(ISBannerSize size) {
-        FrameLayout.LayoutParams layoutParams = new FrameLayout.LayoutParams(0, 0);
-        Activity activity = ContextProvider.getInstance().getCurrentActiveActivity();
+    PlacementSlot<BannerSmashListener, Banner, ChartboostBannerAdListener> getBannerSlot(String locationId) {
+        return PlacementSlot.obtain(mBannerSlots, locationId);
+    }
 
-        switch (size.getDescription()) {
-            case "BANNER":
-            case "LARGE":
-                layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                break;
-            case "RECTANGLE":
-                layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 300), AdapterUtils.dpToPixels(activity, 250));
-                break;
-            case "SMART":
-                if (AdapterUtils.isLargeScreen(activity)) {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 728), AdapterUtils.dpToPixels(activity, 90));
-                } else {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                }
-                break;
-            case "CUSTOM":
-                if (size.getHeight() >= 40 && size.getHeight() <= 60) {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                }
-                break;
-        }
+    private Rewarded getRewardedVideoAd(String locationId) {
+        PlacementSlot<RewardedVideoSmashListener, Rewarded, ChartboostRewardedVideoAdListener> slot = mRewardedVideoSlots.get(locationId);
+        return slot != null ? slot.getAd() : null;
+    }
+
+    private Interstitial getInterstitialAd(String locationId) {
+        PlacementSlot<InterstitialSmashListener, Interstitial, ChartboostInterstitialAdListener> slot = mInterstitialSlots.get(locationId);
+        return slot != null ? slot.getAd() : null;
+    }
 
-        // set gravity
-        layoutParams.gravity = Gravity.CENTER;
+    private Banner.BannerSize getBannerSize(ISBannerSize size) {
+        BannerLayoutCache.BannerLayout<Banner.BannerSize> layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver);
+        return layout != null ? layout.getNetworkSize() : null;
+    }
 
-        return layoutParams;
+    private FrameLayout.LayoutParams getBannerLayoutParams(ISBannerSize size) {
+        BannerLayoutCache.BannerLayout<Banner.BannerSize> layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver);
+        return layout != null ? layout.createLayoutParams() : new FrameLayout.LayoutParams(0, 0, Gravity.CENTER);
     }
 
     private Banner getChartboostBanner(IronSourceBannerLayout banner, String locationId) {
-        // get banner from the map
-        Banner chartboostBanner = mLocationIdToBannerAd.get(locationId);
+        // get banner from the slot
+        PlacementSlot<BannerSmashListener, Banner, ChartboostBannerAdListener> slot = getBannerSlot(locationId);
+        Banner chartboostBanner = slot.getAd();
 
         // check if null, if so, create a new one
         if (chartboostBanner == null) {
-            IronLog.ADAPTER_API.verbose("creating banner");
+            AdapterLog.verbose(IronLog.ADAPTER_API, "creating banner");
 
             // get size
             Banner.BannerSize bannerSize = getBannerSize(banner.getSize());
 
-            BannerSmashListener listener = mLocationIdToBannerListener.get(locationId);
+            BannerSmashListener listener = slot.getSmashListener();
             FrameLayout.LayoutParams bannerLayoutParams = getBannerLayoutParams(banner.getSize());
 
             ChartboostBannerAdListener bannerAdListener = new ChartboostBannerAdListener(ChartboostAdapter.this, listener, locationId, bannerLayoutParams);
-            mLocationIdToBannerAdListener.put(locationId, bannerAdListener);
+            slot.setAdListener(bannerAdListener);
 
             // create banner
             chartboostBanner = new Banner(ContextProvider.getInstance().getApplicationContext(), locationId, bannerSize, bannerAdListener, getMediation());
@@ -735,8 +774,8 @@ class ChartboostAdapter extends AbstractAdapter implements INetworkInitCallbackL
             // add layout params
             chartboostBanner.setLayoutParams(bannerLayoutParams);
 
-            // add banner layout to map
-            mLocationIdToBannerAd.put(locationId, chartboostBanner);
+            // add banner to slot
+            slot.setAd(chartboostBanner);
         }
 
         return chartboostBanner;
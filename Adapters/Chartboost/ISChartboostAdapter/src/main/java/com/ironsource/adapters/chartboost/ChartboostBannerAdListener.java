@@ -19,6 +19,7 @@ import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 
@@ -39,22 +40,22 @@ final class ChartboostBannerAdListener implements BannerCallback {
 
     @Override
     public void onAdLoaded(@NonNull CacheEvent cacheEvent, @Nullable CacheError cacheError) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
-        Banner bannerView = mAdapter.get().mLocationIdToBannerAd.get(mLocationId);
+        Banner bannerView = mAdapter.get().getBannerSlot(mLocationId).getAd();
 
         if (bannerView == null) {
-            IronLog.ADAPTER_CALLBACK.error("bannerView is null");
+            AdapterLog.error(IronLog.ADAPTER_CALLBACK, "bannerView is null");
             IronSourceError error = ErrorBuilder.buildLoadFailedError(mAdapter.get().getProviderName() + " load failed - bannerView is null");
             mListener.onBannerAdLoadFailed(error);
             return;
@@ -64,7 +65,8 @@ final class ChartboostBannerAdListener implements BannerCallback {
         // check if there is some error to load the banner
         if (cacheError != null) {
 
-            IronLog.ADAPTER_CALLBACK.error("error = " + cacheError.toString());
+            AdapterLog.error(IronLog.ADAPTER_CALLBACK, "error = {}", cacheError);
+            ChartboostAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.BANNER_AD_UNIT, mLocationId);
 
             IronSourceError error;
 
@@ -76,6 +78,7 @@ final class ChartboostBannerAdListener implements BannerCallback {
 
             mListener.onBannerAdLoadFailed(error);
         } else {
+            ChartboostAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.BANNER_AD_UNIT, mLocationId);
             mListener.onBannerAdLoaded(bannerView, mBannerLayoutParams);
             bannerView.show();
         }
@@ -83,20 +86,20 @@ final class ChartboostBannerAdListener implements BannerCallback {
 
     @Override
     public void onAdRequestedToShow(@NonNull ShowEvent showEvent) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
     }
 
     @Override
     public void onAdShown(@NonNull ShowEvent showEvent, @Nullable ShowError showError) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
     }
 
     @Override
     public void onImpressionRecorded(@NonNull ImpressionEvent impressionEvent) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -105,15 +108,15 @@ final class ChartboostBannerAdListener implements BannerCallback {
 
     @Override
     public void onAdClicked(@NonNull ClickEvent clickEvent, @Nullable ClickError clickError) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (clickError != null) {
-            IronLog.ADAPTER_CALLBACK.verbose("clickError = " + clickError.toString());
+            AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "clickError = {}", clickError);
         }
 
         mListener.onBannerAdClicked();
@@ -33,15 +33,16 @@ final class ChartboostInterstitialAdListener implements InterstitialCallback {
 
     @Override
     public void onAdLoaded(@NonNull CacheEvent cacheEvent, @Nullable CacheError cacheError) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (cacheError != null) {
-            IronLog.ADAPTER_CALLBACK.error("error = " + cacheError.toString());
+            AdapterLog.error(IronLog.ADAPTER_CALLBACK, "error = {}", cacheError);
+            ChartboostAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mLocationId);
 
             IronSourceError isError;
 
@@ -53,36 +54,38 @@ final class ChartboostInterstitialAdListener implements InterstitialCallback {
 
             mListener.onInterstitialAdLoadFailed(isError);
         } else {
+            ChartboostAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, mLocationId);
             mListener.onInterstitialAdReady();
         }
     }
 
     @Override
     public void onAdRequestedToShow(@NonNull ShowEvent showEvent) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
     }
 
     @Override
     public void onAdShown(@NonNull ShowEvent showEvent, @Nullable ShowError showError) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (showError != null) {
-            IronLog.ADAPTER_CALLBACK.error("error = " + showError.toString());
+            AdapterLog.error(IronLog.ADAPTER_CALLBACK, "error = {}", showError);
             mListener.onInterstitialAdShowFailed(ErrorBuilder.buildShowFailedError(IronSourceConstants.INTERSTITIAL_AD_UNIT, showError.toString()));
         }
     }
 
     @Override
     public void onImpressionRecorded(@NonNull ImpressionEvent impressionEvent) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
+        ChartboostAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -92,15 +95,15 @@ final class ChartboostInterstitialAdListener implements InterstitialCallback {
 
     @Override
     public void onAdClicked(@NonNull ClickEvent clickEvent, @Nullable ClickError clickError) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (clickError != null) {
-            IronLog.ADAPTER_CALLBACK.verbose("clickError = " + clickError.toString());
+            AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "clickError = {}", clickError);
         }
 
         mListener.onInterstitialAdClicked();
@@ -108,10 +111,10 @@ final class ChartboostInterstitialAdListener implements InterstitialCallback {
 
     @Override
     public void onAdDismiss(@NonNull DismissEvent dismissEvent) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -34,15 +34,16 @@ final class ChartboostRewardedVideoAdListener implements RewardedCallback {
 
     @Override
     public void onAdLoaded(@NonNull CacheEvent cacheEvent, @Nullable CacheError cacheError) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (cacheError != null) {
-            IronLog.ADAPTER_CALLBACK.error("error = " + cacheError.toString());
+            AdapterLog.error(IronLog.ADAPTER_CALLBACK, "error = {}", cacheError);
+            ChartboostAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mLocationId);
 
             IronSourceError isError;
 
@@ -56,36 +57,38 @@ final class ChartboostRewardedVideoAdListener implements RewardedCallback {
             mListener.onRewardedVideoLoadFailed(isError);
             
         } else {
+            ChartboostAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mLocationId);
             mListener.onRewardedVideoAvailabilityChanged(true);
         }
     }
 
     @Override
     public void onAdRequestedToShow(@NonNull ShowEvent showEvent) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
     }
 
     @Override
     public void onAdShown(@NonNull ShowEvent showEvent, @Nullable ShowError showError) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (showError != null) {
-            IronLog.ADAPTER_CALLBACK.error("error = " + showError.toString());
+            AdapterLog.error(IronLog.ADAPTER_CALLBACK, "error = {}", showError);
             mListener.onRewardedVideoAdShowFailed(ErrorBuilder.buildShowFailedError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, showError.toString()));
         }
     }
 
     @Override
     public void onImpressionRecorded(@NonNull ImpressionEvent impressionEvent) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
+        ChartboostAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -94,15 +97,15 @@ final class ChartboostRewardedVideoAdListener implements RewardedCallback {
 
     @Override
     public void onAdClicked(@NonNull ClickEvent clickEvent, @Nullable ClickError clickError) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (clickError != null) {
-            IronLog.ADAPTER_CALLBACK.verbose("clickError = " + clickError.toString());
+            AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "clickError = {}", clickError);
         }
 
         mListener.onRewardedVideoAdClicked();
@@ -110,10 +113,10 @@ final class ChartboostRewardedVideoAdListener implements RewardedCallback {
 
     @Override
     public void onRewardEarned(@NonNull RewardEvent rewardEvent) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -122,10 +125,10 @@ final class ChartboostRewardedVideoAdListener implements RewardedCallback {
 
     @Override
     public void onAdDismiss(@NonNull DismissEvent dismissEvent) {
-        IronLog.ADAPTER_CALLBACK.verbose("locationId = " + mLocationId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "locationId = {}", mLocationId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
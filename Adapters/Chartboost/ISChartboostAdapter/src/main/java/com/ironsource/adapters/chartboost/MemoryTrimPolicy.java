@@ -0,0 +1,155 @@
+package com.ironsource.adapters.chartboost;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+
+import com.ironsource.environment.ContextProvider;
+import com.ironsource.mediationsdk.logger.IronLog;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Frees the ads the adapters hold when the system runs low on memory, instead of keeping them until the mediation
+ * calls releaseMemory. The trim level picks how much is freed: banners removed from the banner layout first, then
+ * full screen ads that were loaded long enough ago to have expired, then every full screen ad that is not showing.
+ * A banner still in a layout is never destroyed, even when the app is in the background and it is not shown.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+final class MemoryTrimPolicy implements ComponentCallbacks2 {
+
+    interface Evictor {
+        // Destroys the banners that have no parent view, returns how many were destroyed
+        int evictDetachedBanners();
+
+        // Drops the full screen ads that have been available for at least maxAgeMillis and reports them as
+        // unavailable, returns how many were dropped
+        int evictAvailableAds(long maxAgeMillis);
+    }
+
+    static final int TIER_NONE = 0;
+    static final int TIER_DETACHED_BANNERS = 1;
+    static final int TIER_EXPIRED_ADS = 2;
+    static final int TIER_ALL_ADS = 3;
+
+    // Networks expire their full screen ads about an hour after the load
+    static final long AD_EXPIRATION_MILLIS = 60 * 60 * 1000;
+
+    private final CopyOnWriteArrayList<WeakReference<Evictor>> mEvictors = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean mRegistered = new AtomicBoolean(false);
+    private final AtomicLong mTrims = new AtomicLong();
+    private final AtomicLong mEvictedBanners = new AtomicLong();
+    private final AtomicLong mEvictedAds = new AtomicLong();
+
+    // Adds an adapter instance, the policy only keeps a weak reference to the evictor
+    void register(Evictor evictor) {
+        // drop the adapter instances that were collected since, so creating instances doesn't grow the list
+        for (WeakReference<Evictor> reference : mEvictors) {
+            if (reference.get() == null) {
+                mEvictors.remove(reference);
+            }
+        }
+
+        mEvictors.add(new WeakReference<>(evictor));
+
+        if (!mRegistered.compareAndSet(false, true)) {
+            return;
+        }
+
+        Context context = ContextProvider.getInstance().getApplicationContext();
+
+        if (context == null) {
+            // try again with the next adapter instance
+            mRegistered.set(false);
+            AdapterLog.verbose(IronLog.INTERNAL, "application context is null");
+            return;
+        }
+
+        context.registerComponentCallbacks(this);
+    }
+
+    // UI_HIDDEN alone is not memory pressure, the app just moved to the background
+    static int tierFor(int level) {
+        if (level >= TRIM_MEMORY_COMPLETE) {
+            return TIER_ALL_ADS;
+        } else if (level >= TRIM_MEMORY_MODERATE) {
+            return TIER_EXPIRED_ADS;
+        } else if (level >= TRIM_MEMORY_BACKGROUND) {
+            return TIER_DETACHED_BANNERS;
+        } else if (level == TRIM_MEMORY_UI_HIDDEN) {
+            return TIER_NONE;
+        } else if (level >= TRIM_MEMORY_RUNNING_CRITICAL) {
+            return TIER_EXPIRED_ADS;
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            return TIER_DETACHED_BANNERS;
+        }
+
+        return TIER_NONE;
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        trim(tierFor(level));
+    }
+
+    @Override
+    public void onLowMemory() {
+        trim(TIER_ALL_ADS);
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+    }
+
+    // Called on the main thread
+    void trim(int tier) {
+        if (tier == TIER_NONE) {
+            return;
+        }
+
+        mTrims.incrementAndGet();
+        int banners = 0;
+        int ads = 0;
+
+        for (WeakReference<Evictor> reference : mEvictors) {
+            Evictor evictor = reference.get();
+
+            if (evictor == null) {
+                mEvictors.remove(reference);
+                continue;
+            }
+
+            banners += evictor.evictDetachedBanners();
+
+            if (tier >= TIER_EXPIRED_ADS) {
+                ads += evictor.evictAvailableAds(tier == TIER_ALL_ADS ? 0 : AD_EXPIRATION_MILLIS);
+            }
+        }
+
+        mEvictedBanners.addAndGet(banners);
+        mEvictedAds.addAndGet(ads);
+        AdapterLog.verbose(IronLog.INTERNAL, "tier = {}, banners = {}, ads = {}", tier, banners, ads);
+    }
+
+    JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("trims", mTrims.get());
+            stats.put("evictedBanners", mEvictedBanners.get());
+            stats.put("evictedAds", mEvictedAds.get());
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the memory trim stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+}
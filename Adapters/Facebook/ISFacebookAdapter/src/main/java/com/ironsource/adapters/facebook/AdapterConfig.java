@@ -0,0 +1,62 @@
+package com.ironsource.adapters.facebook;
+
+import org.json.JSONObject;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable view of the values the adapter reads from a smash config.
+ * The mediation layer passes the same config object on every call made for a smash, so each config
+ * is parsed once and cached by its identity. Availability and show checks then read a field
+ * instead of looking the keys up in the json again.
+ * Every adapter ships as its own artifact, so each adapter keeps its own copy of this class.
+ * Only the config values differ between the copies, the config cache is the same in each of them.
+ */
+final class AdapterConfig {
+
+    // Number of cached configs, must be a power of two
+    private static final int CACHE_SIZE = 32;
+    private static final AtomicReferenceArray<AdapterConfig> sCache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private final JSONObject mConfig;
+    private final String mPlacementId;
+    private final String mAllPlacementIds;
+    private final List<String> mAllPlacementIdsList;
+
+    private AdapterConfig(JSONObject config) {
+        mConfig = config;
+        mPlacementId = config.optString(FacebookAdapter.PLACEMENT_ID);
+        mAllPlacementIds = config.optString(FacebookAdapter.ALL_PLACEMENT_IDS);
+        mAllPlacementIdsList = Collections.unmodifiableList(Arrays.asList(mAllPlacementIds.split(",")));
+    }
+
+    // Returns the parsed values of the config, parsing it only if it isn't cached yet
+    static AdapterConfig from(JSONObject config) {
+        int index = System.identityHashCode(config) & (CACHE_SIZE - 1);
+        AdapterConfig cached = sCache.get(index);
+
+        if (cached != null && cached.mConfig == config) {
+            return cached;
+        }
+
+        AdapterConfig parsed = new AdapterConfig(config);
+        sCache.set(index, parsed);
+        return parsed;
+    }
+
+    String getPlacementId() {
+        return mPlacementId;
+    }
+
+    String getAllPlacementIds() {
+        return mAllPlacementIds;
+    }
+
+    // The comma separated placement ids, split once per config
+    List<String> getAllPlacementIdsList() {
+        return mAllPlacementIdsList;
+    }
+}
@@ -0,0 +1,141 @@
+package com.ironsource.adapters.facebook;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+import com.ironsource.mediationsdk.logger.IronSourceLogger.IronSourceLogLevel;
+import com.ironsource.mediationsdk.logger.IronSourceLoggerManager;
+
+/**
+ * Level-gated front for {@link IronLog} used by the adapter and its listeners.
+ * Messages take "{}" placeholders and are only formatted when the level is enabled, so with verbose
+ * logging off a log call on a load, show or callback path costs a level check and builds no strings.
+ * Every level follows the mediation log level, the adapters debug flag only controls the network SDK's own logs.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+final class AdapterLog {
+
+    private static final String PLACEHOLDER = "{}";
+
+    private static final IronSourceLoggerManager LOGGER_MANAGER = IronSourceLoggerManager.getLogger();
+
+    private AdapterLog() {
+    }
+
+    static boolean isEnabled(int level) {
+        return level >= LOGGER_MANAGER.getDebugLevel();
+    }
+
+    //region verbose
+    static void verbose(IronLog logger) {
+        if (isEnabled(IronSourceLogLevel.VERBOSE)) {
+            logger.verbose();
+        }
+    }
+
+    static void verbose(IronLog logger, String message) {
+        if (isEnabled(IronSourceLogLevel.VERBOSE)) {
+            logger.verbose(message);
+        }
+    }
+
+    static void verbose(IronLog logger, String format, Object arg) {
+        if (isEnabled(IronSourceLogLevel.VERBOSE)) {
+            logger.verbose(format(format, 1, arg, null, null));
+        }
+    }
+
+    static void verbose(IronLog logger, String format, Object arg1, Object arg2) {
+        if (isEnabled(IronSourceLogLevel.VERBOSE)) {
+            logger.verbose(format(format, 2, arg1, arg2, null));
+        }
+    }
+
+    static void verbose(IronLog logger, String format, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(IronSourceLogLevel.VERBOSE)) {
+            logger.verbose(format(format, 3, arg1, arg2, arg3));
+        }
+    }
+    //endregion
+
+    //region info
+    static void info(IronLog logger, String message) {
+        if (isEnabled(IronSourceLogLevel.INFO)) {
+            logger.info(message);
+        }
+    }
+
+    static void info(IronLog logger, String format, Object arg) {
+        if (isEnabled(IronSourceLogLevel.INFO)) {
+            logger.info(format(format, 1, arg, null, null));
+        }
+    }
+    //endregion
+
+    //region warning
+    static void warning(IronLog logger, String message) {
+        if (isEnabled(IronSourceLogLevel.WARNING)) {
+            logger.warning(message);
+        }
+    }
+
+    static void warning(IronLog logger, String format, Object arg) {
+        if (isEnabled(IronSourceLogLevel.WARNING)) {
+            logger.warning(format(format, 1, arg, null, null));
+        }
+    }
+
+    static void warning(IronLog logger, String format, Object arg1, Object arg2) {
+        if (isEnabled(IronSourceLogLevel.WARNING)) {
+            logger.warning(format(format, 2, arg1, arg2, null));
+        }
+    }
+    //endregion
+
+    //region error
+    static void error(IronLog logger, String message) {
+        if (isEnabled(IronSourceLogLevel.ERROR)) {
+            logger.error(message);
+        }
+    }
+
+    static void error(IronLog logger, String format, Object arg) {
+        if (isEnabled(IronSourceLogLevel.ERROR)) {
+            logger.error(format(format, 1, arg, null, null));
+        }
+    }
+
+    static void error(IronLog logger, String format, Object arg1, Object arg2) {
+        if (isEnabled(IronSourceLogLevel.ERROR)) {
+            logger.error(format(format, 2, arg1, arg2, null));
+        }
+    }
+
+    static void error(IronLog logger, String format, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(IronSourceLogLevel.ERROR)) {
+            logger.error(format(format, 3, arg1, arg2, arg3));
+        }
+    }
+    //endregion
+
+    // Replaces the placeholders in order, extra placeholders are kept as is
+    private static String format(String format, int argCount, Object arg1, Object arg2, Object arg3) {
+        StringBuilder builder = new StringBuilder(format.length() + 32);
+        int start = 0;
+
+        for (int i = 0; i < argCount; i++) {
+            int index = format.indexOf(PLACEHOLDER, start);
+
+            if (index < 0) {
+                break;
+            }
+
+            builder.append(format, start, index);
+            builder.append(i == 0 ? arg1 : i == 1 ? arg2 : arg3);
+            start = index + PLACEHOLDER.length();
+        }
+
+        builder.append(format, start, format.length());
+        return builder.toString();
+    }
+}
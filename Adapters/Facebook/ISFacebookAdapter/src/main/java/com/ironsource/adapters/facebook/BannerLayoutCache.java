@@ -0,0 +1,170 @@
+package com.ironsource.adapters.facebook;
+
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.view.Gravity;
+import android.widget.FrameLayout;
+
+import com.ironsource.environment.ContextProvider;
+import com.ironsource.mediationsdk.AdapterUtils;
+import com.ironsource.mediationsdk.ISBannerSize;
+import com.ironsource.mediationsdk.logger.IronLog;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Network banner size and pixel dimensions per mediation banner size, resolved once per device configuration
+ * instead of on every banner load. The screen size and density only change with the configuration, so the cache
+ * is dropped on every configuration change and the next load resolves its size again.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ *
+ * @param <S> the network banner size type
+ */
+final class BannerLayoutCache<S> implements ComponentCallbacks {
+
+    // Height of a layout the network view sizes itself
+    static final int WRAP_CONTENT = FrameLayout.LayoutParams.WRAP_CONTENT;
+
+    interface SizeResolver<S> {
+        // Returns null if the network doesn't support the banner size
+        BannerLayout<S> resolve(ISBannerSize size, boolean isLargeScreen);
+    }
+
+    // Immutable, shared by every banner load of the same size
+    static final class BannerLayout<S> {
+        private final S mNetworkSize;
+        private final int mWidthDp;
+        private final int mHeightDp;
+        private final int mWidthPixels;
+        private final int mHeightPixels;
+
+        BannerLayout(S networkSize, int widthDp, int heightDp) {
+            this(networkSize, widthDp, heightDp, widthDp, heightDp);
+        }
+
+        private BannerLayout(S networkSize, int widthDp, int heightDp, int widthPixels, int heightPixels) {
+            mNetworkSize = networkSize;
+            mWidthDp = widthDp;
+            mHeightDp = heightDp;
+            mWidthPixels = widthPixels;
+            mHeightPixels = heightPixels;
+        }
+
+        S getNetworkSize() {
+            return mNetworkSize;
+        }
+
+        int getWidthPixels() {
+            return mWidthPixels;
+        }
+
+        int getHeightPixels() {
+            return mHeightPixels;
+        }
+
+        // Every banner view gets its own centered layout params, a view may change the params it was given
+        FrameLayout.LayoutParams createLayoutParams() {
+            return new FrameLayout.LayoutParams(mWidthPixels, mHeightPixels, Gravity.CENTER);
+        }
+
+        private BannerLayout<S> toPixels(Context context) {
+            return new BannerLayout<>(mNetworkSize, mWidthDp, mHeightDp, toPixels(context, mWidthDp), toPixels(context, mHeightDp));
+        }
+
+        private static int toPixels(Context context, int dp) {
+            return dp > 0 ? AdapterUtils.dpToPixels(context, dp) : dp;
+        }
+    }
+
+    // The layouts resolved for one device configuration
+    private static final class Snapshot<S> {
+        private final boolean mIsLargeScreen;
+        private final ConcurrentHashMap<String, BannerLayout<S>> mLayouts = new ConcurrentHashMap<>();
+
+        private Snapshot(boolean isLargeScreen) {
+            mIsLargeScreen = isLargeScreen;
+        }
+    }
+
+    private volatile Snapshot<S> mSnapshot;
+    private final AtomicBoolean mRegistered = new AtomicBoolean(false);
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+    private final AtomicLong mInvalidations = new AtomicLong();
+
+    // The resolver returns null if the network doesn't support the banner size, sizes are resolved again
+    // on every load in that case since the load fails anyway
+    BannerLayout<S> getLayout(ISBannerSize size, SizeResolver<S> resolver) {
+        Context context = ContextProvider.getInstance().getApplicationContext();
+
+        if (context == null) {
+            // nothing to cache the layout for yet, resolved with the activity like before the init
+            context = ContextProvider.getInstance().getCurrentActiveActivity();
+            BannerLayout<S> layout = resolver.resolve(size, AdapterUtils.isLargeScreen(context));
+            return layout != null ? layout.toPixels(context) : null;
+        }
+
+        if (mRegistered.compareAndSet(false, true)) {
+            context.registerComponentCallbacks(this);
+        }
+
+        Snapshot<S> snapshot = mSnapshot;
+
+        if (snapshot == null) {
+            snapshot = new Snapshot<>(AdapterUtils.isLargeScreen(context));
+            mSnapshot = snapshot;
+        }
+
+        String key = size.getDescription() + ":" + size.getWidth() + "x" + size.getHeight();
+        BannerLayout<S> layout = snapshot.mLayouts.get(key);
+
+        if (layout != null) {
+            mHits.incrementAndGet();
+            return layout;
+        }
+
+        mMisses.incrementAndGet();
+        layout = resolver.resolve(size, snapshot.mIsLargeScreen);
+
+        if (layout == null) {
+            return null;
+        }
+
+        layout = layout.toPixels(context);
+        snapshot.mLayouts.put(key, layout);
+        return layout;
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+        // layouts resolved meanwhile land in the dropped snapshot
+        mSnapshot = null;
+        mInvalidations.incrementAndGet();
+    }
+
+    @Override
+    public void onLowMemory() {
+    }
+
+    JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("hits", mHits.get());
+            stats.put("misses", mMisses.get());
+            stats.put("invalidations", mInvalidations.get());
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the banner layout stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+}
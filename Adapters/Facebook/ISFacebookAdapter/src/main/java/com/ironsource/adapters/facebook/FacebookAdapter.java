@@ -18,6 +18,7 @@ import com.facebook.ads.RewardData;
 import com.facebook.ads.RewardedVideoAd;
 import com.facebook.ads.RewardedVideoAd.RewardedVideoAdLoadConfigBuilder;
 import com.facebook.ads.BidderTokenProvider;
+import com.ironsource.adapters.facebook.NetworkInitCoordinator.InitState;
 import com.ironsource.environment.ContextProvider;
 import com.ironsource.mediationsdk.AbstractAdapter;
 import com.ironsource.mediationsdk.INetworkInitCallbackListener;
@@ -32,23 +33,18 @@ import com.ironsource.mediationsdk.metadata.MetaDataUtils;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
-import com.ironsource.mediationsdk.AdapterUtils;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
 import com.ironsource.mediationsdk.utils.IronSourceConstants;
 import com.ironsource.mediationsdk.utils.IronSourceUtils;
 
 import org.json.JSONObject;
 
-import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class FacebookAdapter extends AbstractAdapter implements INetworkInitCallbackListener, AudienceNetworkAds.InitListener {
 
@@ -60,47 +56,91 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
     private static final String GitHash = BuildConfig.GitHash;
 
     // Meta network keys
-    protected final String PLACEMENT_ID = "placementId";
-    protected final String ALL_PLACEMENT_IDS = "placementIds";
+    static final String PLACEMENT_ID = "placementId";
+    static final String ALL_PLACEMENT_IDS = "placementIds";
     protected final static String META_NETWORK_NAME = "Facebook";
 
     // MetaData flags
     protected final String FACEBOOK_INTERSTITIAL_CACHE_FLAG = "facebook_is_cacheflag";
     protected final String META_INTERSTITIAL_CACHE_FLAG = "meta_is_cacheflag";
     protected final String META_MIXED_AUDIENCE = "meta_mixed_audience";
+    protected final String META_BIDDING_TOKEN_TTL = "meta_biddingtokenttl";
 
-    // Rewarded Video
-    protected ConcurrentHashMap<String, RewardedVideoSmashListener> mRewardedVideoPlacementIdToSmashListener;
-    protected ConcurrentHashMap<String, RewardedVideoAd> mRewardedVideoPlacementIdToAd;
-    protected ConcurrentHashMap<String, FacebookRewardedVideoAdListener> mRewardedVideoPlacementIdToFacebookAdListener;
-    protected ConcurrentHashMap<String, Boolean> mRewardedVideoAdsAvailability;
-    protected CopyOnWriteArraySet<String> mRewardedVideoPlacementIdsForInitCallbacks;
-    protected ConcurrentHashMap<String, Boolean> mRewardedVideoPlacementIdShowCalled; //flags for show failed occurred on OnError callback
-
-    // Interstitial
-    protected ConcurrentHashMap<String, InterstitialSmashListener> mInterstitialPlacementIdToSmashListener;
-    protected ConcurrentHashMap<String, InterstitialAd> mInterstitialPlacementIdToAd;
-    protected ConcurrentHashMap<String, FacebookInterstitialAdListener> mInterstitialPlacementIdToFacebookAdListener;
-    protected ConcurrentHashMap<String, Boolean> mInterstitialAdsAvailability;
-    protected ConcurrentHashMap<String, Boolean> mInterstitialPlacementIdShowCalled; //flags for show failed occurred on OnError callback
-    protected static EnumSet<CacheFlag> mInterstitialFacebookCacheFlags = EnumSet.allOf(CacheFlag.class); // collected cache flags
+    // Rewarded Video - listeners, ads, availability and show called flags per placement id
+    protected ConcurrentHashMap<String, PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener>> mRewardedVideoSlots;
 
-    // Banner
-    protected ConcurrentHashMap<String, BannerSmashListener> mBannerPlacementIdToSmashListener;
-    protected ConcurrentHashMap<String, AdView> mBannerPlacementIdToAd;
+    // Interstitial - listeners, ads, availability and show called flags per placement id
+    protected ConcurrentHashMap<String, PlacementSlot<InterstitialSmashListener, InterstitialAd, FacebookInterstitialAdListener>> mInterstitialSlots;
+    protected static EnumSet<CacheFlag> mInterstitialFacebookCacheFlags = EnumSet.allOf(CacheFlag.class); // collected cache flags
 
-    // Init state possible values
-    protected enum InitState {
-        INIT_STATE_NONE,
-        INIT_STATE_IN_PROGRESS,
-        INIT_STATE_SUCCESS,
-        INIT_STATE_FAILED
-    }
+    // Banner - listeners and ad views per placement id
+    protected ConcurrentHashMap<String, PlacementSlot<BannerSmashListener, AdView, FacebookBannerAdListener>> mBannerSlots;
 
     // Handle init callback for all adapter instances
-    protected static HashSet<INetworkInitCallbackListener> initCallbackListeners = new HashSet<>();
-    protected static InitState mInitState = InitState.INIT_STATE_NONE;
-    protected static AtomicBoolean mWasInitCalled = new AtomicBoolean(false);
+    private static final NetworkInitCoordinator mInitCoordinator = new NetworkInitCoordinator();
+
+    // Init, load and show latencies of all adapter instances
+    private static final LatencyTracker mLatencyTracker = new LatencyTracker();
+
+    // Network banner sizes and pixel dimensions of all adapter instances, resolved once per device configuration
+    private static final BannerLayoutCache<AdSize> mBannerLayoutCache = new BannerLayoutCache<>();
+
+    // Meta Audience Network banner size and dimensions of every supported mediation banner size
+    private static final BannerLayoutCache.SizeResolver<AdSize> mBannerSizeResolver = new BannerLayoutCache.SizeResolver<AdSize>() {
+        @Override
+        public BannerLayoutCache.BannerLayout<AdSize> resolve(ISBannerSize size, boolean isLargeScreen) {
+            AdSize adSize = null;
+
+            switch (size.getDescription()) {
+                case "BANNER":
+                    adSize = AdSize.BANNER_HEIGHT_50;
+                    break;
+                case "LARGE":
+                    adSize = AdSize.BANNER_HEIGHT_90;
+                    break;
+                case "RECTANGLE":
+                    adSize = AdSize.RECTANGLE_HEIGHT_250;
+                    break;
+                case "SMART":
+                    adSize = isLargeScreen ? AdSize.BANNER_HEIGHT_90 : AdSize.BANNER_HEIGHT_50;
+                    break;
+                case "CUSTOM":
+                    if (size.getHeight() == 50) {
+                        adSize = AdSize.BANNER_HEIGHT_50;
+                    } else if (size.getHeight() == 90) {
+                        adSize = AdSize.BANNER_HEIGHT_90;
+                    } else if (size.getHeight() == 250) {
+                        adSize = AdSize.RECTANGLE_HEIGHT_250;
+                    }
+                    break;
+            }
+
+            if (adSize == null) {
+                return null;
+            }
+
+            // the ad view sets its own height
+            int widthDp = 320;
+            if (size.getDescription().equals("RECTANGLE")) {
+                widthDp = 300;
+            } else if (size.getDescription().equals("SMART") && isLargeScreen) {
+                widthDp = 728;
+            }
+
+            return new BannerLayoutCache.BannerLayout<>(adSize, widthDp, BannerLayoutCache.WRAP_CONTENT);
+        }
+    };
+
+    // Main thread work of all adapter instances, coalesced into as few main thread messages as possible
+    private static final MainThreadDispatcher mMainThreadDispatcher = new MainThreadDispatcher();
+
+    // Last bidding token of the network, refreshed in the background for all the adapter instances
+    private static final BiddingTokenCache mBiddingTokenCache = new BiddingTokenCache(new BiddingTokenCache.TokenFetcher() {
+        @Override
+        public String fetchToken() {
+            return BidderTokenProvider.getBidderToken(ContextProvider.getInstance().getApplicationContext());
+        }
+    });
 
     //region Adapter Methods
 
@@ -110,26 +150,16 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     private FacebookAdapter(String providerName) {
         super(providerName);
-        IronLog.INTERNAL.verbose("");
+        AdapterLog.verbose(IronLog.INTERNAL, "");
 
         // Rewarded video
-        mRewardedVideoPlacementIdToSmashListener = new ConcurrentHashMap<>();
-        mRewardedVideoPlacementIdToAd = new ConcurrentHashMap<>();
-        mRewardedVideoPlacementIdToFacebookAdListener = new ConcurrentHashMap<>();
-        mRewardedVideoAdsAvailability = new ConcurrentHashMap<>();
-        mRewardedVideoPlacementIdsForInitCallbacks = new CopyOnWriteArraySet<>();
-        mRewardedVideoPlacementIdShowCalled = new ConcurrentHashMap<>();
+        mRewardedVideoSlots = new ConcurrentHashMap<>();
 
         // Interstitial
-        mInterstitialPlacementIdToSmashListener = new ConcurrentHashMap<>();
-        mInterstitialPlacementIdToAd = new ConcurrentHashMap<>();
-        mInterstitialPlacementIdToFacebookAdListener = new ConcurrentHashMap<>();
-        mInterstitialAdsAvailability = new ConcurrentHashMap<>();
-        mInterstitialPlacementIdShowCalled = new ConcurrentHashMap<>();
+        mInterstitialSlots = new ConcurrentHashMap<>();
 
         // Banner
-        mBannerPlacementIdToSmashListener = new ConcurrentHashMap<>();
-        mBannerPlacementIdToAd = new ConcurrentHashMap<>();
+        mBannerSlots = new ConcurrentHashMap<>();
 
         // The network's capability to load a Rewarded Video ad while another Rewarded Video ad of that network is showing
         mLWSSupportState = LoadWhileShowSupportState.LOAD_WHILE_SHOW_BY_INSTANCE;
@@ -155,23 +185,30 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
     public static String getAdapterSDKVersion() {
         return com.facebook.ads.BuildConfig.VERSION_NAME;
     }
+
+    // Get the init, load and show latency histograms recorded so far for this network
+    public static JSONObject getLatencySnapshot() {
+        return mLatencyTracker.getSnapshot();
+    }
+
+    static LatencyTracker getLatencyTracker() {
+        return mLatencyTracker;
+    }
     //endregion
 
     //region Initializations methods and callbacks
-    private void initSDK(String allPlacementIds) {
-        // add self to the init listeners only in case the initialization has not finished yet
-        if (mInitState == InitState.INIT_STATE_NONE || mInitState == InitState.INIT_STATE_IN_PROGRESS) {
-            initCallbackListeners.add(this);
-        }
+    private void initSDK(List<String> allPlacementIds) {
+        // add self to the init listeners, in case the initialization has already finished the result is delivered right away
+        mInitCoordinator.addListener(this);
 
         // init SDK should be called only once
-        if (mWasInitCalled.compareAndSet(false, true)) {
-            final List<String> allPlacementIdsArr = Arrays.asList(allPlacementIds.split(","));
-            IronLog.ADAPTER_API.verbose("Initialize Meta with placement ids = " + allPlacementIdsArr.toString());
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "Initialize Meta with placement ids = {}", allPlacementIds);
+            mLatencyTracker.onInitStarted();
             AudienceNetworkAds.buildInitSettings(ContextProvider.getInstance().getApplicationContext())
                     .withInitListener(this)
                     .withMediationService(getMediationServiceInfo())
-                    .withPlacementIds(allPlacementIdsArr)
+                    .withPlacementIds(allPlacementIds)
                     .initialize();
         }
     }
@@ -179,44 +216,64 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
     @Override
     public void onNetworkInitCallbackSuccess() {
         // rewarded video listeners
-        for (String placementId : mRewardedVideoPlacementIdToSmashListener.keySet()) {
-            if (mRewardedVideoPlacementIdsForInitCallbacks.contains(placementId)) {
-                mRewardedVideoPlacementIdToSmashListener.get(placementId).onRewardedVideoInitSuccess();
+        for (Map.Entry<String, PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener>> entry : mRewardedVideoSlots.entrySet()) {
+            RewardedVideoSmashListener listener = entry.getValue().getSmashListener();
+
+            if (listener == null) {
+                continue;
+            }
+
+            if (entry.getValue().isInitCallbackRequired()) {
+                listener.onRewardedVideoInitSuccess();
             } else {
-                loadRewardedVideoInternal(placementId, null);
+                loadRewardedVideoInternal(entry.getKey(), null);
             }
         }
 
         // interstitial listeners
-        for (InterstitialSmashListener listener : mInterstitialPlacementIdToSmashListener.values()) {
-            listener.onInterstitialInitSuccess();
+        for (PlacementSlot<InterstitialSmashListener, InterstitialAd, FacebookInterstitialAdListener> slot : mInterstitialSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onInterstitialInitSuccess();
+            }
         }
 
         // banners listeners
-        for (BannerSmashListener listener : mBannerPlacementIdToSmashListener.values()) {
-            listener.onBannerInitSuccess();
+        for (PlacementSlot<BannerSmashListener, AdView, FacebookBannerAdListener> slot : mBannerSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onBannerInitSuccess();
+            }
         }
     }
 
     @Override
     public void onNetworkInitCallbackFailed(String error) {
         // rewarded video listeners
-        for (String placementId : mRewardedVideoPlacementIdToSmashListener.keySet()) {
-            if (mRewardedVideoPlacementIdsForInitCallbacks.contains(placementId)) {
-                mRewardedVideoPlacementIdToSmashListener.get(placementId).onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
+        for (PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener> slot : mRewardedVideoSlots.values()) {
+            RewardedVideoSmashListener listener = slot.getSmashListener();
+
+            if (listener == null) {
+                continue;
+            }
+
+            if (slot.isInitCallbackRequired()) {
+                listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             } else {
-                mRewardedVideoPlacementIdToSmashListener.get(placementId).onRewardedVideoAvailabilityChanged(false);
+                listener.onRewardedVideoAvailabilityChanged(false);
             }
         }
 
         // interstitial listeners
-        for (InterstitialSmashListener listener : mInterstitialPlacementIdToSmashListener.values()) {
-            listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.INTERSTITIAL_AD_UNIT));
+        for (PlacementSlot<InterstitialSmashListener, InterstitialAd, FacebookInterstitialAdListener> slot : mInterstitialSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onInterstitialInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.INTERSTITIAL_AD_UNIT));
+            }
         }
 
         // banners listeners
-        for (BannerSmashListener listener : mBannerPlacementIdToSmashListener.values()) {
-            listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.BANNER_AD_UNIT));
+        for (PlacementSlot<BannerSmashListener, AdView, FacebookBannerAdListener> slot : mBannerSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onBannerInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.BANNER_AD_UNIT));
+            }
         }
     }
 
@@ -227,23 +284,17 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public void onInitialized(AudienceNetworkAds.InitResult result) {
-        IronLog.ADAPTER_CALLBACK.verbose("init SDK is completed with status: " + result.isSuccess() + ", " + result.getMessage());
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "init SDK is completed with status: {}, {}", result.isSuccess(), result.getMessage());
 
         if (result.isSuccess()) {
-            mInitState = InitState.INIT_STATE_SUCCESS;
-
-            for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-                adapter.onNetworkInitCallbackSuccess();
-            }
-
+            mInitCoordinator.setInitSucceeded();
+            mBiddingTokenCache.refresh();
         } else {
-            mInitState = InitState.INIT_STATE_FAILED;
-            for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-                adapter.onNetworkInitCallbackFailed(result.getMessage());
-            }
+            mInitCoordinator.setInitFailed(result.getMessage());
         }
 
-        initCallbackListeners.clear();
+        mLatencyTracker.onInitFinished();
+        mInitCoordinator.notifyListeners();
     }
     //endregion
 
@@ -252,41 +303,42 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
     // used for flows when the mediation needs to get a callback for init
     @Override
     public void initRewardedVideoWithCallback(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        final String allPlacementIds = config.optString(ALL_PLACEMENT_IDS);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String placementId = adapterConfig.getPlacementId();
+        final String allPlacementIds = adapterConfig.getAllPlacementIds();
 
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("missing params - " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params - {}", PLACEMENT_ID);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + PLACEMENT_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
         if (TextUtils.isEmpty(allPlacementIds)) {
-            IronLog.INTERNAL.error("missing params - " + ALL_PLACEMENT_IDS);
+            AdapterLog.error(IronLog.INTERNAL, "missing params - {}", ALL_PLACEMENT_IDS);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + ALL_PLACEMENT_IDS, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         FacebookRewardedVideoAdListener rewardedVideoAdListener = new FacebookRewardedVideoAdListener(FacebookAdapter.this, listener, placementId);
-        // add to rewarded video listener map
-        mRewardedVideoPlacementIdToFacebookAdListener.put(placementId, rewardedVideoAdListener);
-        mRewardedVideoPlacementIdToSmashListener.put(placementId, listener);
-
-        // add placementId to init callback map
-        mRewardedVideoPlacementIdsForInitCallbacks.add(placementId);
+        // add to rewarded video slots
+        PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener> slot = getRewardedVideoSlot(placementId);
+        slot.setAdListener(rewardedVideoAdListener);
+        slot.setSmashListener(listener);
 
+        // mark the placement for init callbacks
+        slot.setInitCallbackRequired(true);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
-                initSDK(allPlacementIds);
+                initSDK(adapterConfig.getAllPlacementIdsList());
                 break;
             case INIT_STATE_SUCCESS:
                 listener.onRewardedVideoInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementId = " + placementId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementId = {}", placementId);
                 listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Meta SDK init failed", IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
                 break;
         }
@@ -295,40 +347,41 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
     // used for flows when the mediation doesn't need to get a callback for init
     @Override
     public void initAndLoadRewardedVideo(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        final String allPlacementIds = config.optString(ALL_PLACEMENT_IDS);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String placementId = adapterConfig.getPlacementId();
+        final String allPlacementIds = adapterConfig.getAllPlacementIds();
 
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("missing params = " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", PLACEMENT_ID);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
         if (TextUtils.isEmpty(allPlacementIds)) {
-            IronLog.INTERNAL.error("missing params = " + ALL_PLACEMENT_IDS);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", ALL_PLACEMENT_IDS);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
 
         FacebookRewardedVideoAdListener rewardedVideoAdListener = new FacebookRewardedVideoAdListener(FacebookAdapter.this, listener, placementId);
-        //add to rewarded video listener map
-        mRewardedVideoPlacementIdToFacebookAdListener.put(placementId, rewardedVideoAdListener);
-        mRewardedVideoPlacementIdToSmashListener.put(placementId, listener);
+        //add to rewarded video slots
+        PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener> slot = getRewardedVideoSlot(placementId);
+        slot.setAdListener(rewardedVideoAdListener);
+        slot.setSmashListener(listener);
 
-
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
-                initSDK(allPlacementIds);
+                initSDK(adapterConfig.getAllPlacementIdsList());
                 break;
             case INIT_STATE_SUCCESS:
                 loadRewardedVideoInternal(placementId, null);
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementId = " + placementId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementId = {}", placementId);
                 listener.onRewardedVideoAvailabilityChanged(false);
                 break;
         }
@@ -337,36 +390,36 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public void loadRewardedVideoForBidding(JSONObject config, final RewardedVideoSmashListener listener, final String serverData) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
         loadRewardedVideoInternal(placementId, serverData);
     }
 
     @Override
     public void fetchRewardedVideoForAutomaticLoad(final JSONObject config, final RewardedVideoSmashListener listener) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
         loadRewardedVideoInternal(placementId, null);
     }
 
     private void loadRewardedVideoInternal(final String placementId, final String serverData) {
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
-        mRewardedVideoAdsAvailability.put(placementId, false);
-        mRewardedVideoPlacementIdShowCalled.put(placementId, false);
-        postOnUIThread(new Runnable() {
+        final PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener> slot = getRewardedVideoSlot(placementId);
+        slot.onLoadStarted();
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
-                    if (mRewardedVideoPlacementIdToAd.containsKey(placementId)) {
-                        IronLog.ADAPTER_API.verbose("destroying previous ad with placement id " + placementId);
-                        mRewardedVideoPlacementIdToAd.get(placementId).destroy();
-                        mRewardedVideoPlacementIdToAd.remove(placementId);
+                    RewardedVideoAd previousAd = slot.takeAd();
+                    if (previousAd != null) {
+                        AdapterLog.verbose(IronLog.ADAPTER_API, "destroying previous ad with placement id {}", placementId);
+                        previousAd.destroy();
                     }
 
                     RewardedVideoAd rewardedVideoAd = new RewardedVideoAd(ContextProvider.getInstance().getApplicationContext(), placementId);
                     RewardedVideoAdLoadConfigBuilder configBuilder = rewardedVideoAd.buildLoadAdConfig();
-                    configBuilder.withAdListener(mRewardedVideoPlacementIdToFacebookAdListener.get(placementId));
+                    configBuilder.withAdListener(slot.getAdListener());
 
                     if (!TextUtils.isEmpty(serverData)) {
                         // add server data to rewarded video bidder instance
@@ -378,11 +431,12 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
                         configBuilder.withRewardData(new RewardData(getDynamicUserId(), ""));
                     }
 
-                    mRewardedVideoPlacementIdToAd.put(placementId, rewardedVideoAd);
+                    slot.setAd(rewardedVideoAd);
+                    mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
                     rewardedVideoAd.loadAd(configBuilder.build());
                 } catch (Exception ex) {
-                    if (mRewardedVideoPlacementIdToSmashListener.containsKey(placementId)) {
-                        mRewardedVideoPlacementIdToSmashListener.get(placementId).onRewardedVideoAvailabilityChanged(false);
+                    if (slot.getSmashListener() != null) {
+                        slot.getSmashListener().onRewardedVideoAvailabilityChanged(false);
                     }
                 }
             }
@@ -391,26 +445,28 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public void showRewardedVideo(JSONObject config, final RewardedVideoSmashListener listener) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
-        postOnUIThread(new Runnable() {
+        final String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        final PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener> slot = getRewardedVideoSlot(placementId);
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
 
                 try {
                     // change rewarded video availability to false
-                    mRewardedVideoAdsAvailability.put(placementId, false);
+                    slot.markUnavailable();
                     listener.onRewardedVideoAvailabilityChanged(false);
-                    RewardedVideoAd rewardedVideoAd = mRewardedVideoPlacementIdToAd.get(placementId);
+                    RewardedVideoAd rewardedVideoAd = slot.getAd();
                     // make sure the ad is loaded and has not expired
                     if (rewardedVideoAd != null && rewardedVideoAd.isAdLoaded() && !rewardedVideoAd.isAdInvalidated()) {
-                        mRewardedVideoPlacementIdShowCalled.put(placementId, true);
+                        slot.markShowCalled();
+                        mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
                         rewardedVideoAd.show();
                     } else {
                         listener.onRewardedVideoAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
                     }
                 } catch (Exception ex) {
-                    IronLog.INTERNAL.error("ex.getMessage() = " + ex.getMessage());
+                    AdapterLog.error(IronLog.INTERNAL, "ex.getMessage() = {}", ex.getMessage());
                     listener.onRewardedVideoAdShowFailed(ErrorBuilder.buildShowFailedError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, ex.getMessage()));
                 }
             }
@@ -419,8 +475,8 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public boolean isRewardedVideoAvailable(JSONObject config) {
-        String adUnitId = config.optString(PLACEMENT_ID);
-        return mRewardedVideoAdsAvailability.containsKey(adUnitId) && mRewardedVideoAdsAvailability.get(adUnitId);
+        PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener> slot = mRewardedVideoSlots.get(AdapterConfig.from(config).getPlacementId());
+        return slot != null && slot.isAvailable();
     }
 
     @Override
@@ -434,44 +490,46 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public void initInterstitialForBidding(String appKey, String userId, JSONObject config, InterstitialSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         initInterstitial(appKey, userId, config, listener);
     }
 
     @Override
     public void initInterstitial(String appKey, String userId, JSONObject config, InterstitialSmashListener listener) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        final String allPlacementIds = config.optString(ALL_PLACEMENT_IDS);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String placementId = adapterConfig.getPlacementId();
+        final String allPlacementIds = adapterConfig.getAllPlacementIds();
 
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("missing params = " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", PLACEMENT_ID);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + PLACEMENT_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT));
 
             return;
         }
 
         if (TextUtils.isEmpty(allPlacementIds)) {
-            IronLog.INTERNAL.error("missing params = " + ALL_PLACEMENT_IDS);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", ALL_PLACEMENT_IDS);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + ALL_PLACEMENT_IDS, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         FacebookInterstitialAdListener interstitialAdListener = new FacebookInterstitialAdListener(FacebookAdapter.this, listener, placementId);
-        // add to interstitial listener map
-        mInterstitialPlacementIdToFacebookAdListener.put(placementId, interstitialAdListener);
-        mInterstitialPlacementIdToSmashListener.put(placementId, listener);
+        // add to interstitial slots
+        PlacementSlot<InterstitialSmashListener, InterstitialAd, FacebookInterstitialAdListener> slot = getInterstitialSlot(placementId);
+        slot.setAdListener(interstitialAdListener);
+        slot.setSmashListener(listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
-                initSDK(allPlacementIds);
+                initSDK(adapterConfig.getAllPlacementIdsList());
                 break;
             case INIT_STATE_SUCCESS:
                 listener.onInterstitialInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementId = " + placementId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementId = {}", placementId);
                 listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Meta SDK init failed", IronSourceConstants.INTERSTITIAL_AD_UNIT));
                 break;
         }
@@ -480,47 +538,48 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
     // load interstitial for bidding
     @Override
     public void loadInterstitialForBidding(final JSONObject config, final InterstitialSmashListener listener, final String serverData) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         loadInterstitialInternal(listener, config, serverData);
     }
 
     @Override
     public void loadInterstitial(final JSONObject config, final InterstitialSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         loadInterstitialInternal(listener, config, null);
     }
 
     private void loadInterstitialInternal(final InterstitialSmashListener listener, JSONObject config, final String serverData) {
-        final String placementId = config.optString(PLACEMENT_ID);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
+        final PlacementSlot<InterstitialSmashListener, InterstitialAd, FacebookInterstitialAdListener> slot = getInterstitialSlot(placementId);
 
-        mInterstitialPlacementIdShowCalled.put(placementId, false);
-        mInterstitialAdsAvailability.put(placementId, false);
+        slot.onLoadStarted();
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
-                    if (mInterstitialPlacementIdToAd.containsKey(placementId)) {
-                        IronLog.ADAPTER_API.verbose("destroying previous ad with placement id " + placementId);
-                        mInterstitialPlacementIdToAd.get(placementId).destroy();
-                        mInterstitialPlacementIdToAd.remove(placementId);
+                    InterstitialAd previousAd = slot.takeAd();
+                    if (previousAd != null) {
+                        AdapterLog.verbose(IronLog.ADAPTER_API, "destroying previous ad with placement id {}", placementId);
+                        previousAd.destroy();
                     }
 
                     InterstitialAd interstitialAd = new InterstitialAd(ContextProvider.getInstance().getApplicationContext(), placementId);
 
                     InterstitialAdLoadConfigBuilder configBuilder = interstitialAd.buildLoadAdConfig();
                     configBuilder.withCacheFlags(mInterstitialFacebookCacheFlags);
-                    configBuilder.withAdListener(mInterstitialPlacementIdToFacebookAdListener.get(placementId));
+                    configBuilder.withAdListener(slot.getAdListener());
 
                     if (!TextUtils.isEmpty(serverData)) {
                         // add server data to Interstitial bidder instance
                         configBuilder.withBid(serverData);
                     }
 
-                    IronLog.ADAPTER_API.verbose("loading placementId = " + placementId + " with facebook cache flags = " + mInterstitialFacebookCacheFlags.toString());
+                    AdapterLog.verbose(IronLog.ADAPTER_API, "loading placementId = {} with facebook cache flags = {}", placementId, mInterstitialFacebookCacheFlags);
 
+                    mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
                     interstitialAd.loadAd(configBuilder.build());
-                    mInterstitialPlacementIdToAd.put(placementId, interstitialAd);
+                    slot.setAd(interstitialAd);
                 } catch (Exception e) {
                     listener.onInterstitialAdLoadFailed(ErrorBuilder.buildLoadFailedError(e.getLocalizedMessage()));
                 }
@@ -530,24 +589,26 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public void showInterstitial(JSONObject config, final InterstitialSmashListener listener) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
-        mInterstitialAdsAvailability.put(placementId, false);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        final PlacementSlot<InterstitialSmashListener, InterstitialAd, FacebookInterstitialAdListener> slot = getInterstitialSlot(placementId);
+        slot.markUnavailable();
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
-                    InterstitialAd interstitialAd = mInterstitialPlacementIdToAd.get(placementId);
+                    InterstitialAd interstitialAd = slot.getAd();
                     // make sure the ad is loaded and has not expired
                     if (interstitialAd != null && interstitialAd.isAdLoaded() && !interstitialAd.isAdInvalidated()) {
-                        mInterstitialPlacementIdShowCalled.put(placementId, true);
+                        slot.markShowCalled();
+                        mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
                         interstitialAd.show();
                     } else {
                         listener.onInterstitialAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.INTERSTITIAL_AD_UNIT));
                     }
                 } catch (Exception ex) {
-                    IronLog.INTERNAL.error("ex.getMessage() = " + ex.getMessage());
+                    AdapterLog.error(IronLog.INTERNAL, "ex.getMessage() = {}", ex.getMessage());
                     listener.onInterstitialAdShowFailed(ErrorBuilder.buildShowFailedError(IronSourceConstants.INTERSTITIAL_AD_UNIT, ex.getMessage()));
                 }
             }
@@ -556,8 +617,8 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public boolean isInterstitialReady(JSONObject config) {
-        String adUnitId = config.optString(PLACEMENT_ID);
-        return mInterstitialAdsAvailability.containsKey(adUnitId) && mInterstitialAdsAvailability.get(adUnitId);
+        PlacementSlot<InterstitialSmashListener, InterstitialAd, FacebookInterstitialAdListener> slot = mInterstitialSlots.get(AdapterConfig.from(config).getPlacementId());
+        return slot != null && slot.isAvailable();
     }
 
     @Override
@@ -570,46 +631,47 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public void initBannerForBidding(String appKey, String userId, JSONObject config, BannerSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         initBannersInternal(config, listener);
     }
 
     @Override
     public void initBanners(String appKey, String userId, JSONObject config, BannerSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         initBannersInternal(config, listener);
     }
 
     private void initBannersInternal(JSONObject config, BannerSmashListener listener) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        final String allPlacementIds = config.optString(ALL_PLACEMENT_IDS);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String placementId = adapterConfig.getPlacementId();
+        final String allPlacementIds = adapterConfig.getAllPlacementIds();
 
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("missing params = " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", PLACEMENT_ID);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + PLACEMENT_ID, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(allPlacementIds)) {
-            IronLog.INTERNAL.error("missing params = " + ALL_PLACEMENT_IDS);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", ALL_PLACEMENT_IDS);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + ALL_PLACEMENT_IDS, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
-        // add to banner listener map
-        mBannerPlacementIdToSmashListener.put(placementId, listener);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        // add to banner slots
+        getBannerSlot(placementId).setSmashListener(listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
-                initSDK(allPlacementIds);
+                initSDK(adapterConfig.getAllPlacementIdsList());
                 break;
             case INIT_STATE_SUCCESS:
                 listener.onBannerInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementId = " + placementId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementId = {}", placementId);
                 listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Meta SDK init failed", IronSourceConstants.BANNER_AD_UNIT));
                 break;
         }
@@ -618,45 +680,47 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public void loadBannerForBidding(final IronSourceBannerLayout banner, final JSONObject config, final BannerSmashListener listener, final String serverData) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         loadBannerInternal(banner, config, listener, serverData);
     }
 
     @Override
     public void loadBanner(final IronSourceBannerLayout banner, final JSONObject config, final BannerSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         loadBannerInternal(banner, config, listener, null);
     }
 
     private void loadBannerInternal(final IronSourceBannerLayout banner, JSONObject config, final BannerSmashListener listener, final String serverData) {
-        final String placementId = config.optString(PLACEMENT_ID);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
 
         // check banner
         if (banner == null) {
-            IronLog.INTERNAL.error("banner is null");
+            AdapterLog.error(IronLog.INTERNAL, "banner is null");
             listener.onBannerAdLoadFailed(ErrorBuilder.buildNoConfigurationAvailableError("banner is null"));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         // check size
-        final AdSize adSize = calculateBannerSize(banner.getSize(), banner.getActivity());
+        final AdSize adSize = calculateBannerSize(banner.getSize());
         if (adSize == null) {
-            IronLog.INTERNAL.error("loadBanner - size not supported, size = " + banner.getSize().getDescription());
+            AdapterLog.error(IronLog.INTERNAL, "loadBanner - size not supported, size = {}", banner.getSize().getDescription());
             listener.onBannerAdLoadFailed(ErrorBuilder.unsupportedBannerSize(getProviderName()));
             return;
         }
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
                     AdView adView = new AdView(banner.getActivity(), placementId, adSize);
-                    FrameLayout.LayoutParams layoutParams = calcLayoutParams(banner.getSize(), banner.getActivity());
+                    FrameLayout.LayoutParams layoutParams = calcLayoutParams(banner.getSize());
 
                     // create banner
                     FacebookBannerAdListener bannerAdListener = new FacebookBannerAdListener(FacebookAdapter.this, listener, placementId, layoutParams);
+                    PlacementSlot<BannerSmashListener, AdView, FacebookBannerAdListener> slot = getBannerSlot(placementId);
+                    slot.setAdListener(bannerAdListener);
                     AdView.AdViewLoadConfigBuilder configBuilder = adView.buildLoadAdConfig();
                     configBuilder.withAdListener(bannerAdListener);
                     if (serverData != null) {
@@ -664,7 +728,8 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
                         configBuilder.withBid(serverData);
                     }
 
-                    mBannerPlacementIdToAd.put(placementId, adView);
+                    slot.setAd(adView);
+                    mLatencyTracker.onLoadStarted(IronSourceConstants.BANNER_AD_UNIT, placementId);
                     adView.loadAd(configBuilder.build());
                 } catch (Exception e) {
                     IronSourceError error = ErrorBuilder.buildLoadFailedError("Meta loadBanner exception " + e.getMessage());
@@ -676,24 +741,25 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public void reloadBanner(final IronSourceBannerLayout banner, final JSONObject config, final BannerSmashListener listener) {
-        IronLog.INTERNAL.warning("Unsupported method");
+        AdapterLog.warning(IronLog.INTERNAL, "Unsupported method");
     }
 
     @Override
     public void destroyBanner(final JSONObject config) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
-                    if (mBannerPlacementIdToAd.containsKey(placementId)) {
-                        mBannerPlacementIdToAd.get(placementId).destroy();
-                        mBannerPlacementIdToAd.remove(placementId);
+                    PlacementSlot<BannerSmashListener, AdView, FacebookBannerAdListener> slot = mBannerSlots.get(placementId);
+                    AdView adView = slot != null ? slot.takeAd() : null;
+                    if (adView != null) {
+                        adView.destroy();
                     }
                 } catch (Exception e) {
-                    IronLog.INTERNAL.error("destroyBanner failed for placementId - " + placementId + " with an exception = " + e);
+                    AdapterLog.error(IronLog.INTERNAL, "destroyBanner failed for placementId - {} with an exception = {}", placementId, e);
                 }
             }
         });
@@ -709,36 +775,37 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
 
     @Override
     public void releaseMemory(IronSource.AD_UNIT adUnit, JSONObject config) {
-        IronLog.INTERNAL.verbose("adUnit = " + adUnit);
+        AdapterLog.verbose(IronLog.INTERNAL, "adUnit = {}", adUnit);
 
         if (adUnit == IronSource.AD_UNIT.REWARDED_VIDEO) {
             // release rewarded ads
-            for (RewardedVideoAd rewardedVideoAd : mRewardedVideoPlacementIdToAd.values()) {
-                rewardedVideoAd.destroy();
+            for (PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener> slot : mRewardedVideoSlots.values()) {
+                RewardedVideoAd rewardedVideoAd = slot.takeAd();
+                if (rewardedVideoAd != null) {
+                    rewardedVideoAd.destroy();
+                }
             }
-            mRewardedVideoPlacementIdToAd.clear();
-            mRewardedVideoPlacementIdToFacebookAdListener.clear();
-            mRewardedVideoPlacementIdToSmashListener.clear();
-            mRewardedVideoAdsAvailability.clear();
-            mRewardedVideoPlacementIdsForInitCallbacks.clear();
+            mRewardedVideoSlots.clear();
 
         } else if (adUnit == IronSource.AD_UNIT.INTERSTITIAL) {
             // release interstitial ads
-            for (InterstitialAd interstitialAd : mInterstitialPlacementIdToAd.values()) {
-                interstitialAd.destroy();
+            for (PlacementSlot<InterstitialSmashListener, InterstitialAd, FacebookInterstitialAdListener> slot : mInterstitialSlots.values()) {
+                InterstitialAd interstitialAd = slot.takeAd();
+                if (interstitialAd != null) {
+                    interstitialAd.destroy();
+                }
             }
-            mInterstitialPlacementIdToAd.clear();
-            mInterstitialPlacementIdToFacebookAdListener.clear();
-            mInterstitialPlacementIdToSmashListener.clear();
-            mInterstitialAdsAvailability.clear();
+            mInterstitialSlots.clear();
 
         } else if (adUnit == IronSource.AD_UNIT.BANNER) {
             // release banner ads
-            for (AdView adView : mBannerPlacementIdToAd.values()) {
-                adView.destroy();
+            for (PlacementSlot<BannerSmashListener, AdView, FacebookBannerAdListener> slot : mBannerSlots.values()) {
+                AdView adView = slot.takeAd();
+                if (adView != null) {
+                    adView.destroy();
+                }
             }
-            mBannerPlacementIdToAd.clear();
-            mBannerPlacementIdToSmashListener.clear();
+            mBannerSlots.clear();
         }
     }
     //endregion
@@ -753,17 +820,17 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
         switch (key.toLowerCase(Locale.ENGLISH)) {
             case FACEBOOK_INTERSTITIAL_CACHE_FLAG:
             case META_INTERSTITIAL_CACHE_FLAG:
-                IronLog.ADAPTER_API.verbose("key = " + key + ", values = " + values);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, values = {}", key, values);
                 mInterstitialFacebookCacheFlags.clear();
 
                 try {
                     for (String value : values) {
                         CacheFlag flag = getFacebookCacheFlag(value);
-                        IronLog.ADAPTER_API.verbose("flag for value " + value + " is " + flag.name());
+                        AdapterLog.verbose(IronLog.ADAPTER_API, "flag for value {} is {}", value, flag.name());
                         mInterstitialFacebookCacheFlags.add(flag);
                     }
                 } catch (Exception e) {
-                    IronLog.INTERNAL.error("flag is unknown or all, set all as default");
+                    AdapterLog.error(IronLog.INTERNAL, "flag is unknown or all, set all as default");
                     mInterstitialFacebookCacheFlags = getFacebookAllCacheFlags();
                 }
                 break;
@@ -771,29 +838,37 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
             case META_MIXED_AUDIENCE:
                 // this is a list of 1 value
                 String value = values.get(0);
-                IronLog.ADAPTER_API.verbose("key = " + key + ", value = " + value);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, value = {}", key, value);
 
                 String formattedValue = MetaDataUtils.formatValueForType(value, META_DATA_VALUE_BOOLEAN);
                 if (isValidMixedAudienceMetaData(formattedValue)) {
                     setMixedAudience(MetaDataUtils.getMetaDataBooleanValue(formattedValue));
                 }
                 break;
+
+            case META_BIDDING_TOKEN_TTL:
+                AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, value = {}", key, values.get(0));
+                mBiddingTokenCache.setTtlFromMetaData(values.get(0));
+                break;
         }
     }
 
     private CacheFlag getFacebookCacheFlag(String value) {
-        IronLog.ADAPTER_API.verbose("value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", value);
         return CacheFlag.valueOf(value.toUpperCase(Locale.ENGLISH));
     }
 
     private EnumSet<CacheFlag> getFacebookAllCacheFlags() {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         return EnumSet.allOf(CacheFlag.class);
     }
 
     private void setMixedAudience(boolean isMixedAudience) {
-        IronLog.ADAPTER_API.verbose("isMixedAudience = " + isMixedAudience);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "isMixedAudience = {}", isMixedAudience);
         AdSettings.setMixedAudience(isMixedAudience);
+
+        // the token carries the privacy settings, don't serve one built with the previous value
+        mBiddingTokenCache.invalidate();
     }
 
     private boolean isValidMixedAudienceMetaData(String value) {
@@ -803,62 +878,42 @@ public class FacebookAdapter extends AbstractAdapter implements INetworkInitCall
     //endregion
 
     //region Helpers
-    private AdSize calculateBannerSize(ISBannerSize size, Activity activity) {
-        switch (size.getDescription()) {
-            case "BANNER":
-                return AdSize.BANNER_HEIGHT_50;
-
-            case "LARGE":
-                return AdSize.BANNER_HEIGHT_90;
-
-            case "RECTANGLE":
-                return AdSize.RECTANGLE_HEIGHT_250;
-
-            case "SMART":
-                return AdapterUtils.isLargeScreen(activity) ? AdSize.BANNER_HEIGHT_90 : AdSize.BANNER_HEIGHT_50;
-
-            case "CUSTOM":
-                if (size.getHeight() == 50) {
-                    return AdSize.BANNER_HEIGHT_50;
-                } else if (size.getHeight() == 90) {
-                    return AdSize.BANNER_HEIGHT_90;
-                } else if (size.getHeight() == 250) {
-                    return AdSize.RECTANGLE_HEIGHT_250;
-                }
-                break;
-        }
-        return null;
+    PlacementSlot<RewardedVideoSmashListener, RewardedVideoAd, FacebookRewardedVideoAdListener> getRewardedVideoSlot(String placementId) {
+        return PlacementSlot.obtain(mRewardedVideoSlots, placementId);
     }
 
-    protected FrameLayout.LayoutParams calcLayoutParams(ISBannerSize size, Activity activity) {
-        int widthDp = 320;
-        if (size.getDescription().equals("RECTANGLE")) {
-            widthDp = 300;
-        } else if (size.getDescription().equals("SMART") && AdapterUtils.isLargeScreen(activity)) {
-            widthDp = 728;
-        }
+    PlacementSlot<InterstitialSmashListener, InterstitialAd, FacebookInterstitialAdListener> getInterstitialSlot(String placementId) {
+        return PlacementSlot.obtain(mInterstitialSlots, placementId);
+    }
+
+    PlacementSlot<BannerSmashListener, AdView, FacebookBannerAdListener> getBannerSlot(String placementId) {
+        return PlacementSlot.obtain(mBannerSlots, placementId);
+    }
+
+    private AdSize calculateBannerSize(ISBannerSize size) {
+        BannerLayoutCache.BannerLayout<AdSize> layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver);
+        return layout != null ? layout.getNetworkSize() : null;
+    }
 
-        int widthPixel = AdapterUtils.dpToPixels(activity, widthDp);
-        FrameLayout.LayoutParams layoutParams = new FrameLayout.LayoutParams(widthPixel, FrameLayout.LayoutParams.WRAP_CONTENT);
-        layoutParams.gravity = Gravity.CENTER;
-        return layoutParams;
+    protected FrameLayout.LayoutParams calcLayoutParams(ISBannerSize size) {
+        BannerLayoutCache.BannerLayout<AdSize> layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver);
+        return layout != null ? layout.createLayoutParams() : new FrameLayout.LayoutParams(0, 0, Gravity.CENTER);
     }
 
     private String getMediationServiceInfo() {
         String mediationServiceInfo = String.format("%s_%s:%s", MEDIATION_NAME, IronSourceUtils.getSDKVersion(), VERSION);
-        IronLog.INTERNAL.verbose("mediationServiceInfo = " + mediationServiceInfo);
+        AdapterLog.verbose(IronLog.INTERNAL, "mediationServiceInfo = {}", mediationServiceInfo);
         return mediationServiceInfo;
     }
 
     private Map<String, Object> getBiddingData() {
-        if (mInitState == InitState.INIT_STATE_FAILED) {
-            IronLog.INTERNAL.verbose("returning null as token since init failed");
+        if (mInitCoordinator.getState() == InitState.INIT_STATE_FAILED) {
+            AdapterLog.verbose(IronLog.INTERNAL, "returning null as token since init failed");
             return null;
         }
 
-        String bidderToken = BidderTokenProvider.getBidderToken(ContextProvider.getInstance().getApplicationContext());
-        String returnedToken = (!TextUtils.isEmpty(bidderToken)) ? bidderToken : "";
-        IronLog.ADAPTER_API.verbose("token = " + returnedToken);
+        String returnedToken = mBiddingTokenCache.getToken();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "token = {}", returnedToken);
         Map<String, Object> ret = new HashMap<>();
         ret.put("token", returnedToken);
         return ret;
@@ -9,6 +9,7 @@ import com.facebook.ads.AdView;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 
@@ -28,19 +29,20 @@ public class FacebookBannerAdListener implements AdListener {
 
     @Override
     public void onAdLoaded(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        FacebookAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.BANNER_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
-        AdView adView = mAdapter.get().mBannerPlacementIdToAd.get(mPlacementId);
+        AdView adView = mAdapter.get().getBannerSlot(mPlacementId).getAd();
         if (adView != null) {
             mListener.onBannerAdLoaded(adView, mBannerLayoutParams);
         }
@@ -48,10 +50,11 @@ public class FacebookBannerAdListener implements AdListener {
 
     @Override
     public void onError(Ad ad, AdError adError) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId + " error = " + adError.getErrorCode() + ", " + adError.getErrorMessage());
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {} error = {}, {}", mPlacementId, adError.getErrorCode(), adError.getErrorMessage());
+        FacebookAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.BANNER_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -61,10 +64,10 @@ public class FacebookBannerAdListener implements AdListener {
 
     @Override
     public void onLoggingImpression(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -73,10 +76,10 @@ public class FacebookBannerAdListener implements AdListener {
 
     @Override
     public void onAdClicked(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
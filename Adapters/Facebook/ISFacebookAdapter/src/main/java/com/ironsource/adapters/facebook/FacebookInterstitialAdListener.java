@@ -6,6 +6,7 @@ import com.facebook.ads.InterstitialAdExtendedListener;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 
@@ -25,42 +26,45 @@ public class FacebookInterstitialAdListener implements InterstitialAdExtendedLis
 
     @Override
     public void onAdLoaded(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        FacebookAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
-        mAdapter.get().mInterstitialAdsAvailability.put(mPlacementId, true);
+        mAdapter.get().getInterstitialSlot(mPlacementId).markAvailable();
         mListener.onInterstitialAdReady();
 
     }
 
     @Override
     public void onError(Ad ad, AdError adError) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId + " error = " + adError.getErrorCode() + ", " + adError.getErrorMessage());
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {} error = {}, {}", mPlacementId, adError.getErrorCode(), adError.getErrorMessage());
+        FacebookAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
-        mAdapter.get().mInterstitialAdsAvailability.put(mPlacementId, false);
+        PlacementSlot<?, ?, ?> slot = mAdapter.get().getInterstitialSlot(mPlacementId);
+        slot.markUnavailable();
         int errorCode = adError.getErrorCode() == AdError.NO_FILL_ERROR_CODE ? IronSourceError.ERROR_IS_LOAD_NO_FILL : adError.getErrorCode();
         IronSourceError ironSourceError = new IronSourceError(errorCode, adError.getErrorMessage());
 
-        if (mAdapter.get().mInterstitialPlacementIdShowCalled.get(mPlacementId)) {
+        if (slot.isShowCalled()) {
             mListener.onInterstitialAdShowFailed(ironSourceError);
         } else {
             mListener.onInterstitialAdLoadFailed(ironSourceError);
@@ -70,20 +74,21 @@ public class FacebookInterstitialAdListener implements InterstitialAdExtendedLis
 
     @Override
     public void onInterstitialDisplayed(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
     }
 
     @Override
     public void onLoggingImpression(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        FacebookAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -94,10 +99,10 @@ public class FacebookInterstitialAdListener implements InterstitialAdExtendedLis
 
     @Override
     public void onAdClicked(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -106,15 +111,15 @@ public class FacebookInterstitialAdListener implements InterstitialAdExtendedLis
 
     @Override
     public void onInterstitialDismissed(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -124,15 +129,15 @@ public class FacebookInterstitialAdListener implements InterstitialAdExtendedLis
 
     @Override
     public void onInterstitialActivityDestroyed() {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -150,17 +155,17 @@ public class FacebookInterstitialAdListener implements InterstitialAdExtendedLis
 
     @Override
     public void onRewardedAdCompleted() {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
     }
 
     @Override
     public void onRewardedAdServerSucceeded() {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
     }
 
     @Override
     public void onRewardedAdServerFailed() {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
     }
 
 
@@ -6,6 +6,7 @@ import com.facebook.ads.RewardedVideoAdExtendedListener;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 
@@ -24,43 +25,46 @@ public class FacebookRewardedVideoAdListener implements RewardedVideoAdExtendedL
 
     @Override
     public void onAdLoaded(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        FacebookAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
-        mAdapter.get().mRewardedVideoAdsAvailability.put(mPlacementId, true);
+        mAdapter.get().getRewardedVideoSlot(mPlacementId).markAvailable();
         mListener.onRewardedVideoAvailabilityChanged(true);
 
     }
 
     @Override
     public void onError(Ad ad, AdError adError) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId + " error = " + adError.getErrorCode() + ", " + adError.getErrorMessage());
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {} error = {}, {}", mPlacementId, adError.getErrorCode(), adError.getErrorMessage());
+        FacebookAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
-        mAdapter.get().mRewardedVideoAdsAvailability.put(mPlacementId, false);
+        PlacementSlot<?, ?, ?> slot = mAdapter.get().getRewardedVideoSlot(mPlacementId);
+        slot.markUnavailable();
         int errorCode = adError.getErrorCode() == AdError.NO_FILL_ERROR_CODE ? IronSourceError.ERROR_RV_LOAD_NO_FILL : adError.getErrorCode();
         IronSourceError ironSourceError = new IronSourceError(errorCode, adError.getErrorMessage());
 
 
-        if (mAdapter.get().mRewardedVideoPlacementIdShowCalled.get(mPlacementId)) {
+        if (slot.isShowCalled()) {
             mListener.onRewardedVideoAdShowFailed(ironSourceError);
         } else {
             mListener.onRewardedVideoAvailabilityChanged(false);
@@ -71,15 +75,16 @@ public class FacebookRewardedVideoAdListener implements RewardedVideoAdExtendedL
 
     @Override
     public void onLoggingImpression(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        FacebookAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -90,10 +95,10 @@ public class FacebookRewardedVideoAdListener implements RewardedVideoAdExtendedL
 
     @Override
     public void onAdClicked(Ad ad) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -102,10 +107,10 @@ public class FacebookRewardedVideoAdListener implements RewardedVideoAdExtendedL
 
     @Override
     public void onRewardedVideoCompleted() {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -115,15 +120,15 @@ public class FacebookRewardedVideoAdListener implements RewardedVideoAdExtendedL
 
     @Override
     public void onRewardedVideoClosed() {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -133,15 +138,15 @@ public class FacebookRewardedVideoAdListener implements RewardedVideoAdExtendedL
 
     @Override
     public void onRewardedVideoActivityDestroyed() {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -0,0 +1,156 @@
+package com.ironsource.adapters.facebook;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the adapter work that has to happen on the main thread. Work dispatched on the main thread runs right away,
+ * work dispatched on other threads is queued and the whole queue is drained by a single main thread message,
+ * so a burst of loads costs one message instead of one per call. The drain is a plain handler message and is not
+ * aligned to frames. Once a drain has run for DRAIN_BUDGET_NANOS, about half a frame at 60Hz, the rest of the queue
+ * continues in a new message, so the input and frame messages queued meanwhile run in between. A task that throws
+ * doesn't hold back the others, the drain goes on with the next one and rethrows the first exception once it ends,
+ * so the failure surfaces on the main thread the same way it would from a plain handler message.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+final class MainThreadDispatcher {
+
+    private static final long DRAIN_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+
+    private static final class Task {
+        private final Runnable mRunnable;
+        private final long mEnqueueTime;
+
+        private Task(Runnable runnable, long enqueueTime) {
+            mRunnable = runnable;
+            mEnqueueTime = enqueueTime;
+        }
+    }
+
+    private final Handler mMainHandler;
+    private final ConcurrentLinkedQueue<Task> mQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean mDrainPosted = new AtomicBoolean(false);
+    private final AtomicInteger mQueueDepth = new AtomicInteger();
+    private final AtomicLong mDispatched = new AtomicLong();
+    private final AtomicLong mRanInline = new AtomicLong();
+    private final AtomicLong mPosts = new AtomicLong();
+    private final AtomicLong mFailures = new AtomicLong();
+    private final AtomicLong mMaxQueueDepth = new AtomicLong();
+    private final AtomicLong mTotalWaitNanos = new AtomicLong();
+    private final AtomicLong mMaxWaitNanos = new AtomicLong();
+
+    private final Runnable mDrainRunnable = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+
+    MainThreadDispatcher() {
+        this(new Handler(Looper.getMainLooper()));
+    }
+
+    // The handler posts the drains, it has to run them on the main thread
+    MainThreadDispatcher(Handler mainHandler) {
+        mMainHandler = mainHandler;
+    }
+
+    void dispatch(Runnable runnable) {
+        mDispatched.incrementAndGet();
+
+        // work queued from other threads runs first to keep the dispatch order
+        if (Looper.myLooper() == Looper.getMainLooper() && mQueueDepth.get() == 0) {
+            mRanInline.incrementAndGet();
+            runnable.run();
+            return;
+        }
+
+        mQueue.offer(new Task(runnable, System.nanoTime()));
+        updateMax(mMaxQueueDepth, mQueueDepth.incrementAndGet());
+        postDrain();
+    }
+
+    JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+        long queued = mDispatched.get() - mRanInline.get();
+
+        try {
+            stats.put("dispatched", mDispatched.get());
+            stats.put("ranInline", mRanInline.get());
+            stats.put("posts", mPosts.get());
+            stats.put("failures", mFailures.get());
+            stats.put("queueDepth", mQueueDepth.get());
+            stats.put("maxQueueDepth", mMaxQueueDepth.get());
+            stats.put("avgWaitMillis", queued > 0 ? TimeUnit.NANOSECONDS.toMillis(mTotalWaitNanos.get() / queued) : 0);
+            stats.put("maxWaitMillis", TimeUnit.NANOSECONDS.toMillis(mMaxWaitNanos.get()));
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the dispatcher stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    private void postDrain() {
+        if (mDrainPosted.compareAndSet(false, true)) {
+            mPosts.incrementAndGet();
+            mMainHandler.post(mDrainRunnable);
+        }
+    }
+
+    private void drain() {
+        // cleared first, work queued from now on is either picked up by this drain or posts a new one
+        mDrainPosted.set(false);
+        long start = System.nanoTime();
+        RuntimeException failure = null;
+        Task task;
+
+        while ((task = mQueue.poll()) != null) {
+            mQueueDepth.decrementAndGet();
+            long waitNanos = System.nanoTime() - task.mEnqueueTime;
+            mTotalWaitNanos.addAndGet(waitNanos);
+            updateMax(mMaxWaitNanos, waitNanos);
+
+            try {
+                task.mRunnable.run();
+            } catch (RuntimeException e) {
+                // the rest of the queue still runs, the first failure is rethrown after it
+                mFailures.incrementAndGet();
+                AdapterLog.error(IronLog.INTERNAL, "failed to run a main thread task - {}", e.getMessage());
+
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+
+            if (System.nanoTime() - start >= DRAIN_BUDGET_NANOS && !mQueue.isEmpty()) {
+                postDrain();
+                break;
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current = max.get();
+
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+}
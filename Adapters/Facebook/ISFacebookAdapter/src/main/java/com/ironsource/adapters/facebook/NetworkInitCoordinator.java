@@ -0,0 +1,156 @@
+package com.ironsource.adapters.facebook;
+
+import com.ironsource.mediationsdk.INetworkInitCallbackListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Coordinates the network SDK initialization shared by all the adapter instances.
+ * The init state is kept in a single atomic word and the listeners waiting for the init
+ * result are pushed to a lock-free stack, which is drained exactly once when the init ends.
+ * A listener registered several times before the drain gets the init result once, a listener that
+ * registers after the drain is notified directly. No listener is referenced once the result was delivered to it.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+final class NetworkInitCoordinator {
+
+    // init state possible values
+    enum InitState {
+        INIT_STATE_NONE,
+        INIT_STATE_IN_PROGRESS,
+        INIT_STATE_SUCCESS,
+        INIT_STATE_FAILED
+    }
+
+    private static final class Node {
+        private final INetworkInitCallbackListener listener;
+        private Node next;
+
+        private Node(INetworkInitCallbackListener listener, Node next) {
+            this.listener = listener;
+            this.next = next;
+        }
+    }
+
+    // Head value of a drained stack, no listener can be pushed once it is set
+    private static final Node DRAINED = new Node(null, null);
+
+    private final AtomicReference<InitState> mInitState = new AtomicReference<>(InitState.INIT_STATE_NONE);
+    private final AtomicReference<Node> mListenersHead = new AtomicReference<>();
+    private volatile String mInitFailedMessage = "";
+
+    InitState getState() {
+        return mInitState.get();
+    }
+
+    boolean isInitStarted() {
+        return mInitState.get() != InitState.INIT_STATE_NONE;
+    }
+
+    // Returns true only for the single caller that should start the network SDK init
+    boolean startInit() {
+        return mInitState.compareAndSet(InitState.INIT_STATE_NONE, InitState.INIT_STATE_IN_PROGRESS);
+    }
+
+    // Registers the listener for the init result, registering it again before the init ends has no effect
+    void addListener(INetworkInitCallbackListener listener) {
+        Node node = null;
+
+        while (true) {
+            Node head = mListenersHead.get();
+
+            if (head == DRAINED) {
+                // the init result was already delivered, notify this listener by itself
+                notifyListener(listener);
+                return;
+            }
+
+            if (node == null) {
+                node = new Node(listener, head);
+            } else {
+                node.next = head;
+            }
+
+            if (mListenersHead.compareAndSet(head, node)) {
+                return;
+            }
+        }
+    }
+
+    // Moves the state to success, returns false if the init has already ended
+    boolean setInitSucceeded() {
+        return setFinalState(InitState.INIT_STATE_SUCCESS);
+    }
+
+    // Moves the state to failed, returns false if the init has already ended
+    boolean setInitFailed(String message) {
+        InitState state = mInitState.get();
+
+        if (state == InitState.INIT_STATE_SUCCESS || state == InitState.INIT_STATE_FAILED) {
+            return false;
+        }
+
+        mInitFailedMessage = message;
+        return setFinalState(InitState.INIT_STATE_FAILED);
+    }
+
+    // Delivers the init result to all the registered listeners in their registration order.
+    // Only the first call after the init ended delivers anything.
+    void notifyListeners() {
+        InitState state = mInitState.get();
+
+        if (state != InitState.INIT_STATE_SUCCESS && state != InitState.INIT_STATE_FAILED) {
+            return;
+        }
+
+        Node head = mListenersHead.getAndSet(DRAINED);
+
+        if (head == DRAINED) {
+            return;
+        }
+
+        // the stack holds the latest listener first
+        ArrayList<INetworkInitCallbackListener> listeners = new ArrayList<>();
+
+        for (Node current = head; current != null; current = current.next) {
+            listeners.add(current.listener);
+        }
+
+        // a listener registered several times is notified at its first registration
+        Set<INetworkInitCallbackListener> notified = Collections.newSetFromMap(new IdentityHashMap<INetworkInitCallbackListener, Boolean>());
+
+        for (int i = listeners.size() - 1; i >= 0; i--) {
+            if (notified.add(listeners.get(i))) {
+                notifyListener(listeners.get(i));
+            }
+        }
+    }
+
+    private boolean setFinalState(InitState finalState) {
+        while (true) {
+            InitState state = mInitState.get();
+
+            if (state == InitState.INIT_STATE_SUCCESS || state == InitState.INIT_STATE_FAILED) {
+                return false;
+            }
+
+            if (mInitState.compareAndSet(state, finalState)) {
+                return true;
+            }
+        }
+    }
+
+    private void notifyListener(INetworkInitCallbackListener listener) {
+        if (mInitState.get() == InitState.INIT_STATE_SUCCESS) {
+            listener.onNetworkInitCallbackSuccess();
+        } else {
+            listener.onNetworkInitCallbackFailed(mInitFailedMessage);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ironsource.adapters.facebook;
+
+import android.os.SystemClock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds everything the adapter keeps for a single placement of an ad unit - the mediation listener,
+ * the network ad object, the network ad listener, the init callback indication and the ad state.
+ * Each ad unit keeps one map of slots, so a load or show cycle needs a single map lookup and the
+ * availability can never disagree with the ad object stored next to it.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ *
+ * @param <L> the mediation smash listener type
+ * @param <A> the network ad object type
+ * @param <N> the network ad listener type
+ */
+final class PlacementSlot<L, A, N> {
+
+    // ad state possible values
+    private static final int STATE_NOT_AVAILABLE = 0;
+    private static final int STATE_AVAILABLE = 1;
+    private static final int STATE_SHOW_CALLED = 2;
+
+    private final AtomicInteger mState = new AtomicInteger(STATE_NOT_AVAILABLE);
+    private final AtomicReference<A> mAd = new AtomicReference<>();
+    private volatile L mSmashListener;
+    private volatile N mAdListener;
+    private volatile boolean mInitCallbackRequired;
+    private volatile long mAvailableTime;
+
+    // Returns the slot of the placement, creating it on first use
+    static <L, A, N> PlacementSlot<L, A, N> obtain(ConcurrentHashMap<String, PlacementSlot<L, A, N>> slots, String placementId) {
+        PlacementSlot<L, A, N> slot = slots.get(placementId);
+
+        if (slot == null) {
+            PlacementSlot<L, A, N> newSlot = new PlacementSlot<>();
+            slot = slots.putIfAbsent(placementId, newSlot);
+
+            if (slot == null) {
+                slot = newSlot;
+            }
+        }
+
+        return slot;
+    }
+
+    L getSmashListener() {
+        return mSmashListener;
+    }
+
+    void setSmashListener(L smashListener) {
+        mSmashListener = smashListener;
+    }
+
+    N getAdListener() {
+        return mAdListener;
+    }
+
+    void setAdListener(N adListener) {
+        mAdListener = adListener;
+    }
+
+    A getAd() {
+        return mAd.get();
+    }
+
+    void setAd(A ad) {
+        mAd.set(ad);
+    }
+
+    // Removes the ad from the slot and returns it, so only one caller gets to destroy it
+    A takeAd() {
+        return mAd.getAndSet(null);
+    }
+
+    boolean isInitCallbackRequired() {
+        return mInitCallbackRequired;
+    }
+
+    void setInitCallbackRequired(boolean initCallbackRequired) {
+        mInitCallbackRequired = initCallbackRequired;
+    }
+
+    boolean isAvailable() {
+        return mState.get() == STATE_AVAILABLE;
+    }
+
+    boolean isShowCalled() {
+        return mState.get() == STATE_SHOW_CALLED;
+    }
+
+    // A new load clears both the availability and the show indication
+    void onLoadStarted() {
+        mState.set(STATE_NOT_AVAILABLE);
+    }
+
+    // Returns false if the ad was already shown in the meantime
+    boolean markAvailable() {
+        if (!mState.compareAndSet(STATE_NOT_AVAILABLE, STATE_AVAILABLE)) {
+            return false;
+        }
+
+        mAvailableTime = SystemClock.elapsedRealtime();
+        return true;
+    }
+
+    // Clears the availability, keeping the show indication if show was already called
+    void markUnavailable() {
+        mState.compareAndSet(STATE_AVAILABLE, STATE_NOT_AVAILABLE);
+    }
+
+    void markShowCalled() {
+        mState.set(STATE_SHOW_CALLED);
+    }
+
+    // Removes the ad if it has been available for at least maxAgeMillis and show wasn't called yet,
+    // clearing the availability with it. Returns the removed ad so the caller can release it
+    A evictAvailableAd(long maxAgeMillis) {
+        if (!isAvailable() || SystemClock.elapsedRealtime() - mAvailableTime < maxAgeMillis) {
+            return null;
+        }
+
+        if (!mState.compareAndSet(STATE_AVAILABLE, STATE_NOT_AVAILABLE)) {
+            return null;
+        }
+
+        return takeAd();
+    }
+}
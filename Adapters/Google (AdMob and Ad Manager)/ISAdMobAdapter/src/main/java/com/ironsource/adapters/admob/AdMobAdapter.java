@@ -2,6 +2,7 @@ package com.ironsource.adapters.admob;
 
 import android.app.Activity;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.text.TextUtils;
 
 
@@ -15,6 +16,7 @@ import com.google.android.gms.ads.initialization.InitializationStatus;
 import com.google.android.gms.ads.initialization.OnInitializationCompleteListener;
 import com.google.android.gms.ads.interstitial.InterstitialAd;
 import com.google.android.gms.ads.rewarded.RewardedAd;
+import com.ironsource.adapters.admob.NetworkInitCoordinator.InitState;
 import com.ironsource.environment.ContextProvider;
 import com.ironsource.mediationsdk.AbstractAdapter;
 import com.ironsource.mediationsdk.INetworkInitCallbackListener;
@@ -36,12 +38,11 @@ import com.ironsource.mediationsdk.utils.IronSourceConstants;
 import org.jetbrains.annotations.NotNull;
 import org.json.JSONObject;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.google.android.gms.ads.RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE;
 import static com.google.android.gms.ads.RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_FALSE;
@@ -60,7 +61,9 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     private static final String VERSION = BuildConfig.VERSION_NAME;
 
     private static final String GitHash = BuildConfig.GitHash;
-    private final String AD_UNIT_ID = "adUnitId";
+    static final String AD_UNIT_ID = "adUnitId";
+    static final String NO_FILL_BACKOFF = "noFillBackoff"; // optional, fails the loads of an ad unit right away while it cools down after a no fill
+    private static final String NO_FILL_BACKOFF_MESSAGE = "No fill - ad unit is cooling down after a no fill";
 
     // Init configuration flags
     private final String NETWORK_ONLY_INIT = "networkOnlyInit";
@@ -74,9 +77,19 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     private static String mRatingValue = "";
 
     // handle init callback for all adapter instances
-    private static HashSet<INetworkInitCallbackListener> initCallbackListeners = new HashSet<>();
-    private static InitState mInitState = InitState.INIT_STATE_NONE;
-    private static AtomicBoolean mWasInitCalled = new AtomicBoolean(false);
+    private static final NetworkInitCoordinator mInitCoordinator = new NetworkInitCoordinator();
+
+    // Init, load and show latencies of all adapter instances
+    private static final LatencyTracker mLatencyTracker = new LatencyTracker();
+
+    // Frees the ads of all adapter instances when the system runs low on memory
+    private static final MemoryTrimPolicy mMemoryTrimPolicy = new MemoryTrimPolicy();
+
+    // Main thread work of all adapter instances, coalesced into as few main thread messages as possible
+    private static final MainThreadDispatcher mMainThreadDispatcher = new MainThreadDispatcher();
+
+    // Cooldown of the ad units of all adapter instances the network didn't fill, used by the ad units that enable it
+    private static final NoFillBackoff mNoFillBackoff = new NoFillBackoff();
 
 
     // Rewarded video collections
@@ -84,25 +97,18 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     private CopyOnWriteArraySet<String> mRewardedVideoAdUnitIdsForInitCallbacks;
     public ConcurrentHashMap<String, RewardedAd> mAdUnitIdToRewardedVideoAd;
     public ConcurrentHashMap<String, Boolean> mRewardedVideoAdsAvailability; //used to check if an ad is available
+    public ConcurrentHashMap<String, Long> mRewardedVideoAdLoadTimes; //used to drop expired ads on memory pressure
 
     // Interstitial maps
     private ConcurrentHashMap<String, InterstitialSmashListener> mAdUnitIdToInterstitialListener;
     public ConcurrentHashMap<String, InterstitialAd> mAdUnitIdToInterstitialAd;
     public ConcurrentHashMap<String, Boolean> mInterstitialAdsAvailability; //used to check if an ad is available
+    public ConcurrentHashMap<String, Long> mInterstitialAdLoadTimes; //used to drop expired ads on memory pressure
 
     // Banner maps
     private ConcurrentHashMap<String, BannerSmashListener> mAdUnitIdToBannerListener;
     private ConcurrentHashMap<String, AdView> mAdUnitIdToBannerAd;
 
-
-    //init state possible values
-    private enum InitState {
-        INIT_STATE_NONE,
-        INIT_STATE_IN_PROGRESS,
-        INIT_STATE_SUCCESS,
-        INIT_STATE_FAILED
-    }
-
     // Meta data max rating values
     private interface AdMobMaxContentRating {
         String ADMOB_MAX_AD_CONTENT_RATING_G = "max_ad_content_rating_g";
@@ -126,17 +132,19 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
 
     private AdMobAdapter(String providerName) {
         super(providerName);
-        IronLog.INTERNAL.verbose("");
+        AdapterLog.verbose(IronLog.INTERNAL, "");
 
         // rewarded video
         mAdUnitIdToRewardedVideoListener = new ConcurrentHashMap<>();
         mAdUnitIdToRewardedVideoAd = new ConcurrentHashMap<>();
         mRewardedVideoAdsAvailability = new ConcurrentHashMap<>();
+        mRewardedVideoAdLoadTimes = new ConcurrentHashMap<>();
         mRewardedVideoAdUnitIdsForInitCallbacks = new CopyOnWriteArraySet<>();
 
         // interstitial
         mAdUnitIdToInterstitialAd = new ConcurrentHashMap<>();
         mInterstitialAdsAvailability = new ConcurrentHashMap<>();
+        mInterstitialAdLoadTimes = new ConcurrentHashMap<>();
         mAdUnitIdToInterstitialListener = new ConcurrentHashMap<>();
 
         // banner
@@ -145,6 +153,9 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
 
         // The network's capability to load a Rewarded Video ad while another Rewarded Video ad of that network is showing
         mLWSSupportState = LoadWhileShowSupportState.LOAD_WHILE_SHOW_BY_INSTANCE;
+
+        // free cached ads on memory pressure, not only when the mediation releases the memory
+        mMemoryTrimPolicy.register(mMemoryTrimEvictor);
     }
 
     // get the network and adapter integration data
@@ -169,24 +180,34 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     public static String getAdapterSDKVersion() {
         return MobileAds.getVersion().toString();
     }
+
+    // Get the init, load and show latency histograms recorded so far for this network
+    public static JSONObject getLatencySnapshot() {
+        return mLatencyTracker.getSnapshot();
+    }
+
+    static LatencyTracker getLatencyTracker() {
+        return mLatencyTracker;
+    }
+
+    static NoFillBackoff getNoFillBackoff() {
+        return mNoFillBackoff;
+    }
     //endregion
 
     //region Initializations methods and callbacks
     // All calls to MobileAds must be on the main thread --> run all calls to initSDK in a thread.
     private void initSDK(final JSONObject config) {
-        // add self to init delegates if init process didn't finish
-        if (mInitState == InitState.INIT_STATE_NONE || mInitState == InitState.INIT_STATE_IN_PROGRESS) {
-            initCallbackListeners.add(this);
-        }
+        // add self to init delegates, if init process already finished the result is delivered right away
+        mInitCoordinator.addListener(this);
         //init sdk will only be called once
-        if (mWasInitCalled.compareAndSet(false, true)) {
-            mInitState = InitState.INIT_STATE_IN_PROGRESS;
-
-            IronLog.ADAPTER_API.verbose("");
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "");
+            mLatencyTracker.onInitStarted();
             boolean networkOnlyInit = config.optBoolean(NETWORK_ONLY_INIT, true);
 
             if (networkOnlyInit) {
-                IronLog.ADAPTER_API.verbose("disableMediationAdapterInitialization");
+                AdapterLog.verbose(IronLog.ADAPTER_API, "disableMediationAdapterInitialization");
                 // Limit the AdMob initialization to its network
                 MobileAds.disableMediationAdapterInitialization(ContextProvider.getInstance().getCurrentActiveActivity());
             }
@@ -196,7 +217,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
             boolean shouldWaitForInitCallback = config.optBoolean(INIT_RESPONSE_REQUIRED, false);
 
             if (shouldWaitForInitCallback) {
-                IronLog.ADAPTER_API.verbose("init and wait for callback");
+                AdapterLog.verbose(IronLog.ADAPTER_API, "init and wait for callback");
 
                 //init AdMob sdk with callback
                 MobileAds.initialize(ContextProvider.getInstance().getApplicationContext(), new OnInitializationCompleteListener() {
@@ -206,17 +227,17 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
                         AdapterStatus.State state = status != null ? status.getInitializationState() : null;
 
                         if (state == AdapterStatus.State.READY) {
-                            IronLog.ADAPTER_API.verbose("initializationStatus = READY");
+                            AdapterLog.verbose(IronLog.ADAPTER_API, "initializationStatus = READY");
                             initializationSuccess();
                         } else {
-                            IronLog.ADAPTER_API.verbose("initializationStatus = NOT READY");
+                            AdapterLog.verbose(IronLog.ADAPTER_API, "initializationStatus = NOT READY");
                             initializationFailure();
                         }
                     }
                 });
             } else {
                 //init AdMob sdk without callback
-                IronLog.ADAPTER_API.verbose("init without callback");
+                AdapterLog.verbose(IronLog.ADAPTER_API, "init without callback");
                 MobileAds.initialize(ContextProvider.getInstance().getApplicationContext());
                 initializationSuccess();
             }
@@ -271,24 +292,19 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     }
 
     private void initializationSuccess() {
-        mInitState = InitState.INIT_STATE_SUCCESS;
-
-        //iterate over all the adapter instances and report init success
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackSuccess();
+        //report init success to all the adapter instances
+        if (mInitCoordinator.setInitSucceeded()) {
+            mLatencyTracker.onInitFinished();
+            mInitCoordinator.notifyListeners();
         }
-
-        initCallbackListeners.clear();
     }
 
     private void initializationFailure() {
-        mInitState = InitState.INIT_STATE_FAILED;
-        //iterate over all the adapter instances and report init failed
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackFailed("AdMob sdk init failed");
+        //report init failed to all the adapter instances
+        if (mInitCoordinator.setInitFailed("AdMob sdk init failed")) {
+            mLatencyTracker.onInitFinished();
+            mInitCoordinator.notifyListeners();
         }
-
-        initCallbackListeners.clear();
     }
     //endregion
 
@@ -298,11 +314,11 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     public void initRewardedVideoWithCallback(String appKey, String userId,
                                               final JSONObject config, final RewardedVideoSmashListener listener) {
 
-        final String adUnitId = config.optString(AD_UNIT_ID);
-        IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
+        final String adUnitId = AdapterConfig.from(config).getAdUnitId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
 
         if (TextUtils.isEmpty(adUnitId)) {
-            IronLog.INTERNAL.error("adUnitId is empty");
+            AdapterLog.error(IronLog.INTERNAL, "adUnitId is empty");
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + AD_UNIT_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
@@ -311,14 +327,14 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
         mAdUnitIdToRewardedVideoListener.put(adUnitId, listener);
         //add to rewarded video init callback map
         mRewardedVideoAdUnitIdsForInitCallbacks.add(adUnitId);
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 // check AdMob sdk init state
-                if (mInitState == InitState.INIT_STATE_SUCCESS) {
+                if (mInitCoordinator.getState() == InitState.INIT_STATE_SUCCESS) {
                     listener.onRewardedVideoInitSuccess();
-                } else if (mInitState == InitState.INIT_STATE_FAILED) {
-                    IronLog.INTERNAL.verbose("init failed - adUnitId = " + adUnitId);
+                } else if (mInitCoordinator.getState() == InitState.INIT_STATE_FAILED) {
+                    AdapterLog.verbose(IronLog.INTERNAL, "init failed - adUnitId = {}", adUnitId);
                     listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("AdMob sdk init failed", IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
                 } else {
                     initSDK(config);
@@ -332,11 +348,11 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     @Override
     public void initAndLoadRewardedVideo(String appKey, String userId, final JSONObject config, final RewardedVideoSmashListener listener) {
 
-        final String adUnitId = config.optString(AD_UNIT_ID);
-        IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
+        final String adUnitId = AdapterConfig.from(config).getAdUnitId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
 
         if (TextUtils.isEmpty(adUnitId)) {
-            IronLog.INTERNAL.error("adUnitId is empty");
+            AdapterLog.error(IronLog.INTERNAL, "adUnitId is empty");
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
@@ -344,14 +360,14 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
         //add to rewarded video listener map
         mAdUnitIdToRewardedVideoListener.put(adUnitId, listener);
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
-                if (mInitState == InitState.INIT_STATE_SUCCESS) {
-                    IronLog.INTERNAL.verbose("loadVideo - adUnitId = " + adUnitId);
+                if (mInitCoordinator.getState() == InitState.INIT_STATE_SUCCESS) {
+                    AdapterLog.verbose(IronLog.INTERNAL, "loadVideo - adUnitId = {}", adUnitId);
                     loadRewardedVideoAdFromAdMob(adUnitId, listener);
-                } else if (mInitState == InitState.INIT_STATE_FAILED) {
-                    IronLog.INTERNAL.verbose("onRewardedVideoAvailabilityChanged(false) - adUnitId = " + adUnitId);
+                } else if (mInitCoordinator.getState() == InitState.INIT_STATE_FAILED) {
+                    AdapterLog.verbose(IronLog.INTERNAL, "onRewardedVideoAvailabilityChanged(false) - adUnitId = {}", adUnitId);
                     listener.onRewardedVideoAvailabilityChanged(false);
                 } else {
                     initSDK(config);
@@ -362,38 +378,50 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
 
     @Override
     public void fetchRewardedVideoForAutomaticLoad(final JSONObject config, final RewardedVideoSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
-        postOnUIThread(new Runnable() {
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+
+        if (adapterConfig.isNoFillBackoffEnabled() && mNoFillBackoff.isCoolingDown(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, adapterConfig.getAdUnitId())) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "no fill backoff - adUnitId = {}", adapterConfig.getAdUnitId());
+            mRewardedVideoAdsAvailability.put(adapterConfig.getAdUnitId(), false);
+            listener.onRewardedVideoAvailabilityChanged(false);
+            listener.onRewardedVideoLoadFailed(new IronSourceError(IronSourceError.ERROR_RV_LOAD_NO_FILL, NO_FILL_BACKOFF_MESSAGE));
+            return;
+        }
+
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
-                loadRewardedVideoAdFromAdMob(config.optString(AD_UNIT_ID), listener);
+                loadRewardedVideoAdFromAdMob(AdapterConfig.from(config).getAdUnitId(), listener);
             }
         });
     }
 
     private void loadRewardedVideoAdFromAdMob(final String adUnitId, final RewardedVideoSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
 
         // set the rewarded video availability to false before attempting to load
         mRewardedVideoAdsAvailability.put(adUnitId, false);
         AdRequest adRequest = createAdRequest();
         AdMobRewardedVideoAdLoadListener adMobRewardedVideoAdLoadListener = new AdMobRewardedVideoAdLoadListener(AdMobAdapter.this, adUnitId, listener);
+        mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, adUnitId);
         RewardedAd.load(ContextProvider.getInstance().getApplicationContext(), adUnitId, adRequest, adMobRewardedVideoAdLoadListener);
     }
 
     @Override
     public void showRewardedVideo(final JSONObject config,
                                   final RewardedVideoSmashListener listener) {
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
-                final String adUnitId = config.optString(AD_UNIT_ID);
+                final String adUnitId = AdapterConfig.from(config).getAdUnitId();
                 final RewardedAd rewardedAd = mAdUnitIdToRewardedVideoAd.get(adUnitId);
-                IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
                 if (rewardedAd != null && isRewardedVideoAvailableForAdUnitId(adUnitId)) {
 
                     AdMobRewardedVideoAdShowListener adMobRewardedVideoAdShowListener = new AdMobRewardedVideoAdShowListener(AdMobAdapter.this, adUnitId, listener);
                     rewardedAd.setFullScreenContentCallback(adMobRewardedVideoAdShowListener);
+                    mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, adUnitId);
                     rewardedAd.show(ContextProvider.getInstance().getCurrentActiveActivity(), adMobRewardedVideoAdShowListener);
                 } else {
                     listener.onRewardedVideoAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
@@ -408,7 +436,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
 
     @Override
     public boolean isRewardedVideoAvailable(JSONObject config) {
-        String adUnitId = config.optString(AD_UNIT_ID);
+        String adUnitId = AdapterConfig.from(config).getAdUnitId();
         return isRewardedVideoAvailableForAdUnitId(adUnitId);
     }
 
@@ -425,26 +453,26 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     public void initInterstitial(String appKey, String userId, final JSONObject config,
                                  final InterstitialSmashListener listener) {
 
-        final String adUnitId = config.optString(AD_UNIT_ID);
+        final String adUnitId = AdapterConfig.from(config).getAdUnitId();
 
         if (TextUtils.isEmpty(adUnitId)) {
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + AD_UNIT_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
-        postOnUIThread(new Runnable() {
+        AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 //add to interstitial listener map
                 mAdUnitIdToInterstitialListener.put(adUnitId, listener);
 
                 //check AdMob sdk init state
-                if (mInitState == InitState.INIT_STATE_SUCCESS) {
-                    IronLog.INTERNAL.verbose("onInterstitialInitSuccess - adUnitId = " + adUnitId);
+                if (mInitCoordinator.getState() == InitState.INIT_STATE_SUCCESS) {
+                    AdapterLog.verbose(IronLog.INTERNAL, "onInterstitialInitSuccess - adUnitId = {}", adUnitId);
                     listener.onInterstitialInitSuccess();
-                } else if (mInitState == InitState.INIT_STATE_FAILED) {
-                    IronLog.INTERNAL.verbose("onInterstitialInitFailed - adUnitId = " + adUnitId);
+                } else if (mInitCoordinator.getState() == InitState.INIT_STATE_FAILED) {
+                    AdapterLog.verbose(IronLog.INTERNAL, "onInterstitialInitFailed - adUnitId = {}", adUnitId);
                     listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("AdMob sdk init failed", IronSourceConstants.INTERSTITIAL_AD_UNIT));
                 } else {
                     initSDK(config);
@@ -457,16 +485,26 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     @Override
     public void loadInterstitial(final JSONObject config,
                                  final InterstitialSmashListener listener) {
-        postOnUIThread(new Runnable() {
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+
+        if (adapterConfig.isNoFillBackoffEnabled() && mNoFillBackoff.isCoolingDown(IronSourceConstants.INTERSTITIAL_AD_UNIT, adapterConfig.getAdUnitId())) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "no fill backoff - adUnitId = {}", adapterConfig.getAdUnitId());
+            mInterstitialAdsAvailability.put(adapterConfig.getAdUnitId(), false);
+            listener.onInterstitialAdLoadFailed(new IronSourceError(IronSourceError.ERROR_IS_LOAD_NO_FILL, NO_FILL_BACKOFF_MESSAGE));
+            return;
+        }
+
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
-                final String adUnitId = config.optString(AD_UNIT_ID);
-                IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
+                final String adUnitId = AdapterConfig.from(config).getAdUnitId();
+                AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
 
                 // set the interstitial ad availability to false before attempting to load
                 mInterstitialAdsAvailability.put(adUnitId, false);
                 AdRequest adRequest = createAdRequest();
                 AdMobInterstitialAdLoadListener adMobInterstitialAdLoadListener = new AdMobInterstitialAdLoadListener(AdMobAdapter.this, adUnitId, listener);
+                mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, adUnitId);
                 InterstitialAd.load(ContextProvider.getInstance().getApplicationContext(), adUnitId, adRequest, adMobInterstitialAdLoadListener);
             }
         });
@@ -475,14 +513,14 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     @Override
     public void showInterstitial(final JSONObject config,
                                  final InterstitialSmashListener listener) {
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
-                final String adUnitId = config.optString(AD_UNIT_ID);
-                IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
+                final String adUnitId = AdapterConfig.from(config).getAdUnitId();
+                AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
                 // Show the ad if it's ready.
                 if (!isInterstitialReadyForAdUnitId(adUnitId)) {
-                    IronLog.ADAPTER_API.error("Ad not ready to display");
+                    AdapterLog.error(IronLog.ADAPTER_API, "Ad not ready to display");
                     listener.onInterstitialAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.INTERSTITIAL_AD_UNIT));
                     return;
                 }
@@ -490,6 +528,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
                 InterstitialAd interstitialAd = getInterstitialAd(adUnitId);
                 AdMobInterstitialAdShowListener adMobInterstitialAdShowListener = new AdMobInterstitialAdShowListener(AdMobAdapter.this, listener, adUnitId);
                 interstitialAd.setFullScreenContentCallback(adMobInterstitialAdShowListener);
+                mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, adUnitId);
                 interstitialAd.show(ContextProvider.getInstance().getCurrentActiveActivity());
 
                 //change interstitial availability to false
@@ -502,7 +541,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
 
     @Override
     public final boolean isInterstitialReady(final JSONObject config) {
-        String adUnitId = config.optString(AD_UNIT_ID);
+        String adUnitId = AdapterConfig.from(config).getAdUnitId();
         return isInterstitialReadyForAdUnitId(adUnitId);
     }
 
@@ -520,25 +559,25 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     public void initBanners(String appKey, String userId, final JSONObject config,
                             final BannerSmashListener listener) {
 
-        final String adUnitId = config.optString(AD_UNIT_ID);
+        final String adUnitId = AdapterConfig.from(config).getAdUnitId();
         if (TextUtils.isEmpty(adUnitId)) {
             IronSourceError error = ErrorBuilder.buildInitFailedError("Missing params - " + AD_UNIT_ID, IronSourceConstants.BANNER_AD_UNIT);
             listener.onBannerInitFailed(error);
             return;
         }
-        IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 //add banner to listener map
                 mAdUnitIdToBannerListener.put(adUnitId, listener);
 
-                if (mInitState == InitState.INIT_STATE_SUCCESS) {
-                    IronLog.INTERNAL.verbose("onBannerInitSuccess - adUnitId = " + adUnitId);
+                if (mInitCoordinator.getState() == InitState.INIT_STATE_SUCCESS) {
+                    AdapterLog.verbose(IronLog.INTERNAL, "onBannerInitSuccess - adUnitId = {}", adUnitId);
                     listener.onBannerInitSuccess();
-                } else if (mInitState == InitState.INIT_STATE_FAILED) {
-                    IronLog.INTERNAL.verbose("onBannerInitFailed - adUnitId = " + adUnitId);
+                } else if (mInitCoordinator.getState() == InitState.INIT_STATE_FAILED) {
+                    AdapterLog.verbose(IronLog.INTERNAL, "onBannerInitFailed - adUnitId = {}", adUnitId);
                     listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("AdMob sdk init failed", IronSourceConstants.BANNER_AD_UNIT));
                 } else {
                     initSDK(config);
@@ -552,14 +591,22 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
                            final BannerSmashListener listener) {
 
         if (banner == null) {
-            IronLog.ADAPTER_API.error("banner is null");
+            AdapterLog.error(IronLog.ADAPTER_API, "banner is null");
             listener.onBannerAdLoadFailed(ErrorBuilder.buildNoConfigurationAvailableError("banner is null"));
             return;
         }
 
-        final String adUnitId = config.optString(AD_UNIT_ID);
-        IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
-        postOnUIThread(new Runnable() {
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        final String adUnitId = adapterConfig.getAdUnitId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
+
+        if (adapterConfig.isNoFillBackoffEnabled() && mNoFillBackoff.isCoolingDown(IronSourceConstants.BANNER_AD_UNIT, adUnitId)) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "no fill backoff - adUnitId = {}", adUnitId);
+            listener.onBannerAdLoadFailed(new IronSourceError(IronSourceError.ERROR_BN_LOAD_NO_FILL, NO_FILL_BACKOFF_MESSAGE));
+            return;
+        }
+
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -580,7 +627,8 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
                     mAdUnitIdToBannerAd.put(adUnitId, adView);
 
                     AdRequest adRequest = createAdRequest();
-                    IronLog.ADAPTER_API.verbose("loadAd");
+                    AdapterLog.verbose(IronLog.ADAPTER_API, "loadAd");
+                    mLatencyTracker.onLoadStarted(IronSourceConstants.BANNER_AD_UNIT, adUnitId);
                     adView.loadAd(adRequest);
 
                 } catch (Exception e) {
@@ -594,18 +642,18 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     @Override
     public void reloadBanner(final IronSourceBannerLayout banner, final JSONObject config,
                              final BannerSmashListener listener) {
-        IronLog.INTERNAL.warning("Unsupported method");
+        AdapterLog.warning(IronLog.INTERNAL, "Unsupported method");
     }
 
     // destroy banner ad and clear banner ad map
     @Override
     public void destroyBanner(final JSONObject config) {
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 try {
-                    String adUnitId = config.optString(AD_UNIT_ID);
-                    IronLog.ADAPTER_API.verbose("adUnitId = " + adUnitId);
+                    String adUnitId = AdapterConfig.from(config).getAdUnitId();
+                    AdapterLog.verbose(IronLog.ADAPTER_API, "adUnitId = {}", adUnitId);
                     if (mAdUnitIdToBannerAd.containsKey(adUnitId)) {
                         AdView ad = mAdUnitIdToBannerAd.get(adUnitId);
                         if (ad != null) {
@@ -615,7 +663,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
                     }
 
                 } catch (Exception e) {
-                    IronLog.ADAPTER_API.error("e = " + e);
+                    AdapterLog.error(IronLog.ADAPTER_API, "e = {}", e);
                 }
             }
         });
@@ -623,9 +671,67 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     //endregion
 
     // region memory handling
+    private final MemoryTrimPolicy.Evictor mMemoryTrimEvictor = new MemoryTrimPolicy.Evictor() {
+        @Override
+        public int evictDetachedBanners() {
+            int evicted = 0;
+
+            for (Map.Entry<String, AdView> entry : mAdUnitIdToBannerAd.entrySet()) {
+                AdView adView = entry.getValue();
+
+                if (adView.getParent() == null && mAdUnitIdToBannerAd.remove(entry.getKey(), adView)) {
+                    adView.destroy();
+                    evicted++;
+                }
+            }
+
+            return evicted;
+        }
+
+        @Override
+        public int evictAvailableAds(long maxAgeMillis) {
+            long now = SystemClock.elapsedRealtime();
+            int evicted = 0;
+
+            for (Map.Entry<String, RewardedAd> entry : mAdUnitIdToRewardedVideoAd.entrySet()) {
+                String adUnitId = entry.getKey();
+                Long loadTime = mRewardedVideoAdLoadTimes.get(adUnitId);
+
+                // show clears the availability, so an ad that is showing is never dropped
+                if (loadTime == null || now - loadTime < maxAgeMillis || !mRewardedVideoAdsAvailability.replace(adUnitId, true, false)) {
+                    continue;
+                }
+
+                entry.getValue().setFullScreenContentCallback(null);
+                mAdUnitIdToRewardedVideoAd.remove(adUnitId, entry.getValue());
+                evicted++;
+
+                RewardedVideoSmashListener listener = mAdUnitIdToRewardedVideoListener.get(adUnitId);
+                if (listener != null) {
+                    listener.onRewardedVideoAvailabilityChanged(false);
+                }
+            }
+
+            for (Map.Entry<String, InterstitialAd> entry : mAdUnitIdToInterstitialAd.entrySet()) {
+                String adUnitId = entry.getKey();
+                Long loadTime = mInterstitialAdLoadTimes.get(adUnitId);
+
+                if (loadTime == null || now - loadTime < maxAgeMillis || !mInterstitialAdsAvailability.replace(adUnitId, true, false)) {
+                    continue;
+                }
+
+                entry.getValue().setFullScreenContentCallback(null);
+                mAdUnitIdToInterstitialAd.remove(adUnitId, entry.getValue());
+                evicted++;
+            }
+
+            return evicted;
+        }
+    };
+
     @Override
     public void releaseMemory(IronSource.AD_UNIT adUnit, JSONObject config) {
-        IronLog.INTERNAL.verbose("adUnit = " + adUnit);
+        AdapterLog.verbose(IronLog.INTERNAL, "adUnit = {}", adUnit);
 
         if (adUnit == IronSource.AD_UNIT.REWARDED_VIDEO) {
             // release rewarded ads
@@ -636,6 +742,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
             mAdUnitIdToRewardedVideoAd.clear();
             mAdUnitIdToRewardedVideoListener.clear();
             mRewardedVideoAdsAvailability.clear();
+            mRewardedVideoAdLoadTimes.clear();
             mRewardedVideoAdUnitIdsForInitCallbacks.clear();
 
         } else if (adUnit == IronSource.AD_UNIT.INTERSTITIAL) {
@@ -647,10 +754,11 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
             mAdUnitIdToInterstitialAd.clear();
             mAdUnitIdToInterstitialListener.clear();
             mInterstitialAdsAvailability.clear();
+            mInterstitialAdLoadTimes.clear();
 
         } else if (adUnit == IronSource.AD_UNIT.BANNER) {
             // release banner ads
-            postOnUIThread(new Runnable() {
+            mMainThreadDispatcher.dispatch(new Runnable() {
                 @Override
                 public void run() {
                     for (AdView adView : mAdUnitIdToBannerAd.values()) {
@@ -667,7 +775,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
 
     //region legal
     protected void setConsent(boolean consent) {
-        IronLog.ADAPTER_API.verbose("consent = " + consent);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "consent = {}", consent);
         mConsent = consent;
     }
 
@@ -679,7 +787,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
 
         // this is a list of 1 value.
         String value = values.get(0);
-        IronLog.ADAPTER_API.verbose("key = " + key + ", value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, value = {}", key, value);
 
         if (MetaDataUtils.isValidCCPAMetaData(key, value)) {
             setCCPAValue(MetaDataUtils.getMetaDataBooleanValue(value));
@@ -690,7 +798,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
     }
 
     private void setCCPAValue(final boolean value) {
-        IronLog.ADAPTER_API.verbose("value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", value);
         mCCPAValue = value;
     }
 
@@ -702,7 +810,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
             formattedValue = MetaDataUtils.formatValueForType(value, META_DATA_VALUE_BOOLEAN);
 
             if (TextUtils.isEmpty(formattedValue)) {
-                IronLog.ADAPTER_API.verbose("MetaData value for key " + key + " is invalid " + value);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "MetaData value for key {} is invalid {}", key, value);
                 return;
             }
         }
@@ -710,15 +818,15 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
         switch (key) {
             case AdMobMetaDataFlags.ADMOB_TFCD_KEY:
                 mCoppaValue = getAdMobCoppaValue(formattedValue);
-                IronLog.ADAPTER_API.verbose("key = " + key + ", coppaValue = " + mCoppaValue);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, coppaValue = {}", key, mCoppaValue);
                 break;
             case AdMobMetaDataFlags.ADMOB_TFUA_KEY:
                 mEuValue = getAdMobEuValue(formattedValue);
-                IronLog.ADAPTER_API.verbose("key = " + key + ", euValue = " + mEuValue);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, euValue = {}", key, mEuValue);
                 break;
             case AdMobMetaDataFlags.ADMOB_MAX_RATING_KEY:
                 mRatingValue = getAdMobRatingValue(formattedValue);
-                IronLog.ADAPTER_API.verbose("key = " + key + ", ratingValue = " + mRatingValue);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, ratingValue = {}", key, mRatingValue);
                 break;
         }
 
@@ -737,7 +845,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
 
     private String getAdMobRatingValue(String value) {
         if (TextUtils.isEmpty(value)) {
-            IronLog.INTERNAL.error("The ratingValue is null");
+            AdapterLog.error(IronLog.INTERNAL, "The ratingValue is null");
             return null;
         }
 
@@ -756,7 +864,7 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
                 ratingValue = RequestConfiguration.MAX_AD_CONTENT_RATING_MA;
                 break;
             default:
-                IronLog.INTERNAL.error("The ratingValue = " + value + " is undefine");
+                AdapterLog.error(IronLog.INTERNAL, "The ratingValue = {} is undefine", value);
                 break;
         }
 
@@ -776,12 +884,12 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
             Bundle extras = new Bundle();
             //handle consent for ad request
             if (mConsent != null && !mConsent) {
-                IronLog.ADAPTER_API.verbose("mConsent = " + mConsent);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "mConsent = {}", mConsent);
                 extras.putString("npa", "1");
             }
             //handle CCPA for ad request
             if (mCCPAValue != null) {
-                IronLog.ADAPTER_API.verbose("mCCPAValue = " + mCCPAValue);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "mCCPAValue = {}", mCCPAValue);
                 extras.putInt("rdp", mCCPAValue ? 1 : 0);
             }
 
@@ -840,11 +948,11 @@ public class AdMobAdapter extends AbstractAdapter implements INetworkInitCallbac
         try {
             if (selectedBannerSize.isAdaptive() && adSize != null) {
                 AdSize adaptiveSize = AdSize.getCurrentOrientationAnchoredAdaptiveBannerAdSize(ContextProvider.getInstance().getApplicationContext(), adSize.getWidth());
-                IronLog.INTERNAL.verbose("original height - " + adSize.getHeight() + " adaptive height - " + adaptiveSize.getHeight());
+                AdapterLog.verbose(IronLog.INTERNAL, "original height - {} adaptive height - {}", adSize.getHeight(), adaptiveSize.getHeight());
                 return adaptiveSize;
             }
         } catch (NoSuchMethodError e) {
-            IronLog.INTERNAL.verbose("adaptive banners are not supported on Ironsource sdk versions earlier than 7.1.14");
+            AdapterLog.verbose(IronLog.INTERNAL, "adaptive banners are not supported on Ironsource sdk versions earlier than 7.1.14");
         }
         return adSize;
     }
@@ -10,6 +10,7 @@ import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import java.lang.ref.WeakReference;
 
@@ -31,15 +32,17 @@ public class AdMobBannerAdListener extends AdListener {
     // ad finished loading
     @Override
     public void onAdLoaded() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
+        AdMobAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.BANNER_AD_UNIT, mAdUnitId);
+        AdMobAdapter.getNoFillBackoff().onFill(IronSourceConstants.BANNER_AD_UNIT, mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdView == null) {
-            IronLog.INTERNAL.verbose("adView is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adView is null");
             return;
         }
 
@@ -53,17 +56,18 @@ public class AdMobBannerAdListener extends AdListener {
     // ad request failed
     @Override
     public void onAdFailedToLoad(LoadAdError loadAdError) {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
+        AdMobAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.BANNER_AD_UNIT, mAdUnitId);
         String adapterError;
         IronSourceError ironSourceErrorObject;
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -73,7 +77,13 @@ public class AdMobBannerAdListener extends AdListener {
             if (loadAdError.getCause() != null) {
                 adapterError = adapterError + " Caused by - " + loadAdError.getCause();
             }
-            ironSourceErrorObject = mAdapter.get().isNoFillError(loadAdError.getCode()) ?
+            boolean isNoFill = mAdapter.get().isNoFillError(loadAdError.getCode());
+
+            if (isNoFill) {
+                AdMobAdapter.getNoFillBackoff().onNoFill(IronSourceConstants.BANNER_AD_UNIT, mAdUnitId);
+            }
+
+            ironSourceErrorObject = isNoFill ?
                     new IronSourceError(IronSourceError.ERROR_BN_LOAD_NO_FILL, adapterError) :
                     ErrorBuilder.buildLoadFailedError(adapterError);
         } else {
@@ -81,23 +91,23 @@ public class AdMobBannerAdListener extends AdListener {
             ironSourceErrorObject = ErrorBuilder.buildLoadFailedError(adapterError);
         }
 
-        IronLog.ADAPTER_CALLBACK.error(adapterError + adapterError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "{}{}", adapterError, adapterError);
         mListener.onBannerAdLoadFailed(ironSourceErrorObject);
     }
 
     //banner shown - removed adShown callback from here because sometimes, on reload, this callback is called before onAdLoaded
     @Override
     public void onAdImpression() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
     }
 
 
     // banner was clicked
     @Override
     public void onAdClicked() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
         mListener.onBannerAdClicked();
@@ -106,10 +116,10 @@ public class AdMobBannerAdListener extends AdListener {
     //ad opened an overlay that covers the screen after a click
     @Override
     public void onAdOpened() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -119,9 +129,9 @@ public class AdMobBannerAdListener extends AdListener {
     // the user is about to return to the app after clicking on an ad.
     @Override
     public void onAdClosed() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
         mListener.onBannerAdScreenDismissed();
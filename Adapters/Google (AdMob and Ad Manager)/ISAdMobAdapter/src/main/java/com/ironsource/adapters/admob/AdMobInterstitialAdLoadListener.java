@@ -1,11 +1,14 @@
 package com.ironsource.adapters.admob;
 
+import android.os.SystemClock;
+
 import com.google.android.gms.ads.LoadAdError;
 import com.google.android.gms.ads.interstitial.InterstitialAd;
 import com.google.android.gms.ads.interstitial.InterstitialAdLoadCallback;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -28,20 +31,23 @@ public class AdMobInterstitialAdLoadListener extends InterstitialAdLoadCallback
     //interstitial ad was loaded
     @Override
     public void onAdLoaded(@NotNull InterstitialAd interstitialAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
+        AdMobAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, mAdUnitId);
+        AdMobAdapter.getNoFillBackoff().onFill(IronSourceConstants.INTERSTITIAL_AD_UNIT, mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         //add interstitial ad to maps
         mAdapter.get().mAdUnitIdToInterstitialAd.put(mAdUnitId, interstitialAd);
+        mAdapter.get().mInterstitialAdLoadTimes.put(mAdUnitId, SystemClock.elapsedRealtime());
         mAdapter.get().mInterstitialAdsAvailability.put(mAdUnitId, true);
 
         mListener.onInterstitialAdReady();
@@ -50,22 +56,24 @@ public class AdMobInterstitialAdLoadListener extends InterstitialAdLoadCallback
     //interstitial ad failed to load
     @Override
     public void onAdFailedToLoad(@NotNull LoadAdError loadAdError) {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
+        AdMobAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mAdUnitId);
         int errorCode = loadAdError.getCode();
         String adapterError = loadAdError.getMessage() + "( " + errorCode + " ) ";
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         //check if error is no fill error
         if (mAdapter.get().isNoFillError(errorCode)) {
+            AdMobAdapter.getNoFillBackoff().onNoFill(IronSourceConstants.INTERSTITIAL_AD_UNIT, mAdUnitId);
             errorCode = IronSourceError.ERROR_IS_LOAD_NO_FILL;
             adapterError = "No Fill";
         }
@@ -74,7 +82,7 @@ public class AdMobInterstitialAdLoadListener extends InterstitialAdLoadCallback
             adapterError = adapterError + " Caused by - " + loadAdError.getCause();
         }
 
-        IronLog.ADAPTER_CALLBACK.error("adapterError = " + adapterError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "adapterError = {}", adapterError);
 
         mListener.onInterstitialAdLoadFailed(new IronSourceError(errorCode, adapterError));
 
@@ -5,6 +5,7 @@ import com.google.android.gms.ads.FullScreenContentCallback;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -26,10 +27,11 @@ public class AdMobInterstitialAdShowListener extends FullScreenContentCallback {
     // Called when fullscreen content is shown.
     @Override
     public void onAdShowedFullScreenContent() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
+        AdMobAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -40,17 +42,17 @@ public class AdMobInterstitialAdShowListener extends FullScreenContentCallback {
     // Called when fullscreen content failed to show.
     @Override
     public void onAdFailedToShowFullScreenContent(@NotNull AdError adError) {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
         int errorCode = adError.getCode();;
         String adapterError = adError.getMessage() + "( " + errorCode + " )";
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -58,17 +60,17 @@ public class AdMobInterstitialAdShowListener extends FullScreenContentCallback {
             adapterError = adapterError + " Caused by - " + adError.getCause();
         }
 
-        IronLog.ADAPTER_CALLBACK.error("adapterError = " + adapterError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "adapterError = {}", adapterError);
         mListener.onInterstitialAdShowFailed(new IronSourceError(errorCode, mAdapter.get().getProviderName() + "onInterstitialAdShowFailed " + mAdUnitId + " " + adapterError));
     }
 
     // Called when impression is recorded for the ad
     @Override
     public void onAdImpression() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -78,10 +80,10 @@ public class AdMobInterstitialAdShowListener extends FullScreenContentCallback {
     // Called when an ad was clicked
     @Override
     public void onAdClicked() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -91,10 +93,10 @@ public class AdMobInterstitialAdShowListener extends FullScreenContentCallback {
     // Called when fullscreen content is dismissed.
     @Override
     public void onAdDismissedFullScreenContent() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -1,11 +1,14 @@
 package com.ironsource.adapters.admob;
 
+import android.os.SystemClock;
+
 import com.google.android.gms.ads.LoadAdError;
 import com.google.android.gms.ads.rewarded.RewardedAd;
 import com.google.android.gms.ads.rewarded.RewardedAdLoadCallback;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -28,20 +31,23 @@ public class AdMobRewardedVideoAdLoadListener extends RewardedAdLoadCallback {
     //rewarded video ad was loaded
     @Override
     public void onAdLoaded(@NotNull RewardedAd rewardedAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
+        AdMobAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mAdUnitId);
+        AdMobAdapter.getNoFillBackoff().onFill(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         //add rewarded ad to maps
         mAdapter.get().mAdUnitIdToRewardedVideoAd.put(mAdUnitId, rewardedAd);
+        mAdapter.get().mRewardedVideoAdLoadTimes.put(mAdUnitId, SystemClock.elapsedRealtime());
         mAdapter.get().mRewardedVideoAdsAvailability.put(mAdUnitId, true);
 
         mListener.onRewardedVideoAvailabilityChanged(true);
@@ -52,15 +58,16 @@ public class AdMobRewardedVideoAdLoadListener extends RewardedAdLoadCallback {
     //rewarded video ad failed to load
     @Override
     public void onAdFailedToLoad(@NotNull LoadAdError loadAdError) {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
+        AdMobAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -70,10 +77,11 @@ public class AdMobRewardedVideoAdLoadListener extends RewardedAdLoadCallback {
         errorCode = loadAdError.getCode();
         adapterError = loadAdError.getMessage() + "( " + errorCode + " )";
 
-        IronLog.ADAPTER_CALLBACK.error("adapterError = " + adapterError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "adapterError = {}", adapterError);
 
         //check if error is no fill error
         if (mAdapter.get().isNoFillError(errorCode)) {
+            AdMobAdapter.getNoFillBackoff().onNoFill(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mAdUnitId);
             errorCode = IronSourceError.ERROR_RV_LOAD_NO_FILL;
             adapterError = "No Fill";
         }
@@ -82,7 +90,7 @@ public class AdMobRewardedVideoAdLoadListener extends RewardedAdLoadCallback {
             adapterError = adapterError + "Caused by " + loadAdError.getCause();
         }
 
-        IronLog.ADAPTER_CALLBACK.error("adapterError = " + adapterError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "adapterError = {}", adapterError);
 
 
         mListener.onRewardedVideoAvailabilityChanged(false);
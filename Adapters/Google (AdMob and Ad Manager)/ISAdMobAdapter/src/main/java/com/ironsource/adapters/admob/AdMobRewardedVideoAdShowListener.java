@@ -7,6 +7,7 @@ import com.google.android.gms.ads.rewarded.RewardItem;
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -29,10 +30,11 @@ public class AdMobRewardedVideoAdShowListener extends FullScreenContentCallback
     // Called when fullscreen content is shown.
     @Override
     public void onAdShowedFullScreenContent() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
+        AdMobAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -42,18 +44,18 @@ public class AdMobRewardedVideoAdShowListener extends FullScreenContentCallback
     // Called when fullscreen content failed to show.
     @Override
     public void onAdFailedToShowFullScreenContent(@NotNull AdError adError) {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
         int errorCode = adError.getCode();
         ;
         String adapterError = adError.getMessage() + "( " + errorCode + " )";
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -61,17 +63,17 @@ public class AdMobRewardedVideoAdShowListener extends FullScreenContentCallback
             adapterError = adapterError + " Caused by - " + adError.getCause();
         }
 
-        IronLog.ADAPTER_CALLBACK.error("adapterError = " + adapterError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "adapterError = {}", adapterError);
         mListener.onRewardedVideoAdShowFailed(new IronSourceError(errorCode, mAdapter.get().getProviderName() + "onRewardedAdFailedToShow " + mAdUnitId + " " + adapterError));
     }
 
     // Called when impression is recorded for the ad
     @Override
     public void onAdImpression() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -81,10 +83,10 @@ public class AdMobRewardedVideoAdShowListener extends FullScreenContentCallback
     // Called when an ad was clicked
     @Override
     public void onAdClicked() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -94,10 +96,10 @@ public class AdMobRewardedVideoAdShowListener extends FullScreenContentCallback
     // Called when a reward was earned
     @Override
     public void onUserEarnedReward(@NotNull RewardItem rewardItem) {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -107,10 +109,10 @@ public class AdMobRewardedVideoAdShowListener extends FullScreenContentCallback
     // Called when fullscreen content is dismissed.
     @Override
     public void onAdDismissedFullScreenContent() {
-        IronLog.ADAPTER_CALLBACK.verbose("adUnitId = " + mAdUnitId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "adUnitId = {}", mAdUnitId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -0,0 +1,51 @@
+package com.ironsource.adapters.pangle
+
+import com.ironsource.mediationsdk.logger.IronLog
+import com.ironsource.mediationsdk.logger.IronSourceLogger.IronSourceLogLevel
+import com.ironsource.mediationsdk.logger.IronSourceLoggerManager
+
+/**
+ * Level-gated front for [IronLog] used by the adapter and its listeners.
+ * Messages are built by an inlined lambda that only runs when the level is enabled, so with verbose
+ * logging off a log call on a load, show or callback path costs a level check and builds no strings.
+ * Every level follows the mediation log level, the adapters debug flag only controls the network SDK's own logs.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+internal object AdapterLog {
+
+    private val loggerManager: IronSourceLoggerManager = IronSourceLoggerManager.getLogger()
+
+    fun isEnabled(level: Int): Boolean = level >= loggerManager.debugLevel
+
+    fun verbose(logger: IronLog) {
+        if (isEnabled(IronSourceLogLevel.VERBOSE)) {
+            logger.verbose()
+        }
+    }
+
+    inline fun verbose(logger: IronLog, message: () -> String) {
+        if (isEnabled(IronSourceLogLevel.VERBOSE)) {
+            logger.verbose(message())
+        }
+    }
+
+    inline fun info(logger: IronLog, message: () -> String) {
+        if (isEnabled(IronSourceLogLevel.INFO)) {
+            logger.info(message())
+        }
+    }
+
+    inline fun warning(logger: IronLog, message: () -> String) {
+        if (isEnabled(IronSourceLogLevel.WARNING)) {
+            logger.warning(message())
+        }
+    }
+
+    inline fun error(logger: IronLog, message: () -> String) {
+        if (isEnabled(IronSourceLogLevel.ERROR)) {
+            logger.error(message())
+        }
+    }
+}
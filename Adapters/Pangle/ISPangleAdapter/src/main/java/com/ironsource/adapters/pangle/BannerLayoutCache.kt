@@ -0,0 +1,114 @@
+package com.ironsource.adapters.pangle
+
+import android.content.ComponentCallbacks
+import android.content.Context
+import android.content.res.Configuration
+import android.view.Gravity
+import android.widget.FrameLayout
+import com.ironsource.environment.ContextProvider
+import com.ironsource.mediationsdk.AdapterUtils
+import com.ironsource.mediationsdk.ISBannerSize
+import org.json.JSONObject
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Network banner size and pixel dimensions per mediation banner size, resolved once per device configuration
+ * instead of on every banner load. The screen size and density only change with the configuration, so the cache
+ * is dropped on every configuration change and the next load resolves its size again.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ *
+ * @param S the network banner size type
+ */
+internal class BannerLayoutCache<S : Any> : ComponentCallbacks {
+
+    // Immutable, shared by every banner load of the same size
+    class BannerLayout<S : Any> private constructor(
+        val networkSize: S,
+        private val widthDp: Int,
+        private val heightDp: Int,
+        val widthPixels: Int,
+        val heightPixels: Int
+    ) {
+        constructor(networkSize: S, widthDp: Int, heightDp: Int) : this(networkSize, widthDp, heightDp, widthDp, heightDp)
+
+        // Every banner view gets its own centered layout params, a view may change the params it was given
+        fun createLayoutParams(): FrameLayout.LayoutParams {
+            return FrameLayout.LayoutParams(widthPixels, heightPixels, Gravity.CENTER)
+        }
+
+        internal fun toPixels(context: Context?): BannerLayout<S> {
+            return BannerLayout(networkSize, widthDp, heightDp, toPixels(context, widthDp), toPixels(context, heightDp))
+        }
+
+        private fun toPixels(context: Context?, dp: Int): Int {
+            return if (dp > 0) AdapterUtils.dpToPixels(context, dp) else dp
+        }
+    }
+
+    // The layouts resolved for one device configuration
+    private class Snapshot<S : Any>(val isLargeScreen: Boolean) {
+        val layouts = ConcurrentHashMap<String, BannerLayout<S>>()
+    }
+
+    @Volatile
+    private var mSnapshot: Snapshot<S>? = null
+    private val mRegistered = AtomicBoolean(false)
+    private val mHits = AtomicLong()
+    private val mMisses = AtomicLong()
+    private val mInvalidations = AtomicLong()
+
+    // The resolver returns null if the network doesn't support the banner size, sizes are resolved again
+    // on every load in that case since the load fails anyway
+    fun getLayout(size: ISBannerSize, resolver: (ISBannerSize, Boolean) -> BannerLayout<S>?): BannerLayout<S>? {
+        val context: Context? = ContextProvider.getInstance().applicationContext
+
+        if (context == null) {
+            // nothing to cache the layout for yet, resolved with the activity like before the init
+            val activity = ContextProvider.getInstance().currentActiveActivity
+            return resolver(size, AdapterUtils.isLargeScreen(activity))?.toPixels(activity)
+        }
+
+        if (mRegistered.compareAndSet(false, true)) {
+            context.registerComponentCallbacks(this)
+        }
+
+        val snapshot = mSnapshot ?: Snapshot<S>(AdapterUtils.isLargeScreen(context)).also { mSnapshot = it }
+        val key = "${size.description}:${size.width}x${size.height}"
+        val cached = snapshot.layouts[key]
+
+        if (cached != null) {
+            mHits.incrementAndGet()
+            return cached
+        }
+
+        mMisses.incrementAndGet()
+        val layout = resolver(size, snapshot.isLargeScreen)?.toPixels(context) ?: return null
+        snapshot.layouts[key] = layout
+        return layout
+    }
+
+    override fun onConfigurationChanged(newConfig: Configuration) {
+        // layouts resolved meanwhile land in the dropped snapshot
+        mSnapshot = null
+        mInvalidations.incrementAndGet()
+    }
+
+    override fun onLowMemory() {
+    }
+
+    fun getStats(): JSONObject {
+        return JSONObject()
+            .put("hits", mHits.get())
+            .put("misses", mMisses.get())
+            .put("invalidations", mInvalidations.get())
+    }
+
+    companion object {
+        // Height of a layout the network view sizes itself
+        const val WRAP_CONTENT = FrameLayout.LayoutParams.WRAP_CONTENT
+    }
+}
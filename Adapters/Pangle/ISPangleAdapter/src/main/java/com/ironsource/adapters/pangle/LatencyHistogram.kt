@@ -0,0 +1,61 @@
+package com.ironsource.adapters.pangle
+
+import org.json.JSONArray
+import org.json.JSONObject
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+
+/**
+ * Latency distribution kept in fixed millisecond buckets.
+ * All the counters are allocated up front, so recording a value never allocates and never blocks.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+internal class LatencyHistogram {
+
+    private val mBucketCounts = AtomicLongArray(BUCKET_BOUNDS_MILLIS.size + 1)
+    private val mCount = AtomicLong()
+    private val mTotalMillis = AtomicLong()
+    private val mMaxMillis = AtomicLong()
+
+    fun record(durationMillis: Long) {
+        val duration = if (durationMillis < 0) 0 else durationMillis
+
+        mBucketCounts.incrementAndGet(bucketIndex(duration))
+        mCount.incrementAndGet()
+        mTotalMillis.addAndGet(duration)
+
+        var max = mMaxMillis.get()
+        while (duration > max && !mMaxMillis.compareAndSet(max, duration)) {
+            max = mMaxMillis.get()
+        }
+    }
+
+    // The counters are read one by one, a value recorded while the snapshot is taken may be missing from some of them
+    fun getSnapshot(): JSONObject {
+        val bucketCounts = JSONArray()
+        for (i in 0 until mBucketCounts.length()) {
+            bucketCounts.put(mBucketCounts.get(i))
+        }
+
+        return JSONObject()
+            .put("count", mCount.get())
+            .put("totalMillis", mTotalMillis.get())
+            .put("maxMillis", mMaxMillis.get())
+            .put("bucketCounts", bucketCounts)
+    }
+
+    companion object {
+        // Upper bound (inclusive) of each bucket in milliseconds, the last bucket holds everything above
+        val BUCKET_BOUNDS_MILLIS = longArrayOf(50, 100, 200, 300, 500, 750, 1000, 1500, 2000, 3000, 5000, 7500, 10000, 15000, 20000, 30000, 60000)
+
+        private fun bucketIndex(durationMillis: Long): Int {
+            var index = 0
+            while (index < BUCKET_BOUNDS_MILLIS.size && durationMillis > BUCKET_BOUNDS_MILLIS[index]) {
+                index++
+            }
+            return index
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.ironsource.adapters.pangle
+
+import android.content.ComponentCallbacks2
+import android.content.res.Configuration
+import com.ironsource.environment.ContextProvider
+import com.ironsource.mediationsdk.logger.IronLog
+import org.json.JSONObject
+import java.lang.ref.WeakReference
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Frees the ads the adapters hold when the system runs low on memory, instead of keeping them until the mediation
+ * calls releaseMemory. The trim level picks how much is freed: banners removed from the banner layout first, then
+ * full screen ads that were loaded long enough ago to have expired, then every full screen ad that is not showing.
+ * A banner still in a layout is never destroyed, even when the app is in the background and it is not shown.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+internal class MemoryTrimPolicy : ComponentCallbacks2 {
+
+    interface Evictor {
+        // Destroys the banners that have no parent view, returns how many were destroyed
+        fun evictDetachedBanners(): Int
+
+        // Drops the full screen ads that have been available for at least maxAgeMillis and reports them as
+        // unavailable, returns how many were dropped
+        fun evictAvailableAds(maxAgeMillis: Long): Int
+    }
+
+    private val mEvictors = CopyOnWriteArrayList<WeakReference<Evictor>>()
+    private val mRegistered = AtomicBoolean(false)
+    private val mTrims = AtomicLong()
+    private val mEvictedBanners = AtomicLong()
+    private val mEvictedAds = AtomicLong()
+
+    // Adds an adapter instance, the policy only keeps a weak reference to the evictor
+    fun register(evictor: Evictor) {
+        // Drop the adapter instances that were collected since, so creating instances doesn't grow the list
+        for (reference in mEvictors) {
+            if (reference.get() == null) {
+                mEvictors.remove(reference)
+            }
+        }
+
+        mEvictors.add(WeakReference(evictor))
+
+        if (!mRegistered.compareAndSet(false, true)) {
+            return
+        }
+
+        val context = ContextProvider.getInstance().applicationContext
+
+        if (context == null) {
+            // try again with the next adapter instance
+            mRegistered.set(false)
+            AdapterLog.verbose(IronLog.INTERNAL) { "application context is null" }
+            return
+        }
+
+        context.registerComponentCallbacks(this)
+    }
+
+    override fun onTrimMemory(level: Int) {
+        trim(tierFor(level))
+    }
+
+    override fun onLowMemory() {
+        trim(TIER_ALL_ADS)
+    }
+
+    override fun onConfigurationChanged(newConfig: Configuration) {
+    }
+
+    // Called on the main thread
+    fun trim(tier: Int) {
+        if (tier == TIER_NONE) {
+            return
+        }
+
+        mTrims.incrementAndGet()
+        var banners = 0
+        var ads = 0
+
+        for (reference in mEvictors) {
+            val evictor = reference.get()
+
+            if (evictor == null) {
+                mEvictors.remove(reference)
+                continue
+            }
+
+            banners += evictor.evictDetachedBanners()
+
+            if (tier >= TIER_EXPIRED_ADS) {
+                ads += evictor.evictAvailableAds(if (tier == TIER_ALL_ADS) 0 else AD_EXPIRATION_MILLIS)
+            }
+        }
+
+        mEvictedBanners.addAndGet(banners.toLong())
+        mEvictedAds.addAndGet(ads.toLong())
+        AdapterLog.verbose(IronLog.INTERNAL) { "tier = $tier, banners = $banners, ads = $ads" }
+    }
+
+    fun getStats(): JSONObject {
+        return JSONObject()
+            .put("trims", mTrims.get())
+            .put("evictedBanners", mEvictedBanners.get())
+            .put("evictedAds", mEvictedAds.get())
+    }
+
+    companion object {
+        const val TIER_NONE = 0
+        const val TIER_DETACHED_BANNERS = 1
+        const val TIER_EXPIRED_ADS = 2
+        const val TIER_ALL_ADS = 3
+
+        // Networks expire their full screen ads about an hour after the load
+        const val AD_EXPIRATION_MILLIS: Long = 60 * 60 * 1000
+
+        // UI_HIDDEN alone is not memory pressure, the app just moved to the background
+        fun tierFor(level: Int): Int {
+            return when {
+                level >= ComponentCallbacks2.TRIM_MEMORY_COMPLETE -> TIER_ALL_ADS
+                level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE -> TIER_EXPIRED_ADS
+                level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND -> TIER_DETACHED_BANNERS
+                level == ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN -> TIER_NONE
+                level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL -> TIER_EXPIRED_ADS
+                level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW -> TIER_DETACHED_BANNERS
+                else -> TIER_NONE
+            }
+        }
+    }
+}
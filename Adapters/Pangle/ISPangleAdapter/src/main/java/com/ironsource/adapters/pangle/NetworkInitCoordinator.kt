@@ -0,0 +1,148 @@
+package com.ironsource.adapters.pangle
+
+import com.ironsource.mediationsdk.INetworkInitCallbackListener
+import java.util.Collections
+import java.util.IdentityHashMap
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Coordinates the network SDK initialization shared by all the adapter instances.
+ * The init state is kept in a single atomic word and the listeners waiting for the init
+ * result are pushed to a lock-free stack, which is drained exactly once when the init ends.
+ * A listener registered several times before the drain gets the init result once, a listener that
+ * registers after the drain is notified directly. No listener is referenced once the result was delivered to it.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+internal class NetworkInitCoordinator {
+
+    // Init state possible values
+    enum class InitState {
+        INIT_STATE_NONE,
+        INIT_STATE_IN_PROGRESS,
+        INIT_STATE_SUCCESS,
+        INIT_STATE_FAILED
+    }
+
+    private class Node(val listener: INetworkInitCallbackListener?, var next: Node?)
+
+    private val mInitState = AtomicReference(InitState.INIT_STATE_NONE)
+    private val mListenersHead = AtomicReference<Node?>(null)
+
+    @Volatile
+    private var mInitFailedMessage = ""
+
+    val state: InitState
+        get() = mInitState.get()
+
+    val isInitStarted: Boolean
+        get() = mInitState.get() != InitState.INIT_STATE_NONE
+
+    // Returns true only for the single caller that should start the network SDK init
+    fun startInit(): Boolean {
+        return mInitState.compareAndSet(InitState.INIT_STATE_NONE, InitState.INIT_STATE_IN_PROGRESS)
+    }
+
+    // Registers the listener for the init result, registering it again before the init ends has no effect
+    fun addListener(listener: INetworkInitCallbackListener) {
+        var node: Node? = null
+
+        while (true) {
+            val head = mListenersHead.get()
+
+            if (head === DRAINED) {
+                // The init result was already delivered, notify this listener by itself
+                notifyListener(listener)
+                return
+            }
+
+            if (node == null) {
+                node = Node(listener, head)
+            } else {
+                node.next = head
+            }
+
+            if (mListenersHead.compareAndSet(head, node)) {
+                return
+            }
+        }
+    }
+
+    // Moves the state to success, returns false if the init has already ended
+    fun setInitSucceeded(): Boolean {
+        return setFinalState(InitState.INIT_STATE_SUCCESS)
+    }
+
+    // Moves the state to failed, returns false if the init has already ended
+    fun setInitFailed(message: String): Boolean {
+        if (isFinalState(mInitState.get())) {
+            return false
+        }
+
+        mInitFailedMessage = message
+        return setFinalState(InitState.INIT_STATE_FAILED)
+    }
+
+    // Delivers the init result to all the registered listeners in their registration order.
+    // Only the first call after the init ended delivers anything.
+    fun notifyListeners() {
+        if (!isFinalState(mInitState.get())) {
+            return
+        }
+
+        val head = mListenersHead.getAndSet(DRAINED)
+
+        if (head === DRAINED) {
+            return
+        }
+
+        // The stack holds the latest listener first
+        val listeners = ArrayList<INetworkInitCallbackListener>()
+        var current = head
+        while (current != null) {
+            current.listener?.let { listeners.add(it) }
+            current = current.next
+        }
+
+        // A listener registered several times is notified at its first registration
+        val notified = Collections.newSetFromMap(IdentityHashMap<INetworkInitCallbackListener, Boolean>())
+
+        for (i in listeners.indices.reversed()) {
+            if (notified.add(listeners[i])) {
+                notifyListener(listeners[i])
+            }
+        }
+    }
+
+    private fun setFinalState(finalState: InitState): Boolean {
+        while (true) {
+            val state = mInitState.get()
+
+            if (isFinalState(state)) {
+                return false
+            }
+
+            if (mInitState.compareAndSet(state, finalState)) {
+                return true
+            }
+        }
+    }
+
+    private fun isFinalState(state: InitState): Boolean {
+        return state == InitState.INIT_STATE_SUCCESS || state == InitState.INIT_STATE_FAILED
+    }
+
+    private fun notifyListener(listener: INetworkInitCallbackListener) {
+        if (mInitState.get() == InitState.INIT_STATE_SUCCESS) {
+            listener.onNetworkInitCallbackSuccess()
+        } else {
+            listener.onNetworkInitCallbackFailed(mInitFailedMessage)
+        }
+    }
+
+    companion object {
+        // Head value of a drained stack, no listener can be pushed once it is set
+        private val DRAINED = Node(null, null)
+    }
+}
@@ -0,0 +1,90 @@
+package com.ironsource.adapters.pangle
+
+import android.os.SystemClock
+import com.ironsource.mediationsdk.logger.IronLog
+import org.json.JSONObject
+import java.util.Random
+
+/**
+ * Cooldown of the placements the network didn't fill. While a placement cools down, its non bidding loads fail
+ * right away with a no-fill instead of asking the network again, a bidding load always goes to the network since
+ * its bid was already won. The cooldown doubles with every consecutive no-fill, from BASE_DELAY_MILLIS up to
+ * MAX_DELAY_MILLIS, and is randomized between half and all of it so placements that stopped filling together
+ * don't retry together. A fill ends the backoff of its placement.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+internal class NoFillBackoff {
+
+    private class State {
+        var noFills = 0
+        var retryTime = 0L
+    }
+
+    private val mStates = HashMap<String, State>()
+    private val mRandom = Random()
+
+    // stats
+    private var mNoFills = 0L
+    private var mShortCircuited = 0L
+    private var mResets = 0L
+
+    // True if the load of the placement should fail with a no-fill without asking the network
+    @Synchronized
+    fun isCoolingDown(adUnit: String, placementId: String): Boolean {
+        val state = mStates[getKey(adUnit, placementId)]
+
+        if (state == null || SystemClock.elapsedRealtime() >= state.retryTime) {
+            return false
+        }
+
+        mShortCircuited++
+        return true
+    }
+
+    @Synchronized
+    fun onNoFill(adUnit: String, placementId: String) {
+        val state = mStates.getOrPut(getKey(adUnit, placementId)) { State() }
+        state.noFills++
+        mNoFills++
+
+        val delay = minOf(MAX_DELAY_MILLIS, BASE_DELAY_MILLIS shl minOf(state.noFills - 1, 16))
+        val jitteredDelay = delay / 2 + (mRandom.nextDouble() * (delay / 2)).toLong()
+        state.retryTime = SystemClock.elapsedRealtime() + jitteredDelay
+
+        AdapterLog.verbose(IronLog.INTERNAL) { "placementId = $placementId, noFills = ${state.noFills}, cooldown = ${jitteredDelay}ms" }
+    }
+
+    @Synchronized
+    fun onFill(adUnit: String, placementId: String) {
+        if (mStates.remove(getKey(adUnit, placementId)) != null) {
+            mResets++
+        }
+    }
+
+    @Synchronized
+    fun clear() {
+        mStates.clear()
+    }
+
+    @Synchronized
+    fun getStats(): JSONObject {
+        val now = SystemClock.elapsedRealtime()
+
+        return JSONObject()
+            .put("coolingDown", mStates.values.count { now < it.retryTime })
+            .put("noFills", mNoFills)
+            .put("shortCircuited", mShortCircuited)
+            .put("resets", mResets)
+    }
+
+    private fun getKey(adUnit: String, placementId: String): String {
+        return "$adUnit:$placementId"
+    }
+
+    companion object {
+        private const val BASE_DELAY_MILLIS = 5 * 1000L
+        private const val MAX_DELAY_MILLIS = 5 * 60 * 1000L
+    }
+}
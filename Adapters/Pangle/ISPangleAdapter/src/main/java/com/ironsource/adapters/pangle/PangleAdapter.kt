@@ -16,10 +16,12 @@ import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialAd
 import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialRequest
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAd
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedRequest
+import com.ironsource.adapters.pangle.NetworkInitCoordinator.InitState
 import com.ironsource.environment.ContextProvider
 import com.ironsource.mediationsdk.*
 import com.ironsource.mediationsdk.IronSource.AD_UNIT
 import com.ironsource.mediationsdk.logger.IronLog
+import com.ironsource.mediationsdk.logger.IronSourceError
 import com.ironsource.mediationsdk.metadata.MetaDataUtils
 import com.ironsource.mediationsdk.sdk.BannerSmashListener
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener
@@ -31,34 +33,66 @@ import org.json.JSONException
 import org.json.JSONObject
 import java.lang.ref.WeakReference
 import java.util.concurrent.ConcurrentHashMap
-import java.util.concurrent.CopyOnWriteArraySet
-import java.util.concurrent.atomic.AtomicBoolean
 
 
 class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
         INetworkInitCallbackListener {
 
-    // Rewarded video collections
-    private var mSlotIdToRewardedVideoListener: ConcurrentHashMap<String, RewardedVideoSmashListener> = ConcurrentHashMap()
-    private var mSlotIdToRewardedVideoAdListener: ConcurrentHashMap<String, PangleRewardedVideoAdListener> = ConcurrentHashMap()
-    private var mSlotIdToRewardedVideoAd: ConcurrentHashMap<String, PAGRewardedAd> = ConcurrentHashMap()
-    private val mSlotIdToRewardedVideoAdAvailability: ConcurrentHashMap<String, Boolean> = ConcurrentHashMap()
-    private val mRewardedVideoSlotIdsForInitCallbacks: CopyOnWriteArraySet<String> = CopyOnWriteArraySet()
+    // Rewarded video slots - listeners, ads and availability per slot id
+    private val mRewardedVideoSlots: ConcurrentHashMap<String, PlacementSlot<RewardedVideoSmashListener, PAGRewardedAd, PangleRewardedVideoAdListener>> = ConcurrentHashMap()
 
-    // Interstitial maps
-    private var mSlotIdToInterstitialListener: ConcurrentHashMap<String, InterstitialSmashListener> = ConcurrentHashMap()
-    private var mSlotIdToInterstitialAdListener: ConcurrentHashMap<String, PangleInterstitialAdListener> = ConcurrentHashMap()
-    private var mSlotIdToInterstitialAd: ConcurrentHashMap<String, PAGInterstitialAd> = ConcurrentHashMap()
-    private val mSlotIdToInterstitialAdAvailability: ConcurrentHashMap<String, Boolean> = ConcurrentHashMap()
+    // Interstitial slots - listeners, ads and availability per slot id
+    private val mInterstitialSlots: ConcurrentHashMap<String, PlacementSlot<InterstitialSmashListener, PAGInterstitialAd, PangleInterstitialAdListener>> = ConcurrentHashMap()
 
-    // Banner maps
-    private var mSlotIdToBannerListener: ConcurrentHashMap<String, BannerSmashListener> = ConcurrentHashMap()
-    private var mSlotIdToBannerAdListener: ConcurrentHashMap<String, PangleBannerAdListener> = ConcurrentHashMap()
-    private var mSlotIdToBannerView: ConcurrentHashMap<String, PAGBannerAd> = ConcurrentHashMap()
+    // Banner slots - listeners and banner views per slot id
+    private val mBannerSlots: ConcurrentHashMap<String, PlacementSlot<BannerSmashListener, PAGBannerAd, PangleBannerAdListener>> = ConcurrentHashMap()
+
+    // Declared before the init block that registers it
+    private val mMemoryTrimEvictor = object : MemoryTrimPolicy.Evictor {
+        override fun evictDetachedBanners(): Int {
+            var evicted = 0
+
+            mBannerSlots.forEach { (_, slot) ->
+                if (slot.ad?.let { it.bannerView.parent == null } == true) {
+                    slot.takeAd()?.let { bannerAd ->
+                        bannerAd.setAdInteractionListener(null)
+                        bannerAd.destroy()
+                        evicted++
+                    }
+                }
+            }
+
+            return evicted
+        }
+
+        override fun evictAvailableAds(maxAgeMillis: Long): Int {
+            var evicted = 0
+
+            mRewardedVideoSlots.forEach { (_, slot) ->
+                slot.evictAvailableAd(maxAgeMillis)?.let { rewardedVideoAd ->
+                    rewardedVideoAd.setAdInteractionListener(null)
+                    slot.smashListener?.onRewardedVideoAvailabilityChanged(false)
+                    evicted++
+                }
+            }
+
+            mInterstitialSlots.forEach { (_, slot) ->
+                slot.evictAvailableAd(maxAgeMillis)?.let { interstitialAd ->
+                    interstitialAd.setAdInteractionListener(null)
+                    evicted++
+                }
+            }
+
+            return evicted
+        }
+    }
 
     init {
         // The network's capability to load a Rewarded Video ad while another Rewarded Video ad of that network is showing
         mLWSSupportState = LoadWhileShowSupportState.LOAD_WHILE_SHOW_BY_INSTANCE
+
+        // free cached ads on memory pressure, not only when the mediation releases the memory
+        mMemoryTrimPolicy.register(mMemoryTrimEvictor)
     }
 
     companion object {
@@ -76,31 +110,58 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
         private const val GitHash: String = BuildConfig.GitHash
 
         // Pangle keys
-        private const val SLOT_ID_KEY = "slotID"
-        private const val APP_ID_KEY = "appID"
+        internal const val SLOT_ID_KEY = "slotID"
+        internal const val APP_ID_KEY = "appID"
+        // Optional, fails the non bidding loads of a slot right away while it cools down after a no fill
+        internal const val NO_FILL_BACKOFF_KEY = "noFillBackoff"
+        private const val NO_FILL_BACKOFF_MESSAGE = "No fill - slot is cooling down after a no fill"
 
         // Pangle errors
         const val PANGLE_NO_FILL_ERROR_CODE = 20001
 
         // Meta data flags
         private const val META_DATA_PANGLE_COPPA_KEY = "Pangle_COPPA"
+        private const val META_DATA_PANGLE_BIDDING_TOKEN_TTL_KEY = "Pangle_BiddingTokenTTL"
 
         // Pangle Builder
         private val mPAGConfigBuilder = PAGConfig.Builder()
 
         // Handle init callback for all adapter instances
-        private val mWasInitCalled: AtomicBoolean = AtomicBoolean(false)
-        private var mInitState: InitState = InitState.INIT_STATE_NONE
-        private val initCallbackListeners = HashSet<INetworkInitCallbackListener>()
-
-        // Init state possible values
-        private enum class InitState {
-            INIT_STATE_NONE,
-            INIT_STATE_IN_PROGRESS,
-            INIT_STATE_SUCCESS,
-            INIT_STATE_FAILED
+        private val mInitCoordinator = NetworkInitCoordinator()
+
+        // Init, load and show latencies of all adapter instances
+        internal val mLatencyTracker = LatencyTracker()
+
+        // Main thread work of all adapter instances, coalesced into as few main thread messages as possible
+        private val mMainThreadDispatcher = MainThreadDispatcher()
+
+        // Cooldown of the slots of all adapter instances the network didn't fill, used by the slots that enable it
+        internal val mNoFillBackoff = NoFillBackoff()
+
+        // Network banner sizes and pixel dimensions of all adapter instances, resolved once per device configuration
+        private val mBannerLayoutCache = BannerLayoutCache<PAGBannerSize>()
+
+        // Pangle banner size and dimensions of every supported mediation banner size
+        private val mBannerSizeResolver = { size: ISBannerSize, isLargeScreen: Boolean ->
+            when (size.description) {
+                "BANNER" -> BannerLayoutCache.BannerLayout(PAGBannerSize.BANNER_W_320_H_50, 320, 50)
+                "RECTANGLE" -> BannerLayoutCache.BannerLayout(PAGBannerSize.BANNER_W_300_H_250, 300, 250)
+                "SMART" ->
+                    if (isLargeScreen) {
+                        BannerLayoutCache.BannerLayout(PAGBannerSize.BANNER_W_728_H_90, 728, 90)
+                    } else {
+                        BannerLayoutCache.BannerLayout(PAGBannerSize.BANNER_W_320_H_50, 320, 50)
+                    }
+                else -> BannerLayoutCache.BannerLayout(PAGBannerSize(0, 0), 0, 0)
+            }
         }
 
+        // Frees the ads of all adapter instances when the system runs low on memory
+        private val mMemoryTrimPolicy = MemoryTrimPolicy()
+
+        // Last bidding token of the network, refreshed in the background for all the adapter instances
+        private val mBiddingTokenCache = BiddingTokenCache { PAGSdk.getBiddingToken() }
+
         @JvmStatic
         fun startAdapter(providerName: String): PangleAdapter {
             return PangleAdapter(providerName)
@@ -115,6 +176,12 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
         fun getAdapterSDKVersion(): String {
             return PAGSdk.getSDKVersion()
         }
+
+        // Get the init, load and show latency histograms recorded so far for this network
+        @JvmStatic
+        fun getLatencySnapshot(): JSONObject {
+            return mLatencyTracker.getSnapshot()
+        }
     }
 
     //region Adapter Methods
@@ -134,14 +201,12 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
     //region Initializations methods and callbacks
 
     private fun initSdk(appId: String) {
-        // Add self to the init listeners only in case the initialization has not finished yet
-        if (mInitState == InitState.INIT_STATE_NONE || mInitState == InitState.INIT_STATE_IN_PROGRESS) {
-            initCallbackListeners.add(this)
-        }
+        // Add self to the init listeners, in case the initialization has already finished the result is delivered right away
+        mInitCoordinator.addListener(this)
 
-        if (mWasInitCalled.compareAndSet(false, true)) {
-            mInitState = InitState.INIT_STATE_IN_PROGRESS
-            IronLog.ADAPTER_API.verbose("appId = $appId")
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API) { "appId = $appId" }
+            mLatencyTracker.onInitStarted()
 
             val context = ContextProvider.getInstance().applicationContext
             val initConfig = mPAGConfigBuilder
@@ -152,7 +217,7 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
                     .supportMultiProcess(false)
                     .build()
 
-            postOnUIThread {
+            mMainThreadDispatcher.dispatch {
                 // Init Pangle SDK
                 PAGSdk.init(context, initConfig, object : PAGInitCallback {
                     override fun success() {
@@ -168,36 +233,32 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     private fun initializationSuccess() {
-        IronLog.ADAPTER_CALLBACK.verbose("")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "" }
 
-        mInitState = InitState.INIT_STATE_SUCCESS
-
-        //iterate over all the adapter instances and report init success
-        for (adapter: INetworkInitCallbackListener in initCallbackListeners) {
-            adapter.onNetworkInitCallbackSuccess()
+        //report init success to all the adapter instances
+        if (mInitCoordinator.setInitSucceeded()) {
+            mLatencyTracker.onInitFinished()
+            mBiddingTokenCache.refresh()
+            mInitCoordinator.notifyListeners()
         }
-
-        initCallbackListeners.clear()
     }
 
     private fun initializationFailure(code: Int, message: String) {
-        IronLog.ADAPTER_CALLBACK.verbose("error code = $code, message = $message")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "error code = $code, message = $message" }
 
-        mInitState = InitState.INIT_STATE_FAILED
-
-        //iterate over all the adapter instances and report init failed
-        for (adapter in initCallbackListeners) {
-            adapter.onNetworkInitCallbackFailed(message)
+        //report init failed to all the adapter instances
+        if (mInitCoordinator.setInitFailed(message)) {
+            mLatencyTracker.onInitFinished()
+            mInitCoordinator.notifyListeners()
         }
-
-        initCallbackListeners.clear()
     }
 
     override fun onNetworkInitCallbackSuccess() {
         // Rewarded Video
-        mSlotIdToRewardedVideoListener.forEach { (slotId, rewardVideoListener) ->
+        mRewardedVideoSlots.forEach { (slotId, slot) ->
+            val rewardVideoListener = slot.smashListener ?: return@forEach
 
-            if (mRewardedVideoSlotIdsForInitCallbacks.contains(slotId)) {
+            if (slot.isInitCallbackRequired) {
                 rewardVideoListener.onRewardedVideoInitSuccess()
             } else {
                 loadRewardedVideoInternal(slotId, null)
@@ -205,17 +266,18 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
         }
 
         // Interstitial
-        mSlotIdToInterstitialListener.forEach { (_, interstitialListener) -> interstitialListener.onInterstitialInitSuccess() }
+        mInterstitialSlots.forEach { (_, slot) -> slot.smashListener?.onInterstitialInitSuccess() }
 
         // Banner
-        mSlotIdToBannerListener.forEach { (_, bannerListener) ->  bannerListener.onBannerInitSuccess()}
+        mBannerSlots.forEach { (_, slot) -> slot.smashListener?.onBannerInitSuccess() }
     }
 
     override fun onNetworkInitCallbackFailed(error: String) {
         // Rewarded Video
-        mSlotIdToRewardedVideoListener.forEach { (slotId, rewardVideoListener) ->
+        mRewardedVideoSlots.forEach { (_, slot) ->
+            val rewardVideoListener = slot.smashListener ?: return@forEach
 
-            if (mRewardedVideoSlotIdsForInitCallbacks.contains(slotId)) {
+            if (slot.isInitCallbackRequired) {
                 rewardVideoListener.onRewardedVideoInitFailed(
                         ErrorBuilder.buildInitFailedError(error, IronSourceConstants.REWARDED_VIDEO_AD_UNIT
                         )
@@ -226,16 +288,16 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
         }
 
         // Interstitial
-        mSlotIdToInterstitialListener.forEach { (_, interstitialListener) ->
-            interstitialListener.onInterstitialInitFailed(
+        mInterstitialSlots.forEach { (_, slot) ->
+            slot.smashListener?.onInterstitialInitFailed(
                     ErrorBuilder.buildInitFailedError(error, IronSourceConstants.INTERSTITIAL_AD_UNIT
                     )
             )
         }
 
         // Banner
-        mSlotIdToBannerListener.forEach { (_, bannerListener) ->
-            bannerListener.onBannerInitFailed(
+        mBannerSlots.forEach { (_, slot) ->
+            slot.smashListener?.onBannerInitFailed(
                     ErrorBuilder.buildInitFailedError(error, IronSourceConstants.BANNER_AD_UNIT
                     )
             )
@@ -251,38 +313,38 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
 
     // Used for flows when the mediation needs to get a callback for init
     override fun initRewardedVideoWithCallback(appKey: String?, userId: String?, config: JSONObject?, listener: RewardedVideoSmashListener) {
-        val slotId = config?.optString(SLOT_ID_KEY)
-        val appId = config?.optString(APP_ID_KEY)
+        val adapterConfig = config?.let { AdapterConfig.from(it) }
+        val slotId = adapterConfig?.slotId
+        val appId = adapterConfig?.appId
 
         if (slotId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $SLOT_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $SLOT_ID_KEY" }
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $SLOT_ID_KEY", IronSourceConstants.REWARDED_VIDEO_AD_UNIT))
             return
         }
 
         if (appId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $APP_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $APP_ID_KEY" }
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $APP_ID_KEY", IronSourceConstants.REWARDED_VIDEO_AD_UNIT))
             return
         }
 
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
 
         val rewardedVideoAdListener = PangleRewardedVideoAdListener(listener, WeakReference(this), slotId)
 
-        //add to rewarded video listener map
-        mSlotIdToRewardedVideoAdListener[slotId] = rewardedVideoAdListener
-        mSlotIdToRewardedVideoListener[slotId] = listener
-
-        // add slotId to init callback map
-        mRewardedVideoSlotIdsForInitCallbacks.add(slotId)
+        //add to rewarded video slots and mark the slot id for init callbacks
+        val slot = getRewardedVideoSlot(slotId)
+        slot.adListener = rewardedVideoAdListener
+        slot.smashListener = listener
+        slot.isInitCallbackRequired = true
 
-        when (mInitState) {
+        when (mInitCoordinator.state) {
             InitState.INIT_STATE_SUCCESS -> {
                 listener.onRewardedVideoInitSuccess()
             }
             InitState.INIT_STATE_FAILED -> {
-                IronLog.INTERNAL.verbose("init failed - slotId = $slotId")
+                AdapterLog.verbose(IronLog.INTERNAL) { "init failed - slotId = $slotId" }
                 listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Pangle SDK init failed", IronSourceConstants.REWARDED_VIDEO_AD_UNIT))
             }
             else -> {
@@ -293,35 +355,37 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
 
     // used for flows when the mediation doesn't need to get a callback for init
     override fun initAndLoadRewardedVideo(appKey: String?, userId: String?, config: JSONObject?, listener: RewardedVideoSmashListener) {
-        val slotId = config?.optString(SLOT_ID_KEY)
-        val appId = config?.optString(APP_ID_KEY)
+        val adapterConfig = config?.let { AdapterConfig.from(it) }
+        val slotId = adapterConfig?.slotId
+        val appId = adapterConfig?.appId
 
         if (slotId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $SLOT_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $SLOT_ID_KEY" }
             listener.onRewardedVideoAvailabilityChanged(false)
             return
         }
 
         if (appId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $APP_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $APP_ID_KEY" }
             listener.onRewardedVideoAvailabilityChanged(false)
             return
         }
 
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
 
         val rewardedVideoAdListener = PangleRewardedVideoAdListener(listener, WeakReference(this), slotId)
 
-        //add to rewarded video listener map
-        mSlotIdToRewardedVideoAdListener[slotId] = rewardedVideoAdListener
-        mSlotIdToRewardedVideoListener[slotId] = listener
+        //add to rewarded video slots
+        val slot = getRewardedVideoSlot(slotId)
+        slot.adListener = rewardedVideoAdListener
+        slot.smashListener = listener
 
-        when (mInitState) {
+        when (mInitCoordinator.state) {
             InitState.INIT_STATE_SUCCESS -> {
                 loadRewardedVideoInternal(slotId, null)
             }
             InitState.INIT_STATE_FAILED -> {
-                IronLog.INTERNAL.verbose("init failed - slotId = $slotId")
+                AdapterLog.verbose(IronLog.INTERNAL) { "init failed - slotId = $slotId" }
                 listener.onRewardedVideoAvailabilityChanged(false)
             }
             else -> {
@@ -331,45 +395,56 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     override fun loadRewardedVideoForBidding(config: JSONObject, listener: RewardedVideoSmashListener, serverData: String?) {
-        val slotId = config.optString(SLOT_ID_KEY)
+        val slotId = AdapterConfig.from(config).slotId
         loadRewardedVideoInternal(slotId, serverData)
     }
 
     override fun fetchRewardedVideoForAutomaticLoad(config: JSONObject, listener: RewardedVideoSmashListener) {
-        val slotId = config.optString(SLOT_ID_KEY)
+        val adapterConfig = AdapterConfig.from(config)
+        val slotId = adapterConfig.slotId
+
+        if (isInNoFillBackoff(adapterConfig, IronSourceConstants.REWARDED_VIDEO_AD_UNIT)) {
+            setRewardedVideoAdAvailability(slotId, false)
+            listener.onRewardedVideoAvailabilityChanged(false)
+            listener.onRewardedVideoLoadFailed(IronSourceError(IronSourceError.ERROR_RV_LOAD_NO_FILL, NO_FILL_BACKOFF_MESSAGE))
+            return
+        }
+
         loadRewardedVideoInternal(slotId, null)
     }
 
     private fun loadRewardedVideoInternal(slotId: String, serverData: String?) {
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
         setRewardedVideoAdAvailability(slotId, false)
 
-        val rewardedVideoAdListener = mSlotIdToRewardedVideoAdListener[slotId]!!
+        val rewardedVideoAdListener = getRewardedVideoSlot(slotId).adListener!!
         val request = PAGRewardedRequest()
 
         if (serverData != null) {
             request.adString = serverData
         }
 
-        postOnUIThread {
+        mMainThreadDispatcher.dispatch {
+            mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, slotId)
             PAGRewardedAd.loadAd(slotId, request, rewardedVideoAdListener)
         }
     }
 
     override fun showRewardedVideo(config: JSONObject, listener: RewardedVideoSmashListener) {
-        val slotId = config.optString(SLOT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        val slotId = AdapterConfig.from(config).slotId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
         listener.onRewardedVideoAvailabilityChanged(false)
 
-        if (isRewardedVideoAvailable(config)) {
-            val activity = ContextProvider.getInstance().currentActiveActivity
+        val slot = mRewardedVideoSlots[slotId]
 
-            mSlotIdToRewardedVideoAd[slotId]?.let { rewardedVideoAd ->
+        if (slot != null && slot.ad != null && slot.isAvailable) {
+            val activity = ContextProvider.getInstance().currentActiveActivity
 
-                val rewardedVideoAdListener = mSlotIdToRewardedVideoAdListener[slotId]
-                rewardedVideoAd.setAdInteractionListener(rewardedVideoAdListener)
+            slot.ad?.let { rewardedVideoAd ->
+                rewardedVideoAd.setAdInteractionListener(slot.adListener)
 
-                postOnUIThread {
+                mMainThreadDispatcher.dispatch {
+                    mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, slotId)
                     rewardedVideoAd.show(activity)
                 }
             }
@@ -385,12 +460,10 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     override fun isRewardedVideoAvailable(config: JSONObject): Boolean {
-        val slotId = config.optString(SLOT_ID_KEY)
+        val slotId = AdapterConfig.from(config).slotId
 
-        return (!slotId.isNullOrEmpty() &&
-                mSlotIdToRewardedVideoAd.containsKey(slotId) &&
-                mSlotIdToRewardedVideoAdAvailability.containsKey(slotId) &&
-                (mSlotIdToRewardedVideoAdAvailability[slotId] == true))
+        val slot = mRewardedVideoSlots[slotId] ?: return false
+        return slot.ad != null && slot.isAvailable
     }
 
     override fun getRewardedVideoBiddingData(config: JSONObject?): MutableMap<String, Any>? {
@@ -402,40 +475,42 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
     //region Interstitial API
 
     override fun initInterstitialForBidding(appKey: String?, userId: String?, config: JSONObject?, listener: InterstitialSmashListener) {
-        IronLog.INTERNAL.verbose("")
+        AdapterLog.verbose(IronLog.INTERNAL) { "" }
         initInterstitial(appKey, userId, config, listener)
     }
 
     override fun initInterstitial(appKey: String?, userId: String?, config: JSONObject?, listener: InterstitialSmashListener) {
-        val slotId = config?.optString(SLOT_ID_KEY)
-        val appId = config?.optString(APP_ID_KEY)
+        val adapterConfig = config?.let { AdapterConfig.from(it) }
+        val slotId = adapterConfig?.slotId
+        val appId = adapterConfig?.appId
 
         if (slotId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $SLOT_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $SLOT_ID_KEY" }
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $SLOT_ID_KEY", IronSourceConstants.INTERSTITIAL_AD_UNIT))
             return
         }
 
         if (appId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $APP_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $APP_ID_KEY" }
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $APP_ID_KEY", IronSourceConstants.INTERSTITIAL_AD_UNIT))
             return
         }
 
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
 
         val interstitialAdListener = PangleInterstitialAdListener(listener, WeakReference(this), slotId)
 
-        //add to interstitial listener map
-        mSlotIdToInterstitialAdListener[slotId] = interstitialAdListener
-        mSlotIdToInterstitialListener[slotId] = listener
+        //add to interstitial slots
+        val slot = getInterstitialSlot(slotId)
+        slot.adListener = interstitialAdListener
+        slot.smashListener = listener
 
-        when (mInitState) {
+        when (mInitCoordinator.state) {
             InitState.INIT_STATE_SUCCESS -> {
                 listener.onInterstitialInitSuccess()
             }
             InitState.INIT_STATE_FAILED -> {
-                IronLog.INTERNAL.verbose("init failed - slotId = $slotId")
+                AdapterLog.verbose(IronLog.INTERNAL) { "init failed - slotId = $slotId" }
                 listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Pangle SDK init failed", IronSourceConstants.INTERSTITIAL_AD_UNIT))
             }
             else -> {
@@ -445,44 +520,54 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     override fun loadInterstitialForBidding(config: JSONObject, listener: InterstitialSmashListener, serverData: String?) {
-        val slotId = config.optString(SLOT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        val slotId = AdapterConfig.from(config).slotId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
         loadInterstitialInternal(slotId, serverData)
     }
 
     override fun loadInterstitial(config: JSONObject, listener: InterstitialSmashListener) {
-        val slotId = config.optString(SLOT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        val adapterConfig = AdapterConfig.from(config)
+        val slotId = adapterConfig.slotId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
+
+        if (isInNoFillBackoff(adapterConfig, IronSourceConstants.INTERSTITIAL_AD_UNIT)) {
+            setInterstitialAdAvailability(slotId, false)
+            listener.onInterstitialAdLoadFailed(IronSourceError(IronSourceError.ERROR_IS_LOAD_NO_FILL, NO_FILL_BACKOFF_MESSAGE))
+            return
+        }
+
         loadInterstitialInternal(slotId, null)
     }
 
     private fun loadInterstitialInternal(slotId: String, serverData: String?) {
         setInterstitialAdAvailability(slotId, false)
 
-        val interstitialAdListener = mSlotIdToInterstitialAdListener[slotId]!!
+        val interstitialAdListener = getInterstitialSlot(slotId).adListener!!
         val request = PAGInterstitialRequest()
 
         if (serverData != null) {
             request.adString = serverData
         }
 
-        postOnUIThread {
+        mMainThreadDispatcher.dispatch {
+            mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, slotId)
             PAGInterstitialAd.loadAd(slotId, request, interstitialAdListener)
         }
     }
 
     override fun showInterstitial(config: JSONObject, listener: InterstitialSmashListener) {
-        val slotId = config.optString(SLOT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        val slotId = AdapterConfig.from(config).slotId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
 
-        if (isInterstitialReady(config)) {
-            val activity = ContextProvider.getInstance().currentActiveActivity
-            mSlotIdToInterstitialAd[slotId]?.let { interstitialAd ->
+        val slot = mInterstitialSlots[slotId]
 
-                val interstitialAdListener = mSlotIdToInterstitialAdListener[slotId]
-                interstitialAd.setAdInteractionListener(interstitialAdListener)
+        if (slot != null && slot.ad != null && slot.isAvailable) {
+            val activity = ContextProvider.getInstance().currentActiveActivity
+            slot.ad?.let { interstitialAd ->
+                interstitialAd.setAdInteractionListener(slot.adListener)
 
-                postOnUIThread {
+                mMainThreadDispatcher.dispatch {
+                    mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, slotId)
                     interstitialAd.show(activity)
                 }
             }
@@ -498,12 +583,10 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     override fun isInterstitialReady(config: JSONObject): Boolean {
-        val slotId = config.optString(SLOT_ID_KEY)
+        val slotId = AdapterConfig.from(config).slotId
 
-        return (!slotId.isNullOrEmpty() &&
-                mSlotIdToInterstitialAd.containsKey(slotId) &&
-                mSlotIdToInterstitialAdAvailability.containsKey(slotId) &&
-                (mSlotIdToInterstitialAdAvailability[slotId] == true))
+        val slot = mInterstitialSlots[slotId] ?: return false
+        return slot.ad != null && slot.isAvailable
     }
 
     override fun getInterstitialBiddingData(config: JSONObject?): MutableMap<String, Any>? {
@@ -515,32 +598,33 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
     //region Banners API
 
     override fun initBannerForBidding(appKey: String?, userId: String?, config: JSONObject?, listener: BannerSmashListener) {
-        val slotId = config?.optString(SLOT_ID_KEY)
-        val appId = config?.optString(APP_ID_KEY)
+        val adapterConfig = config?.let { AdapterConfig.from(it) }
+        val slotId = adapterConfig?.slotId
+        val appId = adapterConfig?.appId
 
         if (slotId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $SLOT_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $SLOT_ID_KEY" }
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $SLOT_ID_KEY", IronSourceConstants.BANNER_AD_UNIT))
             return
         }
 
         if (appId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $APP_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $APP_ID_KEY" }
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $APP_ID_KEY", IronSourceConstants.BANNER_AD_UNIT))
             return
         }
 
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
 
-        // add to banner listener map
-        mSlotIdToBannerListener[slotId] = listener
+        // add to banner slots
+        getBannerSlot(slotId).smashListener = listener
 
-        when (mInitState) {
+        when (mInitCoordinator.state) {
             InitState.INIT_STATE_SUCCESS -> {
                 listener.onBannerInitSuccess()
             }
             InitState.INIT_STATE_FAILED -> {
-                IronLog.INTERNAL.verbose("init failed - slotId = $slotId")
+                AdapterLog.verbose(IronLog.INTERNAL) { "init failed - slotId = $slotId" }
                 listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Pangle SDK init failed", IronSourceConstants.BANNER_AD_UNIT))
             }
             else -> {
@@ -551,60 +635,60 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
 
     //The Pangle adapter only supports banner bidding flows, given that this method is for non bidding flow it is unused
     override fun initBanners(appKey: String?, userId: String?, config: JSONObject?, listener: BannerSmashListener) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     override fun loadBannerForBidding(banner: IronSourceBannerLayout?, config: JSONObject, listener: BannerSmashListener, serverData: String?) {
-        val slotId = config.optString(SLOT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        val slotId = AdapterConfig.from(config).slotId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
 
         if (banner == null) {
-            IronLog.INTERNAL.error("banner is null")
+            AdapterLog.error(IronLog.INTERNAL) { "banner is null" }
             listener.onBannerAdLoadFailed(ErrorBuilder.buildNoConfigurationAvailableError("banner is null"))
             return
         }
 
         val layoutParams: FrameLayout.LayoutParams = getBannerLayoutParams(banner.size)
         val bannerAdListener = PangleBannerAdListener(listener, WeakReference(this), slotId, layoutParams)
-        mSlotIdToBannerAdListener[slotId] = bannerAdListener
+        getBannerSlot(slotId).adListener = bannerAdListener
 
         val adSize = getBannerSize(banner.size)
         val bannerRequest = PAGBannerRequest(adSize)
         bannerRequest.adString = serverData
 
-        postOnUIThread {
+        mMainThreadDispatcher.dispatch {
+            mLatencyTracker.onLoadStarted(IronSourceConstants.BANNER_AD_UNIT, slotId)
             PAGBannerAd.loadAd(slotId, bannerRequest, bannerAdListener)
         }
     }
 
     //The Pangle adapter only supports banner bidding flows, given that this method is for non bidding flow it is unused
     override fun loadBanner(banner: IronSourceBannerLayout?, config: JSONObject?, listener: BannerSmashListener?) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     //The Pangle adapter only supports banner bidding flows, given that this method is for non bidding flow it is unused
     override fun reloadBanner(banner: IronSourceBannerLayout?, config: JSONObject?, listener: BannerSmashListener?) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     override fun destroyBanner(config: JSONObject?) {
-        val slotId = config?.optString(SLOT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("slotId = $slotId")
+        val slotId = config?.let { AdapterConfig.from(it) }?.slotId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "slotId = $slotId" }
+
+        // Remove banner view from the slot
+        val bannerAd = if (slotId.isNullOrEmpty()) null else mBannerSlots[slotId]?.takeAd()
 
-        if (!mSlotIdToBannerView.containsKey(slotId)) {
-            IronLog.ADAPTER_API.verbose("Banner is already destroyed")
+        if (bannerAd == null) {
+            AdapterLog.verbose(IronLog.ADAPTER_API) { "Banner is already destroyed" }
             return
         }
 
-        if (!slotId.isNullOrEmpty()) {
-            postOnUIThread {
-                // The listener needs to be set to null prior to the destroying of the banner to prevent a memory leak
-                mSlotIdToBannerView[slotId]?.setAdInteractionListener(null)
-                // Destroy banner
-                mSlotIdToBannerView[slotId]?.destroy()
-                // Remove banner view from map
-                mSlotIdToBannerView.remove(slotId)
-            }
+        mMainThreadDispatcher.dispatch {
+            // The listener needs to be set to null prior to the destroying of the banner to prevent a memory leak
+            bannerAd.setAdInteractionListener(null)
+            // Destroy banner
+            bannerAd.destroy()
         }
     }
 
@@ -617,34 +701,27 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
     //region memory handling
 
     override fun releaseMemory(adUnit: AD_UNIT, config: JSONObject?) {
-        IronLog.INTERNAL.verbose("adUnit = $adUnit")
+        AdapterLog.verbose(IronLog.INTERNAL) { "adUnit = $adUnit" }
 
         when (adUnit) {
             AD_UNIT.REWARDED_VIDEO -> {
-                mSlotIdToRewardedVideoAd.forEach { (_, rewardVideoAd) -> rewardVideoAd.setAdInteractionListener(null) }
-                mSlotIdToRewardedVideoListener.clear()
-                mSlotIdToRewardedVideoAdListener.clear()
-                mSlotIdToRewardedVideoAd.clear()
-                mSlotIdToRewardedVideoAdAvailability.clear()
-                mRewardedVideoSlotIdsForInitCallbacks.clear()
+                mRewardedVideoSlots.forEach { (_, slot) -> slot.ad?.setAdInteractionListener(null) }
+                mRewardedVideoSlots.clear()
             }
             AD_UNIT.INTERSTITIAL -> {
-                mSlotIdToInterstitialAd.forEach { (_, interstitialAd) -> interstitialAd.setAdInteractionListener(null) }
-                mSlotIdToInterstitialListener.clear()
-                mSlotIdToInterstitialAdListener.clear()
-                mSlotIdToInterstitialAd.clear()
-                mSlotIdToInterstitialAdAvailability.clear()
+                mInterstitialSlots.forEach { (_, slot) -> slot.ad?.setAdInteractionListener(null) }
+                mInterstitialSlots.clear()
             }
             AD_UNIT.BANNER -> {
-                mSlotIdToBannerView.forEach { (_, bannerAd) ->
-                    postOnUIThread {
-                        bannerAd.setAdInteractionListener(null)
-                        bannerAd.destroy()
-                        mSlotIdToBannerListener.clear()
-                        mSlotIdToBannerAdListener.clear()
-                        mSlotIdToBannerView.clear()
+                mBannerSlots.forEach { (_, slot) ->
+                    slot.takeAd()?.let { bannerAd ->
+                        mMainThreadDispatcher.dispatch {
+                            bannerAd.setAdInteractionListener(null)
+                            bannerAd.destroy()
+                        }
                     }
                 }
+                mBannerSlots.clear()
             }
             else -> {}
         }
@@ -661,7 +738,7 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
 
         // This is a list of 1 value
         val value = values[0]
-        IronLog.ADAPTER_API.verbose("key = $key, value = $value")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "key = $key, value = $value" }
 
         when {
             MetaDataUtils.isValidCCPAMetaData(key, value) -> {
@@ -670,6 +747,9 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
             isCOPPAMetaData(key, value) -> {
                 setCOPPAValue(value)
             }
+            key.equals(META_DATA_PANGLE_BIDDING_TOKEN_TTL_KEY, ignoreCase = true) -> {
+                mBiddingTokenCache.setTtlFromMetaData(value)
+            }
         }
     }
 
@@ -687,8 +767,11 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
             ccpaValueString = "PAG_DO_NOT_SELL_TYPE_SELL"
         }
 
-        IronLog.ADAPTER_API.verbose("ccpaValue = $ccpaValueString")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "ccpaValue = $ccpaValueString" }
         mPAGConfigBuilder.setDoNotSell(ccpaValue)
+
+        // the token carries the privacy settings, don't serve one built with the previous value
+        mBiddingTokenCache.invalidate()
     }
 
     private fun isCOPPAMetaData(key: String, value: String): Boolean {
@@ -714,8 +797,9 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
             }
         }
 
-        IronLog.ADAPTER_API.verbose("coppaValue = $coppaValueString")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "coppaValue = $coppaValueString" }
         mPAGConfigBuilder.setChildDirected(coppaValue)
+        mBiddingTokenCache.invalidate()
     }
 
     override fun setConsent(consent: Boolean) {
@@ -730,58 +814,34 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
             gdprValueString = "PAG_GDPR_CONSENT_TYPE_NO_CONSENT"
         }
 
-        IronLog.ADAPTER_API.verbose("consent = $gdprValueString")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "consent = $gdprValueString" }
         mPAGConfigBuilder.setGDPRConsent(gdprValue)
+        mBiddingTokenCache.invalidate()
     }
 
     //endregion
 
     //region Helpers
 
-    private fun getBannerSize(bannerSize: ISBannerSize): PAGBannerSize {
-        return when (bannerSize.description) {
-            "BANNER" -> PAGBannerSize.BANNER_W_320_H_50
-            "RECTANGLE" -> PAGBannerSize.BANNER_W_300_H_250
-            "SMART" ->
-                (if (AdapterUtils.isLargeScreen(ContextProvider.getInstance().currentActiveActivity)) {
-                    PAGBannerSize.BANNER_W_728_H_90
-                } else {
-                    PAGBannerSize.BANNER_W_320_H_50
-                })
-            else -> PAGBannerSize(0, 0)
+    // True if the slot enables the no fill backoff and is cooling down after a no fill, its non bidding load fails right away then
+    private fun isInNoFillBackoff(adapterConfig: AdapterConfig, adUnit: String): Boolean {
+        val slotId = adapterConfig.slotId
+
+        if (!adapterConfig.isNoFillBackoffEnabled || !mNoFillBackoff.isCoolingDown(adUnit, slotId)) {
+            return false
         }
-    }
 
-    private fun getBannerLayoutParams(size: ISBannerSize): FrameLayout.LayoutParams {
-        val activity = ContextProvider.getInstance().currentActiveActivity
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "no fill backoff - slotId = $slotId" }
+        return true
+    }
 
-        val layoutParams = when (size.description) {
-            "BANNER" -> FrameLayout.LayoutParams(
-                    AdapterUtils.dpToPixels(activity, 320),
-                    AdapterUtils.dpToPixels(activity, 50)
-            )
-            "RECTANGLE" -> FrameLayout.LayoutParams(
-                    AdapterUtils.dpToPixels(activity, 300),
-                    AdapterUtils.dpToPixels(activity, 250)
-            )
-            "SMART" ->
-                if (AdapterUtils.isLargeScreen(activity)) {
-                    FrameLayout.LayoutParams(
-                            AdapterUtils.dpToPixels(activity, 728),
-                            AdapterUtils.dpToPixels(activity, 90)
-                    )
-                } else {
-                    FrameLayout.LayoutParams(
-                            AdapterUtils.dpToPixels(activity, 320),
-                            AdapterUtils.dpToPixels(activity, 50)
-                    )
-                }
-            else -> FrameLayout.LayoutParams(0, 0)
-        }
+    private fun getBannerSize(bannerSize: ISBannerSize): PAGBannerSize {
+        return mBannerLayoutCache.getLayout(bannerSize, mBannerSizeResolver)?.networkSize ?: PAGBannerSize(0, 0)
+    }
 
-        // Set gravity
-        layoutParams.gravity = Gravity.CENTER
-        return layoutParams
+    private fun getBannerLayoutParams(size: ISBannerSize): FrameLayout.LayoutParams {
+        val layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver)
+        return layout?.createLayoutParams() ?: FrameLayout.LayoutParams(0, 0, Gravity.CENTER)
     }
 
     // Get the mediation info
@@ -798,56 +858,71 @@ class PangleAdapter(providerName: String) : AbstractAdapter(providerName),
             adapterObject.put(VALUE_KEY, VERSION)
             mediationInfo.put(adapterObject)
 
-            IronLog.INTERNAL.verbose("mediationInfo = $mediationInfo")
+            AdapterLog.verbose(IronLog.INTERNAL) { "mediationInfo = $mediationInfo" }
         } catch (exception: JSONException) {
-            IronLog.INTERNAL.error("Error while creating mediation info object - $exception")
+            AdapterLog.error(IronLog.INTERNAL) { "Error while creating mediation info object - $exception" }
         }
 
         return mediationInfo.toString()
     }
 
+    private fun getRewardedVideoSlot(slotId: String): PlacementSlot<RewardedVideoSmashListener, PAGRewardedAd, PangleRewardedVideoAdListener> {
+        return PlacementSlot.obtain(mRewardedVideoSlots, slotId)
+    }
+
+    private fun getInterstitialSlot(slotId: String): PlacementSlot<InterstitialSmashListener, PAGInterstitialAd, PangleInterstitialAdListener> {
+        return PlacementSlot.obtain(mInterstitialSlots, slotId)
+    }
+
+    private fun getBannerSlot(slotId: String): PlacementSlot<BannerSmashListener, PAGBannerAd, PangleBannerAdListener> {
+        return PlacementSlot.obtain(mBannerSlots, slotId)
+    }
+
     internal fun setRewardedVideoAd(slotId: String, rewardedVideoAd: PAGRewardedAd?) {
         if (rewardedVideoAd != null) {
-            mSlotIdToRewardedVideoAd[slotId] = rewardedVideoAd
+            getRewardedVideoSlot(slotId).ad = rewardedVideoAd
         }
     }
 
     internal fun setRewardedVideoAdAvailability(slotId: String, isAvailable: Boolean) {
-        mSlotIdToRewardedVideoAdAvailability[slotId] = isAvailable
+        if (isAvailable) {
+            getRewardedVideoSlot(slotId).markAvailable()
+        } else {
+            getRewardedVideoSlot(slotId).markUnavailable()
+        }
     }
 
     internal fun setInterstitialAd(slotId: String, interstitialAd: PAGInterstitialAd?) {
         if (interstitialAd != null) {
-            mSlotIdToInterstitialAd[slotId] = interstitialAd
+            getInterstitialSlot(slotId).ad = interstitialAd
         }
     }
 
     internal fun setInterstitialAdAvailability(slotId: String, isAvailable: Boolean) {
-        mSlotIdToInterstitialAdAvailability[slotId] = isAvailable
+        if (isAvailable) {
+            getInterstitialSlot(slotId).markAvailable()
+        } else {
+            getInterstitialSlot(slotId).markUnavailable()
+        }
     }
 
     internal fun setBannerAd(slotId: String, bannerAd: PAGBannerAd?) {
         if (bannerAd != null) {
-            mSlotIdToBannerView[slotId] = bannerAd
-            val bannerAdListener = mSlotIdToBannerAdListener[slotId]
-            bannerAd.setAdInteractionListener(bannerAdListener)
+            val slot = getBannerSlot(slotId)
+            slot.ad = bannerAd
+            bannerAd.setAdInteractionListener(slot.adListener)
         }
     }
 
     private fun getBiddingData(): MutableMap<String, Any>? {
-        if (mInitState != InitState.INIT_STATE_SUCCESS) {
-            IronLog.INTERNAL.error("returning null as token since init is not successful")
+        if (mInitCoordinator.state != InitState.INIT_STATE_SUCCESS) {
+            AdapterLog.error(IronLog.INTERNAL) { "returning null as token since init is not successful" }
             return null
         }
 
         val ret: MutableMap<String, Any> = HashMap()
-        var bidderToken = PAGSdk.getBiddingToken()
-
-        if (bidderToken.isNullOrEmpty()) {
-            bidderToken = ""
-        }
-
-        IronLog.ADAPTER_API.verbose("token = $bidderToken")
+        val bidderToken = mBiddingTokenCache.getToken()
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "token = $bidderToken" }
         ret["token"] = bidderToken
         return ret
     }
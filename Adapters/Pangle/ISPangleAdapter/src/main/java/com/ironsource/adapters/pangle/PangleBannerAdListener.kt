@@ -7,6 +7,7 @@ import com.bytedance.sdk.openadsdk.api.banner.PAGBannerAdLoadListener
 import com.ironsource.mediationsdk.logger.IronLog
 import com.ironsource.mediationsdk.logger.IronSourceError
 import com.ironsource.mediationsdk.sdk.BannerSmashListener
+import com.ironsource.mediationsdk.utils.IronSourceConstants
 import java.lang.ref.WeakReference
 
 class PangleBannerAdListener(private val mListener: BannerSmashListener?,
@@ -18,14 +19,16 @@ class PangleBannerAdListener(private val mListener: BannerSmashListener?,
 
     //This method is executed when an ad material is loaded successfully.
     override fun onAdLoaded(bannerAd: PAGBannerAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
+        PangleAdapter.mLatencyTracker.onLoadSucceeded(IronSourceConstants.BANNER_AD_UNIT, mSlotId)
         mAdapter?.get()?.setBannerAd(mSlotId, bannerAd)
         mListener?.onBannerAdLoaded(bannerAd.bannerView, mLayoutParams)
     }
 
     //This method is invoked when an ad fails to load. It includes an error parameter of type Error that indicates what type of failure occurred.
     override fun onError(code: Int, message: String) {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId, error code = $code, message = $message")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId, error code = $code, message = $message" }
+        PangleAdapter.mLatencyTracker.onLoadFailed(IronSourceConstants.BANNER_AD_UNIT, mSlotId)
         val errorCode = if (code == PangleAdapter.PANGLE_NO_FILL_ERROR_CODE) IronSourceError.ERROR_BN_LOAD_NO_FILL else code
         mListener?.onBannerAdLoadFailed(IronSourceError(errorCode, message))
     }
@@ -34,18 +37,18 @@ class PangleBannerAdListener(private val mListener: BannerSmashListener?,
 
     //This method is invoked when the ad is displayed, covering the device's screen.
     override fun onAdShowed() {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
         mListener?.onBannerAdShown()
     }
 
     //This method is invoked when the ad is clicked by the user.
     override fun onAdClicked() {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
         mListener?.onBannerAdClicked()
     }
 
     //This method is invoked when the ad disappears.
     override fun onAdDismissed() {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
     }
 }
\ No newline at end of file
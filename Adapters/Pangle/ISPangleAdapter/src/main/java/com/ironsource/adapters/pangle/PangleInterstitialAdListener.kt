@@ -6,6 +6,7 @@ import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialAdLoadListene
 import com.ironsource.mediationsdk.logger.IronLog
 import com.ironsource.mediationsdk.logger.IronSourceError
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener
+import com.ironsource.mediationsdk.utils.IronSourceConstants
 import java.lang.ref.WeakReference
 
 class PangleInterstitialAdListener(private val mListener: InterstitialSmashListener?,
@@ -16,7 +17,9 @@ class PangleInterstitialAdListener(private val mListener: InterstitialSmashListe
 
     //This method is executed when an ad material is loaded successfully.
     override fun onAdLoaded(interstitialAd: PAGInterstitialAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
+        PangleAdapter.mLatencyTracker.onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, mSlotId)
+        PangleAdapter.mNoFillBackoff.onFill(IronSourceConstants.INTERSTITIAL_AD_UNIT, mSlotId)
         mAdapter?.get()?.setInterstitialAd(mSlotId, interstitialAd)
         mAdapter?.get()?.setInterstitialAdAvailability(mSlotId, true)
         mListener?.onInterstitialAdReady()
@@ -24,9 +27,16 @@ class PangleInterstitialAdListener(private val mListener: InterstitialSmashListe
 
     //This method is invoked when an ad fails to load. It includes an error parameter of type Error that indicates what type of failure occurred.
     override fun onError(code: Int, message: String) {
-        IronLog.ADAPTER_CALLBACK.verbose("Failed to load slotId = $mSlotId, error code = $code, message = $message")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "Failed to load slotId = $mSlotId, error code = $code, message = $message" }
+        PangleAdapter.mLatencyTracker.onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mSlotId)
         mAdapter?.get()?.setInterstitialAdAvailability(mSlotId, false)
-        val errorCode = if (code == PangleAdapter.PANGLE_NO_FILL_ERROR_CODE) IronSourceError.ERROR_IS_LOAD_NO_FILL else code
+        val isNoFill = code == PangleAdapter.PANGLE_NO_FILL_ERROR_CODE
+
+        if (isNoFill) {
+            PangleAdapter.mNoFillBackoff.onNoFill(IronSourceConstants.INTERSTITIAL_AD_UNIT, mSlotId)
+        }
+
+        val errorCode = if (isNoFill) IronSourceError.ERROR_IS_LOAD_NO_FILL else code
         mListener?.onInterstitialAdLoadFailed(IronSourceError(errorCode, message))
     }
 
@@ -34,20 +44,21 @@ class PangleInterstitialAdListener(private val mListener: InterstitialSmashListe
 
     //This method is invoked when the ad is displayed, covering the device's screen.
     override fun onAdShowed() {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
+        PangleAdapter.mLatencyTracker.onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, mSlotId)
         mListener?.onInterstitialAdOpened()
         mListener?.onInterstitialAdShowSucceeded()
     }
 
     //This method is invoked when the ad is clicked by the user.
     override fun onAdClicked() {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
         mListener?.onInterstitialAdClicked()
     }
 
     //This method is invoked when the ad disappears.
     override fun onAdDismissed() {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
         mListener?.onInterstitialAdClosed()
     }
 }
\ No newline at end of file
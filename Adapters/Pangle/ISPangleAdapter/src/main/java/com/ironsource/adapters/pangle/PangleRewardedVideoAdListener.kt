@@ -7,6 +7,7 @@ import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAdLoadListener
 import com.ironsource.mediationsdk.logger.IronLog
 import com.ironsource.mediationsdk.logger.IronSourceError
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener
+import com.ironsource.mediationsdk.utils.IronSourceConstants
 import java.lang.ref.WeakReference
 
 class PangleRewardedVideoAdListener(private val mListener: RewardedVideoSmashListener?,
@@ -17,7 +18,9 @@ class PangleRewardedVideoAdListener(private val mListener: RewardedVideoSmashLis
 
     //This method is executed when an ad material is loaded successfully.
     override fun onAdLoaded(rewardedAd: PAGRewardedAd) {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
+        PangleAdapter.mLatencyTracker.onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mSlotId)
+        PangleAdapter.mNoFillBackoff.onFill(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mSlotId)
         mAdapter?.get()?.setRewardedVideoAd(mSlotId, rewardedAd)
         mAdapter?.get()?.setRewardedVideoAdAvailability(mSlotId, true)
         mListener?.onRewardedVideoAvailabilityChanged(true)
@@ -25,10 +28,17 @@ class PangleRewardedVideoAdListener(private val mListener: RewardedVideoSmashLis
 
     //This method is invoked when an ad fails to load. It includes an error parameter of type Error that indicates what type of failure occurred.
     override fun onError(code: Int, message: String) {
-        IronLog.ADAPTER_CALLBACK.verbose("Failed to load slotId = $mSlotId, error code = $code, message = $message")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "Failed to load slotId = $mSlotId, error code = $code, message = $message" }
+        PangleAdapter.mLatencyTracker.onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mSlotId)
         mAdapter?.get()?.setRewardedVideoAdAvailability(mSlotId, false)
         mListener?.onRewardedVideoAvailabilityChanged(false)
-        val errorCode = if (code == PangleAdapter.PANGLE_NO_FILL_ERROR_CODE) IronSourceError.ERROR_RV_LOAD_NO_FILL else code
+        val isNoFill = code == PangleAdapter.PANGLE_NO_FILL_ERROR_CODE
+
+        if (isNoFill) {
+            PangleAdapter.mNoFillBackoff.onNoFill(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mSlotId)
+        }
+
+        val errorCode = if (isNoFill) IronSourceError.ERROR_RV_LOAD_NO_FILL else code
         mListener?.onRewardedVideoLoadFailed(IronSourceError(errorCode, message))
     }
 
@@ -36,31 +46,32 @@ class PangleRewardedVideoAdListener(private val mListener: RewardedVideoSmashLis
 
     //This method is invoked when the ad is displayed, covering the device's screen.
     override fun onAdShowed() {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
+        PangleAdapter.mLatencyTracker.onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mSlotId)
         mListener?.onRewardedVideoAdOpened()
         mListener?.onRewardedVideoAdStarted()
     }
 
     //This method is invoked when the ad is clicked by the user.
     override fun onAdClicked() {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
         mListener?.onRewardedVideoAdClicked()
     }
 
     //The method is invoked when the user should be rewarded.
     override fun onUserEarnedReward(rewardedAd: PAGRewardItem) {
-        IronLog.ADAPTER_CALLBACK.verbose("onUserEarnedReward - slotId = $mSlotId, reward amount = ${rewardedAd.rewardAmount}, reward name = ${rewardedAd.rewardName}")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "onUserEarnedReward - slotId = $mSlotId, reward amount = ${rewardedAd.rewardAmount}, reward name = ${rewardedAd.rewardName}" }
         mListener?.onRewardedVideoAdRewarded()
     }
 
     //The method is invoked when the user rewarded failed.
     override fun onUserEarnedRewardFail(code: Int, message: String) {
-        IronLog.ADAPTER_CALLBACK.verbose("Failed to reward slotId = $mSlotId, error code = $code, message = $message")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "Failed to reward slotId = $mSlotId, error code = $code, message = $message" }
     }
 
     //This method is invoked when the ad disappears.
     override fun onAdDismissed() {
-        IronLog.ADAPTER_CALLBACK.verbose("slotId = $mSlotId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "slotId = $mSlotId" }
         mListener?.onRewardedVideoAdEnded()
         mListener?.onRewardedVideoAdClosed()
     }
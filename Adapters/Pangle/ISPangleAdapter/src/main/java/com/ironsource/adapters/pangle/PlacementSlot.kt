@@ -0,0 +1,105 @@
+package com.ironsource.adapters.pangle
+
+import android.os.SystemClock
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Holds everything the adapter keeps for a single slot id of an ad unit - the mediation listener,
+ * the network ad object, the network ad listener, the init callback indication and the ad state.
+ * Each ad unit keeps one map of slots, so a load or show cycle needs a single map lookup and the
+ * availability can never disagree with the ad object stored next to it.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ *
+ * @param L the mediation smash listener type
+ * @param A the network ad object type
+ * @param N the network ad listener type
+ */
+internal class PlacementSlot<L, A, N> {
+
+    private val mState = AtomicInteger(STATE_NOT_AVAILABLE)
+    private val mAd = AtomicReference<A?>(null)
+
+    @Volatile
+    var smashListener: L? = null
+
+    @Volatile
+    var adListener: N? = null
+
+    @Volatile
+    var isInitCallbackRequired = false
+
+    @Volatile
+    private var mAvailableTime: Long = 0
+
+    var ad: A?
+        get() = mAd.get()
+        set(value) = mAd.set(value)
+
+    val isAvailable: Boolean
+        get() = mState.get() == STATE_AVAILABLE
+
+    val isShowCalled: Boolean
+        get() = mState.get() == STATE_SHOW_CALLED
+
+    // Removes the ad from the slot and returns it, so only one caller gets to destroy it
+    fun takeAd(): A? {
+        return mAd.getAndSet(null)
+    }
+
+    // A new load clears both the availability and the show indication
+    fun onLoadStarted() {
+        mState.set(STATE_NOT_AVAILABLE)
+    }
+
+    // Returns false if the ad was already shown in the meantime
+    fun markAvailable(): Boolean {
+        if (!mState.compareAndSet(STATE_NOT_AVAILABLE, STATE_AVAILABLE)) {
+            return false
+        }
+
+        mAvailableTime = SystemClock.elapsedRealtime()
+        return true
+    }
+
+    // Clears the availability, keeping the show indication if show was already called
+    fun markUnavailable() {
+        mState.compareAndSet(STATE_AVAILABLE, STATE_NOT_AVAILABLE)
+    }
+
+    fun markShowCalled() {
+        mState.set(STATE_SHOW_CALLED)
+    }
+
+    // Removes the ad if it has been available for at least maxAgeMillis and show wasn't called yet,
+    // clearing the availability with it. Returns the removed ad so the caller can release it
+    fun evictAvailableAd(maxAgeMillis: Long): A? {
+        if (!isAvailable || SystemClock.elapsedRealtime() - mAvailableTime < maxAgeMillis) {
+            return null
+        }
+
+        if (!mState.compareAndSet(STATE_AVAILABLE, STATE_NOT_AVAILABLE)) {
+            return null
+        }
+
+        return takeAd()
+    }
+
+    companion object {
+        // ad state possible values
+        private const val STATE_NOT_AVAILABLE = 0
+        private const val STATE_AVAILABLE = 1
+        private const val STATE_SHOW_CALLED = 2
+
+        // Returns the slot of the slot id, creating it on first use
+        fun <L, A, N> obtain(slots: ConcurrentHashMap<String, PlacementSlot<L, A, N>>, slotId: String): PlacementSlot<L, A, N> {
+            slots[slotId]?.let { return it }
+
+            val newSlot = PlacementSlot<L, A, N>()
+            return slots.putIfAbsent(slotId, newSlot) ?: newSlot
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.ironsource.adapters.tapjoy;
+
+import android.os.SystemClock;
+import android.text.TextUtils;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the last good bidding token of the network so building an auction request doesn't wait on the network SDK.
+ * The cached token is returned right away, and once it is older than the TTL a single refresh is started on a
+ * background thread. The network SDK is called on the calling thread only while no token was cached yet.
+ * The token is built with the privacy settings of the user, so a change of these drops the cached token.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+final class BiddingTokenCache {
+
+    interface TokenFetcher {
+        // Called on the auction thread for a cold cache and on a background thread for a refresh
+        String fetchToken();
+    }
+
+    static final long DEFAULT_TTL_MILLIS = 60 * 1000;
+
+    // A failed refresh is retried after this interval, not on every auction
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 10 * 1000;
+
+    // Refreshes are rare and short, one thread runs them for every cache of the network
+    private static final ExecutorService sRefreshExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "BiddingTokenRefresh");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private static final class Entry {
+        private final String mToken;
+        private final long mFetchTime;
+
+        private Entry(String token, long fetchTime) {
+            mToken = token;
+            mFetchTime = fetchTime;
+        }
+    }
+
+    private final TokenFetcher mFetcher;
+    private final AtomicReference<Entry> mEntry = new AtomicReference<>();
+    private final AtomicBoolean mRefreshInProgress = new AtomicBoolean(false);
+    // Changed by every invalidation, a token fetched before one is not cached
+    private final AtomicLong mGeneration = new AtomicLong();
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+    private final AtomicLong mRefreshes = new AtomicLong();
+    private final AtomicLong mInvalidations = new AtomicLong();
+    private volatile long mTtlMillis = DEFAULT_TTL_MILLIS;
+    private volatile long mLastRefreshTime = 0;
+
+    private final Runnable mRefreshRunnable = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                long generation;
+
+                // fetch again if the cache was invalidated while fetching
+                do {
+                    generation = mGeneration.get();
+                    fetchAndStore();
+                } while (generation != mGeneration.get());
+
+                mRefreshes.incrementAndGet();
+            } finally {
+                mRefreshInProgress.set(false);
+            }
+        }
+    };
+
+    BiddingTokenCache(TokenFetcher fetcher) {
+        mFetcher = fetcher;
+    }
+
+    // Sets the TTL from a meta data value given in seconds, an invalid value is ignored
+    void setTtlFromMetaData(String value) {
+        try {
+            long ttlSeconds = Long.parseLong(value.trim());
+
+            if (ttlSeconds >= 0) {
+                mTtlMillis = ttlSeconds * 1000;
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+
+        AdapterLog.error(IronLog.INTERNAL, "invalid bidding token ttl = {}", value);
+    }
+
+    // Returns the cached token, or an empty string if the network has no token to give
+    String getToken() {
+        Entry entry = mEntry.get();
+
+        if (entry == null) {
+            mMisses.incrementAndGet();
+            return fetchAndStore();
+        }
+
+        mHits.incrementAndGet();
+        long now = SystemClock.elapsedRealtime();
+
+        if (now - entry.mFetchTime >= mTtlMillis && now - mLastRefreshTime >= MIN_REFRESH_INTERVAL_MILLIS) {
+            refresh();
+        }
+
+        return entry.mToken;
+    }
+
+    // Fetches a new token in the background regardless of the age of the cached one,
+    // to be called when the network state changes in a way that affects the token (e.g. init finished)
+    void refresh() {
+        if (!mRefreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+
+        mLastRefreshTime = SystemClock.elapsedRealtime();
+
+        try {
+            sRefreshExecutor.execute(mRefreshRunnable);
+        } catch (Throwable e) {
+            mRefreshInProgress.set(false);
+            AdapterLog.error(IronLog.INTERNAL, "failed to start the token refresh - {}", e.getMessage());
+        }
+    }
+
+    // Drops the cached token and fetches a new one in the background, to be called when a privacy setting changes.
+    // Until the new token is cached the network SDK is called on the calling thread.
+    void invalidate() {
+        mGeneration.incrementAndGet();
+        mEntry.set(null);
+        mInvalidations.incrementAndGet();
+        refresh();
+    }
+
+    JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("hits", mHits.get());
+            stats.put("misses", mMisses.get());
+            stats.put("refreshes", mRefreshes.get());
+            stats.put("invalidations", mInvalidations.get());
+            stats.put("ttlMillis", mTtlMillis);
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the token cache stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    private String fetchAndStore() {
+        long generation = mGeneration.get();
+        String token = null;
+
+        try {
+            token = mFetcher.fetchToken();
+        } catch (Throwable e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to fetch the bidding token - {}", e.getMessage());
+        }
+
+        if (TextUtils.isEmpty(token)) {
+            // keep serving the previous token, an empty one is not worth caching
+            return "";
+        }
+
+        Entry entry = new Entry(token, SystemClock.elapsedRealtime());
+        mEntry.set(entry);
+
+        if (generation != mGeneration.get()) {
+            // a privacy setting changed while fetching, the token may have been built with the previous value
+            mEntry.compareAndSet(entry, null);
+        }
+
+        return token;
+    }
+}
@@ -3,6 +3,7 @@ package com.ironsource.adapters.tapjoy;
 import android.app.Activity;
 import android.text.TextUtils;
 
+import com.ironsource.adapters.tapjoy.NetworkInitCoordinator.InitState;
 import com.ironsource.environment.ContextProvider;
 import com.ironsource.mediationsdk.AbstractAdapter;
 import com.ironsource.mediationsdk.INetworkInitCallbackListener;
@@ -29,13 +30,10 @@ import com.tapjoy.TapjoyLog;
 import org.json.JSONObject;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.ironsource.mediationsdk.metadata.MetaData.MetaDataValueTypes.META_DATA_VALUE_BOOLEAN;
 
@@ -48,25 +46,19 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
     private static final String GitHash = BuildConfig.GitHash;
 
     // Tapjoy keys
-    private final String SDK_KEY = "sdkKey";
-    private final String PLACEMENT_NAME = "placementName";
+    static final String SDK_KEY = "sdkKey";
+    static final String PLACEMENT_NAME = "placementName";
 
     // Meta data flags
     private final String META_DATA_TAPJOY_COPPA = "Tapjoy_COPPA";
     private final String META_DATA_TAPJOY_ADV_ID_OPT_OUT = "Tapjoy_optOutAdvertisingID";
+    private final String META_DATA_TAPJOY_BIDDING_TOKEN_TTL = "Tapjoy_BiddingTokenTTL";
 
-    // Rewarded video maps
-    protected ConcurrentHashMap<String, TapjoyRewardedVideoAdListener> mRewardedVideoPlacementToTapjoyListener;
-    protected ConcurrentHashMap<String, RewardedVideoSmashListener> mRewardedVideoPlacementToSmashListener;
-    protected ConcurrentHashMap<String, TJPlacement> mRewardedVideoPlacementToAd;
-    protected ConcurrentHashMap<String, Boolean> mRewardedVideoPlacementToIsReady;
-    private CopyOnWriteArraySet<String> mRewardedVideoPlacementsForInitCallbacks;
+    // Rewarded video slots - listeners, placements and ready status per placement name
+    protected ConcurrentHashMap<String, PlacementSlot<RewardedVideoSmashListener, TJPlacement, TapjoyRewardedVideoAdListener>> mRewardedVideoSlots;
 
-    // Interstitial maps
-    protected ConcurrentHashMap<String, InterstitialSmashListener> mInterstitialPlacementToSmashListener;
-    protected ConcurrentHashMap<String, TapjoyInterstitialAdListener> mInterstitialPlacementToTapjoyListener;
-    protected ConcurrentHashMap<String, TJPlacement> mInterstitialPlacementToAd;
-    protected ConcurrentHashMap<String, Boolean> mInterstitialPlacementToIsReady;
+    // Interstitial slots - listeners, placements and ready status per placement name
+    protected ConcurrentHashMap<String, PlacementSlot<InterstitialSmashListener, TJPlacement, TapjoyInterstitialAdListener>> mInterstitialSlots;
 
     // members for network
     private String mUserId;
@@ -74,18 +66,22 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
     // Tapjoy instance
     private static TJPrivacyPolicy tjPrivacyPolicy = Tapjoy.getPrivacyPolicy();
 
-    // init state possible values
-    private enum InitState {
-        INIT_STATE_NONE,
-        INIT_STATE_IN_PROGRESS,
-        INIT_STATE_SUCCESS,
-        INIT_STATE_FAILED
-    }
-
     // Handle init callback for all adapter instances
-    private static AtomicBoolean mWasInitCalled = new AtomicBoolean(false);
-    private static InitState mInitState = InitState.INIT_STATE_NONE;
-    private static HashSet<INetworkInitCallbackListener> initCallbackListeners = new HashSet<>();
+    private static final NetworkInitCoordinator mInitCoordinator = new NetworkInitCoordinator();
+
+    // Init, load and show latencies of all adapter instances
+    private static final LatencyTracker mLatencyTracker = new LatencyTracker();
+
+    // Main thread work of all adapter instances, coalesced into as few main thread messages as possible
+    private static final MainThreadDispatcher mMainThreadDispatcher = new MainThreadDispatcher();
+
+    // Last bidding token of the network, refreshed in the background for all the adapter instances
+    private static final BiddingTokenCache mBiddingTokenCache = new BiddingTokenCache(new BiddingTokenCache.TokenFetcher() {
+        @Override
+        public String fetchToken() {
+            return Tapjoy.getUserToken();
+        }
+    });
 
     //region Adapter Methods
 
@@ -95,20 +91,13 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
     private TapjoyAdapter(String providerName) {
         super(providerName);
-        IronLog.INTERNAL.verbose("");
+        AdapterLog.verbose(IronLog.INTERNAL, "");
 
         // Rewarded video
-        mRewardedVideoPlacementToSmashListener = new ConcurrentHashMap<>();
-        mRewardedVideoPlacementToTapjoyListener = new ConcurrentHashMap<>();
-        mRewardedVideoPlacementToAd = new ConcurrentHashMap<>();
-        mRewardedVideoPlacementToIsReady = new ConcurrentHashMap<>();
-        mRewardedVideoPlacementsForInitCallbacks = new CopyOnWriteArraySet<>();
+        mRewardedVideoSlots = new ConcurrentHashMap<>();
 
         // Interstitial
-        mInterstitialPlacementToSmashListener = new ConcurrentHashMap<>();
-        mInterstitialPlacementToTapjoyListener = new ConcurrentHashMap<>();
-        mInterstitialPlacementToAd = new ConcurrentHashMap<>();
-        mInterstitialPlacementToIsReady = new ConcurrentHashMap<>();
+        mInterstitialSlots = new ConcurrentHashMap<>();
 
         // The network's capability to load a Rewarded Video ad while another Rewarded Video ad of that network is showing
         mLWSSupportState = LoadWhileShowSupportState.LOAD_WHILE_SHOW_BY_INSTANCE;
@@ -135,19 +124,29 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
     public static String getAdapterSDKVersion() {
         return Tapjoy.getVersion();
     }
+
+    // Get the init, load and show latency histograms recorded so far for this network
+    public static JSONObject getLatencySnapshot() {
+        return mLatencyTracker.getSnapshot();
+    }
+
+    static LatencyTracker getLatencyTracker() {
+        return mLatencyTracker;
+    }
+
+    static MainThreadDispatcher getMainThreadDispatcher() {
+        return mMainThreadDispatcher;
+    }
     //endregion
 
     //region Initializations methods and callbacks
     private void initSDK(final String userId, final String sdkKey) {
-        // add self to init delegates only when init not finished yet
-        if (mInitState == InitState.INIT_STATE_NONE || mInitState == InitState.INIT_STATE_IN_PROGRESS) {
-            initCallbackListeners.add(this);
-        }
-
-        if (mWasInitCalled.compareAndSet(false, true)) {
-            IronLog.ADAPTER_API.verbose("initSDK - sdkKey = " + sdkKey);
+        // add self to init delegates, when init already finished the result is delivered right away
+        mInitCoordinator.addListener(this);
 
-            mInitState = InitState.INIT_STATE_IN_PROGRESS;
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "initSDK - sdkKey = {}", sdkKey);
+            mLatencyTracker.onInitStarted();
 
             mUserId = userId;
 
@@ -170,28 +169,23 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
     @Override
     public void onConnectSuccess() {
-        IronLog.ADAPTER_CALLBACK.verbose("onConnectSuccess");
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "onConnectSuccess");
 
-        mInitState = InitState.INIT_STATE_SUCCESS;
-
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackSuccess();
+        if (mInitCoordinator.setInitSucceeded()) {
+            mLatencyTracker.onInitFinished();
+            mBiddingTokenCache.refresh();
+            mInitCoordinator.notifyListeners();
         }
-
-        initCallbackListeners.clear();
     }
 
     @Override
     public void onConnectFailure() {
-        IronLog.ADAPTER_CALLBACK.verbose("onConnectFailure");
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "onConnectFailure");
 
-        mInitState = InitState.INIT_STATE_FAILED;
-
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackFailed("Tapjoy sdk init failed");
+        if (mInitCoordinator.setInitFailed("Tapjoy sdk init failed")) {
+            mLatencyTracker.onInitFinished();
+            mInitCoordinator.notifyListeners();
         }
-
-        initCallbackListeners.clear();
     }
 
     @Override
@@ -200,33 +194,45 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
         Tapjoy.setActivity(ContextProvider.getInstance().getCurrentActiveActivity());
 
-        for (String placementName : mRewardedVideoPlacementToSmashListener.keySet()) {
-            RewardedVideoSmashListener listener = mRewardedVideoPlacementToSmashListener.get(placementName);
-            if (mRewardedVideoPlacementsForInitCallbacks.contains(placementName)) {
+        for (Map.Entry<String, PlacementSlot<RewardedVideoSmashListener, TJPlacement, TapjoyRewardedVideoAdListener>> entry : mRewardedVideoSlots.entrySet()) {
+            RewardedVideoSmashListener listener = entry.getValue().getSmashListener();
+            if (listener == null) {
+                continue;
+            }
+
+            if (entry.getValue().isInitCallbackRequired()) {
                 listener.onRewardedVideoInitSuccess();
             } else {
-                loadRewardedVideoInternal(placementName, null, listener);
+                loadRewardedVideoInternal(entry.getKey(), null, listener);
             }
         }
 
-        for (InterstitialSmashListener listener : mInterstitialPlacementToSmashListener.values()) {
-            listener.onInterstitialInitSuccess();
+        for (PlacementSlot<InterstitialSmashListener, TJPlacement, TapjoyInterstitialAdListener> slot : mInterstitialSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onInterstitialInitSuccess();
+            }
         }
     }
 
     @Override
     public void onNetworkInitCallbackFailed(String error) {
-        for (String placementName : mRewardedVideoPlacementToSmashListener.keySet()) {
-            RewardedVideoSmashListener listener = mRewardedVideoPlacementToSmashListener.get(placementName);
-            if (mRewardedVideoPlacementsForInitCallbacks.contains(placementName)) {
+        for (PlacementSlot<RewardedVideoSmashListener, TJPlacement, TapjoyRewardedVideoAdListener> slot : mRewardedVideoSlots.values()) {
+            RewardedVideoSmashListener listener = slot.getSmashListener();
+            if (listener == null) {
+                continue;
+            }
+
+            if (slot.isInitCallbackRequired()) {
                 listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             } else {
                 listener.onRewardedVideoAvailabilityChanged(false);
             }
         }
 
-        for (InterstitialSmashListener listener : mInterstitialPlacementToSmashListener.values()) {
-            listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.INTERSTITIAL_AD_UNIT));
+        for (PlacementSlot<InterstitialSmashListener, TJPlacement, TapjoyInterstitialAdListener> slot : mInterstitialSlots.values()) {
+            if (slot.getSmashListener() != null) {
+                slot.getSmashListener().onInterstitialInitFailed(ErrorBuilder.buildInitFailedError(error, IronSourceConstants.INTERSTITIAL_AD_UNIT));
+            }
         }
     }
 
@@ -239,33 +245,33 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
     @Override
     // used for flows when the mediation needs to get a callback for init
     public void initRewardedVideoWithCallback(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        String sdkKey = config.optString(SDK_KEY);
-        String placementName = config.optString(PLACEMENT_NAME);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String sdkKey = adapterConfig.getSdkKey();
+        String placementName = adapterConfig.getPlacementName();
 
         if (TextUtils.isEmpty(sdkKey)) {
-            IronLog.INTERNAL.error("Missing params - " + SDK_KEY);
+            AdapterLog.error(IronLog.INTERNAL, "Missing params - {}", SDK_KEY);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + SDK_KEY, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(placementName)) {
-            IronLog.INTERNAL.error("Missing params - " + PLACEMENT_NAME);
+            AdapterLog.error(IronLog.INTERNAL, "Missing params - {}", PLACEMENT_NAME);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + PLACEMENT_NAME, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("sdkKey = " + sdkKey + " placementName = " + placementName);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "sdkKey = {} placementName = {}", sdkKey, placementName);
 
         TapjoyRewardedVideoAdListener rewardedVideoListener = new TapjoyRewardedVideoAdListener(TapjoyAdapter.this, listener, placementName);
 
-        //add to rewarded video listener map
-        mRewardedVideoPlacementToTapjoyListener.put(placementName, rewardedVideoListener);
-        mRewardedVideoPlacementToSmashListener.put(placementName, listener);
+        //add to rewarded video slots and mark the placement for init callbacks
+        PlacementSlot<RewardedVideoSmashListener, TJPlacement, TapjoyRewardedVideoAdListener> slot = getRewardedVideoSlot(placementName);
+        slot.setAdListener(rewardedVideoListener);
+        slot.setSmashListener(listener);
+        slot.setInitCallbackRequired(true);
 
-        //add to rewarded video init callback map
-        mRewardedVideoPlacementsForInitCallbacks.add(placementName);
-
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(userId, sdkKey);
@@ -274,7 +280,7 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
                 listener.onRewardedVideoInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementName = " + placementName);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementName = {}", placementName);
                 listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Tapjoy sdk init failed", IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
                 break;
         }
@@ -283,31 +289,33 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
     @Override
     // used for flows when the mediation doesn't need to get a callback for init
     public void initAndLoadRewardedVideo(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        String sdkKey = config.optString(SDK_KEY);
-        String placementName = config.optString(PLACEMENT_NAME);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String sdkKey = adapterConfig.getSdkKey();
+        String placementName = adapterConfig.getPlacementName();
 
         if (TextUtils.isEmpty(sdkKey)) {
-            IronLog.INTERNAL.error("Missing params - " + SDK_KEY);
+            AdapterLog.error(IronLog.INTERNAL, "Missing params - {}", SDK_KEY);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
         if (TextUtils.isEmpty(placementName)) {
-            IronLog.INTERNAL.error("Missing params - " + PLACEMENT_NAME);
+            AdapterLog.error(IronLog.INTERNAL, "Missing params - {}", PLACEMENT_NAME);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("sdkKey = " + sdkKey + " placementName = " + placementName);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "sdkKey = {} placementName = {}", sdkKey, placementName);
 
         TapjoyRewardedVideoAdListener rewardedVideoListener = new TapjoyRewardedVideoAdListener(TapjoyAdapter.this, listener, placementName);
 
-        //add to rewarded video listener map
-        mRewardedVideoPlacementToTapjoyListener.put(placementName, rewardedVideoListener);
-        mRewardedVideoPlacementToSmashListener.put(placementName, listener);
-        mRewardedVideoPlacementToIsReady.put(placementName, false);
+        //add to rewarded video slots
+        PlacementSlot<RewardedVideoSmashListener, TJPlacement, TapjoyRewardedVideoAdListener> slot = getRewardedVideoSlot(placementName);
+        slot.setAdListener(rewardedVideoListener);
+        slot.setSmashListener(listener);
+        slot.markUnavailable();
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(userId, sdkKey);
@@ -316,7 +324,7 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
                 loadRewardedVideoInternal(placementName, null, listener);
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementName = " + placementName);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementName = {}", placementName);
                 listener.onRewardedVideoAvailabilityChanged(false);
                 break;
         }
@@ -324,21 +332,22 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
     @Override
     public void loadRewardedVideoForBidding(JSONObject config, final RewardedVideoSmashListener listener, final String serverData) {
-        final String placementName = config.optString(PLACEMENT_NAME);
+        final String placementName = AdapterConfig.from(config).getPlacementName();
         loadRewardedVideoInternal(placementName, serverData, listener);
     }
 
     @Override
     public void fetchRewardedVideoForAutomaticLoad(final JSONObject config, final RewardedVideoSmashListener listener) {
-        final String placementName = config.optString(PLACEMENT_NAME);
+        final String placementName = AdapterConfig.from(config).getPlacementName();
         loadRewardedVideoInternal(placementName, null, listener);
     }
 
     private void loadRewardedVideoInternal(final String placementName, final String serverData, final RewardedVideoSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("placementName = " + placementName);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementName = {}", placementName);
 
         TJPlacement placement;
-        TapjoyRewardedVideoAdListener rewardedVideoListener = mRewardedVideoPlacementToTapjoyListener.get(placementName);
+        PlacementSlot<RewardedVideoSmashListener, TJPlacement, TapjoyRewardedVideoAdListener> slot = getRewardedVideoSlot(placementName);
+        TapjoyRewardedVideoAdListener rewardedVideoListener = slot.getAdListener();
         if (!TextUtils.isEmpty(serverData)) {
             placement = getTJBiddingPlacement(placementName, serverData, rewardedVideoListener);
         } else {
@@ -347,7 +356,8 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
         if (placement != null) {
             placement.setVideoListener(rewardedVideoListener);
-            mRewardedVideoPlacementToAd.put(placementName, placement);
+            slot.setAd(placement);
+            mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementName);
             placement.requestContent();
         } else {
             listener.onRewardedVideoAvailabilityChanged(false);
@@ -356,33 +366,37 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
     @Override
     public void showRewardedVideo(final JSONObject config, final RewardedVideoSmashListener listener) {
-        final String placementName = config.optString(PLACEMENT_NAME);
-        IronLog.ADAPTER_API.verbose("placementName = " + placementName);
+        final String placementName = AdapterConfig.from(config).getPlacementName();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementName = {}", placementName);
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 //change rewarded video availability to false
                 listener.onRewardedVideoAvailabilityChanged(false);
 
-                if (isRewardedVideoAvailable(config)) {
-                    TJPlacement placement = mRewardedVideoPlacementToAd.get(placementName);
-                    placement.showContent();
+                PlacementSlot<RewardedVideoSmashListener, TJPlacement, TapjoyRewardedVideoAdListener> slot = mRewardedVideoSlots.get(placementName);
+
+                if (slot != null && slot.isAvailable() && slot.getAd() != null) {
+                    mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementName);
+                    slot.getAd().showContent();
                 } else if (listener != null) {
                     listener.onRewardedVideoAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
                 }
 
                 // change rewarded video availability to false
-                mRewardedVideoPlacementToIsReady.put(placementName, false);
+                if (slot != null) {
+                    slot.markUnavailable();
+                }
             }
         });
     }
 
     @Override
     public boolean isRewardedVideoAvailable(JSONObject config) {
-        String placementName = config.optString(PLACEMENT_NAME);
-        return mRewardedVideoPlacementToIsReady.containsKey(placementName) && mRewardedVideoPlacementToIsReady.get(placementName) &&
-                mRewardedVideoPlacementToAd.containsKey(placementName);
+        String placementName = AdapterConfig.from(config).getPlacementName();
+        PlacementSlot<RewardedVideoSmashListener, TJPlacement, TapjoyRewardedVideoAdListener> slot = mRewardedVideoSlots.get(placementName);
+        return slot != null && slot.isAvailable() && slot.getAd() != null;
     }
 
     @Override
@@ -399,31 +413,33 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
     @Override
     public void initInterstitial(String appKey, String userId, JSONObject config, InterstitialSmashListener listener) {
-        String sdkKey = config.optString(SDK_KEY);
-        String placementName = config.optString(PLACEMENT_NAME);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String sdkKey = adapterConfig.getSdkKey();
+        String placementName = adapterConfig.getPlacementName();
 
         if (TextUtils.isEmpty(sdkKey)) {
-            IronLog.INTERNAL.error("Missing params - " + SDK_KEY);
+            AdapterLog.error(IronLog.INTERNAL, "Missing params - {}", SDK_KEY);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + SDK_KEY, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(placementName)) {
-            IronLog.INTERNAL.error("Missing params - " + PLACEMENT_NAME);
+            AdapterLog.error(IronLog.INTERNAL, "Missing params - {}", PLACEMENT_NAME);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + PLACEMENT_NAME, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("sdkKey = " + sdkKey + " placementName = " + placementName);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "sdkKey = {} placementName = {}", sdkKey, placementName);
 
         TapjoyInterstitialAdListener interstitialListener = new TapjoyInterstitialAdListener(TapjoyAdapter.this, listener, placementName);
 
-        //add to interstitial listener map
-        mInterstitialPlacementToTapjoyListener.put(placementName, interstitialListener);
-        mInterstitialPlacementToSmashListener.put(placementName, listener);
-        mInterstitialPlacementToIsReady.put(placementName, false);
+        //add to interstitial slots
+        PlacementSlot<InterstitialSmashListener, TJPlacement, TapjoyInterstitialAdListener> slot = getInterstitialSlot(placementName);
+        slot.setAdListener(interstitialListener);
+        slot.setSmashListener(listener);
+        slot.markUnavailable();
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(userId, sdkKey);
@@ -432,7 +448,7 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
                 listener.onInterstitialInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementName = " + placementName);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementName = {}", placementName);
                 listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Tapjoy sdk init failed", IronSourceConstants.INTERSTITIAL_AD_UNIT));
                 break;
         }
@@ -440,21 +456,22 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
     @Override
     public void loadInterstitialForBidding(final JSONObject config, final InterstitialSmashListener listener, final String serverData) {
-        String placementName = config.optString(PLACEMENT_NAME);
+        String placementName = AdapterConfig.from(config).getPlacementName();
         loadInterstitialInternal(placementName, serverData, listener);
     }
 
     @Override
     public void loadInterstitial(final JSONObject config, final InterstitialSmashListener listener) {
-        String placementName = config.optString(PLACEMENT_NAME);
+        String placementName = AdapterConfig.from(config).getPlacementName();
         loadInterstitialInternal(placementName, null, listener);
     }
 
     private void loadInterstitialInternal(final String placementName, final String serverData, final InterstitialSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("placementName = " + placementName);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementName = {}", placementName);
 
         TJPlacement placement;
-        TapjoyInterstitialAdListener interstitialListener = mInterstitialPlacementToTapjoyListener.get(placementName);
+        PlacementSlot<InterstitialSmashListener, TJPlacement, TapjoyInterstitialAdListener> slot = getInterstitialSlot(placementName);
+        TapjoyInterstitialAdListener interstitialListener = slot.getAdListener();
         if (!TextUtils.isEmpty(serverData)) {
             placement = getTJBiddingPlacement(placementName, serverData, interstitialListener);
         } else {
@@ -463,7 +480,8 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
         if (placement != null) {
             placement.setVideoListener(interstitialListener);
-            mInterstitialPlacementToAd.put(placementName, placement);
+            slot.setAd(placement);
+            mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementName);
             placement.requestContent();
         } else {
             listener.onInterstitialAdLoadFailed(new IronSourceError(IronSourceError.ERROR_CODE_GENERIC, "Load failed - TJPlacement is null"));
@@ -472,29 +490,33 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
     @Override
     public void showInterstitial(final JSONObject config, final InterstitialSmashListener listener) {
-        final String placementName = config.optString(PLACEMENT_NAME);
-        IronLog.ADAPTER_API.verbose("placementName = " + placementName);
+        final String placementName = AdapterConfig.from(config).getPlacementName();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementName = {}", placementName);
 
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
-                if (isInterstitialReady(config)) {
-                    TJPlacement placement = mInterstitialPlacementToAd.get(placementName);
-                    placement.showContent();
+                PlacementSlot<InterstitialSmashListener, TJPlacement, TapjoyInterstitialAdListener> slot = mInterstitialSlots.get(placementName);
+
+                if (slot != null && slot.isAvailable() && slot.getAd() != null) {
+                    mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementName);
+                    slot.getAd().showContent();
                 } else {
                     listener.onInterstitialAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.INTERSTITIAL_AD_UNIT));
                 }
 
-                mInterstitialPlacementToIsReady.put(placementName, false);
+                if (slot != null) {
+                    slot.markUnavailable();
+                }
             }
         });
     }
 
     @Override
     public boolean isInterstitialReady(JSONObject config) {
-        String placementName = config.optString(PLACEMENT_NAME);
-        return mInterstitialPlacementToIsReady.containsKey(placementName) && mInterstitialPlacementToIsReady.get(placementName) &&
-                mInterstitialPlacementToAd.containsKey(placementName);
+        String placementName = AdapterConfig.from(config).getPlacementName();
+        PlacementSlot<InterstitialSmashListener, TJPlacement, TapjoyInterstitialAdListener> slot = mInterstitialSlots.get(placementName);
+        return slot != null && slot.isAvailable() && slot.getAd() != null;
     }
 
     @Override
@@ -506,28 +528,24 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
     // region memory handling
     @Override
     public void releaseMemory(IronSource.AD_UNIT adUnit, JSONObject config) {
-        IronLog.INTERNAL.verbose("adUnit = " + adUnit);
+        AdapterLog.verbose(IronLog.INTERNAL, "adUnit = {}", adUnit);
 
         if (adUnit == IronSource.AD_UNIT.REWARDED_VIDEO) {
-            mRewardedVideoPlacementToSmashListener.clear();
-            mRewardedVideoPlacementToTapjoyListener.clear();
-            mRewardedVideoPlacementToAd.clear();
-            mRewardedVideoPlacementToIsReady.clear();
-            mRewardedVideoPlacementsForInitCallbacks.clear();
+            mRewardedVideoSlots.clear();
         } else if (adUnit == IronSource.AD_UNIT.INTERSTITIAL) {
-            mInterstitialPlacementToAd.clear();
-            mInterstitialPlacementToSmashListener.clear();
-            mInterstitialPlacementToTapjoyListener.clear();
-            mInterstitialPlacementToIsReady.clear();
+            mInterstitialSlots.clear();
         }
     }
     //endregion
 
     //region legal
     protected void setConsent(boolean consent) {
-        IronLog.ADAPTER_API.verbose("setUserConsent = " + consent);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "setUserConsent = {}", consent);
         tjPrivacyPolicy.setUserConsent(consent ? "1" : "0");
         setGDPRValue();
+
+        // the token carries the privacy settings, don't serve one built with the previous value
+        mBiddingTokenCache.invalidate();
     }
 
     @Override
@@ -538,10 +556,12 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
         // this is a list of 1 value
         String value = values.get(0);
-        IronLog.ADAPTER_API.verbose("key = " + key + ", value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, value = {}", key, value);
 
         if (MetaDataUtils.isValidCCPAMetaData(key, value)) {
             setCCPAValue(MetaDataUtils.getMetaDataBooleanValue(value));
+        } else if (key.equalsIgnoreCase(META_DATA_TAPJOY_BIDDING_TOKEN_TTL)) {
+            mBiddingTokenCache.setTtlFromMetaData(value);
         } else {
             String formattedValue = MetaDataUtils.formatValueForType(value, META_DATA_VALUE_BOOLEAN);
 
@@ -555,24 +575,27 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
 
     private void setCCPAValue(final boolean value) {
         String privacyValue = value ? "1YY-" : "1YN-";
-        IronLog.ADAPTER_API.verbose("value = " + privacyValue);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", privacyValue);
         tjPrivacyPolicy.setUSPrivacy(privacyValue);
+        mBiddingTokenCache.invalidate();
     }
 
     private void setGDPRValue() {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         tjPrivacyPolicy.setSubjectToGDPR(true);
     }
 
     private void setCOPPAValue(final boolean value) {
-        IronLog.ADAPTER_API.verbose("value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", value);
         tjPrivacyPolicy.setBelowConsentAge(value);
+        mBiddingTokenCache.invalidate();
     }
 
     private void setAdvIdOptOutValue(final boolean isOptOut) {
         if (isOptOut) {
-            IronLog.ADAPTER_API.verbose("value = true");
+            AdapterLog.verbose(IronLog.ADAPTER_API, "value = true");
             Tapjoy.optOutAdvertisingID(ContextProvider.getInstance().getApplicationContext(), true);
+            mBiddingTokenCache.invalidate();
         }
     }
 
@@ -586,32 +609,39 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
     //endregion
 
     // region Helpers
+    PlacementSlot<RewardedVideoSmashListener, TJPlacement, TapjoyRewardedVideoAdListener> getRewardedVideoSlot(String placementName) {
+        return PlacementSlot.obtain(mRewardedVideoSlots, placementName);
+    }
+
+    PlacementSlot<InterstitialSmashListener, TJPlacement, TapjoyInterstitialAdListener> getInterstitialSlot(String placementName) {
+        return PlacementSlot.obtain(mInterstitialSlots, placementName);
+    }
+
     private void setUserID() {
         if (!TextUtils.isEmpty(mUserId)) {
-            IronLog.ADAPTER_API.verbose("setUserID to " + mUserId);
+            AdapterLog.verbose(IronLog.ADAPTER_API, "setUserID to {}", mUserId);
             Tapjoy.setUserID(mUserId, new TJSetUserIDListener() {
                 @Override
                 public void onSetUserIDSuccess() {
-                    IronLog.ADAPTER_CALLBACK.verbose("onSetUserIDSuccess");
+                    AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "onSetUserIDSuccess");
                 }
 
                 @Override
                 public void onSetUserIDFailure(String errorMessage) {
-                    IronLog.ADAPTER_CALLBACK.verbose("onSetUserIDFailure - " + errorMessage);
+                    AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "onSetUserIDFailure - {}", errorMessage);
                 }
             });
         }
     }
 
     private Map<String, Object> getBiddingData() {
-        if (mInitState == InitState.INIT_STATE_FAILED) {
-            IronLog.INTERNAL.error("returning null as token since init failed");
+        if (mInitCoordinator.getState() == InitState.INIT_STATE_FAILED) {
+            AdapterLog.error(IronLog.INTERNAL, "returning null as token since init failed");
             return null;
         }
 
-        String bidderToken = Tapjoy.getUserToken();
-        String returnedToken = (!TextUtils.isEmpty(bidderToken)) ? bidderToken : "";
-        IronLog.ADAPTER_API.verbose("token = " + returnedToken);
+        String returnedToken = mBiddingTokenCache.getToken();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "token = {}", returnedToken);
         Map<String, Object> ret = new HashMap<>();
         ret.put("token", returnedToken);
         return ret;
@@ -641,7 +671,7 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
             return placement;
 
         } catch (Exception e) {
-            IronLog.INTERNAL.error("error - " + e.getMessage());
+            AdapterLog.error(IronLog.INTERNAL, "error - {}", e.getMessage());
             return null;
         }
     }
@@ -657,7 +687,7 @@ public class TapjoyAdapter extends AbstractAdapter implements TJConnectListener,
             placement.setAdapterVersion(VERSION);
             return placement;
         } else {
-            IronLog.INTERNAL.error("error - TJPlacement is null");
+            AdapterLog.error(IronLog.INTERNAL, "error - TJPlacement is null");
             return null;
         }
     }
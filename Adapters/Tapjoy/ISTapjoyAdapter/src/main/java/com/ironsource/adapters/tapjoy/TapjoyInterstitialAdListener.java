@@ -1,11 +1,9 @@
 package com.ironsource.adapters.tapjoy;
 
-import android.os.Handler;
-import android.os.Looper;
-
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 import com.tapjoy.TJActionRequest;
 import com.tapjoy.TJError;
 import com.tapjoy.TJPlacement;
@@ -30,41 +28,43 @@ public class TapjoyInterstitialAdListener implements TJPlacementListener, TJPlac
 
     @Override
     public void onContentReady(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
+        TapjoyAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         mListener.onInterstitialAdReady();
-        mAdapter.get().mInterstitialPlacementToIsReady.put(mPlacementName, true);
+        mAdapter.get().getInterstitialSlot(mPlacementName).markAvailable();
     }
 
     @Override
     public void onRequestSuccess(final TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         // This just means the SDK has made contact with Tapjoy's servers. It does not necessarily mean that any content is available.
-        new Handler(Looper.getMainLooper()).post(new Runnable() {
+        TapjoyAdapter.getMainThreadDispatcher().dispatch(new Runnable() {
             @Override
             public void run() {
                 if (!tjPlacement.isContentAvailable()) {
+                    TapjoyAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementName);
                     mListener.onInterstitialAdLoadFailed(new IronSourceError(LOAD_ERROR_NOT_AVAILABLE, "No content available"));
                 }
             }
@@ -73,10 +73,11 @@ public class TapjoyInterstitialAdListener implements TJPlacementListener, TJPlac
 
     @Override
     public void onRequestFailure(TJPlacement tjPlacement, TJError tjError) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName + ", errorMessage = " + tjError.toString());
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}, errorMessage = {}", mPlacementName, tjError);
+        TapjoyAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -85,10 +86,11 @@ public class TapjoyInterstitialAdListener implements TJPlacementListener, TJPlac
 
     @Override
     public void onVideoStart(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
+        TapjoyAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -98,10 +100,10 @@ public class TapjoyInterstitialAdListener implements TJPlacementListener, TJPlac
 
     @Override
     public void onClick(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -110,10 +112,10 @@ public class TapjoyInterstitialAdListener implements TJPlacementListener, TJPlac
 
     @Override
     public void onContentDismiss(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -122,26 +124,26 @@ public class TapjoyInterstitialAdListener implements TJPlacementListener, TJPlac
 
     @Override
     public void onContentShow(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
     }
 
     @Override
     public void onPurchaseRequest(TJPlacement tjPlacement, TJActionRequest tjActionRequest, String productId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
     }
 
     @Override
     public void onRewardRequest(TJPlacement tjPlacement, TJActionRequest tjActionRequest, String itemId, int quantity) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
     }
 
     @Override
     public void onVideoError(TJPlacement tjPlacement, String errorMessage) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
     }
 
     @Override
     public void onVideoComplete(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
     }
 }
@@ -1,8 +1,5 @@
 package com.ironsource.adapters.tapjoy;
 
-import android.os.Handler;
-import android.os.Looper;
-
 import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
@@ -31,41 +28,43 @@ public class TapjoyRewardedVideoAdListener implements TJPlacementListener, TJPla
 
     @Override
     public void onContentReady(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
+        TapjoyAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         mListener.onRewardedVideoAvailabilityChanged(true);
-        mAdapter.get().mRewardedVideoPlacementToIsReady.put(mPlacementName, true);
+        mAdapter.get().getRewardedVideoSlot(mPlacementName).markAvailable();
     }
 
     @Override
     public void onRequestSuccess(final TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         // This just means the SDK has made contact with Tapjoy's servers. It does not necessarily mean that any content is available.
-        new Handler(Looper.getMainLooper()).post(new Runnable() {
+        TapjoyAdapter.getMainThreadDispatcher().dispatch(new Runnable() {
             @Override
             public void run() {
                 if (!tjPlacement.isContentAvailable()) {
+                    TapjoyAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementName);
                     mListener.onRewardedVideoAvailabilityChanged(false);
                 }
             }
@@ -74,10 +73,11 @@ public class TapjoyRewardedVideoAdListener implements TJPlacementListener, TJPla
 
     @Override
     public void onRequestFailure(TJPlacement tjPlacement, TJError tjError) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName + ", errorMessage = " + tjError.toString());
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}, errorMessage = {}", mPlacementName, tjError);
+        TapjoyAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -87,10 +87,11 @@ public class TapjoyRewardedVideoAdListener implements TJPlacementListener, TJPla
 
     @Override
     public void onVideoStart(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
+        TapjoyAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -100,10 +101,10 @@ public class TapjoyRewardedVideoAdListener implements TJPlacementListener, TJPla
 
     @Override
     public void onVideoError(TJPlacement tjPlacement, String errorMessage) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName + ", errorMessage = " + errorMessage);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}, errorMessage = {}", mPlacementName, errorMessage);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -112,10 +113,10 @@ public class TapjoyRewardedVideoAdListener implements TJPlacementListener, TJPla
 
     @Override
     public void onClick(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -124,10 +125,10 @@ public class TapjoyRewardedVideoAdListener implements TJPlacementListener, TJPla
 
     @Override
     public void onVideoComplete(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -137,10 +138,10 @@ public class TapjoyRewardedVideoAdListener implements TJPlacementListener, TJPla
 
     @Override
     public void onContentDismiss(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -149,16 +150,16 @@ public class TapjoyRewardedVideoAdListener implements TJPlacementListener, TJPla
 
     @Override
     public void onContentShow(TJPlacement tjPlacement) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
     }
 
     @Override
     public void onPurchaseRequest(TJPlacement tjPlacement, TJActionRequest tjActionRequest, String productId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
     }
 
     @Override
     public void onRewardRequest(TJPlacement tjPlacement, TJActionRequest tjActionRequest, String itemId, int quantity) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementName = " + mPlacementName);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementName = {}", mPlacementName);
     }
 }
@@ -0,0 +1,241 @@
+package com.ironsource.adapters.unityads;
+
+import android.app.Activity;
+import android.content.Context;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+import com.unity3d.services.banners.BannerView;
+import com.unity3d.services.banners.UnityBannerSize;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Banner views a banner load replaced, kept per placement and size so the next load of the placement reuses one
+ * instead of building a new view and its web view. A view released while still in the banner layout is only pooled
+ * once the mediation removed it, so a pooled view is never on screen. A view belongs to the activity it was created
+ * with, so it is only reused for that activity, and the views of a finishing activity are destroyed the next time the
+ * pool is used. Pooled views are destroyed by the adapter's memory trim evictor when the system runs low on memory.
+ */
+final class BannerViewPool {
+
+    // Views kept per placement and size, the rest are destroyed right away
+    private static final int MAX_VIEWS_PER_KEY = 2;
+
+    // A placement and banner size
+    private static final class Key {
+        private final String placementId;
+        private final int width;
+        private final int height;
+
+        private Key(String placementId, UnityBannerSize size) {
+            this.placementId = placementId;
+            this.width = size.getWidth();
+            this.height = size.getHeight();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+
+            if (!(other instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) other;
+            return width == key.width && height == key.height && placementId.equals(key.placementId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * placementId.hashCode() + width) + height;
+        }
+    }
+
+    // Guarded by the pool
+    private final Map<Key, LinkedList<BannerView>> mViews = new HashMap<>();
+    // Views released while still in a layout, pooled once they have no parent
+    private final List<BannerView> mAttachedViews = new LinkedList<>();
+    private long mHits;
+    private long mMisses;
+    private long mEvictions;
+
+    // Returns a detached view of the placement and size that was created with the activity, or null if there is none
+    synchronized BannerView acquire(Activity activity, String placementId, UnityBannerSize size) {
+        poolDetachedViews();
+        evictFinishing();
+
+        LinkedList<BannerView> views = mViews.get(new Key(placementId, size));
+
+        if (views != null && activity != null) {
+            for (Iterator<BannerView> iterator = views.iterator(); iterator.hasNext(); ) {
+                BannerView view = iterator.next();
+
+                if (view.getContext() == activity) {
+                    iterator.remove();
+                    mHits++;
+                    return view;
+                }
+            }
+        }
+
+        mMisses++;
+        return null;
+    }
+
+    // Keeps the view for a later load of its placement, or destroys it if it can't be reused
+    synchronized void release(BannerView view) {
+        Context context = view.getContext();
+
+        if (!(context instanceof Activity) || ((Activity) context).isFinishing()) {
+            destroy(view);
+            return;
+        }
+
+        evictFinishing();
+
+        // the mediation may still show the view until the next banner replaces it
+        if (view.getParent() != null) {
+            mAttachedViews.add(view);
+            return;
+        }
+
+        pool(view);
+    }
+
+    // Destroys the kept views of the placement, including the ones still in a layout
+    synchronized void evict(String placementId) {
+        for (Iterator<BannerView> iterator = mAttachedViews.iterator(); iterator.hasNext(); ) {
+            BannerView view = iterator.next();
+
+            if (placementId.equals(view.getPlacementId())) {
+                iterator.remove();
+                destroy(view);
+            }
+        }
+
+        for (Iterator<Map.Entry<Key, LinkedList<BannerView>>> iterator = mViews.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Key, LinkedList<BannerView>> entry = iterator.next();
+
+            if (entry.getKey().placementId.equals(placementId)) {
+                for (BannerView view : entry.getValue()) {
+                    destroy(view);
+                }
+
+                iterator.remove();
+            }
+        }
+    }
+
+    // Destroys the pooled views, the views still in a layout are kept, returns how many were destroyed
+    synchronized int evictDetached() {
+        int evicted = 0;
+
+        poolDetachedViews();
+
+        for (LinkedList<BannerView> views : mViews.values()) {
+            for (BannerView view : views) {
+                destroy(view);
+                evicted++;
+            }
+        }
+
+        mViews.clear();
+
+        if (evicted > 0) {
+            AdapterLog.verbose(IronLog.INTERNAL, "evicted = {}", evicted);
+        }
+
+        return evicted;
+    }
+
+    synchronized JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("hits", mHits);
+            stats.put("misses", mMisses);
+            stats.put("evictions", mEvictions);
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the banner view pool stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    // Destroys the kept views of the activities that are finishing, they can't be reused and hold their activity
+    private void evictFinishing() {
+        for (Iterator<BannerView> iterator = mAttachedViews.iterator(); iterator.hasNext(); ) {
+            BannerView view = iterator.next();
+
+            if (isFinishing(view)) {
+                iterator.remove();
+                destroy(view);
+            }
+        }
+
+        for (Iterator<LinkedList<BannerView>> lists = mViews.values().iterator(); lists.hasNext(); ) {
+            LinkedList<BannerView> views = lists.next();
+
+            for (Iterator<BannerView> iterator = views.iterator(); iterator.hasNext(); ) {
+                BannerView view = iterator.next();
+
+                if (isFinishing(view)) {
+                    iterator.remove();
+                    destroy(view);
+                }
+            }
+
+            if (views.isEmpty()) {
+                lists.remove();
+            }
+        }
+    }
+
+    // Pools the released views the mediation removed from their layout since
+    private void poolDetachedViews() {
+        for (Iterator<BannerView> iterator = mAttachedViews.iterator(); iterator.hasNext(); ) {
+            BannerView view = iterator.next();
+
+            if (view.getParent() == null) {
+                iterator.remove();
+                pool(view);
+            }
+        }
+    }
+
+    // Keeps a detached view, the oldest views of its placement and size past the limit are destroyed
+    private void pool(BannerView view) {
+        Key key = new Key(view.getPlacementId(), view.getSize());
+        LinkedList<BannerView> views = mViews.get(key);
+
+        if (views == null) {
+            views = new LinkedList<>();
+            mViews.put(key, views);
+        }
+
+        views.addFirst(view);
+
+        while (views.size() > MAX_VIEWS_PER_KEY) {
+            destroy(views.removeLast());
+        }
+    }
+
+    private void destroy(BannerView view) {
+        mEvictions++;
+        view.destroy();
+    }
+
+    private static boolean isFinishing(BannerView view) {
+        Context context = view.getContext();
+        return context instanceof Activity && ((Activity) context).isFinishing();
+    }
+}
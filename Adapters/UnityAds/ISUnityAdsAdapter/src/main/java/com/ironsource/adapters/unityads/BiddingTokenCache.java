@@ -0,0 +1,217 @@
+package com.ironsource.adapters.unityads;
+
+import android.os.SystemClock;
+import android.text.TextUtils;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the last good bidding token of the network so building an auction request never waits on the network SDK.
+ * The cached token is returned right away, and a single asynchronous refresh is started once it is older than the
+ * TTL or once a bid was made with it. The network hands the token over to a callback, so no thread waits for it,
+ * and an auction made before the first token arrived gets no token instead of blocking. The token is built with the
+ * privacy settings of the user, so a change of these drops the cached token and a token fetched before it.
+ * Every adapter ships as its own artifact and keeps its own copy of this class. Unlike the other copies, this one
+ * takes the token from a callback since the network hands it over asynchronously.
+ */
+final class BiddingTokenCache {
+
+    interface TokenCallback {
+        void onTokenReady(String token);
+    }
+
+    interface TokenFetcher {
+        // Called on the auction thread, the token is reported to the callback once the network has it
+        void fetchToken(TokenCallback callback);
+    }
+
+    static final long DEFAULT_TTL_MILLIS = 60 * 1000;
+
+    // A failed refresh is retried after this interval, not on every auction
+    private static final long MIN_REFRESH_INTERVAL_MILLIS = 10 * 1000;
+
+    // A refresh the network didn't report back within this interval is considered lost
+    private static final long REFRESH_TIMEOUT_MILLIS = 30 * 1000;
+
+    private static final class Entry {
+        private final String mToken;
+        private final long mFetchTime;
+
+        private Entry(String token, long fetchTime) {
+            mToken = token;
+            mFetchTime = fetchTime;
+        }
+    }
+
+    private final TokenFetcher mFetcher;
+    private final AtomicReference<Entry> mEntry = new AtomicReference<>();
+    private final AtomicBoolean mRefreshInProgress = new AtomicBoolean(false);
+    // Changed by every invalidation, a token fetched before one is not cached
+    private final AtomicLong mGeneration = new AtomicLong();
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+    private final AtomicLong mRefreshes = new AtomicLong();
+    private final AtomicLong mConsumedRefreshes = new AtomicLong();
+    private final AtomicLong mInvalidations = new AtomicLong();
+    private final AtomicLong mServedAgeTotalMillis = new AtomicLong();
+    private final AtomicLong mMaxServedAgeMillis = new AtomicLong();
+    private volatile long mTtlMillis = DEFAULT_TTL_MILLIS;
+    private volatile long mLastRefreshTime = 0;
+
+    BiddingTokenCache(TokenFetcher fetcher) {
+        mFetcher = fetcher;
+    }
+
+    // Sets the TTL from a meta data value given in seconds, an invalid value is ignored
+    void setTtlFromMetaData(String value) {
+        try {
+            long ttlSeconds = Long.parseLong(value.trim());
+
+            if (ttlSeconds >= 0) {
+                mTtlMillis = ttlSeconds * 1000;
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+
+        AdapterLog.error(IronLog.INTERNAL, "invalid bidding token ttl = {}", value);
+    }
+
+    // Returns the cached token, or null if the network didn't give a token yet
+    String getToken() {
+        Entry entry = mEntry.get();
+        long now = SystemClock.elapsedRealtime();
+
+        if (entry == null) {
+            mMisses.incrementAndGet();
+
+            if (now - mLastRefreshTime >= MIN_REFRESH_INTERVAL_MILLIS) {
+                refresh();
+            }
+
+            return null;
+        }
+
+        mHits.incrementAndGet();
+        long age = now - entry.mFetchTime;
+        mServedAgeTotalMillis.addAndGet(age);
+
+        long maxAge = mMaxServedAgeMillis.get();
+        while (age > maxAge && !mMaxServedAgeMillis.compareAndSet(maxAge, age)) {
+            maxAge = mMaxServedAgeMillis.get();
+        }
+
+        if (age >= mTtlMillis && now - mLastRefreshTime >= MIN_REFRESH_INTERVAL_MILLIS) {
+            refresh();
+        }
+
+        return entry.mToken;
+    }
+
+    // Returns the age of the cached token, or -1 if there is none
+    long getTokenAgeMillis() {
+        Entry entry = mEntry.get();
+        return entry != null ? SystemClock.elapsedRealtime() - entry.mFetchTime : -1;
+    }
+
+    // To be called once a bid was made with the cached token, the token keeps being served until a new one arrives
+    void onTokenConsumed() {
+        mConsumedRefreshes.incrementAndGet();
+        refresh();
+    }
+
+    // Fetches a new token regardless of the age of the cached one, to be called when the network state changes
+    // in a way that affects the token (e.g. init started or finished)
+    void refresh() {
+        long now = SystemClock.elapsedRealtime();
+
+        // a refresh the network never reported back doesn't block the next ones
+        if (!mRefreshInProgress.compareAndSet(false, true) && now - mLastRefreshTime < REFRESH_TIMEOUT_MILLIS) {
+            return;
+        }
+
+        mRefreshInProgress.set(true);
+        mLastRefreshTime = now;
+
+        try {
+            mFetcher.fetchToken(newRefreshCallback(mGeneration.get()));
+        } catch (Throwable e) {
+            mRefreshInProgress.set(false);
+            AdapterLog.error(IronLog.INTERNAL, "failed to start the token refresh - {}", e.getMessage());
+        }
+    }
+
+    // Drops the cached token and fetches a new one, to be called when a privacy setting changes.
+    // Until the new token arrives the auctions get no token.
+    void invalidate() {
+        mGeneration.incrementAndGet();
+        mEntry.set(null);
+        mInvalidations.incrementAndGet();
+
+        // the refresh in flight fetches with the previous settings, its token is dropped
+        mRefreshInProgress.set(false);
+        refresh();
+    }
+
+    JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("hits", mHits.get());
+            stats.put("misses", mMisses.get());
+            stats.put("refreshes", mRefreshes.get());
+            stats.put("consumedRefreshes", mConsumedRefreshes.get());
+            stats.put("invalidations", mInvalidations.get());
+            stats.put("averageTokenAgeMillis", mHits.get() > 0 ? mServedAgeTotalMillis.get() / mHits.get() : 0);
+            stats.put("maxTokenAgeMillis", mMaxServedAgeMillis.get());
+            stats.put("ttlMillis", mTtlMillis);
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the token cache stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    private TokenCallback newRefreshCallback(final long generation) {
+        return new TokenCallback() {
+            @Override
+            public void onTokenReady(String token) {
+                if (generation != mGeneration.get()) {
+                    AdapterLog.verbose(IronLog.INTERNAL, "dropping a bidding token fetched before the privacy settings changed");
+                    return;
+                }
+
+                try {
+                    store(token, generation);
+                    mRefreshes.incrementAndGet();
+                } finally {
+                    mRefreshInProgress.set(false);
+                }
+            }
+        };
+    }
+
+    private void store(String token, long generation) {
+        if (TextUtils.isEmpty(token)) {
+            // keep serving the previous token, an empty one is not worth caching
+            AdapterLog.verbose(IronLog.INTERNAL, "the network returned no bidding token");
+            return;
+        }
+
+        Entry entry = new Entry(token, SystemClock.elapsedRealtime());
+        mEntry.set(entry);
+
+        if (generation != mGeneration.get()) {
+            // a privacy setting changed meanwhile, the token may have been built with the previous value
+            mEntry.compareAndSet(entry, null);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ironsource.adapters.unityads;
+
+import android.os.SystemClock;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the loads made while the network SDK initializes, the init runs off the calling thread so a load may come in
+ * before the SDK is ready for it. The held loads run in order once the init succeeds and are failed if it fails.
+ * Loads made before the init started or after it finished are not held.
+ */
+final class InitReadinessGate {
+
+    interface PendingLoad {
+        void load();
+
+        void fail(String error);
+    }
+
+    private static final class Entry {
+        private final PendingLoad mLoad;
+        private final long mEnqueueTime;
+
+        private Entry(PendingLoad load, long enqueueTime) {
+            mLoad = load;
+            mEnqueueTime = enqueueTime;
+        }
+    }
+
+    // Guarded by the gate
+    private final List<Entry> mPending = new ArrayList<>();
+    private boolean mClosed = false;
+    private long mHeld;
+    private long mFailed;
+    private long mMaxWaitMillis;
+
+    // Called once the init started, loads are held from here on
+    synchronized void close() {
+        mClosed = true;
+    }
+
+    // Runs the load right away, or holds it if the init is in progress
+    void await(PendingLoad load) {
+        synchronized (this) {
+            if (mClosed) {
+                mPending.add(new Entry(load, SystemClock.elapsedRealtime()));
+                mHeld++;
+                return;
+            }
+        }
+
+        load.load();
+    }
+
+    // Called once the init succeeded, runs the held loads on the calling thread
+    void open() {
+        for (Entry entry : release(false)) {
+            entry.mLoad.load();
+        }
+    }
+
+    // Called once the init failed, fails the held loads on the calling thread
+    void fail(String error) {
+        for (Entry entry : release(true)) {
+            entry.mLoad.fail(error);
+        }
+    }
+
+    synchronized JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("held", mHeld);
+            stats.put("failed", mFailed);
+            stats.put("maxWaitMillis", mMaxWaitMillis);
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the init gate stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    private synchronized List<Entry> release(boolean failed) {
+        mClosed = false;
+        List<Entry> pending = new ArrayList<>(mPending);
+        mPending.clear();
+
+        long now = SystemClock.elapsedRealtime();
+
+        for (Entry entry : pending) {
+            mMaxWaitMillis = Math.max(mMaxWaitMillis, now - entry.mEnqueueTime);
+        }
+
+        if (failed) {
+            mFailed += pending.size();
+        }
+
+        if (!pending.isEmpty()) {
+            AdapterLog.verbose(IronLog.INTERNAL, "loads = {}, failed = {}", pending.size(), failed);
+        }
+
+        return pending;
+    }
+}
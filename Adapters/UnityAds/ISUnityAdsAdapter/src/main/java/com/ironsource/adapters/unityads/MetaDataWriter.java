@@ -0,0 +1,226 @@
+package com.ironsource.adapters.unityads;
+
+import android.content.Context;
+
+import com.ironsource.environment.ContextProvider;
+import com.ironsource.mediationsdk.logger.IronLog;
+import com.unity3d.ads.metadata.MediationMetaData;
+import com.unity3d.ads.metadata.MetaData;
+import com.unity3d.ads.metadata.PlayerMetaData;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the network meta data off the calling thread. The values set for a category are kept pending and
+ * committed on a background thread in one batch, so values set in a row cost a single commit and the callers
+ * don't wait on the network storage. A caller that depends on the values of a category (e.g. a load needs the
+ * user id) runs after them through the same executor, and right away if the category has none pending or in a
+ * commit. Values are only taken as committed once the network storage accepted them, a failed batch is pending again
+ * and goes out with the next commit of its category.
+ */
+final class MetaDataWriter {
+
+    enum Category {
+        MEDIATION {
+            @Override
+            MetaData create(Context context) {
+                return new MediationMetaData(context);
+            }
+        },
+        PLAYER {
+            @Override
+            MetaData create(Context context) {
+                return new PlayerMetaData(context);
+            }
+        },
+        DEFAULT {
+            @Override
+            MetaData create(Context context) {
+                return new MetaData(context);
+            }
+        };
+
+        abstract MetaData create(Context context);
+    }
+
+    // Pending values per category, each map guards itself and the committed values of its category
+    private final Map<Category, Map<String, Object>> mPending = new LinkedHashMap<>();
+    // Last values committed per category, a value that didn't change isn't committed again
+    private final Map<Category, Map<String, Object>> mCommitted = new LinkedHashMap<>();
+    // Batches taken and not committed yet per category, guarded by the pending map of the category
+    private final Map<Category, AtomicInteger> mInFlight = new LinkedHashMap<>();
+    // Held while the values of a category are taken and committed, keeps the commits of a category in order
+    private final Map<Category, Object> mCommitLocks = new LinkedHashMap<>();
+    private final Executor mExecutor;
+    private final AtomicBoolean mFlushScheduled = new AtomicBoolean(false);
+    private final AtomicLong mValues = new AtomicLong();
+    private final AtomicLong mCommits = new AtomicLong();
+    private final AtomicLong mCallerCommits = new AtomicLong();
+
+    private final Runnable mFlushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            // values set from here on schedule another flush
+            mFlushScheduled.set(false);
+
+            for (Category category : Category.values()) {
+                commit(category);
+            }
+        }
+    };
+
+    MetaDataWriter(Executor executor) {
+        mExecutor = executor;
+
+        for (Category category : Category.values()) {
+            mPending.put(category, new LinkedHashMap<String, Object>());
+            mCommitted.put(category, new LinkedHashMap<String, Object>());
+            mInFlight.put(category, new AtomicInteger());
+            mCommitLocks.put(category, new Object());
+        }
+    }
+
+    // Sets a value of the category, committed in the background with the other values set meanwhile
+    void set(Category category, String key, Object value) {
+        Map<String, Object> pending = mPending.get(category);
+
+        synchronized (pending) {
+            // a batch in a commit may still change the value, only skip it once that's settled
+            if (!pending.containsKey(key) && mInFlight.get(category).get() == 0
+                    && value.equals(mCommitted.get(category).get(key))) {
+                return;
+            }
+
+            pending.put(key, value);
+        }
+
+        mValues.incrementAndGet();
+        scheduleFlush();
+    }
+
+    // Runs the action once the values set so far for the category are committed, without waiting on the caller. The
+    // action runs on the calling thread if there is nothing to commit, or on the executor after the commit otherwise
+    void runWhenCommitted(final Category category, final Runnable action) {
+        Map<String, Object> pending = mPending.get(category);
+
+        synchronized (pending) {
+            if (pending.isEmpty() && mInFlight.get(category).get() == 0) {
+                action.run();
+                return;
+            }
+        }
+
+        try {
+            mExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    if (commit(category)) {
+                        mCallerCommits.incrementAndGet();
+                    }
+
+                    action.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to schedule the {} meta data commit - {}", category, e.getMessage());
+            action.run();
+        }
+    }
+
+    // Commits the pending values of the category on the calling thread, returns right away if there are none
+    void awaitCommitted(Category category) {
+        if (commit(category)) {
+            mCallerCommits.incrementAndGet();
+        }
+    }
+
+    // Commits the pending values of every category on the calling thread
+    void awaitCommitted() {
+        for (Category category : Category.values()) {
+            awaitCommitted(category);
+        }
+    }
+
+    JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("values", mValues.get());
+            stats.put("commits", mCommits.get());
+            stats.put("callerCommits", mCallerCommits.get());
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the meta data writer stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    private void scheduleFlush() {
+        if (!mFlushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        mExecutor.execute(mFlushRunnable);
+    }
+
+    // Returns true if there were pending values to commit
+    private boolean commit(Category category) {
+        Map<String, Object> pending = mPending.get(category);
+
+        synchronized (mCommitLocks.get(category)) {
+            Map<String, Object> batch;
+
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    return false;
+                }
+
+                batch = new LinkedHashMap<>(pending);
+                pending.clear();
+                mInFlight.get(category).incrementAndGet();
+            }
+
+            boolean committed = false;
+
+            try {
+                MetaData metaData = category.create(ContextProvider.getInstance().getApplicationContext());
+
+                for (Map.Entry<String, Object> entry : batch.entrySet()) {
+                    metaData.set(entry.getKey(), entry.getValue());
+                }
+
+                metaData.commit();
+                mCommits.incrementAndGet();
+                committed = true;
+            } catch (Throwable e) {
+                AdapterLog.error(IronLog.INTERNAL, "failed to commit the {} meta data - {}", category, e.getMessage());
+            }
+
+            synchronized (pending) {
+                mInFlight.get(category).decrementAndGet();
+
+                if (committed) {
+                    mCommitted.get(category).putAll(batch);
+                } else {
+                    // retried with the next commit, unless a newer value was set meanwhile
+                    for (Map.Entry<String, Object> entry : batch.entrySet()) {
+                        if (!pending.containsKey(entry.getKey())) {
+                            pending.put(entry.getKey(), entry.getValue());
+                        }
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+}
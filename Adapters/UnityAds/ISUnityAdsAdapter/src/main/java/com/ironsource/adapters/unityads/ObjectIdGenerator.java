@@ -0,0 +1,26 @@
+package com.ironsource.adapters.unityads;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Object ids of bidding loads, the network identifies the loaded ad to show by it. A random id costs a secure
+ * random draw, which contends on a lock shared by the whole process, so only the first id is random and the
+ * next ones count up from it. The ids keep the UUID format and are unique within the process.
+ */
+final class ObjectIdGenerator {
+
+    private final long mMostSignificantBits;
+    private final long mLeastSignificantBits;
+    private final AtomicLong mCount = new AtomicLong();
+
+    ObjectIdGenerator() {
+        UUID seed = UUID.randomUUID();
+        mMostSignificantBits = seed.getMostSignificantBits();
+        mLeastSignificantBits = seed.getLeastSignificantBits();
+    }
+
+    String next() {
+        return new UUID(mMostSignificantBits, mLeastSignificantBits + mCount.incrementAndGet()).toString();
+    }
+}
@@ -7,7 +7,6 @@ import android.widget.FrameLayout;
 
 import com.ironsource.environment.ContextProvider;
 import com.ironsource.mediationsdk.AbstractAdapter;
-import com.ironsource.mediationsdk.AdapterUtils;
 import com.ironsource.mediationsdk.INetworkInitCallbackListener;
 import com.ironsource.mediationsdk.ISBannerSize;
 import com.ironsource.mediationsdk.IntegrationData;
@@ -27,9 +26,6 @@ import com.unity3d.ads.IUnityAdsTokenListener;
 import com.unity3d.ads.UnityAds;
 import com.unity3d.ads.UnityAdsLoadOptions;
 import com.unity3d.ads.UnityAdsShowOptions;
-import com.unity3d.ads.metadata.MediationMetaData;
-import com.unity3d.ads.metadata.MetaData;
-import com.unity3d.ads.metadata.PlayerMetaData;
 import com.unity3d.services.banners.BannerView;
 import com.unity3d.services.banners.UnityBannerSize;
 import com.unity3d.ads.IUnityAdsInitializationListener;
@@ -37,13 +33,13 @@ import com.unity3d.ads.IUnityAdsInitializationListener;
 import org.json.JSONObject;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 
 import static com.ironsource.mediationsdk.metadata.MetaData.MetaDataValueTypes.META_DATA_VALUE_BOOLEAN;
@@ -54,14 +50,19 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     // UnityAds Mediation MetaData
     private final String MEDIATION_NAME = "ironSource";
     private final String ADAPTER_VERSION_KEY = "adapter_version";
+    // Keys written by MediationMetaData.setName/setVersion and PlayerMetaData.setServerId
+    private final String MEDIATION_NAME_KEY = "name";
+    private final String MEDIATION_VERSION_KEY = "version";
+    private final String PLAYER_SERVER_ID_KEY = "server_id";
 
     // Adapter version
     private static final String VERSION = BuildConfig.VERSION_NAME;
     private static final String GitHash = BuildConfig.GitHash;
 
     // UnityAds keys
-    private final String GAME_ID = "sourceId";
-    private final String PLACEMENT_ID = "zoneId";
+    static final String GAME_ID = "sourceId";
+    static final String PLACEMENT_ID = "zoneId";
+    static final String RELOAD_ON_SHOW = "reloadOnShow"; // optional, loads the next ad of a placement as soon as its current ad starts showing
 
     // Rewarded video collections
     private ConcurrentHashMap<String, RewardedVideoSmashListener> mPlacementIdToRewardedVideoSmashListener;
@@ -69,49 +70,101 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     private ConcurrentHashMap<String, String> mRewardedVideoPlacementIdToLoadedAdObjectId;
     protected ConcurrentHashMap<String, Boolean> mRewardedVideoAdsAvailability;
     private CopyOnWriteArraySet<String> mRewardedVideoPlacementIdsForInitCallbacks;
+    private CopyOnWriteArraySet<String> mRewardedVideoPlacementIdsToReloadOnShow; // set by show, cleared once the show started
 
     // Interstitial maps
     private ConcurrentHashMap<String, InterstitialSmashListener> mPlacementIdToInterstitialSmashListener;
     private ConcurrentHashMap<String, UnityAdsInterstitialListener> mPlacementIdToInterstitialListener;
     private ConcurrentHashMap<String, String> mInterstitialPlacementIdToLoadedAdObjectId;
     protected ConcurrentHashMap<String, Boolean> mInterstitialAdsAvailability;
+    private CopyOnWriteArraySet<String> mInterstitialPlacementIdsToReloadOnShow; // set by show, cleared once the show started
 
     // Banner maps
     private ConcurrentHashMap<String, BannerSmashListener> mPlacementIdToBannerSmashListener;
     private ConcurrentHashMap<String, UnityAdsBannerListener> mPlacementIdToBannerListener;
     private ConcurrentHashMap<String, BannerView> mPlacementIdToBannerAd;
+    private ConcurrentHashMap<String, BannerLayoutCache.BannerLayout<UnityBannerSize>> mPlacementIdToBannerLayout;
+
+    // Init state and init callback listeners of all adapter instances
+    private static final NetworkInitCoordinator mInitCoordinator = new NetworkInitCoordinator();
+
+    // Init, load and show latencies of all adapter instances
+    private static final LatencyTracker mLatencyTracker = new LatencyTracker();
+
+    // Network banner sizes and pixel dimensions of all adapter instances, resolved once per device configuration
+    private static final BannerLayoutCache<UnityBannerSize> mBannerLayoutCache = new BannerLayoutCache<>();
+
+    // UnityAds banner size and dimensions of every supported mediation banner size
+    private static final BannerLayoutCache.SizeResolver<UnityBannerSize> mBannerSizeResolver = new BannerLayoutCache.SizeResolver<UnityBannerSize>() {
+        @Override
+        public BannerLayoutCache.BannerLayout<UnityBannerSize> resolve(ISBannerSize size, boolean isLargeScreen) {
+            // the banner view sets its own height
+            switch (size.getDescription()) {
+                case "BANNER":
+                case "LARGE":
+                    return new BannerLayoutCache.BannerLayout<>(new UnityBannerSize(320, 50), 320, BannerLayoutCache.WRAP_CONTENT);
+                case "SMART":
+                    return isLargeScreen
+                            ? new BannerLayoutCache.BannerLayout<>(new UnityBannerSize(728, 90), 728, BannerLayoutCache.WRAP_CONTENT)
+                            : new BannerLayoutCache.BannerLayout<>(new UnityBannerSize(320, 50), 320, BannerLayoutCache.WRAP_CONTENT);
+            }
 
-    // init state possible values
-    private enum InitState {
-        INIT_STATE_NONE,
-        INIT_STATE_IN_PROGRESS,
-        INIT_STATE_SUCCESS,
-        INIT_STATE_FAILED
-    }
+            return null;
+        }
+    };
+
+    // Last bidding token of the network, refreshed in the background for all the adapter instances
+    private static final BiddingTokenCache mBiddingTokenCache = new BiddingTokenCache(new BiddingTokenCache.TokenFetcher() {
+        @Override
+        public void fetchToken(final BiddingTokenCache.TokenCallback callback) {
+            UnityAds.getToken(new IUnityAdsTokenListener() {
+                @Override
+                public void onUnityAdsTokenReady(String token) {
+                    AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "async token returned");
+                    callback.onTokenReady(token);
+                }
+            });
+        }
+    });
+
+    // Runs the init staging and the meta data commits of all adapter instances off the calling thread
+    private static final ExecutorService mBackgroundExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "UnityAdsBackground");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
 
-    // handle init callback for all adapter instances
-    private static HashSet<INetworkInitCallbackListener> initCallbackListeners = new HashSet<>();
-    private static InitState mInitState = InitState.INIT_STATE_NONE;
-    private static AtomicBoolean mWasInitCalled = new AtomicBoolean(false);
-    ;
+    // Loads of all adapter instances made while the network initializes
+    private static final InitReadinessGate mInitReadinessGate = new InitReadinessGate();
+
+    // Object ids of the bidding loads of all adapter instances
+    private static final ObjectIdGenerator mObjectIdGenerator = new ObjectIdGenerator();
+
+    // Banner views replaced by a load of any adapter instance, reused by the next load of their placement
+    private static final BannerViewPool mBannerViewPool = new BannerViewPool();
+
+    // Frees the memory the adapter instances hold when the system runs low on memory
+    private static final MemoryTrimPolicy mMemoryTrimPolicy = new MemoryTrimPolicy();
+
+    // Network meta data of all adapter instances, committed in the background
+    private static final MetaDataWriter mMetaDataWriter = new MetaDataWriter(mBackgroundExecutor);
 
     // Meta data flags
     private final String CONSENT_GDPR = "gdpr.consent";
     private final String CONSENT_CCPA = "privacy.consent";
     private final String UNITYADS_COPPA = "user.nonBehavioral";
     private final String UNITYADS_METADATA_COPPA_KEY = "unityads_coppa";
+    private final String UNITYADS_METADATA_BIDDING_TOKEN_TTL_KEY = "unityads_biddingtokenttl";
     private final String GAME_DESIGNATION = "mode";
     private final String MIXED_AUDIENCE = "mixed";
 
-    // UnityAds asynchronous token
-    private static String asyncToken = null;
-
     // Feature flag key to disable the network's capability to load a Rewarded Video ad
     // while another Rewarded Video ad of that network is showing
     private final String LWS_SUPPORT_STATE = "isSupportedLWS";
 
-    final private Object mUnityAdsStorageLock = new Object();
-
     //region Adapter Methods
     public static UnityAdsAdapter startAdapter(String providerName) {
         return new UnityAdsAdapter(providerName);
@@ -119,7 +172,7 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
     private UnityAdsAdapter(String providerName) {
         super(providerName);
-        IronLog.INTERNAL.verbose("");
+        AdapterLog.verbose(IronLog.INTERNAL, "");
 
         // Rewarded video
         mPlacementIdToRewardedVideoSmashListener = new ConcurrentHashMap<>();
@@ -127,17 +180,23 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         mRewardedVideoPlacementIdToLoadedAdObjectId = new ConcurrentHashMap<>();
         mRewardedVideoAdsAvailability = new ConcurrentHashMap<>();
         mRewardedVideoPlacementIdsForInitCallbacks = new CopyOnWriteArraySet<>();
+        mRewardedVideoPlacementIdsToReloadOnShow = new CopyOnWriteArraySet<>();
 
         // Interstitial
         mPlacementIdToInterstitialSmashListener = new ConcurrentHashMap<>();
         mPlacementIdToInterstitialListener = new ConcurrentHashMap<>();
         mInterstitialPlacementIdToLoadedAdObjectId = new ConcurrentHashMap<>();
         mInterstitialAdsAvailability = new ConcurrentHashMap<>();
+        mInterstitialPlacementIdsToReloadOnShow = new CopyOnWriteArraySet<>();
 
         // Banner
         mPlacementIdToBannerSmashListener = new ConcurrentHashMap<>();
         mPlacementIdToBannerListener = new ConcurrentHashMap<>();
         mPlacementIdToBannerAd = new ConcurrentHashMap<>();
+        mPlacementIdToBannerLayout = new ConcurrentHashMap<>();
+
+        // free the pooled banner views on memory pressure, not only when the mediation releases the memory
+        mMemoryTrimPolicy.register(mMemoryTrimEvictor);
     }
 
     // get the network and adapter integration data
@@ -161,40 +220,61 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         return UnityAds.getVersion();
     }
 
+    // Get the init, load and show latency histograms recorded so far for this network
+    public static JSONObject getLatencySnapshot() {
+        return mLatencyTracker.getSnapshot();
+    }
+
+    static LatencyTracker getLatencyTracker() {
+        return mLatencyTracker;
+    }
+
     //endregion
 
     //region Initializations methods and callbacks
     private void initSDK(String gameId, JSONObject config) {
-        // add self to the init listeners only in case the initialization has not finished yet
-        if (mInitState == InitState.INIT_STATE_NONE || mInitState == InitState.INIT_STATE_IN_PROGRESS) {
-            initCallbackListeners.add(this);
-        }
+        // add self to the init listeners, in case the initialization has already finished the result is delivered right away
+        mInitCoordinator.addListener(this);
+
         //Init SDK should be called only once
-        if (mWasInitCalled.compareAndSet(false, true)) {
-            IronLog.ADAPTER_API.verbose("");
-            mInitState = InitState.INIT_STATE_IN_PROGRESS;
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "");
+            mLatencyTracker.onInitStarted();
+            // loads wait for the init from here on
+            mInitReadinessGate.close();
+
+            // the init is often called on the main thread during the app start, keep the staging off it
+            mBackgroundExecutor.execute(createInitRunnable(gameId, isAdaptersDebugEnabled()));
+        }
+    }
 
-            synchronized (mUnityAdsStorageLock) {
-                MediationMetaData mediationMetaData = new MediationMetaData(ContextProvider.getInstance().getCurrentActiveActivity());
-                mediationMetaData.setName(MEDIATION_NAME);
+    // Stages the init and initializes the network SDK on a background thread, the network moves its own init to the
+    // main thread
+    private Runnable createInitRunnable(final String gameId, final boolean debugMode) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                mMetaDataWriter.set(MetaDataWriter.Category.MEDIATION, MEDIATION_NAME_KEY, MEDIATION_NAME);
                 // mediation version
-                mediationMetaData.setVersion(IronSourceUtils.getSDKVersion());
+                mMetaDataWriter.set(MetaDataWriter.Category.MEDIATION, MEDIATION_VERSION_KEY, IronSourceUtils.getSDKVersion());
                 // adapter version
-                mediationMetaData.set(ADAPTER_VERSION_KEY, BuildConfig.VERSION_NAME);
-                mediationMetaData.commit();
-            }
+                mMetaDataWriter.set(MetaDataWriter.Category.MEDIATION, ADAPTER_VERSION_KEY, BuildConfig.VERSION_NAME);
+                // the network reads the mediation and privacy meta data on init
+                mMetaDataWriter.awaitCommitted();
 
-            UnityAds.setDebugMode(isAdaptersDebugEnabled());
-            UnityAds.initialize(ContextProvider.getInstance().getApplicationContext(), gameId, false, this);
+                UnityAds.setDebugMode(debugMode);
 
-            // trying to fetch async token for the first load
-            getAsyncToken();
-        }
+                UnityAds.initialize(ContextProvider.getInstance().getApplicationContext(), gameId, false, UnityAdsAdapter.this);
+
+                // trying to fetch async token for the first load
+                mBiddingTokenCache.refresh();
+            }
+        };
     }
 
     @Override
     public void onNetworkInitCallbackSuccess() {
-        IronLog.ADAPTER_CALLBACK.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "");
 
         // rewarded video listeners
         for (String placementId : mPlacementIdToRewardedVideoSmashListener.keySet()) {
@@ -218,7 +298,7 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
     @Override
     public void onNetworkInitCallbackFailed(String error) {
-        IronLog.ADAPTER_CALLBACK.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "");
 
         // rewarded video listeners
         for (String placementId : mPlacementIdToRewardedVideoSmashListener.keySet()) {
@@ -247,27 +327,30 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
     @Override
     public void onInitializationComplete() {
-        IronLog.ADAPTER_CALLBACK.verbose("");
-        mInitState = InitState.INIT_STATE_SUCCESS;
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "");
 
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackSuccess();
+        if (!mInitCoordinator.setInitSucceeded()) {
+            return;
         }
 
-        initCallbackListeners.clear();
+        mLatencyTracker.onInitFinished();
+        mBiddingTokenCache.refresh();
+        mInitCoordinator.notifyListeners();
+        mInitReadinessGate.open();
     }
 
     @Override
     public void onInitializationFailed(UnityAds.UnityAdsInitializationError error, String message) {
-        IronLog.ADAPTER_CALLBACK.verbose("");
-        mInitState = InitState.INIT_STATE_FAILED;
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "");
         String initError = getUnityAdsInitializationErrorCode(error) + message;
 
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackFailed(initError);
+        if (!mInitCoordinator.setInitFailed(initError)) {
+            return;
         }
 
-        initCallbackListeners.clear();
+        mLatencyTracker.onInitFinished();
+        mInitCoordinator.notifyListeners();
+        mInitReadinessGate.fail(initError);
     }
 
     //endregion
@@ -277,32 +360,33 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     // Used for flows when the mediation needs to get a callback for init
     @Override
     public void initRewardedVideoWithCallback(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        String gameId = config.optString(GAME_ID);
-        String placementId = config.optString(PLACEMENT_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String gameId = adapterConfig.getGameId();
+        String placementId = adapterConfig.getPlacementId();
 
         // check if OS is supported
         if (!isOSSupported()) {
             IronSourceError error = errorForUnsupportedAdapter(IronSourceConstants.REWARDED_VIDEO_AD_UNIT);
-            IronLog.INTERNAL.error(error.getErrorMessage());
+            AdapterLog.error(IronLog.INTERNAL, error.getErrorMessage());
             listener.onRewardedVideoInitFailed(error);
             return;
         }
 
         // check gameId
         if (TextUtils.isEmpty(gameId)) {
-            IronLog.INTERNAL.error("missing params = " + GAME_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", GAME_ID);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + GAME_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
         // check placementId
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("missing params = " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", PLACEMENT_ID);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + PLACEMENT_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("gameId = " + gameId + ", placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "gameId = {}, placementId = {}", gameId, placementId);
 
         UnityAdsRewardedVideoListener rewardedVideoListener = new UnityAdsRewardedVideoListener(UnityAdsAdapter.this, listener, placementId);
         mPlacementIdToRewardedVideoListener.put(placementId, rewardedVideoListener);
@@ -313,7 +397,7 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         // add placementId to init callback map
         mRewardedVideoPlacementIdsForInitCallbacks.add(placementId);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(gameId, config);
@@ -331,32 +415,33 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     // used for flows when the mediation doesn't need to get a callback for init
     @Override
     public void initAndLoadRewardedVideo(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        String gameId = config.optString(GAME_ID);
-        String placementId = config.optString(PLACEMENT_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String gameId = adapterConfig.getGameId();
+        String placementId = adapterConfig.getPlacementId();
 
         // check if OS is supported
         if (!isOSSupported()) {
             IronSourceError error = errorForUnsupportedAdapter(IronSourceConstants.REWARDED_VIDEO_AD_UNIT);
-            IronLog.INTERNAL.error(error.getErrorMessage());
+            AdapterLog.error(IronLog.INTERNAL, error.getErrorMessage());
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
         // check gameId
         if (TextUtils.isEmpty(gameId)) {
-            IronLog.INTERNAL.error("missing params = " + GAME_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", GAME_ID);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
         // check placementId
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("missing params = " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", PLACEMENT_ID);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("gameId = " + gameId + ", placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "gameId = {}, placementId = {}", gameId, placementId);
 
         UnityAdsRewardedVideoListener rewardedVideoListener = new UnityAdsRewardedVideoListener(UnityAdsAdapter.this, listener, placementId);
         mPlacementIdToRewardedVideoListener.put(placementId, rewardedVideoListener);
@@ -364,7 +449,7 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         //add to rewarded video listener map
         mPlacementIdToRewardedVideoSmashListener.put(placementId, listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(gameId, config);
@@ -380,28 +465,46 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
     @Override
     public void loadRewardedVideoForBidding(JSONObject config, RewardedVideoSmashListener listener, String serverData) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
-        loadRewardedVideoInternal(placementId, serverData);
+        String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        // the bid was made with the cached token, the next auction gets a new one
+        mBiddingTokenCache.onTokenConsumed();
+        loadRewardedVideoWhenReady(placementId, serverData, listener);
     }
 
     @Override
     public void fetchRewardedVideoForAutomaticLoad(final JSONObject config, RewardedVideoSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
-        loadRewardedVideoInternal(placementId, null);
+        String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        loadRewardedVideoWhenReady(placementId, null, listener);
     }
 
-    private void loadRewardedVideoInternal(String placementId, String serverData) {
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+    private void loadRewardedVideoInternal(final String placementId, final String serverData) {
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         mRewardedVideoAdsAvailability.put(placementId, false);
+        if (!TextUtils.isEmpty(getDynamicUserId())) {
+            // committed before the load, and only if the user id changed since the last one, so the show never waits
+            mMetaDataWriter.set(MetaDataWriter.Category.PLAYER, PLAYER_SERVER_ID_KEY, getDynamicUserId());
+        }
+
+        // the load runs after the user id commit, on the background thread if there is one, the caller never waits
+        mMetaDataWriter.runWhenCommitted(MetaDataWriter.Category.PLAYER, new Runnable() {
+            @Override
+            public void run() {
+                loadRewardedVideoFromNetwork(placementId, serverData);
+            }
+        });
+    }
+
+    private void loadRewardedVideoFromNetwork(String placementId, String serverData) {
         UnityAdsRewardedVideoListener listener = mPlacementIdToRewardedVideoListener.get(placementId);
+        mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
         if (!TextUtils.isEmpty(serverData)) {
             // load rewarded video for bidding instance
             UnityAdsLoadOptions loadOptions = null;
             // mObjectId is string that is used to identify loaded ad and to show that ad
-            String mObjectId = UUID.randomUUID().toString();
+            String mObjectId = mObjectIdGenerator.next();
             loadOptions = new UnityAdsLoadOptions();
             loadOptions.setAdMarkup(serverData);
             loadOptions.setObjectId(mObjectId);
@@ -410,7 +513,8 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
             UnityAds.load(placementId, loadOptions, listener);
         } else {
-            // load rewarded video for non bidding instance
+            // load rewarded video for non bidding instance, the object id of a previous bidding load is stale
+            mRewardedVideoPlacementIdToLoadedAdObjectId.remove(placementId);
             UnityAds.load(placementId, listener);
         }
 
@@ -418,8 +522,9 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
     @Override
     public void showRewardedVideo(JSONObject config, RewardedVideoSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         // change rewarded video availability to false
         listener.onRewardedVideoAvailabilityChanged(false);
@@ -427,18 +532,20 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         if (isRewardedVideoAvailable(config)) {
             mRewardedVideoAdsAvailability.put(placementId, false);
             Activity currentActiveActivity = ContextProvider.getInstance().getCurrentActiveActivity();
-            if (!TextUtils.isEmpty(getDynamicUserId())) {
-                synchronized (mUnityAdsStorageLock) {
-                    PlayerMetaData playerMetaData = new PlayerMetaData(currentActiveActivity);
-                    playerMetaData.setServerId(getDynamicUserId());
-                    playerMetaData.commit();
-                }
+
+            // load the next ad of the placement while this one shows, bidding placements need a new bid for it
+            if (adapterConfig.isReloadOnShowEnabled() && !mRewardedVideoPlacementIdToLoadedAdObjectId.containsKey(placementId)) {
+                mRewardedVideoPlacementIdsToReloadOnShow.add(placementId);
+            } else {
+                mRewardedVideoPlacementIdsToReloadOnShow.remove(placementId);
             }
 
             UnityAdsRewardedVideoListener unityAdsRewardedVideoListener = mPlacementIdToRewardedVideoListener.get(placementId);
-            if (mRewardedVideoPlacementIdToLoadedAdObjectId.containsKey(placementId)) {
+            mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
+            // the shown ad is no longer loaded, a bidding load of the next one may start while this one shows
+            String objectId = mRewardedVideoPlacementIdToLoadedAdObjectId.remove(placementId);
+            if (objectId != null) {
                 // show rewarded video for bidding instance
-                String objectId = mRewardedVideoPlacementIdToLoadedAdObjectId.get(placementId);
                 UnityAdsShowOptions showOptions = new UnityAdsShowOptions();
                 showOptions.setObjectId(objectId);
                 UnityAds.show(currentActiveActivity, placementId, showOptions, unityAdsRewardedVideoListener);
@@ -457,12 +564,12 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     public boolean isRewardedVideoAvailable(JSONObject config) {
         if (!isOSSupported()) {
             IronSourceError error = errorForUnsupportedAdapter(IronSourceConstants.REWARDED_VIDEO_AD_UNIT);
-            IronLog.INTERNAL.error(error.getErrorMessage());
+            AdapterLog.error(IronLog.INTERNAL, error.getErrorMessage());
             return false;
         }
 
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
         return mRewardedVideoAdsAvailability.containsKey(placementId) && mRewardedVideoAdsAvailability.get(placementId);
     }
 
@@ -478,38 +585,39 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
     @Override
     public void initInterstitialForBidding(String appKey, String userId, JSONObject config, InterstitialSmashListener listener) {
-        IronLog.ADAPTER_API.verbose("");
+        AdapterLog.verbose(IronLog.ADAPTER_API, "");
         initInterstitial(appKey, userId, config, listener);
     }
 
     @Override
     public void initInterstitial(String appKey, String userId, JSONObject config, InterstitialSmashListener listener) {
-        String gameId = config.optString(GAME_ID);
-        String placementId = config.optString(PLACEMENT_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String gameId = adapterConfig.getGameId();
+        String placementId = adapterConfig.getPlacementId();
 
         // check if OS is supported
         if (!isOSSupported()) {
             IronSourceError error = errorForUnsupportedAdapter(IronSourceConstants.INTERSTITIAL_AD_UNIT);
-            IronLog.INTERNAL.error(error.getErrorMessage());
+            AdapterLog.error(IronLog.INTERNAL, error.getErrorMessage());
             listener.onInterstitialInitFailed(error);
             return;
         }
 
         // check gameId
         if (TextUtils.isEmpty(gameId)) {
-            IronLog.INTERNAL.error("missing params = " + GAME_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", GAME_ID);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + GAME_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
         // check placementId
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("missing params = " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", PLACEMENT_ID);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + PLACEMENT_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("gameId = " + gameId + ", placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "gameId = {}, placementId = {}", gameId, placementId);
 
         UnityAdsInterstitialListener interstitialListener = new UnityAdsInterstitialListener(UnityAdsAdapter.this, listener, placementId);
         mPlacementIdToInterstitialListener.put(placementId, interstitialListener);
@@ -517,7 +625,7 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         //add to interstitial listener map
         mPlacementIdToInterstitialSmashListener.put(placementId, listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(gameId, config);
@@ -533,51 +641,65 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
     @Override
     public void loadInterstitialForBidding(JSONObject config, InterstitialSmashListener listener, String serverData) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
-        loadInterstitialInternal(config, listener, serverData, placementId);
+        String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        // the bid was made with the cached token, the next auction gets a new one
+        mBiddingTokenCache.onTokenConsumed();
+        loadInterstitialWhenReady(config, listener, serverData, placementId);
     }
 
     @Override
     public void loadInterstitial(JSONObject config, InterstitialSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
-        loadInterstitialInternal(config, listener, null, placementId);
+        String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        loadInterstitialWhenReady(config, listener, null, placementId);
     }
 
     private void loadInterstitialInternal(JSONObject config, InterstitialSmashListener listener, String serverData, String placementId) {
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         mInterstitialAdsAvailability.put(placementId, false);
 
         UnityAdsInterstitialListener unityAdsInterstitialListener = mPlacementIdToInterstitialListener.get(placementId);
+        mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
         if (!TextUtils.isEmpty(serverData)) {
             // load interstitial for bidding instance
             UnityAdsLoadOptions loadOptions = new UnityAdsLoadOptions();
             // mObjectId is string that is used to identify loaded ad and to show that ad
-            String mObjectId = UUID.randomUUID().toString();
+            String mObjectId = mObjectIdGenerator.next();
             loadOptions.setAdMarkup(serverData);
             loadOptions.setObjectId(mObjectId);
             mInterstitialPlacementIdToLoadedAdObjectId.put(placementId, mObjectId);
             UnityAds.load(placementId, loadOptions, unityAdsInterstitialListener);
         } else {
-            // load interstitial for non bidding instance
+            // load interstitial for non bidding instance, the object id of a previous bidding load is stale
+            mInterstitialPlacementIdToLoadedAdObjectId.remove(placementId);
             UnityAds.load(placementId, unityAdsInterstitialListener);
         }
     }
 
     @Override
     public void showInterstitial(JSONObject config, InterstitialSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         if (isInterstitialReady(config)) {
             mInterstitialAdsAvailability.put(placementId, false);
 
             Activity currentActiveActivity = ContextProvider.getInstance().getCurrentActiveActivity();
+            // load the next ad of the placement while this one shows, bidding placements need a new bid for it
+            if (adapterConfig.isReloadOnShowEnabled() && !mInterstitialPlacementIdToLoadedAdObjectId.containsKey(placementId)) {
+                mInterstitialPlacementIdsToReloadOnShow.add(placementId);
+            } else {
+                mInterstitialPlacementIdsToReloadOnShow.remove(placementId);
+            }
+
             UnityAdsInterstitialListener unityAdsInterstitialListener = mPlacementIdToInterstitialListener.get(placementId);
-            if (mInterstitialPlacementIdToLoadedAdObjectId.containsKey(placementId)) {
-                String mObjectId = mInterstitialPlacementIdToLoadedAdObjectId.get(placementId);
+            mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
+            // the shown ad is no longer loaded, a bidding load of the next one may start while this one shows
+            String mObjectId = mInterstitialPlacementIdToLoadedAdObjectId.remove(placementId);
+            if (mObjectId != null) {
                 UnityAdsShowOptions showOptions = new UnityAdsShowOptions();
                 showOptions.setObjectId(mObjectId);
 
@@ -596,12 +718,12 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     public boolean isInterstitialReady(JSONObject config) {
         if (!isOSSupported()) {
             IronSourceError error = errorForUnsupportedAdapter(IronSourceConstants.INTERSTITIAL_AD_UNIT);
-            IronLog.INTERNAL.error(error.getErrorMessage());
+            AdapterLog.error(IronLog.INTERNAL, error.getErrorMessage());
             return false;
         }
 
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
         return mInterstitialAdsAvailability.containsKey(placementId) && mInterstitialAdsAvailability.get(placementId);
     }
 
@@ -614,32 +736,33 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     //region Banner API
     @Override
     public void initBanners(String appKey, String userId, final JSONObject config, final BannerSmashListener listener) {
-        String gameId = config.optString(GAME_ID);
-        String placementId = config.optString(PLACEMENT_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String gameId = adapterConfig.getGameId();
+        String placementId = adapterConfig.getPlacementId();
 
         // check if OS is supported
         if (!isOSSupported()) {
             IronSourceError error = errorForUnsupportedAdapter(IronSourceConstants.BANNER_AD_UNIT);
-            IronLog.INTERNAL.error(error.getErrorMessage());
+            AdapterLog.error(IronLog.INTERNAL, error.getErrorMessage());
             listener.onBannerInitFailed(error);
             return;
         }
 
         // check gameId
         if (TextUtils.isEmpty(gameId)) {
-            IronLog.INTERNAL.error("missing params = " + GAME_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", GAME_ID);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + GAME_ID, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
         // check placementId
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("missing params = " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "missing params = {}", PLACEMENT_ID);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing params - " + PLACEMENT_ID, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("gameId = " + gameId + ", placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "gameId = {}, placementId = {}", gameId, placementId);
 
         UnityAdsBannerListener bannerListener = new UnityAdsBannerListener(UnityAdsAdapter.this, listener, placementId);
         mPlacementIdToBannerListener.put(placementId, bannerListener);
@@ -647,7 +770,7 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         //add to banner listener map
         mPlacementIdToBannerSmashListener.put(placementId, listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(gameId, config);
@@ -663,43 +786,56 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
     @Override
     public void loadBanner(final IronSourceBannerLayout banner, final JSONObject config, final BannerSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
 
         // check banner
         if (banner == null) {
-            IronLog.INTERNAL.error("banner is null");
+            AdapterLog.error(IronLog.INTERNAL, "banner is null");
             listener.onBannerAdLoadFailed(ErrorBuilder.buildNoConfigurationAvailableError("banner is null"));
             return;
         }
 
         // check size
         if (!isBannerSizeSupported(banner.getSize())) {
-            IronLog.ADAPTER_API.verbose("size not supported, size = " + banner.getSize().getDescription());
+            AdapterLog.verbose(IronLog.ADAPTER_API, "size not supported, size = {}", banner.getSize().getDescription());
             listener.onBannerAdLoadFailed(ErrorBuilder.unsupportedBannerSize(getProviderName()));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+
+        // a load made while the network initializes waits for the init
+        mInitReadinessGate.await(new InitReadinessGate.PendingLoad() {
+            @Override
+            public void load() {
+                // create banner
+                BannerView bannerView = getBannerView(banner, placementId);
 
-        // create banner
-        BannerView bannerView = getBannerView(banner, placementId);
+                // load
+                mLatencyTracker.onLoadStarted(IronSourceConstants.BANNER_AD_UNIT, placementId);
+                bannerView.load();
+            }
 
-        // load
-        bannerView.load();
+            @Override
+            public void fail(String error) {
+                listener.onBannerAdLoadFailed(ErrorBuilder.buildLoadFailedError(IronSourceConstants.BANNER_AD_UNIT, getProviderName(), error));
+            }
+        });
     }
 
     @Override
     public void reloadBanner(final IronSourceBannerLayout banner, final JSONObject config, BannerSmashListener listener) {
-        IronLog.INTERNAL.warning("Unsupported method");
+        AdapterLog.warning(IronLog.INTERNAL, "Unsupported method");
     }
 
     @Override
     public void destroyBanner(JSONObject config) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
-        if (mPlacementIdToBannerAd.get(placementId) != null) {
-            mPlacementIdToBannerAd.get(placementId).destroy();
-            mPlacementIdToBannerAd.remove(placementId);
+        String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        BannerView bannerView = mPlacementIdToBannerAd.remove(placementId);
+        if (bannerView != null) {
+            // kept for the next load of the placement once removed from the layout, destroyed with its activity
+            mBannerViewPool.release(bannerView);
         }
     }
 
@@ -712,10 +848,22 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     //endregion
 
     // region memory handling
+    // The network SDK keeps the interstitial and rewarded video ads itself, the adapter holds the pooled banner views
+    private final MemoryTrimPolicy.Evictor mMemoryTrimEvictor = new MemoryTrimPolicy.Evictor() {
+        @Override
+        public int evictDetachedBanners() {
+            return mBannerViewPool.evictDetached();
+        }
+
+        @Override
+        public int evictAvailableAds(long maxAgeMillis) {
+            return 0;
+        }
+    };
 
     @Override
     public void releaseMemory(IronSource.AD_UNIT adUnit, JSONObject config) {
-        IronLog.INTERNAL.verbose("adUnit = " + adUnit);
+        AdapterLog.verbose(IronLog.INTERNAL, "adUnit = {}", adUnit);
 
         if (adUnit == IronSource.AD_UNIT.REWARDED_VIDEO) {
             mPlacementIdToRewardedVideoSmashListener.clear();
@@ -723,19 +871,23 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
             mRewardedVideoPlacementIdToLoadedAdObjectId.clear();
             mRewardedVideoAdsAvailability.clear();
             mRewardedVideoPlacementIdsForInitCallbacks.clear();
+            mRewardedVideoPlacementIdsToReloadOnShow.clear();
         } else if (adUnit == IronSource.AD_UNIT.INTERSTITIAL) {
             mPlacementIdToInterstitialSmashListener.clear();
             mPlacementIdToInterstitialListener.clear();
             mInterstitialPlacementIdToLoadedAdObjectId.clear();
             mInterstitialAdsAvailability.clear();
+            mInterstitialPlacementIdsToReloadOnShow.clear();
         } else if (adUnit == IronSource.AD_UNIT.BANNER) {
-            for (BannerView adView : mPlacementIdToBannerAd.values()) {
-                adView.destroy();
+            for (Map.Entry<String, BannerView> entry : mPlacementIdToBannerAd.entrySet()) {
+                entry.getValue().destroy();
+                mBannerViewPool.evict(entry.getKey());
             }
 
             mPlacementIdToBannerSmashListener.clear();
             mPlacementIdToBannerListener.clear();
             mPlacementIdToBannerAd.clear();
+            mPlacementIdToBannerLayout.clear();
         }
     }
     //endregion
@@ -743,7 +895,7 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     //region legal
 
     protected void setConsent(boolean consent) {
-        IronLog.ADAPTER_API.verbose("setConsent = " + consent);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "setConsent = {}", consent);
         setUnityAdsMetaData(CONSENT_GDPR, consent);
     }
 
@@ -755,10 +907,12 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
         // this is a list of 1 value
         String value = values.get(0);
-        IronLog.ADAPTER_API.verbose("key = " + key + ", value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, value = {}", key, value);
 
         if (MetaDataUtils.isValidCCPAMetaData(key, value)) {
             setCCPAValue(MetaDataUtils.getMetaDataBooleanValue(value));
+        } else if (key.equalsIgnoreCase(UNITYADS_METADATA_BIDDING_TOKEN_TTL_KEY)) {
+            mBiddingTokenCache.setTtlFromMetaData(value);
         } else {
             String formattedValue = MetaDataUtils.formatValueForType(value, META_DATA_VALUE_BOOLEAN);
 
@@ -769,29 +923,31 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     }
 
     private void setUnityAdsMetaData(String key, boolean value) {
-        IronLog.INTERNAL.verbose("key = " + key + "value = " + value);
+        AdapterLog.verbose(IronLog.INTERNAL, "key = {}value = {}", key, value);
 
-        synchronized (mUnityAdsStorageLock) {
-            MetaData metaData = new MetaData(ContextProvider.getInstance().getCurrentActiveActivity());
-            metaData.set(key, value);
+        mMetaDataWriter.set(MetaDataWriter.Category.DEFAULT, key, value);
 
-            // in case of COPPA we need to set an additional key
-            if (key.equals(UNITYADS_COPPA)) {
-                metaData.set(GAME_DESIGNATION, MIXED_AUDIENCE); // This is a mixed audience game.
-            }
-
-            metaData.commit();
+        // in case of COPPA we need to set an additional key
+        if (key.equals(UNITYADS_COPPA)) {
+            mMetaDataWriter.set(MetaDataWriter.Category.DEFAULT, GAME_DESIGNATION, MIXED_AUDIENCE); // This is a mixed audience game.
         }
 
+        // the token carries the privacy settings, commit them before fetching a new token in place of the cached one
+        mMetaDataWriter.runWhenCommitted(MetaDataWriter.Category.DEFAULT, new Runnable() {
+            @Override
+            public void run() {
+                mBiddingTokenCache.invalidate();
+            }
+        });
     }
 
     private void setCOPPAValue(boolean value) {
-        IronLog.ADAPTER_API.verbose("value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", value);
         setUnityAdsMetaData(UNITYADS_COPPA, value);
     }
 
     private void setCCPAValue(boolean value) {
-        IronLog.ADAPTER_API.verbose("value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "value = {}", value);
         // The UnityAds CCPA API expects an indication if the user opts in to targeted advertising.
         // Given that this is opposite to the ironSource Mediation CCPA flag of do_not_sell
         // we will use the opposite value of what is passed to this method
@@ -808,20 +964,15 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
 
     //In case this method is called before the init we will try using the token that was received asynchronically
     private Map<String, Object> getBiddingData() {
-        String bidderToken;
-        if (InitState.INIT_STATE_SUCCESS == mInitState) {
-            bidderToken = UnityAds.getToken();
-        } else if (!TextUtils.isEmpty(asyncToken)) {
-            bidderToken = asyncToken;
-        } else {
-            IronLog.INTERNAL.verbose("returning null as token since init did not finish successfully/async token did not fetch");
+        String bidderToken = mBiddingTokenCache.getToken();
+        if (bidderToken == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "returning null as token since async token did not fetch yet");
             return null;
         }
 
-        String returnedToken = (!TextUtils.isEmpty(bidderToken)) ? bidderToken : "";
-        IronLog.ADAPTER_API.verbose("token = " + returnedToken);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "token = {}, tokenAgeMillis = {}", bidderToken, mBiddingTokenCache.getTokenAgeMillis());
         Map<String, Object> ret = new HashMap<>();
-        ret.put("token", returnedToken);
+        ret.put("token", bidderToken);
         return ret;
     }
 
@@ -836,32 +987,23 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         }
     }
 
-    private UnityBannerSize getBannerSize(ISBannerSize size, boolean isLargeScreen) {
-        switch (size.getDescription()) {
-            case "BANNER":
-            case "LARGE":
-                return new UnityBannerSize(320, 50);
-            case "SMART":
-                return isLargeScreen ? new UnityBannerSize(728, 90) : new UnityBannerSize(320, 50);
-
-        }
-
-        return null;
-    }
-
     private BannerView getBannerView(IronSourceBannerLayout banner, String placementId) {
-        // Remove previously created banner view
-        if (mPlacementIdToBannerAd.get(placementId) != null) {
-            mPlacementIdToBannerAd.get(placementId).destroy();
-            mPlacementIdToBannerAd.remove(placementId);
+        // Keep the previously created banner view for a later load, it is pooled once the mediation removed it
+        BannerView previousBannerView = mPlacementIdToBannerAd.remove(placementId);
+        if (previousBannerView != null) {
+            mBannerViewPool.release(previousBannerView);
         }
 
         Activity currentActiveActivity = ContextProvider.getInstance().getCurrentActiveActivity();
-        // get size
-        UnityBannerSize unityBannerSize = getBannerSize(banner.getSize(), AdapterUtils.isLargeScreen(currentActiveActivity));
-
-        // create banner
-        BannerView bannerView = new BannerView(currentActiveActivity, placementId, unityBannerSize);
+        // get size, the layout is kept for the layout params of the loaded banner
+        BannerLayoutCache.BannerLayout<UnityBannerSize> bannerLayout = mBannerLayoutCache.getLayout(banner.getSize(), mBannerSizeResolver);
+        mPlacementIdToBannerLayout.put(placementId, bannerLayout);
+
+        // reuse a banner view of the placement and size that is no longer on screen, or create one
+        BannerView bannerView = mBannerViewPool.acquire(currentActiveActivity, placementId, bannerLayout.getNetworkSize());
+        if (bannerView == null) {
+            bannerView = new BannerView(currentActiveActivity, placementId, bannerLayout.getNetworkSize());
+        }
 
         // add listener
         bannerView.setListener(mPlacementIdToBannerListener.get(placementId));
@@ -872,10 +1014,9 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         return bannerView;
     }
 
-    protected FrameLayout.LayoutParams createLayoutParams(UnityBannerSize size) {
-        int widthPixel = AdapterUtils.dpToPixels(ContextProvider.getInstance().getCurrentActiveActivity(), size.getWidth());
-        FrameLayout.LayoutParams layoutParams = new FrameLayout.LayoutParams(widthPixel, FrameLayout.LayoutParams.WRAP_CONTENT, Gravity.CENTER);
-        return layoutParams;
+    protected FrameLayout.LayoutParams createLayoutParams(String placementId) {
+        BannerLayoutCache.BannerLayout<UnityBannerSize> layout = mPlacementIdToBannerLayout.get(placementId);
+        return layout != null ? layout.createLayoutParams() : new FrameLayout.LayoutParams(0, FrameLayout.LayoutParams.WRAP_CONTENT, Gravity.CENTER);
     }
 
     private IronSourceError errorForUnsupportedAdapter(String adUnit) {
@@ -890,6 +1031,74 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
     //endregion
 
     //region Adapter Helpers
+
+    // Loads right away, or once the network initialized if the init is in progress
+    private void loadRewardedVideoWhenReady(final String placementId, final String serverData, final RewardedVideoSmashListener listener) {
+        mInitReadinessGate.await(new InitReadinessGate.PendingLoad() {
+            @Override
+            public void load() {
+                loadRewardedVideoInternal(placementId, serverData);
+            }
+
+            @Override
+            public void fail(String error) {
+                if (listener != null) {
+                    listener.onRewardedVideoAvailabilityChanged(false);
+                    listener.onRewardedVideoLoadFailed(ErrorBuilder.buildLoadFailedError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, getProviderName(), error));
+                }
+            }
+        });
+    }
+
+    // Loads right away, or once the network initialized if the init is in progress
+    private void loadInterstitialWhenReady(final JSONObject config, final InterstitialSmashListener listener, final String serverData, final String placementId) {
+        mInitReadinessGate.await(new InitReadinessGate.PendingLoad() {
+            @Override
+            public void load() {
+                loadInterstitialInternal(config, listener, serverData, placementId);
+            }
+
+            @Override
+            public void fail(String error) {
+                if (listener != null) {
+                    listener.onInterstitialAdLoadFailed(ErrorBuilder.buildLoadFailedError(IronSourceConstants.INTERSTITIAL_AD_UNIT, getProviderName(), error));
+                }
+            }
+        });
+    }
+
+    // Called when a load of the placement failed, the object id of a bidding load no longer refers to an ad
+    void clearRewardedVideoObjectId(String placementId) {
+        mRewardedVideoPlacementIdToLoadedAdObjectId.remove(placementId);
+    }
+
+    // Called when a load of the placement failed, the object id of a bidding load no longer refers to an ad
+    void clearInterstitialObjectId(String placementId) {
+        mInterstitialPlacementIdToLoadedAdObjectId.remove(placementId);
+    }
+
+    // Called once the current ad of the placement started showing, loads its next ad if its show opted in
+    void reloadRewardedVideoWhileShowing(String placementId) {
+        if (!mRewardedVideoPlacementIdsToReloadOnShow.remove(placementId) || !mPlacementIdToRewardedVideoListener.containsKey(placementId)) {
+            return;
+        }
+
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        loadRewardedVideoInternal(placementId, null);
+    }
+
+    // Called once the current ad of the placement started showing, loads its next ad if its show opted in
+    void reloadInterstitialWhileShowing(String placementId) {
+        InterstitialSmashListener listener = mPlacementIdToInterstitialSmashListener.get(placementId);
+
+        if (!mInterstitialPlacementIdsToReloadOnShow.remove(placementId) || listener == null) {
+            return;
+        }
+
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        loadInterstitialInternal(null, listener, null, placementId);
+    }
+
     private int getUnityAdsInitializationErrorCode(UnityAds.UnityAdsInitializationError error) {
         if (error != null) {
             for (UnityAds.UnityAdsInitializationError e : UnityAds.UnityAdsInitializationError.values()) {
@@ -941,16 +1150,5 @@ class UnityAdsAdapter extends AbstractAdapter implements IUnityAdsInitialization
         return loadWhileShowSupportState;
     }
 
-    public void getAsyncToken() {
-        IronLog.INTERNAL.verbose("");
-        UnityAds.getToken(new IUnityAdsTokenListener() {
-            @Override
-            public void onUnityAdsTokenReady(String token) {
-                IronLog.ADAPTER_CALLBACK.verbose("async token returned");
-                asyncToken = token;
-            }
-        });
-    }
-
     //endregion
 }
\ No newline at end of file
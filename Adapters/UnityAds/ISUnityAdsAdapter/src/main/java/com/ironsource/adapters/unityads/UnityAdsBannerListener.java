@@ -4,6 +4,7 @@ import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 import com.unity3d.services.banners.BannerErrorCode;
 import com.unity3d.services.banners.BannerErrorInfo;
 import com.unity3d.services.banners.BannerView;
@@ -25,32 +26,34 @@ final class UnityAdsBannerListener implements BannerView.IListener {
 
     @Override
     public void onBannerLoaded(BannerView bannerView) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        UnityAdsAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.BANNER_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
-        mListener.onBannerAdLoaded(bannerView, mAdapter.get().createLayoutParams(bannerView.getSize()));
+        mListener.onBannerAdLoaded(bannerView, mAdapter.get().createLayoutParams(mPlacementId));
         mListener.onBannerAdShown();
     }
 
     @Override
     public void onBannerFailedToLoad(BannerView bannerView, BannerErrorInfo bannerErrorInfo) {
+        UnityAdsAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.BANNER_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -63,17 +66,17 @@ final class UnityAdsBannerListener implements BannerView.IListener {
             ironSourceError = ErrorBuilder.buildLoadFailedError(message);
         }
 
-        IronLog.ADAPTER_CALLBACK.error("placementId = " + mPlacementId + " ironSourceError = " + ironSourceError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "placementId = {} ironSourceError = {}", mPlacementId, ironSourceError);
 
         mListener.onBannerAdLoadFailed(ironSourceError);
     }
 
     @Override
     public void onBannerClick(BannerView bannerView) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -82,10 +85,10 @@ final class UnityAdsBannerListener implements BannerView.IListener {
 
     @Override
     public void onBannerLeftApplication(BannerView bannerView) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
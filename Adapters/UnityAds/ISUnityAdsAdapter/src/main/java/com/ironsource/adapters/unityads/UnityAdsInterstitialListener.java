@@ -32,15 +32,16 @@ final class UnityAdsInterstitialListener implements IUnityAdsLoadListener, IUnit
      */
     @Override
     public void onUnityAdsAdLoaded(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        UnityAdsAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -57,17 +58,20 @@ final class UnityAdsInterstitialListener implements IUnityAdsLoadListener, IUnit
      */
     @Override
     public void onUnityAdsFailedToLoad(String placementId, UnityAds.UnityAdsLoadError error, String message) {
+        UnityAdsAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
+        mAdapter.get().clearInterstitialObjectId(mPlacementId);
+
         IronSourceError ironSourceError;
 
         if (error != null) {
@@ -77,7 +81,7 @@ final class UnityAdsInterstitialListener implements IUnityAdsLoadListener, IUnit
             ironSourceError = ErrorBuilder.buildLoadFailedError(IronSourceConstants.INTERSTITIAL_AD_UNIT,mAdapter.get().getProviderName(), message);
         }
 
-        IronLog.ADAPTER_CALLBACK.error("placementId = " + mPlacementId + " ironSourceError = " + ironSourceError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "placementId = {} ironSourceError = {}", mPlacementId, ironSourceError);
 
         mListener.onInterstitialAdLoadFailed(ironSourceError);
         mAdapter.get().mInterstitialAdsAvailability.put(mPlacementId, false);
@@ -92,15 +96,21 @@ final class UnityAdsInterstitialListener implements IUnityAdsLoadListener, IUnit
      */
     @Override
     public void onUnityAdsShowStart(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        UnityAdsAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         mListener.onInterstitialAdOpened();
         mListener.onInterstitialAdShowSucceeded();
+
+        // the next ad loads while this one shows, if the show opted in
+        if (mAdapter != null && mAdapter.get() != null) {
+            mAdapter.get().reloadInterstitialWhileShowing(mPlacementId);
+        }
     }
 
     /**
@@ -121,12 +131,12 @@ final class UnityAdsInterstitialListener implements IUnityAdsLoadListener, IUnit
     public void onUnityAdsShowFailure(String placementId, UnityAds.UnityAdsShowError error, String message) {
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -138,7 +148,7 @@ final class UnityAdsInterstitialListener implements IUnityAdsLoadListener, IUnit
             ironSourceError = ErrorBuilder.buildShowFailedError(IronSourceConstants.INTERSTITIAL_AD_UNIT, message);
         }
 
-        IronLog.ADAPTER_CALLBACK.error("placementId = " + mPlacementId + "ironSourceError = " + ironSourceError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "placementId = {}ironSourceError = {}", mPlacementId, ironSourceError);
         mListener.onInterstitialAdShowFailed(ironSourceError);
     }
 
@@ -149,10 +159,10 @@ final class UnityAdsInterstitialListener implements IUnityAdsLoadListener, IUnit
      */
     @Override
     public void onUnityAdsShowClick(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -168,10 +178,10 @@ final class UnityAdsInterstitialListener implements IUnityAdsLoadListener, IUnit
      */
     @Override
     public void onUnityAdsShowComplete(String placementId, UnityAds.UnityAdsShowCompletionState completionState) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId + " completionState: " + completionState);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {} completionState: {}", mPlacementId, completionState);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
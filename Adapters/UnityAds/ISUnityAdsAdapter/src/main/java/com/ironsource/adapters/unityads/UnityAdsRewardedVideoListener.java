@@ -32,15 +32,16 @@ final class UnityAdsRewardedVideoListener implements IUnityAdsLoadListener, IUni
      */
     @Override
     public void onUnityAdsAdLoaded(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        UnityAdsAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -57,17 +58,20 @@ final class UnityAdsRewardedVideoListener implements IUnityAdsLoadListener, IUni
      */
     @Override
     public void onUnityAdsFailedToLoad(String placementId, UnityAds.UnityAdsLoadError error, String message) {
+        UnityAdsAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementId);
+
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         mAdapter.get().mRewardedVideoAdsAvailability.put(mPlacementId, false);
+        mAdapter.get().clearRewardedVideoObjectId(mPlacementId);
         mListener.onRewardedVideoAvailabilityChanged(false);
 
         IronSourceError ironSourceError;
@@ -83,7 +87,7 @@ final class UnityAdsRewardedVideoListener implements IUnityAdsLoadListener, IUni
             ironSourceError = ErrorBuilder.buildLoadFailedError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mAdapter.get().getProviderName(), message);
         }
 
-        IronLog.ADAPTER_CALLBACK.error("placementId = " + mPlacementId + " ironSourceError = " + ironSourceError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "placementId = {} ironSourceError = {}", mPlacementId, ironSourceError);
     }
     //endregion
 
@@ -95,15 +99,21 @@ final class UnityAdsRewardedVideoListener implements IUnityAdsLoadListener, IUni
      */
     @Override
     public void onUnityAdsShowStart(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
+        UnityAdsAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         mListener.onRewardedVideoAdOpened();
         mListener.onRewardedVideoAdStarted();
+
+        // the next ad loads while this one shows, if the show opted in
+        if (mAdapter != null && mAdapter.get() != null) {
+            mAdapter.get().reloadRewardedVideoWhileShowing(mPlacementId);
+        }
     }
 
     /**
@@ -124,12 +134,12 @@ final class UnityAdsRewardedVideoListener implements IUnityAdsLoadListener, IUni
     public void onUnityAdsShowFailure(String placementId, UnityAds.UnityAdsShowError error, String message) {
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
@@ -141,7 +151,7 @@ final class UnityAdsRewardedVideoListener implements IUnityAdsLoadListener, IUni
             ironSourceError = ErrorBuilder.buildShowFailedError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, message);
         }
 
-        IronLog.ADAPTER_CALLBACK.error("placementId = " + mPlacementId + " ironSourceError = " + ironSourceError);
+        AdapterLog.error(IronLog.ADAPTER_CALLBACK, "placementId = {} ironSourceError = {}", mPlacementId, ironSourceError);
         mListener.onRewardedVideoAdShowFailed(ironSourceError);
     }
 
@@ -152,10 +162,10 @@ final class UnityAdsRewardedVideoListener implements IUnityAdsLoadListener, IUni
      */
     @Override
     public void onUnityAdsShowClick(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", mPlacementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
@@ -171,10 +181,10 @@ final class UnityAdsRewardedVideoListener implements IUnityAdsLoadListener, IUni
      */
     @Override
     public void onUnityAdsShowComplete(String placementId, UnityAds.UnityAdsShowCompletionState completionState) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + mPlacementId + " completionState: " + completionState);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {} completionState: {}", mPlacementId, completionState);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
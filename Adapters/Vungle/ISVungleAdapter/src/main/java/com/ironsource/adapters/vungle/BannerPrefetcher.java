@@ -0,0 +1,148 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+import com.vungle.warren.AdConfig;
+import com.vungle.warren.BannerAdConfig;
+import com.vungle.warren.Banners;
+import com.vungle.warren.LoadAdCallback;
+import com.vungle.warren.error.VungleException;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a banner ad loaded ahead of time per placement and banner size, so a non bidding banner load can create
+ * the banner view right away instead of waiting for the network load. The network caches a single banner ad per
+ * placement and size, so one ad is prefetched per key. It's loaded again in the background after every banner that
+ * was handed to the mediation, and an ad older than the max age is not used. A prefetch that didn't report back
+ * within LOAD_TIMEOUT_MILLIS no longer blocks the next prefetch of its key.
+ * The views themselves are not prefetched, Vungle starts rendering a banner and counts its impression once its view
+ * is created.
+ */
+final class BannerPrefetcher {
+
+    private static final long MAX_AGE_MILLIS = 30 * 60 * 1000;
+    private static final long LOAD_TIMEOUT_MILLIS = 60 * 1000;
+
+    private final ConcurrentHashMap<String, Long> mLoadTimes = new ConcurrentHashMap<>();
+    // Start time of the prefetch in progress per key
+    private final ConcurrentHashMap<String, Long> mLoadsInProgress = new ConcurrentHashMap<>();
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+    private final AtomicLong mExpired = new AtomicLong();
+    private final AtomicLong mPrefetches = new AtomicLong();
+    private final AtomicLong mTimedOut = new AtomicLong();
+    private volatile boolean mEnabled = false;
+
+    void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    // Returns true if a prefetched ad of the placement and size is ready, the caller creates its view right away
+    boolean take(String placementId, AdConfig.AdSize adSize) {
+        if (!mEnabled) {
+            return false;
+        }
+
+        Long loadTime = mLoadTimes.remove(getKey(placementId, adSize));
+
+        if (loadTime == null) {
+            mMisses.incrementAndGet();
+            return false;
+        }
+
+        if (SystemClock.elapsedRealtime() - loadTime >= MAX_AGE_MILLIS || !Banners.canPlayAd(placementId, adSize)) {
+            mExpired.incrementAndGet();
+            return false;
+        }
+
+        mHits.incrementAndGet();
+        return true;
+    }
+
+    // Loads the next ad of the placement and size in the background, to be called on the main thread
+    void prefetch(final String placementId, final AdConfig.AdSize adSize) {
+        final String key = getKey(placementId, adSize);
+
+        if (!mEnabled || mLoadTimes.containsKey(key)) {
+            return;
+        }
+
+        final Long startTime = startLoad(key);
+
+        if (startTime == null) {
+            return;
+        }
+
+        mPrefetches.incrementAndGet();
+        Banners.loadBanner(placementId, new BannerAdConfig(adSize), new LoadAdCallback() {
+            @Override
+            public void onAdLoad(String id) {
+                // a load that timed out or was cleared meanwhile no longer owns the key
+                if (mLoadsInProgress.remove(key, startTime)) {
+                    mLoadTimes.put(key, SystemClock.elapsedRealtime());
+                }
+            }
+
+            @Override
+            public void onError(String id, VungleException exception) {
+                AdapterLog.verbose(IronLog.INTERNAL, "prefetch failed - placementId = {}, exception = {}", id, exception);
+                mLoadsInProgress.remove(key, startTime);
+            }
+        });
+    }
+
+    void clear() {
+        mLoadTimes.clear();
+        mLoadsInProgress.clear();
+    }
+
+    JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("enabled", mEnabled);
+            stats.put("hits", mHits.get());
+            stats.put("misses", mMisses.get());
+            stats.put("expired", mExpired.get());
+            stats.put("prefetches", mPrefetches.get());
+            stats.put("timedOut", mTimedOut.get());
+            stats.put("ready", mLoadTimes.size());
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the banner prefetch stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    // Marks a prefetch of the key as started and returns its start time, or null if one that hasn't timed out yet
+    // is in progress
+    private Long startLoad(String key) {
+        Long now = SystemClock.elapsedRealtime();
+        Long startTime = mLoadsInProgress.putIfAbsent(key, now);
+
+        if (startTime == null) {
+            return now;
+        }
+
+        if (now - startTime < LOAD_TIMEOUT_MILLIS || !mLoadsInProgress.replace(key, startTime, now)) {
+            return null;
+        }
+
+        mTimedOut.incrementAndGet();
+        return now;
+    }
+
+    private static String getKey(String placementId, AdConfig.AdSize adSize) {
+        return placementId + ":" + adSize;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * Cooldown of the placements the network didn't fill. While a placement cools down, its loads fail right away
+ * with a no-fill instead of asking the network again. The cooldown doubles with every consecutive no-fill, from
+ * BASE_DELAY_MILLIS up to MAX_DELAY_MILLIS, and is randomized between half and all of it so placements that
+ * stopped filling together don't retry together. A fill ends the backoff of its placement.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+final class NoFillBackoff {
+
+    private static final long BASE_DELAY_MILLIS = 5 * 1000;
+    private static final long MAX_DELAY_MILLIS = 5 * 60 * 1000;
+
+    private static final class State {
+        private int noFills;
+        private long retryTime;
+    }
+
+    private final HashMap<String, State> mStates = new HashMap<>();
+    private final Random mRandom = new Random();
+
+    // stats
+    private long mNoFills;
+    private long mShortCircuited;
+    private long mResets;
+
+    // True if the load of the placement should fail with a no-fill without asking the network
+    synchronized boolean isCoolingDown(String adUnit, String placementId) {
+        State state = mStates.get(getKey(adUnit, placementId));
+
+        if (state == null || SystemClock.elapsedRealtime() >= state.retryTime) {
+            return false;
+        }
+
+        mShortCircuited++;
+        return true;
+    }
+
+    synchronized void onNoFill(String adUnit, String placementId) {
+        String key = getKey(adUnit, placementId);
+        State state = mStates.get(key);
+
+        if (state == null) {
+            state = new State();
+            mStates.put(key, state);
+        }
+
+        state.noFills++;
+        mNoFills++;
+
+        long delay = Math.min(MAX_DELAY_MILLIS, BASE_DELAY_MILLIS << Math.min(state.noFills - 1, 16));
+        long jitteredDelay = delay / 2 + (long) (mRandom.nextDouble() * (delay / 2));
+        state.retryTime = SystemClock.elapsedRealtime() + jitteredDelay;
+
+        AdapterLog.verbose(IronLog.INTERNAL, "placementId = {}, noFills = {}, cooldown = {}ms", placementId, state.noFills, jitteredDelay);
+    }
+
+    synchronized void onFill(String adUnit, String placementId) {
+        if (mStates.remove(getKey(adUnit, placementId)) != null) {
+            mResets++;
+        }
+    }
+
+    synchronized void clear() {
+        mStates.clear();
+    }
+
+    synchronized JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+        long now = SystemClock.elapsedRealtime();
+        int coolingDown = 0;
+
+        for (State state : mStates.values()) {
+            if (now < state.retryTime) {
+                coolingDown++;
+            }
+        }
+
+        try {
+            stats.put("coolingDown", coolingDown);
+            stats.put("noFills", mNoFills);
+            stats.put("shortCircuited", mShortCircuited);
+            stats.put("resets", mResets);
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the no fill backoff stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    private static String getKey(String adUnit, String placementId) {
+        return adUnit + ":" + placementId;
+    }
+}
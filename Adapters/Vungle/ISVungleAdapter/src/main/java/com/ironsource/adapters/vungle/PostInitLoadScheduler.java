@@ -0,0 +1,224 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Orders and paces the loads the adapter starts once the network init finished. Instead of loading every waiting
+ * placement back to back, the loads start by priority (lower first, in the order they were scheduled on a tie),
+ * at most MAX_CONCURRENT_LOADS at a time and at least STAGGER_MILLIS apart, so the first placements are not slowed
+ * down by a burst of downloads. A load that never reports back frees its slot after LOAD_SLOT_TIMEOUT_MILLIS.
+ * The delayed starts and the slot timeouts run on a background thread, never on the main thread.
+ */
+final class PostInitLoadScheduler {
+
+    interface Loader {
+        // Returns false if no network load was started for the placement
+        boolean load(String placementId);
+    }
+
+    // Priority of placements their config doesn't set one for, loaded last
+    static final int DEFAULT_PRIORITY = Integer.MAX_VALUE;
+
+    private static final int MAX_CONCURRENT_LOADS = 2;
+    private static final long STAGGER_MILLIS = 100;
+    private static final long LOAD_SLOT_TIMEOUT_MILLIS = 30 * 1000;
+
+    private static final class Entry {
+        private final String placementId;
+        private final int priority;
+        private final long sequence;
+        private final Loader loader;
+
+        private Entry(String placementId, int priority, long sequence, Loader loader) {
+            this.placementId = placementId;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.loader = loader;
+        }
+    }
+
+    private static final Comparator<Entry> PRIORITY_ORDER = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry first, Entry second) {
+            if (first.priority != second.priority) {
+                return first.priority < second.priority ? -1 : 1;
+            }
+
+            return first.sequence < second.sequence ? -1 : (first.sequence == second.sequence ? 0 : 1);
+        }
+    };
+
+    // Shared by the schedulers of all adapter instances
+    private static final ScheduledExecutorService sTimerExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "PostInitLoadScheduler");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final ScheduledExecutorService mTimerExecutor;
+    private final PriorityQueue<Entry> mPending = new PriorityQueue<>(11, PRIORITY_ORDER);
+    private final HashMap<String, Entry> mInFlight = new HashMap<>();
+    private long mSequence;
+    private long mLastStartTime;
+    private boolean mStartPosted;
+
+    // stats, guarded by this
+    private long mScheduled;
+    private long mStarted;
+    private long mSkipped;
+    private long mTimedOut;
+    private long mInitFinishedTime = -1;
+    private long mInitToFirstReadyMillis = -1;
+
+    private final Runnable mStartNextRunnable = new Runnable() {
+        @Override
+        public void run() {
+            synchronized (PostInitLoadScheduler.this) {
+                mStartPosted = false;
+            }
+
+            startNext();
+        }
+    };
+
+    PostInitLoadScheduler() {
+        this(sTimerExecutor);
+    }
+
+    PostInitLoadScheduler(ScheduledExecutorService timerExecutor) {
+        mTimerExecutor = timerExecutor;
+    }
+
+    // Marks the end of the network init, the time to the first ready ad is measured from here
+    synchronized void onInitFinished() {
+        mInitFinishedTime = SystemClock.elapsedRealtime();
+        mInitToFirstReadyMillis = -1;
+    }
+
+    void schedule(List<String> placementIds, List<Integer> priorities, Loader loader) {
+        synchronized (this) {
+            for (int i = 0; i < placementIds.size(); i++) {
+                mPending.add(new Entry(placementIds.get(i), priorities.get(i), mSequence++, loader));
+                mScheduled++;
+            }
+        }
+
+        startNext();
+    }
+
+    // Called by the load callbacks of every placement, frees the slot of a load the scheduler started
+    void onLoadFinished(String placementId, boolean isReady) {
+        synchronized (this) {
+            if (isReady && mInitFinishedTime >= 0 && mInitToFirstReadyMillis < 0) {
+                mInitToFirstReadyMillis = SystemClock.elapsedRealtime() - mInitFinishedTime;
+            }
+
+            if (mInFlight.remove(placementId) == null) {
+                return;
+            }
+        }
+
+        startNext();
+    }
+
+    synchronized JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("scheduled", mScheduled);
+            stats.put("started", mStarted);
+            stats.put("skipped", mSkipped);
+            stats.put("timedOut", mTimedOut);
+            stats.put("pending", mPending.size());
+            stats.put("inFlight", mInFlight.size());
+            stats.put("initToFirstReadyMillis", mInitToFirstReadyMillis);
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the post init load stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    private void startNext() {
+        while (true) {
+            final Entry entry;
+            final long previousStartTime;
+
+            synchronized (this) {
+                if (mPending.isEmpty() || mInFlight.size() >= MAX_CONCURRENT_LOADS) {
+                    return;
+                }
+
+                long now = SystemClock.elapsedRealtime();
+                long wait = mLastStartTime + STAGGER_MILLIS - now;
+
+                if (wait > 0) {
+                    if (!mStartPosted) {
+                        mStartPosted = true;
+                        mTimerExecutor.schedule(mStartNextRunnable, wait, TimeUnit.MILLISECONDS);
+                    }
+
+                    return;
+                }
+
+                entry = mPending.poll();
+                mInFlight.put(entry.placementId, entry);
+                previousStartTime = mLastStartTime;
+                mLastStartTime = now;
+            }
+
+            AdapterLog.verbose(IronLog.INTERNAL, "placementId = {}, priority = {}", entry.placementId, entry.priority);
+            boolean started = entry.loader.load(entry.placementId);
+
+            synchronized (this) {
+                if (!started) {
+                    // no download was started, the next placement doesn't have to wait for it
+                    mInFlight.remove(entry.placementId);
+                    mLastStartTime = previousStartTime;
+                    mSkipped++;
+                    continue;
+                }
+
+                mStarted++;
+            }
+
+            mTimerExecutor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    releaseTimedOut(entry);
+                }
+            }, LOAD_SLOT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void releaseTimedOut(Entry entry) {
+        synchronized (this) {
+            // the slot may already belong to a later load of the same placement
+            if (mInFlight.get(entry.placementId) != entry) {
+                return;
+            }
+
+            mInFlight.remove(entry.placementId);
+            mTimedOut++;
+        }
+
+        startNext();
+    }
+}
@@ -0,0 +1,221 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+
+import com.ironsource.mediationsdk.logger.IronLog;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bid payloads of the bidding placements of an ad unit, needed by the network until their ad is shown.
+ * A payload is released once its ad was consumed, expires after PAYLOAD_TTL_MILLIS like the bid it belongs to,
+ * and the least recently stored payloads are evicted once the store holds more than MAX_ENTRIES payloads or
+ * MAX_RETAINED_BYTES. Placements keep being known as bidding placements after their payload is gone.
+ * The ad of an evicted or expired payload can't be shown anymore, so the store reports these to its listener.
+ * Expired payloads are dropped on the next store or expire call, reading a payload never drops one.
+ */
+final class ServerDataStore {
+
+    interface Listener {
+        // Called without the store lock held once the payload of the placement was evicted or expired
+        void onPayloadDropped(String placementId);
+    }
+
+    private static final long PAYLOAD_TTL_MILLIS = 60 * 60 * 1000;
+    private static final int MAX_ENTRIES = 32;
+    private static final long MAX_RETAINED_BYTES = 1024 * 1024;
+
+    private static final class Entry {
+        private final String serverData;
+        private final long storedTime;
+
+        private Entry(String serverData, long storedTime) {
+            this.serverData = serverData;
+            this.storedTime = storedTime;
+        }
+
+        // java strings hold two bytes per char
+        private long getBytes() {
+            return 2L * serverData.length();
+        }
+    }
+
+    // insertion ordered, a payload stored again moves to the end
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<>();
+    private final Set<String> mBiddingPlacementIds = new HashSet<>();
+    private final Listener mListener;
+    private long mRetainedBytes;
+
+    // stats
+    private long mReleased;
+    private long mExpired;
+    private long mEvicted;
+
+    // The listener may be null if nothing depends on the payloads of the ad unit once they are loaded
+    ServerDataStore(Listener listener) {
+        mListener = listener;
+    }
+
+    // Stores the payload of a load, a null payload only marks the placement as a bidding one
+    void put(String placementId, String serverData) {
+        List<String> dropped = Collections.emptyList();
+
+        synchronized (this) {
+            mBiddingPlacementIds.add(placementId);
+            removeEntry(placementId);
+            dropped = removeOlderThan(PAYLOAD_TTL_MILLIS, dropped);
+            mExpired += dropped.size();
+
+            if (serverData != null) {
+                Entry entry = new Entry(serverData, SystemClock.elapsedRealtime());
+                mEntries.put(placementId, entry);
+                mRetainedBytes += entry.getBytes();
+
+                Iterator<Map.Entry<String, Entry>> oldest = mEntries.entrySet().iterator();
+
+                while (mEntries.size() > 1 && (mEntries.size() > MAX_ENTRIES || mRetainedBytes > MAX_RETAINED_BYTES)) {
+                    Map.Entry<String, Entry> next = oldest.next();
+                    mRetainedBytes -= next.getValue().getBytes();
+                    oldest.remove();
+                    mEvicted++;
+                    dropped = add(dropped, next.getKey());
+                }
+            }
+        }
+
+        notifyDropped(dropped);
+    }
+
+    // Drops the payloads that expired, called before a show so the mediation learns which ads are gone
+    void expire() {
+        List<String> expired;
+
+        synchronized (this) {
+            expired = removeOlderThan(PAYLOAD_TTL_MILLIS, Collections.<String>emptyList());
+            mExpired += expired.size();
+        }
+
+        notifyDropped(expired);
+    }
+
+    // Drops the payloads stored at least maxAgeMillis ago when memory runs low, returns how many were dropped
+    int evictOlderThan(long maxAgeMillis) {
+        List<String> evicted;
+
+        synchronized (this) {
+            evicted = removeOlderThan(maxAgeMillis, Collections.<String>emptyList());
+            mEvicted += evicted.size();
+        }
+
+        notifyDropped(evicted);
+        return evicted.size();
+    }
+
+    // Returns null if the placement has no payload or it expired, an expired payload is left for the next expire
+    synchronized String get(String placementId) {
+        Entry entry = mEntries.get(placementId);
+
+        if (entry == null || isExpired(entry, SystemClock.elapsedRealtime())) {
+            return null;
+        }
+
+        return entry.serverData;
+    }
+
+    // True if the placement was ever loaded with a payload, even if the payload is gone by now
+    synchronized boolean isBiddingPlacement(String placementId) {
+        return mBiddingPlacementIds.contains(placementId);
+    }
+
+    // Called once the ad of the payload was consumed by a show
+    synchronized void release(String placementId) {
+        if (removeEntry(placementId)) {
+            mReleased++;
+        }
+    }
+
+    synchronized void clear() {
+        mEntries.clear();
+        mBiddingPlacementIds.clear();
+        mRetainedBytes = 0;
+    }
+
+    synchronized JSONObject getStats() {
+        JSONObject stats = new JSONObject();
+
+        try {
+            stats.put("entries", mEntries.size());
+            stats.put("retainedBytes", mRetainedBytes);
+            stats.put("released", mReleased);
+            stats.put("expired", mExpired);
+            stats.put("evicted", mEvicted);
+        } catch (JSONException e) {
+            AdapterLog.error(IronLog.INTERNAL, "failed to build the server data stats - {}", e.getMessage());
+        }
+
+        return stats;
+    }
+
+    // Called without the store lock held
+    private void notifyDropped(List<String> placementIds) {
+        for (String placementId : placementIds) {
+            AdapterLog.verbose(IronLog.INTERNAL, "placementId = {}", placementId);
+
+            if (mListener != null) {
+                mListener.onPayloadDropped(placementId);
+            }
+        }
+    }
+
+    // Removes the payloads stored at least maxAgeMillis ago and adds their placements to the dropped ones
+    private List<String> removeOlderThan(long maxAgeMillis, List<String> dropped) {
+        long now = SystemClock.elapsedRealtime();
+
+        for (Iterator<Map.Entry<String, Entry>> iterator = mEntries.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<String, Entry> next = iterator.next();
+
+            if (now - next.getValue().storedTime >= maxAgeMillis) {
+                mRetainedBytes -= next.getValue().getBytes();
+                iterator.remove();
+                dropped = add(dropped, next.getKey());
+            }
+        }
+
+        return dropped;
+    }
+
+    private static boolean isExpired(Entry entry, long now) {
+        return now - entry.storedTime >= PAYLOAD_TTL_MILLIS;
+    }
+
+    // Allocates the list only once something is dropped
+    private static List<String> add(List<String> placementIds, String placementId) {
+        if (placementIds.isEmpty()) {
+            placementIds = new ArrayList<>();
+        }
+
+        placementIds.add(placementId);
+        return placementIds;
+    }
+
+    private boolean removeEntry(String placementId) {
+        Entry entry = mEntries.remove(placementId);
+
+        if (entry == null) {
+            return false;
+        }
+
+        mRetainedBytes -= entry.getBytes();
+        return true;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ironsource.adapters.vungle;
+
+import android.os.SystemClock;
+import android.text.TextUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Network loads in flight per placement and bid payload. The first load request of a placement starts the network
+ * load, requests for the same placement and payload that arrive while it is in flight join it instead of starting
+ * another one, and the load callback delivers its outcome to every request that joined. The network callbacks only
+ * carry the placement id, so every network load gets its own callback that knows its payload and lands only its own
+ * flight. A flight the network never called back for expires once the mediation gave up on it, its next request
+ * (e.g. a retry) starts a new network load and the other requests that joined it are failed through the expiry
+ * listener.
+ *
+ * @param <L> the mediation smash listener type
+ */
+final class SingleFlightLoads<L> {
+
+    interface ExpiryListener<L> {
+        // Called with the requests that joined a flight the network never called back for
+        void onFlightExpired(String placementId, List<L> listeners);
+    }
+
+    // Longer than the load timeout of the mediation, a request after it doesn't wait on a load the network lost
+    private static final long FLIGHT_TIMEOUT_MILLIS = 60 * 1000;
+
+    private static final class Flight<L> {
+        private final long mTakeOffTime;
+        private final List<L> mListeners = new ArrayList<>();
+        private boolean mLanded;
+
+        private Flight(L listener) {
+            mTakeOffTime = SystemClock.elapsedRealtime();
+            mListeners.add(listener);
+        }
+
+        // Returns false if the flight already landed or expired, the caller has to start a new one
+        private synchronized boolean join(L listener) {
+            if (mLanded || SystemClock.elapsedRealtime() - mTakeOffTime >= FLIGHT_TIMEOUT_MILLIS) {
+                return false;
+            }
+
+            if (!mListeners.contains(listener)) {
+                mListeners.add(listener);
+            }
+
+            return true;
+        }
+
+        // Ends the flight, adds every listener that joined it so all of them get the load outcome
+        private synchronized void land(List<L> listeners) {
+            if (mLanded) {
+                return;
+            }
+
+            mLanded = true;
+
+            for (L listener : mListeners) {
+                if (!listeners.contains(listener)) {
+                    listeners.add(listener);
+                }
+            }
+        }
+
+        // Ends an expired flight, returns the listeners that joined it other than the one starting the next flight.
+        // Empty if the flight already landed, its listeners got the load outcome
+        private synchronized List<L> expire(L nextListener) {
+            if (mLanded) {
+                return Collections.emptyList();
+            }
+
+            mLanded = true;
+            List<L> listeners = new ArrayList<>(mListeners);
+            listeners.remove(nextListener);
+            return listeners;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Flight<L>> mFlights = new ConcurrentHashMap<>();
+    private final ExpiryListener<L> mExpiryListener;
+
+    SingleFlightLoads(ExpiryListener<L> expiryListener) {
+        mExpiryListener = expiryListener;
+    }
+
+    // Returns true if the caller has to start the network load,
+    // false if the listener joined the load already in flight
+    boolean takeOff(String placementId, String serverData, L listener) {
+        String key = getKey(placementId, serverData);
+        Flight<L> newFlight = null;
+
+        while (true) {
+            Flight<L> flight = mFlights.get(key);
+
+            if (flight == null) {
+                if (newFlight == null) {
+                    newFlight = new Flight<>(listener);
+                }
+
+                if (mFlights.putIfAbsent(key, newFlight) == null) {
+                    return true;
+                }
+            } else if (flight.join(listener)) {
+                return false;
+            } else if (mFlights.remove(key, flight)) {
+                // landed or expired while we got here, make room for a new flight
+                List<L> expiredListeners = flight.expire(listener);
+
+                if (!expiredListeners.isEmpty()) {
+                    mExpiryListener.onFlightExpired(placementId, expiredListeners);
+                }
+            }
+        }
+    }
+
+    // Ends the flight of the placement and payload, returns the listeners that joined it.
+    // Empty if it isn't in flight, e.g. a late callback after the memory was released
+    List<L> land(String placementId, String serverData) {
+        Flight<L> flight = mFlights.remove(getKey(placementId, serverData));
+
+        if (flight == null) {
+            return Collections.emptyList();
+        }
+
+        // a request that still joins in between is part of the returned listeners
+        List<L> listeners = new ArrayList<>();
+        flight.land(listeners);
+        return listeners;
+    }
+
+    void clear() {
+        mFlights.clear();
+    }
+
+    private static String getKey(String placementId, String serverData) {
+        // the payload is only told apart by its length and hash, the key doesn't keep a copy of the bid markup
+        return TextUtils.isEmpty(serverData) ? placementId : placementId + ":" + serverData.length() + ":" + serverData.hashCode();
+    }
+}
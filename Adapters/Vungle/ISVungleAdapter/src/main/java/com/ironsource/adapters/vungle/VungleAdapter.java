@@ -7,9 +7,9 @@ import android.text.TextUtils;
 import android.view.Gravity;
 import android.widget.FrameLayout;
 
+import com.ironsource.adapters.vungle.NetworkInitCoordinator.InitState;
 import com.ironsource.environment.ContextProvider;
 import com.ironsource.mediationsdk.AbstractAdapter;
-import com.ironsource.mediationsdk.AdapterUtils;
 import com.ironsource.mediationsdk.INetworkInitCallbackListener;
 import com.ironsource.mediationsdk.LoadWhileShowSupportState;
 import com.ironsource.mediationsdk.ISBannerSize;
@@ -17,6 +17,7 @@ import com.ironsource.mediationsdk.IntegrationData;
 import com.ironsource.mediationsdk.IronSource;
 import com.ironsource.mediationsdk.IronSourceBannerLayout;
 import com.ironsource.mediationsdk.logger.IronLog;
+import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.metadata.MetaDataUtils;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
@@ -37,13 +38,12 @@ import com.vungle.warren.error.VungleException;
 
 import org.json.JSONObject;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListener, InitCallback {
 
@@ -52,12 +52,17 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
     private static final String GitHash = BuildConfig.GitHash;
 
     // Vungle keys
-    private static final String APP_ID = "AppID";
-    private static final String PLACEMENT_ID = "PlacementId";
+    static final String APP_ID = "AppID";
+    static final String PLACEMENT_ID = "PlacementId";
+    static final String LOAD_PRIORITY = "loadPriority"; // optional, lower values are loaded first after init
+    static final String RELOAD_ON_SHOW = "reloadOnShow"; // optional, loads the next ad of a placement as soon as its current ad starts showing
+    static final String NO_FILL_BACKOFF = "noFillBackoff"; // optional, fails the non bidding loads of a placement right away while it cools down after a no fill
 
     // Meta data flags
     private static final String VUNGLE_COPPA_FLAG = "vungle_coppa";
     private static final String ORIENTATION_FLAG = "vungle_adorientation";
+    private static final String BIDDING_TOKEN_TTL_FLAG = "vungle_biddingtokenttl";
+    private static final String BANNER_PREFETCH_FLAG = "vungle_bannerprefetch";
 
     // Vungle Constants
     private static final String CONSENT_MESSAGE_VERSION = "1.0.0";
@@ -66,39 +71,155 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
     private static final String ORIENTATION_AUTO_ROTATE = "AUTO_ROTATE";
 
     private static final String LWS_SUPPORT_STATE = "isSupportedLWSByInstance";
+    private static final String NO_FILL_BACKOFF_MESSAGE = "No fill - placement is cooling down after a no fill";
+    private static final String LOAD_EXPIRED_MESSAGE = "Load timed out - the network never called back";
 
     // Rewarded video collections
     private ConcurrentHashMap<String, RewardedVideoSmashListener> mPlacementIdToRewardedVideoSmashListener;
-    private ConcurrentHashMap<String, String> mPlacementIdToRewardedVideoServerData;
+    private ServerDataStore mPlacementIdToRewardedVideoServerData; // bid payloads, released once their ad is consumed
     private CopyOnWriteArraySet<String> mRewardedVideoPlacementIdsForInitCallbacks;
+    private ConcurrentHashMap<String, Boolean> mRewardedVideoAdsAvailability; // set by the load callbacks, cleared by show
+    private SingleFlightLoads<RewardedVideoSmashListener> mRewardedVideoLoads;
+    private ConcurrentHashMap<String, Integer> mRewardedVideoLoadPriorities;
+    private CopyOnWriteArraySet<String> mRewardedVideoPlacementIdsToReloadOnShow; // set by show, cleared once the show started
+
+    // Starts the scheduled post init load of a rewarded video placement, unless it was released or became available meanwhile
+    private final PostInitLoadScheduler.Loader mPostInitLoader = new PostInitLoadScheduler.Loader() {
+        @Override
+        public boolean load(String placementId) {
+            RewardedVideoSmashListener listener = mPlacementIdToRewardedVideoSmashListener.get(placementId);
+
+            if (listener == null || isRewardedVideoAvailableForPlacementId(placementId)) {
+                return false;
+            }
+
+            loadRewardedVideoInternal(placementId, listener, null);
+            return true;
+        }
+    };
+
+    // A loaded rewarded video whose payload was evicted or expired can't be shown, the mediation is told it's gone
+    private final ServerDataStore.Listener mRewardedVideoPayloadListener = new ServerDataStore.Listener() {
+        @Override
+        public void onPayloadDropped(String placementId) {
+            Boolean wasAvailable = mRewardedVideoAdsAvailability.put(placementId, false);
+            RewardedVideoSmashListener listener = mPlacementIdToRewardedVideoSmashListener.get(placementId);
+
+            if (wasAvailable != null && wasAvailable && listener != null) {
+                listener.onRewardedVideoAvailabilityChanged(false);
+            }
+        }
+    };
+
+    // The requests that joined a load the network never called back for get a load failure
+    private final SingleFlightLoads.ExpiryListener<RewardedVideoSmashListener> mRewardedVideoLoadsExpiryListener = new SingleFlightLoads.ExpiryListener<RewardedVideoSmashListener>() {
+        @Override
+        public void onFlightExpired(String placementId, List<RewardedVideoSmashListener> listeners) {
+            AdapterLog.verbose(IronLog.INTERNAL, "placementId = {}, listeners = {}", placementId, listeners.size());
+            IronSourceError error = ErrorBuilder.buildLoadFailedError(LOAD_EXPIRED_MESSAGE);
+
+            for (RewardedVideoSmashListener listener : listeners) {
+                listener.onRewardedVideoAvailabilityChanged(false);
+                listener.onRewardedVideoLoadFailed(error);
+            }
+        }
+    };
 
     // Interstitial maps
     private ConcurrentHashMap<String, InterstitialSmashListener> mPlacementIdToInterstitialSmashListener;
-    private ConcurrentHashMap<String, String> mPlacementIdToInterstitialServerData;
+    private ServerDataStore mPlacementIdToInterstitialServerData; // bid payloads, released once their ad is consumed
+    private ConcurrentHashMap<String, Boolean> mInterstitialAdsAvailability; // set by the load callbacks, cleared by show
+    private SingleFlightLoads<InterstitialSmashListener> mInterstitialLoads;
+    private CopyOnWriteArraySet<String> mInterstitialPlacementIdsToReloadOnShow; // set by show, cleared once the show started
+
+    // A loaded interstitial whose payload was evicted or expired can't be shown, it's not ready anymore
+    private final ServerDataStore.Listener mInterstitialPayloadListener = new ServerDataStore.Listener() {
+        @Override
+        public void onPayloadDropped(String placementId) {
+            mInterstitialAdsAvailability.put(placementId, false);
+        }
+    };
+
+    // The requests that joined a load the network never called back for get a load failure
+    private final SingleFlightLoads.ExpiryListener<InterstitialSmashListener> mInterstitialLoadsExpiryListener = new SingleFlightLoads.ExpiryListener<InterstitialSmashListener>() {
+        @Override
+        public void onFlightExpired(String placementId, List<InterstitialSmashListener> listeners) {
+            AdapterLog.verbose(IronLog.INTERNAL, "placementId = {}, listeners = {}", placementId, listeners.size());
+            IronSourceError error = ErrorBuilder.buildLoadFailedError(LOAD_EXPIRED_MESSAGE);
+
+            for (InterstitialSmashListener listener : listeners) {
+                listener.onInterstitialAdLoadFailed(error);
+            }
+        }
+    };
 
     // Banner maps
     private ConcurrentHashMap<String, BannerSmashListener> mPlacementIdToBannerSmashListener;
-    private ConcurrentHashMap<String, String> mPlacementIdToBannerServerData;
+    private ServerDataStore mPlacementIdToBannerServerData; // bid payloads, released once their ad is consumed
     protected ConcurrentHashMap<String, VungleBanner> mPlacementIdToBannerView;
 
+    // Network show callbacks, one per ad unit for every show of the adapter instance, each load gets its own callback
+    private final VungleRewardedVideoPlayListener mRewardedVideoPlayListener = new VungleRewardedVideoPlayListener(this);
+    private final VungleInterstitialPlayListener mInterstitialPlayListener = new VungleInterstitialPlayListener(this);
+    private final VungleBannerPlayListener mBannerPlayListener = new VungleBannerPlayListener(this);
+
     // members for network
     private static Boolean mConsent = null;
     private static Boolean mCCPA = null;
     private static String mAdOrientation = null;
     private ISBannerSize mCurrentBannerSize = null;
 
-    // init state possible values
-    private enum InitState {
-        INIT_STATE_NONE,
-        INIT_STATE_IN_PROGRESS,
-        INIT_STATE_SUCCESS,
-        INIT_STATE_FAILED
-    }
-
     // Handle init callback for all adapter instances
-    private static AtomicBoolean mWasInitCalled = new AtomicBoolean(false);
-    private static HashSet<INetworkInitCallbackListener> initCallbackListeners = new HashSet<>();
-    private static InitState mInitState = InitState.INIT_STATE_NONE;
+    private static final NetworkInitCoordinator mInitCoordinator = new NetworkInitCoordinator();
+
+    // Init, load and show latencies of all adapter instances
+    private static final LatencyTracker mLatencyTracker = new LatencyTracker();
+
+    // Network banner sizes and pixel dimensions of all adapter instances, resolved once per device configuration
+    private static final BannerLayoutCache<AdConfig.AdSize> mBannerLayoutCache = new BannerLayoutCache<>();
+
+    // Vungle banner size and dimensions of every supported mediation banner size
+    private static final BannerLayoutCache.SizeResolver<AdConfig.AdSize> mBannerSizeResolver = new BannerLayoutCache.SizeResolver<AdConfig.AdSize>() {
+        @Override
+        public BannerLayoutCache.BannerLayout<AdConfig.AdSize> resolve(ISBannerSize size, boolean isLargeScreen) {
+            switch (size.getDescription()) {
+                case "BANNER":
+                case "LARGE":
+                    return new BannerLayoutCache.BannerLayout<>(AdConfig.AdSize.BANNER, 320, 50);
+                case "RECTANGLE":
+                    return new BannerLayoutCache.BannerLayout<>(AdConfig.AdSize.VUNGLE_MREC, 300, 250);
+                case "SMART":
+                    return isLargeScreen
+                            ? new BannerLayoutCache.BannerLayout<>(AdConfig.AdSize.BANNER_LEADERBOARD, 728, 90)
+                            : new BannerLayoutCache.BannerLayout<>(AdConfig.AdSize.BANNER, 320, 50);
+            }
+
+            return null;
+        }
+    };
+
+    // Frees the ads of all adapter instances when the system runs low on memory
+    private static final MemoryTrimPolicy mMemoryTrimPolicy = new MemoryTrimPolicy();
+
+    // Rewarded video loads of all adapter instances waiting for the init to finish, started by priority and paced
+    private static final PostInitLoadScheduler mPostInitLoadScheduler = new PostInitLoadScheduler();
+
+    // Main thread work of all adapter instances, coalesced into as few main thread messages as possible
+    private static final MainThreadDispatcher mMainThreadDispatcher = new MainThreadDispatcher();
+
+    // Cooldown of the placements of all adapter instances the network didn't fill, used by the placements that enable it
+    private static final NoFillBackoff mNoFillBackoff = new NoFillBackoff();
+
+    // Banner ads loaded ahead of time for the non bidding banner loads of all adapter instances, off by default
+    private static final BannerPrefetcher mBannerPrefetcher = new BannerPrefetcher();
+
+    // Last bidding token of the network, refreshed in the background for all the adapter instances
+    private static final BiddingTokenCache mBiddingTokenCache = new BiddingTokenCache(new BiddingTokenCache.TokenFetcher() {
+        @Override
+        public String fetchToken() {
+            return Vungle.getAvailableBidTokens(ContextProvider.getInstance().getApplicationContext());
+        }
+    });
 
     //region Adapter Methods
     public static VungleAdapter startAdapter(String providerName) {
@@ -107,21 +228,31 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     private VungleAdapter(String providerName) {
         super(providerName);
-        IronLog.INTERNAL.verbose("");
+        AdapterLog.verbose(IronLog.INTERNAL, "");
 
         // Rewarded video
         mPlacementIdToRewardedVideoSmashListener = new ConcurrentHashMap<>();
-        mPlacementIdToRewardedVideoServerData = new ConcurrentHashMap<>();
+        mPlacementIdToRewardedVideoServerData = new ServerDataStore(mRewardedVideoPayloadListener);
         mRewardedVideoPlacementIdsForInitCallbacks = new CopyOnWriteArraySet<>();
+        mRewardedVideoAdsAvailability = new ConcurrentHashMap<>();
+        mRewardedVideoLoads = new SingleFlightLoads<>(mRewardedVideoLoadsExpiryListener);
+        mRewardedVideoLoadPriorities = new ConcurrentHashMap<>();
+        mRewardedVideoPlacementIdsToReloadOnShow = new CopyOnWriteArraySet<>();
 
         // Interstitial
         mPlacementIdToInterstitialSmashListener = new ConcurrentHashMap<>();
-        mPlacementIdToInterstitialServerData = new ConcurrentHashMap<>();
+        mPlacementIdToInterstitialServerData = new ServerDataStore(mInterstitialPayloadListener);
+        mInterstitialAdsAvailability = new ConcurrentHashMap<>();
+        mInterstitialLoads = new SingleFlightLoads<>(mInterstitialLoadsExpiryListener);
+        mInterstitialPlacementIdsToReloadOnShow = new CopyOnWriteArraySet<>();
 
         // Banner
         mPlacementIdToBannerSmashListener = new ConcurrentHashMap<>();
-        mPlacementIdToBannerServerData = new ConcurrentHashMap<>();
+        mPlacementIdToBannerServerData = new ServerDataStore(null);
         mPlacementIdToBannerView = new ConcurrentHashMap<>();
+
+        // free cached ads on memory pressure, not only when the mediation releases the memory
+        mMemoryTrimPolicy.register(mMemoryTrimEvictor);
     }
 
     // Get the network and adapter integration data
@@ -147,19 +278,33 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
         return com.vungle.warren.BuildConfig.VERSION_NAME;
     }
 
+    // Get the init, load and show latency histograms recorded so far for this network
+    public static JSONObject getLatencySnapshot() {
+        return mLatencyTracker.getSnapshot();
+    }
+
+    static LatencyTracker getLatencyTracker() {
+        return mLatencyTracker;
+    }
+
+    static PostInitLoadScheduler getPostInitLoadScheduler() {
+        return mPostInitLoadScheduler;
+    }
+
+    static NoFillBackoff getNoFillBackoff() {
+        return mNoFillBackoff;
+    }
+
     //endregion
 
     //region Initializations methods and callbacks
     private void initSDK(final String appId) {
-        // add self to the init listeners only in case the initialization has not finished yet
-        if (mInitState == InitState.INIT_STATE_NONE || mInitState == InitState.INIT_STATE_IN_PROGRESS) {
-            initCallbackListeners.add(VungleAdapter.this);
-        }
-
-        if (mWasInitCalled.compareAndSet(false, true)) {
-            IronLog.ADAPTER_API.verbose("appId = " + appId);
+        // add self to the init listeners, in case the initialization has already finished the result is delivered right away
+        mInitCoordinator.addListener(VungleAdapter.this);
 
-            mInitState = InitState.INIT_STATE_IN_PROGRESS;
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "appId = {}", appId);
+            mLatencyTracker.onInitStarted();
 
             Plugin.addWrapperInfo(VungleApiClient.WrapperFramework.ironsource, getVersion());
 
@@ -173,9 +318,14 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     @Override
     public void onSuccess() {
-        IronLog.ADAPTER_CALLBACK.verbose("Succeeded to initialize SDK");
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "Succeeded to initialize SDK");
 
-        mInitState = InitState.INIT_STATE_SUCCESS;
+        if (!mInitCoordinator.setInitSucceeded()) {
+            return;
+        }
+
+        mLatencyTracker.onInitFinished();
+        mPostInitLoadScheduler.onInitFinished();
 
         if (mConsent != null) {
             setConsent(mConsent);
@@ -184,45 +334,70 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
         if (mCCPA != null) {
             setCCPAValue(mCCPA);
         }
-        
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackSuccess();
-        }
 
-        initCallbackListeners.clear();
+        // fetched once the privacy settings are applied, the token carries them
+        mBiddingTokenCache.refresh();
+
+        mInitCoordinator.notifyListeners();
     }
 
     @Override
     public void onError(VungleException exception) {
-        IronLog.ADAPTER_CALLBACK.verbose("Failed to initialize SDK");
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "Failed to initialize SDK");
 
-        mInitState = InitState.INIT_STATE_FAILED;
-
-        for (INetworkInitCallbackListener adapter : initCallbackListeners) {
-            adapter.onNetworkInitCallbackFailed("Vungle sdk init failed - " + exception.getLocalizedMessage());
+        if (mInitCoordinator.setInitFailed("Vungle sdk init failed - " + exception.getLocalizedMessage())) {
+            mLatencyTracker.onInitFinished();
+            mInitCoordinator.notifyListeners();
         }
-
-        initCallbackListeners.clear();
     }
 
     @Override
     public void onAutoCacheAdAvailable(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId {}", placementId);
+
+        // The SDK cached the next ad of an auto cached placement on its own.
+        // Rewarded video placements loaded by the adapter (not bidding, not waiting for an init callback)
+        // are reported as available right away, their next load attempt is then skipped
+        RewardedVideoSmashListener listener = mPlacementIdToRewardedVideoSmashListener.get(placementId);
+
+        if (listener == null
+                || mRewardedVideoPlacementIdsForInitCallbacks.contains(placementId)
+                || mPlacementIdToRewardedVideoServerData.isBiddingPlacement(placementId)) {
+            return;
+        }
+
+        Boolean wasAvailable = mRewardedVideoAdsAvailability.put(placementId, true);
+
+        if (wasAvailable == null || !wasAvailable) {
+            listener.onRewardedVideoAvailabilityChanged(true);
+        }
     }
 
     @Override
     public void onNetworkInitCallbackSuccess() {
-        // rewarded video listener
+        // rewarded video listener, the placements waiting for a load are handed to the post init scheduler
+        List<String> placementIdsToLoad = new ArrayList<>();
+        List<Integer> loadPriorities = new ArrayList<>();
+
         for (String placementId : mPlacementIdToRewardedVideoSmashListener.keySet()) {
             RewardedVideoSmashListener listener = mPlacementIdToRewardedVideoSmashListener.get(placementId);
 
             if (mRewardedVideoPlacementIdsForInitCallbacks.contains(placementId)) {
                 listener.onRewardedVideoInitSuccess();
+            } else if (isRewardedVideoAvailableForPlacementId(placementId)) {
+                AdapterLog.verbose(IronLog.ADAPTER_API, "ad already cached for placement Id {}", placementId);
+                listener.onRewardedVideoAvailabilityChanged(true);
             } else {
-                loadRewardedVideoInternal(placementId, listener, null);
+                Integer priority = mRewardedVideoLoadPriorities.get(placementId);
+                placementIdsToLoad.add(placementId);
+                loadPriorities.add(priority != null ? priority : PostInitLoadScheduler.DEFAULT_PRIORITY);
             }
         }
 
+        if (!placementIdsToLoad.isEmpty()) {
+            mPostInitLoadScheduler.schedule(placementIdsToLoad, loadPriorities, mPostInitLoader);
+        }
+
         // interstitial listener
         for (InterstitialSmashListener listener : mPlacementIdToInterstitialSmashListener.values()) {
             listener.onInterstitialInitSuccess();
@@ -267,29 +442,30 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
     @Override
     // Used for flows when the mediation needs to get a callback for init
     public void initRewardedVideoWithCallback(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        String appId = config.optString(APP_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+        String appId = adapterConfig.getAppId();
 
         // Configuration Validation
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("Missing param - " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", PLACEMENT_ID);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + PLACEMENT_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("Missing param - " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", APP_ID);
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + APP_ID, IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId + ", appId = " + appId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}, appId = {}", placementId, appId);
 
         //add to rewarded video listener map
         mPlacementIdToRewardedVideoSmashListener.put(placementId, listener);
         mRewardedVideoPlacementIdsForInitCallbacks.add(placementId);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(appId);
@@ -298,7 +474,7 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
                 listener.onRewardedVideoInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementId = " + placementId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementId = {}", placementId);
                 listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Vungle SDK init failed", IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
                 break;
         }
@@ -307,42 +483,44 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
     @Override
     // used for flows when the mediation doesn't need to get a callback for init
     public void initAndLoadRewardedVideo(String appKey, String userId, JSONObject config, RewardedVideoSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        String appId = config.optString(APP_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+        String appId = adapterConfig.getAppId();
 
         // Configuration Validation
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("Missing param - " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", PLACEMENT_ID);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("Missing param - " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", APP_ID);
             listener.onRewardedVideoAvailabilityChanged(false);
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId + ", appId = " + appId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}, appId = {}", placementId, appId);
 
         //add to rewarded video listener map
         mPlacementIdToRewardedVideoSmashListener.put(placementId, listener);
+        mRewardedVideoLoadPriorities.put(placementId, adapterConfig.getLoadPriority());
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(appId);
                 break;
             case INIT_STATE_SUCCESS:
-                if (isRewardedVideoAdAvailableInternal(placementId)) {
-                    IronLog.ADAPTER_API.verbose("ad already cached for placement Id " + placementId);
+                if (isRewardedVideoAvailableForPlacementId(placementId)) {
+                    AdapterLog.verbose(IronLog.ADAPTER_API, "ad already cached for placement Id {}", placementId);
                     listener.onRewardedVideoAvailabilityChanged(true);
                 } else {
                     loadRewardedVideoInternal(placementId, listener, null);
                 }
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementId = " + placementId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementId = {}", placementId);
                 listener.onRewardedVideoAvailabilityChanged(false);
                 break;
         }
@@ -350,87 +528,112 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     @Override
     public void loadRewardedVideoForBidding(JSONObject config, final RewardedVideoSmashListener listener, String serverData) {
-        String placementId = config.optString(PLACEMENT_ID);
+        String placementId = AdapterConfig.from(config).getPlacementId();
         mPlacementIdToRewardedVideoServerData.put(placementId, serverData);
         loadRewardedVideoInternal(placementId, listener, serverData);
     }
 
     @Override
     public void fetchRewardedVideoForAutomaticLoad(final JSONObject config, final RewardedVideoSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        
-        if (isRewardedVideoAdAvailableInternal(placementId)) {
-            IronLog.ADAPTER_API.verbose("ad already cached for placement Id " + placementId);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+
+        if (isRewardedVideoAvailableForPlacementId(placementId)) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "ad already cached for placement Id {}", placementId);
 
             RewardedVideoSmashListener smashListener = mPlacementIdToRewardedVideoSmashListener.get(placementId);
             smashListener.onRewardedVideoAvailabilityChanged(true);
 
+        } else if (isInNoFillBackoff(adapterConfig, IronSourceConstants.REWARDED_VIDEO_AD_UNIT)) {
+            mRewardedVideoAdsAvailability.put(placementId, false);
+            listener.onRewardedVideoAvailabilityChanged(false);
+            listener.onRewardedVideoLoadFailed(new IronSourceError(IronSourceError.ERROR_RV_LOAD_NO_FILL, NO_FILL_BACKOFF_MESSAGE));
         } else {
             loadRewardedVideoInternal(placementId, listener, null);
         }
     }
 
     private void loadRewardedVideoInternal(String placementId, RewardedVideoSmashListener listener, String serverData) {
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+
+        // set the rewarded video availability to false before attempting to load
+        mRewardedVideoAdsAvailability.put(placementId, false);
+
+        // join the load of the placement in flight, if any
+        if (!mRewardedVideoLoads.takeOff(placementId, serverData, listener)) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "joined the load in flight for placementId = {}", placementId);
+            return;
+        }
 
-        // create Vungle load listener
-        VungleRewardedVideoLoadListener vungleLoadListener = new VungleRewardedVideoLoadListener(listener);
+        mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
 
         if (!TextUtils.isEmpty(serverData)) {
             // Load rewarded video for bidding instance
-            Vungle.loadAd(placementId, serverData, createAdConfig(), vungleLoadListener);
+            Vungle.loadAd(placementId, serverData, createAdConfig(), new VungleRewardedVideoLoadListener(this, serverData));
         } else {
             // Load rewarded video for non bidding instance
-            Vungle.loadAd(placementId, vungleLoadListener);
+            Vungle.loadAd(placementId, new VungleRewardedVideoLoadListener(this, null));
         }
     }
 
     @Override
     public void showRewardedVideo(JSONObject config, final RewardedVideoSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         // change rewarded video availability to false
+        boolean isAvailable = isRewardedVideoAvailableForPlacementId(placementId);
+        mRewardedVideoAdsAvailability.put(placementId, false);
         listener.onRewardedVideoAvailabilityChanged(false);
 
-        // if we can play
-        if (isRewardedVideoAdAvailableInternal(placementId)) {
+        // the other placements whose payload expired since their load aren't available anymore either
+        mPlacementIdToRewardedVideoServerData.expire();
+
+        // if we can play, the network is asked only here since its cached ad may have expired since the load
+        if (isAvailable && isRewardedVideoAdAvailableInternal(placementId)) {
             // dynamic user id
             if (!TextUtils.isEmpty(getDynamicUserId())) {
                 Vungle.setIncentivizedFields(getDynamicUserId(), null, null, null, null);
             }
 
-            // create Vungle play listener
-            VungleRewardedVideoPlayListener vunglePlayListener = new VungleRewardedVideoPlayListener(listener);
-
             // get ad config
             AdConfig adConfig = createAdConfig();
 
             // get server data
             String serverData = mPlacementIdToRewardedVideoServerData.get(placementId);
 
+            // load the next ad of the placement while this one shows, bidding placements need a new bid for it
+            if (adapterConfig.isReloadOnShowEnabled() && TextUtils.isEmpty(serverData)) {
+                mRewardedVideoPlacementIdsToReloadOnShow.add(placementId);
+            } else {
+                mRewardedVideoPlacementIdsToReloadOnShow.remove(placementId);
+            }
+
+            mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
+
             if (!TextUtils.isEmpty(serverData)) {
-                // Show rewarded video for bidding instance
-                Vungle.playAd(placementId, serverData, adConfig, vunglePlayListener);
+                // Show rewarded video for bidding instance, the payload isn't needed once its ad is consumed
+                Vungle.playAd(placementId, serverData, adConfig, mRewardedVideoPlayListener);
+                mPlacementIdToRewardedVideoServerData.release(placementId);
             } else {
                 // Show rewarded video for non bidding instance
-                Vungle.playAd(placementId, adConfig, vunglePlayListener);
+                Vungle.playAd(placementId, adConfig, mRewardedVideoPlayListener);
             }
         } else {
-            IronLog.INTERNAL.error("There is no ad available for placementId = " + placementId);
+            AdapterLog.error(IronLog.INTERNAL, "There is no ad available for placementId = {}", placementId);
             listener.onRewardedVideoAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT));
         }
     }
 
     @Override
     public boolean isRewardedVideoAvailable(JSONObject config) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
-        // Vungle cache ads that were loaded in the last week.
-        // This means that Vungle.canPlayAd() could return true for placements that we didn't try to load during this session.
-        // This is the reason we also check if the placementId is contained in the ConcurrentHashMap
-        return Vungle.isInitialized() && mPlacementIdToRewardedVideoSmashListener.containsKey(placementId) && isRewardedVideoAdAvailableInternal(placementId);
+        // Vungle cache ads that were loaded in the last week, so Vungle.canPlayAd() could return true for placements
+        // that we didn't try to load during this session. The availability only follows the loads of this session
+        return isRewardedVideoAvailableForPlacementId(placementId);
     }
 
     @Override
@@ -449,28 +652,29 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     @Override
     public void initInterstitial(final String appKey, final String userId, final JSONObject config, InterstitialSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        String appId = config.optString(APP_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+        String appId = adapterConfig.getAppId();
 
         // Configuration Validation
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("Missing param - " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", PLACEMENT_ID);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + PLACEMENT_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("Missing param - " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", APP_ID);
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + APP_ID, IronSourceConstants.INTERSTITIAL_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId + ", appId = " + appId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}, appId = {}", placementId, appId);
 
         //add to interstitial listener map
         mPlacementIdToInterstitialSmashListener.put(placementId, listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(appId);
@@ -479,7 +683,7 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
                 listener.onInterstitialInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementId = " + placementId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementId = {}", placementId);
                 listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Vungle SDK init failed", IronSourceConstants.INTERSTITIAL_AD_UNIT));
                 break;
         }
@@ -487,68 +691,97 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     @Override
     public void loadInterstitialForBidding(JSONObject config, InterstitialSmashListener listener, String serverData) {
-        final String placementId = config.optString(PLACEMENT_ID);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
         mPlacementIdToInterstitialServerData.put(placementId, serverData);
         loadInterstitialInternal(placementId, listener, serverData);
     }
 
     @Override
     public void loadInterstitial(JSONObject config, final InterstitialSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+
+        if (isInNoFillBackoff(adapterConfig, IronSourceConstants.INTERSTITIAL_AD_UNIT)) {
+            mInterstitialAdsAvailability.put(placementId, false);
+            listener.onInterstitialAdLoadFailed(new IronSourceError(IronSourceError.ERROR_IS_LOAD_NO_FILL, NO_FILL_BACKOFF_MESSAGE));
+            return;
+        }
+
         loadInterstitialInternal(placementId, listener, null);
     }
 
     private void loadInterstitialInternal(final String placementId, final InterstitialSmashListener listener, String serverData) {
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
-        VungleInterstitialLoadListener vungleLoadListener = new VungleInterstitialLoadListener(listener);
+        // set the interstitial availability to false before attempting to load
+        mInterstitialAdsAvailability.put(placementId, false);
+
+        // join the load of the placement in flight, if any
+        if (!mInterstitialLoads.takeOff(placementId, serverData, listener)) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "joined the load in flight for placementId = {}", placementId);
+            return;
+        }
+
+        mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
 
         if (!TextUtils.isEmpty(serverData)) {
             // Load interstitial for bidding instance
-            Vungle.loadAd(placementId, serverData, createAdConfig(), vungleLoadListener);
+            Vungle.loadAd(placementId, serverData, createAdConfig(), new VungleInterstitialLoadListener(this, serverData));
         } else {
             // Load interstitial for non bidding instance
-            Vungle.loadAd(placementId, vungleLoadListener);
+            Vungle.loadAd(placementId, new VungleInterstitialLoadListener(this, null));
         }
     }
 
     @Override
     public void showInterstitial(JSONObject config, final InterstitialSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
-        // if we can play
-        if (isInterstitialAdAvailableInternal(placementId)) {
-            // create Vungle play listener
-            VungleInterstitialPlayListener vunglePlayListener = new VungleInterstitialPlayListener(listener);
+        // change interstitial availability to false
+        boolean isAvailable = isInterstitialAvailableForPlacementId(placementId);
+        mInterstitialAdsAvailability.put(placementId, false);
+        mPlacementIdToInterstitialServerData.expire();
 
+        // if we can play, the network is asked only here since its cached ad may have expired since the load
+        if (isAvailable && isInterstitialAdAvailableInternal(placementId)) {
             // get ad config
             AdConfig adConfig = createAdConfig();
 
             // get server data
             String serverData = mPlacementIdToInterstitialServerData.get(placementId);
 
+            // load the next ad of the placement while this one shows, bidding placements need a new bid for it
+            if (adapterConfig.isReloadOnShowEnabled() && TextUtils.isEmpty(serverData)) {
+                mInterstitialPlacementIdsToReloadOnShow.add(placementId);
+            } else {
+                mInterstitialPlacementIdsToReloadOnShow.remove(placementId);
+            }
+
+            mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
+
             if (!TextUtils.isEmpty(serverData)) {
-                // Show interstitial for bidding instance
-                Vungle.playAd(placementId, serverData, adConfig, vunglePlayListener);
+                // Show interstitial for bidding instance, the payload isn't needed once its ad is consumed
+                Vungle.playAd(placementId, serverData, adConfig, mInterstitialPlayListener);
+                mPlacementIdToInterstitialServerData.release(placementId);
             } else {
                 // Show interstitial for non bidding instance
-                Vungle.playAd(placementId, adConfig, vunglePlayListener);
+                Vungle.playAd(placementId, adConfig, mInterstitialPlayListener);
             }
         } else {
-            IronLog.INTERNAL.error("There is no ad available for placementId = " + placementId);
+            AdapterLog.error(IronLog.INTERNAL, "There is no ad available for placementId = {}", placementId);
             listener.onInterstitialAdShowFailed(ErrorBuilder.buildNoAdsToShowError(IronSourceConstants.INTERSTITIAL_AD_UNIT));
         }
     }
 
     @Override
     public boolean isInterstitialReady(JSONObject config) {
-        String placementId = config.optString(PLACEMENT_ID);
+        String placementId = AdapterConfig.from(config).getPlacementId();
 
-        // Vungle cache ads that were loaded in the last week.
-        // This means that Vungle.canPlayAd() could return true for placements that we didn't try to load during this session.
-        // This is the reason we also check if the placementId is contained in the ConcurrentHashMap
-        return Vungle.isInitialized() && mPlacementIdToInterstitialSmashListener.containsKey(placementId) && isInterstitialAdAvailableInternal(placementId);
+        // Vungle cache ads that were loaded in the last week, so Vungle.canPlayAd() could return true for placements
+        // that we didn't try to load during this session. The availability only follows the loads of this session
+        return isInterstitialAvailableForPlacementId(placementId);
     }
 
     @Override
@@ -567,28 +800,29 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     @Override
     public void initBanners(String appKey, String userId, JSONObject config, BannerSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
-        String appId = config.optString(APP_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+        String appId = adapterConfig.getAppId();
 
         // Configuration Validation
         if (TextUtils.isEmpty(placementId)) {
-            IronLog.INTERNAL.error("Missing param - " + PLACEMENT_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", PLACEMENT_ID);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + PLACEMENT_ID, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
         if (TextUtils.isEmpty(appId)) {
-            IronLog.INTERNAL.error("Missing param - " + APP_ID);
+            AdapterLog.error(IronLog.INTERNAL, "Missing param - {}", APP_ID);
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing param - " + APP_ID, IronSourceConstants.BANNER_AD_UNIT));
             return;
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId + ", appId = " + appId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}, appId = {}", placementId, appId);
 
         //add to banner listener map
         mPlacementIdToBannerSmashListener.put(placementId, listener);
 
-        switch (mInitState) {
+        switch (mInitCoordinator.getState()) {
             case INIT_STATE_NONE:
             case INIT_STATE_IN_PROGRESS:
                 initSDK(appId);
@@ -597,7 +831,7 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
                 listener.onBannerInitSuccess();
                 break;
             case INIT_STATE_FAILED:
-                IronLog.INTERNAL.verbose("init failed - placementId = " + placementId);
+                AdapterLog.verbose(IronLog.INTERNAL, "init failed - placementId = {}", placementId);
                 listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Vungle SDK init failed", IronSourceConstants.BANNER_AD_UNIT));
                 break;
         }
@@ -605,23 +839,30 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     @Override
     public void loadBannerForBidding(IronSourceBannerLayout banner, JSONObject config, BannerSmashListener listener, String serverData) {
-        final String placementId = config.optString(PLACEMENT_ID);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
         mPlacementIdToBannerServerData.put(placementId, serverData);
         loadBannerInternal(placementId, banner, listener, serverData);
     }
 
     @Override
     public void loadBanner(final IronSourceBannerLayout banner, JSONObject config, final BannerSmashListener listener) {
-        String placementId = config.optString(PLACEMENT_ID);
+        AdapterConfig adapterConfig = AdapterConfig.from(config);
+        String placementId = adapterConfig.getPlacementId();
+
+        if (isInNoFillBackoff(adapterConfig, IronSourceConstants.BANNER_AD_UNIT)) {
+            listener.onBannerAdLoadFailed(new IronSourceError(IronSourceError.ERROR_BN_LOAD_NO_FILL, NO_FILL_BACKOFF_MESSAGE));
+            return;
+        }
+
         loadBannerInternal(placementId, banner, listener, null);
     }
 
     private void loadBannerInternal(final String placementId, final IronSourceBannerLayout banner, final BannerSmashListener listener, final String serverData) {
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         // verify size
         if (!isBannerSizeSupported(banner.getSize())) {
-            IronLog.ADAPTER_API.verbose("size not supported, size = " + banner.getSize().getDescription());
+            AdapterLog.verbose(IronLog.ADAPTER_API, "size not supported, size = {}", banner.getSize().getDescription());
             listener.onBannerAdLoadFailed(ErrorBuilder.unsupportedBannerSize(getProviderName()));
             return;
         }
@@ -630,19 +871,25 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
         mCurrentBannerSize = banner.getSize();
 
         // run on main thread
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
 
                 // get size
                 AdConfig.AdSize bannerSize = getBannerSize(banner.getSize());
                 BannerAdConfig bannerAdConfig = new BannerAdConfig(bannerSize);
-                IronLog.ADAPTER_API.verbose("bannerSize = " + bannerSize);
+                AdapterLog.verbose(IronLog.ADAPTER_API, "bannerSize = {}", bannerSize);
 
                 // create Vungle load listener
                 VungleBannerLoadListener vungleLoadListener = new VungleBannerLoadListener(VungleAdapter.this, listener, mCurrentBannerSize);
 
-                if (!TextUtils.isEmpty(serverData)) {
+                mLatencyTracker.onLoadStarted(IronSourceConstants.BANNER_AD_UNIT, placementId);
+
+                if (TextUtils.isEmpty(serverData) && mBannerPrefetcher.take(placementId, bannerSize)) {
+                    // A prefetched ad is ready, the banner view is created right away
+                    AdapterLog.verbose(IronLog.ADAPTER_API, "using a prefetched banner ad");
+                    vungleLoadListener.onAdLoad(placementId);
+                } else if (!TextUtils.isEmpty(serverData)) {
                     // Load banner for bidding instance
                     Banners.loadBanner(placementId, serverData, bannerAdConfig, vungleLoadListener);
                 } else {
@@ -655,21 +902,21 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     @Override
     public void reloadBanner(final IronSourceBannerLayout banner, final JSONObject config, final BannerSmashListener listener) {
-        IronLog.INTERNAL.warning("Unsupported method");
+        AdapterLog.warning(IronLog.INTERNAL, "Unsupported method");
     }
 
     @Override
     public void destroyBanner(JSONObject config) {
-        final String placementId = config.optString(PLACEMENT_ID);
-        IronLog.ADAPTER_API.verbose("placementId = " + placementId);
+        final String placementId = AdapterConfig.from(config).getPlacementId();
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
 
         if (mCurrentBannerSize == null) {
-            IronLog.ADAPTER_API.verbose("mCurrentBannerSize is null");
+            AdapterLog.verbose(IronLog.ADAPTER_API, "mCurrentBannerSize is null");
             return;
         }
 
         // run on main thread
-        postOnUIThread(new Runnable() {
+        mMainThreadDispatcher.dispatch(new Runnable() {
             @Override
             public void run() {
                 if (mPlacementIdToBannerView.containsKey(placementId)) {
@@ -704,20 +951,55 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
     //endregion
 
     // region memory handling
+    // The network SDK keeps the interstitial and rewarded video ads itself, the adapter holds the banners and the bid
+    // payloads of the loaded full screen ads
+    private final MemoryTrimPolicy.Evictor mMemoryTrimEvictor = new MemoryTrimPolicy.Evictor() {
+        @Override
+        public int evictDetachedBanners() {
+            int evicted = 0;
+
+            for (Map.Entry<String, VungleBanner> entry : mPlacementIdToBannerView.entrySet()) {
+                VungleBanner banner = entry.getValue();
+
+                if (banner.getParent() == null && mPlacementIdToBannerView.remove(entry.getKey(), banner)) {
+                    banner.destroyAd();
+                    evicted++;
+                }
+            }
+
+            return evicted;
+        }
+
+        @Override
+        public int evictAvailableAds(long maxAgeMillis) {
+            // an ad without its payload can't be shown, the store listeners report it as unavailable
+            return mPlacementIdToRewardedVideoServerData.evictOlderThan(maxAgeMillis)
+                    + mPlacementIdToInterstitialServerData.evictOlderThan(maxAgeMillis);
+        }
+    };
+
     @Override
     public void releaseMemory(IronSource.AD_UNIT adUnit, JSONObject config) {
         if (adUnit == IronSource.AD_UNIT.REWARDED_VIDEO) {
             mPlacementIdToRewardedVideoSmashListener.clear();
             mPlacementIdToRewardedVideoServerData.clear();
             mRewardedVideoPlacementIdsForInitCallbacks.clear();
+            mRewardedVideoAdsAvailability.clear();
+            mRewardedVideoLoads.clear();
+            mRewardedVideoLoadPriorities.clear();
+            mRewardedVideoPlacementIdsToReloadOnShow.clear();
         } else if (adUnit == IronSource.AD_UNIT.INTERSTITIAL) {
             mPlacementIdToInterstitialSmashListener.clear();
             mPlacementIdToInterstitialServerData.clear();
+            mInterstitialAdsAvailability.clear();
+            mInterstitialLoads.clear();
+            mInterstitialPlacementIdsToReloadOnShow.clear();
         } else if (adUnit == IronSource.AD_UNIT.BANNER) {
             for (VungleBanner adView : mPlacementIdToBannerView.values()) {
                 adView.destroyAd();
             }
             mPlacementIdToBannerView.clear();
+            mBannerPrefetcher.clear();
             mPlacementIdToBannerSmashListener.clear();
             mPlacementIdToBannerServerData.clear();
             mCurrentBannerSize = null;
@@ -747,13 +1029,16 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     //region legal
     protected void setConsent(boolean consent) {
-        IronLog.ADAPTER_API.verbose("consent = " + consent);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "consent = {}", consent);
 
-        if (mInitState == InitState.INIT_STATE_SUCCESS) {
+        if (mInitCoordinator.getState() == InitState.INIT_STATE_SUCCESS) {
             Vungle.updateConsentStatus(consent ? Vungle.Consent.OPTED_IN : Vungle.Consent.OPTED_OUT, CONSENT_MESSAGE_VERSION);
         } else {
             mConsent = consent;
         }
+
+        // the token carries the privacy settings, don't serve one built with the previous value
+        mBiddingTokenCache.invalidate();
     }
 
     protected void setMetaData(String key, List<String> values) {
@@ -763,12 +1048,16 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
         // this is a list of 1 value
         String value = values.get(0);
-        IronLog.ADAPTER_API.verbose("key = " + key + ", value = " + value);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "key = {}, value = {}", key, value);
 
         if (MetaDataUtils.isValidCCPAMetaData(key, value)) {
             setCCPAValue(MetaDataUtils.getMetaDataBooleanValue(value));
         } else if (key.equalsIgnoreCase(ORIENTATION_FLAG)) {
             mAdOrientation = value;
+        } else if (key.equalsIgnoreCase(BIDDING_TOKEN_TTL_FLAG)) {
+            mBiddingTokenCache.setTtlFromMetaData(value);
+        } else if (key.equalsIgnoreCase(BANNER_PREFETCH_FLAG)) {
+            mBannerPrefetcher.setEnabled(MetaDataUtils.getMetaDataBooleanValue(MetaDataUtils.formatValueForType(value, META_DATA_VALUE_BOOLEAN)));
         } else {
             String formattedValue = MetaDataUtils.formatValueForType(value, META_DATA_VALUE_BOOLEAN);
 
@@ -779,25 +1068,28 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
     }
 
     private void setCCPAValue(final boolean ccpa) {
-        if (mInitState == InitState.INIT_STATE_SUCCESS) {
+        if (mInitCoordinator.getState() == InitState.INIT_STATE_SUCCESS) {
             // The Vungle CCPA API expects an indication if the user opts in to targeted advertising.
             // Given that this is opposite to the ironSource Mediation CCPA flag of do_not_sell
             // we will use the opposite value of what is passed to this method
             boolean optIn = !ccpa;
             Vungle.Consent status = optIn ? Vungle.Consent.OPTED_IN : Vungle.Consent.OPTED_OUT;
-            IronLog.ADAPTER_API.verbose("key = Vungle.Consent" + ", value = " +  status.name());
+            AdapterLog.verbose(IronLog.ADAPTER_API, "key = Vungle.Consent, value = {}", status.name());
             Vungle.updateCCPAStatus(status);
         } else {
             mCCPA = ccpa;
         }
+
+        mBiddingTokenCache.invalidate();
     }
 
     private void setCOPPAValue(final boolean isUserCoppa) {
-        if (mInitState == InitState.INIT_STATE_NONE) {
-            IronLog.ADAPTER_API.verbose("coppa = " + isUserCoppa);
+        if (mInitCoordinator.getState() == InitState.INIT_STATE_NONE) {
+            AdapterLog.verbose(IronLog.ADAPTER_API, "coppa = {}", isUserCoppa);
             Vungle.updateUserCoppaStatus(isUserCoppa);
+            mBiddingTokenCache.invalidate();
         } else {
-            IronLog.INTERNAL.verbose("COPPA value can be set only before the initialization of Vungle");
+            AdapterLog.verbose(IronLog.INTERNAL, "COPPA value can be set only before the initialization of Vungle");
         }
     }
 
@@ -808,16 +1100,15 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
 
     //region Helpers
     private Map<String, Object> getBiddingData() {
-        if (mInitState == InitState.INIT_STATE_FAILED) {
-            IronLog.INTERNAL.error("Returning null as token since init failed");
+        if (mInitCoordinator.getState() == InitState.INIT_STATE_FAILED) {
+            AdapterLog.error(IronLog.INTERNAL, "Returning null as token since init failed");
             return null;
         }
 
-        String bidderToken = Vungle.getAvailableBidTokens(ContextProvider.getInstance().getApplicationContext());
-        String returnedToken = (!TextUtils.isEmpty(bidderToken)) ? bidderToken : "";
+        String returnedToken = mBiddingTokenCache.getToken();
         String sdkVersion = getCoreSDKVersion();
-        IronLog.ADAPTER_API.verbose("sdkVersion = " + sdkVersion);
-        IronLog.ADAPTER_API.verbose("token = " + returnedToken);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "sdkVersion = {}", sdkVersion);
+        AdapterLog.verbose(IronLog.ADAPTER_API, "token = {}", returnedToken);
         Map<String, Object> ret = new HashMap<>();
         ret.put("sdkVersion", sdkVersion);
         ret.put("token", returnedToken);
@@ -841,7 +1132,7 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
                     break;
             }
 
-            IronLog.INTERNAL.verbose("setAdOrientation to " + adconfig.getAdOrientation());
+            AdapterLog.verbose(IronLog.INTERNAL, "setAdOrientation to {}", adconfig.getAdOrientation());
         }
 
         return adconfig;
@@ -860,17 +1151,15 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
     }
 
     protected AdConfig.AdSize getBannerSize(ISBannerSize size) {
-        switch (size.getDescription()) {
-            case "BANNER":
-            case "LARGE":
-                return AdConfig.AdSize.BANNER;
-            case "RECTANGLE":
-                return AdConfig.AdSize.VUNGLE_MREC;
-            case "SMART":
-                return AdapterUtils.isLargeScreen(ContextProvider.getInstance().getCurrentActiveActivity()) ? AdConfig.AdSize.BANNER_LEADERBOARD : AdConfig.AdSize.BANNER;
-        }
+        BannerLayoutCache.BannerLayout<AdConfig.AdSize> layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver);
+        return layout != null ? layout.getNetworkSize() : null;
+    }
 
-        return null;
+    // Loads the next ad of a non bidding banner placement ahead of time, if banner prefetch is enabled
+    void prefetchBanner(String placementId, AdConfig.AdSize bannerSize) {
+        if (!mPlacementIdToBannerServerData.isBiddingPlacement(placementId)) {
+            mBannerPrefetcher.prefetch(placementId, bannerSize);
+        }
     }
 
     protected VungleBanner createVungleBannerAdView(String placementId, AdConfig.AdSize bannerSize) {
@@ -885,19 +1174,14 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
         // get server data
         String serverData = mPlacementIdToBannerServerData.get(placementId);
 
-        // get banner smash listener
-        BannerSmashListener smashListener = mPlacementIdToBannerSmashListener.get(placementId);
-
-        // create Vungle play listener
-        VungleBannerPlayListener playListener = new VungleBannerPlayListener(smashListener);
-
         // get banner view
         VungleBanner vungleBanner;
 
         if (!TextUtils.isEmpty(serverData)) {
-            vungleBanner = Banners.getBanner(placementId, serverData, adConfig, playListener);
+            vungleBanner = Banners.getBanner(placementId, serverData, adConfig, mBannerPlayListener);
+            mPlacementIdToBannerServerData.release(placementId);
         } else {
-            vungleBanner = Banners.getBanner(placementId, adConfig, playListener);
+            vungleBanner = Banners.getBanner(placementId, adConfig, mBannerPlayListener);
         }
 
         if (vungleBanner != null) {
@@ -908,65 +1192,133 @@ class VungleAdapter extends AbstractAdapter implements INetworkInitCallbackListe
     }
 
     protected FrameLayout.LayoutParams getBannerLayoutParams(ISBannerSize size) {
-        FrameLayout.LayoutParams layoutParams = new FrameLayout.LayoutParams(0,0);
+        BannerLayoutCache.BannerLayout<AdConfig.AdSize> layout = mBannerLayoutCache.getLayout(size, mBannerSizeResolver);
+        return layout != null ? layout.createLayoutParams() : new FrameLayout.LayoutParams(0, 0, Gravity.CENTER);
+    }
 
-        Activity activity = ContextProvider.getInstance().getCurrentActiveActivity();
+    // True if the placement enables the no fill backoff and is cooling down after a no fill, its non bidding load fails right away then.
+    // A bidding load always goes to the network since its bid was already won.
+    private boolean isInNoFillBackoff(AdapterConfig adapterConfig, String adUnit) {
+        String placementId = adapterConfig.getPlacementId();
 
-        switch (size.getDescription()) {
-            case "BANNER":
-            case "LARGE":
-                layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                break;
-            case "RECTANGLE":
-                layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 300), AdapterUtils.dpToPixels(activity, 250));
-                break;
-            case "SMART":
-                if (AdapterUtils.isLargeScreen(activity)) {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 728), AdapterUtils.dpToPixels(activity, 90));
-                } else {
-                    layoutParams = new FrameLayout.LayoutParams(AdapterUtils.dpToPixels(activity, 320), AdapterUtils.dpToPixels(activity, 50));
-                }
+        if (!adapterConfig.isNoFillBackoffEnabled() || !mNoFillBackoff.isCoolingDown(adUnit, placementId)) {
+            return false;
+        }
 
-                break;
+        AdapterLog.verbose(IronLog.ADAPTER_API, "no fill backoff - placementId = {}", placementId);
+        return true;
+    }
+
+    // Called once the current ad of the placement started showing, loads its next ad if its show opted in
+    void reloadRewardedVideoWhileShowing(String placementId) {
+        RewardedVideoSmashListener listener = mPlacementIdToRewardedVideoSmashListener.get(placementId);
+
+        if (!mRewardedVideoPlacementIdsToReloadOnShow.remove(placementId) || listener == null) {
+            return;
         }
 
-        // set gravity
-        layoutParams.gravity = Gravity.CENTER;
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        loadRewardedVideoInternal(placementId, listener, null);
+    }
+
+    // Called once the current ad of the placement started showing, loads its next ad if its show opted in
+    void reloadInterstitialWhileShowing(String placementId) {
+        InterstitialSmashListener listener = mPlacementIdToInterstitialSmashListener.get(placementId);
+
+        if (!mInterstitialPlacementIdsToReloadOnShow.remove(placementId) || listener == null) {
+            return;
+        }
+
+        AdapterLog.verbose(IronLog.ADAPTER_API, "placementId = {}", placementId);
+        loadInterstitialInternal(placementId, listener, null);
+    }
+
+    // Ends the rewarded video load in flight for the placement and payload, empty if there is none
+    List<RewardedVideoSmashListener> landRewardedVideoLoads(String placementId, String serverData) {
+        return mRewardedVideoLoads.land(placementId, serverData);
+    }
+
+    // Ends the interstitial load in flight for the placement and payload, empty if there is none
+    List<InterstitialSmashListener> landInterstitialLoads(String placementId, String serverData) {
+        return mInterstitialLoads.land(placementId, serverData);
+    }
+
+    // Returns null if the placement was released, its late show callbacks are dropped
+    RewardedVideoSmashListener getRewardedVideoSmashListener(String placementId) {
+        return mPlacementIdToRewardedVideoSmashListener.get(placementId);
+    }
+
+    InterstitialSmashListener getInterstitialSmashListener(String placementId) {
+        return mPlacementIdToInterstitialSmashListener.get(placementId);
+    }
+
+    BannerSmashListener getBannerSmashListener(String placementId) {
+        return mPlacementIdToBannerSmashListener.get(placementId);
+    }
+
+    void setRewardedVideoAdAvailability(String placementId, boolean isAvailable) {
+        mRewardedVideoAdsAvailability.put(placementId, isAvailable);
+    }
+
+    void setInterstitialAdAvailability(String placementId, boolean isAvailable) {
+        mInterstitialAdsAvailability.put(placementId, isAvailable);
+    }
+
+    private boolean isRewardedVideoAvailableForPlacementId(String placementId) {
+        Boolean isAvailable = mRewardedVideoAdsAvailability.get(placementId);
+
+        if (isAvailable == null || !isAvailable) {
+            return false;
+        }
+
+        // an expired payload has no ad to play, it's dropped by the next load or show
+        return !mPlacementIdToRewardedVideoServerData.isBiddingPlacement(placementId)
+                || mPlacementIdToRewardedVideoServerData.get(placementId) != null;
+    }
+
+    private boolean isInterstitialAvailableForPlacementId(String placementId) {
+        Boolean isAvailable = mInterstitialAdsAvailability.get(placementId);
+
+        if (isAvailable == null || !isAvailable) {
+            return false;
+        }
 
-        return layoutParams;
+        return !mPlacementIdToInterstitialServerData.isBiddingPlacement(placementId)
+                || mPlacementIdToInterstitialServerData.get(placementId) != null;
     }
 
+    // Asks the network SDK, to be called only right before a show
     protected boolean isRewardedVideoAdAvailableInternal(String placementId) {
-        if (mPlacementIdToRewardedVideoServerData.containsKey(placementId)) {
-            // get rewarded video server data
+        if (mPlacementIdToRewardedVideoServerData.isBiddingPlacement(placementId)) {
+            // get rewarded video server data, an expired or released payload has no ad to play
             String serverData = mPlacementIdToRewardedVideoServerData.get(placementId);
 
             // return if ad available or not
-            return Vungle.canPlayAd(placementId, serverData);
+            return serverData != null && Vungle.canPlayAd(placementId, serverData);
         }
 
         return Vungle.canPlayAd(placementId);
     }
 
     protected boolean isInterstitialAdAvailableInternal(String placementId) {
-        if (mPlacementIdToInterstitialServerData.containsKey(placementId)) {
-            // get interstitial server data
+        if (mPlacementIdToInterstitialServerData.isBiddingPlacement(placementId)) {
+            // get interstitial server data, an expired or released payload has no ad to play
             String serverData = mPlacementIdToInterstitialServerData.get(placementId);
 
             // return if ad available or not
-            return Vungle.canPlayAd(placementId, serverData);
+            return serverData != null && Vungle.canPlayAd(placementId, serverData);
         }
 
         return Vungle.canPlayAd(placementId);
     }
 
     protected boolean isBannerAdAvailableInternal(String placementId, AdConfig.AdSize adSize) {
-        if (mPlacementIdToBannerServerData.containsKey(placementId)) {
-            // get banner server data
+        if (mPlacementIdToBannerServerData.isBiddingPlacement(placementId)) {
+            // get banner server data, an expired or released payload has no ad to play
             String serverData = mPlacementIdToBannerServerData.get(placementId);
 
             // return if ad available or not
-            return Banners.canPlayAd(placementId, serverData, adSize);
+            return serverData != null && Banners.canPlayAd(placementId, serverData, adSize);
         }
 
         return Banners.canPlayAd(placementId, adSize);
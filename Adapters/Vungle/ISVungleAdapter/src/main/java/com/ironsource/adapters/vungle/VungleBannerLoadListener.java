@@ -6,6 +6,7 @@ import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.BannerSmashListener;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 import com.vungle.warren.AdConfig;
 import com.vungle.warren.LoadAdCallback;
 import com.vungle.warren.VungleBanner;
@@ -30,26 +31,28 @@ public class VungleBannerLoadListener implements LoadAdCallback {
      */
     @Override
     public void onAdLoad(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+        VungleAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.BANNER_AD_UNIT, placementId);
+        VungleAdapter.getNoFillBackoff().onFill(IronSourceConstants.BANNER_AD_UNIT, placementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         if (mAdapter == null || mAdapter.get() == null) {
-            IronLog.INTERNAL.verbose("adapter is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "adapter is null");
             return;
         }
 
         if(mBannerSize == null) {
-            IronLog.INTERNAL.verbose("banner size is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "banner size is null");
             return;
         }
 
         AdConfig.AdSize vungleBannerSize = mAdapter.get().getBannerSize(mBannerSize);
         if (!mAdapter.get().isBannerAdAvailableInternal(placementId, vungleBannerSize)) {
-            IronLog.ADAPTER_CALLBACK.error("can't play ad");
+            AdapterLog.error(IronLog.ADAPTER_CALLBACK, "can't play ad");
             mListener.onBannerAdLoadFailed(ErrorBuilder.buildLoadFailedError("can't play ad"));
             return;
         }
@@ -58,8 +61,9 @@ public class VungleBannerLoadListener implements LoadAdCallback {
 
         if (vungleBanner != null) {
             mListener.onBannerAdLoaded(vungleBanner, mAdapter.get().getBannerLayoutParams(mBannerSize));
+            mAdapter.get().prefetchBanner(placementId, vungleBannerSize);
         } else {
-            IronLog.ADAPTER_CALLBACK.error("banner view is null");
+            AdapterLog.error(IronLog.ADAPTER_CALLBACK, "banner view is null");
             mListener.onBannerAdLoadFailed(ErrorBuilder.buildLoadFailedError(mAdapter.get().getProviderName() + " LoadBanner failed - banner view is null"));
         }
     }
@@ -71,15 +75,17 @@ public class VungleBannerLoadListener implements LoadAdCallback {
      */
     @Override
     public void onError(String placementId, VungleException exception) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId + ", exception = " + exception);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}, exception = {}", placementId, exception);
+        VungleAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.BANNER_AD_UNIT, placementId);
 
         if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         IronSourceError error;
         if (exception.getExceptionCode() == VungleException.NO_SERVE) {
+            VungleAdapter.getNoFillBackoff().onNoFill(IronSourceConstants.BANNER_AD_UNIT, placementId);
             error = new IronSourceError(IronSourceError.ERROR_BN_LOAD_NO_FILL, exception.getLocalizedMessage());
         } else {
             error = ErrorBuilder.buildLoadFailedError(exception.getLocalizedMessage());
@@ -6,10 +6,16 @@ import com.vungle.warren.PlayAdCallback;
 import com.vungle.warren.error.VungleException;
 
 public class VungleBannerPlayListener implements PlayAdCallback {
-    private BannerSmashListener mListener;
+    // resolves the smash listener per callback, a single instance serves every show of the adapter
+    private final VungleAdapter mAdapter;
 
-    VungleBannerPlayListener(BannerSmashListener listener) {
-        mListener = listener;
+    VungleBannerPlayListener(VungleAdapter adapter) {
+        mAdapter = adapter;
+    }
+
+    // Returns null if the placement was released, the callback is dropped then
+    private BannerSmashListener getListener(String placementId) {
+        return mAdapter.getBannerSmashListener(placementId);
     }
 
     /**
@@ -18,14 +24,16 @@ public class VungleBannerPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdViewed(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+
+        BannerSmashListener listener = getListener(placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onBannerAdShown();
+        listener.onBannerAdShown();
     }
 
     /**
@@ -34,14 +42,16 @@ public class VungleBannerPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdClick(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        BannerSmashListener listener = getListener(placementId);
+
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onBannerAdClicked();
+        listener.onBannerAdClicked();
     }
 
     /**
@@ -50,14 +60,16 @@ public class VungleBannerPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdLeftApplication(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+
+        BannerSmashListener listener = getListener(placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onBannerAdLeftApplication();
+        listener.onBannerAdLeftApplication();
 
     }
 
@@ -68,7 +80,7 @@ public class VungleBannerPlayListener implements PlayAdCallback {
      */
     @Override
     public void onError(String placementId, VungleException exception) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId + ", exception = " + exception);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}, exception = {}", placementId, exception);
     }
 
     /**
@@ -4,15 +4,27 @@ import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.InterstitialSmashListener;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 import com.vungle.warren.LoadAdCallback;
 import com.vungle.warren.error.VungleException;
 
+import java.util.List;
+
 public class VungleInterstitialLoadListener implements LoadAdCallback {
 
-    private InterstitialSmashListener mListener;
+    // resolves the loads in flight for this network load, each network load gets its own instance
+    private final VungleAdapter mAdapter;
+    // the bid payload of the load, null for a non bidding load
+    private final String mServerData;
+
+    VungleInterstitialLoadListener(VungleAdapter adapter, String serverData) {
+        mAdapter = adapter;
+        mServerData = serverData;
+    }
 
-    VungleInterstitialLoadListener(InterstitialSmashListener listener) {
-        mListener = listener;
+    // Returns every load request that joined this network load, empty for a late callback of a released placement
+    private List<InterstitialSmashListener> landLoads(String placementId) {
+        return mAdapter.landInterstitialLoads(placementId, mServerData);
     }
 
     /**
@@ -21,14 +33,18 @@ public class VungleInterstitialLoadListener implements LoadAdCallback {
      */
     @Override
     public void onAdLoad(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+        VungleAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
+        VungleAdapter.getNoFillBackoff().onFill(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
-            return;
+        // a late load of a released placement doesn't make it available again
+        if (mAdapter.getInterstitialSmashListener(placementId) != null) {
+            mAdapter.setInterstitialAdAvailability(placementId, true);
         }
 
-        mListener.onInterstitialAdReady();
+        for (InterstitialSmashListener listener : landLoads(placementId)) {
+            listener.onInterstitialAdReady();
+        }
     }
 
     /**
@@ -38,20 +54,21 @@ public class VungleInterstitialLoadListener implements LoadAdCallback {
      */
     @Override
     public void onError(String placementId, VungleException exception) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId + ", exception = " + exception);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}, exception = {}", placementId, exception);
+        VungleAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
-            return;
-        }
+        mAdapter.setInterstitialAdAvailability(placementId, false);
 
         IronSourceError error;
         if (exception.getExceptionCode() == VungleException.NO_SERVE) {
+            VungleAdapter.getNoFillBackoff().onNoFill(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
             error = new IronSourceError(IronSourceError.ERROR_IS_LOAD_NO_FILL, exception.getLocalizedMessage());
         } else {
             error = ErrorBuilder.buildLoadFailedError(exception.getLocalizedMessage());
         }
 
-        mListener.onInterstitialAdLoadFailed(error);
+        for (InterstitialSmashListener listener : landLoads(placementId)) {
+            listener.onInterstitialAdLoadFailed(error);
+        }
     }
 }
\ No newline at end of file
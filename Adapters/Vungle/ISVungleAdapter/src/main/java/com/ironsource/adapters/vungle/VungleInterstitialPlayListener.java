@@ -9,10 +9,16 @@ import com.vungle.warren.error.VungleException;
 
 public class VungleInterstitialPlayListener implements PlayAdCallback {
 
-    private InterstitialSmashListener mListener;
+    // resolves the smash listener per callback, a single instance serves every show of the adapter
+    private final VungleAdapter mAdapter;
 
-    VungleInterstitialPlayListener(InterstitialSmashListener listener) {
-        mListener = listener;
+    VungleInterstitialPlayListener(VungleAdapter adapter) {
+        mAdapter = adapter;
+    }
+
+    // Returns null if the placement was released, the callback is dropped then
+    private InterstitialSmashListener getListener(String placementId) {
+        return mAdapter.getInterstitialSmashListener(placementId);
     }
 
     /**
@@ -22,15 +28,17 @@ public class VungleInterstitialPlayListener implements PlayAdCallback {
      */
     @Override
     public void onError(String placementId, VungleException exception) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId + ", exception = " + exception);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}, exception = {}", placementId, exception);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        InterstitialSmashListener listener = getListener(placementId);
+
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
         String errorMessage = " reason = " + exception.getLocalizedMessage() + " errorCode = " + exception.getExceptionCode();
-        mListener.onInterstitialAdShowFailed(ErrorBuilder.buildShowFailedError(IronSourceConstants.INTERSTITIAL_AD_UNIT, errorMessage));
+        listener.onInterstitialAdShowFailed(ErrorBuilder.buildShowFailedError(IronSourceConstants.INTERSTITIAL_AD_UNIT, errorMessage));
     }
 
     /**
@@ -39,14 +47,19 @@ public class VungleInterstitialPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdStart(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+
+        InterstitialSmashListener listener = getListener(placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onInterstitialAdShowSucceeded();
+        listener.onInterstitialAdShowSucceeded();
+
+        // the next ad loads while this one shows, if the show opted in
+        mAdapter.reloadInterstitialWhileShowing(placementId);
     }
 
     /**
@@ -55,14 +68,17 @@ public class VungleInterstitialPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdViewed(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+        VungleAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId);
+
+        InterstitialSmashListener listener = getListener(placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onInterstitialAdOpened();
+        listener.onInterstitialAdOpened();
     }
 
     /**
@@ -71,14 +87,16 @@ public class VungleInterstitialPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdClick(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        InterstitialSmashListener listener = getListener(placementId);
+
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onInterstitialAdClicked();
+        listener.onInterstitialAdClicked();
     }
 
     /**
@@ -87,14 +105,16 @@ public class VungleInterstitialPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdEnd(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+
+        InterstitialSmashListener listener = getListener(placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onInterstitialAdClosed();
+        listener.onInterstitialAdClosed();
     }
 
     /**
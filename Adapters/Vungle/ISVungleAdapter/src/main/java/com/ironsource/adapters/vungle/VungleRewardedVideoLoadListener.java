@@ -4,15 +4,27 @@ import com.ironsource.mediationsdk.logger.IronLog;
 import com.ironsource.mediationsdk.logger.IronSourceError;
 import com.ironsource.mediationsdk.sdk.RewardedVideoSmashListener;
 import com.ironsource.mediationsdk.utils.ErrorBuilder;
+import com.ironsource.mediationsdk.utils.IronSourceConstants;
 import com.vungle.warren.LoadAdCallback;
 import com.vungle.warren.error.VungleException;
 
+import java.util.List;
+
 public class VungleRewardedVideoLoadListener implements LoadAdCallback {
 
-    private RewardedVideoSmashListener mListener;
+    // resolves the loads in flight for this network load, each network load gets its own instance
+    private final VungleAdapter mAdapter;
+    // the bid payload of the load, null for a non bidding load
+    private final String mServerData;
+
+    VungleRewardedVideoLoadListener(VungleAdapter adapter, String serverData) {
+        mAdapter = adapter;
+        mServerData = serverData;
+    }
 
-    VungleRewardedVideoLoadListener(RewardedVideoSmashListener listener) {
-        mListener = listener;
+    // Returns every load request that joined this network load, empty for a late callback of a released placement
+    private List<RewardedVideoSmashListener> landLoads(String placementId) {
+        return mAdapter.landRewardedVideoLoads(placementId, mServerData);
     }
 
     /**
@@ -21,14 +33,19 @@ public class VungleRewardedVideoLoadListener implements LoadAdCallback {
      */
     @Override
     public void onAdLoad(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+        VungleAdapter.getLatencyTracker().onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
+        VungleAdapter.getNoFillBackoff().onFill(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
+        VungleAdapter.getPostInitLoadScheduler().onLoadFinished(placementId, true);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
-            return;
+        // a late load of a released placement doesn't make it available again
+        if (mAdapter.getRewardedVideoSmashListener(placementId) != null) {
+            mAdapter.setRewardedVideoAdAvailability(placementId, true);
         }
 
-        mListener.onRewardedVideoAvailabilityChanged(true);
+        for (RewardedVideoSmashListener listener : landLoads(placementId)) {
+            listener.onRewardedVideoAvailabilityChanged(true);
+        }
     }
 
     /**
@@ -38,21 +55,23 @@ public class VungleRewardedVideoLoadListener implements LoadAdCallback {
      */
     @Override
     public void onError(String placementId, VungleException exception) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId + ", exception = " + exception);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}, exception = {}", placementId, exception);
+        VungleAdapter.getLatencyTracker().onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
+        VungleAdapter.getPostInitLoadScheduler().onLoadFinished(placementId, false);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
-            return;
-        }
+        mAdapter.setRewardedVideoAdAvailability(placementId, false);
 
         IronSourceError error;
         if (exception.getExceptionCode() == VungleException.NO_SERVE) {
+            VungleAdapter.getNoFillBackoff().onNoFill(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
             error = new IronSourceError(IronSourceError.ERROR_RV_LOAD_NO_FILL, exception.getLocalizedMessage());
         } else {
             error = ErrorBuilder.buildLoadFailedError(exception.getLocalizedMessage());
         }
 
-        mListener.onRewardedVideoAvailabilityChanged(false);
-        mListener.onRewardedVideoLoadFailed(error);
+        for (RewardedVideoSmashListener listener : landLoads(placementId)) {
+            listener.onRewardedVideoAvailabilityChanged(false);
+            listener.onRewardedVideoLoadFailed(error);
+        }
     }
 }
\ No newline at end of file
@@ -9,10 +9,16 @@ import com.vungle.warren.error.VungleException;
 
 public class VungleRewardedVideoPlayListener implements PlayAdCallback {
 
-    private RewardedVideoSmashListener mListener;
+    // resolves the smash listener per callback, a single instance serves every show of the adapter
+    private final VungleAdapter mAdapter;
 
-    VungleRewardedVideoPlayListener(RewardedVideoSmashListener listener) {
-        mListener = listener;
+    VungleRewardedVideoPlayListener(VungleAdapter adapter) {
+        mAdapter = adapter;
+    }
+
+    // Returns null if the placement was released, the callback is dropped then
+    private RewardedVideoSmashListener getListener(String placementId) {
+        return mAdapter.getRewardedVideoSmashListener(placementId);
     }
 
     /**
@@ -22,14 +28,16 @@ public class VungleRewardedVideoPlayListener implements PlayAdCallback {
      */
     @Override
     public void onError(String placementId, VungleException exception) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId + ", exception = " + exception);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}, exception = {}", placementId, exception);
+
+        RewardedVideoSmashListener listener = getListener(placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onRewardedVideoAdShowFailed(ErrorBuilder.buildShowFailedError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, exception.getLocalizedMessage()));
+        listener.onRewardedVideoAdShowFailed(ErrorBuilder.buildShowFailedError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, exception.getLocalizedMessage()));
     }
 
     /**
@@ -38,14 +46,19 @@ public class VungleRewardedVideoPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdStart(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        RewardedVideoSmashListener listener = getListener(placementId);
+
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onRewardedVideoAdStarted();
+        listener.onRewardedVideoAdStarted();
+
+        // the next ad loads while this one shows, if the show opted in
+        mAdapter.reloadRewardedVideoWhileShowing(placementId);
     }
 
     /**
@@ -54,14 +67,17 @@ public class VungleRewardedVideoPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdViewed(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+        VungleAdapter.getLatencyTracker().onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        RewardedVideoSmashListener listener = getListener(placementId);
+
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onRewardedVideoAdOpened();
+        listener.onRewardedVideoAdOpened();
     }
 
     /**
@@ -70,14 +86,16 @@ public class VungleRewardedVideoPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdClick(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+
+        RewardedVideoSmashListener listener = getListener(placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onRewardedVideoAdClicked();
+        listener.onRewardedVideoAdClicked();
     }
 
     /**
@@ -86,14 +104,16 @@ public class VungleRewardedVideoPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdRewarded(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        RewardedVideoSmashListener listener = getListener(placementId);
+
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onRewardedVideoAdRewarded();
+        listener.onRewardedVideoAdRewarded();
     }
 
     /**
@@ -102,15 +122,17 @@ public class VungleRewardedVideoPlayListener implements PlayAdCallback {
      */
     @Override
     public void onAdEnd(String placementId) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = " + placementId);
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK, "placementId = {}", placementId);
+
+        RewardedVideoSmashListener listener = getListener(placementId);
 
-        if (mListener == null) {
-            IronLog.INTERNAL.verbose("listener is null");
+        if (listener == null) {
+            AdapterLog.verbose(IronLog.INTERNAL, "listener is null");
             return;
         }
 
-        mListener.onRewardedVideoAdEnded();
-        mListener.onRewardedVideoAdClosed();
+        listener.onRewardedVideoAdEnded();
+        listener.onRewardedVideoAdClosed();
     }
 
     /**
@@ -0,0 +1,38 @@
+package com.ironsource.adapters.yahoo
+
+import org.json.JSONObject
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * Immutable view of the values the adapter reads from a smash config.
+ * The mediation layer passes the same config object on every call made for a smash, so each config
+ * is parsed once and cached by its identity. Availability and show checks then read a field
+ * instead of looking the keys up in the json again.
+ * Every adapter ships as its own artifact, so each adapter keeps its own copy of this class.
+ * Only the config values differ between the copies, the config cache is the same in each of them.
+ */
+internal class AdapterConfig private constructor(private val mConfig: JSONObject) {
+
+    val siteId: String = mConfig.optString(YahooAdapter.SITE_ID_KEY)
+    val placementId: String = mConfig.optString(YahooAdapter.PLACEMENT_ID_KEY)
+
+    companion object {
+        // Number of cached configs, must be a power of two
+        private const val CACHE_SIZE = 32
+        private val sCache = AtomicReferenceArray<AdapterConfig?>(CACHE_SIZE)
+
+        // Returns the parsed values of the config, parsing it only if it isn't cached yet
+        fun from(config: JSONObject): AdapterConfig {
+            val index = System.identityHashCode(config) and (CACHE_SIZE - 1)
+            val cached = sCache.get(index)
+
+            if (cached != null && cached.mConfig === config) {
+                return cached
+            }
+
+            val parsed = AdapterConfig(config)
+            sCache.set(index, parsed)
+            return parsed
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.ironsource.adapters.yahoo
+
+import android.os.SystemClock
+import com.ironsource.mediationsdk.logger.IronLog
+import org.json.JSONObject
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Keeps the last good bidding token of the network so building an auction request doesn't wait on the network SDK.
+ * The cached token is returned right away, and once it is older than the TTL a single refresh is started on a
+ * background thread. The network SDK is called on the calling thread only while no token was cached yet.
+ * The token is built with the privacy settings of the user, so a change of these drops the cached token.
+ *
+ * [fetchToken] is called on the auction thread for a cold cache and on a background thread for a refresh.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+internal class BiddingTokenCache(private val fetchToken: () -> String?) {
+
+    private class Entry(val token: String, val fetchTime: Long)
+
+    private val mEntry = AtomicReference<Entry?>()
+    private val mRefreshInProgress = AtomicBoolean(false)
+    // Changed by every invalidation, a token fetched before one is not cached
+    private val mGeneration = AtomicLong()
+    private val mHits = AtomicLong()
+    private val mMisses = AtomicLong()
+    private val mRefreshes = AtomicLong()
+    private val mInvalidations = AtomicLong()
+
+    @Volatile
+    private var mTtlMillis: Long = DEFAULT_TTL_MILLIS
+
+    @Volatile
+    private var mLastRefreshTime: Long = 0
+
+    private val mRefreshRunnable = Runnable {
+        try {
+            var generation: Long
+
+            // fetch again if the cache was invalidated while fetching
+            do {
+                generation = mGeneration.get()
+                fetchAndStore()
+            } while (generation != mGeneration.get())
+
+            mRefreshes.incrementAndGet()
+        } finally {
+            mRefreshInProgress.set(false)
+        }
+    }
+
+    // Sets the TTL from a meta data value given in seconds, an invalid value is ignored
+    fun setTtlFromMetaData(value: String) {
+        val ttlSeconds = value.trim().toLongOrNull()
+
+        if (ttlSeconds == null || ttlSeconds < 0) {
+            AdapterLog.error(IronLog.INTERNAL) { "invalid bidding token ttl = $value" }
+            return
+        }
+
+        mTtlMillis = ttlSeconds * 1000
+    }
+
+    // Returns the cached token, or an empty string if the network has no token to give
+    fun getToken(): String {
+        val entry = mEntry.get()
+
+        if (entry == null) {
+            mMisses.incrementAndGet()
+            return fetchAndStore()
+        }
+
+        mHits.incrementAndGet()
+        val now = SystemClock.elapsedRealtime()
+
+        if (now - entry.fetchTime >= mTtlMillis && now - mLastRefreshTime >= MIN_REFRESH_INTERVAL_MILLIS) {
+            refresh()
+        }
+
+        return entry.token
+    }
+
+    // Fetches a new token in the background regardless of the age of the cached one,
+    // to be called when the network state changes in a way that affects the token (e.g. init finished)
+    fun refresh() {
+        if (!mRefreshInProgress.compareAndSet(false, true)) {
+            return
+        }
+
+        mLastRefreshTime = SystemClock.elapsedRealtime()
+
+        try {
+            sRefreshExecutor.execute(mRefreshRunnable)
+        } catch (e: Throwable) {
+            mRefreshInProgress.set(false)
+            AdapterLog.error(IronLog.INTERNAL) { "failed to start the token refresh - ${e.message}" }
+        }
+    }
+
+    // Drops the cached token and fetches a new one in the background, to be called when a privacy setting changes.
+    // Until the new token is cached the network SDK is called on the calling thread.
+    fun invalidate() {
+        mGeneration.incrementAndGet()
+        mEntry.set(null)
+        mInvalidations.incrementAndGet()
+        refresh()
+    }
+
+    fun getStats(): JSONObject {
+        return JSONObject()
+            .put("hits", mHits.get())
+            .put("misses", mMisses.get())
+            .put("refreshes", mRefreshes.get())
+            .put("invalidations", mInvalidations.get())
+            .put("ttlMillis", mTtlMillis)
+    }
+
+    private fun fetchAndStore(): String {
+        val generation = mGeneration.get()
+        val token = try {
+            fetchToken()
+        } catch (e: Throwable) {
+            AdapterLog.error(IronLog.INTERNAL) { "failed to fetch the bidding token - ${e.message}" }
+            null
+        }
+
+        if (token.isNullOrEmpty()) {
+            // keep serving the previous token, an empty one is not worth caching
+            return ""
+        }
+
+        val entry = Entry(token, SystemClock.elapsedRealtime())
+        mEntry.set(entry)
+
+        if (generation != mGeneration.get()) {
+            // a privacy setting changed while fetching, the token may have been built with the previous value
+            mEntry.compareAndSet(entry, null)
+        }
+
+        return token
+    }
+
+    companion object {
+        const val DEFAULT_TTL_MILLIS: Long = 60 * 1000
+
+        // A failed refresh is retried after this interval, not on every auction
+        private const val MIN_REFRESH_INTERVAL_MILLIS: Long = 10 * 1000
+
+        // Refreshes are rare and short, one thread runs them for every cache of the network
+        private val sRefreshExecutor: ExecutorService = Executors.newSingleThreadExecutor { runnable ->
+            Thread(runnable, "BiddingTokenRefresh").apply { isDaemon = true }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.ironsource.adapters.yahoo
+
+import android.os.SystemClock
+import com.ironsource.mediationsdk.logger.IronLog
+import com.ironsource.mediationsdk.utils.IronSourceConstants
+import org.json.JSONArray
+import org.json.JSONException
+import org.json.JSONObject
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Measures how long the network takes to answer the adapter - the network SDK init, every ad load from the
+ * load call until the load callback and every show from the show call until the ad opened callback.
+ * Durations are kept per ad unit and placement in [LatencyHistogram]s. A placement allocates its
+ * histograms on its first load, after that measuring is allocation free.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+internal class LatencyTracker {
+
+    private class PlacementLatency {
+        val loadStartTime = AtomicLong(NOT_STARTED)
+        val showStartTime = AtomicLong(NOT_STARTED)
+        val loadSuccess = LatencyHistogram()
+        val loadFailure = LatencyHistogram()
+        val showToOpen = LatencyHistogram()
+    }
+
+    private val mInitStartTime = AtomicLong(NOT_STARTED)
+    private val mInit = LatencyHistogram()
+    private val mRewardedVideoPlacements = ConcurrentHashMap<String, PlacementLatency>()
+    private val mInterstitialPlacements = ConcurrentHashMap<String, PlacementLatency>()
+    private val mBannerPlacements = ConcurrentHashMap<String, PlacementLatency>()
+
+    //region Init
+    fun onInitStarted() {
+        mInitStartTime.set(SystemClock.elapsedRealtime())
+    }
+
+    // Called once the init succeeded or failed
+    fun onInitFinished() {
+        record(mInitStartTime, mInit)
+    }
+    //endregion
+
+    //region Load and show
+    fun onLoadStarted(adUnit: String, placementId: String?) {
+        getPlacementLatency(adUnit, placementId).loadStartTime.set(SystemClock.elapsedRealtime())
+    }
+
+    fun onLoadSucceeded(adUnit: String, placementId: String?) {
+        findPlacementLatency(adUnit, placementId)?.let { record(it.loadStartTime, it.loadSuccess) }
+    }
+
+    fun onLoadFailed(adUnit: String, placementId: String?) {
+        findPlacementLatency(adUnit, placementId)?.let { record(it.loadStartTime, it.loadFailure) }
+    }
+
+    fun onShowStarted(adUnit: String, placementId: String?) {
+        getPlacementLatency(adUnit, placementId).showStartTime.set(SystemClock.elapsedRealtime())
+    }
+
+    fun onShowOpened(adUnit: String, placementId: String?) {
+        findPlacementLatency(adUnit, placementId)?.let { record(it.showStartTime, it.showToOpen) }
+    }
+    //endregion
+
+    //region Snapshot
+
+    /**
+     * Returns the histograms recorded so far:
+     * {"init": histogram, "bucketBoundsMillis": [...], "Rewarded Video": {"placementId": {"loadSuccess": histogram,
+     * "loadFailure": histogram, "showToOpen": histogram}}, "Interstitial": {...}, "Banner": {...}}
+     */
+    fun getSnapshot(): JSONObject {
+        val snapshot = JSONObject()
+
+        try {
+            val bucketBounds = JSONArray()
+            for (bound in LatencyHistogram.BUCKET_BOUNDS_MILLIS) {
+                bucketBounds.put(bound)
+            }
+
+            snapshot.put("bucketBoundsMillis", bucketBounds)
+            snapshot.put("init", mInit.getSnapshot())
+            snapshot.put(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, getPlacementsSnapshot(mRewardedVideoPlacements))
+            snapshot.put(IronSourceConstants.INTERSTITIAL_AD_UNIT, getPlacementsSnapshot(mInterstitialPlacements))
+            snapshot.put(IronSourceConstants.BANNER_AD_UNIT, getPlacementsSnapshot(mBannerPlacements))
+        } catch (e: JSONException) {
+            AdapterLog.error(IronLog.INTERNAL) { "failed to build latency snapshot - ${e.message}" }
+        }
+
+        return snapshot
+    }
+
+    private fun getPlacementsSnapshot(placements: ConcurrentHashMap<String, PlacementLatency>): JSONObject {
+        val snapshot = JSONObject()
+
+        for ((placementId, latency) in placements) {
+            snapshot.put(placementId, JSONObject()
+                .put("loadSuccess", latency.loadSuccess.getSnapshot())
+                .put("loadFailure", latency.loadFailure.getSnapshot())
+                .put("showToOpen", latency.showToOpen.getSnapshot()))
+        }
+
+        return snapshot
+    }
+    //endregion
+
+    private fun getPlacements(adUnit: String): ConcurrentHashMap<String, PlacementLatency> {
+        return when (adUnit) {
+            IronSourceConstants.REWARDED_VIDEO_AD_UNIT -> mRewardedVideoPlacements
+            IronSourceConstants.INTERSTITIAL_AD_UNIT -> mInterstitialPlacements
+            else -> mBannerPlacements
+        }
+    }
+
+    private fun findPlacementLatency(adUnit: String, placementId: String?): PlacementLatency? {
+        return getPlacements(adUnit)[placementId ?: ""]
+    }
+
+    // Returns the placement entry, creating it on first use
+    private fun getPlacementLatency(adUnit: String, placementId: String?): PlacementLatency {
+        val placements = getPlacements(adUnit)
+        val key = placementId ?: ""
+
+        return placements[key] ?: PlacementLatency().let { placements.putIfAbsent(key, it) ?: it }
+    }
+
+    companion object {
+        private const val NOT_STARTED = -1L
+
+        // Records the time passed since the start time, only the first callback after a start is recorded
+        private fun record(startTime: AtomicLong, histogram: LatencyHistogram) {
+            val start = startTime.getAndSet(NOT_STARTED)
+
+            if (start != NOT_STARTED) {
+                histogram.record(SystemClock.elapsedRealtime() - start)
+            }
+        }
+    }
+}
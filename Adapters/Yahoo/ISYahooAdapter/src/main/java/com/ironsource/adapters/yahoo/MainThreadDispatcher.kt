@@ -0,0 +1,126 @@
+package com.ironsource.adapters.yahoo
+
+import android.os.Handler
+import android.os.Looper
+import com.ironsource.mediationsdk.logger.IronLog
+import org.json.JSONObject
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Runs the adapter work that has to happen on the main thread. Work dispatched on the main thread runs right away,
+ * work dispatched on other threads is queued and the whole queue is drained by a single main thread message,
+ * so a burst of loads costs one message instead of one per call. The drain is a plain handler message and is not
+ * aligned to frames. Once a drain has run for DRAIN_BUDGET_NANOS, about half a frame at 60Hz, the rest of the queue
+ * continues in a new message, so the input and frame messages queued meanwhile run in between. A task that throws
+ * doesn't hold back the others, the drain goes on with the next one and rethrows the first exception once it ends,
+ * so the failure surfaces on the main thread the same way it would from a plain handler message.
+ * The drains are posted to the main handler given, it has to run them on the main thread.
+ * Every adapter ships as its own artifact, so each adapter that needs this class keeps its own copy of it.
+ * The copies written in the same language only differ by their package, SharedClassCopiesTest in the
+ * Benchmarks module checks it.
+ */
+internal class MainThreadDispatcher(private val mMainHandler: Handler = Handler(Looper.getMainLooper())) {
+
+    private class Task(val runnable: Runnable, val enqueueTime: Long)
+
+    private val mQueue = ConcurrentLinkedQueue<Task>()
+    private val mDrainPosted = AtomicBoolean(false)
+    private val mQueueDepth = AtomicInteger()
+    private val mDispatched = AtomicLong()
+    private val mRanInline = AtomicLong()
+    private val mPosts = AtomicLong()
+    private val mFailures = AtomicLong()
+    private val mMaxQueueDepth = AtomicLong()
+    private val mTotalWaitNanos = AtomicLong()
+    private val mMaxWaitNanos = AtomicLong()
+
+    private val mDrainRunnable = Runnable { drain() }
+
+    fun dispatch(runnable: Runnable) {
+        mDispatched.incrementAndGet()
+
+        // work queued from other threads runs first to keep the dispatch order
+        if (Looper.myLooper() == Looper.getMainLooper() && mQueueDepth.get() == 0) {
+            mRanInline.incrementAndGet()
+            runnable.run()
+            return
+        }
+
+        mQueue.offer(Task(runnable, System.nanoTime()))
+        updateMax(mMaxQueueDepth, mQueueDepth.incrementAndGet().toLong())
+        postDrain()
+    }
+
+    fun getStats(): JSONObject {
+        val queued = mDispatched.get() - mRanInline.get()
+
+        return JSONObject()
+            .put("dispatched", mDispatched.get())
+            .put("ranInline", mRanInline.get())
+            .put("posts", mPosts.get())
+            .put("failures", mFailures.get())
+            .put("queueDepth", mQueueDepth.get())
+            .put("maxQueueDepth", mMaxQueueDepth.get())
+            .put("avgWaitMillis", if (queued > 0) TimeUnit.NANOSECONDS.toMillis(mTotalWaitNanos.get() / queued) else 0)
+            .put("maxWaitMillis", TimeUnit.NANOSECONDS.toMillis(mMaxWaitNanos.get()))
+    }
+
+    private fun postDrain() {
+        if (mDrainPosted.compareAndSet(false, true)) {
+            mPosts.incrementAndGet()
+            mMainHandler.post(mDrainRunnable)
+        }
+    }
+
+    private fun drain() {
+        // cleared first, work queued from now on is either picked up by this drain or posts a new one
+        mDrainPosted.set(false)
+        val start = System.nanoTime()
+        var failure: RuntimeException? = null
+
+        while (true) {
+            val task = mQueue.poll() ?: break
+            mQueueDepth.decrementAndGet()
+            val waitNanos = System.nanoTime() - task.enqueueTime
+            mTotalWaitNanos.addAndGet(waitNanos)
+            updateMax(mMaxWaitNanos, waitNanos)
+
+            try {
+                task.runnable.run()
+            } catch (e: RuntimeException) {
+                // the rest of the queue still runs, the first failure is rethrown after it
+                mFailures.incrementAndGet()
+                AdapterLog.error(IronLog.INTERNAL) { "failed to run a main thread task - ${e.message}" }
+
+                if (failure == null) {
+                    failure = e
+                }
+            }
+
+            if (System.nanoTime() - start >= DRAIN_BUDGET_NANOS && !mQueue.isEmpty()) {
+                postDrain()
+                break
+            }
+        }
+
+        if (failure != null) {
+            throw failure
+        }
+    }
+
+    private fun updateMax(max: AtomicLong, value: Long) {
+        var current = max.get()
+
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get()
+        }
+    }
+
+    companion object {
+        private val DRAIN_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8)
+    }
+}
@@ -3,6 +3,7 @@ package com.ironsource.adapters.yahoo
 import android.app.Activity
 import android.view.Gravity
 import android.widget.FrameLayout
+import com.ironsource.adapters.yahoo.NetworkInitCoordinator.InitState
 import com.ironsource.environment.ContextProvider
 import com.ironsource.mediationsdk.*
 import com.ironsource.mediationsdk.logger.IronLog
@@ -23,7 +24,6 @@ import com.yahoo.ads.interstitialplacement.InterstitialPlacementConfig
 import org.json.JSONObject
 import java.lang.ref.WeakReference
 import java.util.concurrent.ConcurrentHashMap
-import java.util.concurrent.atomic.AtomicBoolean
 
 
 class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
@@ -60,12 +60,13 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
         private const val GitHash: String = BuildConfig.GitHash
 
         // Yahoo keys
-        private const val PLACEMENT_ID_KEY: String = "placementId"
-        private const val SITE_ID_KEY: String = "siteId"
+        internal const val PLACEMENT_ID_KEY: String = "placementId"
+        internal const val SITE_ID_KEY: String = "siteId"
 
         // Meta data flags
         private const val META_DATA_YAHOO_COPPA: String = "yahoo_coppa"
         private const val META_DATA_YAHOO_GDPR: String = "yahoo_gdprconsent"
+        private const val META_DATA_YAHOO_BIDDING_TOKEN_TTL: String = "yahoo_biddingtokenttl"
         private const val META_DATA_YAHOO_CCPA_NO_CONSENT_VALUE: String = "1YYN"
         private const val META_DATA_YAHOO_CCPA_CONSENT_VALUE: String = "1YNN"
 
@@ -75,18 +76,37 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
         private const val PLACEMENT_DATA_WATERFALL_VALUE: String = "waterfallprovider/sideloading"
 
         // Handle init callback for all adapter instances
-        private val mWasInitCalled: AtomicBoolean = AtomicBoolean(false)
-        private var mInitState: InitState = InitState.INIT_STATE_NONE
-        private val initCallbackListeners = HashSet<INetworkInitCallbackListener>()
-
-        // Init state possible values
-        private enum class InitState {
-            INIT_STATE_NONE,
-            INIT_STATE_IN_PROGRESS,
-            INIT_STATE_SUCCESS,
-            INIT_STATE_FAILED
+        private val mInitCoordinator = NetworkInitCoordinator()
+
+        // Init, load and show latencies of all adapter instances
+        internal val mLatencyTracker = LatencyTracker()
+
+        // Main thread work of all adapter instances, coalesced into as few main thread messages as possible
+        private val mMainThreadDispatcher = MainThreadDispatcher()
+
+        // Network banner sizes and pixel dimensions of all adapter instances, resolved once per device configuration
+        private val mBannerLayoutCache = BannerLayoutCache<AdSize>()
+
+        // Yahoo banner size and dimensions of every supported mediation banner size
+        private val mBannerSizeResolver = { size: ISBannerSize, isLargeScreen: Boolean ->
+            when (size.description) {
+                "BANNER" -> BannerLayoutCache.BannerLayout(AdSize(320, 50), 320, 50)
+                "LARGE" -> BannerLayoutCache.BannerLayout(AdSize(320, 90), 320, 90)
+                "RECTANGLE" -> BannerLayoutCache.BannerLayout(AdSize(300, 250), 300, 250)
+                "SMART" ->
+                    if (isLargeScreen) {
+                        BannerLayoutCache.BannerLayout(AdSize(728, 90), 728, 90)
+                    } else {
+                        BannerLayoutCache.BannerLayout(AdSize(320, 50), 320, 50)
+                    }
+                "CUSTOM" -> BannerLayoutCache.BannerLayout(AdSize(size.width, size.height), size.width, size.height)
+                else -> BannerLayoutCache.BannerLayout(AdSize(size.width, size.height), 0, 0)
+            }
         }
 
+        // Last bidding token of the network, refreshed in the background for all the adapter instances
+        private val mBiddingTokenCache = BiddingTokenCache { YASAds.getBiddingToken(ContextProvider.getInstance().applicationContext) }
+
         @JvmStatic
         fun startAdapter(providerName: String): YahooAdapter {
             return YahooAdapter(providerName)
@@ -101,6 +121,12 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
         fun getAdapterSDKVersion(): String {
             return YASAds.getSDKInfo().version
         }
+
+        // Get the init, load and show latency histograms recorded so far for this network
+        @JvmStatic
+        fun getLatencySnapshot(): JSONObject {
+            return mLatencyTracker.getSnapshot()
+        }
     }
 
     //region Adapter Methods
@@ -120,14 +146,12 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     //region Initializations methods and callbacks
 
     private fun initSdk(siteID: String) {
-        // Add self to the init listeners only in case the initialization has not finished yet
-        if (mInitState == InitState.INIT_STATE_NONE || mInitState == InitState.INIT_STATE_IN_PROGRESS) {
-            initCallbackListeners.add(this)
-        }
+        // Add self to the init listeners, in case the initialization has already finished the result is delivered right away
+        mInitCoordinator.addListener(this)
 
-        if (mWasInitCalled.compareAndSet(false, true)) {
-            mInitState = InitState.INIT_STATE_IN_PROGRESS
-            IronLog.ADAPTER_API.verbose("siteID = $siteID")
+        if (mInitCoordinator.startInit()) {
+            AdapterLog.verbose(IronLog.ADAPTER_API) { "siteID = $siteID" }
+            mLatencyTracker.onInitStarted()
 
             // Set log level
             if (isAdaptersDebugEnabled) {
@@ -146,29 +170,24 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     private fun initializationSuccess() {
-        IronLog.ADAPTER_CALLBACK.verbose("")
-
-        mInitState = InitState.INIT_STATE_SUCCESS
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "" }
 
-        //iterate over all the adapter instances and report init success
-        for (adapter: INetworkInitCallbackListener in initCallbackListeners) {
-            adapter.onNetworkInitCallbackSuccess()
+        //report init success to all the adapter instances
+        if (mInitCoordinator.setInitSucceeded()) {
+            mLatencyTracker.onInitFinished()
+            mBiddingTokenCache.refresh()
+            mInitCoordinator.notifyListeners()
         }
-
-        initCallbackListeners.clear()
     }
 
     private fun initializationFailure() {
-        IronLog.ADAPTER_CALLBACK.verbose("")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "" }
 
-        mInitState = InitState.INIT_STATE_FAILED
-
-        //iterate over all the adapter instances and report init failed
-        for (adapter in initCallbackListeners) {
-            adapter.onNetworkInitCallbackFailed("Yahoo SDK init failed")
+        //report init failed to all the adapter instances
+        if (mInitCoordinator.setInitFailed("Yahoo SDK init failed")) {
+            mLatencyTracker.onInitFinished()
+            mInitCoordinator.notifyListeners()
         }
-
-        initCallbackListeners.clear()
     }
 
     override fun onNetworkInitCallbackSuccess() {
@@ -223,22 +242,23 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
 
     // Used for flows when the mediation needs to get a callback for init
     override fun initRewardedVideoWithCallback(appKey: String?, userId: String?, config: JSONObject?, listener: RewardedVideoSmashListener) {
-        val placementId = config?.optString(PLACEMENT_ID_KEY)
-        val siteID = config?.optString(SITE_ID_KEY)
+        val adapterConfig = config?.let { AdapterConfig.from(it) }
+        val placementId = adapterConfig?.placementId
+        val siteID = adapterConfig?.siteId
 
         if (placementId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $PLACEMENT_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $PLACEMENT_ID_KEY" }
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $PLACEMENT_ID_KEY", IronSourceConstants.REWARDED_VIDEO_AD_UNIT))
             return
         }
 
         if (siteID.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $SITE_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $SITE_ID_KEY" }
             listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $SITE_ID_KEY", IronSourceConstants.REWARDED_VIDEO_AD_UNIT))
             return
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = $placementId")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "placementId = $placementId" }
 
         val rewardedVideoAdListener = YahooRewardedVideoAdListener(listener, WeakReference(this), placementId)
 
@@ -246,12 +266,12 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
         mPlacementIdToRewardedVideoAdListener[placementId] = rewardedVideoAdListener
         mPlacementIdToRewardedVideoListener[placementId] = listener
 
-        when (mInitState) {
+        when (mInitCoordinator.state) {
             InitState.INIT_STATE_SUCCESS -> {
                 listener.onRewardedVideoInitSuccess()
             }
             InitState.INIT_STATE_FAILED -> {
-                IronLog.INTERNAL.verbose("init failed - placementId = $placementId")
+                AdapterLog.verbose(IronLog.INTERNAL) { "init failed - placementId = $placementId" }
                 listener.onRewardedVideoInitFailed(ErrorBuilder.buildInitFailedError("Yahoo SDK init failed", IronSourceConstants.REWARDED_VIDEO_AD_UNIT))
             }
             else -> {
@@ -262,12 +282,12 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
 
     // Yahoo only supports bidding flows, given that this method is for non bidding flow it is unused
     override fun initAndLoadRewardedVideo(appKey: String?, userId: String?, config: JSONObject?, listener: RewardedVideoSmashListener) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     override fun loadRewardedVideoForBidding(config: JSONObject, listener: RewardedVideoSmashListener?, serverData: String?) {
-        val placementId = config.optString(PLACEMENT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("placementId = $placementId")
+        val placementId = AdapterConfig.from(config).placementId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "placementId = $placementId" }
 
         setRewardedVideoAdAvailability(placementId, false)
 
@@ -275,23 +295,25 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
         val rewardedVideoAd = InterstitialAd(ContextProvider.getInstance().applicationContext, placementId, rewardedVideoAdListener)
         val rewardedVideoPlacementConfig = InterstitialPlacementConfig(placementId, getLoadRequestMetaData(serverData))
 
-        postOnUIThread {
+        mMainThreadDispatcher.dispatch {
+            mLatencyTracker.onLoadStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId)
             rewardedVideoAd.load(rewardedVideoPlacementConfig)
         }
     }
 
     // Yahoo only supports bidding flows, given that this method is for non bidding flow it is unused
     override fun fetchRewardedVideoForAutomaticLoad(config: JSONObject?, listener: RewardedVideoSmashListener?) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     override fun showRewardedVideo(config: JSONObject, listener: RewardedVideoSmashListener?) {
-        val placementId = config.optString(PLACEMENT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("placementId = $placementId")
+        val placementId = AdapterConfig.from(config).placementId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "placementId = $placementId" }
         listener?.onRewardedVideoAvailabilityChanged(false)
 
         if (isRewardedVideoAvailable(config)) {
-            postOnUIThread {
+            mMainThreadDispatcher.dispatch {
+                mLatencyTracker.onShowStarted(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, placementId)
                 mPlacementIdToRewardedVideoAd[placementId].let {
                     it?.show(ContextProvider.getInstance().applicationContext)
                 }
@@ -308,7 +330,7 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     override fun isRewardedVideoAvailable(config: JSONObject?): Boolean {
-        val placementId = config?.optString(PLACEMENT_ID_KEY)
+        val placementId = config?.let { AdapterConfig.from(it) }?.placementId
 
         return (!placementId.isNullOrEmpty() &&
                 mPlacementIdToRewardedVideoAd.containsKey(placementId) &&
@@ -325,22 +347,23 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     //region Interstitial API
 
     override fun initInterstitialForBidding(appKey: String?, userId: String?, config: JSONObject?, listener: InterstitialSmashListener) {
-        val placementId = config?.optString(PLACEMENT_ID_KEY)
-        val siteID = config?.optString(SITE_ID_KEY)
+        val adapterConfig = config?.let { AdapterConfig.from(it) }
+        val placementId = adapterConfig?.placementId
+        val siteID = adapterConfig?.siteId
 
         if (placementId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $PLACEMENT_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $PLACEMENT_ID_KEY" }
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $PLACEMENT_ID_KEY", IronSourceConstants.INTERSTITIAL_AD_UNIT))
             return
         }
 
         if (siteID.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $SITE_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $SITE_ID_KEY" }
             listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $SITE_ID_KEY", IronSourceConstants.INTERSTITIAL_AD_UNIT))
             return
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = $placementId")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "placementId = $placementId" }
 
         val interstitialAdListener = YahooInterstitialAdListener(listener, WeakReference(this), placementId)
 
@@ -348,12 +371,12 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
         mPlacementIdToInterstitialAdListener[placementId] = interstitialAdListener
         mPlacementIdToInterstitialListener[placementId] = listener
 
-        when (mInitState) {
+        when (mInitCoordinator.state) {
             InitState.INIT_STATE_SUCCESS -> {
                 listener.onInterstitialInitSuccess()
             }
             InitState.INIT_STATE_FAILED -> {
-                IronLog.INTERNAL.verbose("init failed - placementId = $placementId")
+                AdapterLog.verbose(IronLog.INTERNAL) { "init failed - placementId = $placementId" }
                 listener.onInterstitialInitFailed(ErrorBuilder.buildInitFailedError("Yahoo SDK init failed", IronSourceConstants.INTERSTITIAL_AD_UNIT))
             }
             else -> {
@@ -364,12 +387,12 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
 
     // Yahoo only supports bidding flows, given that this method is for non bidding flow it is unused
     override fun initInterstitial(appKey: String?, userId: String?, config: JSONObject?, listener: InterstitialSmashListener?) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     override fun loadInterstitialForBidding(config: JSONObject, listener: InterstitialSmashListener?, serverData: String?) {
-        val placementId = config.optString(PLACEMENT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("placementId = $placementId")
+        val placementId = AdapterConfig.from(config).placementId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "placementId = $placementId" }
 
         setInterstitialAdAvailability(placementId, false)
 
@@ -377,22 +400,24 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
         val interstitialAd = InterstitialAd(ContextProvider.getInstance().applicationContext, placementId, interstitialAdListener)
         val interstitialPlacementConfig = InterstitialPlacementConfig(placementId, getLoadRequestMetaData(serverData))
 
-        postOnUIThread {
+        mMainThreadDispatcher.dispatch {
+            mLatencyTracker.onLoadStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId)
             interstitialAd.load(interstitialPlacementConfig)
         }
     }
 
     // Yahoo only supports bidding flows, given that this method is for non bidding flow it is unused
     override fun loadInterstitial(config: JSONObject?, listener: InterstitialSmashListener?) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     override fun showInterstitial(config: JSONObject, listener: InterstitialSmashListener?) {
-        val placementId = config.optString(PLACEMENT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("placementId = $placementId")
+        val placementId = AdapterConfig.from(config).placementId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "placementId = $placementId" }
 
         if (isInterstitialReady(config)) {
-            postOnUIThread {
+            mMainThreadDispatcher.dispatch {
+                mLatencyTracker.onShowStarted(IronSourceConstants.INTERSTITIAL_AD_UNIT, placementId)
                 mPlacementIdToInterstitialAd[placementId].let {
                     it?.show(ContextProvider.getInstance().applicationContext)
                 }
@@ -409,7 +434,7 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     override fun isInterstitialReady(config: JSONObject?): Boolean {
-        val placementId = config?.optString(PLACEMENT_ID_KEY)
+        val placementId = config?.let { AdapterConfig.from(it) }?.placementId
 
         return (!placementId.isNullOrEmpty() &&
                 mPlacementIdToInterstitialAd.containsKey(placementId) &&
@@ -426,32 +451,33 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     //region Banners API
 
     override fun initBannerForBidding(appKey: String?, userId: String?, config: JSONObject?, listener: BannerSmashListener) {
-        val placementId = config?.optString(PLACEMENT_ID_KEY)
-        val siteID = config?.optString(SITE_ID_KEY)
+        val adapterConfig = config?.let { AdapterConfig.from(it) }
+        val placementId = adapterConfig?.placementId
+        val siteID = adapterConfig?.siteId
 
         if (placementId.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $PLACEMENT_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $PLACEMENT_ID_KEY" }
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $PLACEMENT_ID_KEY", IronSourceConstants.BANNER_AD_UNIT))
             return
         }
 
         if (siteID.isNullOrEmpty()) {
-            IronLog.INTERNAL.error("Missing param - $SITE_ID_KEY")
+            AdapterLog.error(IronLog.INTERNAL) { "Missing param - $SITE_ID_KEY" }
             listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Missing params - $SITE_ID_KEY", IronSourceConstants.BANNER_AD_UNIT))
             return
         }
 
-        IronLog.ADAPTER_API.verbose("placementId = $placementId")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "placementId = $placementId" }
 
         // Add to banner listener map
         mPlacementIdToBannerListener[placementId] = listener
 
-        when (mInitState) {
+        when (mInitCoordinator.state) {
             InitState.INIT_STATE_SUCCESS -> {
                 listener.onBannerInitSuccess()
             }
             InitState.INIT_STATE_FAILED -> {
-                IronLog.INTERNAL.verbose("init failed - placementId = $placementId")
+                AdapterLog.verbose(IronLog.INTERNAL) { "init failed - placementId = $placementId" }
                 listener.onBannerInitFailed(ErrorBuilder.buildInitFailedError("Yahoo SDK init failed", IronSourceConstants.BANNER_AD_UNIT))
             }
             else -> {
@@ -462,15 +488,15 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
 
     // Yahoo only supports bidding flows, given that this method is for non bidding flow it is unused
     override fun initBanners(appKey: String?, userId: String?, config: JSONObject?, listener: BannerSmashListener?) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     override fun loadBannerForBidding(banner: IronSourceBannerLayout?, config: JSONObject, listener: BannerSmashListener?, serverData: String?) {
-        val placementId = config.optString(PLACEMENT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("placementId = $placementId")
+        val placementId = AdapterConfig.from(config).placementId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "placementId = $placementId" }
 
         if (banner == null) {
-            IronLog.INTERNAL.error("banner is null")
+            AdapterLog.error(IronLog.INTERNAL) { "banner is null" }
             listener?.onBannerAdLoadFailed(ErrorBuilder.buildNoConfigurationAvailableError("banner is null"))
             return
         }
@@ -486,32 +512,33 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
         val bannerAdView = InlineAdView(ContextProvider.getInstance().applicationContext, placementId, bannerAdListener)
         val bannerPlacementConfig = InlinePlacementConfig(placementId, getLoadRequestMetaData(serverData), adSizes)
 
-        postOnUIThread {
+        mMainThreadDispatcher.dispatch {
+            mLatencyTracker.onLoadStarted(IronSourceConstants.BANNER_AD_UNIT, placementId)
             bannerAdView.load(bannerPlacementConfig)
         }
     }
 
     // Yahoo only supports bidding flows, given that this method is for non bidding flow it is unused
     override fun loadBanner(banner: IronSourceBannerLayout?, config: JSONObject?, listener: BannerSmashListener?) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     // Yahoo only supports bidding flows, given that this method is for non bidding flow it is unused
     override fun reloadBanner(banner: IronSourceBannerLayout?, config: JSONObject?, listener: BannerSmashListener?) {
-        IronLog.INTERNAL.warning("Unsupported method")
+        AdapterLog.warning(IronLog.INTERNAL) { "Unsupported method" }
     }
 
     override fun destroyBanner(config: JSONObject?) {
-        val placementId = config?.optString(PLACEMENT_ID_KEY)
-        IronLog.ADAPTER_API.verbose("placementId = $placementId")
+        val placementId = config?.let { AdapterConfig.from(it) }?.placementId
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "placementId = $placementId" }
 
         if (!mPlacementIdToBannerView.containsKey(placementId)) {
-            IronLog.ADAPTER_API.verbose("Banner is already destroyed")
+            AdapterLog.verbose(IronLog.ADAPTER_API) { "Banner is already destroyed" }
             return
         }
 
         if (!placementId.isNullOrEmpty()) {
-            postOnUIThread {
+            mMainThreadDispatcher.dispatch {
                 // Destroy banner
                 mPlacementIdToBannerView[placementId]?.destroy()
                 // Remove banner view from map
@@ -529,7 +556,7 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     //region memory handling
 
     override fun releaseMemory(adUnit: IronSource.AD_UNIT?, config: JSONObject?) {
-        IronLog.INTERNAL.verbose("adUnit = $adUnit")
+        AdapterLog.verbose(IronLog.INTERNAL) { "adUnit = $adUnit" }
 
         when (adUnit) {
             IronSource.AD_UNIT.REWARDED_VIDEO -> {
@@ -546,7 +573,7 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
             }
             IronSource.AD_UNIT.BANNER -> {
                 for (bannerView in mPlacementIdToBannerView.values) {
-                    postOnUIThread {
+                    mMainThreadDispatcher.dispatch {
                         bannerView.destroy()
                     }
                 }
@@ -570,7 +597,7 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
 
         // This is a list of 1 value
         val value = values[0]
-        IronLog.ADAPTER_API.verbose("key = $key, value = $value")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "key = $key, value = $value" }
         val formattedValue: String = MetaDataUtils.formatValueForType(value, MetaData.MetaDataValueTypes.META_DATA_VALUE_BOOLEAN)
 
         when {
@@ -583,6 +610,9 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
             isCOPPAMetaData(key, formattedValue) -> {
                 setCOPPAValue(MetaDataUtils.getMetaDataBooleanValue(formattedValue))
             }
+            key.equals(META_DATA_YAHOO_BIDDING_TOKEN_TTL, ignoreCase = true) -> {
+                mBiddingTokenCache.setTtlFromMetaData(value)
+            }
         }
     }
 
@@ -593,10 +623,13 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
             META_DATA_YAHOO_CCPA_CONSENT_VALUE
         }
 
-        IronLog.ADAPTER_API.verbose("value = $ccpaConsentString")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "value = $ccpaConsentString" }
         YASAds.applyCcpa()
         val ccpaConsent = CcpaConsent(ccpaConsentString)
         YASAds.addConsent(ccpaConsent)
+
+        // the token carries the privacy settings, don't serve one built with the previous value
+        mBiddingTokenCache.invalidate()
     }
 
     private fun isGDPRAMetaData(key: String, value: String): Boolean {
@@ -604,10 +637,11 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     private fun setGDPRConsentString(consentString: String) {
-        IronLog.ADAPTER_API.verbose("consentString = $consentString")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "consentString = $consentString" }
         YASAds.applyGdpr()
         val gdprConsent = GdprConsent(consentString)
         YASAds.addConsent(gdprConsent)
+        mBiddingTokenCache.invalidate()
     }
 
     private fun isCOPPAMetaData(key: String, value: String): Boolean {
@@ -615,10 +649,11 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     private fun setCOPPAValue(isCoppa: Boolean) {
-        IronLog.ADAPTER_API.verbose("isCoppa = $isCoppa")
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "isCoppa = $isCoppa" }
 
         if (isCoppa) {
             YASAds.applyCoppa()
+            mBiddingTokenCache.invalidate()
         }
     }
 
@@ -653,18 +688,14 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     private fun getBiddingData(): MutableMap<String, Any>? {
-        if (mInitState != InitState.INIT_STATE_SUCCESS) {
-            IronLog.INTERNAL.error("returning null as token since init is not successful")
+        if (mInitCoordinator.state != InitState.INIT_STATE_SUCCESS) {
+            AdapterLog.error(IronLog.INTERNAL) { "returning null as token since init is not successful" }
             return null
         }
 
         val ret: MutableMap<String, Any> = HashMap()
-        var bidderToken : String = YASAds.getBiddingToken(ContextProvider.getInstance().applicationContext)
-
-        if (bidderToken.isNullOrEmpty()) {
-            bidderToken = ""
-        }
-        IronLog.ADAPTER_API.verbose("token = $bidderToken")
+        val bidderToken = mBiddingTokenCache.getToken()
+        AdapterLog.verbose(IronLog.ADAPTER_API) { "token = $bidderToken" }
         ret["token"] = bidderToken
         return ret
     }
@@ -687,60 +718,13 @@ class YahooAdapter(providerName: String) : AbstractAdapter(providerName),
     }
 
     private fun getBannerSize(bannerSize: ISBannerSize): AdSize {
-        val activity = ContextProvider.getInstance().currentActiveActivity
-
-        return when (bannerSize.description) {
-            "BANNER" -> AdSize(320, 50)
-            "LARGE" -> AdSize(320, 90)
-            "RECTANGLE" -> AdSize(300, 250)
-            "SMART" ->
-                (if (AdapterUtils.isLargeScreen(activity)) {
-                    AdSize(728, 90)
-                } else {
-                    AdSize(320, 50)
-                })
-            "CUSTOM" -> AdSize(bannerSize.width, bannerSize.height)
-            else -> AdSize(bannerSize.width, bannerSize.height)
-        }
+        return mBannerLayoutCache.getLayout(bannerSize, mBannerSizeResolver)?.networkSize
+            ?: AdSize(bannerSize.width, bannerSize.height)
     }
 
     private fun getBannerLayoutParams(size: ISBannerSize?): FrameLayout.LayoutParams {
-        val activity = ContextProvider.getInstance().currentActiveActivity
-        val layoutParams = when (size?.description) {
-            "BANNER" -> FrameLayout.LayoutParams(
-                AdapterUtils.dpToPixels(activity, 320),
-                AdapterUtils.dpToPixels(activity, 50)
-            )
-            "LARGE" -> FrameLayout.LayoutParams(
-                AdapterUtils.dpToPixels(activity, 320),
-                AdapterUtils.dpToPixels(activity, 90)
-            )
-            "RECTANGLE" -> FrameLayout.LayoutParams(
-                AdapterUtils.dpToPixels(activity, 300),
-                AdapterUtils.dpToPixels(activity, 250)
-            )
-            "SMART" ->
-                if (AdapterUtils.isLargeScreen(activity)) {
-                    FrameLayout.LayoutParams(
-                        AdapterUtils.dpToPixels(activity, 728),
-                        AdapterUtils.dpToPixels(activity, 90)
-                    )
-                } else {
-                    FrameLayout.LayoutParams(
-                        AdapterUtils.dpToPixels(activity, 320),
-                        AdapterUtils.dpToPixels(activity, 50)
-                    )
-                }
-            "CUSTOM" -> FrameLayout.LayoutParams(
-                AdapterUtils.dpToPixels(activity, size.width),
-                AdapterUtils.dpToPixels(activity, size.height)
-            )
-            else -> FrameLayout.LayoutParams(0, 0)
-        }
-
-        // Set gravity
-        layoutParams.gravity = Gravity.CENTER
-        return layoutParams
+        val layout = size?.let { mBannerLayoutCache.getLayout(it, mBannerSizeResolver) }
+        return layout?.createLayoutParams() ?: FrameLayout.LayoutParams(0, 0, Gravity.CENTER)
     }
 
     fun getLoadErrorAndCheckNoFill(errorInfo: ErrorInfo?, isError: Int): IronSourceError {
@@ -4,6 +4,7 @@ import android.widget.FrameLayout
 import com.ironsource.mediationsdk.logger.IronLog
 import com.ironsource.mediationsdk.logger.IronSourceError
 import com.ironsource.mediationsdk.sdk.BannerSmashListener
+import com.ironsource.mediationsdk.utils.IronSourceConstants
 import com.yahoo.ads.ErrorInfo
 import com.yahoo.ads.inlineplacement.InlineAdView
 import java.lang.ref.WeakReference
@@ -19,7 +20,8 @@ class YahooBannerAdListener (private val mListener: BannerSmashListener?,
 
     // Called when the banner ad request is successfully filled. The banner argument is a View.
     override fun onLoaded(inlineAdView: InlineAdView?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
+        YahooAdapter.mLatencyTracker.onLoadSucceeded(IronSourceConstants.BANNER_AD_UNIT, mPlacementId)
 
         inlineAdView?.let {
             mAdapter?.get()?.setBannerView(mPlacementId, inlineAdView)
@@ -29,7 +31,8 @@ class YahooBannerAdListener (private val mListener: BannerSmashListener?,
 
     // Called when an error occurs during the InlineAdView lifecycle.
     override fun onLoadFailed(inlineAdView: InlineAdView?, errorInfo: ErrorInfo?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId, error = $errorInfo")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId, error = $errorInfo" }
+        YahooAdapter.mLatencyTracker.onLoadFailed(IronSourceConstants.BANNER_AD_UNIT, mPlacementId)
         val bannerError = mAdapter?.get()?.getLoadErrorAndCheckNoFill(errorInfo, IronSourceError.ERROR_BN_LOAD_NO_FILL)
         mListener?.onBannerAdLoadFailed(bannerError)
     }
@@ -37,37 +40,37 @@ class YahooBannerAdListener (private val mListener: BannerSmashListener?,
     // This callback is used to surface additional events to the publisher from the SDK.
     override fun onEvent(inlineAdView: InlineAdView?, eventId: String?, source: String?, arguments: MutableMap<String, Any>?) {
         if (source == BANNER_AD_IMPRESSION_EVENT) {
-            IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+            AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
             mListener?.onBannerAdShown()
         }
     }
 
     // Called when an error occurs during the InlineAdView lifecycle.
     override fun onError(inlineAdView: InlineAdView?, errorInfo: ErrorInfo?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId, error = $errorInfo")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId, error = $errorInfo" }
     }
 
     // Called when the InlineAdView has been clicked.
     override fun onClicked(inlineAdView: InlineAdView?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
         mListener?.onBannerAdClicked()
     }
 
     // Called when the InlineAdView causes the user to leave the application.
     override fun onAdLeftApplication(inlineAdView: InlineAdView?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
         mListener?.onBannerAdLeftApplication()
     }
 
     // Called when the InlineAdView has been expanded.
     override fun onExpanded(inlineAdView: InlineAdView?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
         mListener?.onBannerAdScreenPresented()
     }
 
     // Called when the InlineAdView has been collapsed.
     override fun onCollapsed(inlineAdView: InlineAdView?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
         mListener?.onBannerAdScreenDismissed()
     }
 
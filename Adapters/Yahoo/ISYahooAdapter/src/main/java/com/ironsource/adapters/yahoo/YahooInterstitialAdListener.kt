@@ -15,7 +15,8 @@ class YahooInterstitialAdListener(private val mIListener: InterstitialSmashListe
 
     // Called when the view for the InterstitialAd has been loaded.
     override fun onLoaded(interstitialAd: InterstitialAd?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
+        YahooAdapter.mLatencyTracker.onLoadSucceeded(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementId)
         mAdapter?.get()?.setInterstitialAd(mPlacementId, interstitialAd)
         mAdapter?.get()?.setInterstitialAdAvailability(mPlacementId, true)
         mIListener?.onInterstitialAdReady()
@@ -23,7 +24,8 @@ class YahooInterstitialAdListener(private val mIListener: InterstitialSmashListe
 
     // Called when there is an error requesting a InterstitialAd or loading a InterstitialAd from the cache.
     override fun onLoadFailed(interstitialAd: InterstitialAd?, errorInfo: ErrorInfo?) {
-        IronLog.ADAPTER_CALLBACK.verbose("Failed to load adUnitID = $mPlacementId with error: $errorInfo")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "Failed to load adUnitID = $mPlacementId with error: $errorInfo" }
+        YahooAdapter.mLatencyTracker.onLoadFailed(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementId)
         mAdapter?.get()?.setInterstitialAdAvailability(mPlacementId, false)
         val interstitialError = mAdapter?.get()?.getLoadErrorAndCheckNoFill(errorInfo, IronSourceError.ERROR_IS_LOAD_NO_FILL)
         mIListener?.onInterstitialAdLoadFailed(interstitialError)
@@ -31,14 +33,15 @@ class YahooInterstitialAdListener(private val mIListener: InterstitialSmashListe
 
     // Called when the InterstitialAd has been shown.
     override fun onShown(interstitialAd: InterstitialAd?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
+        YahooAdapter.mLatencyTracker.onShowOpened(IronSourceConstants.INTERSTITIAL_AD_UNIT, mPlacementId)
         mIListener?.onInterstitialAdOpened()
         mIListener?.onInterstitialAdShowSucceeded()
     }
 
     // Called when an error occurs during the InterstitialAd lifecycle.
     override fun onError(interstitialAd: InterstitialAd?, errorInfo: ErrorInfo?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId, error = $errorInfo")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId, error = $errorInfo" }
         val errorMsg = mAdapter?.get()?.generateShowFailErrorMessage(errorInfo, "interstitial show failed")
         val interstitialError: IronSourceError = ErrorBuilder.buildShowFailedError(IronSourceConstants.INTERSTITIAL_AD_UNIT, errorMsg)
         mIListener?.onInterstitialAdShowFailed(interstitialError)
@@ -46,7 +49,7 @@ class YahooInterstitialAdListener(private val mIListener: InterstitialSmashListe
 
     // Called when the InterstitialAd has been clicked.
     override fun onClicked(interstitialAd: InterstitialAd?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
         mIListener?.onInterstitialAdClicked()
     }
 
@@ -56,7 +59,7 @@ class YahooInterstitialAdListener(private val mIListener: InterstitialSmashListe
 
     // Called when the InterstitialAd has been closed.
     override fun onClosed(interstitialAd: InterstitialAd?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
         mIListener?.onInterstitialAdClosed()
     }
 
@@ -19,7 +19,8 @@ class YahooRewardedVideoAdListener(private val mIListener: RewardedVideoSmashLis
 
     // Called when the view for the InterstitialAd has been loaded.
     override fun onLoaded(interstitialAd: InterstitialAd?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
+        YahooAdapter.mLatencyTracker.onLoadSucceeded(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementId)
         mAdapter?.get()?.setRewardedVideoAd(mPlacementId, interstitialAd)
         mAdapter?.get()?.setRewardedVideoAdAvailability(mPlacementId, true)
         mIListener?.onRewardedVideoAvailabilityChanged(true)
@@ -27,7 +28,8 @@ class YahooRewardedVideoAdListener(private val mIListener: RewardedVideoSmashLis
 
     // Called when there is an error requesting a InterstitialAd or loading a InterstitialAd from the cache.
     override fun onLoadFailed(interstitialAd: InterstitialAd?, errorInfo: ErrorInfo?) {
-        IronLog.ADAPTER_CALLBACK.verbose("Failed to load placementId = $mPlacementId with error: $errorInfo")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "Failed to load placementId = $mPlacementId with error: $errorInfo" }
+        YahooAdapter.mLatencyTracker.onLoadFailed(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementId)
 
         mAdapter?.get()?.setRewardedVideoAdAvailability(mPlacementId, false)
         mIListener?.onRewardedVideoAvailabilityChanged(false)
@@ -42,14 +44,15 @@ class YahooRewardedVideoAdListener(private val mIListener: RewardedVideoSmashLis
 
     // Called when the InterstitialAd has been shown.
     override fun onShown(interstitialAd: InterstitialAd?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
+        YahooAdapter.mLatencyTracker.onShowOpened(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, mPlacementId)
         mIListener?.onRewardedVideoAdOpened()
         mIListener?.onRewardedVideoAdStarted()
     }
 
     // Called when an error occurs during the InterstitialAd lifecycle.
     override fun onError(interstitialAd: InterstitialAd?, errorInfo: ErrorInfo?) {
-        IronLog.ADAPTER_CALLBACK.verbose("Failed to show placementId = $mPlacementId with error: $errorInfo")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "Failed to show placementId = $mPlacementId with error: $errorInfo" }
         val errorMsg = mAdapter?.get()?.generateShowFailErrorMessage(errorInfo, "rewarded video show failed")
         val rewardedVideoError: IronSourceError = ErrorBuilder.buildShowFailedError(IronSourceConstants.REWARDED_VIDEO_AD_UNIT, errorMsg)
         mIListener?.onRewardedVideoAdShowFailed(rewardedVideoError)
@@ -57,7 +60,7 @@ class YahooRewardedVideoAdListener(private val mIListener: RewardedVideoSmashLis
 
     // Called when the InterstitialAd has been clicked.
     override fun onClicked(interstitialAd: InterstitialAd?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
         mIListener?.onRewardedVideoAdClicked()
     }
 
@@ -68,14 +71,14 @@ class YahooRewardedVideoAdListener(private val mIListener: RewardedVideoSmashLis
     // This callback is used to surface additional events to the publisher from the SDK.
     override fun onEvent(interstitialAd: InterstitialAd?, source: String?, eventId: String?, arguments: MutableMap<String, Any>?) {
         if (eventId == RV_AD_REWARDED_EVENT) {
-            IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+            AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
             mIListener?.onRewardedVideoAdRewarded()
         }
     }
 
     // Called when the InterstitialAd has been closed.
     override fun onClosed(interstitialAd: InterstitialAd?) {
-        IronLog.ADAPTER_CALLBACK.verbose("placementId = $mPlacementId")
+        AdapterLog.verbose(IronLog.ADAPTER_CALLBACK) { "placementId = $mPlacementId" }
         mIListener?.onRewardedVideoAdEnded()
         mIListener?.onRewardedVideoAdClosed()
     }